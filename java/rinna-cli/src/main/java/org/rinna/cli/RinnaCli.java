@@ -11,11 +11,13 @@ package org.rinna.cli;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 
 import org.rinna.cli.command.*;
 import org.rinna.cli.command.ScheduleCommand;
+import org.rinna.cli.daemon.DaemonClient;
 import org.rinna.cli.messaging.AnsiFormatter;
 import org.rinna.cli.messaging.MessageService;
 import org.rinna.cli.messaging.RinnaMessage;
@@ -91,6 +93,7 @@ public class RinnaCli implements Callable<Integer> {
         System.out.println("  msg         Messaging functionality for team communication");
         System.out.println("  report      Generate reports about work items");
         System.out.println("  schedule    Schedule reports to run automatically");
+        System.out.println("  daemon      Keep a warm rin process running to speed up commands");
         System.out.println();
         System.out.println("Options:");
         System.out.println("  -h, --help     Show this help message and exit");
@@ -1009,7 +1012,31 @@ public class RinnaCli implements Callable<Integer> {
         
         return scheduleCmd.call();
     }
-    
+
+    /**
+     * Handles the daemon command.
+     *
+     * @param subargs command arguments
+     * @return exit code
+     */
+    private static int handleDaemonCommand(String[] subargs) {
+        DaemonCommand daemonCmd = new DaemonCommand();
+        for (String arg : subargs) {
+            if (arg.startsWith("--idle-timeout=")) {
+                String minutes = arg.substring(15);
+                try {
+                    daemonCmd.setIdleTimeout(java.time.Duration.ofMinutes(Long.parseLong(minutes)));
+                } catch (NumberFormatException e) {
+                    System.err.println("Error: Invalid idle timeout in minutes: " + minutes);
+                    return 1;
+                }
+            } else if (!arg.startsWith("-")) {
+                daemonCmd.setSubcommand(arg);
+            }
+        }
+        return daemonCmd.call();
+    }
+
     /**
      * Handles the msg command.
      *
@@ -1270,6 +1297,13 @@ public class RinnaCli implements Callable<Integer> {
         return adminCmd.call();
     }
     
+    /**
+     * Commands that skip the unread message check, either because they show
+     * messages themselves or because they should start without touching any service.
+     */
+    private static final Set<String> QUIET_COMMANDS = Set.of(
+        "msg", "notify", "login", "logout", "daemon", "-h", "--help", "-v", "--version");
+    
     /**
      * Checks for unread messages and notifications and displays them.
      */
@@ -1301,7 +1335,9 @@ public class RinnaCli implements Callable<Integer> {
                         MessageService messageService = ServiceManager.getInstance().getMessageService();
                         
                         // Check if token is valid
-                        if (messageService.validateToken(authToken)) {
+                        // The unread counter is maintained on write, so this check is cheap
+                        if (messageService.validateToken(authToken)
+                                && messageService.getUnreadMessageCount(currentUser) > 0) {
                             // Get unread messages
                             List<RinnaMessage> unreadMessages = messageService.getUnreadMessagesForUser(currentUser);
                             
@@ -1355,10 +1391,34 @@ public class RinnaCli implements Callable<Integer> {
             System.exit(0);
         }
         
-        // Check for unread messages if user is authenticated
-        checkUnreadMessages();
+        // Hand the command to a running daemon, if there is one
+        Integer forwardedExitCode = DaemonClient.forward(args);
+        if (forwardedExitCode != null) {
+            System.exit(forwardedExitCode);
+        }
+        
+        System.exit(run(args));
+    }
+    
+    /**
+     * Runs a command line in this process and returns its exit code.
+     * This is what {@link #main(String[])} and the rin daemon run for each command.
+     *
+     * @param args the command line arguments
+     * @return exit code
+     */
+    public static int run(String[] args) {
+        if (args.length == 0) {
+            return new RinnaCli().call();
+        }
         
         String command = args[0];
+        
+        // Check for unread messages if user is authenticated
+        if (!QUIET_COMMANDS.contains(command)) {
+            checkUnreadMessages();
+        }
+        
         String[] subargs = new String[args.length - 1];
         System.arraycopy(args, 1, subargs, 0, args.length - 1);
         
@@ -1452,6 +1512,9 @@ public class RinnaCli implements Callable<Integer> {
             case "schedule":
                 exitCode = handleScheduleCommand(subargs);
                 break;
+            case "daemon":
+                exitCode = handleDaemonCommand(subargs);
+                break;
             case "-h":
             case "--help":
                 new RinnaCli().showHelp();
@@ -1468,6 +1531,6 @@ public class RinnaCli implements Callable<Integer> {
                 exitCode = 1;
         }
         
-        System.exit(exitCode);
+        return exitCode;
     }
 }
\ No newline at end of file
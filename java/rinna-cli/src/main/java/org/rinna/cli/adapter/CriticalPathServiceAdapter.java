@@ -50,19 +50,12 @@ public class CriticalPathServiceAdapter implements CriticalPathService {
         List<Map<String, Object>> blockers = mockCriticalPathService.getBlockers();
         
         // Convert each blocker to a domain work item
-        List<DomainWorkItem> result = new ArrayList<>();
+        List<String> blockerIds = new ArrayList<>(blockers.size());
         for (Map<String, Object> blocker : blockers) {
-            String blockerId = (String) blocker.get("id");
-            org.rinna.cli.model.WorkItem cliItem = mockItemService.getItem(blockerId);
-            
-            if (cliItem != null) {
-                // Convert CLI item to domain item
-                DomainWorkItem domainItem = ModelMapper.toDomainWorkItem(cliItem);
-                result.add(domainItem);
-            }
+            blockerIds.add((String) blocker.get("id"));
         }
         
-        return result;
+        return toDomainWorkItems(blockerIds);
     }
     
     @Override
@@ -71,18 +64,7 @@ public class CriticalPathServiceAdapter implements CriticalPathService {
         List<String> criticalPath = mockCriticalPathService.getCriticalPath();
         
         // Convert each item ID to a domain work item
-        List<DomainWorkItem> result = new ArrayList<>();
-        for (String itemId : criticalPath) {
-            org.rinna.cli.model.WorkItem cliItem = mockItemService.getItem(itemId);
-            
-            if (cliItem != null) {
-                // Convert CLI item to domain item
-                DomainWorkItem domainItem = ModelMapper.toDomainWorkItem(cliItem);
-                result.add(domainItem);
-            }
-        }
-        
-        return result;
+        return toDomainWorkItems(criticalPath);
     }
     
     @Override
@@ -100,21 +82,12 @@ public class CriticalPathServiceAdapter implements CriticalPathService {
         List<String> directDeps = (List<String>) itemPath.get("directDependencies");
         
         // Convert to domain work items
-        List<DomainWorkItem> result = new ArrayList<>();
-        if (directDeps != null) {
-            for (String depId : directDeps) {
-                org.rinna.cli.model.WorkItem cliItem = mockItemService.getItem(depId);
-                
-                if (cliItem != null) {
-                    // Convert CLI item to domain item
-                    DomainWorkItem domainItem = ModelMapper.toDomainWorkItem(cliItem);
-                    result.add(domainItem);
-                }
-            }
+        if (directDeps == null) {
+            return new ArrayList<>();
         }
-        
-        return result;
+        return toDomainWorkItems(directDeps);
     }
+
     
     @Override
     public boolean addDependency(UUID dependentId, UUID blockerId) {
@@ -230,4 +203,19 @@ public class CriticalPathServiceAdapter implements CriticalPathService {
             return domainItem;
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * Looks up the CLI work items with the given IDs in one call and converts them
+     * to domain work items, skipping IDs that do not exist.
+     * 
+     * @param itemIds the work item IDs
+     * @return the domain work items
+     */
+    private List<DomainWorkItem> toDomainWorkItems(List<String> itemIds) {
+        List<DomainWorkItem> result = new ArrayList<>(itemIds.size());
+        for (org.rinna.cli.model.WorkItem cliItem : mockItemService.getItems(itemIds)) {
+            result.add(ModelMapper.toDomainWorkItem(cliItem));
+        }
+        return result;
+    }
+}
@@ -9,6 +9,7 @@
  */
 package org.rinna.cli.adapter;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -78,6 +79,17 @@ public class ItemServiceAdapter implements ItemService {
         return Optional.empty();
     }
 
+    @Override
+    public List<DomainWorkItem> findAllById(Collection<UUID> ids) {
+        List<String> cliIds = ids.stream()
+                .map(UUID::toString)
+                .collect(Collectors.toList());
+        
+        return mockItemService.getItems(cliIds).stream()
+                .map(ModelMapper::toDomainWorkItem)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<DomainWorkItem> findAll() {
         // Get all items from the CLI service
@@ -0,0 +1,94 @@
+/*
+ * Audit event for Rinna CLI
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+package org.rinna.cli.audit;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One entry of the audit trail.
+ *
+ * <p>Events are stored one per line as tab-separated fields; tabs, newlines and
+ * backslashes inside a field are escaped.</p>
+ *
+ * @param timestamp when the event happened
+ * @param user the user who caused the event
+ * @param eventType the event type alerts and indexes use, such as ADMIN_ACTION
+ * @param command the command or operation that was audited
+ * @param status the outcome, such as COMPLETED or FAILED
+ * @param details free-form details of the event
+ */
+public record AuditEvent(Instant timestamp, String user, String eventType, String command, String status,
+        String details) {
+
+    private static final int FIELD_COUNT = 6;
+
+    /**
+     * Converts the event to its stored line, without a line terminator.
+     *
+     * @return the line
+     */
+    public String toLine() {
+        StringBuilder line = new StringBuilder(64 + (details != null ? details.length() : 0));
+        line.append(timestamp.toEpochMilli());
+        for (String field : new String[] {user, eventType, command, status, details}) {
+            line.append('\t');
+            escape(field != null ? field : "", line);
+        }
+        return line.toString();
+    }
+
+    /**
+     * Parses a stored line.
+     *
+     * @param line the line
+     * @return the event
+     * @throws IllegalArgumentException if the line is not a stored event
+     */
+    public static AuditEvent parse(String line) {
+        List<String> fields = new ArrayList<>(FIELD_COUNT);
+        StringBuilder field = new StringBuilder();
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '\t') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\\' && i + 1 < line.length()) {
+                char next = line.charAt(++i);
+                field.append(next == 't' ? '\t' : next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+
+        if (fields.size() != FIELD_COUNT) {
+            throw new IllegalArgumentException("Expected " + FIELD_COUNT + " fields but found " + fields.size());
+        }
+        try {
+            return new AuditEvent(Instant.ofEpochMilli(Long.parseLong(fields.get(0))), fields.get(1),
+                fields.get(2), fields.get(3), fields.get(4), fields.get(5));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid timestamp: " + fields.get(0), e);
+        }
+    }
+
+    private static void escape(String value, StringBuilder out) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\t' -> out.append("\\t");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\\' -> out.append("\\\\");
+                default -> out.append(c);
+            }
+        }
+    }
+}
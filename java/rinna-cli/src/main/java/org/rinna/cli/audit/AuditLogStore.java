@@ -0,0 +1,420 @@
+/*
+ * Audit log store for Rinna CLI
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+package org.rinna.cli.audit;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Append-only audit log partitioned by day.
+ *
+ * <p>Each day's events are appended to their own {@code audit-yyyy-MM-dd.log} file,
+ * so retention drops whole files and a query only reads the days it covers. When a
+ * partition is first read, its events are loaded together with indexes of event
+ * positions by user and by event type, so filtered queries only visit matching
+ * events. Up to {@link #MAX_LOADED_PARTITIONS} partitions stay loaded.</p>
+ *
+ * <p>Exports are streamed partition by partition. Events are formatted in chunks of
+ * {@link #EXPORT_CHUNK_SIZE} on the common pool, several chunks at a time, and the
+ * formatted chunks are written in order.</p>
+ */
+public final class AuditLogStore {
+    private static final Logger LOGGER = Logger.getLogger(AuditLogStore.class.getName());
+
+    /** The number of events formatted together during an export. */
+    static final int EXPORT_CHUNK_SIZE = 1024;
+
+    /** The number of partitions whose events and indexes are kept in memory. */
+    static final int MAX_LOADED_PARTITIONS = 32;
+
+    /** The number of chunks formatted ahead of the writer during an export. */
+    static final int MAX_CHUNKS_IN_FLIGHT = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private static final String FILE_PREFIX = "audit-";
+    private static final String FILE_SUFFIX = ".log";
+
+    private final Path directory;
+    private final ZoneId zone;
+    private final NavigableMap<LocalDate, Partition> partitions = new ConcurrentSkipListMap<>();
+    private final Map<LocalDate, Partition> loaded = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LocalDate, Partition> eldest) {
+            if (size() > MAX_LOADED_PARTITIONS) {
+                eldest.getValue().unload();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * Opens the audit log in a directory, partitioning events by day in the system time zone.
+     *
+     * @param directory the audit log directory
+     * @throws IOException if the directory cannot be listed
+     */
+    public AuditLogStore(Path directory) throws IOException {
+        this(directory, ZoneId.systemDefault());
+    }
+
+    /**
+     * Opens the audit log in a directory.
+     *
+     * @param directory the audit log directory
+     * @param zone the time zone days are partitioned in
+     * @throws IOException if the directory cannot be listed
+     */
+    public AuditLogStore(Path directory, ZoneId zone) throws IOException {
+        this.directory = directory;
+        this.zone = zone;
+
+        if (Files.isDirectory(directory)) {
+            try (Stream<Path> files = Files.list(directory)) {
+                files.forEach(file -> {
+                    LocalDate day = parseDay(file.getFileName().toString());
+                    if (day != null) {
+                        partitions.put(day, new Partition(day, file));
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Gets the audit log directory.
+     *
+     * @return the directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Gets the time zone events are partitioned in.
+     *
+     * @return the time zone
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Appends an event to the partition of its day.
+     *
+     * @param event the event
+     * @throws IOException if the event cannot be written
+     */
+    public void append(AuditEvent event) throws IOException {
+        LocalDate day = LocalDate.ofInstant(event.timestamp(), zone);
+        Partition partition = partitions.computeIfAbsent(day,
+            d -> new Partition(d, directory.resolve(FILE_PREFIX + d + FILE_SUFFIX)));
+        partition.append(event);
+    }
+
+    /**
+     * Finds events, newest first.
+     *
+     * @param from the first day to search
+     * @param to the last day to search
+     * @param user only events of this user, or null for all users
+     * @param eventType only events of this type, or null for all types
+     * @param limit the maximum number of events to return
+     * @return the matching events
+     * @throws IOException if a partition cannot be read
+     */
+    public List<AuditEvent> query(LocalDate from, LocalDate to, String user, String eventType, int limit)
+            throws IOException {
+        List<AuditEvent> result = new ArrayList<>();
+        for (Partition partition : partitions.subMap(from, true, to, true).descendingMap().values()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            load(partition).collect(user, eventType, limit - result.size(), result);
+        }
+        return result;
+    }
+
+    /**
+     * Counts events per event type.
+     *
+     * @param from the first day to count
+     * @param to the last day to count
+     * @param user only events of this user, or null for all users
+     * @return the number of events of each type
+     * @throws IOException if a partition cannot be read
+     */
+    public Map<String, Integer> countByType(LocalDate from, LocalDate to, String user) throws IOException {
+        Map<String, Integer> counts = new HashMap<>();
+        for (Partition partition : partitions.subMap(from, true, to, true).values()) {
+            load(partition).countByType(user, counts);
+        }
+        return counts;
+    }
+
+    /**
+     * Streams events to a writer, oldest first.
+     *
+     * @param from the first day to export
+     * @param to the last day to export
+     * @param formatter formats a chunk of events; it runs on pool threads and must not share state
+     * @param separator written between formatted chunks
+     * @param out the writer
+     * @return the number of events exported
+     * @throws IOException if a partition cannot be read or the writer fails
+     */
+    public long export(LocalDate from, LocalDate to, Function<List<AuditEvent>, String> formatter,
+            String separator, Writer out) throws IOException {
+        Deque<CompletableFuture<String>> inFlight = new ArrayDeque<>();
+        long exported = 0;
+        boolean first = true;
+
+        for (Partition partition : partitions.subMap(from, true, to, true).values()) {
+            // Hold the loaded events so an eviction during the export cannot empty them
+            Events events = load(partition);
+            int size = events.size();
+            for (int start = 0; start < size; start += EXPORT_CHUNK_SIZE) {
+                List<AuditEvent> chunk = events.copy(start, Math.min(size, start + EXPORT_CHUNK_SIZE));
+                exported += chunk.size();
+                inFlight.add(CompletableFuture.supplyAsync(() -> formatter.apply(chunk)));
+
+                // Keep a bounded number of chunks formatting ahead of the writer
+                if (inFlight.size() >= MAX_CHUNKS_IN_FLIGHT) {
+                    first = writeChunk(inFlight.poll(), separator, first, out);
+                }
+            }
+        }
+        while (!inFlight.isEmpty()) {
+            first = writeChunk(inFlight.poll(), separator, first, out);
+        }
+        return exported;
+    }
+
+    private static boolean writeChunk(CompletableFuture<String> chunk, String separator, boolean first, Writer out)
+            throws IOException {
+        String formatted;
+        try {
+            formatted = chunk.join();
+        } catch (CompletionException e) {
+            throw new IOException("Failed to format audit events", e.getCause());
+        }
+        if (!first) {
+            out.write(separator);
+        }
+        out.write(formatted);
+        return false;
+    }
+
+    /**
+     * Deletes the partitions of days before the cutoff.
+     *
+     * @param cutoff the first day to keep
+     * @return the number of partitions deleted
+     * @throws IOException if a partition file cannot be deleted
+     */
+    public int deleteBefore(LocalDate cutoff) throws IOException {
+        int deleted = 0;
+        for (Partition partition : new ArrayList<>(partitions.headMap(cutoff, false).values())) {
+            synchronized (loaded) {
+                loaded.remove(partition.day);
+            }
+            partitions.remove(partition.day);
+            Files.deleteIfExists(partition.file);
+            deleted++;
+        }
+        return deleted;
+    }
+
+    /**
+     * Gets the first day with events.
+     *
+     * @return the first day, or null if the log is empty
+     */
+    public LocalDate getFirstDay() {
+        return partitions.isEmpty() ? null : partitions.firstKey();
+    }
+
+    /**
+     * Gets the number of day partitions.
+     *
+     * @return the partition count
+     */
+    public int getPartitionCount() {
+        return partitions.size();
+    }
+
+    /**
+     * Gets the total size of the partition files.
+     *
+     * @return the size in bytes
+     */
+    public long size() {
+        long size = 0;
+        for (Partition partition : partitions.values()) {
+            try {
+                size += Files.size(partition.file);
+            } catch (IOException e) {
+                // Not written yet
+            }
+        }
+        return size;
+    }
+
+    private Events load(Partition partition) throws IOException {
+        synchronized (loaded) {
+            loaded.put(partition.day, partition);
+        }
+        return partition.load();
+    }
+
+    private static LocalDate parseDay(String fileName) {
+        if (!fileName.startsWith(FILE_PREFIX) || !fileName.endsWith(FILE_SUFFIX)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(fileName.substring(FILE_PREFIX.length(), fileName.length() - FILE_SUFFIX.length()));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The file of one day's events, and the events once loaded.
+     */
+    private static final class Partition {
+        private final LocalDate day;
+        private final Path file;
+        private Events events;
+
+        Partition(LocalDate day, Path file) {
+            this.day = day;
+            this.file = file;
+        }
+
+        synchronized void append(AuditEvent event) throws IOException {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, event.toLine() + "\n", StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            if (events != null) {
+                events.index(event);
+            }
+        }
+
+        /**
+         * Loads the events if they are not loaded. The result stays usable after the
+         * partition is unloaded, but no longer sees new events.
+         */
+        synchronized Events load() throws IOException {
+            if (events != null) {
+                return events;
+            }
+            Events loaded = new Events();
+            if (Files.exists(file)) {
+                try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (line.isEmpty()) {
+                            continue;
+                        }
+                        try {
+                            loaded.index(AuditEvent.parse(line));
+                        } catch (IllegalArgumentException e) {
+                            LOGGER.log(Level.WARNING, "Skipping invalid audit entry in " + file, e);
+                        }
+                    }
+                }
+            }
+            events = loaded;
+            return loaded;
+        }
+
+        synchronized void unload() {
+            events = null;
+        }
+    }
+
+    /**
+     * The loaded events of one day, with indexes by user and event type.
+     */
+    private static final class Events {
+        private final List<AuditEvent> events = new ArrayList<>();
+        private final Map<String, List<Integer>> byUser = new HashMap<>();
+        private final Map<String, List<Integer>> byType = new HashMap<>();
+
+        synchronized void index(AuditEvent event) {
+            int position = events.size();
+            events.add(event);
+            byUser.computeIfAbsent(event.user(), key -> new ArrayList<>()).add(position);
+            byType.computeIfAbsent(event.eventType(), key -> new ArrayList<>()).add(position);
+        }
+
+        synchronized int size() {
+            return events.size();
+        }
+
+        synchronized List<AuditEvent> copy(int from, int to) {
+            return new ArrayList<>(events.subList(from, to));
+        }
+
+        synchronized void collect(String user, String eventType, int limit, List<AuditEvent> result) {
+            if (user == null && eventType == null) {
+                for (int i = events.size() - 1; i >= 0 && limit > 0; i--, limit--) {
+                    result.add(events.get(i));
+                }
+                return;
+            }
+
+            // Walk the shorter index and check the other condition on each event
+            List<Integer> userPositions = user != null ? byUser.getOrDefault(user, Collections.emptyList()) : null;
+            List<Integer> typePositions = eventType != null ? byType.getOrDefault(eventType, Collections.emptyList()) : null;
+            List<Integer> positions = userPositions == null ? typePositions
+                : typePositions == null || userPositions.size() <= typePositions.size() ? userPositions : typePositions;
+
+            for (int i = positions.size() - 1; i >= 0 && limit > 0; i--) {
+                AuditEvent event = events.get(positions.get(i));
+                if ((user == null || user.equals(event.user())) && (eventType == null || eventType.equals(event.eventType()))) {
+                    result.add(event);
+                    limit--;
+                }
+            }
+        }
+
+        synchronized void countByType(String user, Map<String, Integer> counts) {
+            if (user == null) {
+                byType.forEach((type, positions) -> counts.merge(type, positions.size(), Integer::sum));
+                return;
+            }
+            for (int position : byUser.getOrDefault(user, Collections.emptyList())) {
+                counts.merge(events.get(position).eventType(), 1, Integer::sum);
+            }
+        }
+    }
+}
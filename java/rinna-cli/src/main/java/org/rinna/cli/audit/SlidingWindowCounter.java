@@ -0,0 +1,89 @@
+/*
+ * Sliding window counter for Rinna CLI audit alerts
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+package org.rinna.cli.audit;
+
+import java.time.Duration;
+
+/**
+ * Counts events in a sliding time window without keeping the events.
+ *
+ * <p>The window is divided into a ring of fixed-width buckets. Adding an event
+ * increments its bucket and a running total; as time moves on, buckets that fall
+ * out of the window are subtracted from the total and reused. Both adding and
+ * counting are constant time, so an alert can be checked on every event instead
+ * of rescanning the log. The count is exact to within one bucket width.</p>
+ */
+public final class SlidingWindowCounter {
+
+    private final long bucketMillis;
+    private final int[] counts;
+    private long currentBucket = Long.MIN_VALUE;
+    private int total;
+
+    /**
+     * Creates a counter.
+     *
+     * @param window the length of the window
+     * @param buckets the number of buckets the window is divided into
+     */
+    public SlidingWindowCounter(Duration window, int buckets) {
+        if (buckets < 1 || window.toMillis() < buckets) {
+            throw new IllegalArgumentException("Window " + window + " cannot be divided into " + buckets + " buckets");
+        }
+        this.bucketMillis = window.toMillis() / buckets;
+        this.counts = new int[buckets];
+    }
+
+    /**
+     * Records an event. Events older than the window are ignored.
+     *
+     * @param timeMillis when the event happened, in epoch milliseconds
+     */
+    public synchronized void add(long timeMillis) {
+        long bucket = Math.floorDiv(timeMillis, bucketMillis);
+        if (currentBucket != Long.MIN_VALUE && bucket <= currentBucket - counts.length) {
+            return;
+        }
+        advance(bucket);
+        counts[slot(bucket)]++;
+        total++;
+    }
+
+    /**
+     * Counts the events in the window ending at the given time.
+     *
+     * @param timeMillis the end of the window, in epoch milliseconds
+     * @return the number of events in the window
+     */
+    public synchronized int count(long timeMillis) {
+        advance(Math.floorDiv(timeMillis, bucketMillis));
+        return total;
+    }
+
+    private void advance(long bucket) {
+        if (currentBucket == Long.MIN_VALUE) {
+            currentBucket = bucket;
+            return;
+        }
+        if (bucket <= currentBucket) {
+            return;
+        }
+        // Clear the buckets that left the window, at most one full turn of the ring
+        long steps = Math.min(bucket - currentBucket, counts.length);
+        for (long i = 1; i <= steps; i++) {
+            int slot = slot(currentBucket + i);
+            total -= counts[slot];
+            counts[slot] = 0;
+        }
+        currentBucket = bucket;
+    }
+
+    private int slot(long bucket) {
+        return (int) Math.floorMod(bucket, (long) counts.length);
+    }
+}
@@ -0,0 +1,420 @@
+/*
+ * Incremental backup engine for Rinna CLI
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+package org.rinna.cli.backup;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.rinna.cli.backup.BackupManifest.ChunkRef;
+import org.rinna.cli.backup.ChunkStore.ChunkState;
+
+/**
+ * Backs up a SQLite database into a deduplicating chunk store.
+ *
+ * <p>Each backup takes a consistent snapshot of the database with
+ * {@code VACUUM INTO}, splits it with the {@link ContentDefinedChunker} and stores
+ * only the chunks the store does not already hold. A backup after a small change
+ * therefore only adds the chunks around the changed pages, while its manifest
+ * still describes the whole database and can be restored on its own.</p>
+ *
+ * <p>The store directory holds {@code chunks/} and {@code manifests/}. Backups,
+ * restores and pruning are serialized on the engine.</p>
+ */
+public final class BackupEngine {
+    private static final Logger LOGGER = Logger.getLogger(BackupEngine.class.getName());
+
+    private static final String MANIFEST_DIR = "manifests";
+    private static final String MANIFEST_SUFFIX = ".manifest";
+    private static final String NO_SUITABLE_DRIVER = "08001";
+    // Files SQLite keeps next to a database for changes not yet in the main file
+    private static final List<String> JOURNAL_SUFFIXES = List.of("-wal", "-shm", "-journal");
+
+    private final Path database;
+    private final ChunkStore store;
+
+    /**
+     * The result of verifying a backup.
+     *
+     * @param manifest the backup that was verified
+     * @param chunks the number of distinct chunks checked
+     * @param valid the number of chunks that matched their hash
+     * @param missing the number of chunks not found in the store
+     * @param corrupted the number of chunks that did not match their hash
+     * @param sizeMatches whether the chunk lengths add up to the snapshot size
+     */
+    public record Verification(BackupManifest manifest, int chunks, int valid, int missing, int corrupted,
+            boolean sizeMatches) {
+
+        /**
+         * Checks whether the backup can be restored.
+         *
+         * @return true if every chunk is valid and the sizes match
+         */
+        public boolean isValid() {
+            return valid == chunks && sizeMatches;
+        }
+    }
+
+    /**
+     * The result of pruning expired backups.
+     *
+     * @param removedBackups the number of manifests deleted
+     * @param freedBytes the compressed size of the chunks no backup used any more
+     */
+    public record PruneResult(int removedBackups, long freedBytes) {
+    }
+
+    /**
+     * Creates a backup engine.
+     *
+     * @param database the SQLite database file to back up and restore
+     * @param storeDirectory the directory of the chunk store
+     */
+    public BackupEngine(Path database, Path storeDirectory) {
+        this.database = database;
+        this.store = new ChunkStore(storeDirectory);
+    }
+
+    /**
+     * Gets the database this engine backs up.
+     *
+     * @return the database file
+     */
+    public Path getDatabase() {
+        return database;
+    }
+
+    /**
+     * Gets the chunk store backups are written to.
+     *
+     * @return the chunk store
+     */
+    public ChunkStore getStore() {
+        return store;
+    }
+
+    /**
+     * Takes a snapshot of the database and stores the chunks that changed.
+     *
+     * @param type the backup type to record (full, incremental, differential)
+     * @return the manifest of the new backup
+     * @throws IOException if the snapshot cannot be taken or stored
+     */
+    public synchronized BackupManifest backup(String type) throws IOException {
+        if (!Files.isRegularFile(database)) {
+            throw new IOException("Database not found: " + database);
+        }
+
+        long start = System.nanoTime();
+        String id = "BK-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        Files.createDirectories(store.getRoot());
+        Path snapshot = store.getRoot().resolve("snapshot-" + id + ".db");
+
+        try {
+            Instant createdAt = Instant.now();
+            takeSnapshot(database, snapshot);
+
+            List<ChunkRef> chunks = new ArrayList<>();
+            long[] stored = new long[1];
+            int[] newChunks = new int[1];
+            MessageDigest digest = ChunkStore.newDigest();
+            try (InputStream in = new DigestInputStream(new BufferedInputStream(Files.newInputStream(snapshot)), digest)) {
+                ContentDefinedChunker.chunk(in, (buffer, offset, length) -> {
+                    String hash = ChunkStore.hash(buffer, offset, length);
+                    long written = store.put(hash, buffer, offset, length);
+                    if (written > 0) {
+                        stored[0] += written;
+                        newChunks[0]++;
+                    }
+                    chunks.add(new ChunkRef(hash, length));
+                });
+            }
+
+            BackupManifest manifest = new BackupManifest(id, type, createdAt, database.toString(),
+                Files.size(snapshot), HexFormat.of().formatHex(digest.digest()), stored[0], newChunks[0],
+                Duration.ofNanos(System.nanoTime() - start).toMillis(), chunks);
+            manifest.write(manifestPath(id));
+
+            LOGGER.info("Backup " + id + " stored " + newChunks[0] + " new of " + chunks.size() + " chunks");
+            return manifest;
+        } finally {
+            Files.deleteIfExists(snapshot);
+        }
+    }
+
+    /**
+     * Lists the backups in the store, oldest first.
+     *
+     * @return the backup manifests
+     * @throws IOException if the store cannot be listed
+     */
+    public List<BackupManifest> listBackups() throws IOException {
+        Path manifests = store.getRoot().resolve(MANIFEST_DIR);
+        if (!Files.isDirectory(manifests)) {
+            return new ArrayList<>();
+        }
+
+        List<BackupManifest> backups = new ArrayList<>();
+        try (Stream<Path> files = Files.list(manifests)) {
+            for (Path file : (Iterable<Path>) files.filter(f -> f.toString().endsWith(MANIFEST_SUFFIX))::iterator) {
+                try {
+                    backups.add(BackupManifest.read(file));
+                } catch (IOException e) {
+                    LOGGER.log(Level.WARNING, "Skipping unreadable backup manifest " + file, e);
+                }
+            }
+        }
+        backups.sort(Comparator.comparing(BackupManifest::getCreatedAt));
+        return backups;
+    }
+
+    /**
+     * Finds a backup by ID.
+     *
+     * @param backupId the backup ID, or "latest" for the most recent backup
+     * @return the manifest, or empty if there is no such backup
+     * @throws IOException if the store cannot be read
+     */
+    public Optional<BackupManifest> findBackup(String backupId) throws IOException {
+        if (backupId == null || "latest".equalsIgnoreCase(backupId)) {
+            List<BackupManifest> backups = listBackups();
+            return backups.isEmpty() ? Optional.empty() : Optional.of(backups.get(backups.size() - 1));
+        }
+        Path file = manifestPath(backupId);
+        return Files.isRegularFile(file) ? Optional.of(BackupManifest.read(file)) : Optional.empty();
+    }
+
+    /**
+     * Checks every chunk of a backup against its hash. Chunks are checked in parallel.
+     *
+     * @param manifest the backup to verify
+     * @return the verification result
+     */
+    public Verification verify(BackupManifest manifest) {
+        Map<String, Integer> distinct = new LinkedHashMap<>();
+        long totalLength = 0;
+        for (ChunkRef chunk : manifest.getChunks()) {
+            distinct.putIfAbsent(chunk.hash(), chunk.length());
+            totalLength += chunk.length();
+        }
+
+        Map<ChunkState, Long> states = distinct.entrySet().parallelStream()
+            .map(entry -> store.verify(entry.getKey(), entry.getValue()))
+            .collect(Collectors.groupingByConcurrent(state -> state,
+                Collectors.counting()));
+
+        return new Verification(manifest, distinct.size(),
+            states.getOrDefault(ChunkState.VALID, 0L).intValue(),
+            states.getOrDefault(ChunkState.MISSING, 0L).intValue(),
+            states.getOrDefault(ChunkState.CORRUPTED, 0L).intValue(),
+            totalLength == manifest.getSourceSize());
+    }
+
+    /**
+     * Reassembles a backup into a file. The file is only replaced once the restored
+     * content matches the snapshot hash; stale SQLite journal files next to it are
+     * removed so they are not replayed onto the restored database.
+     *
+     * @param manifest the backup to restore
+     * @param target the file to restore into
+     * @throws IOException if a chunk is missing or the restored content does not match
+     */
+    public synchronized void restore(BackupManifest manifest, Path target) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".restore");
+
+        try {
+            MessageDigest digest = ChunkStore.newDigest();
+            long size = 0;
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+                for (ChunkRef chunk : manifest.getChunks()) {
+                    if (!store.contains(chunk.hash())) {
+                        throw new IOException("Backup " + manifest.getId() + " is missing chunk " + chunk.hash());
+                    }
+                    try (InputStream in = store.open(chunk.hash())) {
+                        size += in.transferTo(out);
+                    }
+                }
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            if (size != manifest.getSourceSize() || !hash.equals(manifest.getSourceHash())) {
+                throw new IOException("Restored content of backup " + manifest.getId() + " does not match its snapshot");
+            }
+
+            for (String suffix : JOURNAL_SUFFIXES) {
+                Files.deleteIfExists(Path.of(target + suffix));
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Copies the database, including changes still in its write-ahead log, so it can
+     * be put back by hand. The copy is a {@code VACUUM INTO} snapshot; when no SQLite
+     * JDBC driver is available the database file is copied together with its
+     * journal files, which SQLite replays when the copy is opened.
+     *
+     * @param target the file to copy the database to
+     * @throws IOException if the database cannot be copied
+     */
+    public synchronized void copyDatabase(Path target) throws IOException {
+        Files.deleteIfExists(target);
+        for (String suffix : JOURNAL_SUFFIXES) {
+            Files.deleteIfExists(Path.of(target + suffix));
+        }
+        if (vacuumInto(database, target)) {
+            return;
+        }
+
+        LOGGER.warning("SQLite driver not available, copying " + database + " with its journal files");
+        Files.copy(database, target);
+        for (String suffix : JOURNAL_SUFFIXES) {
+            Path journal = Path.of(database + suffix);
+            if (Files.exists(journal)) {
+                Files.copy(journal, Path.of(target + suffix));
+            }
+        }
+    }
+
+    /**
+     * Deletes backups older than the retention period, always keeping the most
+     * recent one, and removes the chunks no remaining backup uses.
+     *
+     * @param retentionDays the number of days to keep backups
+     * @return what was removed
+     * @throws IOException if the store cannot be updated
+     */
+    public synchronized PruneResult prune(int retentionDays) throws IOException {
+        List<BackupManifest> backups = listBackups();
+        if (backups.isEmpty()) {
+            return new PruneResult(0, 0);
+        }
+
+        Instant cutoff = Instant.now().minus(Duration.ofDays(retentionDays));
+        BackupManifest latest = backups.get(backups.size() - 1);
+        int removed = 0;
+        Set<String> referenced = new HashSet<>();
+        for (BackupManifest backup : backups) {
+            if (backup != latest && backup.getCreatedAt().isBefore(cutoff)) {
+                Files.deleteIfExists(manifestPath(backup.getId()));
+                removed++;
+            } else {
+                backup.getChunks().forEach(chunk -> referenced.add(chunk.hash()));
+            }
+        }
+
+        long freed = removed > 0 ? store.removeUnreferenced(referenced) : 0;
+        return new PruneResult(removed, freed);
+    }
+
+    /**
+     * Copies a backup into another store, skipping chunks that store already holds.
+     *
+     * @param manifest the backup to copy
+     * @param location the directory of the other store
+     * @return the number of chunks copied
+     * @throws IOException if the backup cannot be copied
+     */
+    public int mirror(BackupManifest manifest, Path location) throws IOException {
+        ChunkStore target = new ChunkStore(location);
+        int copied;
+        try {
+            copied = (int) manifest.getChunks().stream()
+                .map(ChunkRef::hash)
+                .distinct()
+                .filter(hash -> copyChunk(hash, target))
+                .count();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        manifest.write(location.resolve(MANIFEST_DIR).resolve(manifest.getId() + MANIFEST_SUFFIX));
+        return copied;
+    }
+
+    private boolean copyChunk(String hash, ChunkStore target) {
+        try {
+            return store.copyTo(hash, target);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path manifestPath(String backupId) {
+        return store.getRoot().resolve(MANIFEST_DIR).resolve(backupId + MANIFEST_SUFFIX);
+    }
+
+    /**
+     * Writes a consistent copy of a SQLite database with {@code VACUUM INTO}. When no
+     * SQLite JDBC driver is available the file is copied instead, which is only
+     * consistent if there is no write-ahead log waiting to be checkpointed.
+     */
+    static void takeSnapshot(Path database, Path target) throws IOException {
+        if (vacuumInto(database, target)) {
+            return;
+        }
+
+        Path wal = Path.of(database + "-wal");
+        if (Files.exists(wal) && Files.size(wal) > 0) {
+            throw new IOException("Cannot snapshot " + database
+                + " without the SQLite driver while it has a write-ahead log that has not been checkpointed");
+        }
+        LOGGER.warning("SQLite driver not available, copying " + database + " for the backup snapshot");
+        Files.copy(database, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Writes a database with {@code VACUUM INTO}.
+     *
+     * @return false if no SQLite JDBC driver is available
+     */
+    private static boolean vacuumInto(Path database, Path target) throws IOException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + database);
+             Statement statement = connection.createStatement()) {
+            statement.execute("VACUUM INTO '" + target.toString().replace("'", "''") + "'");
+            return true;
+        } catch (SQLException e) {
+            if (!NO_SUITABLE_DRIVER.equals(e.getSQLState())) {
+                throw new IOException("Failed to snapshot database " + database, e);
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Backup manifest for Rinna CLI backups
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+package org.rinna.cli.backup;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Describes one backup: the snapshot it was taken from and the ordered list of
+ * chunks that reassemble it.
+ *
+ * <p>Manifests are text files of {@code key=value} header lines, a blank line and
+ * then one {@code <hash> <length>} line per chunk. Every manifest lists all the
+ * chunks of its snapshot, so any backup can be restored on its own; the backup
+ * type only records how the backup was scheduled.</p>
+ */
+public final class BackupManifest {
+
+    private final String id;
+    private final String type;
+    private final Instant createdAt;
+    private final String source;
+    private final long sourceSize;
+    private final String sourceHash;
+    private final long storedBytes;
+    private final int newChunks;
+    private final long durationMillis;
+    private final List<ChunkRef> chunks;
+
+    /**
+     * A chunk of a backup.
+     *
+     * @param hash the SHA-256 hash the chunk is stored under
+     * @param length the uncompressed length of the chunk
+     */
+    public record ChunkRef(String hash, int length) {
+    }
+
+    /**
+     * Creates a manifest.
+     *
+     * @param id the backup ID
+     * @param type the backup type (full, incremental, differential)
+     * @param createdAt when the snapshot was taken
+     * @param source the database the snapshot was taken from
+     * @param sourceSize the size of the snapshot
+     * @param sourceHash the SHA-256 hash of the whole snapshot
+     * @param storedBytes the compressed size of the chunks this backup added to the store
+     * @param newChunks the number of chunks this backup added to the store
+     * @param durationMillis how long the backup took
+     * @param chunks the chunks of the snapshot, in order
+     */
+    public BackupManifest(String id, String type, Instant createdAt, String source, long sourceSize,
+            String sourceHash, long storedBytes, int newChunks, long durationMillis, List<ChunkRef> chunks) {
+        this.id = id;
+        this.type = type;
+        this.createdAt = createdAt;
+        this.source = source;
+        this.sourceSize = sourceSize;
+        this.sourceHash = sourceHash;
+        this.storedBytes = storedBytes;
+        this.newChunks = newChunks;
+        this.durationMillis = durationMillis;
+        this.chunks = Collections.unmodifiableList(new ArrayList<>(chunks));
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public long getSourceSize() {
+        return sourceSize;
+    }
+
+    public String getSourceHash() {
+        return sourceHash;
+    }
+
+    public long getStoredBytes() {
+        return storedBytes;
+    }
+
+    public int getNewChunks() {
+        return newChunks;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public List<ChunkRef> getChunks() {
+        return chunks;
+    }
+
+    /**
+     * Writes the manifest to a file, replacing it atomically.
+     *
+     * @param file the manifest file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), id, ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write("id=" + id + "\n");
+                writer.write("type=" + type + "\n");
+                writer.write("created=" + createdAt + "\n");
+                writer.write("source=" + source + "\n");
+                writer.write("sourceSize=" + sourceSize + "\n");
+                writer.write("sourceHash=" + sourceHash + "\n");
+                writer.write("storedBytes=" + storedBytes + "\n");
+                writer.write("newChunks=" + newChunks + "\n");
+                writer.write("durationMillis=" + durationMillis + "\n");
+                writer.write("\n");
+                for (ChunkRef chunk : chunks) {
+                    writer.write(chunk.hash() + " " + chunk.length() + "\n");
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads a manifest file.
+     *
+     * @param file the manifest file
+     * @return the manifest
+     * @throws IOException if the file cannot be read or is not a valid manifest
+     */
+    public static BackupManifest read(Path file) throws IOException {
+        Properties header = new Properties();
+        List<ChunkRef> chunks = new ArrayList<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null && !line.isEmpty()) {
+                int separator = line.indexOf('=');
+                if (separator > 0) {
+                    header.setProperty(line.substring(0, separator), line.substring(separator + 1));
+                }
+            }
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf(' ');
+                if (separator < 0) {
+                    throw new IOException("Invalid chunk entry in manifest " + file + ": " + line);
+                }
+                chunks.add(new ChunkRef(line.substring(0, separator), Integer.parseInt(line.substring(separator + 1))));
+            }
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid manifest " + file, e);
+        }
+
+        try {
+            return new BackupManifest(
+                required(header, "id", file),
+                required(header, "type", file),
+                Instant.parse(required(header, "created", file)),
+                header.getProperty("source", ""),
+                Long.parseLong(required(header, "sourceSize", file)),
+                required(header, "sourceHash", file),
+                Long.parseLong(header.getProperty("storedBytes", "0")),
+                Integer.parseInt(header.getProperty("newChunks", "0")),
+                Long.parseLong(header.getProperty("durationMillis", "0")),
+                chunks);
+        } catch (RuntimeException e) {
+            throw new IOException("Invalid manifest " + file, e);
+        }
+    }
+
+    private static String required(Properties header, String key, Path file) throws IOException {
+        String value = header.getProperty(key);
+        if (value == null) {
+            throw new IOException("Manifest " + file + " has no " + key);
+        }
+        return value;
+    }
+}
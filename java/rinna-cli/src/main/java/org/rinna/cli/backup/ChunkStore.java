@@ -0,0 +1,263 @@
+/*
+ * Chunk store for Rinna CLI backups
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+package org.rinna.cli.backup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Stores backup chunks by the SHA-256 hash of their content.
+ *
+ * <p>Each chunk is compressed into its own file under {@code chunks/}, in a
+ * subdirectory named after the first two hex digits of its hash. A chunk that is
+ * already stored is not written again, which is what makes repeated backups of a
+ * mostly unchanged database cheap. Files are written to a temporary name and
+ * moved into place, so a chunk file is either complete or absent.</p>
+ */
+public final class ChunkStore {
+
+    private static final String CHUNK_DIR = "chunks";
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final Path root;
+
+    /**
+     * The result of checking a stored chunk.
+     */
+    public enum ChunkState {
+        /** The chunk is present and its content matches its hash. */
+        VALID,
+        /** No chunk file exists for the hash. */
+        MISSING,
+        /** The chunk file cannot be read or its content does not match its hash. */
+        CORRUPTED
+    }
+
+    /**
+     * Creates a chunk store in the given directory.
+     *
+     * @param root the store directory
+     */
+    public ChunkStore(Path root) {
+        this.root = root;
+    }
+
+    /**
+     * Gets the store directory.
+     *
+     * @return the store directory
+     */
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * Computes the hash chunks are stored under.
+     *
+     * @param buffer the buffer holding the chunk
+     * @param offset the offset of the chunk
+     * @param length the length of the chunk
+     * @return the lowercase hex SHA-256 hash
+     */
+    public static String hash(byte[] buffer, int offset, int length) {
+        MessageDigest digest = newDigest();
+        digest.update(buffer, offset, length);
+        return HEX.formatHex(digest.digest());
+    }
+
+    /**
+     * Creates a SHA-256 digest.
+     *
+     * @return the digest
+     */
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Stores a chunk unless a chunk with the same hash is already stored.
+     *
+     * @param hash the hash of the chunk
+     * @param buffer the buffer holding the chunk
+     * @param offset the offset of the chunk
+     * @param length the length of the chunk
+     * @return the compressed size written, or 0 if the chunk was already stored
+     * @throws IOException if the chunk cannot be written
+     */
+    public long put(String hash, byte[] buffer, int offset, int length) throws IOException {
+        Path file = pathOf(hash);
+        if (Files.exists(file)) {
+            return 0;
+        }
+
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), hash, ".tmp");
+        try {
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try (OutputStream out = new DeflaterOutputStream(Files.newOutputStream(temp), deflater)) {
+                out.write(buffer, offset, length);
+            } finally {
+                deflater.end();
+            }
+            long size = Files.size(temp);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+            return size;
+        } catch (FileAlreadyExistsException e) {
+            // Another backup stored the same chunk first
+            return 0;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Checks whether a chunk is stored.
+     *
+     * @param hash the hash of the chunk
+     * @return true if the chunk file exists
+     */
+    public boolean contains(String hash) {
+        return Files.exists(pathOf(hash));
+    }
+
+    /**
+     * Opens a stored chunk for reading.
+     *
+     * @param hash the hash of the chunk
+     * @return a stream of the decompressed chunk
+     * @throws IOException if the chunk cannot be opened
+     */
+    public InputStream open(String hash) throws IOException {
+        return new InflaterInputStream(Files.newInputStream(pathOf(hash)));
+    }
+
+    /**
+     * Checks that a stored chunk is present and still matches its hash.
+     *
+     * @param hash the hash of the chunk
+     * @param length the expected length of the chunk
+     * @return the state of the chunk
+     */
+    public ChunkState verify(String hash, int length) {
+        if (!contains(hash)) {
+            return ChunkState.MISSING;
+        }
+        try (InputStream in = open(hash)) {
+            byte[] content = in.readNBytes(length + 1);
+            if (content.length != length || !hash.equals(hash(content, 0, content.length))) {
+                return ChunkState.CORRUPTED;
+            }
+            return ChunkState.VALID;
+        } catch (IOException e) {
+            return ChunkState.CORRUPTED;
+        }
+    }
+
+    /**
+     * Copies a chunk, still compressed, into another store.
+     *
+     * @param hash the hash of the chunk
+     * @param target the store to copy into
+     * @return true if the chunk was copied, false if the target already had it
+     * @throws IOException if the chunk cannot be copied
+     */
+    public boolean copyTo(String hash, ChunkStore target) throws IOException {
+        Path file = target.pathOf(hash);
+        if (Files.exists(file)) {
+            return false;
+        }
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), hash, ".tmp");
+        try {
+            Files.copy(pathOf(hash), temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return false;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Deletes every chunk that is not in the given set.
+     *
+     * @param referenced the hashes still used by a backup
+     * @return the number of bytes freed
+     * @throws IOException if the store cannot be listed
+     */
+    public long removeUnreferenced(Set<String> referenced) throws IOException {
+        Path chunks = root.resolve(CHUNK_DIR);
+        if (!Files.isDirectory(chunks)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.walk(chunks, 2)) {
+            return files.filter(Files::isRegularFile)
+                .filter(file -> !referenced.contains(file.getFileName().toString()))
+                .mapToLong(ChunkStore::delete)
+                .sum();
+        }
+    }
+
+    /**
+     * Gets the total compressed size of all stored chunks.
+     *
+     * @return the size in bytes
+     * @throws IOException if the store cannot be listed
+     */
+    public long size() throws IOException {
+        Path chunks = root.resolve(CHUNK_DIR);
+        if (!Files.isDirectory(chunks)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.walk(chunks, 2)) {
+            return files.filter(Files::isRegularFile).mapToLong(ChunkStore::sizeOf).sum();
+        }
+    }
+
+    private Path pathOf(String hash) {
+        return root.resolve(CHUNK_DIR).resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private static long delete(Path file) {
+        long size = sizeOf(file);
+        try {
+            Files.deleteIfExists(file);
+            return size;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            // Removed while listing
+            return 0;
+        }
+    }
+}
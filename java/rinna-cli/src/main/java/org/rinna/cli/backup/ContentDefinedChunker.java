@@ -0,0 +1,125 @@
+/*
+ * Content-defined chunker for Rinna CLI backups
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+package org.rinna.cli.backup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.SplittableRandom;
+
+/**
+ * Splits a stream into chunks whose boundaries depend on the content rather than
+ * on fixed offsets.
+ *
+ * <p>A boundary is placed where a rolling gear hash over the last bytes matches a
+ * mask, so inserting or removing bytes only moves the boundaries next to the change.
+ * Unchanged regions of a database snapshot therefore produce the same chunks from
+ * one backup to the next, even when pages move. Chunks are between
+ * {@link #MIN_SIZE} and {@link #MAX_SIZE} bytes, about {@link #AVERAGE_SIZE} on
+ * average; a stricter mask before the average size and a looser one after it keep
+ * chunk sizes close to the average.</p>
+ */
+public final class ContentDefinedChunker {
+
+    /** The smallest chunk, except for the last one. */
+    public static final int MIN_SIZE = 2 * 1024;
+
+    /** The size chunks are normalized towards. */
+    public static final int AVERAGE_SIZE = 8 * 1024;
+
+    /** The largest chunk. */
+    public static final int MAX_SIZE = 64 * 1024;
+
+    // Using the top bits makes each match depend on the last 64 bytes
+    private static final long STRICT_MASK = -1L << (64 - 15);
+    private static final long LOOSE_MASK = -1L << (64 - 11);
+
+    // Fixed seed, chunk boundaries must not change between runs
+    private static final long[] GEAR = new SplittableRandom(0x52696E6E61L).longs(256).toArray();
+
+    /**
+     * Receives the chunks of a stream in order.
+     */
+    @FunctionalInterface
+    public interface ChunkConsumer {
+        /**
+         * Accepts a chunk. The buffer is reused once this method returns.
+         *
+         * @param buffer the buffer holding the chunk
+         * @param offset the offset of the chunk in the buffer
+         * @param length the length of the chunk
+         * @throws IOException if the chunk cannot be processed
+         */
+        void accept(byte[] buffer, int offset, int length) throws IOException;
+    }
+
+    private ContentDefinedChunker() {
+        // Utility class
+    }
+
+    /**
+     * Reads a stream to the end and passes each chunk to the consumer.
+     *
+     * @param input the stream to split
+     * @param consumer receives the chunks
+     * @throws IOException if the stream cannot be read or the consumer fails
+     */
+    public static void chunk(InputStream input, ChunkConsumer consumer) throws IOException {
+        byte[] buffer = new byte[MAX_SIZE];
+        int filled = 0;
+        boolean eof = false;
+
+        while (true) {
+            while (!eof && filled < buffer.length) {
+                int read = input.read(buffer, filled, buffer.length - filled);
+                if (read < 0) {
+                    eof = true;
+                } else {
+                    filled += read;
+                }
+            }
+            if (filled == 0) {
+                return;
+            }
+
+            int cut = findBoundary(buffer, filled);
+            consumer.accept(buffer, 0, cut);
+            System.arraycopy(buffer, cut, buffer, 0, filled - cut);
+            filled -= cut;
+        }
+    }
+
+    /**
+     * Finds the end of the chunk starting at the beginning of the buffer.
+     *
+     * @param buffer the data
+     * @param length the number of bytes available, the chunk never extends past it
+     * @return the length of the chunk
+     */
+    static int findBoundary(byte[] buffer, int length) {
+        if (length <= MIN_SIZE) {
+            return length;
+        }
+
+        long hash = 0;
+        int normal = Math.min(AVERAGE_SIZE, length);
+        int i = MIN_SIZE;
+        for (; i < normal; i++) {
+            hash = (hash << 1) + GEAR[buffer[i] & 0xFF];
+            if ((hash & STRICT_MASK) == 0) {
+                return i + 1;
+            }
+        }
+        for (; i < length; i++) {
+            hash = (hash << 1) + GEAR[buffer[i] & 0xFF];
+            if ((hash & LOOSE_MASK) == 0) {
+                return i + 1;
+            }
+        }
+        return length;
+    }
+}
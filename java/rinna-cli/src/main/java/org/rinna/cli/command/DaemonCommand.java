@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ *
+ * Developed with analytical assistance from AI tools.
+ * All rights reserved.
+ *
+ * This source code is licensed under the MIT License
+ * found in the LICENSE file in the root directory of this source tree.
+ */
+package org.rinna.cli.command;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.rinna.cli.RinnaCli;
+import org.rinna.cli.daemon.DaemonClient;
+import org.rinna.cli.daemon.DaemonProtocol;
+import org.rinna.cli.daemon.DaemonServer;
+import org.rinna.cli.service.ConfigurationService;
+
+/**
+ * Command to manage the resident rin daemon.
+ *
+ * <p>While the daemon runs, other rin commands are forwarded to it over a local
+ * socket and run against services that are already loaded and warmed up.</p>
+ * <ul>
+ *   <li>{@code start} launches the daemon in the background</li>
+ *   <li>{@code run} runs the daemon in the foreground</li>
+ *   <li>{@code stop} stops a running daemon</li>
+ *   <li>{@code status} shows whether a daemon is running</li>
+ * </ul>
+ */
+public class DaemonCommand implements Callable<Integer> {
+
+    private static final long START_TIMEOUT_MILLIS = 10_000;
+
+    private String subcommand = "status";
+    private Duration idleTimeout;
+    private Path socketPath = DaemonProtocol.defaultSocketPath();
+
+    /**
+     * Sets the subcommand.
+     *
+     * @param subcommand start, run, stop or status
+     * @return this command instance for method chaining
+     */
+    public DaemonCommand setSubcommand(String subcommand) {
+        this.subcommand = subcommand;
+        return this;
+    }
+
+    /**
+     * Sets the idle timeout, overriding the {@value DaemonServer#IDLE_TIMEOUT_PROPERTY} property.
+     *
+     * @param idleTimeout the idle timeout, or zero to never stop on idle
+     * @return this command instance for method chaining
+     */
+    public DaemonCommand setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+        return this;
+    }
+
+    /**
+     * Sets the socket path.
+     *
+     * @param socketPath the socket path
+     * @return this command instance for method chaining
+     */
+    public DaemonCommand setSocketPath(Path socketPath) {
+        this.socketPath = socketPath;
+        return this;
+    }
+
+    @Override
+    public Integer call() {
+        try {
+            switch (subcommand) {
+                case "start":
+                    return start();
+                case "run":
+                    return run();
+                case "stop":
+                case "status":
+                    return control();
+                default:
+                    System.err.println("Error: Unknown daemon subcommand: " + subcommand);
+                    System.err.println("Usage: rin daemon [start|run|stop|status] [--idle-timeout=<minutes>]");
+                    return 1;
+            }
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private int start() throws IOException {
+        DaemonClient client = new DaemonClient(socketPath);
+        if (client.isDaemonRunning()) {
+            System.out.println("Rinna daemon is already running at " + socketPath);
+            return 0;
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Duser.home=" + System.getProperty("user.home"));
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(RinnaCli.class.getName());
+        command.add("daemon");
+        command.add("run");
+        command.add("--idle-timeout=" + resolveIdleTimeout().toMinutes());
+
+        Path log = socketPath.toAbsolutePath().resolveSibling("daemon.log");
+        Files.createDirectories(log.getParent());
+        Process process = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(log.toFile())
+            .start();
+
+        long deadline = System.currentTimeMillis() + START_TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            if (client.isDaemonRunning()) {
+                System.out.println("Rinna daemon started (PID " + process.pid() + ", socket " + socketPath + ")");
+                return 0;
+            }
+            if (!process.isAlive()) {
+                break;
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        System.err.println("Error: Rinna daemon did not start, see " + log);
+        return 1;
+    }
+
+    private int run() throws IOException {
+        Duration timeout = resolveIdleTimeout();
+        System.out.println("Rinna daemon listening on " + socketPath
+            + (timeout.isZero() ? "" : " (idle timeout " + timeout.toMinutes() + "m)"));
+        new DaemonServer(socketPath, timeout, RinnaCli::run).run();
+        return 0;
+    }
+
+    private int control() throws IOException {
+        DaemonClient client = new DaemonClient(socketPath);
+        if (!client.isDaemonRunning()) {
+            System.out.println("Rinna daemon is not running");
+            return "status".equals(subcommand) ? 3 : 0;
+        }
+        Integer exitCode = client.execute(new String[] {"daemon", subcommand}, System.out, System.err);
+        return exitCode == null ? 1 : exitCode;
+    }
+
+    private Duration resolveIdleTimeout() {
+        if (idleTimeout != null) {
+            return idleTimeout;
+        }
+        String minutes = ConfigurationService.getInstance().getProperty(
+            DaemonServer.IDLE_TIMEOUT_PROPERTY, String.valueOf(DaemonServer.DEFAULT_IDLE_TIMEOUT.toMinutes()));
+        try {
+            return Duration.ofMinutes(Math.max(0, Long.parseLong(minutes.trim())));
+        } catch (NumberFormatException e) {
+            return DaemonServer.DEFAULT_IDLE_TIMEOUT;
+        }
+    }
+}
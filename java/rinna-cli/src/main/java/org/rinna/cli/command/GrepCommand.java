@@ -15,6 +15,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.regex.Pattern;
 
 import org.rinna.cli.domain.model.SearchResult;
 import org.rinna.cli.domain.model.SearchResult.Match;
@@ -25,6 +26,8 @@ import org.rinna.cli.service.MetadataService;
 import org.rinna.cli.service.MockSearchService;
 import org.rinna.cli.service.ServiceManager;
 import org.rinna.cli.util.OutputFormatter;
+import org.rinna.domain.model.search.PatternCache;
+import org.rinna.domain.model.search.TextPattern;
 
 /**
  * Command to search for text in work items, similar to the Unix grep command.
@@ -442,12 +445,17 @@ public class GrepCommand implements Callable<Integer> {
     private List<SearchResult> convertWorkItemsToSearchResults(List<WorkItem> workItems, String pattern) {
         List<SearchResult> results = new ArrayList<>();
         
+        // Locate matches with the same literal matcher the search service used
+        int flags = caseSensitive ? 0 : Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+        TextPattern literal = PatternCache.shared().literal(pattern, flags, false);
+        
         for (WorkItem item : workItems) {
             // Create a search result for this work item
             String title = item.getTitle();
             String description = item.getDescription();
             
-            if (title != null && title.toLowerCase().contains(pattern.toLowerCase())) {
+            int titleStart = title != null ? literal.indexOf(title) : -1;
+            if (titleStart >= 0) {
                 // Found in title
                 SearchResult result = new SearchResult(
                     UUID.fromString(item.getId()), 
@@ -459,13 +467,13 @@ public class GrepCommand implements Callable<Integer> {
                 );
                 
                 // Add match
-                int start = title.toLowerCase().indexOf(pattern.toLowerCase());
-                Match match = new Match(start, start + pattern.length(), pattern);
+                Match match = new Match(titleStart, titleStart + pattern.length(), pattern);
                 result.addMatch(match);
                 results.add(result);
             }
             
-            if (description != null && description.toLowerCase().contains(pattern.toLowerCase())) {
+            int descriptionStart = description != null ? literal.indexOf(description) : -1;
+            if (descriptionStart >= 0) {
                 // Found in description
                 SearchResult result = new SearchResult(
                     UUID.fromString(item.getId()), 
@@ -477,8 +485,7 @@ public class GrepCommand implements Callable<Integer> {
                 );
                 
                 // Add match
-                int start = description.toLowerCase().indexOf(pattern.toLowerCase());
-                Match match = new Match(start, start + pattern.length(), pattern);
+                Match match = new Match(descriptionStart, descriptionStart + pattern.length(), pattern);
                 result.addMatch(match);
                 results.add(result);
             }
@@ -26,6 +26,7 @@ import org.rinna.cli.model.WorkItemType;
 import org.rinna.cli.model.WorkflowState;
 import org.rinna.cli.service.MetadataService;
 import org.rinna.cli.service.ServiceManager;
+import org.rinna.cli.util.InvocationContext;
 import org.rinna.cli.util.OutputFormatter;
 
 /**
@@ -435,7 +436,7 @@ public class ImportCommand implements Callable<Integer> {
      */
     private void generateReport(List<String> unparsedContent, String operationId) {
         // Get project root directory for absolute path
-        String projectRoot = System.getProperty("user.dir");
+        String projectRoot = InvocationContext.workingDirectory();
         File reportFile = new File(projectRoot, "target/import-report.txt");
         
         // Ensure target directory exists
@@ -24,6 +24,7 @@ import org.rinna.cli.service.ContextManager;
 import org.rinna.cli.service.MetadataService;
 import org.rinna.cli.service.MockReportService;
 import org.rinna.cli.service.ServiceManager;
+import org.rinna.cli.util.InvocationContext;
 import org.rinna.cli.util.OutputFormatter;
 
 /**
@@ -409,7 +410,7 @@ public class ReportCommand implements Callable<Integer> {
         
         // If not already an absolute path, make it absolute
         if (!baseFile.isAbsolute()) {
-            String projectRoot = System.getProperty("user.dir");
+            String projectRoot = InvocationContext.workingDirectory();
             baseFile = new File(projectRoot, basePath);
             absolutePath = baseFile.getAbsolutePath();
         }
@@ -31,6 +31,7 @@ import org.rinna.cli.service.ContextManager;
 import org.rinna.cli.service.MetadataService;
 import org.rinna.cli.service.MockReportService;
 import org.rinna.cli.service.ServiceManager;
+import org.rinna.cli.util.InvocationContext;
 import org.rinna.cli.util.OutputFormatter;
 
 /**
@@ -914,7 +915,7 @@ public class ScheduleCommand implements Callable<Integer> {
         
         // If not already an absolute path, make it absolute
         if (!baseFile.isAbsolute()) {
-            String projectRoot = System.getProperty("user.dir");
+            String projectRoot = InvocationContext.workingDirectory();
             baseFile = new File(projectRoot, basePath);
             absolutePath = baseFile.getAbsolutePath();
         }
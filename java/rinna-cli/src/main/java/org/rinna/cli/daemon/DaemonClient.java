@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ *
+ * Developed with analytical assistance from AI tools.
+ * All rights reserved.
+ *
+ * This source code is licensed under the MIT License
+ * found in the LICENSE file in the root directory of this source tree.
+ */
+package org.rinna.cli.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+
+import org.rinna.cli.service.ConfigurationService;
+
+/**
+ * Forwards rin commands to a running daemon and relays its output.
+ *
+ * <p>Forwarding is opt-in: it only happens while a daemon started with
+ * {@code rin daemon start} has its socket open, and it can be turned off for a
+ * single shell by setting the {@value #DISABLE_ENV} environment variable.
+ * The client's working directory and environment are sent with each command.
+ * Commands that read the terminal or open files by relative path always run
+ * in-process.</p>
+ *
+ * <p>If the daemon cannot be reached, or the connection fails before the daemon
+ * accepts the command, the command runs in-process unless the
+ * {@value #FALLBACK_PROPERTY} configuration property is {@code false}, in which
+ * case the command fails instead. Once the daemon has accepted a command it is
+ * never run a second time in-process.</p>
+ */
+public final class DaemonClient {
+
+    /** Environment variable that disables forwarding when set. */
+    public static final String DISABLE_ENV = "RIN_NO_DAEMON";
+
+    /** Configuration property controlling the in-process fallback. */
+    public static final String FALLBACK_PROPERTY = "daemon.fallback";
+
+    /**
+     * Commands that prompt on the terminal or take paths relative to the
+     * working directory, plus the daemon command itself.
+     */
+    private static final Set<String> LOCAL_COMMANDS = Set.of(
+        "daemon", "login", "edit", "undo", "admin", "import", "report", "schedule");
+
+    private final Path socketPath;
+
+    /**
+     * Creates a client for the given socket.
+     *
+     * @param socketPath the daemon socket
+     */
+    public DaemonClient(Path socketPath) {
+        this.socketPath = socketPath;
+    }
+
+    /**
+     * Runs a command line in the daemon if one is running and the command can be forwarded.
+     *
+     * @param args the command line arguments
+     * @return the exit code, or null if the command should run in-process
+     */
+    public static Integer forward(String[] args) {
+        if (args.length == 0 || LOCAL_COMMANDS.contains(args[0]) || System.getenv(DISABLE_ENV) != null) {
+            return null;
+        }
+        Path socketPath = DaemonProtocol.defaultSocketPath();
+        if (!Files.exists(socketPath)) {
+            return null;
+        }
+        try {
+            return new DaemonClient(socketPath).execute(args, System.out, System.err);
+        } catch (IOException e) {
+            if (isFallbackEnabled()) {
+                return null;
+            }
+            System.err.println("Error: rin daemon at " + socketPath + " is not reachable: " + e.getMessage());
+            System.err.println("Run 'rin daemon stop' or set " + FALLBACK_PROPERTY + "=true to run commands in-process");
+            return 1;
+        }
+    }
+
+    /**
+     * Sends a command line to the daemon, with this process's working directory and
+     * environment, and copies its output to the given streams.
+     *
+     * @param args the command line arguments
+     * @param out where to write the command's standard output
+     * @param err where to write the command's standard error
+     * @return the exit code, or null if the daemon rejected the command
+     * @throws IOException if the daemon cannot be reached before it accepts the command
+     */
+    public Integer execute(String[] args, PrintStream out, PrintStream err) throws IOException {
+        return execute(new DaemonProtocol.Request(args,
+            Paths.get("").toAbsolutePath().toString(), System.getenv()), out, err);
+    }
+
+    /**
+     * Sends a request to the daemon and copies the command's output to the given streams.
+     *
+     * @param request the command line, working directory and environment to run it with
+     * @param out where to write the command's standard output
+     * @param err where to write the command's standard error
+     * @return the exit code, or null if the daemon rejected the command
+     * @throws IOException if the daemon cannot be reached before it accepts the command,
+     *                     in which case the command has not run
+     */
+    public Integer execute(DaemonProtocol.Request request, PrintStream out, PrintStream err) throws IOException {
+        try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+            DaemonProtocol.writeRequest(
+                new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel))), request);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+
+            int first = in.readUnsignedByte();
+            if (first == DaemonProtocol.REJECTED) {
+                return null;
+            }
+            if (first != DaemonProtocol.ACCEPTED) {
+                throw new IOException("Unexpected response from rin daemon");
+            }
+
+            byte[] buffer = new byte[8192];
+            try {
+                while (true) {
+                    int type = in.readUnsignedByte();
+                    if (type == DaemonProtocol.EXIT) {
+                        out.flush();
+                        err.flush();
+                        return in.readInt();
+                    }
+                    PrintStream target = type == DaemonProtocol.STDERR ? err : out;
+                    int remaining = in.readInt();
+                    while (remaining > 0) {
+                        int read = in.read(buffer, 0, Math.min(buffer.length, remaining));
+                        if (read < 0) {
+                            throw new EOFException();
+                        }
+                        target.write(buffer, 0, read);
+                        remaining -= read;
+                    }
+                }
+            } catch (IOException e) {
+                // The daemon accepted the command, so it may have run; running it
+                // again in-process could repeat its output and side effects
+                out.flush();
+                err.println("Error: lost connection to rin daemon: " + e.getMessage());
+                return 1;
+            }
+        }
+    }
+
+    /**
+     * Checks whether a daemon is listening on this client's socket.
+     *
+     * @return true if a daemon accepted a connection
+     */
+    public boolean isDaemonRunning() {
+        if (!Files.exists(socketPath)) {
+            return false;
+        }
+        try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+            return channel.isConnected();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static boolean isFallbackEnabled() {
+        return Boolean.parseBoolean(ConfigurationService.getInstance().getProperty(FALLBACK_PROPERTY, "true"));
+    }
+}
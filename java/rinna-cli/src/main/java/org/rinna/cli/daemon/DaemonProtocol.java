@@ -0,0 +1,196 @@
+/**
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ *
+ * Developed with analytical assistance from AI tools.
+ * All rights reserved.
+ *
+ * This source code is licensed under the MIT License
+ * found in the LICENSE file in the root directory of this source tree.
+ */
+package org.rinna.cli.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Wire format shared by the rin daemon and its clients.
+ *
+ * <p>A client sends one request per connection: the protocol version, the
+ * client's working directory, its environment as a count of name and value
+ * pairs, and the argument count followed by each argument. Strings are sent
+ * as a length and that many bytes of UTF-8. The daemon answers with a stream
+ * of frames, each starting with a one-byte type:</p>
+ * <ul>
+ *   <li>{@link #ACCEPTED}: the daemon is about to run the command; it is the first
+ *       frame of every response that runs a command</li>
+ *   <li>{@link #STDOUT} and {@link #STDERR}: a length and that many bytes of output</li>
+ *   <li>{@link #EXIT}: the exit code, which ends the response</li>
+ *   <li>{@link #REJECTED}: the daemon will not run the command, which also ends
+ *       the response; the client runs it in-process instead</li>
+ * </ul>
+ *
+ * <p>A client that loses the connection before {@link #ACCEPTED} knows the
+ * command did not run and may run it in-process. After it, the command may
+ * have run, so running it again could repeat its side effects.</p>
+ */
+public final class DaemonProtocol {
+
+    /** Protocol version sent with each request. */
+    public static final int VERSION = 2;
+
+    /** Frame carrying standard output bytes. */
+    public static final int STDOUT = 1;
+
+    /** Frame carrying standard error bytes. */
+    public static final int STDERR = 2;
+
+    /** Frame carrying the exit code. */
+    public static final int EXIT = 3;
+
+    /** Frame telling the client to run the command itself. */
+    public static final int REJECTED = 4;
+
+    /** Frame telling the client that the command is about to run. */
+    public static final int ACCEPTED = 5;
+
+    private static final String SOCKET_FILENAME = "daemon.sock";
+    private static final int MAX_STRING_BYTES = 1 << 20;
+
+    // Private constructor to prevent instantiation
+    private DaemonProtocol() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Gets the default socket path, in the user's Rinna configuration directory.
+     *
+     * @return the socket path
+     */
+    public static Path defaultSocketPath() {
+        return Paths.get(System.getProperty("user.home"), ".rinna", SOCKET_FILENAME);
+    }
+
+    /**
+     * A command line together with the working directory and environment of the
+     * shell that invoked it.
+     *
+     * @param args the command line arguments
+     * @param workingDirectory the absolute working directory of the client
+     * @param environment the environment of the client
+     */
+    public record Request(String[] args, String workingDirectory, Map<String, String> environment) {
+    }
+
+    /**
+     * Writes a request.
+     *
+     * @param out the stream to write to
+     * @param request the request
+     * @throws IOException if the request cannot be written
+     */
+    public static void writeRequest(DataOutputStream out, Request request) throws IOException {
+        out.writeInt(VERSION);
+        writeString(out, request.workingDirectory());
+        out.writeInt(request.environment().size());
+        for (Map.Entry<String, String> variable : request.environment().entrySet()) {
+            writeString(out, variable.getKey());
+            writeString(out, variable.getValue());
+        }
+        out.writeInt(request.args().length);
+        for (String arg : request.args()) {
+            writeString(out, arg);
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads a request.
+     *
+     * @param in the stream to read from
+     * @return the request, or null if the request uses another protocol version
+     * @throws IOException if the request cannot be read
+     */
+    public static Request readRequest(DataInputStream in) throws IOException {
+        if (in.readInt() != VERSION) {
+            return null;
+        }
+        String workingDirectory = readString(in);
+        int variables = in.readInt();
+        Map<String, String> environment = new HashMap<>();
+        for (int i = 0; i < variables; i++) {
+            environment.put(readString(in), readString(in));
+        }
+        String[] args = new String[in.readInt()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = readString(in);
+        }
+        return new Request(args, workingDirectory, environment);
+    }
+
+    // Modified UTF-8 limits strings to 64 KB, which environment values can exceed
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_STRING_BYTES) {
+            throw new IOException("Invalid string length in request: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Output stream that sends everything written to it as frames of one type.
+     * Closing it flushes the underlying stream but leaves it open.
+     */
+    static final class FrameOutputStream extends OutputStream {
+        private final DataOutputStream out;
+        private final int type;
+
+        FrameOutputStream(DataOutputStream out, int type) {
+            this.out = out;
+            this.type = type;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return;
+            }
+            synchronized (out) {
+                out.writeByte(type);
+                out.writeInt(len);
+                out.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (out) {
+                out.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,275 @@
+/**
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ *
+ * Developed with analytical assistance from AI tools.
+ * All rights reserved.
+ *
+ * This source code is licensed under the MIT License
+ * found in the LICENSE file in the root directory of this source tree.
+ */
+package org.rinna.cli.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.ToIntFunction;
+
+import org.rinna.cli.util.InvocationContext;
+
+/**
+ * Resident rin process that runs forwarded commands against a warm service graph.
+ *
+ * <p>The daemon listens on a Unix domain socket that only the owning user can
+ * reach through their home directory. Commands run one at a time on the accept
+ * thread, because the CLI services are not thread-safe. While the daemon runs,
+ * {@code System.out} and {@code System.err} route output to the request being
+ * served on the current thread, which sends it back to the client as
+ * {@link DaemonProtocol} frames, and to the daemon's own streams otherwise.
+ * Standard input is empty. Each command sees the client's working directory
+ * and environment through {@link InvocationContext}.</p>
+ *
+ * <p>The daemon stops when it receives {@code rin daemon stop}, or when no request
+ * has arrived for the idle timeout.</p>
+ */
+public final class DaemonServer {
+
+    /** Configuration property holding the idle timeout in minutes; 0 disables it. */
+    public static final String IDLE_TIMEOUT_PROPERTY = "daemon.idle.timeout.minutes";
+
+    /** Idle timeout used when none is configured. */
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    private static final InputStream NO_INPUT = new ByteArrayInputStream(new byte[0]);
+
+    private final RoutingOutputStream stdout = new RoutingOutputStream();
+    private final RoutingOutputStream stderr = new RoutingOutputStream();
+
+    private final Path socketPath;
+    private final Duration idleTimeout;
+    private final ToIntFunction<String[]> executor;
+
+    private volatile boolean running;
+    private volatile Selector selector;
+    private long commandsServed;
+    private long startedAt;
+
+    /**
+     * Creates a daemon server.
+     *
+     * @param socketPath the socket to listen on
+     * @param idleTimeout how long to wait for a request before stopping, or zero to wait forever
+     * @param executor runs a command line and returns its exit code
+     */
+    public DaemonServer(Path socketPath, Duration idleTimeout, ToIntFunction<String[]> executor) {
+        this.socketPath = socketPath;
+        this.idleTimeout = idleTimeout;
+        this.executor = executor;
+    }
+
+    /**
+     * Serves requests until the daemon is stopped or idles out.
+     *
+     * @throws IOException if the socket cannot be bound
+     */
+    public void run() throws IOException {
+        Files.createDirectories(socketPath.toAbsolutePath().getParent());
+        // A socket file left by a daemon that was killed would make bind fail
+        Files.deleteIfExists(socketPath);
+
+        PrintStream originalOut = System.out;
+        PrintStream originalErr = System.err;
+        InputStream originalIn = System.in;
+        stdout.fallback = originalOut;
+        stderr.fallback = originalErr;
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+             Selector acceptSelector = Selector.open()) {
+            server.bind(UnixDomainSocketAddress.of(socketPath));
+            server.configureBlocking(false);
+            server.register(acceptSelector, SelectionKey.OP_ACCEPT);
+            // Installed once, so streams cached by commands keep routing to the current request
+            System.setOut(new PrintStream(stdout, true, StandardCharsets.UTF_8));
+            System.setErr(new PrintStream(stderr, true, StandardCharsets.UTF_8));
+            System.setIn(NO_INPUT);
+            selector = acceptSelector;
+            running = true;
+            startedAt = System.currentTimeMillis();
+
+            long idleMillis = idleTimeout.toMillis();
+            long lastRequest = System.nanoTime();
+            while (running) {
+                acceptSelector.select(idleMillis);
+                acceptSelector.selectedKeys().clear();
+                SocketChannel client = server.accept();
+                if (client == null) {
+                    if (idleMillis > 0
+                            && Duration.ofNanos(System.nanoTime() - lastRequest).compareTo(idleTimeout) >= 0) {
+                        running = false;
+                    }
+                    continue;
+                }
+                try (client) {
+                    client.configureBlocking(true);
+                    handle(client);
+                } catch (IOException e) {
+                    // The client went away; nothing to send the error to
+                }
+                lastRequest = System.nanoTime();
+            }
+        } finally {
+            running = false;
+            System.setOut(originalOut);
+            System.setErr(originalErr);
+            System.setIn(originalIn);
+            Files.deleteIfExists(socketPath);
+        }
+    }
+
+    /**
+     * Asks the daemon to stop after the current request.
+     */
+    public void stop() {
+        running = false;
+        Selector current = selector;
+        if (current != null) {
+            current.wakeup();
+        }
+    }
+
+    /**
+     * Checks whether the daemon is serving requests.
+     *
+     * @return true if the daemon is running
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void handle(SocketChannel client) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(client)));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(client)));
+
+        DaemonProtocol.Request request = DaemonProtocol.readRequest(in);
+        if (request == null || request.args().length == 0 || !running) {
+            out.writeByte(DaemonProtocol.REJECTED);
+            out.flush();
+            return;
+        }
+        out.writeByte(DaemonProtocol.ACCEPTED);
+        out.flush();
+
+        int exitCode = execute(request, out);
+        commandsServed++;
+        out.writeByte(DaemonProtocol.EXIT);
+        out.writeInt(exitCode);
+        out.flush();
+    }
+
+    private int execute(DaemonProtocol.Request request, DataOutputStream frames) throws IOException {
+        String[] args = request.args();
+        OutputStream out = new BufferedOutputStream(new DaemonProtocol.FrameOutputStream(frames, DaemonProtocol.STDOUT));
+        OutputStream err = new BufferedOutputStream(new DaemonProtocol.FrameOutputStream(frames, DaemonProtocol.STDERR));
+        stdout.route(out);
+        stderr.route(err);
+        try {
+            return new InvocationContext(request.workingDirectory(), request.environment()).run(() -> {
+                try {
+                    return "daemon".equals(args[0]) ? control(args) : executor.applyAsInt(args);
+                } catch (Throwable e) {
+                    System.err.println("Error: " + (e.getMessage() != null ? e.getMessage() : e.toString()));
+                    if (e instanceof VirtualMachineError && !(e instanceof StackOverflowError)) {
+                        // The warm state can no longer be trusted
+                        stop();
+                    }
+                    return 1;
+                }
+            });
+        } finally {
+            System.out.flush();
+            System.err.flush();
+            stdout.route(null);
+            stderr.route(null);
+            out.flush();
+            err.flush();
+        }
+    }
+
+    /**
+     * Output stream that writes to the stream routed to the current thread, or
+     * to the daemon's own stream when no request is being served on it.
+     */
+    private static final class RoutingOutputStream extends OutputStream {
+        private final ThreadLocal<OutputStream> routed = new ThreadLocal<>();
+        private volatile OutputStream fallback;
+
+        void route(OutputStream target) {
+            if (target == null) {
+                routed.remove();
+            } else {
+                routed.set(target);
+            }
+        }
+
+        private OutputStream target() {
+            OutputStream target = routed.get();
+            return target != null ? target : fallback;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            target().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            target().write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            target().flush();
+        }
+    }
+
+    /**
+     * Handles the daemon management commands that a running daemon answers itself.
+     */
+    private int control(String[] args) {
+        String subcommand = args.length > 1 ? args[1] : "status";
+        switch (subcommand) {
+            case "stop":
+                stop();
+                System.out.println("Rinna daemon stopped");
+                return 0;
+            case "status":
+                System.out.println("Rinna daemon is running");
+                System.out.println("  PID:            " + ProcessHandle.current().pid());
+                System.out.println("  Socket:         " + socketPath);
+                System.out.println("  Uptime:         "
+                    + Duration.ofMillis(System.currentTimeMillis() - startedAt).toSeconds() + "s");
+                System.out.println("  Commands:       " + commandsServed);
+                System.out.println("  Idle timeout:   "
+                    + (idleTimeout.isZero() ? "none" : idleTimeout.toMinutes() + "m"));
+                return 0;
+            default:
+                System.err.println("Error: 'rin daemon " + subcommand + "' cannot run inside the daemon");
+                return 1;
+        }
+    }
+}
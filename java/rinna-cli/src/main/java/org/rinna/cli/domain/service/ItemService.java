@@ -9,6 +9,8 @@
  */
 package org.rinna.cli.domain.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -43,6 +45,21 @@ public interface ItemService {
      */
     Optional<DomainWorkItem> findById(UUID id);
     
+    /**
+     * Finds the work items with the given IDs in one call.
+     * IDs that do not exist are skipped; the result follows the order of the IDs.
+     * 
+     * @param ids the IDs of the work items
+     * @return the work items that were found
+     */
+    default List<DomainWorkItem> findAllById(Collection<UUID> ids) {
+        List<DomainWorkItem> result = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            findById(id).ifPresent(result::add);
+        }
+        return result;
+    }
+    
     /**
      * Finds all work items.
      * 
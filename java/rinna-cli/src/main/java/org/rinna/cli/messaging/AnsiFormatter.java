@@ -9,6 +9,8 @@
  */
 package org.rinna.cli.messaging;
 
+import org.rinna.cli.util.InvocationContext;
+
 /**
  * Utility class for working with ANSI escape sequences for BBS-style message formatting.
  * Provides methods for rendering colorful text and special effects in terminal.
@@ -293,9 +295,9 @@ public class AnsiFormatter {
      * @return true if ANSI is supported, false otherwise
      */
     private static boolean isAnsiSupported() {
-        String term = System.getenv("TERM");
-        String colorterm = System.getenv("COLORTERM");
-        String forceColor = System.getenv("FORCE_COLOR");
+        String term = InvocationContext.getenv("TERM");
+        String colorterm = InvocationContext.getenv("COLORTERM");
+        String forceColor = InvocationContext.getenv("FORCE_COLOR");
         
         return (term != null && (term.contains("color") || term.contains("ansi") || term.equals("xterm"))) ||
                (colorterm != null) ||
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ *
+ * Developed with analytical assistance from AI tools.
+ * All rights reserved.
+ *
+ * This source code is licensed under the MIT License
+ * found in the LICENSE file in the root directory of this source tree.
+ */
+package org.rinna.cli.messaging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Indexed inbox for a single user.
+ *
+ * <p>Messages are kept in arrival order in a slot list. Deleted messages
+ * leave an empty slot so positions stay stable, and the slots are compacted
+ * once more than half of them are empty. Secondary indexes map sender and
+ * project to slot positions, and the unread index holds the positions of
+ * unread messages, so filtered queries cost the size of their result rather
+ * than the size of the inbox. The unread index is the only record of read
+ * state, so {@link #unread()} and {@link #unreadCount()} always agree; a
+ * message's status must be changed through {@link #markRead(String)}.</p>
+ *
+ * <p>Not thread-safe; {@link MessageStore} serializes access.</p>
+ */
+final class Mailbox {
+    private List<RinnaMessage> slots = new ArrayList<>();
+    private final Map<String, Integer> positions = new HashMap<>();
+    private final Map<String, List<Integer>> bySender = new HashMap<>();
+    private final Map<String, List<Integer>> byProject = new HashMap<>();
+    private final NavigableSet<Integer> unread = new TreeSet<>();
+
+    int size() {
+        return positions.size();
+    }
+
+    int unreadCount() {
+        return unread.size();
+    }
+
+    boolean contains(String messageId) {
+        return positions.containsKey(messageId);
+    }
+
+    RinnaMessage get(String messageId) {
+        Integer position = positions.get(messageId);
+        return position == null ? null : slots.get(position);
+    }
+
+    void add(RinnaMessage message) {
+        if (positions.containsKey(message.getId())) {
+            remove(message.getId());
+        }
+        int position = slots.size();
+        slots.add(message);
+        index(message, position);
+    }
+
+    boolean markRead(String messageId) {
+        Integer position = positions.get(messageId);
+        if (position == null) {
+            return false;
+        }
+        slots.get(position).setStatus(MessageStatus.READ);
+        unread.remove(position);
+        return true;
+    }
+
+    boolean remove(String messageId) {
+        Integer position = positions.remove(messageId);
+        if (position == null) {
+            return false;
+        }
+        slots.set(position, null);
+        unread.remove(position);
+        if (slots.size() > 16 && positions.size() < slots.size() / 2) {
+            compact();
+        }
+        return true;
+    }
+
+    List<RinnaMessage> all() {
+        List<RinnaMessage> result = new ArrayList<>(positions.size());
+        for (RinnaMessage message : slots) {
+            if (message != null) {
+                result.add(message);
+            }
+        }
+        return result;
+    }
+
+    List<RinnaMessage> unread() {
+        List<RinnaMessage> result = new ArrayList<>(unread.size());
+        for (Integer position : unread) {
+            result.add(slots.get(position));
+        }
+        return result;
+    }
+
+    List<RinnaMessage> bySender(String sender) {
+        return resolve(bySender.getOrDefault(sender, Collections.emptyList()));
+    }
+
+    List<RinnaMessage> byProject(String project) {
+        return resolve(byProject.getOrDefault(project, Collections.emptyList()));
+    }
+
+    /**
+     * Returns a page of messages, newest first.
+     */
+    List<RinnaMessage> page(int offset, int limit) {
+        List<RinnaMessage> result = new ArrayList<>(Math.min(limit, positions.size()));
+        int skipped = 0;
+        for (int i = slots.size() - 1; i >= 0 && result.size() < limit; i--) {
+            RinnaMessage message = slots.get(i);
+            if (message == null) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                result.add(message);
+            }
+        }
+        return result;
+    }
+
+    private List<RinnaMessage> resolve(List<Integer> indexed) {
+        List<RinnaMessage> result = new ArrayList<>(indexed.size());
+        for (Integer position : indexed) {
+            RinnaMessage message = slots.get(position);
+            if (message != null) {
+                result.add(message);
+            }
+        }
+        return result;
+    }
+
+    private void index(RinnaMessage message, int position) {
+        positions.put(message.getId(), position);
+        bySender.computeIfAbsent(message.getSender(), k -> new ArrayList<>()).add(position);
+        byProject.computeIfAbsent(message.getProject(), k -> new ArrayList<>()).add(position);
+        if (message.getStatus() == MessageStatus.UNREAD) {
+            unread.add(position);
+        }
+    }
+
+    private void compact() {
+        List<RinnaMessage> live = all();
+        slots = new ArrayList<>(live.size());
+        positions.clear();
+        bySender.clear();
+        byProject.clear();
+        unread.clear();
+        for (RinnaMessage message : live) {
+            int position = slots.size();
+            slots.add(message);
+            index(message, position);
+        }
+    }
+}
@@ -58,6 +58,31 @@ public interface MessageService {
      */
     List<RinnaMessage> getUnreadMessagesForUser(String username);
     
+    /**
+     * Gets the number of unread messages for a user.
+     *
+     * @param username the username
+     * @return the number of unread messages
+     */
+    default int getUnreadMessageCount(String username) {
+        return getUnreadMessagesForUser(username).size();
+    }
+    
+    /**
+     * Gets a page of messages for a user, newest first.
+     *
+     * @param username the username
+     * @param offset   the number of messages to skip
+     * @param limit    the maximum number of messages to return
+     * @return the page of messages
+     */
+    default List<RinnaMessage> getMessagesForUser(String username, int offset, int limit) {
+        List<RinnaMessage> messages = new java.util.ArrayList<>(getMessagesForUser(username));
+        java.util.Collections.reverse(messages);
+        int from = Math.min(offset, messages.size());
+        return messages.subList(from, Math.min(from + limit, messages.size()));
+    }
+    
     /**
      * Gets messages for a user filtered by sender.
      *
@@ -0,0 +1,352 @@
+/**
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ *
+ * Developed with analytical assistance from AI tools.
+ * All rights reserved.
+ *
+ * This source code is licensed under the MIT License
+ * found in the LICENSE file in the root directory of this source tree.
+ */
+package org.rinna.cli.messaging;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.rinna.cli.util.RecordCodec;
+
+/**
+ * Local message store with one indexed {@link Mailbox} per recipient.
+ *
+ * <p>When created with a directory, each mailbox is persisted as an
+ * append-only file of message, read and delete records, and is only loaded
+ * when its user is first accessed. A mailbox file is rewritten on load once
+ * its read and delete records outnumber its live messages. Without a
+ * directory the store is purely in memory.</p>
+ */
+public final class MessageStore {
+    private static final String MAILBOX_SUFFIX = ".mbox";
+    private static final String RECORD_MESSAGE = "M";
+    private static final String RECORD_READ = "R";
+    private static final String RECORD_DELETE = "D";
+
+    private final Path directory;
+    private final Map<String, Mailbox> mailboxes = new HashMap<>();
+    private final Map<String, String> recipientsById = new HashMap<>();
+    private boolean allLoaded;
+
+    /**
+     * Creates an in-memory message store.
+     */
+    public MessageStore() {
+        this.directory = null;
+        this.allLoaded = true;
+    }
+
+    /**
+     * Creates a message store persisted in the given directory.
+     *
+     * @param directory the directory holding the mailbox files
+     */
+    public MessageStore(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create message store in " + directory, e);
+        }
+    }
+
+    /**
+     * Adds a message to its recipient's mailbox.
+     *
+     * @param message the message to add
+     */
+    public synchronized void add(RinnaMessage message) {
+        String recipient = message.getRecipient();
+        mailbox(recipient).add(message);
+        recipientsById.put(message.getId(), recipient);
+        append(recipient, encode(message));
+    }
+
+    /**
+     * Gets a message by ID.
+     *
+     * @param messageId the message ID
+     * @return the message, or null if not found
+     */
+    public synchronized RinnaMessage get(String messageId) {
+        String recipient = locate(messageId);
+        return recipient == null ? null : mailbox(recipient).get(messageId);
+    }
+
+    /**
+     * Marks a message as read.
+     *
+     * @param messageId the message ID
+     * @return true if the message exists
+     */
+    public synchronized boolean markRead(String messageId) {
+        String recipient = locate(messageId);
+        if (recipient == null) {
+            return false;
+        }
+        Mailbox mailbox = mailbox(recipient);
+        boolean wasUnread = mailbox.get(messageId).getStatus() == MessageStatus.UNREAD;
+        mailbox.markRead(messageId);
+        if (wasUnread) {
+            append(recipient, RecordCodec.encode(RECORD_READ, messageId));
+        }
+        return true;
+    }
+
+    /**
+     * Deletes a message from a user's mailbox.
+     *
+     * @param messageId the message ID
+     * @param username the mailbox owner
+     * @return true if the message was in the user's mailbox and was deleted
+     */
+    public synchronized boolean delete(String messageId, String username) {
+        if (!mailbox(username).remove(messageId)) {
+            return false;
+        }
+        recipientsById.remove(messageId);
+        append(username, RecordCodec.encode(RECORD_DELETE, messageId));
+        return true;
+    }
+
+    /**
+     * Gets all messages for a user in arrival order.
+     *
+     * @param username the mailbox owner
+     * @return the messages
+     */
+    public synchronized List<RinnaMessage> getAll(String username) {
+        return mailbox(username).all();
+    }
+
+    /**
+     * Gets unread messages for a user in arrival order.
+     *
+     * @param username the mailbox owner
+     * @return the unread messages
+     */
+    public synchronized List<RinnaMessage> getUnread(String username) {
+        return mailbox(username).unread();
+    }
+
+    /**
+     * Gets the number of unread messages for a user without materializing them.
+     *
+     * @param username the mailbox owner
+     * @return the unread count
+     */
+    public synchronized int getUnreadCount(String username) {
+        return mailbox(username).unreadCount();
+    }
+
+    /**
+     * Gets messages for a user from a sender in arrival order.
+     *
+     * @param username the mailbox owner
+     * @param sender the sender
+     * @return the matching messages
+     */
+    public synchronized List<RinnaMessage> getBySender(String username, String sender) {
+        return mailbox(username).bySender(sender);
+    }
+
+    /**
+     * Gets messages for a user about a project in arrival order.
+     *
+     * @param username the mailbox owner
+     * @param project the project name
+     * @return the matching messages
+     */
+    public synchronized List<RinnaMessage> getByProject(String username, String project) {
+        return mailbox(username).byProject(project);
+    }
+
+    /**
+     * Gets a page of messages for a user, newest first.
+     *
+     * @param username the mailbox owner
+     * @param offset the number of messages to skip
+     * @param limit the maximum number of messages to return
+     * @return the page of messages
+     */
+    public synchronized List<RinnaMessage> getPage(String username, int offset, int limit) {
+        return mailbox(username).page(offset, limit);
+    }
+
+    /**
+     * Checks whether the store holds any messages. Mailboxes are loaded one at
+     * a time, stopping at the first that holds a message, and empty mailbox
+     * files are skipped without being read.
+     *
+     * @return true if no mailbox contains a message
+     */
+    public synchronized boolean isEmpty() {
+        if (!recipientsById.isEmpty() || allLoaded) {
+            return recipientsById.isEmpty();
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + MAILBOX_SUFFIX)) {
+            for (Path path : stream) {
+                if (Files.size(path) > 0 && mailbox(username(path)).size() > 0) {
+                    return false;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list mailboxes in " + directory, e);
+        }
+        return true;
+    }
+
+    private String locate(String messageId) {
+        String recipient = recipientsById.get(messageId);
+        if (recipient == null && !allLoaded) {
+            loadAll();
+            recipient = recipientsById.get(messageId);
+        }
+        return recipient;
+    }
+
+    private Mailbox mailbox(String username) {
+        Mailbox mailbox = mailboxes.get(username);
+        if (mailbox == null) {
+            mailbox = directory == null ? new Mailbox() : load(username);
+            mailboxes.put(username, mailbox);
+        }
+        return mailbox;
+    }
+
+    private void loadAll() {
+        if (allLoaded) {
+            return;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + MAILBOX_SUFFIX)) {
+            for (Path path : stream) {
+                mailbox(username(path));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list mailboxes in " + directory, e);
+        }
+        allLoaded = true;
+    }
+
+    private Mailbox load(String username) {
+        Mailbox mailbox = new Mailbox();
+        Path path = mailboxPath(username);
+        if (!Files.exists(path)) {
+            return mailbox;
+        }
+        int records = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                String[] fields = RecordCodec.decode(line);
+                switch (fields[0]) {
+                    case RECORD_MESSAGE -> mailbox.add(decode(fields));
+                    case RECORD_READ -> mailbox.markRead(fields[1]);
+                    case RECORD_DELETE -> mailbox.remove(fields[1]);
+                    default -> {
+                        // Unknown record types are skipped so older readers tolerate newer files
+                    }
+                }
+                records++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read mailbox " + path, e);
+        }
+        for (RinnaMessage message : mailbox.all()) {
+            recipientsById.put(message.getId(), username);
+        }
+        if (records > 2 * mailbox.size()) {
+            rewrite(username, mailbox);
+        }
+        return mailbox;
+    }
+
+    private void rewrite(String username, Mailbox mailbox) {
+        Path path = mailboxPath(username);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (RinnaMessage message : mailbox.all()) {
+                    writer.write(encode(message));
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot rewrite mailbox " + path, e);
+        }
+    }
+
+    private void append(String username, String record) {
+        if (directory == null) {
+            return;
+        }
+        try {
+            Files.writeString(mailboxPath(username), record + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write to mailbox of " + username, e);
+        }
+    }
+
+    private static String username(Path mailboxPath) {
+        String name = mailboxPath.getFileName().toString();
+        return URLDecoder.decode(name.substring(0, name.length() - MAILBOX_SUFFIX.length()), StandardCharsets.UTF_8);
+    }
+
+    private Path mailboxPath(String username) {
+        return directory.resolve(URLEncoder.encode(username, StandardCharsets.UTF_8) + MAILBOX_SUFFIX);
+    }
+
+    private static String encode(RinnaMessage message) {
+        return RecordCodec.encode(
+            RECORD_MESSAGE,
+            message.getId(),
+            message.getSender(),
+            message.getRecipient(),
+            message.getProject(),
+            message.getTimestamp() == null ? null : message.getTimestamp().toString(),
+            message.getStatus() == null ? null : message.getStatus().name(),
+            message.getInReplyTo(),
+            message.getContent()
+        );
+    }
+
+    private static RinnaMessage decode(String[] fields) {
+        RinnaMessage message = new RinnaMessage(
+            fields[1],
+            fields[2],
+            fields[3],
+            fields[8],
+            fields[4],
+            fields[5] == null ? null : Instant.parse(fields[5]),
+            fields[6] == null ? MessageStatus.UNREAD : MessageStatus.valueOf(fields[6])
+        );
+        message.setInReplyTo(fields[7]);
+        return message;
+    }
+}
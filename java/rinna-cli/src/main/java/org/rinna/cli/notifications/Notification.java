@@ -49,15 +49,35 @@ public class Notification {
      */
     public Notification(NotificationType type, String message, String source, 
                        String targetUser, String itemId, Priority priority) {
-        this.id = UUID.randomUUID();
+        this(UUID.randomUUID(), type, message, source, targetUser, Instant.now(), itemId, priority, false);
+    }
+    
+    /**
+     * Restores a notification with a known identity and creation time,
+     * for example when reading it back from persistent storage.
+     *
+     * @param id the notification ID
+     * @param type the notification type
+     * @param message the notification message
+     * @param source the source of the notification (user or system)
+     * @param targetUser the user who should receive the notification
+     * @param timestamp when the notification was created
+     * @param itemId the related work item ID, if any
+     * @param priority the priority of the notification
+     * @param read whether the notification has been read
+     */
+    public Notification(UUID id, NotificationType type, String message, String source,
+                       String targetUser, Instant timestamp, String itemId, Priority priority,
+                       boolean read) {
+        this.id = id;
         this.type = type;
         this.message = message;
         this.source = source;
         this.targetUser = targetUser;
-        this.timestamp = Instant.now();
+        this.timestamp = timestamp;
         this.itemId = itemId;
         this.priority = priority;
-        this.read = false;
+        this.read = read;
     }
     
     /**
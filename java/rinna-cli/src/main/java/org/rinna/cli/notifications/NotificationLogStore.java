@@ -0,0 +1,693 @@
+/*
+ * Append-only notification store for Rinna CLI
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+package org.rinna.cli.notifications;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.rinna.cli.notifications.Notification.Priority;
+import org.rinna.cli.util.RecordCodec;
+
+/**
+ * Append-only, segment-based persistent store for notifications.
+ *
+ * <p>Notifications are written as single-line records to numbered segment
+ * files holding at most {@code segmentCapacity} records each. Marking a
+ * notification as read never rewrites a segment; a marker is appended to a
+ * small read-marker file instead. A manifest records, for each sealed
+ * segment, which users still had unread notifications in it, so unread
+ * queries only open the segments that can contain a match plus the active
+ * segment.</p>
+ *
+ * <p>Compaction rewrites the segments with read markers folded into the
+ * records and expired notifications dropped. It runs automatically once the
+ * marker file reaches {@code compactionThreshold} entries, and explicitly
+ * when old notifications are cleared. The compacted segments are written as
+ * temporary files numbered after every existing segment, and the compaction is
+ * committed by atomically publishing a marker naming them. Until then the old
+ * segments and markers remain the store; once the marker exists, the new
+ * segments replace them. Opening a store finishes a committed compaction or
+ * discards an uncommitted one, so a crash at any point leaves one consistent
+ * generation.</p>
+ */
+public final class NotificationLogStore {
+    /** Default number of records per segment. */
+    public static final int DEFAULT_SEGMENT_CAPACITY = 1000;
+
+    /** Default number of read markers that triggers a compaction. */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String MANIFEST_FILE = "segments.idx";
+    private static final String MARKERS_FILE = "read-markers.log";
+    private static final String COMPACTION_FILE = "compaction.idx";
+
+    private static final String MARKER_READ = "R";
+    private static final String MARKER_USER_WATERMARK = "W";
+    private static final String MARKER_GLOBAL_WATERMARK = "A";
+    private static final int RECORD_FIELDS = 9;
+
+    private final Path directory;
+    private final int segmentCapacity;
+    private final int compactionThreshold;
+
+    // Sealed segment number -> users with unread notifications at seal time, with
+    // a null user standing for notifications without a target user.
+    // A null value means the segment is not in the manifest and must be scanned.
+    private final NavigableMap<Integer, Set<String>> sealedSegments = new TreeMap<>();
+    private final Set<UUID> readMarkers = new HashSet<>();
+    private final Map<String, Long> userWatermarks = new HashMap<>();
+    private long globalWatermark;
+    private int markerCount;
+    private int activeSegment;
+    private int activeCount = -1;
+
+    /**
+     * Opens a store in the given directory using default sizing.
+     *
+     * @param directory the directory holding the segment files
+     */
+    public NotificationLogStore(Path directory) {
+        this(directory, DEFAULT_SEGMENT_CAPACITY, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Opens a store in the given directory.
+     *
+     * @param directory the directory holding the segment files
+     * @param segmentCapacity the maximum number of records per segment
+     * @param compactionThreshold the number of read markers that triggers a compaction
+     */
+    public NotificationLogStore(Path directory, int segmentCapacity, int compactionThreshold) {
+        if (segmentCapacity <= 0) {
+            throw new IllegalArgumentException("Segment capacity must be positive");
+        }
+        if (compactionThreshold <= 0) {
+            throw new IllegalArgumentException("Compaction threshold must be positive");
+        }
+        this.directory = directory;
+        this.segmentCapacity = segmentCapacity;
+        this.compactionThreshold = compactionThreshold;
+        try {
+            Files.createDirectories(directory);
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open notification store in " + directory, e);
+        }
+    }
+
+    /**
+     * Appends a notification, using its current read flag.
+     *
+     * @param notification the notification to append
+     */
+    public synchronized void append(Notification notification) {
+        appendAll(Collections.singletonList(notification));
+    }
+
+    /**
+     * Appends notifications in order, using their current read flags.
+     *
+     * @param notifications the notifications to append
+     */
+    public synchronized void appendAll(Collection<Notification> notifications) {
+        try {
+            ensureActiveCount();
+            BufferedWriter writer = null;
+            try {
+                for (Notification notification : notifications) {
+                    if (activeCount >= segmentCapacity) {
+                        if (writer != null) {
+                            writer.close();
+                            writer = null;
+                        }
+                        sealActiveSegment();
+                    }
+                    if (writer == null) {
+                        writer = Files.newBufferedWriter(segmentPath(activeSegment), StandardCharsets.UTF_8,
+                                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                    }
+                    writer.write(encode(notification));
+                    writer.newLine();
+                    activeCount++;
+                }
+            } finally {
+                if (writer != null) {
+                    writer.close();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append notifications", e);
+        }
+    }
+
+    /**
+     * Marks a single notification as read.
+     *
+     * @param id the notification ID
+     * @return true if the notification exists and was unread
+     */
+    public synchronized boolean markRead(UUID id) {
+        for (Integer segment : unreadCandidates(null).descendingSet()) {
+            for (Notification notification : readSegment(segment)) {
+                if (notification.getId().equals(id)) {
+                    if (notification.isRead()) {
+                        return false;
+                    }
+                    appendMarker(MARKER_READ + "\t" + id);
+                    readMarkers.add(id);
+                    compactIfNeeded();
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Marks every notification currently in the store as read, either for
+     * one user or for all users.
+     *
+     * @param user the target user, or null for all users
+     * @return the number of notifications that changed from unread to read
+     */
+    public synchronized int markAllRead(String user) {
+        int count = countUnread(user);
+        if (count == 0) {
+            return 0;
+        }
+        ensureActiveCount();
+        long watermark = position(activeSegment, activeCount);
+        if (user == null) {
+            appendMarker(MARKER_GLOBAL_WATERMARK + "\t" + watermark);
+            globalWatermark = watermark;
+            sealedSegments.replaceAll((segment, users) -> new HashSet<>());
+        } else {
+            appendMarker(MARKER_USER_WATERMARK + "\t" + RecordCodec.escape(user) + "\t" + watermark);
+            userWatermarks.put(user, watermark);
+            for (Set<String> users : sealedSegments.values()) {
+                if (users != null) {
+                    users.remove(user);
+                }
+            }
+        }
+        writeManifest();
+        compactIfNeeded();
+        return count;
+    }
+
+    /**
+     * Gets unread notifications in chronological order without reading
+     * segments that cannot contain unread notifications for the user.
+     *
+     * @param user the target user, or null for all users
+     * @return the unread notifications
+     */
+    public synchronized List<Notification> readUnread(String user) {
+        List<Notification> result = new ArrayList<>();
+        for (Integer segment : unreadCandidates(user)) {
+            forEachRecord(segment, notification -> {
+                if (!notification.isRead() && (user == null || user.equals(notification.getTargetUser()))) {
+                    result.add(notification);
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Counts unread notifications.
+     *
+     * @param user the target user, or null for all users
+     * @return the number of unread notifications
+     */
+    public synchronized int countUnread(String user) {
+        int[] count = {0};
+        for (Integer segment : unreadCandidates(user)) {
+            forEachRecord(segment, notification -> {
+                if (!notification.isRead() && (user == null || user.equals(notification.getTargetUser()))) {
+                    count[0]++;
+                }
+            });
+        }
+        return count[0];
+    }
+
+    /**
+     * Gets the newest notifications matching a filter, reading segments from
+     * newest to oldest and stopping once the page is full.
+     *
+     * @param limit the maximum number of notifications to return
+     * @param filter the filter to apply
+     * @return matching notifications, newest first
+     */
+    public synchronized List<Notification> readNewest(int limit, Predicate<Notification> filter) {
+        List<Notification> result = new ArrayList<>();
+        for (Integer segment : allSegments().descendingSet()) {
+            List<Notification> records = readSegment(segment);
+            for (int i = records.size() - 1; i >= 0; i--) {
+                if (result.size() >= limit) {
+                    return result;
+                }
+                if (filter.test(records.get(i))) {
+                    result.add(records.get(i));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets notifications created at or after a cutoff, reading only the
+     * newest segments needed to reach it.
+     *
+     * @param cutoff the earliest timestamp to include
+     * @return matching notifications in chronological order
+     */
+    public synchronized List<Notification> readSince(Instant cutoff) {
+        List<Notification> result = new ArrayList<>();
+        outer:
+        for (Integer segment : allSegments().descendingSet()) {
+            List<Notification> records = readSegment(segment);
+            for (int i = records.size() - 1; i >= 0; i--) {
+                if (records.get(i).getTimestamp().isBefore(cutoff)) {
+                    break outer;
+                }
+                result.add(records.get(i));
+            }
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * Gets every notification in chronological order.
+     *
+     * @return all notifications
+     */
+    public synchronized List<Notification> readAll() {
+        List<Notification> result = new ArrayList<>();
+        for (Integer segment : allSegments()) {
+            result.addAll(readSegment(segment));
+        }
+        return result;
+    }
+
+    /**
+     * Finds a notification by ID, searching the newest segments first.
+     *
+     * @param id the notification ID
+     * @return the notification, or null if not found
+     */
+    public synchronized Notification find(UUID id) {
+        List<Notification> match = readNewest(1, n -> n.getId().equals(id));
+        return match.isEmpty() ? null : match.get(0);
+    }
+
+    /**
+     * Rewrites the segments with read markers folded in, dropping
+     * notifications created before the cutoff.
+     *
+     * @param cutoff notifications older than this are removed, or null to keep all
+     * @return the number of notifications removed
+     */
+    public synchronized int compact(Instant cutoff) {
+        List<Notification> retained = new ArrayList<>();
+        int removed = 0;
+        for (Notification notification : readAll()) {
+            if (cutoff != null && notification.getTimestamp().isBefore(cutoff)) {
+                removed++;
+            } else {
+                retained.add(notification);
+            }
+        }
+
+        try {
+            // Number the new segments after every existing one so both generations can coexist
+            int base = activeSegment + 1;
+            NavigableMap<Integer, Set<String>> manifest = new TreeMap<>();
+            int count = 0;
+            for (int start = 0; start < retained.size(); start += segmentCapacity) {
+                int segment = base + count++;
+                List<Notification> chunk = retained.subList(start, Math.min(start + segmentCapacity, retained.size()));
+                try (BufferedWriter writer = Files.newBufferedWriter(tempSegmentPath(segment), StandardCharsets.UTF_8)) {
+                    for (Notification notification : chunk) {
+                        writer.write(encode(notification));
+                        writer.newLine();
+                    }
+                }
+                manifest.put(segment, unreadUsers(chunk));
+            }
+
+            // Publishing the marker commits the compaction; everything after it is redone on open
+            Path temp = directory.resolve(COMPACTION_FILE + TEMP_SUFFIX);
+            Files.writeString(temp, base + "\t" + count, StandardCharsets.UTF_8);
+            Files.move(temp, directory.resolve(COMPACTION_FILE),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            finishCompaction(base, count);
+
+            sealedSegments.clear();
+            resetMarkers();
+            activeSegment = count == 0 ? base : base + count - 1;
+            if (count == 0) {
+                activeCount = 0;
+            } else {
+                manifest.remove(activeSegment);
+                sealedSegments.putAll(manifest);
+                activeCount = retained.size() - (count - 1) * segmentCapacity;
+            }
+            writeManifest();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot compact notification store", e);
+        }
+        return removed;
+    }
+
+    /**
+     * Completes a committed compaction: moves the compacted segments into place,
+     * then removes the segments and read markers they replace and the commit marker.
+     * Every step can be repeated, so an interrupted run is finished by the next open.
+     *
+     * @param base the number of the first compacted segment
+     * @param count the number of compacted segments
+     */
+    private void finishCompaction(int base, int count) throws IOException {
+        for (int segment = base; segment < base + count; segment++) {
+            Path temp = tempSegmentPath(segment);
+            if (Files.exists(temp)) {
+                Files.move(temp, segmentPath(segment),
+                        StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        for (Integer segment : listSegments()) {
+            if (segment < base) {
+                Files.deleteIfExists(segmentPath(segment));
+            }
+        }
+        Files.deleteIfExists(directory.resolve(MARKERS_FILE));
+        Files.deleteIfExists(directory.resolve(COMPACTION_FILE));
+    }
+
+    /**
+     * Removes every notification and marker from the store.
+     */
+    public synchronized void clear() {
+        try {
+            for (Integer segment : allSegments()) {
+                Files.deleteIfExists(segmentPath(segment));
+            }
+            Files.deleteIfExists(directory.resolve(MANIFEST_FILE));
+            Files.deleteIfExists(directory.resolve(MARKERS_FILE));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot clear notification store", e);
+        }
+        sealedSegments.clear();
+        resetMarkers();
+        activeSegment = 1;
+        activeCount = 0;
+    }
+
+    private void open() throws IOException {
+        Path compaction = directory.resolve(COMPACTION_FILE);
+        if (Files.exists(compaction)) {
+            // The compaction was committed; finish replacing the old segments
+            String[] fields = Files.readString(compaction, StandardCharsets.UTF_8).trim().split("\t");
+            finishCompaction(Integer.parseInt(fields[0]), Integer.parseInt(fields[1]));
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + TEMP_SUFFIX)) {
+            for (Path path : stream) {
+                // Left over from an uncommitted compaction or manifest write; the originals are current
+                Files.deleteIfExists(path);
+            }
+        }
+
+        List<Integer> segments = listSegments();
+        activeSegment = segments.isEmpty() ? 1 : segments.get(segments.size() - 1);
+        for (Integer segment : segments) {
+            if (segment != activeSegment) {
+                sealedSegments.put(segment, null);
+            }
+        }
+
+        Path manifest = directory.resolve(MANIFEST_FILE);
+        if (Files.exists(manifest)) {
+            for (String line : Files.readAllLines(manifest, StandardCharsets.UTF_8)) {
+                String[] fields = RecordCodec.decode(line);
+                int segment = Integer.parseInt(fields[0]);
+                if (sealedSegments.containsKey(segment)) {
+                    Set<String> users = new HashSet<>();
+                    for (int i = 1; i < fields.length; i++) {
+                        users.add(fields[i]);
+                    }
+                    sealedSegments.put(segment, users);
+                }
+            }
+        }
+
+        Path markers = directory.resolve(MARKERS_FILE);
+        if (Files.exists(markers)) {
+            for (String line : Files.readAllLines(markers, StandardCharsets.UTF_8)) {
+                applyMarker(line);
+            }
+        }
+    }
+
+    private void applyMarker(String line) {
+        String[] fields = line.split("\t", -1);
+        switch (fields[0]) {
+            case MARKER_READ:
+                readMarkers.add(UUID.fromString(fields[1]));
+                break;
+            case MARKER_USER_WATERMARK:
+                userWatermarks.merge(RecordCodec.unescape(fields[1]), Long.parseLong(fields[2]), Math::max);
+                break;
+            case MARKER_GLOBAL_WATERMARK:
+                globalWatermark = Math.max(globalWatermark, Long.parseLong(fields[1]));
+                break;
+            default:
+                // Unknown marker types are ignored so older readers tolerate newer files
+                return;
+        }
+        markerCount++;
+    }
+
+    private void appendMarker(String line) {
+        try {
+            Files.writeString(directory.resolve(MARKERS_FILE), line + System.lineSeparator(),
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write read marker", e);
+        }
+        markerCount++;
+    }
+
+    private void compactIfNeeded() {
+        if (markerCount >= compactionThreshold) {
+            compact(null);
+        }
+    }
+
+    private void resetMarkers() {
+        readMarkers.clear();
+        userWatermarks.clear();
+        globalWatermark = 0;
+        markerCount = 0;
+    }
+
+    private void ensureActiveCount() {
+        if (activeCount < 0) {
+            activeCount = readSegment(activeSegment).size();
+        }
+    }
+
+    private void sealActiveSegment() {
+        sealedSegments.put(activeSegment, unreadUsers(readSegment(activeSegment)));
+        writeManifest();
+        activeSegment++;
+        activeCount = 0;
+    }
+
+    private void writeManifest() {
+        StringBuilder manifest = new StringBuilder();
+        for (Map.Entry<Integer, Set<String>> entry : sealedSegments.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            List<String> fields = new ArrayList<>();
+            fields.add(String.valueOf(entry.getKey()));
+            fields.addAll(entry.getValue());
+            manifest.append(RecordCodec.encode(fields.toArray(new String[0]))).append(System.lineSeparator());
+        }
+        try {
+            Path temp = directory.resolve(MANIFEST_FILE + TEMP_SUFFIX);
+            Files.writeString(temp, manifest, StandardCharsets.UTF_8);
+            Files.move(temp, directory.resolve(MANIFEST_FILE), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write notification manifest", e);
+        }
+    }
+
+    private static Set<String> unreadUsers(List<Notification> notifications) {
+        Set<String> users = new HashSet<>();
+        for (Notification notification : notifications) {
+            if (!notification.isRead()) {
+                users.add(notification.getTargetUser());
+            }
+        }
+        return users;
+    }
+
+    private NavigableSet<Integer> segmentsMatching(Predicate<Set<String>> include) {
+        NavigableSet<Integer> segments = new TreeSet<>();
+        for (Map.Entry<Integer, Set<String>> entry : sealedSegments.entrySet()) {
+            if (entry.getValue() == null || include.test(entry.getValue())) {
+                segments.add(entry.getKey());
+            }
+        }
+        if (Files.exists(segmentPath(activeSegment))) {
+            segments.add(activeSegment);
+        }
+        return segments;
+    }
+
+    private NavigableSet<Integer> allSegments() {
+        return segmentsMatching(users -> true);
+    }
+
+    private NavigableSet<Integer> unreadCandidates(String user) {
+        if (user == null) {
+            return segmentsMatching(users -> !users.isEmpty());
+        }
+        return segmentsMatching(users -> users.contains(user));
+    }
+
+    private List<Integer> listSegments() throws IOException {
+        List<Integer> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    segments.add(Integer.parseInt(
+                            name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+                }
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    private List<Notification> readSegment(int segment) {
+        List<Notification> records = new ArrayList<>();
+        forEachRecord(segment, records::add);
+        return records;
+    }
+
+    private void forEachRecord(int segment, Consumer<Notification> consumer) {
+        Path path = segmentPath(segment);
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            int index = 0;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                consumer.accept(decode(line, position(segment, index++)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read notification segment " + path, e);
+        }
+    }
+
+    private Path segmentPath(int segment) {
+        return directory.resolve(segmentFileName(segment));
+    }
+
+    private Path tempSegmentPath(int segment) {
+        return directory.resolve(segmentFileName(segment) + TEMP_SUFFIX);
+    }
+
+    private static String segmentFileName(int segment) {
+        return String.format("%s%06d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX);
+    }
+
+    private static long position(int segment, int index) {
+        return ((long) segment << 32) | index;
+    }
+
+    private boolean isRead(UUID id, String targetUser, long position, boolean recordedRead) {
+        if (recordedRead || position < globalWatermark || readMarkers.contains(id)) {
+            return true;
+        }
+        Long watermark = targetUser == null ? null : userWatermarks.get(targetUser);
+        return watermark != null && position < watermark;
+    }
+
+    private static String encode(Notification notification) {
+        String[] fields = {
+            notification.getId().toString(),
+            notification.getTimestamp().toString(),
+            notification.getType().name(),
+            notification.getPriority() == null ? null : notification.getPriority().name(),
+            notification.isRead() ? "1" : "0",
+            notification.getSource(),
+            notification.getTargetUser(),
+            notification.getItemId(),
+            notification.getMessage()
+        };
+        return RecordCodec.encode(fields);
+    }
+
+    private Notification decode(String line, long position) {
+        String[] fields = RecordCodec.decode(line);
+        if (fields.length != RECORD_FIELDS) {
+            throw new IllegalStateException("Malformed notification record: " + line);
+        }
+        UUID id = UUID.fromString(fields[0]);
+        String targetUser = fields[6];
+        return new Notification(
+            id,
+            NotificationType.valueOf(fields[2]),
+            fields[8],
+            fields[5],
+            targetUser,
+            Instant.parse(fields[1]),
+            fields[7],
+            fields[3] == null ? null : Priority.valueOf(fields[3]),
+            isRead(id, targetUser, position, "1".equals(fields[4]))
+        );
+    }
+}
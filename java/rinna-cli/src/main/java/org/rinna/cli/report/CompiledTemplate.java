@@ -0,0 +1,288 @@
+/**
+ * Compiled report template for Rinna reports
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+package org.rinna.cli.report;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A report template parsed once into literal text, variables and sections.
+ *
+ * <p>Templates use {@code {{ name }}} for variables, with dots for nested maps
+ * ({@code {{ summary.completed }}}). A section {@code {{#rows}}...{{/rows}}} renders its
+ * body once for each element of an iterable, with the element's entries in scope, or
+ * once if the value is any other non-empty value; {@code {{^rows}}...{{/rows}}} renders
+ * its body only when the value is missing, false or empty. Tags that are not valid
+ * variable or section tags are kept as literal text.</p>
+ */
+final class CompiledTemplate {
+    private static final Pattern NAME_PATTERN = Pattern.compile("[\\w.]+");
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    /**
+     * A template value that writes itself to the output when rendered, so large
+     * blocks such as per-item rows never have to be built as one string.
+     */
+    @FunctionalInterface
+    interface Fragment {
+        /**
+         * Writes this value.
+         *
+         * @param out the output to write to
+         * @throws IOException if the output cannot be written
+         */
+        void writeTo(Appendable out) throws IOException;
+    }
+
+    private final List<Segment> segments;
+    private final int literalLength;
+
+    private CompiledTemplate(List<Segment> segments, int literalLength) {
+        this.segments = segments;
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * Parses template content.
+     *
+     * @param content the template content
+     * @return the compiled template
+     * @throws IllegalArgumentException if a section is not closed or closed out of order
+     */
+    static CompiledTemplate compile(String content) {
+        Parser parser = new Parser(content);
+        List<Segment> segments = parser.parse(null);
+        return new CompiledTemplate(segments, parser.literalLength);
+    }
+
+    /**
+     * Renders the template.
+     *
+     * @param variables the template variables
+     * @param out the output to write to
+     * @throws IOException if the output cannot be written
+     */
+    void render(Map<String, Object> variables, Appendable out) throws IOException {
+        Deque<Object> scope = new ArrayDeque<>();
+        scope.push(variables);
+        render(segments, scope, out);
+    }
+
+    /**
+     * Gets the total length of the literal text, a lower bound for the rendered size.
+     *
+     * @return the literal text length
+     */
+    int getLiteralLength() {
+        return literalLength;
+    }
+
+    private static void render(List<Segment> segments, Deque<Object> scope, Appendable out) throws IOException {
+        for (Segment segment : segments) {
+            segment.render(scope, out);
+        }
+    }
+
+    /**
+     * Looks a dotted name up, starting from the innermost scope that has its first part.
+     */
+    private static Object resolve(String[] path, Deque<Object> scope) {
+        Object current = null;
+        for (Object frame : scope) {
+            if (frame instanceof Map && ((Map<?, ?>) frame).containsKey(path[0])) {
+                current = ((Map<?, ?>) frame).get(path[0]);
+                break;
+            }
+        }
+
+        for (int i = 1; i < path.length && current != null; i++) {
+            if (current instanceof Map) {
+                current = ((Map<?, ?>) current).get(path[i]);
+            } else {
+                return null;
+            }
+        }
+
+        return current;
+    }
+
+    private static boolean isEmpty(Object value) {
+        if (value == null || Boolean.FALSE.equals(value)) {
+            return true;
+        }
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).isEmpty();
+        }
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length() == 0;
+        }
+        return false;
+    }
+
+    private interface Segment {
+        void render(Deque<Object> scope, Appendable out) throws IOException;
+    }
+
+    private static final class Literal implements Segment {
+        private final String text;
+
+        Literal(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public void render(Deque<Object> scope, Appendable out) throws IOException {
+            out.append(text);
+        }
+    }
+
+    private static final class Variable implements Segment {
+        private final String[] path;
+
+        Variable(String[] path) {
+            this.path = path;
+        }
+
+        @Override
+        public void render(Deque<Object> scope, Appendable out) throws IOException {
+            Object value = resolve(path, scope);
+            if (value instanceof Fragment) {
+                ((Fragment) value).writeTo(out);
+            } else if (value != null) {
+                out.append(value.toString());
+            }
+        }
+    }
+
+    private static final class Section implements Segment {
+        private final String[] path;
+        private final boolean inverted;
+        private final List<Segment> body;
+
+        Section(String[] path, boolean inverted, List<Segment> body) {
+            this.path = path;
+            this.inverted = inverted;
+            this.body = body;
+        }
+
+        @Override
+        public void render(Deque<Object> scope, Appendable out) throws IOException {
+            Object value = resolve(path, scope);
+
+            if (inverted) {
+                if (isEmpty(value) || (value instanceof Iterable && !((Iterable<?>) value).iterator().hasNext())) {
+                    CompiledTemplate.render(body, scope, out);
+                }
+                return;
+            }
+
+            if (isEmpty(value)) {
+                return;
+            }
+
+            if (value instanceof Iterable) {
+                for (Object element : (Iterable<?>) value) {
+                    scope.push(element);
+                    try {
+                        CompiledTemplate.render(body, scope, out);
+                    } finally {
+                        scope.pop();
+                    }
+                }
+            } else {
+                scope.push(value);
+                try {
+                    CompiledTemplate.render(body, scope, out);
+                } finally {
+                    scope.pop();
+                }
+            }
+        }
+    }
+
+    /**
+     * Recursive descent over the template text; sections nest.
+     */
+    private static final class Parser {
+        private final String content;
+        private int position;
+        private int literalLength;
+
+        Parser(String content) {
+            this.content = content;
+        }
+
+        List<Segment> parse(String sectionName) {
+            List<Segment> segments = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+
+            while (position < content.length()) {
+                int open = content.indexOf(OPEN, position);
+                int close = open < 0 ? -1 : content.indexOf(CLOSE, open + OPEN.length());
+                if (open < 0 || close < 0) {
+                    literal.append(content, position, content.length());
+                    position = content.length();
+                    break;
+                }
+
+                String tag = content.substring(open + OPEN.length(), close).trim();
+                char sigil = tag.isEmpty() ? ' ' : tag.charAt(0);
+                String name = sigil == '#' || sigil == '^' || sigil == '/' ? tag.substring(1).trim() : tag;
+
+                if (!NAME_PATTERN.matcher(name).matches()) {
+                    // Not a tag, keep the first brace as text and look for a tag after it
+                    literal.append(content, position, open + 1);
+                    position = open + 1;
+                    continue;
+                }
+
+                literal.append(content, position, open);
+                position = close + CLOSE.length();
+                flush(literal, segments);
+
+                if (sigil == '/') {
+                    if (!name.equals(sectionName)) {
+                        throw new IllegalArgumentException("Unexpected {{/" + name + "}}"
+                            + (sectionName != null ? ", expected {{/" + sectionName + "}}" : ""));
+                    }
+                    return segments;
+                } else if (sigil == '#' || sigil == '^') {
+                    List<Segment> body = parse(name);
+                    segments.add(new Section(split(name), sigil == '^', body));
+                } else {
+                    segments.add(new Variable(split(name)));
+                }
+            }
+
+            if (sectionName != null) {
+                throw new IllegalArgumentException("Section {{#" + sectionName + "}} is not closed");
+            }
+            flush(literal, segments);
+            return segments;
+        }
+
+        private void flush(StringBuilder literal, List<Segment> segments) {
+            if (literal.length() > 0) {
+                segments.add(new Literal(literal.toString()));
+                literalLength += literal.length();
+                literal.setLength(0);
+            }
+        }
+
+        private static String[] split(String name) {
+            return name.split("\\.");
+        }
+    }
+}
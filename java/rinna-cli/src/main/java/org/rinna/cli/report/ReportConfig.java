@@ -9,6 +9,7 @@ package org.rinna.cli.report;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -587,6 +588,20 @@ public class ReportConfig {
         return this;
     }
     
+    /**
+     * Gets a key of the settings that change the rendered report. Output path and
+     * email settings are left out, so the same report sent to several destinations
+     * shares one key. The key is a copy and does not change with this configuration.
+     * 
+     * @return a key with value-based equals and hashCode
+     */
+    List<Object> getRenderingKey() {
+        return Arrays.asList(type, format, includeHeader, includeTimestamp, prettyPrint,
+            title, description, maxItems, startDate, endDate, projectId,
+            new ArrayList<>(includedFields), new ArrayList<>(excludedFields), new HashMap<>(filters),
+            sortField, ascending, groupByEnabled, groupByField, templateName, useTemplate);
+    }
+    
     /**
      * Creates a default configuration for the specified report type.
      * 
@@ -0,0 +1,381 @@
+/*
+ * Report execution service for Rinna CLI
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+package org.rinna.cli.report;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.rinna.cli.model.WorkItem;
+import org.rinna.cli.service.ItemService;
+
+/**
+ * Runs report jobs on a bounded worker pool and caches rendered reports.
+ *
+ * <p>Each job is cancelled if it runs longer than the report timeout. Jobs submitted
+ * with a run ID, such as scheduled reports, are skipped while an earlier run with the
+ * same ID is still queued or running.</p>
+ *
+ * <p>Rendered reports are cached by the settings that shape their content together
+ * with the item store's data version, so a report is only rendered again once the
+ * work items change or the cached copy expires. Concurrent requests for the same
+ * report share one rendering. The generation timestamp is left out of the cached copy
+ * and filled in each time the report is served. Reports over {@link #MAX_CACHED_ITEMS}
+ * items are not cached and are streamed to their destination instead.</p>
+ */
+public final class ReportExecutionService {
+    private static final Logger LOGGER = Logger.getLogger(ReportExecutionService.class.getName());
+
+    /** Reports with more items than this are streamed rather than held in the cache. */
+    static final int MAX_CACHED_ITEMS = 5_000;
+
+    private static final int QUEUE_CAPACITY = 64;
+
+    private final ReportGenerator reportGenerator;
+    private final Supplier<ItemService> itemServiceSupplier;
+    private final Duration timeout;
+    private final Duration cacheTtl;
+    private final int cacheCapacity;
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService timeouts;
+    private final Map<CacheKey, CachedReport> cache;
+    private final Map<CacheKey, CompletableFuture<CachedReport>> rendering = new ConcurrentHashMap<>();
+    private final Map<String, Future<Boolean>> pendingRuns = new ConcurrentHashMap<>();
+    private final AtomicInteger renderCount = new AtomicInteger();
+
+    /**
+     * Creates a report execution service.
+     *
+     * @param reportGenerator the generator that renders and outputs reports
+     * @param itemServiceSupplier supplies the item store reports are generated from
+     * @param workerCount the number of reports that may run at the same time
+     * @param timeout the longest a report may run before it is cancelled
+     * @param cacheCapacity the number of rendered reports to keep, 0 to disable caching
+     * @param cacheTtl how long a rendered report may be served from the cache
+     */
+    public ReportExecutionService(ReportGenerator reportGenerator, Supplier<ItemService> itemServiceSupplier,
+            int workerCount, Duration timeout, int cacheCapacity, Duration cacheTtl) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("Worker count must be at least 1: " + workerCount);
+        }
+        this.reportGenerator = reportGenerator;
+        this.itemServiceSupplier = itemServiceSupplier;
+        this.timeout = timeout;
+        this.cacheTtl = cacheTtl;
+        this.cacheCapacity = cacheCapacity;
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY), daemonThreads("rinna-report-"));
+        this.workers.allowCoreThreadTimeOut(true);
+        this.timeouts = Executors.newSingleThreadScheduledExecutor(daemonThreads("rinna-report-timeout-"));
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedReport> eldest) {
+                return size() > ReportExecutionService.this.cacheCapacity;
+            }
+        };
+    }
+
+    /**
+     * Submits a report job to the worker pool.
+     *
+     * @param runId identifies repeated runs of the same job, or null to always run
+     * @param job the job, returning true if the report was generated
+     * @return the job's result, or the pending result of an earlier run with the same ID
+     */
+    public Future<Boolean> submit(String runId, Callable<Boolean> job) {
+        if (runId == null) {
+            return start(job, null);
+        }
+
+        Future<Boolean> pending = pendingRuns.get(runId);
+        if (pending != null && !pending.isDone()) {
+            LOGGER.info("Skipping report run " + runId + ", the previous run has not finished");
+            return pending;
+        }
+
+        // Synchronize so two submissions with the same ID cannot both start
+        synchronized (pendingRuns) {
+            pending = pendingRuns.get(runId);
+            if (pending != null && !pending.isDone()) {
+                return pending;
+            }
+            return start(job, runId);
+        }
+    }
+
+    /**
+     * Runs a report job on the worker pool and waits for it.
+     *
+     * @param job the job, returning true if the report was generated
+     * @return true if the report was generated before it timed out
+     */
+    public boolean execute(Callable<Boolean> job) {
+        return await(submit(null, job));
+    }
+
+    /**
+     * Generates a report in the calling thread, serving it from the cache if the
+     * work items have not changed since it was last rendered.
+     *
+     * @param config the report configuration
+     * @return true if the report was generated successfully
+     */
+    public boolean generate(ReportConfig config) {
+        ItemService itemService = itemServiceSupplier.get();
+        CacheKey key = cacheCapacity > 0 ? new CacheKey(config.getRenderingKey(), itemService.getDataVersion()) : null;
+
+        CachedReport cached = key != null ? getCached(key) : null;
+        if (cached == null) {
+            List<WorkItem> workItems = itemService.getAllItems();
+            if (key == null || workItems.size() > MAX_CACHED_ITEMS) {
+                renderCount.incrementAndGet();
+                return reportGenerator.outputReport(config,
+                    out -> reportGenerator.writeReport(config, workItems, new CancellableWriter(out)));
+            }
+
+            try {
+                cached = render(key, config, workItems);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Failed to render report " + config.getType(), e);
+                return false;
+            }
+        }
+
+        String report = cached.stamp(ReportGenerator.timestamp());
+        return reportGenerator.outputReport(config, out -> out.write(report));
+    }
+
+    /**
+     * Clears the cached reports.
+     */
+    public void clearCache() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Stops the worker pool. Running reports are interrupted.
+     */
+    public void shutdown() {
+        workers.shutdownNow();
+        timeouts.shutdownNow();
+    }
+
+    /**
+     * Gets the number of times a report was rendered rather than served from the cache.
+     *
+     * @return the render count
+     */
+    int getRenderCount() {
+        return renderCount.get();
+    }
+
+    private Future<Boolean> start(Callable<Boolean> job, String runId) {
+        ReportRun run = new ReportRun(job, runId);
+        if (runId != null) {
+            pendingRuns.put(runId, run);
+        }
+
+        try {
+            workers.execute(run);
+        } catch (RejectedExecutionException e) {
+            LOGGER.warning("Report queue is full, rejecting report run" + (runId != null ? " " + runId : ""));
+            run.cancel(false);
+            return run;
+        }
+
+        run.startTimer();
+        return run;
+    }
+
+    private boolean await(Future<Boolean> result) {
+        try {
+            return Boolean.TRUE.equals(result.get());
+        } catch (CancellationException e) {
+            return false;
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.SEVERE, "Error generating report", e.getCause());
+            return false;
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private CachedReport getCached(CacheKey key) {
+        synchronized (cache) {
+            CachedReport cached = cache.get(key);
+            if (cached == null) {
+                return null;
+            }
+            if (System.nanoTime() - cached.renderedAt > cacheTtl.toNanos()) {
+                cache.remove(key);
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    /**
+     * Renders a report into the cache, or waits for a rendering of the same report
+     * that another thread already started.
+     */
+    private CachedReport render(CacheKey key, ReportConfig config, List<WorkItem> workItems) throws IOException {
+        CompletableFuture<CachedReport> mine = new CompletableFuture<>();
+        CompletableFuture<CachedReport> existing = rendering.putIfAbsent(key, mine);
+        if (existing != null) {
+            try {
+                return existing.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted waiting for report");
+            } catch (ExecutionException e) {
+                throw new IOException("Shared report rendering failed", e.getCause());
+            }
+        }
+
+        try {
+            StringWriter out = new StringWriter();
+            renderCount.incrementAndGet();
+            String placeholder = "RINNA_GENERATED_" + UUID.randomUUID().toString().replace("-", "");
+            reportGenerator.writeReport(config, workItems, new CancellableWriter(out), placeholder);
+            CachedReport rendered = new CachedReport(
+                List.of(out.toString().split(placeholder, -1)), System.nanoTime());
+            synchronized (cache) {
+                cache.put(key, rendered);
+            }
+            mine.complete(rendered);
+            return rendered;
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            rendering.remove(key, mine);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * A report job that is cancelled when it runs past the timeout.
+     */
+    private final class ReportRun extends FutureTask<Boolean> {
+        private final String runId;
+        private volatile ScheduledFuture<?> timer;
+
+        ReportRun(Callable<Boolean> job, String runId) {
+            super(job);
+            this.runId = runId;
+        }
+
+        void startTimer() {
+            timer = timeouts.schedule(this::expire, timeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (isDone()) {
+                timer.cancel(false);
+            }
+        }
+
+        private void expire() {
+            if (cancel(true)) {
+                LOGGER.warning("Report run " + (runId != null ? runId + " " : "")
+                    + "cancelled after " + timeout.toMillis() + " ms");
+            }
+        }
+
+        @Override
+        protected void done() {
+            ScheduledFuture<?> running = timer;
+            if (running != null) {
+                running.cancel(false);
+            }
+            if (runId != null) {
+                pendingRuns.remove(runId, this);
+            }
+        }
+    }
+
+    /**
+     * Stops writing a report once its thread has been interrupted by a timeout.
+     */
+    private static final class CancellableWriter extends FilterWriter {
+        CancellableWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            checkInterrupted();
+            out.write(c);
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            checkInterrupted();
+            out.write(buffer, offset, length);
+        }
+
+        @Override
+        public void write(String text, int offset, int length) throws IOException {
+            checkInterrupted();
+            out.write(text, offset, length);
+        }
+
+        private static void checkInterrupted() throws InterruptedIOException {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("Report cancelled");
+            }
+        }
+    }
+
+    private record CacheKey(List<Object> settings, long dataVersion) {
+    }
+
+    /**
+     * A rendered report, split around the places its generation timestamp goes.
+     */
+    private record CachedReport(List<String> parts, long renderedAt) {
+        String stamp(String generatedAt) {
+            return String.join(generatedAt, parts);
+        }
+    }
+}
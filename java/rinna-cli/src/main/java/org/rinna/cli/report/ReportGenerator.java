@@ -7,9 +7,10 @@
  */
 package org.rinna.cli.report;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -30,6 +31,7 @@ import org.rinna.cli.model.Priority;
 import org.rinna.cli.model.WorkItem;
 import org.rinna.cli.model.WorkItemType;
 import org.rinna.cli.model.WorkflowState;
+import org.rinna.cli.util.InvocationContext;
 
 /**
  * Generates reports based on ReportConfig and work items.
@@ -37,6 +39,7 @@ import org.rinna.cli.model.WorkflowState;
 public final class ReportGenerator {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
     
     private final TemplateManager templateManager;
     
@@ -55,6 +58,34 @@ public final class ReportGenerator {
      * @return true if the report was generated successfully
      */
     public boolean generateReport(ReportConfig config, List<WorkItem> workItems) {
+        return outputReport(config, out -> writeReport(config, workItems, out));
+    }
+    
+    /**
+     * Writes a report based on the provided configuration and work items.
+     * Built-in formats are written row by row as they are formatted; the caller
+     * owns the writer and is responsible for flushing and closing it.
+     *
+     * @param config the report configuration
+     * @param workItems the work items to include in the report
+     * @param out the writer to write the report to
+     * @throws IOException if the report cannot be written
+     */
+    public void writeReport(ReportConfig config, List<WorkItem> workItems, Writer out) throws IOException {
+        writeReport(config, workItems, out, timestamp());
+    }
+    
+    /**
+     * Writes a report that prints the given text as its generation timestamp.
+     *
+     * @param config the report configuration
+     * @param workItems the work items to include in the report
+     * @param out the writer to write the report to
+     * @param generatedAt the generation timestamp to print
+     * @throws IOException if the report cannot be written
+     */
+    void writeReport(ReportConfig config, List<WorkItem> workItems, Writer out, String generatedAt)
+            throws IOException {
         // Apply filters
         List<WorkItem> filteredItems = filterWorkItems(workItems, config);
         
@@ -68,11 +99,22 @@ public final class ReportGenerator {
             filteredItems = filteredItems.subList(0, config.getMaxItems());
         }
         
-        // Generate the report based on the format
-        String reportContent = formatReport(config, filteredItems);
+        // JSON has no templates; the other formats render their template into the writer
+        if (config.isUseTemplate() && config.getFormat() != ReportFormat.JSON
+                && writeTemplateReport(config, filteredItems, out, generatedAt)) {
+            return;
+        }
         
-        // Output the report
-        return outputReport(config, reportContent);
+        formatReport(config, filteredItems, out, generatedAt);
+    }
+    
+    /**
+     * Formats the current time as a report generation timestamp.
+     *
+     * @return the timestamp
+     */
+    static String timestamp() {
+        return LocalDateTime.now().format(TIME_FORMATTER);
     }
     
     /**
@@ -274,44 +316,64 @@ public final class ReportGenerator {
     }
     
     /**
-     * Formats the report based on the report configuration and filtered work items.
+     * Writes the report through its template. The template is compiled once and
+     * cached, and per-item rows are only formatted while the template is rendered.
      *
      * @param config the report configuration
      * @param workItems the filtered work items
-     * @return the formatted report content
+     * @param out the writer to write the report to
+     * @param generatedAt the generation timestamp to print
+     * @return true if the report was written, false to fall back to built-in formatting
+     * @throws IOException if the report cannot be written
      */
-    private String formatReport(ReportConfig config, List<WorkItem> workItems) {
-        // Check if we should use templates
-        if (config.isUseTemplate()) {
-            try {
-                // Create report data
-                Map<String, Object> reportData = createReportData(config, workItems);
-                
-                // Try to apply template
-                return templateManager.applyTemplate(config, reportData);
-            } catch (Exception e) {
-                System.err.println("Warning: Failed to apply template: " + e.getMessage());
-                System.err.println("Falling back to built-in formatting...");
-                // Fall through to built-in formatting
-            }
+    private boolean writeTemplateReport(ReportConfig config, List<WorkItem> workItems, Writer out, String generatedAt) throws IOException {
+        ReportTemplate template;
+        Map<String, Object> context;
+        try {
+            template = templateManager.getTemplate(config.getType().name().toLowerCase(), config.getFormat());
+            context = templateManager.createContext(config, createReportData(config, workItems, generatedAt));
+        } catch (Exception e) {
+            System.err.println("Warning: Failed to apply template: " + e.getMessage());
+            System.err.println("Falling back to built-in formatting...");
+            return false;
         }
         
-        // Use built-in formatting as fallback
+        template.render(context, out);
+        return true;
+    }
+    
+    /**
+     * Writes the report in the configured format using built-in formatting.
+     * Rows are written as they are formatted, so the report is never held in memory.
+     *
+     * @param config the report configuration
+     * @param workItems the filtered work items
+     * @param out the writer to write the report to
+     * @param generatedAt the generation timestamp to print
+     * @throws IOException if the report cannot be written
+     */
+    private void formatReport(ReportConfig config, List<WorkItem> workItems, Writer out, String generatedAt) throws IOException {
         switch (config.getFormat()) {
             case TEXT:
-                return formatTextReport(config, workItems);
+                formatTextReport(config, workItems, out, generatedAt);
+                break;
             case CSV:
-                return formatCsvReport(config, workItems);
+                formatCsvReport(config, workItems, out);
+                break;
             case JSON:
-                return formatJsonReport(config, workItems);
+                formatJsonReport(config, workItems, out, generatedAt);
+                break;
             case MARKDOWN:
-                return formatMarkdownReport(config, workItems);
+                formatMarkdownReport(config, workItems, out, generatedAt);
+                break;
             case HTML:
-                return formatHtmlReport(config, workItems);
+                formatHtmlReport(config, workItems, out, generatedAt);
+                break;
             case XML:
-                return formatXmlReport(config, workItems);
+                formatXmlReport(config, workItems, out, generatedAt);
+                break;
             default:
-                return formatTextReport(config, workItems);
+                formatTextReport(config, workItems, out, generatedAt);
         }
     }
     
@@ -320,15 +382,16 @@ public final class ReportGenerator {
      *
      * @param config the report configuration
      * @param workItems the filtered work items
+     * @param generatedAt the generation timestamp
      * @return the data map
      */
-    private Map<String, Object> createReportData(ReportConfig config, List<WorkItem> workItems) {
+    private Map<String, Object> createReportData(ReportConfig config, List<WorkItem> workItems, String generatedAt) {
         Map<String, Object> data = new HashMap<>();
         
         // Add basic data
         data.put("title", config.getTitle());
         data.put("description", "Report of " + workItems.size() + " work items");
-        data.put("timestamp", LocalDateTime.now().format(TIME_FORMATTER));
+        data.put("timestamp", generatedAt);
         data.put("count", workItems.size());
         
         // Add items
@@ -410,196 +473,253 @@ public final class ReportGenerator {
         }
         data.put("priorityRows", priorityRows.toString());
         
-        // Generate item rows for templates
-        StringBuilder itemRows = new StringBuilder();
-        for (WorkItem item : workItems) {
-            if (config.getFormat() == ReportFormat.MARKDOWN) {
-                itemRows.append("| ").append(item.getId()).append(" | ")
-                      .append(item.getTitle()).append(" | ")
-                      .append(item.getType()).append(" | ")
-                      .append(item.getPriority()).append(" | ")
-                      .append(item.getState()).append(" | ")
-                      .append(item.getAssignee() != null ? item.getAssignee() : "").append(" |\n");
-            } else if (config.getFormat() == ReportFormat.CSV) {
-                itemRows.append(quoteForCsv(item.getId())).append(",")
-                      .append(quoteForCsv(item.getTitle())).append(",")
-                      .append(quoteForCsv(item.getType().toString())).append(",")
-                      .append(quoteForCsv(item.getPriority().toString())).append(",")
-                      .append(quoteForCsv(item.getState().toString())).append(",")
-                      .append(quoteForCsv(item.getAssignee() != null ? item.getAssignee() : "")).append("\n");
-            } else if (config.getFormat() == ReportFormat.XML) {
-                itemRows.append("    <item id=\"").append(item.getId()).append("\">\n")
-                      .append("      <title>").append(escapeXml(item.getTitle())).append("</title>\n")
-                      .append("      <type>").append(item.getType()).append("</type>\n")
-                      .append("      <priority>").append(item.getPriority()).append("</priority>\n")
-                      .append("      <state>").append(item.getState()).append("</state>\n");
-                
-                if (item.getAssignee() != null) {
-                    itemRows.append("      <assignee>").append(escapeXml(item.getAssignee())).append("</assignee>\n");
-                }
-                
-                itemRows.append("    </item>\n");
-            } else if (config.getFormat() == ReportFormat.HTML) {
-                itemRows.append("    <tr>\n")
-                      .append("      <td>").append(item.getId()).append("</td>\n")
-                      .append("      <td>").append(escapeHtml(item.getTitle())).append("</td>\n")
-                      .append("      <td>").append(item.getType()).append("</td>\n")
-                      .append("      <td class=\"priority-").append(item.getPriority()).append("\">")
-                      .append(item.getPriority()).append("</td>\n")
-                      .append("      <td class=\"state-").append(item.getState()).append("\">")
-                      .append(item.getState()).append("</td>\n")
-                      .append("      <td>").append(item.getAssignee() != null ? 
-                          escapeHtml(item.getAssignee()) : "").append("</td>\n")
-                      .append("    </tr>\n");
-            } else {
-                itemRows.append(item.getId()).append(": ").append(item.getTitle()).append("\n")
-                      .append("  Type: ").append(item.getType()).append("\n")
-                      .append("  Priority: ").append(item.getPriority()).append("\n")
-                      .append("  State: ").append(item.getState()).append("\n");
-                
-                if (item.getAssignee() != null) {
-                    itemRows.append("  Assignee: ").append(item.getAssignee()).append("\n");
+        // Item rows for templates, formatted one row at a time while rendering
+        data.put("itemRows", (CompiledTemplate.Fragment) out -> {
+            StringBuilder itemRows = new StringBuilder();
+            for (WorkItem item : workItems) {
+                if (config.getFormat() == ReportFormat.MARKDOWN) {
+                    itemRows.append("| ").append(item.getId()).append(" | ")
+                          .append(item.getTitle()).append(" | ")
+                          .append(item.getType()).append(" | ")
+                          .append(item.getPriority()).append(" | ")
+                          .append(item.getState()).append(" | ")
+                          .append(item.getAssignee() != null ? item.getAssignee() : "").append(" |\n");
+                } else if (config.getFormat() == ReportFormat.CSV) {
+                    itemRows.append(quoteForCsv(item.getId())).append(",")
+                          .append(quoteForCsv(item.getTitle())).append(",")
+                          .append(quoteForCsv(item.getType().toString())).append(",")
+                          .append(quoteForCsv(item.getPriority().toString())).append(",")
+                          .append(quoteForCsv(item.getState().toString())).append(",")
+                          .append(quoteForCsv(item.getAssignee() != null ? item.getAssignee() : "")).append("\n");
+                } else if (config.getFormat() == ReportFormat.XML) {
+                    itemRows.append("    <item id=\"").append(item.getId()).append("\">\n")
+                          .append("      <title>").append(escapeXml(item.getTitle())).append("</title>\n")
+                          .append("      <type>").append(item.getType()).append("</type>\n")
+                          .append("      <priority>").append(item.getPriority()).append("</priority>\n")
+                          .append("      <state>").append(item.getState()).append("</state>\n");
+                    
+                    if (item.getAssignee() != null) {
+                        itemRows.append("      <assignee>").append(escapeXml(item.getAssignee())).append("</assignee>\n");
+                    }
+                    
+                    itemRows.append("    </item>\n");
+                } else if (config.getFormat() == ReportFormat.HTML) {
+                    itemRows.append("    <tr>\n")
+                          .append("      <td>").append(item.getId()).append("</td>\n")
+                          .append("      <td>").append(escapeHtml(item.getTitle())).append("</td>\n")
+                          .append("      <td>").append(item.getType()).append("</td>\n")
+                          .append("      <td class=\"priority-").append(item.getPriority()).append("\">")
+                          .append(item.getPriority()).append("</td>\n")
+                          .append("      <td class=\"state-").append(item.getState()).append("\">")
+                          .append(item.getState()).append("</td>\n")
+                          .append("      <td>").append(item.getAssignee() != null ? 
+                              escapeHtml(item.getAssignee()) : "").append("</td>\n")
+                          .append("    </tr>\n");
+                } else {
+                    itemRows.append(item.getId()).append(": ").append(item.getTitle()).append("\n")
+                          .append("  Type: ").append(item.getType()).append("\n")
+                          .append("  Priority: ").append(item.getPriority()).append("\n")
+                          .append("  State: ").append(item.getState()).append("\n");
+                    
+                    if (item.getAssignee() != null) {
+                        itemRows.append("  Assignee: ").append(item.getAssignee()).append("\n");
+                    }
+                    
+                    itemRows.append("\n");
                 }
-                
-                itemRows.append("\n");
+                out.append(itemRows);
+                itemRows.setLength(0);
             }
-        }
-        data.put("itemRows", itemRows.toString());
+        });
         
-        // Generate detailed items for templates
-        StringBuilder detailedItems = new StringBuilder();
-        for (WorkItem item : workItems) {
-            if (config.getFormat() == ReportFormat.MARKDOWN) {
-                detailedItems.append("### ").append(item.getId()).append(": ").append(item.getTitle()).append("\n\n");
-                detailedItems.append("- **Type:** ").append(item.getType()).append("\n");
-                detailedItems.append("- **Priority:** ").append(item.getPriority()).append("\n");
-                detailedItems.append("- **State:** ").append(item.getState()).append("\n");
-                
-                if (item.getAssignee() != null) {
-                    detailedItems.append("- **Assignee:** ").append(item.getAssignee()).append("\n");
-                }
-                
-                if (item.getDescription() != null) {
-                    detailedItems.append("\n").append(item.getDescription()).append("\n\n");
+        // Detailed items for templates, formatted one item at a time while rendering
+        data.put("detailedItems", (CompiledTemplate.Fragment) out -> {
+            StringBuilder detailedItems = new StringBuilder();
+            for (WorkItem item : workItems) {
+                if (config.getFormat() == ReportFormat.MARKDOWN) {
+                    detailedItems.append("### ").append(item.getId()).append(": ").append(item.getTitle()).append("\n\n");
+                    detailedItems.append("- **Type:** ").append(item.getType()).append("\n");
+                    detailedItems.append("- **Priority:** ").append(item.getPriority()).append("\n");
+                    detailedItems.append("- **State:** ").append(item.getState()).append("\n");
+                    
+                    if (item.getAssignee() != null) {
+                        detailedItems.append("- **Assignee:** ").append(item.getAssignee()).append("\n");
+                    }
+                    
+                    if (item.getDescription() != null) {
+                        detailedItems.append("\n").append(item.getDescription()).append("\n\n");
+                    } else {
+                        detailedItems.append("\n");
+                    }
+                } else if (config.getFormat() == ReportFormat.CSV) {
+                    detailedItems.append(quoteForCsv(item.getId())).append(",")
+                          .append(quoteForCsv(item.getTitle())).append(",")
+                          .append(quoteForCsv(item.getType().toString())).append(",")
+                          .append(quoteForCsv(item.getPriority().toString())).append(",")
+                          .append(quoteForCsv(item.getState().toString())).append(",")
+                          .append(quoteForCsv(item.getAssignee() != null ? item.getAssignee() : "")).append(",")
+                          .append(quoteForCsv(item.getDescription() != null ? item.getDescription() : "")).append(",")
+                          .append(quoteForCsv(new ReportItemAdapter(item).getCreatedFormatted(TIME_FORMATTER))).append(",")
+                          .append(quoteForCsv(new ReportItemAdapter(item).getUpdatedFormatted(TIME_FORMATTER))).append(",")
+                          .append(quoteForCsv(item.getDueDate() != null ? 
+                              item.getDueDate().format(DATE_FORMATTER) : "")).append("\n");
+                } else if (config.getFormat() == ReportFormat.XML) {
+                    detailedItems.append("    <item id=\"").append(item.getId()).append("\">\n")
+                          .append("      <title>").append(escapeXml(item.getTitle())).append("</title>\n")
+                          .append("      <type>").append(item.getType()).append("</type>\n")
+                          .append("      <priority>").append(item.getPriority()).append("</priority>\n")
+                          .append("      <state>").append(item.getState()).append("</state>\n");
+                    
+                    if (item.getAssignee() != null) {
+                        detailedItems.append("      <assignee>").append(escapeXml(item.getAssignee())).append("</assignee>\n");
+                    }
+                    
+                    if (item.getDescription() != null) {
+                        detailedItems.append("      <description>").append(escapeXml(item.getDescription())).append("</description>\n");
+                    }
+                    
+                    detailedItems.append("      <createdAt>").append(new ReportItemAdapter(item).getCreatedFormatted(TIME_FORMATTER)).append("</createdAt>\n")
+                          .append("      <updatedAt>").append(new ReportItemAdapter(item).getUpdatedFormatted(TIME_FORMATTER)).append("</updatedAt>\n");
+                    
+                    if (item.getDueDate() != null) {
+                        detailedItems.append("      <dueDate>").append(item.getDueDate().format(DATE_FORMATTER)).append("</dueDate>\n");
+                    }
+                    
+                    detailedItems.append("    </item>\n");
+                } else if (config.getFormat() == ReportFormat.HTML) {
+                    detailedItems.append("<div class=\"item\">\n")
+                          .append("  <div class=\"item-header\">\n")
+                          .append("    <span class=\"item-id\">").append(item.getId()).append("</span> - \n")
+                          .append("    <span class=\"item-title\">").append(escapeHtml(item.getTitle())).append("</span>\n")
+                          .append("  </div>\n")
+                          .append("  <div class=\"item-meta\">\n")
+                          .append("    Type: <span class=\"type-").append(item.getType()).append("\">")
+                          .append(item.getType()).append("</span> | \n")
+                          .append("    Priority: <span class=\"priority-").append(item.getPriority()).append("\">")
+                          .append(item.getPriority()).append("</span> | \n")
+                          .append("    State: <span class=\"state-").append(item.getState()).append("\">")
+                          .append(item.getState()).append("</span>");
+                    
+                    if (item.getAssignee() != null) {
+                        detailedItems.append(" | Assignee: ").append(escapeHtml(item.getAssignee()));
+                    }
+                    
+                    detailedItems.append("\n  </div>\n");
+                    
+                    if (item.getDescription() != null) {
+                        detailedItems.append("  <div class=\"item-description\">\n")
+                              .append("    ").append(escapeHtml(item.getDescription()).replace("\n", "<br>")).append("\n")
+                              .append("  </div>\n");
+                    }
+                    
+                    detailedItems.append("  <div class=\"item-dates\">\n")
+                          .append("    Created: ").append(new ReportItemAdapter(item).getCreatedFormatted(TIME_FORMATTER));
+                    
+                    if (item.getDueDate() != null) {
+                        detailedItems.append(" | Due: ").append(item.getDueDate().format(DATE_FORMATTER));
+                    }
+                    
+                    detailedItems.append("\n  </div>\n")
+                          .append("</div>\n");
                 } else {
+                    detailedItems.append(item.getId()).append(": ").append(item.getTitle()).append("\n")
+                          .append("  Type: ").append(item.getType()).append("\n")
+                          .append("  Priority: ").append(item.getPriority()).append("\n")
+                          .append("  State: ").append(item.getState()).append("\n");
+                    
+                    if (item.getAssignee() != null) {
+                        detailedItems.append("  Assignee: ").append(item.getAssignee()).append("\n");
+                    }
+                    
+                    if (item.getDescription() != null) {
+                        detailedItems.append("  Description: ").append(item.getDescription()).append("\n");
+                    }
+                    
+                    detailedItems.append("  Created: ").append(new ReportItemAdapter(item).getCreatedFormatted(TIME_FORMATTER)).append("\n")
+                          .append("  Updated: ").append(new ReportItemAdapter(item).getUpdatedFormatted(TIME_FORMATTER)).append("\n");
+                    
+                    if (item.getDueDate() != null) {
+                        detailedItems.append("  Due Date: ").append(item.getDueDate().format(DATE_FORMATTER)).append("\n");
+                    }
+                    
                     detailedItems.append("\n");
                 }
-            } else if (config.getFormat() == ReportFormat.CSV) {
-                detailedItems.append(quoteForCsv(item.getId())).append(",")
-                      .append(quoteForCsv(item.getTitle())).append(",")
-                      .append(quoteForCsv(item.getType().toString())).append(",")
-                      .append(quoteForCsv(item.getPriority().toString())).append(",")
-                      .append(quoteForCsv(item.getState().toString())).append(",")
-                      .append(quoteForCsv(item.getAssignee() != null ? item.getAssignee() : "")).append(",")
-                      .append(quoteForCsv(item.getDescription() != null ? item.getDescription() : "")).append(",")
-                      .append(quoteForCsv(new ReportItemAdapter(item).getCreatedFormatted(TIME_FORMATTER))).append(",")
-                      .append(quoteForCsv(new ReportItemAdapter(item).getUpdatedFormatted(TIME_FORMATTER))).append(",")
-                      .append(quoteForCsv(item.getDueDate() != null ? 
-                          item.getDueDate().format(DATE_FORMATTER) : "")).append("\n");
-            } else if (config.getFormat() == ReportFormat.XML) {
-                detailedItems.append("    <item id=\"").append(item.getId()).append("\">\n")
-                      .append("      <title>").append(escapeXml(item.getTitle())).append("</title>\n")
-                      .append("      <type>").append(item.getType()).append("</type>\n")
-                      .append("      <priority>").append(item.getPriority()).append("</priority>\n")
-                      .append("      <state>").append(item.getState()).append("</state>\n");
-                
-                if (item.getAssignee() != null) {
-                    detailedItems.append("      <assignee>").append(escapeXml(item.getAssignee())).append("</assignee>\n");
-                }
-                
-                if (item.getDescription() != null) {
-                    detailedItems.append("      <description>").append(escapeXml(item.getDescription())).append("</description>\n");
-                }
-                
-                detailedItems.append("      <createdAt>").append(new ReportItemAdapter(item).getCreatedFormatted(TIME_FORMATTER)).append("</createdAt>\n")
-                      .append("      <updatedAt>").append(new ReportItemAdapter(item).getUpdatedFormatted(TIME_FORMATTER)).append("</updatedAt>\n");
-                
-                if (item.getDueDate() != null) {
-                    detailedItems.append("      <dueDate>").append(item.getDueDate().format(DATE_FORMATTER)).append("</dueDate>\n");
-                }
-                
-                detailedItems.append("    </item>\n");
-            } else if (config.getFormat() == ReportFormat.HTML) {
-                detailedItems.append("<div class=\"item\">\n")
-                      .append("  <div class=\"item-header\">\n")
-                      .append("    <span class=\"item-id\">").append(item.getId()).append("</span> - \n")
-                      .append("    <span class=\"item-title\">").append(escapeHtml(item.getTitle())).append("</span>\n")
-                      .append("  </div>\n")
-                      .append("  <div class=\"item-meta\">\n")
-                      .append("    Type: <span class=\"type-").append(item.getType()).append("\">")
-                      .append(item.getType()).append("</span> | \n")
-                      .append("    Priority: <span class=\"priority-").append(item.getPriority()).append("\">")
-                      .append(item.getPriority()).append("</span> | \n")
-                      .append("    State: <span class=\"state-").append(item.getState()).append("\">")
-                      .append(item.getState()).append("</span>");
-                
-                if (item.getAssignee() != null) {
-                    detailedItems.append(" | Assignee: ").append(escapeHtml(item.getAssignee()));
-                }
-                
-                detailedItems.append("\n  </div>\n");
-                
-                if (item.getDescription() != null) {
-                    detailedItems.append("  <div class=\"item-description\">\n")
-                          .append("    ").append(escapeHtml(item.getDescription()).replace("\n", "<br>")).append("\n")
-                          .append("  </div>\n");
-                }
-                
-                detailedItems.append("  <div class=\"item-dates\">\n")
-                      .append("    Created: ").append(new ReportItemAdapter(item).getCreatedFormatted(TIME_FORMATTER));
-                
-                if (item.getDueDate() != null) {
-                    detailedItems.append(" | Due: ").append(item.getDueDate().format(DATE_FORMATTER));
-                }
-                
-                detailedItems.append("\n  </div>\n")
-                      .append("</div>\n");
-            } else {
-                detailedItems.append(item.getId()).append(": ").append(item.getTitle()).append("\n")
-                      .append("  Type: ").append(item.getType()).append("\n")
-                      .append("  Priority: ").append(item.getPriority()).append("\n")
-                      .append("  State: ").append(item.getState()).append("\n");
-                
-                if (item.getAssignee() != null) {
-                    detailedItems.append("  Assignee: ").append(item.getAssignee()).append("\n");
-                }
-                
-                if (item.getDescription() != null) {
-                    detailedItems.append("  Description: ").append(item.getDescription()).append("\n");
-                }
-                
-                detailedItems.append("  Created: ").append(new ReportItemAdapter(item).getCreatedFormatted(TIME_FORMATTER)).append("\n")
-                      .append("  Updated: ").append(new ReportItemAdapter(item).getUpdatedFormatted(TIME_FORMATTER)).append("\n");
-                
-                if (item.getDueDate() != null) {
-                    detailedItems.append("  Due Date: ").append(item.getDueDate().format(DATE_FORMATTER)).append("\n");
-                }
-                
-                detailedItems.append("\n");
+                out.append(detailedItems);
+                detailedItems.setLength(0);
             }
-        }
-        data.put("detailedItems", detailedItems.toString());
+        });
+        
+        // Per-item values for {{#rows}}...{{/rows}} sections, escaped for the format
+        Iterable<Map<String, Object>> rows = () -> workItems.stream()
+            .map(item -> createRowData(config.getFormat(), item))
+            .iterator();
+        data.put("rows", rows);
         
         return data;
     }
     
+    /**
+     * Creates the template values of one work item, escaped for the report format.
+     *
+     * @param format the report format
+     * @param item the work item
+     * @return the row values
+     */
+    private Map<String, Object> createRowData(ReportFormat format, WorkItem item) {
+        ReportItemAdapter adapter = new ReportItemAdapter(item);
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", escapeForFormat(format, item.getId()));
+        row.put("title", escapeForFormat(format, item.getTitle()));
+        row.put("type", escapeForFormat(format, String.valueOf(item.getType())));
+        row.put("priority", escapeForFormat(format, String.valueOf(item.getPriority())));
+        row.put("state", escapeForFormat(format, String.valueOf(item.getState())));
+        row.put("assignee", item.getAssignee() != null ? escapeForFormat(format, item.getAssignee()) : null);
+        row.put("description", item.getDescription() != null ? escapeForFormat(format, item.getDescription()) : null);
+        row.put("created", escapeForFormat(format, adapter.getCreatedFormatted(TIME_FORMATTER)));
+        row.put("updated", escapeForFormat(format, adapter.getUpdatedFormatted(TIME_FORMATTER)));
+        row.put("dueDate", item.getDueDate() != null
+            ? escapeForFormat(format, item.getDueDate().format(DATE_FORMATTER)) : null);
+        return row;
+    }
+    
+    /**
+     * Escapes a template value for the report format.
+     *
+     * @param format the report format
+     * @param value the value to escape
+     * @return the escaped value
+     */
+    private String escapeForFormat(ReportFormat format, String value) {
+        switch (format) {
+            case CSV:
+                return quoteForCsv(value);
+            case HTML:
+                return escapeHtml(value);
+            case XML:
+                return escapeXml(value);
+            default:
+                return value;
+        }
+    }
+    
     /**
      * Formats the report as plain text.
      *
      * @param config the report configuration
      * @param workItems the filtered work items
-     * @return the formatted text report
+     * @param out the writer to write the report to
+     * @param generatedAt the generation timestamp to print
+     * @throws IOException if the report cannot be written
      */
-    private String formatTextReport(ReportConfig config, List<WorkItem> workItems) {
-        StringBuilder sb = new StringBuilder();
+    private void formatTextReport(ReportConfig config, List<WorkItem> workItems, Writer out, String generatedAt) throws IOException {
         
         // Add header
         if (config.isIncludeHeader()) {
-            sb.append(config.getTitle()).append("\n");
-            sb.append("=".repeat(config.getTitle().length())).append("\n\n");
+            out.append(config.getTitle()).append("\n");
+            out.append("=".repeat(config.getTitle().length())).append("\n\n");
             
             if (config.isIncludeTimestamp()) {
-                sb.append("Generated: ").append(LocalDateTime.now().format(TIME_FORMATTER)).append("\n\n");
+                out.append("Generated: ").append(generatedAt).append("\n\n");
             }
         }
         
@@ -611,72 +731,70 @@ public final class ReportGenerator {
                 String groupName = entry.getKey();
                 List<WorkItem> groupItems = entry.getValue();
                 
-                sb.append(groupName).append(" (").append(groupItems.size()).append(" items)\n");
-                sb.append("-".repeat(groupName.length() + 12)).append("\n");
+                out.append(groupName).append(" (").append(String.valueOf(groupItems.size())).append(" items)\n");
+                out.append("-".repeat(groupName.length() + 12)).append("\n");
                 
                 for (WorkItem item : groupItems) {
-                    formatTextWorkItem(sb, item, config);
+                    formatTextWorkItem(out, item, config);
                 }
                 
-                sb.append("\n");
+                out.append("\n");
             }
         } else {
             // No grouping
             for (WorkItem item : workItems) {
-                formatTextWorkItem(sb, item, config);
+                formatTextWorkItem(out, item, config);
             }
         }
-        
-        return sb.toString();
     }
     
     /**
      * Formats a work item as plain text.
      *
-     * @param sb the string builder to append to
+     * @param out the writer to write to
      * @param item the work item to format
      * @param config the report configuration
      */
-    private void formatTextWorkItem(StringBuilder sb, WorkItem item, ReportConfig config) {
+    private void formatTextWorkItem(Writer out, WorkItem item, ReportConfig config) throws IOException {
         List<String> includedFields = config.getIncludedFields();
         List<String> excludedFields = config.getExcludedFields();
         
-        sb.append(item.getId()).append(": ").append(item.getTitle()).append("\n");
+        out.append(item.getId()).append(": ").append(item.getTitle()).append("\n");
         
         // Add type, state, and priority if not excluded
         if (shouldIncludeField("type", includedFields, excludedFields)) {
-            sb.append("  Type: ").append(item.getType()).append("\n");
+            out.append("  Type: ").append(String.valueOf(item.getType())).append("\n");
         }
         
         if (shouldIncludeField("state", includedFields, excludedFields)) {
-            sb.append("  State: ").append(item.getState()).append("\n");
+            out.append("  State: ").append(String.valueOf(item.getState())).append("\n");
         }
         
         if (shouldIncludeField("priority", includedFields, excludedFields)) {
-            sb.append("  Priority: ").append(item.getPriority()).append("\n");
+            out.append("  Priority: ").append(String.valueOf(item.getPriority())).append("\n");
         }
         
         if (shouldIncludeField("assignee", includedFields, excludedFields) && item.getAssignee() != null) {
-            sb.append("  Assignee: ").append(item.getAssignee()).append("\n");
+            out.append("  Assignee: ").append(item.getAssignee()).append("\n");
         }
         
         if (shouldIncludeField("description", includedFields, excludedFields) && item.getDescription() != null) {
-            sb.append("  Description: ").append(item.getDescription()).append("\n");
+            out.append("  Description: ").append(item.getDescription()).append("\n");
         }
         
         if (shouldIncludeField("duedate", includedFields, excludedFields) && item.getDueDate() != null) {
-            sb.append("  Due Date: ").append(item.getDueDate().format(DATE_FORMATTER)).append("\n");
+            out.append("  Due Date: ").append(item.getDueDate().format(DATE_FORMATTER)).append("\n");
         }
         
         if (shouldIncludeField("createdat", includedFields, excludedFields)) {
-            sb.append("  Created: ").append(new ReportItemAdapter(item).getCreatedFormatted(TIME_FORMATTER)).append("\n");
+            out.append("  Created: ").append(new ReportItemAdapter(item).getCreatedFormatted(TIME_FORMATTER)).append("\n");
         }
         
         if (shouldIncludeField("updatedat", includedFields, excludedFields)) {
-            sb.append("  Updated: ").append(new ReportItemAdapter(item).getUpdatedFormatted(TIME_FORMATTER)).append("\n");
+            out.append("  Updated: ").append(new ReportItemAdapter(item).getUpdatedFormatted(TIME_FORMATTER)).append("\n");
         }
         
-        sb.append("\n");
+        out.append("\n");
     }
     
     /**
@@ -684,10 +802,10 @@ public final class ReportGenerator {
      *
      * @param config the report configuration
      * @param workItems the filtered work items
-     * @return the formatted CSV report
+     * @param out the writer to write the report to
+     * @throws IOException if the report cannot be written
      */
-    private String formatCsvReport(ReportConfig config, List<WorkItem> workItems) {
-        StringBuilder sb = new StringBuilder();
+    private void formatCsvReport(ReportConfig config, List<WorkItem> workItems, Writer out) throws IOException {
         List<String> includedFields = config.getIncludedFields();
         List<String> excludedFields = config.getExcludedFields();
         
@@ -708,53 +826,54 @@ public final class ReportGenerator {
         
         // Add header row
         if (config.isIncludeHeader()) {
-            sb.append(String.join(",", fields)).append("\n");
+            out.append(String.join(",", fields)).append("\n");
         }
         
         // Add data rows
         for (WorkItem item : workItems) {
-            List<String> values = new ArrayList<>();
-            
-            for (String field : fields) {
+            for (int i = 0; i < fields.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                
+                String field = fields.get(i);
                 switch (field.toLowerCase()) {
                     case "id":
-                        values.add(quoteForCsv(item.getId()));
+                        out.write(quoteForCsv(item.getId()));
                         break;
                     case "title":
-                        values.add(quoteForCsv(item.getTitle()));
+                        out.write(quoteForCsv(item.getTitle()));
                         break;
                     case "type":
-                        values.add(quoteForCsv(item.getType().toString()));
+                        out.write(quoteForCsv(item.getType().toString()));
                         break;
                     case "state":
-                        values.add(quoteForCsv(item.getState().toString()));
+                        out.write(quoteForCsv(item.getState().toString()));
                         break;
                     case "priority":
-                        values.add(quoteForCsv(item.getPriority().toString()));
+                        out.write(quoteForCsv(item.getPriority().toString()));
                         break;
                     case "assignee":
-                        values.add(quoteForCsv(item.getAssignee() != null ? item.getAssignee() : ""));
+                        out.write(quoteForCsv(item.getAssignee() != null ? item.getAssignee() : ""));
                         break;
                     case "description":
-                        values.add(quoteForCsv(item.getDescription() != null ? item.getDescription() : ""));
+                        out.write(quoteForCsv(item.getDescription() != null ? item.getDescription() : ""));
                         break;
                     case "duedate":
-                        values.add(quoteForCsv(item.getDueDate() != null ? 
+                        out.write(quoteForCsv(item.getDueDate() != null ? 
                                 item.getDueDate().format(DATE_FORMATTER) : ""));
                         break;
                     case "createdat":
-                        values.add(quoteForCsv(new ReportItemAdapter(item).getCreatedFormatted(TIME_FORMATTER)));
+                        out.write(quoteForCsv(new ReportItemAdapter(item).getCreatedFormatted(TIME_FORMATTER)));
                         break;
                     case "updatedat":
-                        values.add(quoteForCsv(new ReportItemAdapter(item).getUpdatedFormatted(TIME_FORMATTER)));
+                        out.write(quoteForCsv(new ReportItemAdapter(item).getUpdatedFormatted(TIME_FORMATTER)));
                         break;
                 }
             }
             
-            sb.append(String.join(",", values)).append("\n");
+            out.write('\n');
         }
-        
-        return sb.toString();
     }
     
     /**
@@ -780,97 +899,96 @@ public final class ReportGenerator {
      *
      * @param config the report configuration
      * @param workItems the filtered work items
-     * @return the formatted JSON report
+     * @param out the writer to write the report to
+     * @param generatedAt the generation timestamp to print
+     * @throws IOException if the report cannot be written
      */
-    private String formatJsonReport(ReportConfig config, List<WorkItem> workItems) {
-        StringBuilder sb = new StringBuilder();
+    private void formatJsonReport(ReportConfig config, List<WorkItem> workItems, Writer out, String generatedAt) throws IOException {
         List<String> includedFields = config.getIncludedFields();
         List<String> excludedFields = config.getExcludedFields();
         String indent = config.isPrettyPrint() ? "  " : "";
         
-        sb.append("{\n");
+        out.append("{\n");
         
         // Add metadata
         if (config.isIncludeHeader()) {
-            sb.append(indent).append("\"report\": {\n");
-            sb.append(indent).append(indent).append("\"title\": \"").append(escapeJson(config.getTitle())).append("\",\n");
+            out.append(indent).append("\"report\": {\n");
+            out.append(indent).append(indent).append("\"title\": \"").append(escapeJson(config.getTitle())).append("\",\n");
             
             if (config.isIncludeTimestamp()) {
-                sb.append(indent).append(indent).append("\"generated\": \"")
-                  .append(LocalDateTime.now().format(TIME_FORMATTER)).append("\",\n");
+                out.append(indent).append(indent).append("\"generated\": \"")
+                  .append(generatedAt).append("\",\n");
             }
             
-            sb.append(indent).append(indent).append("\"count\": ").append(workItems.size()).append("\n");
-            sb.append(indent).append("},\n");
+            out.append(indent).append(indent).append("\"count\": ").append(String.valueOf(workItems.size())).append("\n");
+            out.append(indent).append("},\n");
         }
         
         // Add work items
-        sb.append(indent).append("\"items\": [\n");
+        out.append(indent).append("\"items\": [\n");
         
         for (int i = 0; i < workItems.size(); i++) {
             WorkItem item = workItems.get(i);
             
-            sb.append(indent).append(indent).append("{\n");
+            out.append(indent).append(indent).append("{\n");
             
             // Add ID and title
-            sb.append(indent).append(indent).append(indent).append("\"id\": \"").append(escapeJson(item.getId())).append("\",\n");
-            sb.append(indent).append(indent).append(indent).append("\"title\": \"").append(escapeJson(item.getTitle())).append("\"");
+            out.append(indent).append(indent).append(indent).append("\"id\": \"").append(escapeJson(item.getId())).append("\",\n");
+            out.append(indent).append(indent).append(indent).append("\"title\": \"").append(escapeJson(item.getTitle())).append("\"");
             
             // Add other fields
             if (shouldIncludeField("type", includedFields, excludedFields)) {
-                sb.append(",\n").append(indent).append(indent).append(indent)
-                  .append("\"type\": \"").append(item.getType()).append("\"");
+                out.append(",\n").append(indent).append(indent).append(indent)
+                  .append("\"type\": \"").append(String.valueOf(item.getType())).append("\"");
             }
             
             if (shouldIncludeField("state", includedFields, excludedFields)) {
-                sb.append(",\n").append(indent).append(indent).append(indent)
-                  .append("\"state\": \"").append(item.getState()).append("\"");
+                out.append(",\n").append(indent).append(indent).append(indent)
+                  .append("\"state\": \"").append(String.valueOf(item.getState())).append("\"");
             }
             
             if (shouldIncludeField("priority", includedFields, excludedFields)) {
-                sb.append(",\n").append(indent).append(indent).append(indent)
-                  .append("\"priority\": \"").append(item.getPriority()).append("\"");
+                out.append(",\n").append(indent).append(indent).append(indent)
+                  .append("\"priority\": \"").append(String.valueOf(item.getPriority())).append("\"");
             }
             
             if (shouldIncludeField("assignee", includedFields, excludedFields) && item.getAssignee() != null) {
-                sb.append(",\n").append(indent).append(indent).append(indent)
+                out.append(",\n").append(indent).append(indent).append(indent)
                   .append("\"assignee\": \"").append(escapeJson(item.getAssignee())).append("\"");
             }
             
             if (shouldIncludeField("description", includedFields, excludedFields) && item.getDescription() != null) {
-                sb.append(",\n").append(indent).append(indent).append(indent)
+                out.append(",\n").append(indent).append(indent).append(indent)
                   .append("\"description\": \"").append(escapeJson(item.getDescription())).append("\"");
             }
             
             if (shouldIncludeField("duedate", includedFields, excludedFields) && item.getDueDate() != null) {
-                sb.append(",\n").append(indent).append(indent).append(indent)
+                out.append(",\n").append(indent).append(indent).append(indent)
                   .append("\"dueDate\": \"").append(item.getDueDate().format(DATE_FORMATTER)).append("\"");
             }
             
             if (shouldIncludeField("createdat", includedFields, excludedFields)) {
-                sb.append(",\n").append(indent).append(indent).append(indent)
+                out.append(",\n").append(indent).append(indent).append(indent)
                   .append("\"createdAt\": \"").append(new ReportItemAdapter(item).getCreatedFormatted(TIME_FORMATTER)).append("\"");
             }
             
             if (shouldIncludeField("updatedat", includedFields, excludedFields)) {
-                sb.append(",\n").append(indent).append(indent).append(indent)
+                out.append(",\n").append(indent).append(indent).append(indent)
                   .append("\"updatedAt\": \"").append(new ReportItemAdapter(item).getUpdatedFormatted(TIME_FORMATTER)).append("\"");
             }
             
-            sb.append("\n").append(indent).append(indent).append("}");
+            out.append("\n").append(indent).append(indent).append("}");
             
             // Add comma if not the last item
             if (i < workItems.size() - 1) {
-                sb.append(",");
+                out.append(",");
             }
             
-            sb.append("\n");
+            out.append("\n");
         }
         
-        sb.append(indent).append("]\n");
-        sb.append("}\n");
-        
-        return sb.toString();
+        out.append(indent).append("]\n");
+        out.append("}\n");
     }
     
     /**
@@ -896,19 +1014,20 @@ public final class ReportGenerator {
      *
      * @param config the report configuration
      * @param workItems the filtered work items
-     * @return the formatted Markdown report
+     * @param out the writer to write the report to
+     * @param generatedAt the generation timestamp to print
+     * @throws IOException if the report cannot be written
      */
-    private String formatMarkdownReport(ReportConfig config, List<WorkItem> workItems) {
-        StringBuilder sb = new StringBuilder();
+    private void formatMarkdownReport(ReportConfig config, List<WorkItem> workItems, Writer out, String generatedAt) throws IOException {
         List<String> includedFields = config.getIncludedFields();
         List<String> excludedFields = config.getExcludedFields();
         
         // Add header
         if (config.isIncludeHeader()) {
-            sb.append("# ").append(config.getTitle()).append("\n\n");
+            out.append("# ").append(config.getTitle()).append("\n\n");
             
             if (config.isIncludeTimestamp()) {
-                sb.append("Generated: ").append(LocalDateTime.now().format(TIME_FORMATTER)).append("\n\n");
+                out.append("Generated: ").append(generatedAt).append("\n\n");
             }
         }
         
@@ -920,30 +1039,28 @@ public final class ReportGenerator {
                 String groupName = entry.getKey();
                 List<WorkItem> groupItems = entry.getValue();
                 
-                sb.append("## ").append(groupName).append(" (").append(groupItems.size()).append(" items)\n\n");
+                out.append("## ").append(groupName).append(" (").append(String.valueOf(groupItems.size())).append(" items)\n\n");
                 
                 // Add table for this group
-                formatMarkdownTable(sb, groupItems, includedFields, excludedFields);
-                sb.append("\n");
+                formatMarkdownTable(out, groupItems, includedFields, excludedFields);
+                out.append("\n");
             }
         } else {
             // No grouping, just one table
-            formatMarkdownTable(sb, workItems, includedFields, excludedFields);
+            formatMarkdownTable(out, workItems, includedFields, excludedFields);
         }
-        
-        return sb.toString();
     }
     
     /**
      * Formats a Markdown table for a list of work items.
      *
-     * @param sb the string builder to append to
+     * @param out the writer to write to
      * @param workItems the work items to format
      * @param includedFields the fields to include
      * @param excludedFields the fields to exclude
      */
-    private void formatMarkdownTable(StringBuilder sb, List<WorkItem> workItems, 
-                                     List<String> includedFields, List<String> excludedFields) {
+    private void formatMarkdownTable(Writer out, List<WorkItem> workItems, 
+                                     List<String> includedFields, List<String> excludedFields) throws IOException {
         // Determine fields to include
         List<String> fields = new ArrayList<>();
         fields.add("ID");
@@ -957,53 +1074,57 @@ public final class ReportGenerator {
         if (shouldIncludeField("duedate", includedFields, excludedFields)) fields.add("Due Date");
         
         // Add header row
-        sb.append("| ").append(String.join(" | ", fields)).append(" |\n");
+        out.append("| ").append(String.join(" | ", fields)).append(" |\n");
         
         // Add separator row
-        sb.append("| ").append(fields.stream().map(f -> "---").collect(Collectors.joining(" | "))).append(" |\n");
+        out.append("| ").append(fields.stream().map(f -> "---").collect(Collectors.joining(" | "))).append(" |\n");
         
         // Add data rows
         for (WorkItem item : workItems) {
-            List<String> values = new ArrayList<>();
+            out.write("|");
             
             for (String field : fields) {
+                out.write(' ');
+                
                 switch (field) {
                     case "ID":
-                        values.add(item.getId());
+                        out.append(item.getId());
                         break;
                     case "Title":
-                        values.add(item.getTitle());
+                        out.append(item.getTitle());
                         break;
                     case "Type":
-                        values.add(item.getType().toString());
+                        out.write(item.getType().toString());
                         break;
                     case "State":
-                        values.add(item.getState().toString());
+                        out.write(item.getState().toString());
                         break;
                     case "Priority":
-                        values.add(item.getPriority().toString());
+                        out.write(item.getPriority().toString());
                         break;
                     case "Assignee":
-                        values.add(item.getAssignee() != null ? item.getAssignee() : "");
+                        out.write(item.getAssignee() != null ? item.getAssignee() : "");
                         break;
                     case "Due Date":
-                        values.add(item.getDueDate() != null ? 
+                        out.write(item.getDueDate() != null ? 
                                 item.getDueDate().format(DATE_FORMATTER) : "");
                         break;
                 }
+                
+                out.write(" |");
             }
             
-            sb.append("| ").append(String.join(" | ", values)).append(" |\n");
+            out.write('\n');
         }
         
         // Add description as separate sections if included
         if (shouldIncludeField("description", includedFields, excludedFields)) {
-            sb.append("\n");
+            out.append("\n");
             
             for (WorkItem item : workItems) {
                 if (item.getDescription() != null && !item.getDescription().isEmpty()) {
-                    sb.append("### ").append(item.getId()).append(": ").append(item.getTitle()).append("\n\n");
-                    sb.append(item.getDescription()).append("\n\n");
+                    out.append("### ").append(item.getId()).append(": ").append(item.getTitle()).append("\n\n");
+                    out.append(item.getDescription()).append("\n\n");
                 }
             }
         }
@@ -1014,45 +1135,46 @@ public final class ReportGenerator {
      *
      * @param config the report configuration
      * @param workItems the filtered work items
-     * @return the formatted HTML report
+     * @param out the writer to write the report to
+     * @param generatedAt the generation timestamp to print
+     * @throws IOException if the report cannot be written
      */
-    private String formatHtmlReport(ReportConfig config, List<WorkItem> workItems) {
-        StringBuilder sb = new StringBuilder();
+    private void formatHtmlReport(ReportConfig config, List<WorkItem> workItems, Writer out, String generatedAt) throws IOException {
         List<String> includedFields = config.getIncludedFields();
         List<String> excludedFields = config.getExcludedFields();
         
         // Start HTML document
-        sb.append("<!DOCTYPE html>\n");
-        sb.append("<html lang=\"en\">\n");
-        sb.append("<head>\n");
-        sb.append("  <meta charset=\"UTF-8\">\n");
-        sb.append("  <meta name=\"viewport\" content=\"width=device-width, initial-scale=1.0\">\n");
-        sb.append("  <title>").append(escapeHtml(config.getTitle())).append("</title>\n");
-        sb.append("  <style>\n");
-        sb.append("    body { font-family: Arial, sans-serif; margin: 20px; }\n");
-        sb.append("    h1 { color: #333; }\n");
-        sb.append("    table { border-collapse: collapse; width: 100%; margin-bottom: 20px; }\n");
-        sb.append("    th, td { border: 1px solid #ddd; padding: 8px; text-align: left; }\n");
-        sb.append("    th { background-color: #f2f2f2; }\n");
-        sb.append("    tr:nth-child(even) { background-color: #f9f9f9; }\n");
-        sb.append("    .meta { color: #666; margin-bottom: 20px; }\n");
-        sb.append("    .priority-HIGH { color: #d9534f; }\n");
-        sb.append("    .priority-MEDIUM { color: #f0ad4e; }\n");
-        sb.append("    .priority-LOW { color: #5bc0de; }\n");
-        sb.append("    .state-TODO { color: #777; }\n");
-        sb.append("    .state-IN_PROGRESS { color: #337ab7; }\n");
-        sb.append("    .state-DONE { color: #5cb85c; }\n");
-        sb.append("  </style>\n");
-        sb.append("</head>\n");
-        sb.append("<body>\n");
+        out.append("<!DOCTYPE html>\n");
+        out.append("<html lang=\"en\">\n");
+        out.append("<head>\n");
+        out.append("  <meta charset=\"UTF-8\">\n");
+        out.append("  <meta name=\"viewport\" content=\"width=device-width, initial-scale=1.0\">\n");
+        out.append("  <title>").append(escapeHtml(config.getTitle())).append("</title>\n");
+        out.append("  <style>\n");
+        out.append("    body { font-family: Arial, sans-serif; margin: 20px; }\n");
+        out.append("    h1 { color: #333; }\n");
+        out.append("    table { border-collapse: collapse; width: 100%; margin-bottom: 20px; }\n");
+        out.append("    th, td { border: 1px solid #ddd; padding: 8px; text-align: left; }\n");
+        out.append("    th { background-color: #f2f2f2; }\n");
+        out.append("    tr:nth-child(even) { background-color: #f9f9f9; }\n");
+        out.append("    .meta { color: #666; margin-bottom: 20px; }\n");
+        out.append("    .priority-HIGH { color: #d9534f; }\n");
+        out.append("    .priority-MEDIUM { color: #f0ad4e; }\n");
+        out.append("    .priority-LOW { color: #5bc0de; }\n");
+        out.append("    .state-TODO { color: #777; }\n");
+        out.append("    .state-IN_PROGRESS { color: #337ab7; }\n");
+        out.append("    .state-DONE { color: #5cb85c; }\n");
+        out.append("  </style>\n");
+        out.append("</head>\n");
+        out.append("<body>\n");
         
         // Add header
         if (config.isIncludeHeader()) {
-            sb.append("  <h1>").append(escapeHtml(config.getTitle())).append("</h1>\n");
+            out.append("  <h1>").append(escapeHtml(config.getTitle())).append("</h1>\n");
             
             if (config.isIncludeTimestamp()) {
-                sb.append("  <div class=\"meta\">Generated: ")
-                  .append(LocalDateTime.now().format(TIME_FORMATTER))
+                out.append("  <div class=\"meta\">Generated: ")
+                  .append(generatedAt)
                   .append("</div>\n");
             }
         }
@@ -1065,34 +1187,32 @@ public final class ReportGenerator {
                 String groupName = entry.getKey();
                 List<WorkItem> groupItems = entry.getValue();
                 
-                sb.append("  <h2>").append(escapeHtml(groupName))
-                  .append(" (").append(groupItems.size()).append(" items)</h2>\n");
+                out.append("  <h2>").append(escapeHtml(groupName))
+                  .append(" (").append(String.valueOf(groupItems.size())).append(" items)</h2>\n");
                 
                 // Add table for this group
-                formatHtmlTable(sb, groupItems, includedFields, excludedFields);
+                formatHtmlTable(out, groupItems, includedFields, excludedFields);
             }
         } else {
             // No grouping, just one table
-            formatHtmlTable(sb, workItems, includedFields, excludedFields);
+            formatHtmlTable(out, workItems, includedFields, excludedFields);
         }
         
         // End HTML document
-        sb.append("</body>\n");
-        sb.append("</html>\n");
-        
-        return sb.toString();
+        out.append("</body>\n");
+        out.append("</html>\n");
     }
     
     /**
      * Formats an HTML table for a list of work items.
      *
-     * @param sb the string builder to append to
+     * @param out the writer to write to
      * @param workItems the work items to format
      * @param includedFields the fields to include
      * @param excludedFields the fields to exclude
      */
-    private void formatHtmlTable(StringBuilder sb, List<WorkItem> workItems, 
-                                List<String> includedFields, List<String> excludedFields) {
+    private void formatHtmlTable(Writer out, List<WorkItem> workItems, 
+                                List<String> includedFields, List<String> excludedFields) throws IOException {
         // Determine fields to include
         List<String> fields = new ArrayList<>();
         fields.add("ID");
@@ -1109,66 +1229,66 @@ public final class ReportGenerator {
         if (shouldIncludeField("updatedat", includedFields, excludedFields)) fields.add("Updated");
         
         // Start table
-        sb.append("  <table>\n");
+        out.append("  <table>\n");
         
         // Add header row
-        sb.append("    <tr>\n");
+        out.append("    <tr>\n");
         for (String field : fields) {
-            sb.append("      <th>").append(field).append("</th>\n");
+            out.append("      <th>").append(field).append("</th>\n");
         }
-        sb.append("    </tr>\n");
+        out.append("    </tr>\n");
         
         // Add data rows
         for (WorkItem item : workItems) {
-            sb.append("    <tr>\n");
+            out.append("    <tr>\n");
             
             for (String field : fields) {
                 switch (field) {
                     case "ID":
-                        sb.append("      <td>").append(item.getId()).append("</td>\n");
+                        out.append("      <td>").append(item.getId()).append("</td>\n");
                         break;
                     case "Title":
-                        sb.append("      <td>").append(escapeHtml(item.getTitle())).append("</td>\n");
+                        out.append("      <td>").append(escapeHtml(item.getTitle())).append("</td>\n");
                         break;
                     case "Type":
-                        sb.append("      <td>").append(item.getType()).append("</td>\n");
+                        out.append("      <td>").append(String.valueOf(item.getType())).append("</td>\n");
                         break;
                     case "State":
-                        sb.append("      <td class=\"state-").append(item.getState()).append("\">")
-                          .append(item.getState()).append("</td>\n");
+                        out.append("      <td class=\"state-").append(String.valueOf(item.getState())).append("\">")
+                          .append(String.valueOf(item.getState())).append("</td>\n");
                         break;
                     case "Priority":
-                        sb.append("      <td class=\"priority-").append(item.getPriority()).append("\">")
-                          .append(item.getPriority()).append("</td>\n");
+                        out.append("      <td class=\"priority-").append(String.valueOf(item.getPriority())).append("\">")
+                          .append(String.valueOf(item.getPriority())).append("</td>\n");
                         break;
                     case "Assignee":
-                        sb.append("      <td>").append(item.getAssignee() != null ? 
+                        out.append("      <td>").append(item.getAssignee() != null ? 
                                 escapeHtml(item.getAssignee()) : "").append("</td>\n");
                         break;
                     case "Description":
-                        sb.append("      <td>").append(item.getDescription() != null ? 
+                        out.append("      <td>").append(item.getDescription() != null ? 
                                 escapeHtml(item.getDescription()) : "").append("</td>\n");
                         break;
                     case "Due Date":
-                        sb.append("      <td>").append(item.getDueDate() != null ? 
+                        out.append("      <td>").append(item.getDueDate() != null ? 
                                 item.getDueDate().format(DATE_FORMATTER) : "").append("</td>\n");
                         break;
                     case "Created":
-                        sb.append("      <td>").append(new ReportItemAdapter(item).getCreatedFormatted(TIME_FORMATTER))
+                        out.append("      <td>").append(new ReportItemAdapter(item).getCreatedFormatted(TIME_FORMATTER))
                           .append("</td>\n");
                         break;
                     case "Updated":
-                        sb.append("      <td>").append(new ReportItemAdapter(item).getUpdatedFormatted(TIME_FORMATTER))
+                        out.append("      <td>").append(new ReportItemAdapter(item).getUpdatedFormatted(TIME_FORMATTER))
                           .append("</td>\n");
                         break;
                 }
             }
             
-            sb.append("    </tr>\n");
+            out.append("    </tr>\n");
         }
         
         // End table
-        sb.append("  </table>\n");
+        out.append("  </table>\n");
     }
     
     /**
@@ -1194,32 +1314,33 @@ public final class ReportGenerator {
      *
      * @param config the report configuration
      * @param workItems the filtered work items
-     * @return the formatted XML report
+     * @param out the writer to write the report to
+     * @param generatedAt the generation timestamp to print
+     * @throws IOException if the report cannot be written
      */
-    private String formatXmlReport(ReportConfig config, List<WorkItem> workItems) {
-        StringBuilder sb = new StringBuilder();
+    private void formatXmlReport(ReportConfig config, List<WorkItem> workItems, Writer out, String generatedAt) throws IOException {
         List<String> includedFields = config.getIncludedFields();
         List<String> excludedFields = config.getExcludedFields();
         String indent = config.isPrettyPrint() ? "  " : "";
         
         // XML declaration
-        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        out.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
         
         // Root element
-        sb.append("<report>\n");
+        out.append("<report>\n");
         
         // Add metadata
         if (config.isIncludeHeader()) {
-            sb.append(indent).append("<metadata>\n");
-            sb.append(indent).append(indent).append("<title>").append(escapeXml(config.getTitle())).append("</title>\n");
+            out.append(indent).append("<metadata>\n");
+            out.append(indent).append(indent).append("<title>").append(escapeXml(config.getTitle())).append("</title>\n");
             
             if (config.isIncludeTimestamp()) {
-                sb.append(indent).append(indent).append("<generated>")
-                  .append(LocalDateTime.now().format(TIME_FORMATTER)).append("</generated>\n");
+                out.append(indent).append(indent).append("<generated>")
+                  .append(generatedAt).append("</generated>\n");
             }
             
-            sb.append(indent).append(indent).append("<count>").append(workItems.size()).append("</count>\n");
-            sb.append(indent).append("</metadata>\n");
+            out.append(indent).append(indent).append("<count>").append(String.valueOf(workItems.size())).append("</count>\n");
+            out.append(indent).append("</metadata>\n");
         }
         
         // Check if we need to group
@@ -1230,83 +1351,81 @@ public final class ReportGenerator {
                 String groupName = entry.getKey();
                 List<WorkItem> groupItems = entry.getValue();
                 
-                sb.append(indent).append("<group name=\"").append(escapeXml(groupName))
-                  .append("\" count=\"").append(groupItems.size()).append("\">\n");
+                out.append(indent).append("<group name=\"").append(escapeXml(groupName))
+                  .append("\" count=\"").append(String.valueOf(groupItems.size())).append("\">\n");
                 
                 // Add items in this group
                 for (WorkItem item : groupItems) {
-                    formatXmlWorkItem(sb, item, includedFields, excludedFields, indent + indent);
+                    formatXmlWorkItem(out, item, includedFields, excludedFields, indent + indent);
                 }
                 
-                sb.append(indent).append("</group>\n");
+                out.append(indent).append("</group>\n");
             }
         } else {
             // No grouping, just list items
-            sb.append(indent).append("<items>\n");
+            out.append(indent).append("<items>\n");
             
             for (WorkItem item : workItems) {
-                formatXmlWorkItem(sb, item, includedFields, excludedFields, indent + indent);
+                formatXmlWorkItem(out, item, includedFields, excludedFields, indent + indent);
             }
             
-            sb.append(indent).append("</items>\n");
+            out.append(indent).append("</items>\n");
         }
         
         // Close root element
-        sb.append("</report>\n");
-        
-        return sb.toString();
+        out.append("</report>\n");
     }
     
     /**
      * Formats a work item as XML.
      *
-     * @param sb the string builder to append to
+     * @param out the writer to write to
      * @param item the work item to format
      * @param includedFields the fields to include
      * @param excludedFields the fields to exclude
      * @param indent the indentation to use
      */
-    private void formatXmlWorkItem(StringBuilder sb, WorkItem item, 
-                                  List<String> includedFields, List<String> excludedFields, String indent) {
-        sb.append(indent).append("<item id=\"").append(item.getId()).append("\">\n");
+    private void formatXmlWorkItem(Writer out, WorkItem item, 
+                                  List<String> includedFields, List<String> excludedFields, String indent) throws IOException {
+        out.append(indent).append("<item id=\"").append(item.getId()).append("\">\n");
         
         // Add title
-        sb.append(indent).append("  <title>").append(escapeXml(item.getTitle())).append("</title>\n");
+        out.append(indent).append("  <title>").append(escapeXml(item.getTitle())).append("</title>\n");
         
         // Add other fields
         if (shouldIncludeField("type", includedFields, excludedFields)) {
-            sb.append(indent).append("  <type>").append(item.getType()).append("</type>\n");
+            out.append(indent).append("  <type>").append(String.valueOf(item.getType())).append("</type>\n");
         }
         
         if (shouldIncludeField("state", includedFields, excludedFields)) {
-            sb.append(indent).append("  <state>").append(item.getState()).append("</state>\n");
+            out.append(indent).append("  <state>").append(String.valueOf(item.getState())).append("</state>\n");
         }
         
         if (shouldIncludeField("priority", includedFields, excludedFields)) {
-            sb.append(indent).append("  <priority>").append(item.getPriority()).append("</priority>\n");
+            out.append(indent).append("  <priority>").append(String.valueOf(item.getPriority())).append("</priority>\n");
         }
         
         if (shouldIncludeField("assignee", includedFields, excludedFields) && item.getAssignee() != null) {
-            sb.append(indent).append("  <assignee>").append(escapeXml(item.getAssignee())).append("</assignee>\n");
+            out.append(indent).append("  <assignee>").append(escapeXml(item.getAssignee())).append("</assignee>\n");
         }
         
         if (shouldIncludeField("description", includedFields, excludedFields) && item.getDescription() != null) {
-            sb.append(indent).append("  <description>").append(escapeXml(item.getDescription())).append("</description>\n");
+            out.append(indent).append("  <description>").append(escapeXml(item.getDescription())).append("</description>\n");
         }
         
         if (shouldIncludeField("duedate", includedFields, excludedFields) && item.getDueDate() != null) {
-            sb.append(indent).append("  <dueDate>").append(item.getDueDate().format(DATE_FORMATTER)).append("</dueDate>\n");
+            out.append(indent).append("  <dueDate>").append(item.getDueDate().format(DATE_FORMATTER)).append("</dueDate>\n");
         }
         
         if (shouldIncludeField("createdat", includedFields, excludedFields)) {
-            sb.append(indent).append("  <createdAt>").append(new ReportItemAdapter(item).getCreatedFormatted(TIME_FORMATTER)).append("</createdAt>\n");
+            out.append(indent).append("  <createdAt>").append(new ReportItemAdapter(item).getCreatedFormatted(TIME_FORMATTER)).append("</createdAt>\n");
         }
         
         if (shouldIncludeField("updatedat", includedFields, excludedFields)) {
-            sb.append(indent).append("  <updatedAt>").append(new ReportItemAdapter(item).getUpdatedFormatted(TIME_FORMATTER)).append("</updatedAt>\n");
+            out.append(indent).append("  <updatedAt>").append(new ReportItemAdapter(item).getUpdatedFormatted(TIME_FORMATTER)).append("</updatedAt>\n");
         }
         
-        sb.append(indent).append("</item>\n");
+        out.append(indent).append("</item>\n");
     }
     
     /**
@@ -1398,18 +1517,35 @@ public final class ReportGenerator {
         }
     }
     
+    /**
+     * Writes report content to a sink.
+     */
+    @FunctionalInterface
+    interface ReportWriter {
+        void write(Writer out) throws IOException;
+    }
+    
     /**
      * Outputs the report to the specified destination.
      *
      * @param config the report configuration
-     * @param content the report content
+     * @param content writes the report content
      * @return true if the report was output successfully
      */
-    private boolean outputReport(ReportConfig config, String content) {
+    boolean outputReport(ReportConfig config, ReportWriter content) {
         // If output path is null, write to console
         if (config.getOutputPath() == null || config.getOutputPath().isEmpty()) {
-            System.out.println(content);
-            return true;
+            try {
+                // Flush but do not close, so System.out stays usable
+                Writer out = new BufferedWriter(new OutputStreamWriter(System.out), OUTPUT_BUFFER_SIZE);
+                content.write(out);
+                out.write(System.lineSeparator());
+                out.flush();
+                return true;
+            } catch (IOException e) {
+                System.err.println("Error writing report: " + e.getMessage());
+                return false;
+            }
         }
         
         // Write to file
@@ -1420,7 +1556,7 @@ public final class ReportGenerator {
             
             // If not an absolute path, make it absolute
             if (!outputPathObj.isAbsolute()) {
-                String projectRoot = System.getProperty("user.dir");
+                String projectRoot = InvocationContext.workingDirectory();
                 outputPathObj = Paths.get(projectRoot, outputPath);
                 outputPath = outputPathObj.toString();
             }
@@ -1429,9 +1565,9 @@ public final class ReportGenerator {
             Files.createDirectories(outputPathObj.getParent());
             
             // Write to file
-            try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(
-                    Files.newOutputStream(outputPathObj), StandardCharsets.UTF_8))) {
-                writer.print(content);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    Files.newOutputStream(outputPathObj), StandardCharsets.UTF_8), OUTPUT_BUFFER_SIZE)) {
+                content.write(writer);
             }
             
             return true;
@@ -1440,4 +1576,4 @@ public final class ReportGenerator {
             return false;
         }
     }
-}
\ No newline at end of file
+}
@@ -353,12 +353,13 @@ public final class ReportScheduler {
         // Calculate period
         long period = calculatePeriod(report);
         
-        // Schedule the task
+        // Schedule the task; the report runs on the report worker pool, so a long
+        // report does not hold up other schedules, and a run still in progress is not repeated
         scheduler.scheduleAtFixedRate(() -> {
             try {
                 LOGGER.info("Executing scheduled report: " + report.getName());
                 ReportService reportService = ReportService.getInstance();
-                reportService.generateReport(report.getConfig());
+                reportService.submitReport(report.getId(), report.getConfig());
             } catch (Exception e) {
                 LOGGER.log(Level.SEVERE, "Error executing scheduled report: " + report.getName(), e);
             }
@@ -9,15 +9,15 @@ package org.rinna.cli.report;
 
 import java.io.File;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.List;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
-import org.rinna.cli.model.WorkItem;
-import org.rinna.cli.service.ItemService;
 import org.rinna.cli.service.ServiceManager;
+import org.rinna.cli.util.InvocationContext;
 
 /**
  * Service for generating reports about work items.
@@ -25,10 +25,16 @@ import org.rinna.cli.service.ServiceManager;
 public final class ReportService {
     private static final Logger LOGGER = Logger.getLogger(ReportService.class.getName());
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int REPORT_WORKERS = Integer.getInteger("report.executor.threads",
+            Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors())));
+    private static final Duration REPORT_TIMEOUT = Duration.ofSeconds(Long.getLong("report.executor.timeout.seconds", 300));
+    private static final int REPORT_CACHE_SIZE = Integer.getInteger("report.executor.cache.size", 32);
+    private static final Duration REPORT_CACHE_TTL = Duration.ofMinutes(Long.getLong("report.executor.cache.ttl.minutes", 60));
     private static ReportService instance;
     
     private final ReportGenerator reportGenerator;
     private final TemplateManager templateManager;
+    private final ReportExecutionService executionService;
     
     /**
      * Private constructor for singleton pattern.
@@ -36,6 +42,9 @@ public final class ReportService {
     private ReportService() {
         this.reportGenerator = new ReportGenerator();
         this.templateManager = TemplateManager.getInstance();
+        this.executionService = new ReportExecutionService(reportGenerator,
+            () -> ServiceManager.getInstance().getItemService(),
+            REPORT_WORKERS, REPORT_TIMEOUT, REPORT_CACHE_SIZE, REPORT_CACHE_TTL);
     }
     
     /**
@@ -51,18 +60,37 @@ public final class ReportService {
     }
     
     /**
-     * Generates a report with the specified configuration.
+     * Generates a report with the specified configuration. The report runs on the
+     * report worker pool and is served from cache when the work items are unchanged.
      * 
      * @param config the report configuration
      * @return true if the report was generated successfully
      */
     public boolean generateReport(ReportConfig config) {
+        return executionService.execute(() -> runReport(config));
+    }
+    
+    /**
+     * Submits a report to run in the background. A run is skipped while an
+     * earlier run with the same ID has not finished.
+     * 
+     * @param runId identifies repeated runs of the same report, such as a schedule ID
+     * @param config the report configuration
+     * @return the result, true if the report was generated successfully
+     */
+    public Future<Boolean> submitReport(String runId, ReportConfig config) {
+        return executionService.submit(runId, () -> runReport(config));
+    }
+    
+    /**
+     * Generates a report and sends it by email if configured.
+     * 
+     * @param config the report configuration
+     * @return true if the report was generated successfully
+     */
+    private boolean runReport(ReportConfig config) {
         LOGGER.info("Generating " + config.getType() + " report in " + config.getFormat() + " format");
         
-        // Get work items from the service
-        ItemService itemService = ServiceManager.getInstance().getItemService();
-        List<WorkItem> workItems = itemService.getAllItems();
-        
         // Check if email is enabled
         if (config.isEmailEnabled() && !config.getEmailRecipients().isEmpty()) {
             LOGGER.info("Email enabled, will send report to " + config.getEmailRecipients().size() + " recipients");
@@ -74,7 +102,7 @@ public final class ReportService {
                 // Create a temporary file
                 // Create temporary file in target directory to ensure it gets cleaned up with the project
                 // Use absolute path to ensure consistent behavior regardless of current working directory
-                String projectRoot = System.getProperty("user.dir");
+                String projectRoot = InvocationContext.workingDirectory();
                 File targetDir = new File(projectRoot, "target/temp");
                 if (!targetDir.exists()) {
                     targetDir.mkdirs();
@@ -85,7 +113,7 @@ public final class ReportService {
                 config.setOutputPath(tempFile.getAbsolutePath());
                 
                 // Generate the report to the temp file
-                boolean success = reportGenerator.generateReport(config, workItems);
+                boolean success = executionService.generate(config);
                 
                 if (!success) {
                     LOGGER.warning("Failed to generate report to temp file");
@@ -108,7 +136,7 @@ public final class ReportService {
                 
                 // If we have an output path, generate the report to it as well
                 if (originalOutputPath != null && !originalOutputPath.isEmpty()) {
-                    return reportGenerator.generateReport(config, workItems);
+                    return executionService.generate(config);
                 }
                 
                 return true;
@@ -118,7 +146,7 @@ public final class ReportService {
             }
         } else {
             // Normal report generation
-            return reportGenerator.generateReport(config, workItems);
+            return executionService.generate(config);
         }
     }
     
@@ -206,7 +234,7 @@ public final class ReportService {
         
         // If not already an absolute path, make it absolute
         if (!baseFile.isAbsolute()) {
-            String projectRoot = System.getProperty("user.dir");
+            String projectRoot = InvocationContext.workingDirectory();
             baseFile = new File(projectRoot, basePath);
             absolutePath = baseFile.getAbsolutePath();
         }
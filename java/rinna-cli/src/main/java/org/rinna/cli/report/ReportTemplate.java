@@ -10,16 +10,16 @@ package org.rinna.cli.report;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Represents a template for generating reports.
@@ -27,11 +27,13 @@ import java.util.regex.Pattern;
 public final class ReportTemplate {
     private static final Logger LOGGER = Logger.getLogger(ReportTemplate.class.getName());
     private static final String DEFAULT_TEMPLATE_PATH = "templates/reports";
-    private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\{\\{\\s*([\\w\\.]+)\\s*\\}\\}");
     
     private String name;
     private String content;
     private ReportFormat format;
+    private CompiledTemplate compiled;
+    private Path sourcePath;
+    private FileTime sourceModified;
     
     /**
      * Creates a new template with the given name and format.
@@ -48,6 +50,21 @@ public final class ReportTemplate {
         loadContent();
     }
     
+    /**
+     * Creates a template from content that is not read from a file.
+     * 
+     * @param name the template name
+     * @param format the report format
+     * @param content the template content
+     * @throws IllegalArgumentException if the template has unbalanced sections
+     */
+    ReportTemplate(String name, ReportFormat format, String content) {
+        this.name = name;
+        this.format = format;
+        this.content = content;
+        this.compiled = CompiledTemplate.compile(content);
+    }
+    
     /**
      * Loads the template content from the file system.
      * 
@@ -73,6 +90,15 @@ public final class ReportTemplate {
             
             this.content = sb.toString();
         }
+        
+        // Parse once; every report rendered from this template reuses the result
+        try {
+            this.compiled = CompiledTemplate.compile(content);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid template " + templatePath + ": " + e.getMessage(), e);
+        }
+        this.sourcePath = templatePath;
+        this.sourceModified = Files.getLastModifiedTime(templatePath);
     }
     
     /**
@@ -112,43 +138,43 @@ public final class ReportTemplate {
             return "";
         }
         
-        String result = content;
-        Matcher matcher = VARIABLE_PATTERN.matcher(result);
-        
-        while (matcher.find()) {
-            String variableName = matcher.group(1);
-            Object value = getVariableValue(variables, variableName);
-            
-            String valueStr = value != null ? value.toString() : "";
-            result = result.replace(matcher.group(), valueStr);
+        StringBuilder result = new StringBuilder(compiled.getLiteralLength() * 2);
+        try {
+            compiled.render(variables, result);
+        } catch (IOException e) {
+            // StringBuilder does not throw
+            throw new UncheckedIOException(e);
         }
-        
-        return result;
+        return result.toString();
     }
     
     /**
-     * Gets a variable value by name, supporting dot notation for nested objects.
+     * Renders the template with the given variables to an output, without
+     * building the result as a string first.
      * 
-     * @param variables the variables map
-     * @param name the variable name
-     * @return the variable value or null if not found
+     * @param variables the template variables
+     * @param out the output to write to
+     * @throws IOException if the output cannot be written
      */
-    private Object getVariableValue(Map<String, Object> variables, String name) {
-        if (name.contains(".")) {
-            String[] parts = name.split("\\.");
-            Object current = variables.get(parts[0]);
-            
-            for (int i = 1; i < parts.length && current != null; i++) {
-                if (current instanceof Map) {
-                    current = ((Map<?, ?>) current).get(parts[i]);
-                } else {
-                    return null;
-                }
-            }
-            
-            return current;
-        } else {
-            return variables.get(name);
+    public void render(Map<String, Object> variables, Appendable out) throws IOException {
+        if (content != null) {
+            compiled.render(variables, out);
+        }
+    }
+    
+    /**
+     * Checks whether the template file has changed or disappeared since it was loaded.
+     * 
+     * @return true if the template should be reloaded
+     */
+    boolean isStale() {
+        if (sourcePath == null) {
+            return false;
+        }
+        try {
+            return !Files.getLastModifiedTime(sourcePath).equals(sourceModified);
+        } catch (IOException e) {
+            return true;
         }
     }
     
@@ -10,6 +10,7 @@ package org.rinna.cli.report;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -20,7 +21,8 @@ public final class TemplateManager {
     private static final Logger LOGGER = Logger.getLogger(TemplateManager.class.getName());
     private static TemplateManager instance;
     
-    private final Map<String, ReportTemplate> templateCache = new HashMap<>();
+    // Shared by the scheduler thread and interactive commands
+    private final Map<String, ReportTemplate> templateCache = new ConcurrentHashMap<>();
     
     /**
      * Private constructor for singleton pattern.
@@ -61,9 +63,10 @@ public final class TemplateManager {
     public ReportTemplate getTemplate(String name, ReportFormat format) throws IOException {
         String cacheKey = name + ":" + format.name();
         
-        // Check the cache first
-        if (templateCache.containsKey(cacheKey)) {
-            return templateCache.get(cacheKey);
+        // Check the cache first; templates edited on disk are compiled again
+        ReportTemplate cached = templateCache.get(cacheKey);
+        if (cached != null && !cached.isStale()) {
+            return cached;
         }
         
         // Load the template
@@ -151,4 +154,18 @@ public final class TemplateManager {
             return "Error applying template: " + e.getMessage();
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * Renders a template for the given data directly to an output.
+     * 
+     * @param config the report configuration
+     * @param data the report data
+     * @param out the output to write to
+     * @throws IOException if the template cannot be loaded or the output cannot be written
+     */
+    public void renderTemplate(ReportConfig config, Map<String, Object> data, Appendable out) throws IOException {
+        String templateName = config.getType().name().toLowerCase();
+        ReportTemplate template = getTemplate(templateName, config.getFormat());
+        template.render(createContext(config, data), out);
+    }
+}
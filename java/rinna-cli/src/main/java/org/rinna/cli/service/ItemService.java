@@ -7,8 +7,12 @@
  */
 package org.rinna.cli.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 import org.rinna.cli.model.Priority;
@@ -28,6 +32,25 @@ public interface ItemService {
      */
     List<WorkItem> getAllItems();
     
+    /**
+     * Gets a stamp that changes whenever the work items change, so results derived
+     * from the items, such as rendered reports, can be reused while it stays the same.
+     * The default fingerprints the fields of every item; stores that keep a
+     * modification counter should return it instead.
+     *
+     * @return the data version stamp
+     */
+    default long getDataVersion() {
+        long version = 1;
+        for (WorkItem item : getAllItems()) {
+            version = 31 * version + Objects.hash(item.getId(), item.getTitle(), item.getDescription(),
+                item.getType(), item.getPriority(), item.getStatus(), item.getAssignee(), item.getReporter(),
+                item.getProject(), item.getVersion(),
+                item.getCreated(), item.getUpdated(), item.getDueDate());
+        }
+        return version;
+    }
+    
     /**
      * Gets a specific work item by ID.
      *
@@ -36,6 +59,29 @@ public interface ItemService {
      */
     WorkItem getItem(String id);
     
+    /**
+     * Gets several work items by ID in one call.
+     * IDs that do not exist are skipped; the result follows the order of the IDs.
+     * The default indexes all items once instead of looking each ID up separately.
+     *
+     * @param ids the work item IDs
+     * @return the work items that were found
+     */
+    default List<WorkItem> getItems(Collection<String> ids) {
+        Map<String, WorkItem> byId = new HashMap<>();
+        for (WorkItem item : getAllItems()) {
+            byId.putIfAbsent(item.getId(), item);
+        }
+        List<WorkItem> result = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            WorkItem item = byId.get(id);
+            if (item != null) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+    
     /**
      * Creates a new work item.
      *
@@ -0,0 +1,747 @@
+/*
+ * Local audit service for Rinna CLI
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+package org.rinna.cli.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.rinna.cli.audit.AuditEvent;
+import org.rinna.cli.audit.AuditLogStore;
+import org.rinna.cli.audit.SlidingWindowCounter;
+import org.rinna.cli.service.MetadataService.OperationMetadata;
+
+/**
+ * Keeps the audit trail in a day-partitioned {@link AuditLogStore} next to the local database.
+ *
+ * <p>Events are fed from finished operations of the metadata service. Each alert keeps a
+ * {@link SlidingWindowCounter} of its event types, seeded from the log when the alert is
+ * loaded, so checking an alert on every event is constant time. An alert fires once when
+ * its count reaches the threshold and re-arms when the count drops below it again.</p>
+ */
+public class LocalAuditService implements AuditService {
+    private static final Logger LOGGER = Logger.getLogger(LocalAuditService.class.getName());
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    /** Alert counters divide their window into this many buckets. */
+    private static final int ALERT_BUCKETS = 60;
+
+    /** Parameters that are never written to the log in clear text. */
+    private static final List<String> ALWAYS_MASKED = List.of("password", "passphrase", "token", "secret");
+
+    private static final String ALERT_EVENT = "ALERT_TRIGGERED";
+    private static final String MASK = "****";
+
+    private static final String KEY_RETENTION = "audit.retention.days";
+    private static final String KEY_MASKED_FIELDS = "audit.masking.fields";
+    private static final String KEY_ALERT_PREFIX = "audit.alert.";
+
+    private final AuditLogStore store;
+    private final Path settingsFile;
+    private final Properties settings = new Properties();
+    private final Map<String, Alert> alerts = new LinkedHashMap<>();
+    private final Map<String, Investigation> investigations = new ConcurrentHashMap<>();
+    private volatile Pattern maskPattern;
+
+    /**
+     * An alert with the counter of its events.
+     */
+    private static final class Alert {
+        private final String name;
+        private final Set<String> events;
+        private final int threshold;
+        private final int window;
+        private final List<String> recipients;
+        private final SlidingWindowCounter counter;
+        private boolean firing;
+        private int triggered;
+        private Instant lastTriggered;
+
+        Alert(String name, Set<String> events, int threshold, int window, List<String> recipients) {
+            this.name = name;
+            this.events = events;
+            this.threshold = threshold;
+            this.window = window;
+            this.recipients = recipients;
+            this.counter = new SlidingWindowCounter(Duration.ofMinutes(window), ALERT_BUCKETS);
+        }
+    }
+
+    /**
+     * A security investigation of one user.
+     */
+    private record Investigation(String id, String user, int days, LocalDate opened) {
+    }
+
+    /**
+     * Creates an audit service storing its log in an {@code audit} directory next to the default database.
+     */
+    public LocalAuditService() {
+        this(LocalBackupService.getDefaultDatabase().resolveSibling("audit"));
+    }
+
+    /**
+     * Creates an audit service.
+     *
+     * @param directory the directory of the audit log, its settings and exports
+     */
+    public LocalAuditService(Path directory) {
+        try {
+            this.store = new AuditLogStore(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open audit log in " + directory, e);
+        }
+        this.settingsFile = directory.resolve("audit.properties");
+        loadSettings();
+        updateMaskPattern();
+        loadAlerts();
+    }
+
+    /**
+     * Records a finished operation in the audit log.
+     *
+     * @param metadata the operation
+     */
+    public void record(OperationMetadata metadata) {
+        LocalDateTime finished = metadata.getEndTime() != null ? metadata.getEndTime() : metadata.getStartTime();
+        Instant timestamp = finished != null ? finished.atZone(store.getZone()).toInstant() : Instant.now();
+        record(new AuditEvent(timestamp, metadata.getUsername(), classify(metadata), metadata.getCommandName(),
+            metadata.getStatus(), describe(metadata)));
+    }
+
+    /**
+     * Appends an event to the audit log and checks the alerts watching its type.
+     *
+     * @param event the event
+     */
+    public void record(AuditEvent event) {
+        try {
+            store.append(event);
+            applyRetention();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to write audit event " + event.eventType(), e);
+            return;
+        }
+        if (!ALERT_EVENT.equals(event.eventType())) {
+            checkAlerts(event);
+        }
+    }
+
+    @Override
+    public String listAuditLogs(String user, Integer days, Integer limit) {
+        int daysToUse = days != null && days > 0 ? days : 7;
+        int limitToUse = limit != null && limit > 0 ? limit : 100;
+        LocalDate today = LocalDate.now(store.getZone());
+
+        List<AuditEvent> events;
+        try {
+            events = store.query(today.minusDays(daysToUse - 1L), today, user, null, limitToUse);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read audit log: " + e.getMessage(), e);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("Audit Logs\n");
+        sb.append("==========\n\n");
+
+        if (events.isEmpty()) {
+            sb.append("No audit events found.\n");
+        } else {
+            sb.append("Date       | Time     | User     | Action           | Details\n");
+            sb.append("-----------|----------|----------|------------------|--------\n");
+            for (AuditEvent event : events) {
+                LocalDateTime time = LocalDateTime.ofInstant(event.timestamp(), store.getZone());
+                sb.append(time.format(DATE_FORMAT)).append(" | ")
+                  .append(time.format(TIME_FORMAT)).append(" | ")
+                  .append(String.format("%-8s", event.user())).append(" | ")
+                  .append(String.format("%-16s", event.eventType())).append(" | ")
+                  .append(event.command()).append(' ').append(event.status());
+                String details = mask(event.details());
+                if (!details.isEmpty()) {
+                    sb.append(": ").append(details);
+                }
+                sb.append("\n");
+            }
+        }
+
+        sb.append("\nShowing logs from the last ").append(daysToUse).append(" days");
+        if (user != null) {
+            sb.append("\nFiltered by user: ").append(user);
+        }
+        if (events.size() == limitToUse) {
+            sb.append("\nLimited to ").append(limitToUse).append(" entries");
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public synchronized boolean configureRetention(Integer days) {
+        if (days == null || days <= 0) {
+            return false;
+        }
+        settings.setProperty(KEY_RETENTION, String.valueOf(days));
+        try {
+            applyRetention();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to remove expired audit partitions", e);
+        }
+        return saveSettings();
+    }
+
+    @Override
+    public String getAuditStatus() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("Audit System Status\n");
+        sb.append("==================\n\n");
+
+        sb.append("Audit logging: Enabled\n");
+        sb.append("Retention period: ").append(getRetentionDays()).append(" days\n");
+        sb.append("Storage location: ").append(store.getDirectory().toAbsolutePath()).append("\n");
+        sb.append("Current log size: ").append(LocalBackupService.formatSize(store.size()))
+          .append(" in ").append(store.getPartitionCount()).append(" daily partitions\n");
+        sb.append("Log format: Tab-separated, one file per day\n");
+
+        sb.append("\nMasked fields: ");
+        List<String> maskedFields = getMaskedFields();
+        sb.append(maskedFields.isEmpty() ? "None" : String.join(", ", maskedFields));
+
+        synchronized (this) {
+            sb.append("\n\nActive alerts: ").append(alerts.size());
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public String exportAuditLogs(LocalDate fromDate, LocalDate toDate, String format) {
+        if (fromDate == null || toDate == null) {
+            throw new IllegalArgumentException("Date range cannot be null");
+        }
+        if (fromDate.isAfter(toDate)) {
+            throw new IllegalArgumentException("From date cannot be after to date");
+        }
+
+        format = format.toLowerCase(Locale.ROOT);
+        if (format.equals("pdf")) {
+            throw new IllegalArgumentException("PDF export is not available for the local audit log. Use csv or json.");
+        }
+        if (!format.equals("csv") && !format.equals("json")) {
+            throw new IllegalArgumentException("Invalid export format: " + format + ". Use csv or json.");
+        }
+
+        Path outputFile = store.getDirectory().resolve("exports")
+            .resolve("audit_export_" + fromDate + "_to_" + toDate + "." + format);
+        try {
+            Files.createDirectories(outputFile.getParent());
+            try (Writer writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
+                if (format.equals("csv")) {
+                    writer.write("Date,Time,User,Action,Command,Status,Details\n");
+                    store.export(fromDate, toDate, this::formatCsv, "", writer);
+                } else {
+                    writer.write("{\n  \"auditLogs\": [\n");
+                    long count = store.export(fromDate, toDate, this::formatJson, ",\n", writer);
+                    writer.write(count > 0 ? "\n  ],\n" : "  ],\n");
+                    writer.write("  \"metadata\": {\n");
+                    writer.write("    \"fromDate\": \"" + fromDate + "\",\n");
+                    writer.write("    \"toDate\": \"" + toDate + "\",\n");
+                    writer.write("    \"events\": " + count + ",\n");
+                    writer.write("    \"exportedBy\": \"" + jsonEscape(System.getProperty("user.name", "system")) + "\",\n");
+                    writer.write("    \"exportTime\": \"" + LocalDateTime.now() + "\"\n");
+                    writer.write("  }\n}\n");
+                }
+            }
+            return outputFile.toAbsolutePath().toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to export audit logs: " + e.getMessage(), e);
+        }
+    }
+
+    private String formatCsv(List<AuditEvent> events) {
+        StringBuilder sb = new StringBuilder(events.size() * 96);
+        for (AuditEvent event : events) {
+            LocalDateTime time = LocalDateTime.ofInstant(event.timestamp(), store.getZone());
+            sb.append(time.format(DATE_FORMAT)).append(',')
+              .append(time.format(TIME_FORMAT)).append(',')
+              .append(csvEscape(event.user())).append(',')
+              .append(csvEscape(event.eventType())).append(',')
+              .append(csvEscape(event.command())).append(',')
+              .append(csvEscape(event.status())).append(',')
+              .append(csvEscape(mask(event.details()))).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private String formatJson(List<AuditEvent> events) {
+        StringBuilder sb = new StringBuilder(events.size() * 192);
+        for (AuditEvent event : events) {
+            if (sb.length() > 0) {
+                sb.append(",\n");
+            }
+            LocalDateTime time = LocalDateTime.ofInstant(event.timestamp(), store.getZone());
+            sb.append("    {\"date\": \"").append(time.format(DATE_FORMAT))
+              .append("\", \"time\": \"").append(time.format(TIME_FORMAT))
+              .append("\", \"user\": \"").append(jsonEscape(event.user()))
+              .append("\", \"action\": \"").append(jsonEscape(event.eventType()))
+              .append("\", \"command\": \"").append(jsonEscape(event.command()))
+              .append("\", \"status\": \"").append(jsonEscape(event.status()))
+              .append("\", \"details\": \"").append(jsonEscape(mask(event.details()))).append("\"}");
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public synchronized boolean configureMasking(List<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            settings.remove(KEY_MASKED_FIELDS);
+        } else {
+            settings.setProperty(KEY_MASKED_FIELDS, String.join(",", fields));
+        }
+        updateMaskPattern();
+        return saveSettings();
+    }
+
+    @Override
+    public String getMaskingStatus() {
+        List<String> maskedFields = getMaskedFields();
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("Data Masking Configuration\n");
+        sb.append("=========================\n\n");
+
+        sb.append("Masking enabled: ").append(!maskedFields.isEmpty()).append("\n");
+        sb.append("Masked fields: ").append(maskedFields.isEmpty() ? "None" : String.join(", ", maskedFields)).append("\n");
+        sb.append("Always masked: ").append(String.join(", ", ALWAYS_MASKED));
+
+        return sb.toString();
+    }
+
+    @Override
+    public synchronized boolean addAlert(String name, List<String> events, int threshold, int window, List<String> recipients) {
+        if (name == null || name.isEmpty() || events == null || events.isEmpty() || threshold < 1 || window < 1) {
+            return false;
+        }
+
+        Alert alert = new Alert(name, new LinkedHashSet<>(events), threshold, window,
+            recipients != null ? List.copyOf(recipients) : List.of());
+        seedCounter(alert);
+        alerts.put(name, alert);
+
+        String prefix = KEY_ALERT_PREFIX + name + ".";
+        settings.setProperty(prefix + "events", String.join(",", alert.events));
+        settings.setProperty(prefix + "threshold", String.valueOf(threshold));
+        settings.setProperty(prefix + "window", String.valueOf(window));
+        settings.setProperty(prefix + "recipients", String.join(",", alert.recipients));
+        return saveSettings();
+    }
+
+    @Override
+    public synchronized String listAlerts() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("Audit Alerts\n");
+        sb.append("===========\n\n");
+
+        if (alerts.isEmpty()) {
+            sb.append("No alerts configured.\n");
+            return sb.toString();
+        }
+
+        sb.append("Name              | Events           | Threshold | Window (min) | Current | Recipients\n");
+        sb.append("------------------|------------------|-----------|--------------|---------|----------\n");
+        long now = System.currentTimeMillis();
+        for (Alert alert : alerts.values()) {
+            sb.append(String.format("%-18s", alert.name)).append("| ");
+            sb.append(String.format("%-17s", String.join(",", alert.events))).append("| ");
+            sb.append(String.format("%-10d", alert.threshold)).append("| ");
+            sb.append(String.format("%-13d", alert.window)).append("| ");
+            sb.append(String.format("%-8d", alert.counter.count(now))).append("| ");
+            sb.append(String.join(",", alert.recipients));
+            if (alert.lastTriggered != null) {
+                sb.append(" (triggered ").append(alert.triggered).append("x, last ")
+                  .append(LocalDateTime.ofInstant(alert.lastTriggered, store.getZone()).format(TIME_FORMAT)).append(")");
+            }
+            sb.append("\n");
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public synchronized boolean removeAlert(String name) {
+        if (alerts.remove(name) == null) {
+            return false;
+        }
+        String prefix = KEY_ALERT_PREFIX + name + ".";
+        settings.stringPropertyNames().stream().filter(key -> key.startsWith(prefix)).forEach(settings::remove);
+        return saveSettings();
+    }
+
+    @Override
+    public String createInvestigation(String user, Integer days) {
+        if (user == null || user.isEmpty()) {
+            throw new IllegalArgumentException("Username cannot be empty");
+        }
+
+        String caseId = "INV-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase(Locale.ROOT);
+        investigations.put(caseId, new Investigation(caseId, user, days != null && days > 0 ? days : 7,
+            LocalDate.now(store.getZone())));
+        return caseId;
+    }
+
+    @Override
+    public String getInvestigationFindings(String caseId) {
+        if (caseId == null || caseId.isEmpty()) {
+            throw new IllegalArgumentException("Case ID cannot be empty");
+        }
+        Investigation investigation = investigations.get(caseId);
+        if (investigation == null) {
+            throw new IllegalArgumentException("Investigation not found: " + caseId);
+        }
+
+        Map<String, Integer> counts;
+        try {
+            counts = store.countByType(investigation.opened().minusDays(investigation.days() - 1L),
+                investigation.opened(), investigation.user());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read audit log: " + e.getMessage(), e);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("Investigation Findings: ").append(caseId).append("\n");
+        sb.append("=====================").append("=".repeat(caseId.length())).append("\n\n");
+
+        sb.append("Subject: ").append(investigation.user()).append("\n");
+        sb.append("Period: Last ").append(investigation.days()).append(" days\n\n");
+
+        sb.append("Activity Summary:\n");
+        if (counts.isEmpty()) {
+            sb.append("- No audited activity\n");
+        } else {
+            new TreeMap<>(counts).forEach((type, count) ->
+                sb.append("- ").append(type).append(": ").append(count).append("\n"));
+        }
+
+        sb.append("\nFindings:\n");
+        int failedLogins = counts.getOrDefault("FAILED_LOGIN", 0);
+        int denied = counts.getOrDefault("PERMISSION_DENIED", 0);
+        int exports = counts.getOrDefault("DATA_EXPORT", 0);
+        if (failedLogins == 0 && denied == 0 && exports == 0) {
+            sb.append("- No suspicious activity detected\n");
+        }
+        if (failedLogins > 0) {
+            sb.append("- ").append(failedLogins).append(" failed login attempts\n");
+        }
+        if (denied > 0) {
+            sb.append("- ").append(denied).append(" denied operations\n");
+        }
+        if (exports > 0) {
+            sb.append("- ").append(exports).append(" data exports\n");
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public boolean performInvestigationAction(String action, String user) {
+        if (action == null || action.isEmpty()) {
+            throw new IllegalArgumentException("Action cannot be empty");
+        }
+        if (user == null || user.isEmpty()) {
+            throw new IllegalArgumentException("Username cannot be empty");
+        }
+
+        String normalized = action.toUpperCase(Locale.ROOT);
+        Set<String> types;
+        switch (normalized) {
+            case "COLLECT_LOGS":
+                types = null;
+                break;
+            case "EXTRACT_EVENTS":
+                types = Set.of("FAILED_LOGIN", "PERMISSION_DENIED", "ADMIN_ACTION", "DATA_EXPORT", "CONFIGURATION_CHANGE");
+                break;
+            default:
+                // Account actions belong to the user service, the audit log can only collect evidence
+                LOGGER.warning("Investigation action " + action + " is not supported by the local audit log");
+                return false;
+        }
+
+        LocalDate today = LocalDate.now(store.getZone());
+        Path outputFile = store.getDirectory().resolve("investigations")
+            .resolve(user.replaceAll("[^A-Za-z0-9._-]", "_") + "_" + normalized.toLowerCase(Locale.ROOT) + "_" + today + ".txt");
+        try {
+            LocalDate from = store.getFirstDay() != null ? store.getFirstDay() : today;
+            List<AuditEvent> events = store.query(from, today, user, null, Integer.MAX_VALUE);
+            Files.createDirectories(outputFile.getParent());
+            try (Writer writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
+                for (int i = events.size() - 1; i >= 0; i--) {
+                    AuditEvent event = events.get(i);
+                    if (types == null || types.contains(event.eventType())) {
+                        writer.write(new AuditEvent(event.timestamp(), event.user(), event.eventType(),
+                            event.command(), event.status(), mask(event.details())).toLine());
+                        writer.write("\n");
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to collect audit events of " + user, e);
+            return false;
+        }
+
+        record(new AuditEvent(Instant.now(), System.getProperty("user.name", "system"), "ADMIN_ACTION",
+            "investigation", "COMPLETED", "action=" + normalized + "; user=" + user));
+        return true;
+    }
+
+    private static String classify(OperationMetadata metadata) {
+        String name = (metadata.getCommandName() + " " + metadata.getOperationType()).toLowerCase(Locale.ROOT);
+        boolean failed = "FAILED".equals(metadata.getStatus());
+        String error = metadata.getErrorMessage() != null ? metadata.getErrorMessage().toLowerCase(Locale.ROOT) : "";
+
+        if (failed && (name.contains("login") || name.contains("auth"))) {
+            return "FAILED_LOGIN";
+        }
+        if (failed && (error.contains("permission") || error.contains("denied") || error.contains("not authorized"))) {
+            return "PERMISSION_DENIED";
+        }
+        if (name.contains("export")) {
+            return "DATA_EXPORT";
+        }
+        if (name.contains("config")) {
+            return "CONFIGURATION_CHANGE";
+        }
+        if (name.startsWith("admin")) {
+            return "ADMIN_ACTION";
+        }
+        return metadata.getOperationType() != null
+            ? metadata.getOperationType().toUpperCase(Locale.ROOT)
+            : String.valueOf(metadata.getCommandName()).toUpperCase(Locale.ROOT);
+    }
+
+    private static String describe(OperationMetadata metadata) {
+        StringBuilder details = new StringBuilder();
+        if (metadata.getParameters() != null) {
+            new TreeMap<>(metadata.getParameters()).forEach((key, value) -> {
+                if (details.length() > 0) {
+                    details.append("; ");
+                }
+                String lower = key.toLowerCase(Locale.ROOT);
+                boolean secret = ALWAYS_MASKED.stream().anyMatch(lower::contains);
+                details.append(key).append('=').append(secret ? MASK : value);
+            });
+        }
+        if (metadata.getErrorMessage() != null) {
+            if (details.length() > 0) {
+                details.append("; ");
+            }
+            details.append("error=").append(metadata.getErrorMessage());
+        }
+        return details.toString();
+    }
+
+    private String mask(String details) {
+        Pattern pattern = maskPattern;
+        if (details == null || pattern == null) {
+            return details != null ? details : "";
+        }
+        Matcher matcher = pattern.matcher(details);
+        return matcher.find() ? matcher.replaceAll("$1=" + MASK) : details;
+    }
+
+    private void updateMaskPattern() {
+        List<String> fields = getMaskedFields();
+        maskPattern = fields.isEmpty() ? null : Pattern.compile(
+            "(?i)(?<![\\w.])(" + fields.stream().map(Pattern::quote).collect(Collectors.joining("|")) + ")=[^;]*");
+    }
+
+    private synchronized void checkAlerts(AuditEvent event) {
+        long time = event.timestamp().toEpochMilli();
+        long now = Math.max(time, System.currentTimeMillis());
+        List<Alert> fired = new ArrayList<>();
+        for (Alert alert : alerts.values()) {
+            if (!alert.events.contains(event.eventType())) {
+                continue;
+            }
+            alert.counter.add(time);
+            int count = alert.counter.count(now);
+            if (count < alert.threshold) {
+                alert.firing = false;
+            } else if (!alert.firing) {
+                alert.firing = true;
+                alert.triggered++;
+                alert.lastTriggered = Instant.ofEpochMilli(now);
+                fired.add(alert);
+            }
+        }
+
+        for (Alert alert : fired) {
+            String message = "Alert " + alert.name + ": " + alert.threshold + " or more "
+                + String.join("/", alert.events) + " events within " + alert.window + " minutes";
+            LOGGER.warning(message + (alert.recipients.isEmpty() ? "" : ", notifying " + String.join(", ", alert.recipients)));
+            record(new AuditEvent(Instant.ofEpochMilli(now), "system", ALERT_EVENT, alert.name, "TRIGGERED",
+                "threshold=" + alert.threshold + "; window=" + alert.window + "; recipients=" + String.join(",", alert.recipients)));
+        }
+    }
+
+    /**
+     * Counts the events of an alert's types that are already in its window.
+     */
+    private void seedCounter(Alert alert) {
+        Instant now = Instant.now();
+        Instant windowStart = now.minus(Duration.ofMinutes(alert.window));
+        LocalDate today = LocalDate.ofInstant(now, store.getZone());
+        LocalDate from = LocalDate.ofInstant(windowStart, store.getZone());
+        try {
+            for (String type : alert.events) {
+                for (AuditEvent event : store.query(from, today, null, type, Integer.MAX_VALUE)) {
+                    if (!event.timestamp().isBefore(windowStart)) {
+                        alert.counter.add(event.timestamp().toEpochMilli());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to seed alert " + alert.name + " from the audit log", e);
+        }
+        alert.firing = alert.counter.count(now.toEpochMilli()) >= alert.threshold;
+    }
+
+    private void applyRetention() throws IOException {
+        LocalDate first = store.getFirstDay();
+        LocalDate cutoff = LocalDate.now(store.getZone()).minusDays(getRetentionDays() - 1L);
+        if (first != null && first.isBefore(cutoff)) {
+            store.deleteBefore(cutoff);
+        }
+    }
+
+    private int getRetentionDays() {
+        return parseInt(settings.getProperty(KEY_RETENTION), 30);
+    }
+
+    private List<String> getMaskedFields() {
+        String fields = settings.getProperty(KEY_MASKED_FIELDS, "");
+        return fields.isBlank() ? List.of()
+            : Arrays.stream(fields.split(",")).map(String::trim).filter(field -> !field.isEmpty()).toList();
+    }
+
+    private void loadAlerts() {
+        for (String key : new TreeMap<>(settings).keySet().stream().map(String::valueOf).toList()) {
+            if (!key.startsWith(KEY_ALERT_PREFIX) || !key.endsWith(".events")) {
+                continue;
+            }
+            String prefix = key.substring(0, key.length() - "events".length());
+            String name = prefix.substring(KEY_ALERT_PREFIX.length(), prefix.length() - 1);
+            int threshold = parseInt(settings.getProperty(prefix + "threshold"), 0);
+            int window = parseInt(settings.getProperty(prefix + "window"), 0);
+            if (threshold < 1 || window < 1) {
+                LOGGER.warning("Ignoring invalid audit alert " + name);
+                continue;
+            }
+            String recipients = settings.getProperty(prefix + "recipients", "");
+            Alert alert = new Alert(name, new LinkedHashSet<>(Arrays.asList(settings.getProperty(key).split(","))),
+                threshold, window, recipients.isEmpty() ? List.of() : List.of(recipients.split(",")));
+            seedCounter(alert);
+            alerts.put(name, alert);
+        }
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        try {
+            return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static String csvEscape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String jsonEscape(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private void loadSettings() {
+        if (!Files.exists(settingsFile)) {
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(settingsFile, StandardCharsets.UTF_8)) {
+            settings.load(reader);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to load audit settings from " + settingsFile, e);
+        }
+    }
+
+    private boolean saveSettings() {
+        try {
+            Files.createDirectories(settingsFile.toAbsolutePath().getParent());
+            try (Writer writer = Files.newBufferedWriter(settingsFile, StandardCharsets.UTF_8)) {
+                settings.store(writer, "Rinna audit settings");
+            }
+            return true;
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to save audit settings to " + settingsFile, e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,547 @@
+/*
+ * Local backup service for Rinna CLI
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+package org.rinna.cli.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.rinna.cli.backup.BackupEngine;
+import org.rinna.cli.backup.BackupEngine.PruneResult;
+import org.rinna.cli.backup.BackupEngine.Verification;
+import org.rinna.cli.backup.BackupManifest;
+
+/**
+ * Backs up the local SQLite database into a deduplicating chunk store.
+ *
+ * <p>Backups are taken by the {@link BackupEngine}, so each one only stores the
+ * chunks of the database that changed since an earlier backup. After each backup,
+ * the new chunks are copied to any secondary locations and backups past the
+ * retention period are pruned. Settings are kept in a properties file so they
+ * apply to later commands.</p>
+ */
+public class LocalBackupService implements BackupService {
+    private static final Logger LOGGER = Logger.getLogger(LocalBackupService.class.getName());
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String KEY_TYPE = "backup.type";
+    private static final String KEY_FREQUENCY = "backup.frequency";
+    private static final String KEY_TIME = "backup.time";
+    private static final String KEY_RETENTION = "backup.retention.days";
+    private static final String KEY_LOCATION_PREFIX = "backup.location.";
+    private static final String KEY_LOCATIONS_STRATEGY = "backup.locations.strategy";
+    private static final String KEY_STRATEGY = "backup.strategy";
+    private static final String KEY_FULL_FREQUENCY = "backup.strategy.full";
+    private static final String KEY_INCREMENTAL_FREQUENCY = "backup.strategy.incremental";
+    private static final String KEY_NOTIFICATIONS = "backup.notifications.enabled";
+    private static final String KEY_NOTIFICATION_EVENTS = "backup.notifications.events";
+    private static final String KEY_NOTIFICATION_RECIPIENTS = "backup.notifications.recipients";
+
+    private final Path database;
+    private final Path settingsFile;
+    private final Properties settings = new Properties();
+    private final List<String> failures = new ArrayList<>();
+    private BackupEngine engine;
+
+    /**
+     * Creates a backup service for the default database, with settings stored next to it.
+     */
+    public LocalBackupService() {
+        this(getDefaultDatabase(), getDefaultDatabase().resolveSibling("backup.properties"));
+    }
+
+    /**
+     * Creates a backup service.
+     *
+     * @param database the SQLite database to back up
+     * @param settingsFile the file backup settings are stored in
+     */
+    public LocalBackupService(Path database, Path settingsFile) {
+        this.database = database;
+        this.settingsFile = settingsFile;
+        loadSettings();
+    }
+
+    /**
+     * Gets the database the CLI backs up: the {@code rinna.database} system property,
+     * or {@code ~/.rinna/rinna.db}.
+     *
+     * @return the database file
+     */
+    public static Path getDefaultDatabase() {
+        String configured = System.getProperty("rinna.database");
+        if (configured != null && !configured.isBlank()) {
+            return Paths.get(configured);
+        }
+        return Paths.get(System.getProperty("user.home"), ".rinna", "rinna.db");
+    }
+
+    /**
+     * Gets the engine writing to the primary backup location.
+     *
+     * @return the backup engine
+     */
+    public synchronized BackupEngine getEngine() {
+        if (engine == null) {
+            engine = new BackupEngine(database, Paths.get(getLocations().get(0)));
+        }
+        return engine;
+    }
+
+    @Override
+    public synchronized boolean configureBackup(String type, String frequency, String time, int retention, String location) {
+        if (location == null || location.isBlank() || retention < 1) {
+            return false;
+        }
+        settings.setProperty(KEY_TYPE, type);
+        settings.setProperty(KEY_FREQUENCY, frequency);
+        settings.setProperty(KEY_TIME, time);
+        settings.setProperty(KEY_RETENTION, String.valueOf(retention));
+
+        List<String> locations = getLocations();
+        locations.set(0, location);
+        setLocations(locations);
+        return saveSettings();
+    }
+
+    @Override
+    public String getBackupStatus() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("Backup Status\n");
+        sb.append("=============\n\n");
+
+        sb.append("Configuration:\n");
+        sb.append("- Database: ").append(database).append("\n");
+        sb.append("- Type: ").append(settings.getProperty(KEY_TYPE, "incremental")).append("\n");
+        sb.append("- Frequency: ").append(settings.getProperty(KEY_FREQUENCY, "daily")).append("\n");
+        sb.append("- Time: ").append(settings.getProperty(KEY_TIME, "02:00")).append("\n");
+        sb.append("- Retention: ").append(getRetentionDays()).append(" days\n");
+        sb.append("- Location: ").append(getLocations().get(0)).append("\n");
+
+        sb.append("\nLast Backup:\n");
+        try {
+            List<BackupManifest> backups = getEngine().listBackups();
+            if (backups.isEmpty()) {
+                sb.append("- No backups found\n");
+            } else {
+                BackupManifest last = backups.get(backups.size() - 1);
+                sb.append("- ID: ").append(last.getId()).append("\n");
+                sb.append("- Type: ").append(last.getType()).append("\n");
+                sb.append("- Time: ").append(formatTime(last)).append("\n");
+                sb.append("- Database size: ").append(formatSize(last.getSourceSize())).append("\n");
+                sb.append("- Stored: ").append(formatSize(last.getStoredBytes())).append("\n");
+            }
+
+            sb.append("\nStore:\n");
+            sb.append("- Backups: ").append(backups.size()).append("\n");
+            sb.append("- Size on disk: ").append(formatSize(getEngine().getStore().size())).append("\n");
+        } catch (IOException e) {
+            sb.append("- Error reading backup store: ").append(e.getMessage()).append("\n");
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public synchronized String startBackup(String type) {
+        BackupEngine backupEngine = getEngine();
+        BackupManifest manifest;
+        try {
+            manifest = backupEngine.backup(type);
+        } catch (IOException e) {
+            failures.add(LocalDateTime.now().format(DATE_FORMAT) + " " + type + ": " + e.getMessage());
+            throw new UncheckedIOException("Backup failed: " + e.getMessage(), e);
+        }
+
+        // A failed mirror or prune does not undo the backup itself
+        List<String> locations = getLocations();
+        for (String location : locations.subList(1, locations.size())) {
+            try {
+                backupEngine.mirror(manifest, Paths.get(location));
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Failed to copy backup " + manifest.getId() + " to " + location, e);
+            }
+        }
+        try {
+            PruneResult pruned = backupEngine.prune(getRetentionDays());
+            if (pruned.removedBackups() > 0) {
+                LOGGER.info("Pruned " + pruned.removedBackups() + " expired backups, freeing "
+                    + formatSize(pruned.freedBytes()));
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to prune expired backups", e);
+        }
+
+        return manifest.getId();
+    }
+
+    @Override
+    public String listBackups() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("Available Backups\n");
+        sb.append("================\n\n");
+
+        sb.append(String.format("%-12s | %-12s | %-19s | %-10s | %-10s | %s\n",
+                "ID", "Type", "Date", "Size", "Stored", "Chunks"));
+        sb.append(String.format("%-12s-|-%-12s-|-%-19s-|-%-10s-|-%-10s-|-%s\n",
+                "------------", "------------", "-------------------", "----------", "----------", "------"));
+
+        try {
+            List<BackupManifest> backups = getEngine().listBackups();
+            for (int i = backups.size() - 1; i >= 0; i--) {
+                BackupManifest backup = backups.get(i);
+                sb.append(String.format("%-12s | %-12s | %-19s | %-10s | %-10s | %d new of %d\n",
+                        backup.getId(),
+                        backup.getType(),
+                        formatTime(backup),
+                        formatSize(backup.getSourceSize()),
+                        formatSize(backup.getStoredBytes()),
+                        backup.getNewChunks(),
+                        backup.getChunks().size()));
+            }
+
+            sb.append("\nTotal backups: ").append(backups.size());
+            sb.append("\nSize on disk: ").append(formatSize(getEngine().getStore().size()));
+            sb.append("\nRetention period: ").append(getRetentionDays()).append(" days");
+        } catch (IOException e) {
+            sb.append("\nError reading backup store: ").append(e.getMessage());
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public synchronized boolean configureBackupStrategy(String strategy, String fullFrequency, String incrementalFrequency) {
+        settings.setProperty(KEY_STRATEGY, strategy);
+        settings.setProperty(KEY_FULL_FREQUENCY, fullFrequency);
+        settings.setProperty(KEY_INCREMENTAL_FREQUENCY, incrementalFrequency);
+        return saveSettings();
+    }
+
+    @Override
+    public String getBackupStrategyStatus() {
+        String strategy = settings.getProperty(KEY_STRATEGY, "incremental");
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("Backup Strategy Configuration\n");
+        sb.append("============================\n\n");
+
+        sb.append("Current strategy: ").append(strategy).append("\n");
+        if (!"full-only".equals(strategy)) {
+            sb.append("- Full backups performed: ").append(settings.getProperty(KEY_FULL_FREQUENCY, "weekly")).append("\n");
+            sb.append("- ").append("differential".equals(strategy) ? "Differential" : "Incremental")
+              .append(" backups performed: ").append(settings.getProperty(KEY_INCREMENTAL_FREQUENCY, "daily")).append("\n");
+        }
+
+        sb.append("\nBackups are split into content-defined chunks and each chunk is stored\n");
+        sb.append("once, so every backup only adds the parts of the database that changed.\n");
+        sb.append("Each backup can still be restored on its own, whatever its type.\n");
+
+        return sb.toString();
+    }
+
+    @Override
+    public String getBackupHistory() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("Backup History\n");
+        sb.append("==============\n\n");
+
+        sb.append(String.format("%-19s | %-12s | %-10s | %-8s | %s\n",
+                "Date", "Type", "Stored", "Status", "Notes"));
+        sb.append(String.format("%-19s-|-%-12s-|-%-10s-|-%-8s-|-%s\n",
+                "-------------------", "------------", "----------", "--------", "-----"));
+
+        try {
+            List<BackupManifest> backups = getEngine().listBackups();
+            long databaseBytes = 0;
+            long storedBytes = 0;
+            for (int i = backups.size() - 1; i >= 0; i--) {
+                BackupManifest backup = backups.get(i);
+                databaseBytes += backup.getSourceSize();
+                storedBytes += backup.getStoredBytes();
+                sb.append(String.format("%-19s | %-12s | %-10s | %-8s | %s\n",
+                        formatTime(backup),
+                        backup.getType(),
+                        formatSize(backup.getStoredBytes()),
+                        "SUCCESS",
+                        backup.getNewChunks() + " new of " + backup.getChunks().size()
+                            + " chunks in " + backup.getDurationMillis() + " ms"));
+            }
+            for (String failure : failures) {
+                sb.append("FAILED: ").append(failure).append("\n");
+            }
+
+            sb.append("\nBackup Statistics:\n");
+            sb.append("- Backups retained: ").append(backups.size()).append("\n");
+            sb.append("- Database data backed up: ").append(formatSize(databaseBytes)).append("\n");
+            sb.append("- Data stored: ").append(formatSize(storedBytes)).append("\n");
+            if (storedBytes > 0) {
+                sb.append(String.format("- Reduction: %.1fx%n", (double) databaseBytes / storedBytes));
+            }
+        } catch (IOException e) {
+            sb.append("Error reading backup store: ").append(e.getMessage()).append("\n");
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public boolean configureBackupSecurity(boolean enableEncryption, String algorithm, String passphrase) {
+        // The chunk store does not encrypt, so only plaintext backups can be configured
+        return !enableEncryption;
+    }
+
+    @Override
+    public String getBackupSecurityStatus() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("Backup Security Configuration\n");
+        sb.append("============================\n\n");
+
+        sb.append("Encryption: Not supported\n");
+        sb.append("\nBackup chunks are compressed but stored in plaintext. Restrict access to\n");
+        sb.append("the backup locations with file system permissions.\n");
+
+        return sb.toString();
+    }
+
+    @Override
+    public String verifyBackup(String backupId) {
+        BackupManifest backup;
+        try {
+            backup = getEngine().findBackup(backupId).orElse(null);
+        } catch (IOException e) {
+            return "Error: Failed to read backup " + backupId + ": " + e.getMessage();
+        }
+        if (backup == null) {
+            return "Error: Backup not found: " + backupId;
+        }
+
+        long start = System.nanoTime();
+        Verification result = getEngine().verify(backup);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("Backup Verification Report\n");
+        sb.append("=========================\n\n");
+
+        sb.append("Backup ID: ").append(backup.getId()).append("\n");
+        sb.append("Type: ").append(backup.getType()).append("\n");
+        sb.append("Created: ").append(formatTime(backup)).append("\n");
+        sb.append("Size: ").append(formatSize(backup.getSourceSize())).append("\n");
+        sb.append("Location: ").append(getEngine().getStore().getRoot()).append("\n\n");
+
+        sb.append("Verification Results:\n");
+        sb.append("- Integrity check: ").append(result.valid() == result.chunks() ? "PASSED" : "FAILED").append("\n");
+        sb.append("- Completeness check: ").append(result.sizeMatches() && result.missing() == 0 ? "PASSED" : "FAILED").append("\n");
+
+        sb.append("\nChunk statistics:\n");
+        sb.append("- Total chunks: ").append(result.chunks()).append("\n");
+        sb.append("- Verified chunks: ").append(result.valid()).append("\n");
+        sb.append("- Corrupted chunks: ").append(result.corrupted()).append("\n");
+        sb.append("- Missing chunks: ").append(result.missing()).append("\n");
+        sb.append("- Verified in: ").append(elapsedMs).append(" ms\n");
+
+        if (result.isValid()) {
+            sb.append("\nVerification successfully completed. This backup is valid and can be used for restore operations.");
+        } else {
+            sb.append("\nVerification FAILED. This backup cannot be restored.");
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public synchronized boolean configureBackupNotifications(boolean enableNotifications, List<String> events, String recipients) {
+        settings.setProperty(KEY_NOTIFICATIONS, String.valueOf(enableNotifications));
+        if (enableNotifications) {
+            if (events != null && !events.isEmpty()) {
+                settings.setProperty(KEY_NOTIFICATION_EVENTS, String.join(",", events));
+            }
+            if (recipients != null && !recipients.isEmpty()) {
+                settings.setProperty(KEY_NOTIFICATION_RECIPIENTS, recipients);
+            }
+        }
+        return saveSettings();
+    }
+
+    @Override
+    public String getBackupNotificationsStatus() {
+        boolean enabled = Boolean.parseBoolean(settings.getProperty(KEY_NOTIFICATIONS, "false"));
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("Backup Notification Configuration\n");
+        sb.append("================================\n\n");
+
+        sb.append("Notifications: ").append(enabled ? "Enabled" : "Disabled").append("\n");
+
+        if (enabled) {
+            sb.append("\nNotification Events:\n");
+            for (String event : settings.getProperty(KEY_NOTIFICATION_EVENTS, "all").split(",")) {
+                sb.append("- ").append(event.trim()).append("\n");
+            }
+
+            sb.append("\nRecipients:\n");
+            for (String recipient : settings.getProperty(KEY_NOTIFICATION_RECIPIENTS, "").split(",")) {
+                if (!recipient.isBlank()) {
+                    sb.append("- ").append(recipient.trim()).append("\n");
+                }
+            }
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public synchronized boolean configureBackupLocations(List<String> locations, String strategy) {
+        if (locations != null && !locations.isEmpty()) {
+            setLocations(new ArrayList<>(locations));
+        }
+        if (strategy != null && !strategy.isEmpty()) {
+            settings.setProperty(KEY_LOCATIONS_STRATEGY, strategy);
+        }
+        return saveSettings();
+    }
+
+    @Override
+    public String listBackupLocations() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("Backup Storage Locations\n");
+        sb.append("=======================\n\n");
+
+        sb.append("Mirroring Strategy: ").append(settings.getProperty(KEY_LOCATIONS_STRATEGY, "synchronized")).append("\n\n");
+
+        sb.append(String.format("%-5s | %-50s | %-12s | %s\n",
+                "Index", "Location", "Status", "Space Available"));
+        sb.append(String.format("%-5s-|-%-50s-|-%-12s-|-%s\n",
+                "-----", "--------------------------------------------------", "------------", "---------------"));
+
+        List<String> locations = getLocations();
+        for (int i = 0; i < locations.size(); i++) {
+            sb.append(String.format("%-5d | %-50s | %-12s | %s\n",
+                    i + 1,
+                    truncate(locations.get(i), 50),
+                    i == 0 ? "PRIMARY" : "SECONDARY",
+                    getSpaceAvailable(Paths.get(locations.get(i)))));
+        }
+
+        return sb.toString();
+    }
+
+    private String getSpaceAvailable(Path location) {
+        // Report the space of the nearest existing directory
+        Path existing = location.toAbsolutePath();
+        while (existing != null && !Files.exists(existing)) {
+            existing = existing.getParent();
+        }
+        if (existing == null) {
+            return "Unknown";
+        }
+        try {
+            return formatSize(Files.getFileStore(existing).getUsableSpace());
+        } catch (IOException e) {
+            return "Unknown";
+        }
+    }
+
+    private int getRetentionDays() {
+        try {
+            return Integer.parseInt(settings.getProperty(KEY_RETENTION, "30"));
+        } catch (NumberFormatException e) {
+            return 30;
+        }
+    }
+
+    private List<String> getLocations() {
+        List<String> locations = new ArrayList<>();
+        for (int i = 0; settings.containsKey(KEY_LOCATION_PREFIX + i); i++) {
+            locations.add(settings.getProperty(KEY_LOCATION_PREFIX + i));
+        }
+        if (locations.isEmpty()) {
+            Path parent = database.toAbsolutePath().getParent();
+            locations.add(parent.resolve("backups").toString());
+        }
+        return locations;
+    }
+
+    private void setLocations(List<String> locations) {
+        settings.stringPropertyNames().stream()
+            .filter(key -> key.startsWith(KEY_LOCATION_PREFIX))
+            .forEach(settings::remove);
+        for (int i = 0; i < locations.size(); i++) {
+            settings.setProperty(KEY_LOCATION_PREFIX + i, locations.get(i));
+        }
+        // The primary location may have changed
+        engine = null;
+    }
+
+    private void loadSettings() {
+        if (!Files.exists(settingsFile)) {
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(settingsFile, StandardCharsets.UTF_8)) {
+            settings.load(reader);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to load backup settings from " + settingsFile, e);
+        }
+    }
+
+    private boolean saveSettings() {
+        try {
+            Files.createDirectories(settingsFile.toAbsolutePath().getParent());
+            try (Writer writer = Files.newBufferedWriter(settingsFile, StandardCharsets.UTF_8)) {
+                settings.store(writer, "Rinna backup settings");
+            }
+            return true;
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to save backup settings to " + settingsFile, e);
+            return false;
+        }
+    }
+
+    private static String formatTime(BackupManifest backup) {
+        return LocalDateTime.ofInstant(backup.getCreatedAt(), ZoneId.systemDefault()).format(DATE_FORMAT);
+    }
+
+    static String formatSize(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        } else if (bytes < 1024 * 1024) {
+            return String.format("%.2f KB", bytes / 1024.0);
+        } else if (bytes < 1024 * 1024 * 1024) {
+            return String.format("%.2f MB", bytes / (1024.0 * 1024));
+        } else {
+            return String.format("%.2f GB", bytes / (1024.0 * 1024 * 1024));
+        }
+    }
+
+    private static String truncate(String str, int maxLength) {
+        if (str.length() <= maxLength) {
+            return str;
+        }
+        return str.substring(0, maxLength - 3) + "...";
+    }
+}
@@ -17,6 +17,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import org.rinna.cli.util.InvocationContext;
+
 /**
  * Mock implementation of audit service functionality for CLI use.
  */
@@ -175,7 +177,7 @@ public class MockAuditService implements AuditService {
                            toDate.format(DateTimeFormatter.ISO_LOCAL_DATE);
         
         // Create target directory if it doesn't exist - use absolute path
-        String projectRoot = System.getProperty("user.dir");
+        String projectRoot = InvocationContext.workingDirectory();
         java.io.File targetDir = new java.io.File(projectRoot, "target/audit");
         
         // Create directories recursively if they don't exist
@@ -773,7 +775,7 @@ public class MockAuditService implements AuditService {
         
         // Create the lock file to simulate the account being locked
         try {
-            String projectRoot = System.getProperty("user.dir");
+            String projectRoot = InvocationContext.workingDirectory();
             java.io.File targetDir = new java.io.File(projectRoot, "target/audit/investigations/" + caseId);
             targetDir.mkdirs();
             
@@ -815,7 +817,7 @@ public class MockAuditService implements AuditService {
         
         // Check if the lock file exists and delete it to simulate unlocking
         try {
-            String projectRoot = System.getProperty("user.dir");
+            String projectRoot = InvocationContext.workingDirectory();
             java.io.File targetDir = new java.io.File(projectRoot, "target/audit/investigations/" + caseId);
             java.io.File lockFile = new java.io.File(targetDir, username + ".lock");
             
@@ -885,7 +887,7 @@ public class MockAuditService implements AuditService {
         
         // Create a suspend file to simulate the user being suspended
         try {
-            String projectRoot = System.getProperty("user.dir");
+            String projectRoot = InvocationContext.workingDirectory();
             java.io.File targetDir = new java.io.File(projectRoot, "target/audit/investigations/" + caseId);
             targetDir.mkdirs();
             
@@ -928,7 +930,7 @@ public class MockAuditService implements AuditService {
         
         // Check if the suspend file exists and delete it to simulate unsuspending
         try {
-            String projectRoot = System.getProperty("user.dir");
+            String projectRoot = InvocationContext.workingDirectory();
             java.io.File targetDir = new java.io.File(projectRoot, "target/audit/investigations/" + caseId);
             java.io.File suspendFile = new java.io.File(targetDir, username + ".suspend");
             
@@ -998,7 +1000,7 @@ public class MockAuditService implements AuditService {
         // and potentially send a notification to the user with temporary credentials
         
         try {
-            String projectRoot = System.getProperty("user.dir");
+            String projectRoot = InvocationContext.workingDirectory();
             java.io.File targetDir = new java.io.File(projectRoot, "target/audit/investigations/" + caseId);
             targetDir.mkdirs();
             
@@ -1048,7 +1050,7 @@ public class MockAuditService implements AuditService {
         // In a real implementation, this would collect logs from various systems
         
         try {
-            String projectRoot = System.getProperty("user.dir");
+            String projectRoot = InvocationContext.workingDirectory();
             java.io.File targetDir = new java.io.File(projectRoot, "target/audit/investigations/" + caseId);
             targetDir.mkdirs();
             
@@ -1117,7 +1119,7 @@ public class MockAuditService implements AuditService {
         // In a real implementation, this would configure systems to log additional user activity
         
         try {
-            String projectRoot = System.getProperty("user.dir");
+            String projectRoot = InvocationContext.workingDirectory();
             java.io.File targetDir = new java.io.File(projectRoot, "target/audit/investigations/" + caseId);
             targetDir.mkdirs();
             
@@ -1167,7 +1169,7 @@ public class MockAuditService implements AuditService {
         // In a real implementation, this would configure systems to stop enhanced logging
         
         try {
-            String projectRoot = System.getProperty("user.dir");
+            String projectRoot = InvocationContext.workingDirectory();
             java.io.File targetDir = new java.io.File(projectRoot, "target/audit/investigations/" + caseId);
             java.io.File monitorFile = new java.io.File(targetDir, username + ".monitor");
             
@@ -1237,7 +1239,7 @@ public class MockAuditService implements AuditService {
         // In a real implementation, this would extract events from various sources
         
         try {
-            String projectRoot = System.getProperty("user.dir");
+            String projectRoot = InvocationContext.workingDirectory();
             java.io.File targetDir = new java.io.File(projectRoot, "target/audit/investigations/" + caseId);
             targetDir.mkdirs();
             
@@ -1341,7 +1343,7 @@ public class MockAuditService implements AuditService {
         // In a real implementation, this would perform behavioral analysis
         
         try {
-            String projectRoot = System.getProperty("user.dir");
+            String projectRoot = InvocationContext.workingDirectory();
             java.io.File targetDir = new java.io.File(projectRoot, "target/audit/investigations/" + caseId);
             targetDir.mkdirs();
             
@@ -11,6 +11,9 @@ package org.rinna.cli.service;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 
 import org.rinna.cli.model.Priority;
 import org.rinna.cli.model.WorkItem;
@@ -25,6 +28,12 @@ public class MockItemService implements ItemService {
     
     private final List<WorkItem> items = new ArrayList<>();
     
+    // Listeners for created, updated and deleted items
+    private final List<BiConsumer<String, WorkItem>> itemChangeListeners = new CopyOnWriteArrayList<>();
+    
+    // Bumped by every change to the items
+    private final AtomicLong dataVersion = new AtomicLong();
+    
     /**
      * Constructor initializing some sample work items.
      */
@@ -78,6 +87,16 @@ public class MockItemService implements ItemService {
         return new ArrayList<>(items);
     }
     
+    /**
+     * Gets a stamp that changes whenever a work item is created, updated or deleted.
+     *
+     * @return the data version stamp
+     */
+    @Override
+    public long getDataVersion() {
+        return dataVersion.get();
+    }
+    
     /**
      * Gets a specific work item by ID.
      *
@@ -110,6 +129,7 @@ public class MockItemService implements ItemService {
         // Add to our list
         items.add(item);
         
+        notifyItemChanged(item.getId(), item);
         return item;
     }
     
@@ -146,6 +166,7 @@ public class MockItemService implements ItemService {
         // Replace the item in our list
         items.set(index, item);
         
+        notifyItemChanged(item.getId(), item);
         return item;
     }
     
@@ -172,6 +193,7 @@ public class MockItemService implements ItemService {
         
         // Remove the item
         items.remove(index);
+        notifyItemChanged(id, null);
         return true;
     }
     
@@ -245,6 +267,7 @@ public class MockItemService implements ItemService {
         if (item != null) {
             item.setAssignee(assignee);
             item.setUpdated(LocalDateTime.now());
+            notifyItemChanged(item.getId(), item);
             return item;
         }
         return null;
@@ -320,6 +343,7 @@ public class MockItemService implements ItemService {
             }
             // Handle other metadata fields as needed
             item.setUpdated(LocalDateTime.now());
+            notifyItemChanged(id, item);
             return true;
         }
         return false;
@@ -356,6 +380,7 @@ public class MockItemService implements ItemService {
             
             // Add custom fields code here when the model supports it
             
+            notifyItemChanged(item.getId(), item);
             return item;
         }
         return null;
@@ -394,6 +419,7 @@ public class MockItemService implements ItemService {
         // Add to our items list
         items.add(item);
         
+        notifyItemChanged(item.getId(), item);
         return item;
     }
     
@@ -410,6 +436,7 @@ public class MockItemService implements ItemService {
         if (item != null) {
             item.setTitle(title);
             item.setUpdated(LocalDateTime.now());
+            notifyItemChanged(item.getId(), item);
             return item;
         }
         return null;
@@ -428,6 +455,7 @@ public class MockItemService implements ItemService {
         if (item != null) {
             item.setDescription(description);
             item.setUpdated(LocalDateTime.now());
+            notifyItemChanged(item.getId(), item);
             return item;
         }
         return null;
@@ -446,6 +474,7 @@ public class MockItemService implements ItemService {
         if (item != null) {
             item.setPriority(priority);
             item.setUpdated(LocalDateTime.now());
+            notifyItemChanged(item.getId(), item);
             return item;
         }
         return null;
@@ -484,6 +513,7 @@ public class MockItemService implements ItemService {
                     throw new IllegalArgumentException("Unsupported field: " + field);
             }
             item.setUpdated(LocalDateTime.now());
+            notifyItemChanged(item.getId(), item);
             return item;
         }
         return null;
@@ -502,6 +532,7 @@ public class MockItemService implements ItemService {
         if (item != null) {
             item.setStatus(state);
             item.setUpdated(LocalDateTime.now());
+            notifyItemChanged(item.getId(), item);
             return item;
         }
         return null;
@@ -520,8 +551,41 @@ public class MockItemService implements ItemService {
         if (item != null) {
             item.setAssignee(assignee);
             item.setUpdated(LocalDateTime.now());
+            notifyItemChanged(item.getId(), item);
             return item;
         }
         return null;
     }
-}
\ No newline at end of file
+    
+    /**
+     * Adds a listener that is called after a work item is created, updated or deleted.
+     * 
+     * @param listener called with the ID of the work item and the work item after the
+     *                 change, or null if it was deleted
+     */
+    public void addItemChangeListener(BiConsumer<String, WorkItem> listener) {
+        itemChangeListeners.add(listener);
+    }
+    
+    /**
+     * Removes an item change listener.
+     * 
+     * @param listener the listener to remove
+     */
+    public void removeItemChangeListener(BiConsumer<String, WorkItem> listener) {
+        itemChangeListeners.remove(listener);
+    }
+    
+    /**
+     * Notifies all item change listeners.
+     * 
+     * @param id the work item ID
+     * @param item the work item after the change, or null if it was deleted
+     */
+    private void notifyItemChanged(String id, WorkItem item) {
+        dataVersion.incrementAndGet();
+        for (BiConsumer<String, WorkItem> listener : itemChangeListeners) {
+            listener.accept(id, item);
+        }
+    }
+}
@@ -16,32 +16,42 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 import org.rinna.cli.messaging.MessageService;
 import org.rinna.cli.messaging.MessageStatus;
+import org.rinna.cli.messaging.MessageStore;
 import org.rinna.cli.messaging.RinnaMessage;
 
 /**
  * Mock implementation of MessageService for testing.
+ * Users and projects are fixed sample data; messages are kept in an indexed
+ * {@link MessageStore}, which may be persistent.
  */
 public class MockMessageService implements MessageService {
     
     private final Map<String, String> userPasswords;
     private final Map<String, String> userTokens;
     private final Map<String, List<String>> projectMembers;
-    private final Map<String, List<RinnaMessage>> userMessages;
-    private final Map<String, RinnaMessage> messagesById;
+    private final MessageStore messageStore;
     
     /**
-     * Constructs a new MockMessageService with some sample data.
+     * Constructs a new MockMessageService with some sample data held in memory.
      */
     public MockMessageService() {
+        this(new MessageStore());
+    }
+    
+    /**
+     * Constructs a new MockMessageService backed by the given message store.
+     * Sample messages are only added when the store is empty.
+     *
+     * @param messageStore the store holding messages
+     */
+    public MockMessageService(MessageStore messageStore) {
         userPasswords = new ConcurrentHashMap<>();
         userTokens = new ConcurrentHashMap<>();
         projectMembers = new ConcurrentHashMap<>();
-        userMessages = new ConcurrentHashMap<>();
-        messagesById = new ConcurrentHashMap<>();
+        this.messageStore = messageStore;
         
         // Add some test users
         addUser("eric", "password123", "auth-token-eric-123");
@@ -53,6 +63,9 @@ public class MockMessageService implements MessageService {
         addProject("Quantum", List.of("maria", "eric"));
         
         // Add some test messages
+        if (!messageStore.isEmpty()) {
+            return;
+        }
         addTestMessage("eric", "steve", "Can you review my PR for Tracer?", "Tracer");
         addTestMessage("steve", "eric", "I'll take a look at it this afternoon.", "Tracer");
         addTestMessage("maria", "eric", "Meeting at 3pm about Quantum?", "Quantum");
@@ -78,11 +91,7 @@ public class MockMessageService implements MessageService {
                 MessageStatus.UNREAD
         );
         
-        // Add to user's message list
-        userMessages.computeIfAbsent(recipient, k -> new ArrayList<>()).add(message);
-        
-        // Add to messages by ID map
-        messagesById.put(message.getId(), message);
+        messageStore.add(message);
     }
     
     @Override
@@ -107,71 +116,53 @@ public class MockMessageService implements MessageService {
     
     @Override
     public List<RinnaMessage> getMessagesForUser(String username) {
-        return userMessages.getOrDefault(username, new ArrayList<>());
+        return messageStore.getAll(username);
+    }
+    
+    @Override
+    public List<RinnaMessage> getMessagesForUser(String username, int offset, int limit) {
+        return messageStore.getPage(username, offset, limit);
     }
     
     @Override
     public List<RinnaMessage> getUnreadMessagesForUser(String username) {
-        List<RinnaMessage> messages = userMessages.getOrDefault(username, new ArrayList<>());
-        return messages.stream()
-                .filter(message -> message.getStatus() == MessageStatus.UNREAD)
-                .collect(Collectors.toList());
+        return messageStore.getUnread(username);
+    }
+    
+    @Override
+    public int getUnreadMessageCount(String username) {
+        return messageStore.getUnreadCount(username);
     }
     
     @Override
     public List<RinnaMessage> getMessagesForUserBySender(String username, String sender) {
-        List<RinnaMessage> messages = userMessages.getOrDefault(username, new ArrayList<>());
-        return messages.stream()
-                .filter(message -> message.getSender().equals(sender))
-                .collect(Collectors.toList());
+        return messageStore.getBySender(username, sender);
     }
     
     @Override
     public List<RinnaMessage> getMessagesForUserByProject(String username, String projectName) {
-        List<RinnaMessage> messages = userMessages.getOrDefault(username, new ArrayList<>());
-        return messages.stream()
-                .filter(message -> message.getProject().equals(projectName))
-                .collect(Collectors.toList());
+        return messageStore.getByProject(username, projectName);
     }
     
     @Override
     public RinnaMessage getMessage(String messageId) {
-        return messagesById.get(messageId);
+        return messageStore.get(messageId);
     }
     
     @Override
     public boolean sendMessage(RinnaMessage message) {
-        // Add to user's message list
-        userMessages.computeIfAbsent(message.getRecipient(), k -> new ArrayList<>()).add(message);
-        
-        // Add to messages by ID map
-        messagesById.put(message.getId(), message);
-        
+        messageStore.add(message);
         return true;
     }
     
     @Override
     public boolean markMessageAsRead(String messageId) {
-        RinnaMessage message = messagesById.get(messageId);
-        if (message != null) {
-            message.setStatus(MessageStatus.READ);
-            return true;
-        }
-        return false;
+        return messageStore.markRead(messageId);
     }
     
     @Override
     public boolean deleteMessage(String messageId, String username) {
-        RinnaMessage message = messagesById.get(messageId);
-        if (message != null && message.getRecipient().equals(username)) {
-            List<RinnaMessage> userMsgs = userMessages.get(username);
-            if (userMsgs != null) {
-                userMsgs.remove(message);
-            }
-            messagesById.remove(messageId);
-            return true;
-        }
-        return false;
+        return messageStore.delete(messageId, username);
     }
     
     @Override
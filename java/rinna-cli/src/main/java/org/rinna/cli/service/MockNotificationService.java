@@ -11,38 +11,38 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.rinna.cli.notifications.Notification;
 import org.rinna.cli.notifications.Notification.Priority;
+import org.rinna.cli.notifications.NotificationLogStore;
 import org.rinna.cli.notifications.NotificationService;
 import org.rinna.cli.notifications.NotificationType;
 import org.rinna.cli.security.SecurityManager;
 
 /**
  * Mock implementation of notification service for testing and development.
- * This implementation stores notifications in memory with file-based persistence
- * for development and testing scenarios.
+ * Notifications are persisted in an append-only {@link NotificationLogStore},
+ * so adding or marking a notification costs a single appended line and
+ * unread queries do not need to read the full history.
  */
 public class MockNotificationService {
     private static final String DATA_DIR = System.getProperty("user.home") + "/.rinna/mock-data";
-    private static final String NOTIFICATIONS_FILE = DATA_DIR + "/mock-notifications.dat";
+    private static final String NOTIFICATIONS_DIR = DATA_DIR + "/notifications";
     private static final String NOTIFICATION_PROPS_FILE = DATA_DIR + "/notification-settings.properties";
     
-    private final List<Notification> notifications = new ArrayList<>();
-    private final Map<UUID, Boolean> readStatus = new HashMap<>();
+    private final NotificationLogStore store;
     private final Properties notificationProps = new Properties();
     
     private static MockNotificationService instance;
@@ -64,7 +64,7 @@ public class MockNotificationService {
      */
     private MockNotificationService() {
         initializeStorageDirectory();
-        loadNotifications();
+        store = new NotificationLogStore(Paths.get(NOTIFICATIONS_DIR));
         loadProperties();
     }
     
@@ -111,36 +111,24 @@ public class MockNotificationService {
     }
     
     /**
-     * Load notifications from file.
+     * Read from the notification store, falling back to a default on I/O errors.
      */
-    @SuppressWarnings("unchecked")
-    private void loadNotifications() {
-        File file = new File(NOTIFICATIONS_FILE);
-        if (file.exists()) {
-            try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))) {
-                notifications.clear();
-                readStatus.clear();
-                
-                List<Notification> loadedNotifications = (List<Notification>) ois.readObject();
-                Map<UUID, Boolean> loadedReadStatus = (Map<UUID, Boolean>) ois.readObject();
-                
-                notifications.addAll(loadedNotifications);
-                readStatus.putAll(loadedReadStatus);
-            } catch (IOException | ClassNotFoundException e) {
-                System.err.println("Error loading notifications: " + e.getMessage());
-                // If there's an error, start with empty collections (already cleared above)
-            }
+    private <T> T read(Supplier<T> reader, T fallback) {
+        try {
+            return reader.get();
+        } catch (UncheckedIOException e) {
+            System.err.println("Error loading notifications: " + e.getMessage());
+            return fallback;
         }
     }
     
     /**
-     * Save notifications to file.
+     * Write to the notification store, reporting I/O errors without failing.
      */
-    private void saveNotifications() {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(NOTIFICATIONS_FILE))) {
-            oos.writeObject(notifications);
-            oos.writeObject(readStatus);
-        } catch (IOException e) {
+    private void write(Runnable writer) {
+        try {
+            writer.run();
+        } catch (UncheckedIOException e) {
             System.err.println("Error saving notifications: " + e.getMessage());
         }
     }
@@ -172,8 +160,9 @@ public class MockNotificationService {
         }
         
         Notification notification = Notification.create(type, message, currentUser);
-        notifications.add(notification);
-        readStatus.put(notification.getId(), read);
+        if (read) {
+            notification.markAsRead();
+        }
         
         // Also add to the real notification service if available
         try {
@@ -184,7 +173,7 @@ public class MockNotificationService {
         }
         
         // Save to persistence
-        saveNotifications();
+        write(() -> store.append(notification));
         
         // Log the notification creation for audit purposes
         logNotificationAction("CREATE", notification.getId().toString(), type.toString(), message);
@@ -211,34 +200,14 @@ public class MockNotificationService {
             currentUser = System.getProperty("user.name", "testuser");
         }
         
-        // We need to use reflection to set the ID since it's final in the real class
-        try {
-            Notification notification = Notification.create(type, message, currentUser);
-            
-            // Use reflection to access the private final id field
-            java.lang.reflect.Field idField = Notification.class.getDeclaredField("id");
-            idField.setAccessible(true);
-            
-            // Create a modifiers field to remove the final modifier
-            java.lang.reflect.Field modifiersField = java.lang.reflect.Field.class.getDeclaredField("modifiers");
-            modifiersField.setAccessible(true);
-            modifiersField.setInt(idField, idField.getModifiers() & ~java.lang.reflect.Modifier.FINAL);
-            
-            // Set the ID
-            idField.set(notification, id);
-            
-            // Add the notification
-            notifications.add(notification);
-            readStatus.put(id, read);
-            
-            // Save to persistence
-            saveNotifications();
-            
-            // Log the notification creation for audit purposes
-            logNotificationAction("CREATE_WITH_ID", id.toString(), type.toString(), message);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to create notification with specific ID", e);
-        }
+        Notification notification = new Notification(id, type, message, "system", currentUser,
+                Instant.now(), null, Priority.MEDIUM, read);
+        
+        // Save to persistence
+        write(() -> store.append(notification));
+        
+        // Log the notification creation for audit purposes
+        logNotificationAction("CREATE_WITH_ID", id.toString(), type.toString(), message);
     }
     
     /**
@@ -247,7 +216,17 @@ public class MockNotificationService {
      * @return list of all notifications
      */
     public List<Notification> getAllNotifications() {
-        return new ArrayList<>(notifications);
+        return read(store::readAll, new ArrayList<>());
+    }
+    
+    /**
+     * Get the newest notifications without loading the full history.
+     * 
+     * @param limit maximum number of notifications to return
+     * @return the newest notifications, newest first
+     */
+    public List<Notification> getLatestNotifications(int limit) {
+        return read(() -> store.readNewest(limit, n -> true), new ArrayList<>());
     }
     
     /**
@@ -262,7 +241,7 @@ public class MockNotificationService {
             return Collections.emptyList();
         }
         
-        return notifications.stream()
+        return getAllNotifications().stream()
                 .filter(n -> currentUser.equals(n.getTargetUser()))
                 .collect(Collectors.toList());
     }
@@ -273,9 +252,7 @@ public class MockNotificationService {
      * @return list of unread notifications
      */
     public List<Notification> getUnreadNotifications() {
-        return notifications.stream()
-                .filter(n -> !readStatus.getOrDefault(n.getId(), false))
-                .collect(Collectors.toList());
+        return read(() -> store.readUnread(null), new ArrayList<>());
     }
     
     /**
@@ -290,10 +267,7 @@ public class MockNotificationService {
             return Collections.emptyList();
         }
         
-        return notifications.stream()
-                .filter(n -> currentUser.equals(n.getTargetUser()))
-                .filter(n -> !readStatus.getOrDefault(n.getId(), false))
-                .collect(Collectors.toList());
+        return read(() -> store.readUnread(currentUser), new ArrayList<>());
     }
     
     /**
@@ -303,12 +277,7 @@ public class MockNotificationService {
      * @return true if notification exists and was marked as read
      */
     public boolean markAsRead(UUID id) {
-        if (readStatus.containsKey(id) && !readStatus.get(id)) {
-            readStatus.put(id, true);
-            
-            // Save to persistence
-            saveNotifications();
-            
+        if (read(() -> store.markRead(id), false)) {
             // Log the action for audit purposes
             logNotificationAction("MARK_READ", id.toString(), null, null);
             
@@ -323,18 +292,9 @@ public class MockNotificationService {
      * @return number of notifications marked as read
      */
     public int markAllAsRead() {
-        int count = 0;
-        for (UUID id : readStatus.keySet()) {
-            if (!readStatus.get(id)) {
-                readStatus.put(id, true);
-                count++;
-            }
-        }
+        int count = read(() -> store.markAllRead(null), 0);
         
         if (count > 0) {
-            // Save to persistence
-            saveNotifications();
-            
             // Log the action for audit purposes
             logNotificationAction("MARK_ALL_READ", null, null, "Marked " + count + " notifications as read");
         }
@@ -354,19 +314,9 @@ public class MockNotificationService {
             return 0;
         }
         
-        int count = 0;
-        for (Notification notification : notifications) {
-            if (currentUser.equals(notification.getTargetUser()) && 
-                !readStatus.getOrDefault(notification.getId(), false)) {
-                readStatus.put(notification.getId(), true);
-                count++;
-            }
-        }
+        int count = read(() -> store.markAllRead(currentUser), 0);
         
         if (count > 0) {
-            // Save to persistence
-            saveNotifications();
-            
             // Log the action for audit purposes
             logNotificationAction("MARK_ALL_USER_READ", null, null, 
                     "Marked " + count + " notifications as read for user " + currentUser);
@@ -398,22 +348,10 @@ public class MockNotificationService {
         
         Instant cutoffDate = Instant.now().minus(days, ChronoUnit.DAYS);
         
-        List<Notification> toRemove = notifications.stream()
-                .filter(n -> n.getTimestamp().isBefore(cutoffDate))
-                .collect(Collectors.toList());
-        
-        int count = toRemove.size();
+        // Compaction drops expired notifications and folds read markers into the log
+        int count = read(() -> store.compact(cutoffDate), 0);
         
         if (count > 0) {
-            notifications.removeAll(toRemove);
-            
-            for (Notification n : toRemove) {
-                readStatus.remove(n.getId());
-            }
-            
-            // Save to persistence
-            saveNotifications();
-            
             // Log the action for audit purposes
             logNotificationAction("CLEAR_OLD", null, null, 
                     "Cleared " + count + " notifications older than " + days + " days");
@@ -429,10 +367,7 @@ public class MockNotificationService {
      * @return notification or null if not found
      */
     public Notification getNotification(UUID id) {
-        return notifications.stream()
-                .filter(n -> n.getId().equals(id))
-                .findFirst()
-                .orElse(null);
+        return read(() -> store.find(id), null);
     }
     
     /**
@@ -442,7 +377,8 @@ public class MockNotificationService {
      * @return true if read, false if unread or not found
      */
     public boolean isNotificationRead(UUID id) {
-        return readStatus.getOrDefault(id, false);
+        Notification notification = getNotification(id);
+        return notification != null && notification.isRead();
     }
     
     /**
@@ -451,9 +387,7 @@ public class MockNotificationService {
      * @return number of unread notifications
      */
     public int getUnreadCount() {
-        return (int) notifications.stream()
-                .filter(n -> !readStatus.getOrDefault(n.getId(), false))
-                .count();
+        return read(() -> store.countUnread(null), 0);
     }
     
     /**
@@ -468,10 +402,7 @@ public class MockNotificationService {
             return 0;
         }
         
-        return (int) notifications.stream()
-                .filter(n -> currentUser.equals(n.getTargetUser()))
-                .filter(n -> !readStatus.getOrDefault(n.getId(), false))
-                .count();
+        return read(() -> store.countUnread(currentUser), 0);
     }
     
     /**
@@ -481,7 +412,7 @@ public class MockNotificationService {
      * @return list of notifications of the specified type
      */
     public List<Notification> getNotificationsByType(NotificationType type) {
-        return notifications.stream()
+        return getAllNotifications().stream()
                 .filter(n -> n.getType() == type)
                 .collect(Collectors.toList());
     }
@@ -496,7 +427,7 @@ public class MockNotificationService {
     public List<Notification> getRecentNotificationsByType(NotificationType type, int days) {
         Instant cutoff = Instant.now().minus(days, ChronoUnit.DAYS);
         
-        return notifications.stream()
+        return read(() -> store.readSince(cutoff), new ArrayList<Notification>()).stream()
                 .filter(n -> n.getType() == type)
                 .filter(n -> n.getTimestamp().isAfter(cutoff))
                 .collect(Collectors.toList());
@@ -525,11 +456,8 @@ public class MockNotificationService {
             priority
         );
         
-        notifications.add(notification);
-        readStatus.put(notification.getId(), false);
-        
         // Save to persistence
-        saveNotifications();
+        write(() -> store.append(notification));
         
         // Log the notification creation for audit purposes
         logNotificationAction("CREATE_SYSTEM", notification.getId().toString(), 
@@ -551,6 +479,7 @@ public class MockNotificationService {
             currentUser = System.getProperty("user.name", "testuser");
         }
         
+        List<Notification> created = new ArrayList<>(count);
         for (int i = 0; i < count; i++) {
             boolean isRead = i >= unreadCount;
             NotificationType type = i % 2 == 0 ? NotificationType.SYSTEM : NotificationType.UPDATE;
@@ -566,12 +495,14 @@ public class MockNotificationService {
                 i % 4 == 0 ? Priority.HIGH : Priority.MEDIUM
             );
             
-            notifications.add(notification);
-            readStatus.put(notification.getId(), isRead);
+            if (isRead) {
+                notification.markAsRead();
+            }
+            created.add(notification);
         }
         
-        // Save to persistence
-        saveNotifications();
+        // Save to persistence in a single append
+        write(() -> store.appendAll(created));
         
         // Log the action for audit purposes
         logNotificationAction("ADD_TEST", null, null, 
@@ -582,11 +513,8 @@ public class MockNotificationService {
      * Reset the mock service state.
      */
     public void reset() {
-        notifications.clear();
-        readStatus.clear();
-        
-        // Save to persistence
-        saveNotifications();
+        // Remove all persisted segments and markers
+        write(store::clear);
         
         // Log the action for audit purposes
         logNotificationAction("RESET", null, null, "Reset notification service state");
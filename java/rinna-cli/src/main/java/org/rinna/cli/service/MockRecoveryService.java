@@ -16,6 +16,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import org.rinna.cli.util.InvocationContext;
+
 /**
  * Mock implementation of recovery service functionality for CLI use.
  */
@@ -133,7 +135,7 @@ public class MockRecoveryService implements RecoveryService {
     
     public MockRecoveryService() {
         // Initialize with some mock backups using absolute paths
-        String projectRoot = System.getProperty("user.dir");
+        String projectRoot = InvocationContext.workingDirectory();
         backups.add(createMockBackup(BackupType.FULL, 
             new java.io.File(projectRoot, "target/backups/full-20250401.bak").getAbsolutePath(), 
             1585699200000L));
@@ -218,7 +220,7 @@ public class MockRecoveryService implements RecoveryService {
     
     public String generateRecoveryPlan() {
         // Create target directory if it doesn't exist - use absolute path
-        String projectRoot = System.getProperty("user.dir");
+        String projectRoot = InvocationContext.workingDirectory();
         java.io.File targetDir = new java.io.File(projectRoot, "target/recovery");
         targetDir.mkdirs();
         String planPath = new java.io.File(targetDir, "recovery-plan-" + UUID.randomUUID() + ".json").getAbsolutePath();
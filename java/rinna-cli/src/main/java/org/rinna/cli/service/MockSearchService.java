@@ -12,7 +12,6 @@ package org.rinna.cli.service;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -20,6 +19,9 @@ import org.rinna.cli.model.Priority;
 import org.rinna.cli.model.WorkItem;
 import org.rinna.cli.model.WorkItemType;
 import org.rinna.cli.model.WorkflowState;
+import org.rinna.cli.util.LocalIds;
+import org.rinna.domain.model.search.PatternCache;
+import org.rinna.domain.model.search.TextPattern;
 
 /**
  * Mock implementation of search service functionality for CLI use.
@@ -43,7 +45,7 @@ public class MockSearchService implements SearchService {
      */
     public void initialize() {
         if (this.mockItemService == null) {
-            this.mockItemService = (MockItemService) ServiceManager.getInstance().getItemService();
+            this.mockItemService = ServiceManager.getInstance().getMockItemService();
         }
     }
     
@@ -77,7 +79,7 @@ public class MockSearchService implements SearchService {
      */
     private WorkItem createWorkItem(String title, String description) {
         WorkItem item = new WorkItem();
-        item.setId(UUID.randomUUID().toString());
+        item.setId(LocalIds.randomId());
         item.setTitle(title);
         item.setDescription(description);
         item.setType(WorkItemType.TASK);
@@ -130,20 +132,16 @@ public class MockSearchService implements SearchService {
     public List<WorkItem> findText(String text, boolean caseSensitive) {
         List<WorkItem> results = new ArrayList<>();
         
+        // Find the text as a literal, ignoring the case of any letter unless case-sensitive
+        int flags = caseSensitive ? 0 : Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+        TextPattern literal = PatternCache.shared().literal(text, flags, false);
+        
         for (WorkItem item : getAllItems()) {
             String title = item.getTitle();
             String desc = item.getDescription();
-            boolean foundInTitle = false;
-            boolean foundInDesc = false;
             
-            if (caseSensitive) {
-                foundInTitle = title != null && title.contains(text);
-                foundInDesc = desc != null && desc.contains(text);
-            } else {
-                String lowerText = text.toLowerCase();
-                foundInTitle = title != null && title.toLowerCase().contains(lowerText);
-                foundInDesc = desc != null && desc.toLowerCase().contains(lowerText);
-            }
+            boolean foundInTitle = title != null && literal.find(title);
+            boolean foundInDesc = desc != null && literal.find(desc);
             
             if (foundInTitle || foundInDesc) {
                 results.add(item);
@@ -214,16 +212,10 @@ public class MockSearchService implements SearchService {
             throw new IllegalArgumentException("Pattern is null or too long (max 1000 chars)");
         }
         
-        // Use Pattern.quote to escape the pattern and prevent ReDoS attacks
+        // Match the pattern as a literal to prevent ReDoS attacks
+        // If the user needs actual regex functionality, we'd need additional validation here
         int flags = caseSensitive ? 0 : Pattern.CASE_INSENSITIVE;
-        Pattern regex;
-        try {
-            // If the user needs actual regex functionality, we'd need additional validation here
-            // For now, we treat it as a literal pattern for security
-            regex = Pattern.compile(Pattern.quote(pattern), flags);
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Invalid pattern: " + e.getMessage());
-        }
+        TextPattern literal = PatternCache.shared().literal(pattern, flags, false);
         
         // Set a reasonable timeout in case of performance issues
         long timeout = System.currentTimeMillis() + 5000; // 5 second timeout
@@ -237,8 +229,8 @@ public class MockSearchService implements SearchService {
             String title = item.getTitle();
             String desc = item.getDescription();
             
-            boolean foundInTitle = title != null && regex.matcher(title).find();
-            boolean foundInDesc = desc != null && regex.matcher(desc).find();
+            boolean foundInTitle = title != null && literal.find(title);
+            boolean foundInDesc = desc != null && literal.find(desc);
             
             if (foundInTitle || foundInDesc) {
                 results.add(item);
@@ -16,18 +16,25 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import org.rinna.cli.util.LocalIds;
+
 /**
  * Optimized implementation of the metadata service for tracking CLI operations.
  * This implementation is designed for high-volume operation tracking with:
@@ -37,9 +44,21 @@ import java.util.stream.Collectors;
  * - Parameter object pooling to reduce GC pressure
  * - Rate limiting to prevent overwhelming the system
  * - Aggregation for repetitive operations
+ *
+ * Executors are created on first use. Queued completions are applied when
+ * recent operations are read, and the background batch task is only scheduled
+ * once a full batch of completions is waiting, so short-lived CLI invocations
+ * never start it. Rate limit counters and expired operations are cleared by
+ * starting an operation once their interval has elapsed, so they do not depend
+ * on the background task running.
  */
 public final class OptimizedMetadataService implements MetadataService {
 
+    private static final Logger LOGGER = Logger.getLogger(OptimizedMetadataService.class.getName());
+
+    private static final long RATE_LIMIT_WINDOW_MS = TimeUnit.MINUTES.toMillis(1);
+    private static final long CLEANUP_INTERVAL_MS = TimeUnit.MINUTES.toMillis(5);
+
     private static OptimizedMetadataService instance;
 
     // Core storage for operations
@@ -48,9 +67,12 @@ public final class OptimizedMetadataService implements MetadataService {
     // Queue for batch processing operation completion
     private final BlockingQueue<OperationUpdate> completionQueue = new LinkedBlockingQueue<>();
 
-    // Executor services for async processing
-    private final ExecutorService asyncExecutor;
-    private final ScheduledExecutorService scheduledExecutor;
+    // Executor services for async processing, created on first use
+    private final int asyncThreads;
+    private final int batchSize;
+    private volatile ExecutorService asyncExecutor;
+    private volatile ScheduledExecutorService scheduledExecutor;
+    private boolean shutdown;
 
     // Parameter pooling
     private final Map<String, Map<String, Object>> parameterPool = new ConcurrentHashMap<>();
@@ -65,6 +87,8 @@ public final class OptimizedMetadataService implements MetadataService {
     // Operation rate limiting
     private final Map<String, AtomicInteger> operationRateLimits = new ConcurrentHashMap<>();
     private final Map<String, String> operationAggregationMap = new ConcurrentHashMap<>();
+    private final AtomicLong rateLimitWindowStart = new AtomicLong(System.currentTimeMillis());
+    private final AtomicLong lastCleanup = new AtomicLong(System.currentTimeMillis());
 
     // Statistics cache to avoid recalculation
     private final Map<String, Map<String, Object>> statisticsCache = new ConcurrentHashMap<>();
@@ -75,6 +99,9 @@ public final class OptimizedMetadataService implements MetadataService {
     private final Map<String, List<String>> commandNameIndex = new ConcurrentHashMap<>();
     private final Map<String, List<String>> operationTypeIndex = new ConcurrentHashMap<>();
 
+    // Notified when an operation finishes, such as the audit log
+    private final List<Consumer<OperationMetadata>> operationListeners = new CopyOnWriteArrayList<>();
+
     /**
      * Private constructor for singleton pattern.
      */
@@ -91,40 +118,90 @@ public final class OptimizedMetadataService implements MetadataService {
      */
     public OptimizedMetadataService(int asyncThreads, int batchSize, long cacheExpirationMinutes) {
         this.cacheExpirationMinutes = cacheExpirationMinutes;
-        this.asyncExecutor = Executors.newFixedThreadPool(asyncThreads);
-        this.scheduledExecutor = Executors.newScheduledThreadPool(2);
+        this.asyncThreads = asyncThreads;
+        this.batchSize = Math.max(1, batchSize);
 
         // Initialize parameter pool with common parameter combinations
         initializeParameterPool();
 
-        // Start background task for batch processing
-        scheduledExecutor.scheduleWithFixedDelay(
-            this::processPendingOperations, 
-            100, // Initial delay 100ms
-            100, // Process every 100ms
-            TimeUnit.MILLISECONDS
-        );
-
-        // Start background task for cache cleanup
-        scheduledExecutor.scheduleWithFixedDelay(
-            this::cleanupExpiredOperations,
-            1,   // Initial delay 1 minute
-            5,   // Clean every 5 minutes
-            TimeUnit.MINUTES
-        );
-
-        // Clear rate limiting counters periodically
-        scheduledExecutor.scheduleWithFixedDelay(
-            this::resetRateLimits,
-            1,   // Initial delay 1 minute 
-            1,   // Reset every 1 minute
-            TimeUnit.MINUTES
-        );
-
         // Initialize with sample data
         initializeSampleData();
     }
 
+    /**
+     * Gets the executor for asynchronous detail updates, creating it on first use.
+     *
+     * @return the async executor
+     */
+    private ExecutorService asyncExecutor() {
+        ExecutorService executor = asyncExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                if (asyncExecutor == null) {
+                    asyncExecutor = Executors.newFixedThreadPool(asyncThreads, daemonThreads("metadata-async"));
+                }
+                executor = asyncExecutor;
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Starts the batch processing task the first time a full batch of
+     * completions is queued.
+     */
+    private void ensureBackgroundTasks() {
+        if (scheduledExecutor != null) {
+            return;
+        }
+        synchronized (this) {
+            if (scheduledExecutor == null && !shutdown) {
+                ScheduledExecutorService scheduler =
+                    Executors.newSingleThreadScheduledExecutor(daemonThreads("metadata-scheduler"));
+                scheduler.scheduleWithFixedDelay(
+                    this::processPendingOperations, 
+                    100, // Initial delay 100ms
+                    100, // Process every 100ms
+                    TimeUnit.MILLISECONDS
+                );
+                scheduledExecutor = scheduler;
+            }
+        }
+    }
+
+    /**
+     * Resets the rate limit counters and removes expired operations when their
+     * interval has elapsed. Only one caller runs each task per interval.
+     * Package-private so tests can advance the clock.
+     *
+     * @param now the current time in milliseconds
+     */
+    void runDueMaintenance(long now) {
+        long windowStart = rateLimitWindowStart.get();
+        if (now - windowStart >= RATE_LIMIT_WINDOW_MS && rateLimitWindowStart.compareAndSet(windowStart, now)) {
+            resetRateLimits();
+        }
+        long cleanedAt = lastCleanup.get();
+        if (now - cleanedAt >= CLEANUP_INTERVAL_MS && lastCleanup.compareAndSet(cleanedAt, now)) {
+            cleanupExpiredOperations();
+        }
+    }
+
+    /**
+     * Creates a thread factory for background threads that do not keep the JVM alive.
+     *
+     * @param name the thread name prefix
+     * @return the thread factory
+     */
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
     /**
      * Gets the singleton instance of the service.
      *
@@ -184,7 +261,6 @@ public final class OptimizedMetadataService implements MetadataService {
      * Processes pending operation updates from the queue in batches.
      */
     private void processPendingOperations() {
-        int batchSize = 50;
         List<OperationUpdate> updates = new ArrayList<>(batchSize);
 
         // Drain up to batchSize items from the queue
@@ -201,6 +277,15 @@ public final class OptimizedMetadataService implements MetadataService {
         }
     }
 
+    /**
+     * Applies all queued operation updates on the calling thread.
+     */
+    private void drainPendingOperations() {
+        while (!completionQueue.isEmpty()) {
+            processPendingOperations();
+        }
+    }
+
     /**
      * Processes an operation completion.
      * 
@@ -522,7 +607,7 @@ public final class OptimizedMetadataService implements MetadataService {
         // List command sample
         Map<String, Object> listParams = getPooledParameters("list-limit");
         listParams.put("status", "OPEN");
-        String listOpId = UUID.randomUUID().toString();
+        String listOpId = LocalIds.randomId();
         OperationMetadata listOp = new OperationMetadata(
             listOpId, "list", "READ", listParams, now.minusMinutes(30), username, clientInfo);
         listOp.setStatus("COMPLETED");
@@ -535,7 +620,7 @@ public final class OptimizedMetadataService implements MetadataService {
         // View command sample
         Map<String, Object> viewParams = getPooledParameters("view");
         viewParams.put("itemId", "WI-123");
-        String viewOpId = UUID.randomUUID().toString();
+        String viewOpId = LocalIds.randomId();
         OperationMetadata viewOp = new OperationMetadata(
             viewOpId, "view", "READ", viewParams, now.minusMinutes(25), username, clientInfo);
         viewOp.setStatus("COMPLETED");
@@ -550,7 +635,7 @@ public final class OptimizedMetadataService implements MetadataService {
         addParams.put("title", "Fix navigation bug");
         addParams.put("type", "BUG");
         addParams.put("priority", "HIGH");
-        String addOpId = UUID.randomUUID().toString();
+        String addOpId = LocalIds.randomId();
         OperationMetadata addOp = new OperationMetadata(
             addOpId, "add", "CREATE", addParams, now.minusMinutes(20), username, clientInfo);
         addOp.setStatus("COMPLETED");
@@ -564,7 +649,7 @@ public final class OptimizedMetadataService implements MetadataService {
         Map<String, Object> updateParams = getPooledParameters("update");
         updateParams.put("itemId", "WI-124");
         updateParams.put("status", "IN_PROGRESS");
-        String updateOpId = UUID.randomUUID().toString();
+        String updateOpId = LocalIds.randomId();
         OperationMetadata updateOp = new OperationMetadata(
             updateOpId, "update", "UPDATE", updateParams, now.minusMinutes(15), username, clientInfo);
         updateOp.setStatus("COMPLETED");
@@ -577,7 +662,7 @@ public final class OptimizedMetadataService implements MetadataService {
         // Failed operation sample
         Map<String, Object> failedParams = getPooledParameters("view");
         failedParams.put("itemId", "WI-999");
-        String failedOpId = UUID.randomUUID().toString();
+        String failedOpId = LocalIds.randomId();
         OperationMetadata failedOp = new OperationMetadata(
             failedOpId, "view", "READ", failedParams, now.minusMinutes(10), username, clientInfo);
         failedOp.setStatus("FAILED");
@@ -590,6 +675,8 @@ public final class OptimizedMetadataService implements MetadataService {
 
     @Override
     public String startOperation(String commandName, String operationType, Map<String, Object> parameters) {
+        runDueMaintenance(System.currentTimeMillis());
+
         // Check for rate limiting
         if (isRateLimited(commandName, parameters)) {
             // If rate limited, try to find an existing operation to aggregate with
@@ -600,7 +687,7 @@ public final class OptimizedMetadataService implements MetadataService {
         }
 
         // Generate operation ID
-        String operationId = UUID.randomUUID().toString();
+        String operationId = LocalIds.randomId();
 
         // Get user info
         String username = System.getProperty("user.name", "unknown");
@@ -657,6 +744,9 @@ public final class OptimizedMetadataService implements MetadataService {
     public void completeOperation(String operationId, Object result) {
         // Queue the completion for batch processing
         completionQueue.offer(new OperationUpdate(operationId, result, true));
+        if (completionQueue.size() >= batchSize) {
+            ensureBackgroundTasks();
+        }
 
         // For immediate visibility in the operations map
         OperationMetadata metadata = operations.get(operationId);
@@ -664,6 +754,7 @@ public final class OptimizedMetadataService implements MetadataService {
             metadata.setStatus("COMPLETED");
             metadata.setEndTime(LocalDateTime.now());
             metadata.setResult(result);
+            notifyOperationListeners(metadata);
         }
 
         // Invalidate statistics cache when operations are completed
@@ -674,6 +765,9 @@ public final class OptimizedMetadataService implements MetadataService {
     public void failOperation(String operationId, Throwable exception) {
         // Queue the failure for batch processing
         completionQueue.offer(new OperationUpdate(operationId, exception, false));
+        if (completionQueue.size() >= batchSize) {
+            ensureBackgroundTasks();
+        }
 
         // For immediate visibility in the operations map
         OperationMetadata metadata = operations.get(operationId);
@@ -681,6 +775,7 @@ public final class OptimizedMetadataService implements MetadataService {
             metadata.setStatus("FAILED");
             metadata.setEndTime(LocalDateTime.now());
             metadata.setErrorMessage(exception.getMessage());
+            notifyOperationListeners(metadata);
         }
 
         // Invalidate statistics cache when operations fail
@@ -909,7 +1004,7 @@ public final class OptimizedMetadataService implements MetadataService {
             errorData.put("exceptionType", exception.getClass().getSimpleName());
 
             // Use a separate executor for detail updates to not block the main queue
-            asyncExecutor.execute(() -> {
+            asyncExecutor().execute(() -> {
                 // Update the parent operation with this error information
                 if (metadata.getParameters() == null) {
                     metadata.getParameters().put("errors", new ArrayList<Map<String, Object>>());
@@ -932,7 +1027,7 @@ public final class OptimizedMetadataService implements MetadataService {
     @Override
     public void trackOperationDetail(String operationId, String key, Object value) {
         // Use async execution for detail tracking to avoid blocking
-        asyncExecutor.execute(() -> {
+        asyncExecutor().execute(() -> {
             OperationMetadata metadata = operations.get(operationId);
             if (metadata != null && key != null) {
                 // Create the details map if it doesn't exist
@@ -972,6 +1067,7 @@ public final class OptimizedMetadataService implements MetadataService {
      * @return The list of operations
      */
     public List<Map<String, Object>> getRecentOperationsAsMaps(int limit) {
+        drainPendingOperations();
         synchronized (recentOperations) {
             if (limit <= 0 || limit >= recentOperations.size()) {
                 return new ArrayList<>(recentOperations);
@@ -1023,7 +1119,7 @@ public final class OptimizedMetadataService implements MetadataService {
     @Override
     public void recordOperation(String commandName, String operationType, Map<String, Object> parameters) {
         // Generate a unique ID for the operation
-        String operationId = UUID.randomUUID().toString();
+        String operationId = LocalIds.randomId();
 
         // Get current user information
         String username = System.getProperty("user.name", "unknown");
@@ -1051,6 +1147,28 @@ public final class OptimizedMetadataService implements MetadataService {
         if (operationType != null) {
             addToIndex(operationTypeIndex, operationType, operationId);
         }
+
+        notifyOperationListeners(metadata);
+    }
+
+    /**
+     * Registers a listener called with each operation once it completes, fails or is recorded.
+     * Listeners run on the calling thread, so they should be quick.
+     *
+     * @param listener the listener
+     */
+    public void addOperationListener(Consumer<OperationMetadata> listener) {
+        operationListeners.add(listener);
+    }
+
+    private void notifyOperationListeners(OperationMetadata metadata) {
+        for (Consumer<OperationMetadata> listener : operationListeners) {
+            try {
+                listener.accept(metadata);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Operation listener failed for " + metadata.getId(), e);
+            }
+        }
     }
 
     /**
@@ -1078,23 +1196,38 @@ public final class OptimizedMetadataService implements MetadataService {
      * Shut down the executor services.
      */
     public void shutdown() {
-        scheduledExecutor.shutdown();
-        asyncExecutor.shutdown();
+        ScheduledExecutorService scheduled;
+        ExecutorService async;
+        synchronized (this) {
+            shutdown = true;
+            scheduled = scheduledExecutor;
+            async = asyncExecutor;
+        }
+        if (scheduled != null) {
+            scheduled.shutdown();
+        }
+        if (async != null) {
+            async.shutdown();
+        }
 
         try {
             // Process any pending operations
-            processPendingOperations();
+            drainPendingOperations();
 
             // Wait for tasks to complete
-            if (!scheduledExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-                scheduledExecutor.shutdownNow();
+            if (scheduled != null && !scheduled.awaitTermination(5, TimeUnit.SECONDS)) {
+                scheduled.shutdownNow();
             }
-            if (!asyncExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-                asyncExecutor.shutdownNow();
+            if (async != null && !async.awaitTermination(5, TimeUnit.SECONDS)) {
+                async.shutdownNow();
             }
         } catch (InterruptedException e) {
-            scheduledExecutor.shutdownNow();
-            asyncExecutor.shutdownNow();
+            if (scheduled != null) {
+                scheduled.shutdownNow();
+            }
+            if (async != null) {
+                async.shutdownNow();
+            }
             Thread.currentThread().interrupt();
         }
     }
@@ -16,17 +16,30 @@ import java.nio.file.Paths;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.rinna.cli.adapter.BacklogServiceAdapter;
+import org.rinna.cli.adapter.CommentServiceAdapter;
+import org.rinna.cli.adapter.CriticalPathServiceAdapter;
+import org.rinna.cli.adapter.HistoryServiceAdapter;
+import org.rinna.cli.adapter.SearchServiceAdapter;
+import org.rinna.cli.adapter.WorkflowServiceAdapter;
 import org.rinna.cli.messaging.MessageClient;
 import org.rinna.cli.messaging.MessageService;
+import org.rinna.cli.messaging.MessageStore;
 import org.rinna.cli.security.AuthenticationService;
 import org.rinna.cli.security.AuthorizationService;
 
 /**
  * Manages services for the CLI application.
+ *
+ * <p>Services are resolved lazily: each one is created the first time a
+ * command asks for it, so a command only pays for the services it uses.
+ * The CLI-specific services are shared, and the domain adapters wrap the
+ * same instances.</p>
  */
 public final class ServiceManager {
     private static ServiceManager instance;
 
+    // Services are created by their getters on first access
     private Object workflowService;
     private Object commentService;
     private Object historyService;
@@ -50,69 +63,23 @@ public final class ServiceManager {
     private MockNotificationService mockNotificationService;
     private AuthorizationService authorizationService;
 
+    // CLI-specific services, shared by their getters and the domain adapters
+    private MockWorkflowService mockWorkflowService;
+    private MockBacklogService mockBacklogService;
+    private MockItemService mockItemService;
+    private MockCommentService mockCommentService;
+    private MockHistoryService mockHistoryService;
+    private MockSearchService mockSearchService;
+    private MockMonitoringService mockMonitoringService;
+    private MockRecoveryService mockRecoveryService;
+    private MockCriticalPathService mockCriticalPathService;
+
     // Thread-safe map to store user-specific data
     private final Map<String, Map<String, Object>> userDataMap = new ConcurrentHashMap<>();
 
     // Private constructor for singleton
     private ServiceManager() {
-        // Initialize service manager
-        initializeServices();
-    }
-
-    /**
-     * Initialize service components.
-     * 
-     * This method is responsible for setting up all service instances for the CLI.
-     * It follows the service locator pattern to provide access to services.
-     */
-    private void initializeServices() {
-        // Configure service initialization strategy based on environment
-        // In production, we'll detect if services are available via proper detection
-        boolean useRemoteServices = ConfigurationService.areRemoteServicesAvailable();
-
-        // Create CLI-specific service instances that can work independently
-        MockWorkflowService mockWorkflowService = ServiceFactory.createCliWorkflowService();
-        MockBacklogService mockBacklogService = ServiceFactory.createCliBacklogService();
-        MockItemService mockItemService = ServiceFactory.createCliItemService();
-        MockCommentService mockCommentService = ServiceFactory.createCliCommentService();
-        MockHistoryService mockHistoryService = ServiceFactory.createCliHistoryService();
-        MockSearchService mockSearchService = ServiceFactory.createCliSearchService();
-        MockMonitoringService mockMonitoringService = ServiceFactory.createCliMonitoringService();
-        MockRecoveryService mockRecoveryService = ServiceFactory.createCliRecoveryService();
-        MockReportService mockReportService = ServiceFactory.createCliReportService();
-
-        // Create domain adapter services - these will either connect to remote services
-        // or fall back to local implementations
-        this.workflowService = ServiceFactory.createWorkflowService();
-        this.backlogService = ServiceFactory.createBacklogService();
-        this.itemService = ServiceFactory.createItemService();
-        this.commentService = ServiceFactory.createCommentService();
-        this.historyService = ServiceFactory.createHistoryService();
-        this.searchService = ServiceFactory.createSearchService();
-        this.monitoringService = ServiceFactory.createMonitoringService();
-        this.recoveryService = ServiceFactory.createRecoveryService();
-        this.criticalPathService = ServiceFactory.createCriticalPathService();
-        this.reportService = mockReportService;
-
-        // Store CLI services directly in their specialized fields
-        this.messageService = new MockMessageService();
-        this.messageClient = new MockMessageClient();
-        this.diagnosticsService = new MockDiagnosticsService();
-        this.relationshipService = new MockRelationshipService();
-        this.auditService = new MockAuditService();
-        this.backupService = new MockBackupService();
-        this.complianceService = new MockComplianceService();
-
-        // Use the optimized metadata service for high-volume operation tracking
-        this.metadataService = OptimizedMetadataService.getInstance();
-
-        this.mockNotificationService = MockNotificationService.getInstance();
-        this.projectContext = ProjectContext.getInstance();
-        this.configurationService = ConfigurationService.getInstance();
-
-        // Initialize authentication and authorization services
-        AuthenticationService authService = new AuthenticationService();
-        this.authorizationService = new AuthorizationService(authService);
+        // Services are created on first use so a command only pays for what it uses
     }
 
     /**
@@ -141,7 +108,7 @@ public final class ServiceManager {
 
         // Check messaging service
         if ("messaging".equals(serviceName)) {
-            boolean connected = messageClient.isConnected();
+            boolean connected = getMessageClient().isConnected();
             String state = connected ? "RUNNING" : "DISCONNECTED";
             String message = connected ? "Messaging service is running" : "Messaging service is not connected";
             return new ServiceStatusInfo(connected, state, message);
@@ -211,7 +178,7 @@ public final class ServiceManager {
     public boolean connectLocalEndpoint() {
         // First check if the endpoint is already available
         if (hasLocalEndpoint()) {
-            return messageClient.connect();
+            return getMessageClient().connect();
         }
 
         // If no local endpoint is available, try to start one
@@ -243,7 +210,7 @@ public final class ServiceManager {
             Thread.sleep(2000);
 
             // Try to connect
-            return messageClient.connect();
+            return getMessageClient().connect();
         } catch (Exception e) {
             System.err.println("Failed to start local endpoint: " + e.getMessage());
             return false;
@@ -255,7 +222,10 @@ public final class ServiceManager {
      *
      * @return the workflow service
      */
-    public Object getWorkflowService() {
+    public synchronized Object getWorkflowService() {
+        if (workflowService == null) {
+            workflowService = new WorkflowServiceAdapter(getMockWorkflowService());
+        }
         return workflowService;
     }
 
@@ -264,7 +234,10 @@ public final class ServiceManager {
      *
      * @return the domain comment service
      */
-    public Object getCommentService() {
+    public synchronized Object getCommentService() {
+        if (commentService == null) {
+            commentService = new CommentServiceAdapter(getMockCommentService());
+        }
         return commentService;
     }
 
@@ -273,8 +246,11 @@ public final class ServiceManager {
      *
      * @return the CLI-specific comment service
      */
-    public MockCommentService getMockCommentService() {
-        return ServiceFactory.createCliCommentService();
+    public synchronized MockCommentService getMockCommentService() {
+        if (mockCommentService == null) {
+            mockCommentService = ServiceFactory.createCliCommentService();
+        }
+        return mockCommentService;
     }
 
     /**
@@ -282,7 +258,10 @@ public final class ServiceManager {
      *
      * @return the domain history service
      */
-    public Object getHistoryService() {
+    public synchronized Object getHistoryService() {
+        if (historyService == null) {
+            historyService = new HistoryServiceAdapter(getMockHistoryService());
+        }
         return historyService;
     }
 
@@ -291,8 +270,11 @@ public final class ServiceManager {
      *
      * @return the CLI-specific history service
      */
-    public MockHistoryService getMockHistoryService() {
-        return ServiceFactory.createCliHistoryService();
+    public synchronized MockHistoryService getMockHistoryService() {
+        if (mockHistoryService == null) {
+            mockHistoryService = ServiceFactory.createCliHistoryService();
+        }
+        return mockHistoryService;
     }
 
     /**
@@ -300,7 +282,10 @@ public final class ServiceManager {
      *
      * @return the item service
      */
-    public ItemService getItemService() {
+    public synchronized ItemService getItemService() {
+        if (itemService == null) {
+            itemService = getMockItemService();
+        }
         return (ItemService) itemService;
     }
 
@@ -309,8 +294,11 @@ public final class ServiceManager {
      *
      * @return the CLI-specific item service
      */
-    public MockItemService getMockItemService() {
-        return ServiceFactory.createCliItemService();
+    public synchronized MockItemService getMockItemService() {
+        if (mockItemService == null) {
+            mockItemService = ServiceFactory.createCliItemService();
+        }
+        return mockItemService;
     }
 
     /**
@@ -318,8 +306,11 @@ public final class ServiceManager {
      *
      * @return the CLI-specific workflow service
      */
-    public MockWorkflowService getMockWorkflowService() {
-        return ServiceFactory.createCliWorkflowService();
+    public synchronized MockWorkflowService getMockWorkflowService() {
+        if (mockWorkflowService == null) {
+            mockWorkflowService = ServiceFactory.createCliWorkflowService();
+        }
+        return mockWorkflowService;
     }
 
     /**
@@ -327,7 +318,7 @@ public final class ServiceManager {
      *
      * @param itemService the item service to set
      */
-    public void setItemService(Object itemService) {
+    public synchronized void setItemService(Object itemService) {
         this.itemService = itemService;
     }
 
@@ -336,7 +327,10 @@ public final class ServiceManager {
      *
      * @return the domain search service
      */
-    public Object getSearchService() {
+    public synchronized Object getSearchService() {
+        if (searchService == null) {
+            searchService = new SearchServiceAdapter(getMockSearchService());
+        }
         return searchService;
     }
 
@@ -345,8 +339,11 @@ public final class ServiceManager {
      *
      * @return the CLI-specific search service
      */
-    public MockSearchService getMockSearchService() {
-        return ServiceFactory.createCliSearchService();
+    public synchronized MockSearchService getMockSearchService() {
+        if (mockSearchService == null) {
+            mockSearchService = ServiceFactory.createCliSearchService();
+        }
+        return mockSearchService;
     }
 
     /**
@@ -354,7 +351,11 @@ public final class ServiceManager {
      *
      * @return the message service
      */
-    public MessageService getMessageService() {
+    public synchronized MessageService getMessageService() {
+        if (messageService == null) {
+            messageService = new MockMessageService(new MessageStore(
+                    Paths.get(System.getProperty("user.home"), ".rinna", "messages")));
+        }
         return messageService;
     }
 
@@ -363,7 +364,10 @@ public final class ServiceManager {
      *
      * @return the message client
      */
-    public MessageClient getMessageClient() {
+    public synchronized MessageClient getMessageClient() {
+        if (messageClient == null) {
+            messageClient = new MockMessageClient();
+        }
         return messageClient;
     }
 
@@ -372,7 +376,10 @@ public final class ServiceManager {
      *
      * @return the project context
      */
-    public ProjectContext getProjectContext() {
+    public synchronized ProjectContext getProjectContext() {
+        if (projectContext == null) {
+            projectContext = ProjectContext.getInstance();
+        }
         return projectContext;
     }
 
@@ -381,7 +388,10 @@ public final class ServiceManager {
      *
      * @return the configuration service
      */
-    public ConfigurationService getConfigurationService() {
+    public synchronized ConfigurationService getConfigurationService() {
+        if (configurationService == null) {
+            configurationService = ConfigurationService.getInstance();
+        }
         return configurationService;
     }
 
@@ -390,7 +400,10 @@ public final class ServiceManager {
      *
      * @return the backlog service
      */
-    public Object getBacklogService() {
+    public synchronized Object getBacklogService() {
+        if (backlogService == null) {
+            backlogService = new BacklogServiceAdapter(getMockBacklogService());
+        }
         return backlogService;
     }
 
@@ -399,8 +412,11 @@ public final class ServiceManager {
      *
      * @return the CLI-specific backlog service
      */
-    public MockBacklogService getMockBacklogService() {
-        return ServiceFactory.createCliBacklogService();
+    public synchronized MockBacklogService getMockBacklogService() {
+        if (mockBacklogService == null) {
+            mockBacklogService = ServiceFactory.createCliBacklogService();
+        }
+        return mockBacklogService;
     }
 
     /**
@@ -408,7 +424,10 @@ public final class ServiceManager {
      *
      * @return the domain monitoring service
      */
-    public MonitoringService getMonitoringService() {
+    public synchronized MonitoringService getMonitoringService() {
+        if (monitoringService == null) {
+            monitoringService = getMockMonitoringService();
+        }
         return (MonitoringService) monitoringService;
     }
 
@@ -417,8 +436,11 @@ public final class ServiceManager {
      *
      * @return the CLI-specific monitoring service
      */
-    public MockMonitoringService getMockMonitoringService() {
-        return ServiceFactory.createCliMonitoringService();
+    public synchronized MockMonitoringService getMockMonitoringService() {
+        if (mockMonitoringService == null) {
+            mockMonitoringService = ServiceFactory.createCliMonitoringService();
+        }
+        return mockMonitoringService;
     }
 
     /**
@@ -426,7 +448,13 @@ public final class ServiceManager {
      *
      * @return the domain recovery service
      */
-    public RecoveryService getRecoveryService() {
+    public synchronized RecoveryService getRecoveryService() {
+        if (recoveryService == null) {
+            // Restore from the local chunk store when backups are taken of a real database
+            recoveryService = getBackupService() instanceof LocalBackupService localBackupService
+                ? new LocalRecoveryService(localBackupService)
+                : getMockRecoveryService();
+        }
         return (RecoveryService) recoveryService;
     }
 
@@ -435,8 +463,11 @@ public final class ServiceManager {
      *
      * @return the CLI-specific recovery service
      */
-    public MockRecoveryService getMockRecoveryService() {
-        return ServiceFactory.createCliRecoveryService();
+    public synchronized MockRecoveryService getMockRecoveryService() {
+        if (mockRecoveryService == null) {
+            mockRecoveryService = ServiceFactory.createCliRecoveryService();
+        }
+        return mockRecoveryService;
     }
 
     /**
@@ -444,7 +475,10 @@ public final class ServiceManager {
      *
      * @return the domain critical path service
      */
-    public Object getCriticalPathService() {
+    public synchronized Object getCriticalPathService() {
+        if (criticalPathService == null) {
+            criticalPathService = new CriticalPathServiceAdapter(getMockCriticalPathService(), getMockItemService());
+        }
         return criticalPathService;
     }
 
@@ -453,8 +487,11 @@ public final class ServiceManager {
      *
      * @return the CLI-specific critical path service
      */
-    public MockCriticalPathService getMockCriticalPathService() {
-        return ServiceFactory.createCliCriticalPathService();
+    public synchronized MockCriticalPathService getMockCriticalPathService() {
+        if (mockCriticalPathService == null) {
+            mockCriticalPathService = ServiceFactory.createCliCriticalPathService();
+        }
+        return mockCriticalPathService;
     }
 
     /**
@@ -462,8 +499,11 @@ public final class ServiceManager {
      *
      * @return the diagnostics service
      */
-    public DiagnosticsService getDiagnosticsService() {
-        return (DiagnosticsService) diagnosticsService;
+    public synchronized DiagnosticsService getDiagnosticsService() {
+        if (diagnosticsService == null) {
+            diagnosticsService = new MockDiagnosticsService();
+        }
+        return diagnosticsService;
     }
 
     /**
@@ -471,7 +511,10 @@ public final class ServiceManager {
      *
      * @return the relationship service
      */
-    public Object getRelationshipService() {
+    public synchronized Object getRelationshipService() {
+        if (relationshipService == null) {
+            relationshipService = new MockRelationshipService();
+        }
         return relationshipService;
     }
 
@@ -480,7 +523,10 @@ public final class ServiceManager {
      *
      * @return the CLI-specific relationship service
      */
-    public MockRelationshipService getMockRelationshipService() {
+    public synchronized MockRelationshipService getMockRelationshipService() {
+        if (relationshipService == null) {
+            relationshipService = new MockRelationshipService();
+        }
         return relationshipService;
     }
 
@@ -489,7 +535,13 @@ public final class ServiceManager {
      *
      * @return the audit service
      */
-    public AuditService getAuditService() {
+    public synchronized AuditService getAuditService() {
+        if (auditService == null) {
+            // Keep the audit log next to the local database once one exists
+            auditService = Files.isRegularFile(LocalBackupService.getDefaultDatabase())
+                ? new LocalAuditService()
+                : new MockAuditService();
+        }
         return auditService;
     }
 
@@ -498,7 +550,13 @@ public final class ServiceManager {
      *
      * @return the backup service
      */
-    public BackupService getBackupService() {
+    public synchronized BackupService getBackupService() {
+        if (backupService == null) {
+            // Back up the local SQLite database once one exists
+            backupService = Files.isRegularFile(LocalBackupService.getDefaultDatabase())
+                ? new LocalBackupService()
+                : new MockBackupService();
+        }
         return backupService;
     }
 
@@ -507,7 +565,10 @@ public final class ServiceManager {
      *
      * @return the compliance service
      */
-    public ComplianceService getComplianceService() {
+    public synchronized ComplianceService getComplianceService() {
+        if (complianceService == null) {
+            complianceService = new MockComplianceService();
+        }
         return complianceService;
     }
 
@@ -516,7 +577,14 @@ public final class ServiceManager {
      *
      * @return the metadata service
      */
-    public MetadataService getMetadataService() {
+    public synchronized MetadataService getMetadataService() {
+        if (metadataService == null) {
+            OptimizedMetadataService optimized = OptimizedMetadataService.getInstance();
+            if (getAuditService() instanceof LocalAuditService localAuditService) {
+                optimized.addOperationListener(localAuditService::record);
+            }
+            metadataService = optimized;
+        }
         return metadataService;
     }
 
@@ -525,7 +593,10 @@ public final class ServiceManager {
      *
      * @return the report service
      */
-    public MockReportService getMockReportService() {
+    public synchronized MockReportService getMockReportService() {
+        if (reportService == null) {
+            reportService = ServiceFactory.createCliReportService();
+        }
         return reportService;
     }
 
@@ -534,7 +605,10 @@ public final class ServiceManager {
      *
      * @return the notification service
      */
-    public MockNotificationService getMockNotificationService() {
+    public synchronized MockNotificationService getMockNotificationService() {
+        if (mockNotificationService == null) {
+            mockNotificationService = MockNotificationService.getInstance();
+        }
         return mockNotificationService;
     }
 
@@ -543,7 +617,10 @@ public final class ServiceManager {
      *
      * @return the authorization service
      */
-    public AuthorizationService getAuthorizationService() {
+    public synchronized AuthorizationService getAuthorizationService() {
+        if (authorizationService == null) {
+            authorizationService = new AuthorizationService(new AuthenticationService());
+        }
         return authorizationService;
     }
 
@@ -0,0 +1,82 @@
+/*
+ * Invocation context utility for Rinna CLI.
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.cli.util;
+
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * The working directory and environment of the shell that invoked a command.
+ *
+ * <p>A command run in-process sees the values of this process. A command run
+ * by the rin daemon sees the values forwarded by the client, because the
+ * daemon's own working directory and environment belong to the shell that
+ * started it. Code that reads the working directory or an environment variable
+ * on behalf of a command should use this class instead of
+ * {@code System.getProperty("user.dir")} and {@link System#getenv(String)}.</p>
+ */
+public final class InvocationContext {
+
+    private static final ThreadLocal<InvocationContext> CURRENT = new ThreadLocal<>();
+
+    private final String workingDirectory;
+    private final Map<String, String> environment;
+
+    /**
+     * Creates a context.
+     *
+     * @param workingDirectory the absolute working directory of the invoking shell
+     * @param environment the environment of the invoking shell
+     */
+    public InvocationContext(String workingDirectory, Map<String, String> environment) {
+        this.workingDirectory = workingDirectory;
+        this.environment = Map.copyOf(environment);
+    }
+
+    /**
+     * Runs a command with this context, restoring the previous context afterwards.
+     *
+     * @param command the command to run
+     * @return the command's exit code
+     */
+    public int run(IntSupplier command) {
+        InvocationContext previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return command.getAsInt();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Gets the working directory of the shell that invoked the current command.
+     *
+     * @return the absolute working directory
+     */
+    public static String workingDirectory() {
+        InvocationContext context = CURRENT.get();
+        return context == null ? System.getProperty("user.dir") : context.workingDirectory;
+    }
+
+    /**
+     * Gets an environment variable of the shell that invoked the current command.
+     *
+     * @param name the variable name
+     * @return the value, or null if the variable is not set
+     */
+    public static String getenv(String name) {
+        InvocationContext context = CURRENT.get();
+        return context == null ? System.getenv(name) : context.environment.get(name);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Local identifier utility for Rinna CLI.
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.cli.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Utility class for generating identifiers that never leave the local process
+ * or store, such as operation IDs and sample data IDs.
+ *
+ * <p>{@link UUID#randomUUID()} seeds a {@code SecureRandom} on first use, which
+ * costs tens of milliseconds on every cold CLI start. These identifiers need
+ * uniqueness, not unpredictability, so they are drawn from
+ * {@link ThreadLocalRandom} instead, with the same version 4 layout.</p>
+ */
+public final class LocalIds {
+
+    // Private constructor to prevent instantiation
+    private LocalIds() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Generates a random version 4 UUID without a cryptographic random source.
+     *
+     * @return the UUID
+     */
+    public static UUID randomUuid() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long least = (random.nextLong() & ~(0x3L << 62)) | (0x2L << 62);
+        return new UUID(most, least);
+    }
+
+    /**
+     * Generates a random version 4 UUID string without a cryptographic random source.
+     *
+     * @return the UUID string
+     */
+    public static String randomId() {
+        return randomUuid().toString();
+    }
+}
@@ -9,10 +9,12 @@
  */
 package org.rinna.cli.util;
 
+import java.lang.invoke.MethodHandle;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -31,8 +33,8 @@ import org.rinna.cli.model.WorkflowState;
  * the actual domain interfaces in the core module.
  * 
  * This mapper handles both traditional Java classes and Java Record classes (introduced
- * in Java 14). Record detection is done through reflection and appropriate accessor
- * methods are used based on the class type.
+ * in Java 14). Accessors for classes other than the core work item types are found
+ * once per class and cached as method handles (see {@link PropertyAccessors}).
  */
 public final class ModelMapper {
 
@@ -50,25 +52,7 @@ public final class ModelMapper {
      * @return true if the class is a Record, false otherwise
      */
     private static boolean isRecord(Class<?> clazz) {
-        if (clazz == null) {
-            return false;
-        }
-        
-        try {
-            // Use reflection to call isRecord() method directly
-            // This was added to Class in Java 16
-            java.lang.reflect.Method isRecordMethod = Class.class.getMethod("isRecord");
-            return (Boolean) isRecordMethod.invoke(clazz);
-        } catch (Exception e) {
-            // For earlier Java versions, check for Record class characteristics
-            try {
-                // Check if the class's superclass is java.lang.Record
-                return clazz.getSuperclass() != null && 
-                       clazz.getSuperclass().getName().equals("java.lang.Record");
-            } catch (Exception ex) {
-                return false;
-            }
-        }
+        return clazz != null && clazz.isRecord();
     }
 
     /**
@@ -237,7 +221,9 @@ public final class ModelMapper {
     /**
      * Converts a core module WorkItem to a CLI WorkItem.
      * This method supports the core domain model interfaces from the rinna-core module.
-     * It handles both traditional classes and immutable record classes.
+     * Core work items are read through their interface directly; any other class is
+     * read through accessors that are resolved once per class and cached, so
+     * converting a large list costs no reflective lookups per item.
      *
      * @param coreItem the core module WorkItem to convert
      * @return the CLI WorkItem
@@ -248,247 +234,161 @@ public final class ModelMapper {
         }
         
         try {
-            // Use reflection to access properties from core WorkItem
-            Class<?> coreClass = coreItem.getClass();
-            WorkItem cliItem = new WorkItem();
-            
-            // Check if the item is a record - this affects how we access properties
-            boolean isRecord = isRecord(coreClass);
-            
-            // Get ID
-            Object id = null;
-            try {
-                id = invokeGetter(coreItem, "getId");
-            } catch (Exception e) {
-                if (isRecord) {
-                    // For records, try the field accessor method directly
-                    try {
-                        id = coreClass.getMethod("id").invoke(coreItem);
-                    } catch (Exception ex) {
-                        // Continue with next field
-                    }
-                } else {
-                    // For regular classes, try alternate getter
-                    try {
-                        id = invokeGetter(coreItem, "id");
-                    } catch (Exception ex) {
-                        // Continue with next field
-                    }
-                }
+            if (coreItem instanceof org.rinna.domain.model.WorkItem) {
+                return fromCoreWorkItem((org.rinna.domain.model.WorkItem) coreItem);
             }
-            
-            if (id != null) {
-                cliItem.setId(id.toString());
+            return CoreItemReader.forClass(coreItem.getClass()).read(coreItem);
+        } catch (Exception e) {
+            // Fallback to default string conversion if reflection fails
+            WorkItem cliItem = new WorkItem();
+            cliItem.setTitle("Conversion error: " + e.getMessage());
+            cliItem.setDescription("Failed to convert core work item: " + coreItem);
+            return cliItem;
+        }
+    }
+    
+    /**
+     * Converts a work item from the core module through its interface, without reflection.
+     */
+    private static WorkItem fromCoreWorkItem(org.rinna.domain.model.WorkItem coreItem) {
+        WorkItem cliItem = new WorkItem();
+        if (coreItem.getId() != null) {
+            cliItem.setId(coreItem.getId().toString());
+        }
+        cliItem.setTitle(coreItem.getTitle());
+        cliItem.setDescription(coreItem.getDescription());
+        cliItem.setAssignee(coreItem.getAssignee());
+        if (coreItem.getType() != null) {
+            cliItem.setType(StateMapper.fromCoreType(coreItem.getType().name()));
+        }
+        if (coreItem.getPriority() != null) {
+            cliItem.setPriority(StateMapper.fromCorePriority(coreItem.getPriority().name()));
+        }
+        if (coreItem.getStatus() != null) {
+            cliItem.setStatus(StateMapper.fromCoreState(coreItem.getStatus().name()));
+        }
+        if (coreItem.getCreatedAt() != null) {
+            cliItem.setCreated(LocalDateTime.ofInstant(coreItem.getCreatedAt(), ZoneId.systemDefault()));
+        }
+        if (coreItem.getUpdatedAt() != null) {
+            cliItem.setUpdated(LocalDateTime.ofInstant(coreItem.getUpdatedAt(), ZoneId.systemDefault()));
+        }
+        if (coreItem instanceof org.rinna.domain.model.WorkItemRecord) {
+            UUID projectId = ((org.rinna.domain.model.WorkItemRecord) coreItem).projectId();
+            if (projectId != null) {
+                cliItem.setProjectId(projectId.toString());
             }
-            
-            // Get title
-            String title = null;
-            try {
-                title = (String) invokeGetter(coreItem, "getTitle");
-            } catch (Exception e) {
-                if (isRecord) {
-                    // Try record accessor
-                    try {
-                        title = (String) coreClass.getMethod("title").invoke(coreItem);
-                    } catch (Exception ex) {
-                        // Continue
-                    }
-                }
+        }
+        return cliItem;
+    }
+    
+    /**
+     * Reads the work item properties of one class through cached method handles.
+     * The project ID is only read from records, and may be wrapped in an Optional.
+     */
+    private static final class CoreItemReader {
+        
+        private static final ClassValue<CoreItemReader> READERS = new ClassValue<>() {
+            @Override
+            protected CoreItemReader computeValue(Class<?> type) {
+                return new CoreItemReader(type);
             }
-            cliItem.setTitle(title);
+        };
+        
+        private final MethodHandle id;
+        private final MethodHandle title;
+        private final MethodHandle description;
+        private final MethodHandle assignee;
+        private final MethodHandle reporter;
+        private final MethodHandle type;
+        private final MethodHandle priority;
+        private final MethodHandle state;
+        private final MethodHandle createdAt;
+        private final MethodHandle updatedAt;
+        private final MethodHandle projectId;
+        
+        private CoreItemReader(Class<?> coreClass) {
+            PropertyAccessors accessors = PropertyAccessors.forClass(coreClass);
+            id = accessors.getter("id");
+            title = accessors.getter("title");
+            description = accessors.getter("description");
+            assignee = accessors.getter("assignee");
+            reporter = accessors.getter("reporter");
+            type = accessors.getter("type");
+            priority = accessors.getter("priority");
+            MethodHandle stateGetter = accessors.getter("state");
+            state = stateGetter != null ? stateGetter : accessors.getter("status");
+            createdAt = accessors.getter("createdAt");
+            updatedAt = accessors.getter("updatedAt");
+            projectId = isRecord(coreClass) ? accessors.getter("projectId") : null;
+        }
+        
+        static CoreItemReader forClass(Class<?> coreClass) {
+            return READERS.get(coreClass);
+        }
+        
+        WorkItem read(Object coreItem) {
+            WorkItem cliItem = new WorkItem();
             
-            // Get description
-            String description = null;
-            try {
-                description = (String) invokeGetter(coreItem, "getDescription");
-            } catch (Exception e) {
-                if (isRecord) {
-                    // Try record accessor
-                    try {
-                        description = (String) coreClass.getMethod("description").invoke(coreItem);
-                    } catch (Exception ex) {
-                        // Continue
-                    }
-                }
+            Object idObj = get(id, coreItem);
+            if (idObj != null) {
+                cliItem.setId(idObj.toString());
             }
-            cliItem.setDescription(description);
             
-            // Get assignee
-            String assignee = null;
-            try {
-                assignee = (String) invokeGetter(coreItem, "getAssignee");
-            } catch (Exception e) {
-                if (isRecord) {
-                    // Try record accessor
-                    try {
-                        assignee = (String) coreClass.getMethod("assignee").invoke(coreItem);
-                    } catch (Exception ex) {
-                        // Continue
-                    }
-                }
-            }
-            cliItem.setAssignee(assignee);
-            
-            // Get reporter
-            String reporter = null;
-            try {
-                reporter = (String) invokeGetter(coreItem, "getReporter");
-            } catch (Exception e) {
-                if (isRecord) {
-                    // Try record accessor
-                    try {
-                        reporter = (String) coreClass.getMethod("reporter").invoke(coreItem);
-                    } catch (Exception ex) {
-                        // Continue
-                    }
-                }
-            }
-            cliItem.setReporter(reporter);
-            
-            // Get type - this could be an enum in both record and regular class
-            Object typeObj = null;
-            try {
-                typeObj = invokeGetter(coreItem, "getType");
-            } catch (Exception e) {
-                if (isRecord) {
-                    // Try record accessor
-                    try {
-                        typeObj = coreClass.getMethod("type").invoke(coreItem);
-                    } catch (Exception ex) {
-                        // Continue
-                    }
-                }
-            }
+            cliItem.setTitle((String) get(title, coreItem));
+            cliItem.setDescription((String) get(description, coreItem));
+            cliItem.setAssignee((String) get(assignee, coreItem));
+            cliItem.setReporter((String) get(reporter, coreItem));
             
+            // Type, priority and state may be enums or strings
+            Object typeObj = get(type, coreItem);
             if (typeObj != null) {
-                String typeStr = typeObj.toString();
-                cliItem.setType(StateMapper.fromCoreType(typeStr));
-            }
-            
-            // Get priority - this could be an enum in both record and regular class
-            Object priorityObj = null;
-            try {
-                priorityObj = invokeGetter(coreItem, "getPriority");
-            } catch (Exception e) {
-                if (isRecord) {
-                    // Try record accessor
-                    try {
-                        priorityObj = coreClass.getMethod("priority").invoke(coreItem);
-                    } catch (Exception ex) {
-                        // Continue
-                    }
-                }
+                cliItem.setType(StateMapper.fromCoreType(typeObj.toString()));
             }
             
+            Object priorityObj = get(priority, coreItem);
             if (priorityObj != null) {
-                String priorityStr = priorityObj.toString();
-                cliItem.setPriority(StateMapper.fromCorePriority(priorityStr));
-            }
-            
-            // Get state/status - this could be an enum in both record and regular class
-            Object stateObj = null;
-            try {
-                stateObj = invokeGetter(coreItem, "getState");
-            } catch (Exception e) {
-                // Try alternate state accessor
-                try {
-                    stateObj = invokeGetter(coreItem, "getStatus");
-                } catch (Exception ex) {
-                    if (isRecord) {
-                        // Try record accessors
-                        try {
-                            stateObj = coreClass.getMethod("state").invoke(coreItem);
-                        } catch (Exception exc) {
-                            try {
-                                stateObj = coreClass.getMethod("status").invoke(coreItem);
-                            } catch (Exception excp) {
-                                // Continue
-                            }
-                        }
-                    }
-                }
+                cliItem.setPriority(StateMapper.fromCorePriority(priorityObj.toString()));
             }
             
+            Object stateObj = get(state, coreItem);
             if (stateObj != null) {
-                String stateStr = stateObj.toString();
-                cliItem.setStatus(StateMapper.fromCoreState(stateStr));
-            }
-            
-            // Get creation timestamp
-            Object createdObj = null;
-            try {
-                createdObj = invokeGetter(coreItem, "getCreatedAt");
-            } catch (Exception e) {
-                if (isRecord) {
-                    // Try record accessor
-                    try {
-                        createdObj = coreClass.getMethod("createdAt").invoke(coreItem);
-                    } catch (Exception ex) {
-                        // Continue
-                    }
-                }
+                cliItem.setStatus(StateMapper.fromCoreState(stateObj.toString()));
             }
             
+            Object createdObj = get(createdAt, coreItem);
             if (createdObj instanceof Instant) {
-                Instant createdInstant = (Instant) createdObj;
-                cliItem.setCreated(LocalDateTime.ofInstant(createdInstant, ZoneId.systemDefault()));
-            }
-            
-            // Get update timestamp
-            Object updatedObj = null;
-            try {
-                updatedObj = invokeGetter(coreItem, "getUpdatedAt");
-            } catch (Exception e) {
-                if (isRecord) {
-                    // Try record accessor
-                    try {
-                        updatedObj = coreClass.getMethod("updatedAt").invoke(coreItem);
-                    } catch (Exception ex) {
-                        // Continue
-                    }
-                }
+                cliItem.setCreated(LocalDateTime.ofInstant((Instant) createdObj, ZoneId.systemDefault()));
             }
             
+            Object updatedObj = get(updatedAt, coreItem);
             if (updatedObj instanceof Instant) {
-                Instant updatedInstant = (Instant) updatedObj;
-                cliItem.setUpdated(LocalDateTime.ofInstant(updatedInstant, ZoneId.systemDefault()));
+                cliItem.setUpdated(LocalDateTime.ofInstant((Instant) updatedObj, ZoneId.systemDefault()));
             }
             
-            // Handle project and version fields from record if available
-            if (isRecord) {
-                try {
-                    Object projectIdObj = coreClass.getMethod("projectId").invoke(coreItem);
-                    if (projectIdObj != null) {
-                        // If it's an Optional, try to get its value
-                        if (projectIdObj.getClass().getSimpleName().equals("Optional")) {
-                            try {
-                                Object isPresent = projectIdObj.getClass().getMethod("isPresent").invoke(projectIdObj);
-                                if ((Boolean) isPresent) {
-                                    Object projId = projectIdObj.getClass().getMethod("get").invoke(projectIdObj);
-                                    if (projId != null) {
-                                        cliItem.setProjectId(projId.toString());
-                                    }
-                                }
-                            } catch (Exception ex) {
-                                // Continue
-                            }
-                        } else {
-                            cliItem.setProjectId(projectIdObj.toString());
-                        }
-                    }
-                } catch (Exception e) {
-                    // Continue - project ID is optional
-                }
+            Object projectIdObj = get(projectId, coreItem);
+            if (projectIdObj instanceof Optional) {
+                projectIdObj = ((Optional<?>) projectIdObj).orElse(null);
+            }
+            if (projectIdObj != null) {
+                cliItem.setProjectId(projectIdObj.toString());
             }
             
             return cliItem;
-            
-        } catch (Exception e) {
-            // Fallback to default string conversion if reflection fails
-            WorkItem cliItem = new WorkItem();
-            cliItem.setTitle("Conversion error: " + e.getMessage());
-            cliItem.setDescription("Failed to convert core work item: " + coreItem);
-            return cliItem;
+        }
+        
+        private static Object get(MethodHandle getter, Object coreItem) {
+            if (getter == null) {
+                return null;
+            }
+            try {
+                return (Object) getter.invokeExact(coreItem);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                // A failing accessor leaves the property unset, as a missing one does
+                return null;
+            }
         }
     }
     
@@ -576,6 +476,9 @@ public final class ModelMapper {
             // Set state
             if (domainItem.getState() != null) {
                 String stateStr = domainItem.getState().name();
+                // Core classes name the state setter either setState or setStatus
+                String stateSetter = PropertyAccessors.forClass(coreClass).setter("state") != null
+                    ? "setState" : "setStatus";
                 // Attempt to map to core enum if available
                 try {
                     Class<?> enumClass = getCoreEnumClass(coreClass, "WorkflowState");
@@ -583,14 +486,14 @@ public final class ModelMapper {
                         Object enumValue = Enum.valueOf((Class<Enum>)enumClass, stateStr);
                         // Try both setter names
                         try {
-                            invokeSetter(coreItem, "setState", enumValue);
+                            invokeSetter(coreItem, stateSetter, enumValue);
                         } catch (Exception e) {
                             invokeSetter(coreItem, "setStatus", enumValue);
                         }
                     } else {
                         // Fallback to string
                         try {
-                            invokeSetter(coreItem, "setState", stateStr);
+                            invokeSetter(coreItem, stateSetter, stateStr);
                         } catch (Exception e) {
                             invokeSetter(coreItem, "setStatus", stateStr);
                         }
@@ -598,7 +501,7 @@ public final class ModelMapper {
                 } catch (Exception e) {
                     // If enum conversion fails, use string value
                     try {
-                        invokeSetter(coreItem, "setState", stateStr);
+                        invokeSetter(coreItem, stateSetter, stateStr);
                     } catch (Exception ex) {
                         invokeSetter(coreItem, "setStatus", stateStr);
                     }
@@ -743,48 +646,21 @@ public final class ModelMapper {
     
     // Helper methods for reflection
     
-    private static Object invokeGetter(Object obj, String methodName) throws Exception {
-        try {
-            return obj.getClass().getMethod(methodName).invoke(obj);
-        } catch (NoSuchMethodException e) {
-            // Try without 'get' prefix if method not found
-            if (methodName.startsWith("get")) {
-                String fieldName = methodName.substring(3, 4).toLowerCase() + methodName.substring(4);
-                try {
-                    return obj.getClass().getMethod(fieldName).invoke(obj);
-                } catch (NoSuchMethodException ex) {
-                    // Field access as last resort
-                    try {
-                        return obj.getClass().getField(fieldName).get(obj);
-                    } catch (NoSuchFieldException exc) {
-                        return null;
-                    }
-                }
-            }
-            return null;
-        }
-    }
-    
     private static void invokeSetter(Object obj, String methodName, Object value) throws Exception {
+        String property = methodName.startsWith("set")
+            ? methodName.substring(3, 4).toLowerCase() + methodName.substring(4)
+            : methodName;
+        MethodHandle setter = PropertyAccessors.forClass(obj.getClass()).setter(property);
+        if (setter == null) {
+            // Ignore - no setter or field found
+            return;
+        }
         try {
-            // Find the appropriate setter method
-            for (java.lang.reflect.Method method : obj.getClass().getMethods()) {
-                if (method.getName().equals(methodName) && method.getParameterCount() == 1) {
-                    method.invoke(obj, value);
-                    return;
-                }
-            }
-            throw new NoSuchMethodException(methodName);
-        } catch (NoSuchMethodException e) {
-            // Try without 'set' prefix if method not found
-            if (methodName.startsWith("set")) {
-                String fieldName = methodName.substring(3, 4).toLowerCase() + methodName.substring(4);
-                try {
-                    obj.getClass().getField(fieldName).set(obj, value);
-                } catch (NoSuchFieldException ex) {
-                    // Ignore - field not found
-                }
-            }
+            setter.invokeExact(obj, value);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
         }
     }
     
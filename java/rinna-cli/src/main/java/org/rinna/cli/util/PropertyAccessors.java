@@ -0,0 +1,173 @@
+/**
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ *
+ * Developed with analytical assistance from AI tools.
+ * All rights reserved.
+ *
+ * This source code is licensed under the MIT License
+ * found in the LICENSE file in the root directory of this source tree.
+ */
+package org.rinna.cli.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Property getters and setters of one class, resolved once and cached as method handles.
+ *
+ * <p>A getter for property {@code x} is the first of {@code getX()}, {@code x()} or a
+ * public field {@code x}; a setter is the first public one-argument method named
+ * {@code setX}, or a public field {@code x}. Lookups that find nothing are cached as
+ * well, so mapping many items of the same class never repeats reflection.</p>
+ */
+final class PropertyAccessors {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<PropertyAccessors> CACHE = new ClassValue<>() {
+        @Override
+        protected PropertyAccessors computeValue(Class<?> type) {
+            return new PropertyAccessors(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final Map<String, Method> getterMethods = new HashMap<>();
+    private final Map<String, Method> setterMethods = new HashMap<>();
+    private final Map<String, Optional<MethodHandle>> getters = new ConcurrentHashMap<>();
+    private final Map<String, Optional<MethodHandle>> setters = new ConcurrentHashMap<>();
+
+    private PropertyAccessors(Class<?> type) {
+        this.type = type;
+        for (Method method : type.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            if (method.getParameterCount() == 0 && method.getReturnType() != void.class) {
+                getterMethods.putIfAbsent(method.getName(), method);
+            } else if (method.getParameterCount() == 1) {
+                setterMethods.putIfAbsent(method.getName(), method);
+            }
+        }
+    }
+
+    /**
+     * Returns the cached accessors for a class.
+     *
+     * @param type the class
+     * @return the accessors
+     */
+    static PropertyAccessors forClass(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * Returns a getter for a property, typed {@code (Object)Object}.
+     *
+     * @param property the property name, such as {@code title}
+     * @return the getter, or null if the class has none
+     */
+    MethodHandle getter(String property) {
+        return getters.computeIfAbsent(property, p -> Optional.ofNullable(resolveGetter(p))).orElse(null);
+    }
+
+    /**
+     * Returns a setter for a property, typed {@code (Object,Object)void}.
+     *
+     * @param property the property name, such as {@code title}
+     * @return the setter, or null if the class has none
+     */
+    MethodHandle setter(String property) {
+        return setters.computeIfAbsent(property, p -> Optional.ofNullable(resolveSetter(p))).orElse(null);
+    }
+
+    private MethodHandle resolveGetter(String property) {
+        Method method = getterMethods.get("get" + capitalize(property));
+        if (method == null) {
+            method = getterMethods.get(property);
+        }
+        if (method != null) {
+            return adapt(unreflect(method), GETTER_TYPE);
+        }
+        Field field = publicField(property);
+        return field == null ? null : adapt(unreflectGetter(field), GETTER_TYPE);
+    }
+
+    private MethodHandle resolveSetter(String property) {
+        Method method = setterMethods.get("set" + capitalize(property));
+        if (method != null) {
+            return adapt(unreflect(method), SETTER_TYPE);
+        }
+        Field field = publicField(property);
+        return field == null || Modifier.isFinal(field.getModifiers())
+            ? null : adapt(unreflectSetter(field), SETTER_TYPE);
+    }
+
+    private Field publicField(String name) {
+        try {
+            Field field = type.getField(name);
+            return Modifier.isStatic(field.getModifiers()) ? null : field;
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            // Public methods of non-public classes, such as records nested in a private scope
+            return makeAccessible(method) ? unreflectPrivate(method) : null;
+        }
+    }
+
+    private static MethodHandle unreflectPrivate(Method method) {
+        try {
+            return MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflectGetter(Field field) {
+        try {
+            return MethodHandles.publicLookup().unreflectGetter(field);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflectSetter(Field field) {
+        try {
+            return MethodHandles.publicLookup().unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static boolean makeAccessible(AccessibleObject member) {
+        try {
+            return member.trySetAccessible();
+        } catch (SecurityException e) {
+            return false;
+        }
+    }
+
+    private static MethodHandle adapt(MethodHandle handle, MethodType type) {
+        return handle == null ? null : handle.asType(type);
+    }
+
+    private static String capitalize(String property) {
+        return Character.toUpperCase(property.charAt(0)) + property.substring(1);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Line record codec utility for Rinna CLI.
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.cli.util;
+
+/**
+ * Utility class for encoding records as single tab-separated lines.
+ * Used by the CLI's append-only local stores, where each record must
+ * occupy exactly one line so files can be appended to and scanned
+ * without a parser for the whole file.
+ *
+ * <p>Backslashes, tabs and line breaks inside fields are escaped, and
+ * null fields are written as {@code \0} so they round-trip distinctly
+ * from empty strings.</p>
+ */
+public final class RecordCodec {
+
+    private static final String NULL_FIELD = "\\0";
+
+    // Private constructor to prevent instantiation
+    private RecordCodec() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Encodes fields into a single line without a line terminator.
+     *
+     * @param fields the fields to encode, which may be null
+     * @return the encoded line
+     */
+    public static String encode(String... fields) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                line.append('\t');
+            }
+            line.append(fields[i] == null ? NULL_FIELD : escape(fields[i]));
+        }
+        return line.toString();
+    }
+
+    /**
+     * Decodes a line produced by {@link #encode(String...)}.
+     *
+     * @param line the encoded line
+     * @return the decoded fields, with nulls restored
+     */
+    public static String[] decode(String line) {
+        String[] fields = line.split("\t", -1);
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = NULL_FIELD.equals(fields[i]) ? null : unescape(fields[i]);
+        }
+        return fields;
+    }
+
+    /**
+     * Escapes a single field value.
+     *
+     * @param value the value to escape
+     * @return the escaped value
+     */
+    public static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\': escaped.append("\\\\"); break;
+                case '\t': escaped.append("\\t"); break;
+                case '\n': escaped.append("\\n"); break;
+                case '\r': escaped.append("\\r"); break;
+                default: escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Reverses {@link #escape(String)}.
+     *
+     * @param value the escaped value
+     * @return the original value
+     */
+    public static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                switch (next) {
+                    case 't': unescaped.append('\t'); break;
+                    case 'n': unescaped.append('\n'); break;
+                    case 'r': unescaped.append('\r'); break;
+                    default: unescaped.append(next);
+                }
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+}
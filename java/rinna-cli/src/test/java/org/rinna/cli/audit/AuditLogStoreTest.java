@@ -0,0 +1,188 @@
+/**
+ * Tests for AuditLogStore
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+package org.rinna.cli.audit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for AuditLogStore and the sliding window counter used by audit alerts.
+ */
+public class AuditLogStoreTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    @TempDir
+    Path tempDir;
+
+    private AuditLogStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = new AuditLogStore(tempDir, ZoneOffset.UTC);
+    }
+
+    private static AuditEvent event(LocalDate day, int second, String user, String type) {
+        Instant timestamp = day.atStartOfDay(ZoneOffset.UTC).toInstant().plusSeconds(second);
+        return new AuditEvent(timestamp, user, type, "cmd", "COMPLETED", "n=" + second);
+    }
+
+    @Test
+    void testEventLineRoundTripsEscapedFields() {
+        AuditEvent event = new AuditEvent(Instant.ofEpochMilli(1234), "ann", "ADMIN_ACTION", "admin",
+            "FAILED", "tab\there; newline\nthere; slash\\");
+        assertEquals(event, AuditEvent.parse(event.toLine()));
+        assertFalse(event.toLine().contains("\n"));
+        assertThrows(IllegalArgumentException.class, () -> AuditEvent.parse("not an event"));
+    }
+
+    @Test
+    void testEventsArePartitionedByDay() throws IOException {
+        store.append(event(DAY, 10, "ann", "LOGIN"));
+        store.append(event(DAY.plusDays(1), 10, "bob", "LOGIN"));
+        store.append(event(DAY.plusDays(1), 20, "ann", "DATA_EXPORT"));
+
+        assertEquals(2, store.getPartitionCount());
+        assertTrue(Files.exists(tempDir.resolve("audit-2025-03-10.log")));
+        assertTrue(Files.exists(tempDir.resolve("audit-2025-03-11.log")));
+
+        // A reopened store finds the partitions on disk
+        AuditLogStore reopened = new AuditLogStore(tempDir, ZoneOffset.UTC);
+        assertEquals(3, reopened.query(DAY, DAY.plusDays(1), null, null, 10).size());
+        assertEquals(1, reopened.query(DAY, DAY, null, null, 10).size());
+    }
+
+    @Test
+    void testQueryUsesUserAndTypeFiltersNewestFirst() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            store.append(event(DAY, i, i % 2 == 0 ? "ann" : "bob", i % 5 == 0 ? "FAILED_LOGIN" : "LOGIN"));
+        }
+
+        List<AuditEvent> annFailures = store.query(DAY, DAY, "ann", "FAILED_LOGIN", 100);
+        assertEquals(10, annFailures.size());
+        assertTrue(annFailures.stream().allMatch(e -> e.user().equals("ann") && e.eventType().equals("FAILED_LOGIN")));
+        assertTrue(annFailures.get(0).timestamp().isAfter(annFailures.get(1).timestamp()));
+
+        assertEquals(3, store.query(DAY, DAY, "bob", null, 3).size());
+        assertEquals(0, store.query(DAY, DAY, "carol", null, 3).size());
+
+        // Appends after loading update the indexes
+        store.append(event(DAY, 200, "carol", "FAILED_LOGIN"));
+        assertEquals(1, store.query(DAY, DAY, "carol", "FAILED_LOGIN", 3).size());
+
+        Map<String, Integer> counts = store.countByType(DAY, DAY, "ann");
+        assertEquals(10, counts.get("FAILED_LOGIN"));
+        assertEquals(40, counts.get("LOGIN"));
+    }
+
+    @Test
+    void testExportWritesChunksInOrder() throws IOException {
+        int total = AuditLogStore.EXPORT_CHUNK_SIZE * 3 + 17;
+        for (int i = 0; i < total; i++) {
+            store.append(event(i < total / 2 ? DAY : DAY.plusDays(1), i, "ann", "LOGIN"));
+        }
+
+        StringWriter out = new StringWriter();
+        long exported = store.export(DAY, DAY.plusDays(1), events -> {
+            StringBuilder sb = new StringBuilder();
+            for (AuditEvent event : events) {
+                sb.append(event.details()).append('\n');
+            }
+            return sb.toString();
+        }, "", out);
+
+        assertEquals(total, exported);
+        String[] lines = out.toString().split("\n");
+        assertEquals(total, lines.length);
+        for (int i = 0; i < total; i++) {
+            assertEquals("n=" + i, lines[i]);
+        }
+    }
+
+    @Test
+    void testExportSurvivesEvictionOfThePartitionBeingExported() throws IOException {
+        // Enough events that chunks are still copied after the writer first runs
+        int total = AuditLogStore.EXPORT_CHUNK_SIZE * (AuditLogStore.MAX_CHUNKS_IN_FLIGHT + 1) + 17;
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < total; i++) {
+            lines.append(event(DAY, i, "ann", "LOGIN").toLine()).append('\n');
+        }
+        Files.writeString(tempDir.resolve("audit-2025-03-10.log"), lines);
+        for (int day = 1; day <= AuditLogStore.MAX_LOADED_PARTITIONS; day++) {
+            store.append(event(DAY.plusDays(day), 1, "bob", "LOGIN"));
+        }
+        AuditLogStore reopened = new AuditLogStore(tempDir, ZoneOffset.UTC);
+
+        // Loading every other day while the export writes evicts the day being exported
+        StringWriter out = new StringWriter() {
+            private boolean evicted;
+
+            @Override
+            public void write(String text) {
+                if (!evicted) {
+                    evicted = true;
+                    try {
+                        reopened.query(DAY.plusDays(1), DAY.plusDays(AuditLogStore.MAX_LOADED_PARTITIONS),
+                            null, null, Integer.MAX_VALUE);
+                    } catch (IOException e) {
+                        throw new AssertionError(e);
+                    }
+                }
+                super.write(text);
+            }
+        };
+        long exported = reopened.export(DAY, DAY, events -> events.size() + "\n", "", out);
+
+        assertEquals(total, exported);
+        assertEquals(total, out.toString().lines().mapToInt(Integer::parseInt).sum());
+    }
+
+    @Test
+    void testDeleteBeforeRemovesOldPartitions() throws IOException {
+        store.append(event(DAY, 1, "ann", "LOGIN"));
+        store.append(event(DAY.plusDays(5), 1, "ann", "LOGIN"));
+
+        assertEquals(1, store.deleteBefore(DAY.plusDays(1)));
+        assertFalse(Files.exists(tempDir.resolve("audit-2025-03-10.log")));
+        assertEquals(DAY.plusDays(5), store.getFirstDay());
+        assertEquals(1, store.query(DAY, DAY.plusDays(5), null, null, 10).size());
+    }
+
+    @Test
+    void testSlidingWindowCounterExpiresOldEvents() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofMinutes(10), 10);
+        long start = 1_000_000_000L;
+
+        for (int i = 0; i < 5; i++) {
+            counter.add(start + i * 60_000L);
+        }
+        assertEquals(5, counter.count(start + 5 * 60_000L));
+
+        // The first two minutes have left the window
+        assertEquals(3, counter.count(start + 11 * 60_000L + 1));
+        assertEquals(0, counter.count(start + 60 * 60_000L));
+
+        // Events older than the window are ignored
+        counter.add(start);
+        assertEquals(0, counter.count(start + 60 * 60_000L));
+    }
+}
@@ -0,0 +1,219 @@
+/**
+ * Tests for BackupEngine
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+package org.rinna.cli.backup;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rinna.cli.backup.BackupEngine.Verification;
+
+/**
+ * Tests for BackupEngine and the content-defined chunking it relies on.
+ */
+public class BackupEngineTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path database;
+    private Path storeDirectory;
+    private BackupEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        database = tempDir.resolve("rinna.db");
+        storeDirectory = tempDir.resolve("backups");
+        engine = new BackupEngine(database, storeDirectory);
+    }
+
+    private static byte[] randomBytes(int length, long seed) {
+        byte[] data = new byte[length];
+        new Random(seed).nextBytes(data);
+        return data;
+    }
+
+    private static List<String> chunkHashes(byte[] data) throws IOException {
+        List<String> hashes = new ArrayList<>();
+        ContentDefinedChunker.chunk(new ByteArrayInputStream(data),
+            (buffer, offset, length) -> hashes.add(ChunkStore.hash(buffer, offset, length)));
+        return hashes;
+    }
+
+    @Test
+    void testChunkSizesStayWithinBounds() throws IOException {
+        byte[] data = randomBytes(1024 * 1024, 1);
+        List<Integer> sizes = new ArrayList<>();
+        ContentDefinedChunker.chunk(new ByteArrayInputStream(data), (buffer, offset, length) -> sizes.add(length));
+
+        assertEquals(data.length, sizes.stream().mapToInt(Integer::intValue).sum());
+        for (int i = 0; i < sizes.size() - 1; i++) {
+            assertTrue(sizes.get(i) >= ContentDefinedChunker.MIN_SIZE, "Chunk too small: " + sizes.get(i));
+            assertTrue(sizes.get(i) <= ContentDefinedChunker.MAX_SIZE, "Chunk too large: " + sizes.get(i));
+        }
+        double average = (double) data.length / sizes.size();
+        assertTrue(average > ContentDefinedChunker.AVERAGE_SIZE / 2.0 && average < ContentDefinedChunker.AVERAGE_SIZE * 2.0,
+            "Average chunk size " + average);
+    }
+
+    @Test
+    void testInsertedBytesOnlyChangeNearbyChunks() throws IOException {
+        byte[] original = randomBytes(512 * 1024, 2);
+        byte[] shifted = new byte[original.length + 100];
+        int insertAt = 200 * 1024;
+        System.arraycopy(original, 0, shifted, 0, insertAt);
+        System.arraycopy(randomBytes(100, 3), 0, shifted, insertAt, 100);
+        System.arraycopy(original, insertAt, shifted, insertAt + 100, original.length - insertAt);
+
+        List<String> before = chunkHashes(original);
+        List<String> after = chunkHashes(shifted);
+        List<String> changed = new ArrayList<>(after);
+        changed.removeAll(before);
+
+        // Fixed-size blocks would all change after the insertion, content-defined ones resynchronize
+        assertEquals(before.size(), after.size());
+        assertTrue(changed.size() <= 5, "Only the chunks around the insertion should change, got " + changed.size());
+    }
+
+    @Test
+    void testUnchangedDatabaseAddsNoChunks() throws IOException {
+        Files.write(database, randomBytes(300 * 1024, 4));
+
+        BackupManifest full = engine.backup("full");
+        BackupManifest repeat = engine.backup("incremental");
+
+        assertTrue(full.getNewChunks() > 0);
+        assertEquals(0, repeat.getNewChunks());
+        assertEquals(0, repeat.getStoredBytes());
+        assertEquals(full.getSourceHash(), repeat.getSourceHash());
+    }
+
+    @Test
+    void testIncrementalBackupStoresOnlyChangedChunks() throws IOException {
+        byte[] data = randomBytes(1024 * 1024, 5);
+        Files.write(database, data);
+        BackupManifest full = engine.backup("full");
+
+        // Change one 4 KB page in the middle
+        System.arraycopy(randomBytes(4096, 6), 0, data, 512 * 1024, 4096);
+        Files.write(database, data);
+        BackupManifest incremental = engine.backup("incremental");
+
+        assertTrue(incremental.getNewChunks() <= 3,
+            "Expected only the changed chunks to be stored, got " + incremental.getNewChunks());
+        assertTrue(incremental.getStoredBytes() < full.getStoredBytes() / 10);
+        assertEquals(2, engine.listBackups().size());
+    }
+
+    @Test
+    void testRestoreReassemblesEachBackup() throws IOException {
+        byte[] first = randomBytes(200 * 1024, 7);
+        Files.write(database, first);
+        BackupManifest firstBackup = engine.backup("full");
+
+        byte[] second = randomBytes(250 * 1024, 8);
+        Files.write(database, second);
+        engine.backup("incremental");
+
+        Path restored = tempDir.resolve("restored.db");
+        engine.restore(firstBackup, restored);
+        assertArrayEquals(first, Files.readAllBytes(restored));
+
+        engine.restore(engine.findBackup("latest").orElseThrow(), database);
+        assertArrayEquals(second, Files.readAllBytes(database));
+    }
+
+    @Test
+    void testCopyBeforeRestoreKeepsUncheckpointedWal() throws IOException {
+        Files.write(database, randomBytes(200 * 1024, 13));
+        BackupManifest backup = engine.backup("full");
+
+        // Changes made after the backup that are still only in the write-ahead log
+        byte[] current = randomBytes(200 * 1024, 14);
+        byte[] wal = randomBytes(32 * 1024, 15);
+        Files.write(database, current);
+        Files.write(Path.of(database + "-wal"), wal);
+        Files.write(Path.of(database + "-shm"), randomBytes(1024, 16));
+
+        Path previous = tempDir.resolve("rinna.db.before-restore");
+        engine.copyDatabase(previous);
+        engine.restore(backup, database);
+
+        assertArrayEquals(current, Files.readAllBytes(previous));
+        assertArrayEquals(wal, Files.readAllBytes(Path.of(previous + "-wal")));
+        assertFalse(Files.exists(Path.of(database + "-wal")));
+        assertFalse(Files.exists(Path.of(database + "-shm")));
+        assertTrue(engine.verify(backup).isValid());
+    }
+
+    @Test
+    void testVerifyDetectsMissingAndCorruptedChunks() throws IOException {
+        Files.write(database, randomBytes(200 * 1024, 9));
+        BackupManifest backup = engine.backup("full");
+
+        Verification verification = engine.verify(backup);
+        assertTrue(verification.isValid());
+        assertEquals(verification.chunks(), verification.valid());
+
+        List<Path> chunkFiles;
+        try (Stream<Path> files = Files.walk(storeDirectory.resolve("chunks"))) {
+            chunkFiles = files.filter(Files::isRegularFile).sorted().toList();
+        }
+        Files.delete(chunkFiles.get(0));
+        try (OutputStream out = Files.newOutputStream(chunkFiles.get(1))) {
+            out.write(new byte[] {1, 2, 3});
+        }
+
+        verification = engine.verify(backup);
+        assertFalse(verification.isValid());
+        assertEquals(1, verification.missing());
+        assertEquals(1, verification.corrupted());
+        assertThrows(IOException.class, () -> engine.restore(backup, tempDir.resolve("restored.db")));
+        assertFalse(Files.exists(tempDir.resolve("restored.db")));
+    }
+
+    @Test
+    void testPruneKeepsLatestBackupAndItsChunks() throws IOException {
+        Files.write(database, randomBytes(200 * 1024, 10));
+        engine.backup("full");
+        Files.write(database, randomBytes(200 * 1024, 11));
+        BackupManifest latest = engine.backup("full");
+
+        BackupEngine.PruneResult result = engine.prune(0);
+
+        assertEquals(1, result.removedBackups());
+        assertTrue(result.freedBytes() > 0);
+        assertEquals(List.of(latest.getId()),
+            engine.listBackups().stream().map(BackupManifest::getId).toList());
+        assertTrue(engine.verify(latest).isValid());
+    }
+
+    @Test
+    void testMirrorCopiesBackupToAnotherStore() throws IOException {
+        Files.write(database, randomBytes(200 * 1024, 12));
+        BackupManifest backup = engine.backup("full");
+
+        Path mirror = tempDir.resolve("mirror");
+        assertTrue(engine.mirror(backup, mirror) > 0);
+        assertEquals(0, engine.mirror(backup, mirror));
+
+        BackupEngine mirrored = new BackupEngine(database, mirror);
+        assertTrue(mirrored.verify(mirrored.findBackup(backup.getId()).orElseThrow()).isValid());
+    }
+}
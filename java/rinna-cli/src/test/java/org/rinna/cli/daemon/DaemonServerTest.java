@@ -0,0 +1,246 @@
+/**
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ *
+ * Developed with analytical assistance from AI tools.
+ * All rights reserved.
+ *
+ * This source code is licensed under the MIT License
+ * found in the LICENSE file in the root directory of this source tree.
+ */
+package org.rinna.cli.daemon;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rinna.cli.util.InvocationContext;
+
+/**
+ * Unit tests for the DaemonServer and DaemonClient classes.
+ */
+public class DaemonServerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path socketPath;
+    private ExecutorService executor;
+    private ByteArrayOutputStream out;
+    private ByteArrayOutputStream err;
+
+    @BeforeEach
+    public void setUp() {
+        socketPath = tempDir.resolve("daemon.sock");
+        executor = Executors.newSingleThreadExecutor();
+        out = new ByteArrayOutputStream();
+        err = new ByteArrayOutputStream();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private Future<?> start(DaemonServer server) throws InterruptedException {
+        Future<?> running = executor.submit(() -> {
+            server.run();
+            return null;
+        });
+        DaemonClient client = new DaemonClient(socketPath);
+        for (int i = 0; i < 100 && !client.isDaemonRunning(); i++) {
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+        assertTrue(client.isDaemonRunning(), "Daemon did not start");
+        return running;
+    }
+
+    private Integer send(String... args) throws IOException {
+        return new DaemonClient(socketPath).execute(args,
+            new PrintStream(out, true, StandardCharsets.UTF_8),
+            new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testForwardsOutputAndExitCode() throws Exception {
+        DaemonServer server = new DaemonServer(socketPath, Duration.ZERO, args -> {
+            System.out.println("out:" + String.join(",", args));
+            System.err.println("err:" + args.length);
+            return 7;
+        });
+        start(server);
+
+        assertEquals(7, send("list", "--limit=5"));
+        assertEquals("out:list,--limit=5" + System.lineSeparator(), out.toString(StandardCharsets.UTF_8));
+        assertEquals("err:2" + System.lineSeparator(), err.toString(StandardCharsets.UTF_8));
+
+        server.stop();
+    }
+
+    @Test
+    public void testCommandSeesTheClientWorkingDirectoryAndEnvironment() throws Exception {
+        DaemonServer server = new DaemonServer(socketPath, Duration.ZERO, args -> {
+            System.out.println(InvocationContext.workingDirectory() + "|" + InvocationContext.getenv("RIN_TEST_VALUE"));
+            return 0;
+        });
+        start(server);
+
+        DaemonProtocol.Request request = new DaemonProtocol.Request(
+            new String[] {"list"}, "/work/project", Map.of("RIN_TEST_VALUE", "42"));
+        assertEquals(0, new DaemonClient(socketPath).execute(request,
+            new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8)));
+        assertEquals("/work/project|42" + System.lineSeparator(), out.toString(StandardCharsets.UTF_8));
+
+        server.stop();
+    }
+
+    @Test
+    public void testOnlyCapturesOutputOfTheRequestThread() throws Exception {
+        DaemonServer server = new DaemonServer(socketPath, Duration.ZERO, args -> {
+            Thread background = new Thread(() -> System.out.println("background"));
+            background.start();
+            try {
+                background.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            System.out.println("request");
+            return 0;
+        });
+        start(server);
+
+        assertEquals(0, send("list"));
+        assertEquals("request" + System.lineSeparator(), out.toString(StandardCharsets.UTF_8));
+
+        server.stop();
+    }
+
+    @Test
+    public void testKeepsStateBetweenCommands() throws Exception {
+        int[] calls = new int[1];
+        DaemonServer server = new DaemonServer(socketPath, Duration.ZERO, args -> ++calls[0]);
+        start(server);
+
+        assertEquals(1, send("list"));
+        assertEquals(2, send("list"));
+        assertEquals(3, send("grep", "auth"));
+
+        server.stop();
+    }
+
+    @Test
+    public void testReportsCommandFailures() throws Exception {
+        DaemonServer server = new DaemonServer(socketPath, Duration.ZERO, args -> {
+            throw new IllegalArgumentException("bad input");
+        });
+        start(server);
+
+        assertEquals(1, send("view", "WI-1"));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("bad input"));
+        assertTrue(server.isRunning());
+
+        server.stop();
+    }
+
+    @Test
+    public void testReportsErrorsThrownByCommands() throws Exception {
+        DaemonServer server = new DaemonServer(socketPath, Duration.ZERO, args -> {
+            throw new AssertionError("broken invariant");
+        });
+        start(server);
+
+        assertEquals(1, send("view", "WI-1"));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("broken invariant"));
+        assertTrue(server.isRunning());
+
+        server.stop();
+    }
+
+    @Test
+    public void testStopCommandShutsDownAndRemovesSocket() throws Exception {
+        DaemonServer server = new DaemonServer(socketPath, Duration.ZERO, args -> 0);
+        Future<?> running = start(server);
+
+        assertEquals(0, send("daemon", "stop"));
+        running.get(5, TimeUnit.SECONDS);
+
+        assertFalse(server.isRunning());
+        assertFalse(Files.exists(socketPath));
+        assertFalse(new DaemonClient(socketPath).isDaemonRunning());
+    }
+
+    @Test
+    public void testStopsWhenIdle() throws Exception {
+        DaemonServer server = new DaemonServer(socketPath, Duration.ofMillis(200), args -> 0);
+        Future<?> running = start(server);
+
+        running.get(5, TimeUnit.SECONDS);
+
+        assertFalse(server.isRunning());
+        assertFalse(Files.exists(socketPath));
+    }
+
+    @Test
+    public void testUnreachableDaemonIsReportedBeforeAnyOutput() {
+        assertThrows(IOException.class, () -> send("list"));
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    public void testConnectionLostBeforeAcceptanceCanFallBack() throws Exception {
+        Future<?> daemon = fakeDaemon(false);
+
+        assertThrows(IOException.class, () -> send("list"));
+        daemon.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testConnectionLostAfterAcceptanceIsNotRetried() throws Exception {
+        Future<?> daemon = fakeDaemon(true);
+
+        assertEquals(1, send("list"));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("lost connection"));
+        daemon.get(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Starts a daemon that reads one request and drops the connection,
+     * optionally after accepting the command.
+     */
+    private Future<?> fakeDaemon(boolean accept) throws IOException {
+        ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        server.bind(UnixDomainSocketAddress.of(socketPath));
+        return executor.submit(() -> {
+            try (server; SocketChannel client = server.accept()) {
+                DaemonProtocol.readRequest(new DataInputStream(Channels.newInputStream(client)));
+                if (accept) {
+                    DataOutputStream response = new DataOutputStream(Channels.newOutputStream(client));
+                    response.writeByte(DaemonProtocol.ACCEPTED);
+                    response.flush();
+                }
+            }
+            return null;
+        });
+    }
+}
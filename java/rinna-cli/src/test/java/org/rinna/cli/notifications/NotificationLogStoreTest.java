@@ -0,0 +1,193 @@
+/**
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ *
+ * Developed with analytical assistance from AI tools.
+ * All rights reserved.
+ *
+ * This source code is licensed under the MIT License
+ * found in the LICENSE file in the root directory of this source tree.
+ */
+package org.rinna.cli.notifications;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("NotificationLogStore Tests")
+class NotificationLogStoreTest {
+    @TempDir
+    Path directory;
+
+    private NotificationLogStore store;
+    private List<Notification> notifications;
+
+    @BeforeEach
+    void setUp() {
+        store = new NotificationLogStore(directory, 3, 4);
+        notifications = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Notification notification = Notification.create(
+                    NotificationType.SYSTEM, "Message\t" + i + "\nline", i % 2 == 0 ? "alice" : "bob");
+            if (i < 4) {
+                notification.markAsRead();
+            }
+            notifications.add(notification);
+        }
+        store.appendAll(notifications);
+    }
+
+    @Test
+    @DisplayName("Should round-trip notifications across segments")
+    void shouldRoundTripNotificationsAcrossSegments() {
+        NotificationLogStore reopened = new NotificationLogStore(directory, 3, 4);
+
+        List<Notification> all = reopened.readAll();
+        assertEquals(10, all.size());
+        for (int i = 0; i < all.size(); i++) {
+            assertEquals(notifications.get(i).getId(), all.get(i).getId());
+            assertEquals(notifications.get(i).getMessage(), all.get(i).getMessage());
+            assertEquals(notifications.get(i).getTimestamp(), all.get(i).getTimestamp());
+            assertEquals(i < 4, all.get(i).isRead());
+        }
+    }
+
+    @Test
+    @DisplayName("Should count unread notifications per user")
+    void shouldCountUnreadNotificationsPerUser() {
+        assertEquals(6, store.countUnread(null));
+        assertEquals(3, store.countUnread("alice"));
+        assertEquals(3, store.countUnread("bob"));
+    }
+
+    @Test
+    @DisplayName("Should persist read markers without rewriting segments")
+    void shouldPersistReadMarkers() {
+        UUID id = notifications.get(5).getId();
+
+        assertTrue(store.markRead(id));
+        assertFalse(store.markRead(id));
+        assertFalse(store.markRead(notifications.get(0).getId()));
+        assertFalse(store.markRead(UUID.randomUUID()));
+
+        NotificationLogStore reopened = new NotificationLogStore(directory, 3, 4);
+        assertTrue(reopened.find(id).isRead());
+        assertEquals(5, reopened.countUnread(null));
+    }
+
+    @Test
+    @DisplayName("Should mark all notifications read for one user only")
+    void shouldMarkAllReadForOneUser() {
+        assertEquals(3, store.markAllRead("alice"));
+        assertEquals(0, store.countUnread("alice"));
+        assertEquals(3, store.countUnread("bob"));
+
+        store.append(Notification.create(NotificationType.SYSTEM, "Later", "alice"));
+
+        NotificationLogStore reopened = new NotificationLogStore(directory, 3, 4);
+        assertEquals(1, reopened.countUnread("alice"));
+        assertEquals("Later", reopened.readUnread("alice").get(0).getMessage());
+    }
+
+    @Test
+    @DisplayName("Should return the newest page first")
+    void shouldReturnNewestPageFirst() {
+        List<Notification> page = store.readNewest(2, n -> true);
+
+        assertEquals(2, page.size());
+        assertEquals(notifications.get(9).getId(), page.get(0).getId());
+        assertEquals(notifications.get(8).getId(), page.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("Should fold markers and drop expired notifications on compaction")
+    void shouldCompact() {
+        store.markAllRead(null);
+
+        assertEquals(0, store.compact(null));
+        assertEquals(10, store.readAll().size());
+        assertEquals(0, store.countUnread(null));
+
+        assertEquals(10, store.compact(Instant.now().plusSeconds(60)));
+        assertTrue(store.readAll().isEmpty());
+
+        store.append(Notification.create(NotificationType.SYSTEM, "Fresh", "bob"));
+        assertEquals(1, new NotificationLogStore(directory, 3, 4).countUnread("bob"));
+    }
+
+    @Test
+    @DisplayName("Should finish a committed compaction when reopened")
+    void shouldFinishCommittedCompactionOnOpen() throws IOException {
+        store.markRead(notifications.get(4).getId());
+        // Crash after the compaction marker was published but before the segments were moved
+        Files.copy(directory.resolve("segment-000003.log"), directory.resolve("segment-000005.log.tmp"));
+        Files.copy(directory.resolve("segment-000004.log"), directory.resolve("segment-000006.log.tmp"));
+        Files.writeString(directory.resolve("compaction.idx"), "5\t2");
+
+        NotificationLogStore reopened = new NotificationLogStore(directory, 3, 4);
+
+        List<Notification> all = reopened.readAll();
+        assertEquals(4, all.size());
+        assertEquals(notifications.get(6).getId(), all.get(0).getId());
+        assertEquals(4, reopened.countUnread(null));
+        assertFalse(Files.exists(directory.resolve("compaction.idx")));
+        assertFalse(Files.exists(directory.resolve("segment-000001.log")));
+        assertFalse(Files.exists(directory.resolve("read-markers.log")));
+
+        reopened.append(Notification.create(NotificationType.SYSTEM, "After", "bob"));
+        assertEquals(5, new NotificationLogStore(directory, 3, 4).readAll().size());
+    }
+
+    @Test
+    @DisplayName("Should discard an uncommitted compaction when reopened")
+    void shouldDiscardUncommittedCompactionOnOpen() throws IOException {
+        Files.copy(directory.resolve("segment-000001.log"), directory.resolve("segment-000005.log.tmp"));
+
+        NotificationLogStore reopened = new NotificationLogStore(directory, 3, 4);
+
+        assertEquals(10, reopened.readAll().size());
+        assertEquals(6, reopened.countUnread(null));
+        assertFalse(Files.exists(directory.resolve("segment-000005.log.tmp")));
+    }
+
+    @Test
+    @DisplayName("Should find unread notifications without a target user in sealed segments")
+    void shouldFindUnreadBroadcastsInSealedSegments() {
+        NotificationLogStore broadcasts = new NotificationLogStore(directory.resolve("broadcasts"), 3, 4);
+        Notification broadcast = Notification.create(NotificationType.SYSTEM, "Maintenance", null);
+        List<Notification> appended = new ArrayList<>(List.of(broadcast));
+        for (int i = 0; i < 3; i++) {
+            Notification read = Notification.create(NotificationType.SYSTEM, "Read " + i, "alice");
+            read.markAsRead();
+            appended.add(read);
+        }
+        // The fourth record seals the first segment, whose only unread record is the broadcast
+        broadcasts.appendAll(appended);
+
+        NotificationLogStore reopened = new NotificationLogStore(directory.resolve("broadcasts"), 3, 4);
+        assertEquals(1, reopened.countUnread(null));
+        assertEquals(broadcast.getId(), reopened.readUnread(null).get(0).getId());
+
+        assertTrue(reopened.markRead(broadcast.getId()));
+        assertEquals(0, reopened.countUnread(null));
+    }
+
+    @Test
+    @DisplayName("Should clear the store")
+    void shouldClearStore() {
+        store.clear();
+
+        assertTrue(store.readAll().isEmpty());
+        assertTrue(new NotificationLogStore(directory, 3, 4).readAll().isEmpty());
+    }
+}
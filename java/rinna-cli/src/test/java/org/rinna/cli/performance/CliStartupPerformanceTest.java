@@ -0,0 +1,151 @@
+package org.rinna.cli.performance;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Cold start benchmarks for the rin CLI.
+ * Each run launches a fresh JVM, like a shell invocation of rin, and reports
+ * time to first output, wall-clock time and the number of classes loaded per command.
+ */
+@Tag("performance")
+@DisplayName("CLI Startup Performance Tests")
+public class CliStartupPerformanceTest {
+
+    private static final int RUNS = 5;
+    private static final long LIST_TARGET_MS = 200;
+
+    @TempDir
+    Path home;
+
+    /**
+     * Result of one CLI process run.
+     */
+    private static final class Run {
+        final long millis;
+        final long firstOutputMillis;
+        final Set<String> loadedClasses;
+        final int exitCode;
+
+        Run(long millis, long firstOutputMillis, Set<String> loadedClasses, int exitCode) {
+            this.millis = millis;
+            this.firstOutputMillis = firstOutputMillis;
+            this.loadedClasses = loadedClasses;
+            this.exitCode = exitCode;
+        }
+    }
+
+    private Run runCli(boolean traceClassLoading, String... args) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Duser.home=" + home);
+        if (traceClassLoading) {
+            command.add("-Xlog:class+load=info:stdout");
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add("org.rinna.cli.RinnaCli");
+        command.addAll(Arrays.asList(args));
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        Set<String> loaded = new HashSet<>();
+        long firstOutput = -1;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int marker = line.indexOf("[class,load]");
+                if (marker >= 0) {
+                    String[] parts = line.substring(marker + "[class,load]".length()).trim().split(" ");
+                    loaded.add(parts[0]);
+                } else if (firstOutput < 0) {
+                    firstOutput = System.nanoTime();
+                }
+            }
+        }
+        assertTrue(process.waitFor(30, TimeUnit.SECONDS), "CLI did not exit");
+        long end = System.nanoTime();
+        long millis = TimeUnit.NANOSECONDS.toMillis(end - start);
+        long firstOutputMillis = TimeUnit.NANOSECONDS.toMillis((firstOutput < 0 ? end : firstOutput) - start);
+        return new Run(millis, firstOutputMillis, loaded, process.exitValue());
+    }
+
+    private Run bestOf(String... args) throws IOException, InterruptedException {
+        Run best = null;
+        for (int i = 0; i < RUNS; i++) {
+            Run run = runCli(false, args);
+            if (best == null || run.millis < best.millis) {
+                best = run;
+            }
+        }
+        return best;
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"--version", "list", "grep auth", "view WI-1"})
+    @DisplayName("Should report wall-clock time and class loads per command")
+    void shouldReportStartupPerCommand(String commandLine) throws Exception {
+        String[] args = commandLine.split(" ");
+        Run best = bestOf(args);
+        Run traced = runCli(true, args);
+
+        System.out.printf("rin %-10s best of %d: first output %4d ms, exit %4d ms, %4d classes loaded%n",
+                commandLine, RUNS, best.firstOutputMillis, best.millis, traced.loadedClasses.size());
+
+        assertFalse(traced.loadedClasses.isEmpty(), "Class loading was not traced");
+    }
+
+    /**
+     * Wall-clock targets depend on the machine and its load, so this check only
+     * runs when asked for with {@code -Drinna.test.timing=true}.
+     */
+    @Test
+    @DisplayName("rin list should start well within the target")
+    @EnabledIfSystemProperty(named = "rinna.test.timing", matches = "true")
+    void listShouldStartWithinTarget() throws Exception {
+        long best = bestOf("list").millis;
+
+        assertTrue(best < LIST_TARGET_MS,
+                "rin list took " + best + "ms, target is " + LIST_TARGET_MS + "ms");
+    }
+
+    @Test
+    @DisplayName("rin list should only instantiate the services it uses")
+    void listShouldNotLoadUnusedServices() throws Exception {
+        Run run = runCli(true, "list");
+
+        assertEquals(0, run.exitCode);
+        assertTrue(run.loadedClasses.contains("org.rinna.cli.service.MockSearchService"));
+        for (String unused : List.of(
+                "org.rinna.cli.service.MockBackupService",
+                "org.rinna.cli.service.MockComplianceService",
+                "org.rinna.cli.service.MockAuditService",
+                "org.rinna.cli.service.MockNotificationService",
+                "org.rinna.cli.messaging.MessageStore",
+                "org.rinna.cli.adapter.CriticalPathServiceAdapter",
+                "java.util.concurrent.ScheduledThreadPoolExecutor")) {
+            assertFalse(run.loadedClasses.contains(unused), "rin list loaded " + unused);
+        }
+    }
+}
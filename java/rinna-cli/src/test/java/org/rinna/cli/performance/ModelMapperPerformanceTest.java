@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ *
+ * Developed with analytical assistance from AI tools.
+ * All rights reserved.
+ *
+ * This source code is licensed under the MIT License
+ * found in the LICENSE file in the root directory of this source tree.
+ */
+package org.rinna.cli.performance;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.rinna.cli.model.WorkItem;
+import org.rinna.cli.util.ModelMapper;
+import org.rinna.cli.util.StateMapper;
+import org.rinna.domain.model.Priority;
+import org.rinna.domain.model.WorkItemRecord;
+import org.rinna.domain.model.WorkItemType;
+import org.rinna.domain.model.WorkflowState;
+
+/**
+ * Per-item cost of converting core work items to CLI work items.
+ *
+ * <p>Compares {@link ModelMapper#toCliWorkItemFromCore(Object)} on core records and
+ * on other record classes against a mapper that looks up each accessor reflectively
+ * for every item, as ModelMapper used to.</p>
+ */
+@Tag("performance")
+@DisplayName("ModelMapper Performance Tests")
+public class ModelMapperPerformanceTest {
+
+    private static final int ITEM_COUNT = 50_000;
+    private static final int ROUNDS = 5;
+
+    /**
+     * A record that is not one of the core work item types, so it is read
+     * through the cached accessors.
+     */
+    public record ExternalItem(UUID id, String title, String description, String assignee,
+                               String type, String priority, String status,
+                               Instant createdAt, Instant updatedAt) {
+    }
+
+    @Test
+    @DisplayName("Cached accessors should convert faster than per-item reflection")
+    void cachedAccessorsShouldBeatPerItemReflection() {
+        List<WorkItemRecord> coreItems = new ArrayList<>(ITEM_COUNT);
+        List<ExternalItem> externalItems = new ArrayList<>(ITEM_COUNT);
+        Instant now = Instant.now();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            UUID id = UUID.randomUUID();
+            coreItems.add(new WorkItemRecord(id, "Item " + i, "Description " + i, WorkItemType.TASK,
+                WorkflowState.IN_PROGRESS, Priority.MEDIUM, "user" + (i % 10), now, now, null, null, null, false));
+            externalItems.add(new ExternalItem(id, "Item " + i, "Description " + i, "user" + (i % 10),
+                "TASK", "MEDIUM", "IN_PROGRESS", now, now));
+        }
+
+        double reflective = nanosPerItem(externalItems, ModelMapperPerformanceTest::reflectiveConvert);
+        double cached = nanosPerItem(externalItems, ModelMapper::toCliWorkItemFromCore);
+        double direct = nanosPerItem(coreItems, ModelMapper::toCliWorkItemFromCore);
+
+        System.out.printf("ModelMapper per item: reflective %.0f ns, cached accessors %.0f ns, core direct %.0f ns%n",
+            reflective, cached, direct);
+
+        WorkItem converted = ModelMapper.toCliWorkItemFromCore(externalItems.get(0));
+        assertEquals(reflectiveConvert(externalItems.get(0)).getTitle(), converted.getTitle());
+        assertEquals(org.rinna.cli.model.WorkflowState.IN_PROGRESS, converted.getStatus());
+        assertEquals(org.rinna.cli.model.WorkflowState.IN_PROGRESS,
+            ModelMapper.toCliWorkItemFromCore(coreItems.get(0)).getStatus());
+        assertTrue(cached * 2 < reflective,
+            "Cached accessors should be at least twice as fast as per-item reflection");
+    }
+
+    private static <T> double nanosPerItem(List<T> items, Function<T, WorkItem> mapper) {
+        long best = Long.MAX_VALUE;
+        long checksum = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (T item : items) {
+                checksum += mapper.apply(item).getTitle().length();
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        assertTrue(checksum > 0);
+        return (double) best / items.size();
+    }
+
+    /**
+     * Converts an item the way ModelMapper did before accessors were cached:
+     * every property is looked up with {@link Class#getMethod} on every item.
+     */
+    private static WorkItem reflectiveConvert(Object item) {
+        WorkItem cliItem = new WorkItem();
+        Object id = read(item, "getId", "id");
+        if (id != null) {
+            cliItem.setId(id.toString());
+        }
+        cliItem.setTitle((String) read(item, "getTitle", "title"));
+        cliItem.setDescription((String) read(item, "getDescription", "description"));
+        cliItem.setAssignee((String) read(item, "getAssignee", "assignee"));
+        cliItem.setReporter((String) read(item, "getReporter", "reporter"));
+        Object type = read(item, "getType", "type");
+        if (type != null) {
+            cliItem.setType(StateMapper.fromCoreType(type.toString()));
+        }
+        Object priority = read(item, "getPriority", "priority");
+        if (priority != null) {
+            cliItem.setPriority(StateMapper.fromCorePriority(priority.toString()));
+        }
+        Object state = read(item, "getState", "state");
+        if (state == null) {
+            state = read(item, "getStatus", "status");
+        }
+        if (state != null) {
+            cliItem.setStatus(StateMapper.fromCoreState(state.toString()));
+        }
+        Object created = read(item, "getCreatedAt", "createdAt");
+        if (created instanceof Instant) {
+            cliItem.setCreated(LocalDateTime.ofInstant((Instant) created, ZoneId.systemDefault()));
+        }
+        Object updated = read(item, "getUpdatedAt", "updatedAt");
+        if (updated instanceof Instant) {
+            cliItem.setUpdated(LocalDateTime.ofInstant((Instant) updated, ZoneId.systemDefault()));
+        }
+        return cliItem;
+    }
+
+    private static Object read(Object item, String getterName, String accessorName) {
+        for (String name : new String[] {getterName, accessorName}) {
+            try {
+                Method method = item.getClass().getMethod(name);
+                return method.invoke(item);
+            } catch (ReflectiveOperationException e) {
+                // Try the next name
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Tests for CompiledTemplate
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+package org.rinna.cli.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for CompiledTemplate.
+ */
+public class CompiledTemplateTest {
+
+    private static String render(String template, Map<String, Object> variables) throws IOException {
+        StringBuilder out = new StringBuilder();
+        CompiledTemplate.compile(template).render(variables, out);
+        return out.toString();
+    }
+
+    @Test
+    void testVariables() throws IOException {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("title", "Status");
+        variables.put("count", 3);
+
+        assertEquals("Status (3 items)", render("{{title}} ({{ count }} items)", variables));
+        assertEquals("Missing: ", render("Missing: {{ unknown }}", variables));
+    }
+
+    @Test
+    void testNestedVariables() throws IOException {
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("completed", 5L);
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("summary", summary);
+
+        assertEquals("Completed: 5", render("Completed: {{ summary.completed }}", variables));
+        assertEquals("[]", render("[{{ summary.completed.more }}]", variables));
+    }
+
+    @Test
+    void testSectionRendersOncePerElement() throws IOException {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("title", "Items");
+        variables.put("rows", List.of(Map.of("id", "WI-1"), Map.of("id", "WI-2")));
+
+        assertEquals("Items: WI-1 (Items) WI-2 (Items) ",
+            render("{{ title }}: {{#rows}}{{ id }} ({{ title }}) {{/rows}}", variables));
+    }
+
+    @Test
+    void testSectionsOnValues() throws IOException {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("assignee", "bob");
+        variables.put("description", null);
+        variables.put("rows", Collections.emptyList());
+
+        String template = "{{#assignee}}Assignee: {{ assignee }}{{/assignee}}"
+            + "{{#description}}Description{{/description}}"
+            + "{{^description}} (no description){{/description}}"
+            + "{{^rows}} (no rows){{/rows}}";
+
+        assertEquals("Assignee: bob (no description) (no rows)", render(template, variables));
+    }
+
+    @Test
+    void testFragmentsWriteToTheOutput() throws IOException {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("itemRows", (CompiledTemplate.Fragment) out -> out.append("row 1\n").append("row 2\n"));
+
+        assertEquals("Rows:\nrow 1\nrow 2\nEnd", render("Rows:\n{{ itemRows }}End", variables));
+    }
+
+    @Test
+    void testInvalidTagsAreKeptAsText() throws IOException {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("a", "x");
+
+        assertEquals("{{ not a tag }} {x} {{", render("{{ not a tag }} {{{ a }}} {{", variables));
+    }
+
+    @Test
+    void testLiteralLength() {
+        assertEquals(6, CompiledTemplate.compile("Hello {{ name }}").getLiteralLength());
+    }
+
+    @Test
+    void testUnbalancedSections() {
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("{{#rows}}no end"));
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("{{#rows}}{{/items}}"));
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("{{/rows}}"));
+    }
+
+    @Test
+    void testReportTemplateUsesCompiledTemplate() throws IOException {
+        ReportTemplate template = new ReportTemplate("inline", ReportFormat.TEXT,
+            "{{ title }}\n{{#rows}}- {{ id }}\n{{/rows}}");
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("title", "Report");
+        variables.put("rows", List.of(Map.of("id", "WI-1")));
+
+        assertEquals("Report\n- WI-1\n", template.apply(variables));
+
+        StringBuilder out = new StringBuilder();
+        template.render(variables, out);
+        assertEquals("Report\n- WI-1\n", out.toString());
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * Tests for ReportExecutionService
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+package org.rinna.cli.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rinna.cli.model.Priority;
+import org.rinna.cli.model.WorkItem;
+import org.rinna.cli.model.WorkItemType;
+import org.rinna.cli.model.WorkflowState;
+import org.rinna.cli.service.MockItemService;
+
+/**
+ * Tests for ReportExecutionService.
+ */
+public class ReportExecutionServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private MockItemService itemService;
+    private ReportExecutionService executionService;
+
+    @BeforeEach
+    void setUp() {
+        itemService = new MockItemService();
+        executionService = new ReportExecutionService(new ReportGenerator(), () -> itemService,
+            2, Duration.ofSeconds(5), 8, Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executionService.shutdown();
+    }
+
+    private ReportConfig config(ReportFormat format, String fileName) {
+        ReportConfig config = new ReportConfig(ReportType.DETAILED, format);
+        config.setUseTemplate(false);
+        config.setOutputPath(tempDir.resolve(fileName).toString());
+        return config;
+    }
+
+    private static String generatedLine(Path report) throws IOException {
+        return Files.readAllLines(report).stream()
+            .filter(line -> line.startsWith("Generated: "))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    @Test
+    void testUnchangedItemsAreServedFromCache() throws IOException {
+        assertTrue(executionService.generate(config(ReportFormat.CSV, "first.csv")));
+        assertTrue(executionService.generate(config(ReportFormat.CSV, "second.csv")));
+
+        assertEquals(1, executionService.getRenderCount());
+        assertEquals(Files.readString(tempDir.resolve("first.csv")), Files.readString(tempDir.resolve("second.csv")));
+    }
+
+    @Test
+    void testChangedItemsAreRenderedAgain() throws IOException {
+        assertTrue(executionService.generate(config(ReportFormat.CSV, "before.csv")));
+
+        WorkItem item = new WorkItem();
+        item.setTitle("Added after the first report");
+        item.setType(WorkItemType.TASK);
+        item.setPriority(Priority.LOW);
+        item.setStatus(WorkflowState.READY);
+        itemService.createItem(item);
+
+        assertTrue(executionService.generate(config(ReportFormat.CSV, "after.csv")));
+
+        assertEquals(2, executionService.getRenderCount());
+        assertTrue(Files.readString(tempDir.resolve("after.csv")).contains("Added after the first report"));
+    }
+
+    @Test
+    void testCachedReportsAreStampedWhenServed() throws Exception {
+        assertTrue(executionService.generate(config(ReportFormat.TEXT, "first.txt")));
+        String first = generatedLine(tempDir.resolve("first.txt"));
+
+        // The timestamp has a resolution of one second
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (first.equals("Generated: " + ReportGenerator.timestamp()) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(executionService.generate(config(ReportFormat.TEXT, "second.txt")));
+
+        assertEquals(1, executionService.getRenderCount());
+        assertNotEquals(first, generatedLine(tempDir.resolve("second.txt")));
+    }
+
+    @Test
+    void testDataVersionChangesWithTheItems() {
+        long before = itemService.getDataVersion();
+        assertEquals(before, itemService.getDataVersion());
+
+        WorkItem item = itemService.getAllItems().get(0);
+        itemService.updateAssignee(item.getId(), "someone-else");
+
+        assertNotEquals(before, itemService.getDataVersion());
+    }
+
+    @Test
+    void testDifferentSettingsAreCachedSeparately() {
+        assertTrue(executionService.generate(config(ReportFormat.CSV, "report.csv")));
+        assertTrue(executionService.generate(config(ReportFormat.XML, "report.xml")));
+        ReportConfig limited = config(ReportFormat.CSV, "limited.csv");
+        limited.setMaxItems(1);
+        assertTrue(executionService.generate(limited));
+
+        assertEquals(3, executionService.getRenderCount());
+    }
+
+    @Test
+    void testCacheCanBeDisabled() {
+        ReportExecutionService uncached = new ReportExecutionService(new ReportGenerator(), () -> itemService,
+            1, Duration.ofSeconds(5), 0, Duration.ofMinutes(10));
+        try {
+            assertTrue(uncached.generate(config(ReportFormat.CSV, "first.csv")));
+            assertTrue(uncached.generate(config(ReportFormat.CSV, "second.csv")));
+
+            assertEquals(2, uncached.getRenderCount());
+        } finally {
+            uncached.shutdown();
+        }
+    }
+
+    @Test
+    void testReportsRunInParallel() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Future<Boolean> first = executionService.submit(null, () -> {
+            bothStarted.countDown();
+            return bothStarted.await(2, TimeUnit.SECONDS);
+        });
+        Future<Boolean> second = executionService.submit(null, () -> {
+            bothStarted.countDown();
+            return bothStarted.await(2, TimeUnit.SECONDS);
+        });
+
+        assertTrue(first.get(5, TimeUnit.SECONDS));
+        assertTrue(second.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testRunsWithTheSameIdAreDeduplicated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Boolean> first = executionService.submit("daily", () -> release.await(5, TimeUnit.SECONDS));
+        Future<Boolean> repeated = executionService.submit("daily", () -> false);
+
+        assertSame(first, repeated);
+        release.countDown();
+        assertTrue(first.get(5, TimeUnit.SECONDS));
+
+        // Once the first run is done, the next run starts normally
+        Future<Boolean> next = executionService.submit("daily", () -> true);
+        assertNotSame(first, next);
+        assertTrue(next.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testSlowReportsTimeOut() {
+        ReportExecutionService strict = new ReportExecutionService(new ReportGenerator(), () -> itemService,
+            1, Duration.ofMillis(200), 8, Duration.ofMinutes(10));
+        try {
+            long start = System.nanoTime();
+            boolean result = strict.execute(() -> {
+                Thread.sleep(10_000);
+                return true;
+            });
+
+            assertFalse(result);
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+            assertTrue(strict.execute(() -> true), "Worker should be free after a timeout");
+        } finally {
+            strict.shutdown();
+        }
+    }
+}
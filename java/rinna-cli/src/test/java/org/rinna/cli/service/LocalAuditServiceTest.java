@@ -0,0 +1,125 @@
+/**
+ * Tests for LocalAuditService
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+package org.rinna.cli.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rinna.cli.audit.AuditEvent;
+
+/**
+ * Tests for LocalAuditService.
+ */
+public class LocalAuditServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private LocalAuditService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new LocalAuditService(tempDir);
+    }
+
+    private static AuditEvent failedLogin(String user) {
+        return new AuditEvent(Instant.now(), user, "FAILED_LOGIN", "login", "FAILED", "");
+    }
+
+    @Test
+    void testFinishedOperationsAreRecordedWithSecretsMasked() {
+        OptimizedMetadataService metadata = new OptimizedMetadataService(1, 10, 60);
+        metadata.addOperationListener(service::record);
+
+        String id = metadata.startOperation("admin-audit-export", "EXPORT", Map.of("format", "csv", "apiToken", "abc123"));
+        metadata.completeOperation(id, "done");
+        metadata.shutdown();
+
+        String logs = service.listAuditLogs(null, 1, 10);
+        assertTrue(logs.contains("DATA_EXPORT"), logs);
+        assertTrue(logs.contains("apiToken=****"), logs);
+        assertFalse(logs.contains("abc123"), logs);
+    }
+
+    @Test
+    void testConfiguredFieldsAreMaskedOnOutput() {
+        service.record(new AuditEvent(Instant.now(), "ann", "ADMIN_ACTION", "admin", "COMPLETED", "email=ann@example.com; role=admin"));
+        assertTrue(service.configureMasking(List.of("email")));
+
+        String logs = service.listAuditLogs("ann", 1, 10);
+        assertTrue(logs.contains("email=****; role=admin"), logs);
+        assertTrue(new LocalAuditService(tempDir).getMaskingStatus().contains("email"));
+    }
+
+    @Test
+    void testAlertFiresOnceWhenThresholdIsReached() {
+        assertTrue(service.addAlert("brute-force", List.of("FAILED_LOGIN"), 3, 10, List.of("security@example.com")));
+
+        service.record(failedLogin("ann"));
+        service.record(failedLogin("ann"));
+        assertFalse(service.listAuditLogs(null, 1, 100).contains("ALERT_TRIGGERED"));
+
+        service.record(failedLogin("ann"));
+        service.record(failedLogin("ann"));
+        String logs = service.listAuditLogs(null, 1, 100);
+        assertEquals(1, logs.split("ALERT_TRIGGERED", -1).length - 1, logs);
+        assertTrue(service.listAlerts().contains("triggered 1x"));
+    }
+
+    @Test
+    void testAlertCounterIsSeededFromTheLog() {
+        service.record(failedLogin("ann"));
+        service.record(failedLogin("ann"));
+        service.addAlert("brute-force", List.of("FAILED_LOGIN"), 3, 10, List.of());
+
+        // A new service loads the alert and counts the events already logged
+        LocalAuditService reopened = new LocalAuditService(tempDir);
+        reopened.record(failedLogin("ann"));
+        assertTrue(reopened.listAuditLogs(null, 1, 100).contains("ALERT_TRIGGERED"));
+    }
+
+    @Test
+    void testExportWritesCsvAndJson() throws IOException {
+        service.record(new AuditEvent(Instant.now(), "ann", "LOGIN", "login", "COMPLETED", "note=\"quoted\", comma"));
+        LocalDate today = LocalDate.now();
+
+        String csv = Files.readString(Path.of(service.exportAuditLogs(today, today, "csv")));
+        assertTrue(csv.startsWith("Date,Time,User,Action,Command,Status,Details\n"));
+        assertTrue(csv.contains(",ann,LOGIN,login,COMPLETED,\"note=\"\"quoted\"\", comma\""), csv);
+
+        String json = Files.readString(Path.of(service.exportAuditLogs(today, today, "json")));
+        assertTrue(json.contains("\"details\": \"note=\\\"quoted\\\", comma\""), json);
+        assertTrue(json.contains("\"events\": 1"), json);
+
+        assertThrows(IllegalArgumentException.class, () -> service.exportAuditLogs(today, today, "pdf"));
+    }
+
+    @Test
+    void testInvestigationSummarizesUserActivity() {
+        service.record(failedLogin("bob"));
+        service.record(new AuditEvent(Instant.now(), "bob", "DATA_EXPORT", "export", "COMPLETED", ""));
+
+        String findings = service.getInvestigationFindings(service.createInvestigation("bob", 1));
+        assertTrue(findings.contains("FAILED_LOGIN: 1"), findings);
+        assertTrue(findings.contains("1 failed login attempts"), findings);
+        assertTrue(findings.contains("1 data exports"), findings);
+
+        assertTrue(service.performInvestigationAction("COLLECT_LOGS", "bob"));
+        assertFalse(service.performInvestigationAction("LOCK_ACCOUNT", "bob"));
+    }
+}
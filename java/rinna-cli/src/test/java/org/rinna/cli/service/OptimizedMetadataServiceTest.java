@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -398,6 +399,31 @@ class OptimizedMetadataServiceTest {
         System.out.println("Unique operations created: " + operationIds.size());
     }
     
+    /**
+     * Tests that rate limiting stops aggregating once its window has passed,
+     * without the background scheduler having been started.
+     */
+    @Test
+    void testRateLimitsResetAfterWindow() throws Exception {
+        Map<String, Object> params = new HashMap<>();
+        params.put("itemId", "WI-456");
+        
+        String aggregated = null;
+        for (int i = 0; i < 30; i++) {
+            aggregated = optimizedService.startOperation("rate-window-test", "READ", params);
+        }
+        assertEquals(aggregated, optimizedService.startOperation("rate-window-test", "READ", params),
+                     "Repeated operations should be aggregated within the window");
+        
+        optimizedService.runDueMaintenance(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(2));
+        
+        String first = optimizedService.startOperation("rate-window-test", "READ", params);
+        String second = optimizedService.startOperation("rate-window-test", "READ", params);
+        assertNotEquals(aggregated, first, "A new window should not return the aggregated operation");
+        assertNotEquals(first, second, "A new window should track operations individually");
+        assertNotNull(optimizedService.getOperationMetadata(first));
+    }
+    
     /**
      * Tests the parameter pooling capabilities of the optimized service.
      */
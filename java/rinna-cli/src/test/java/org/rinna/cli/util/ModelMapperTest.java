@@ -13,6 +13,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.DisplayName;
@@ -378,6 +379,116 @@ class ModelMapperTest {
         }
     }
     
+    @Nested
+    @DisplayName("Core Work Item Conversion Tests")
+    class CoreWorkItemConversionTests {
+        @Test
+        @DisplayName("Should convert core work item record including status and project")
+        void shouldConvertCoreWorkItemRecord() {
+            UUID id = UUID.randomUUID();
+            UUID projectId = UUID.randomUUID();
+            org.rinna.domain.model.WorkItemRecord coreItem = new org.rinna.domain.model.WorkItemRecord(
+                id, "Core Item", "From core", org.rinna.domain.model.WorkItemType.FEATURE,
+                org.rinna.domain.model.WorkflowState.IN_TEST, org.rinna.domain.model.Priority.HIGH,
+                "core-user", Instant.now().minusSeconds(60), Instant.now(), null, projectId, null, false);
+            
+            WorkItem cliItem = ModelMapper.toCliWorkItemFromCore(coreItem);
+            
+            assertEquals(id.toString(), cliItem.getId());
+            assertEquals("Core Item", cliItem.getTitle());
+            assertEquals("From core", cliItem.getDescription());
+            assertEquals("core-user", cliItem.getAssignee());
+            assertEquals(WorkItemType.FEATURE, cliItem.getType());
+            assertEquals(Priority.HIGH, cliItem.getPriority());
+            assertEquals(WorkflowState.IN_TEST, cliItem.getStatus());
+            assertEquals(projectId.toString(), cliItem.getProjectId());
+            assertNotNull(cliItem.getCreated());
+            assertNotNull(cliItem.getUpdated());
+        }
+        
+        @Test
+        @DisplayName("Should read bean getters, falling back from state to status")
+        void shouldConvertBeanWithStatusGetter() {
+            BeanItem coreItem = new BeanItem();
+            
+            WorkItem cliItem = ModelMapper.toCliWorkItemFromCore(coreItem);
+            
+            assertEquals("Bean Item", cliItem.getTitle());
+            assertEquals("bean-reporter", cliItem.getReporter());
+            assertEquals(WorkItemType.BUG, cliItem.getType());
+            assertEquals(WorkflowState.IN_PROGRESS, cliItem.getStatus());
+            assertNull(cliItem.getProjectId(), "Project ID is only read from records");
+        }
+        
+        @Test
+        @DisplayName("Should read record accessors and unwrap optional project IDs")
+        void shouldConvertRecordWithOptionalProject() {
+            RecordItem coreItem = new RecordItem("Record Item", "TASK", "DONE", Optional.of("project-7"));
+            
+            WorkItem cliItem = ModelMapper.toCliWorkItemFromCore(coreItem);
+            
+            assertEquals("Record Item", cliItem.getTitle());
+            assertEquals(WorkItemType.TASK, cliItem.getType());
+            assertEquals(WorkflowState.DONE, cliItem.getStatus());
+            assertEquals("project-7", cliItem.getProjectId());
+            assertNull(ModelMapper.toCliWorkItemFromCore(
+                new RecordItem("No Project", "TASK", "DONE", Optional.empty())).getProjectId());
+        }
+        
+        @Test
+        @DisplayName("Should leave a property unset when its accessor fails")
+        void shouldSkipFailingAccessor() {
+            WorkItem cliItem = ModelMapper.toCliWorkItemFromCore(new FailingItem());
+            
+            assertNull(cliItem.getDescription());
+            assertEquals("Failing Item", cliItem.getTitle());
+        }
+    }
+    
+    /**
+     * A mutable core-style work item that exposes its state as "status".
+     */
+    public static class BeanItem {
+        public String getTitle() {
+            return "Bean Item";
+        }
+        
+        public String getReporter() {
+            return "bean-reporter";
+        }
+        
+        public String getType() {
+            return "BUG";
+        }
+        
+        public String getStatus() {
+            return "IN_PROGRESS";
+        }
+        
+        public String getProjectId() {
+            return "ignored";
+        }
+    }
+    
+    /**
+     * A record-style work item with an optional project.
+     */
+    public record RecordItem(String title, String type, String state, Optional<String> projectId) {
+    }
+    
+    /**
+     * A work item whose description accessor throws.
+     */
+    public static class FailingItem {
+        public String getTitle() {
+            return "Failing Item";
+        }
+        
+        public String getDescription() {
+            throw new IllegalStateException("not loaded");
+        }
+    }
+    
     @Test
     @DisplayName("Should handle null values in all mapping methods")
     void shouldHandleNullValuesInAllMappingMethods() {
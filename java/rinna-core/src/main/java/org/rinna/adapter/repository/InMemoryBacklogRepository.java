@@ -8,19 +8,23 @@
 
 package org.rinna.adapter.repository;
 
-import java.util.*;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.rinna.domain.repository.BacklogRepository;
 
 /**
  * In-memory implementation of the BacklogRepository interface.
- * Stores backlogs as ordered lists of work item IDs.
+ * Stores each backlog as a {@link RankedIdList}, so adding, removing and moving
+ * work items and looking up their positions take O(log n) instead of shifting
+ * a list. Changes to one backlog are serialized on that backlog.
  */
 public class InMemoryBacklogRepository implements BacklogRepository {
     
-    // Map of username -> list of work item IDs in backlog order
-    private final Map<String, List<UUID>> backlogs = new ConcurrentHashMap<>();
+    // Map of username -> work item IDs in backlog order
+    private final Map<String, RankedIdList> backlogs = new ConcurrentHashMap<>();
     
     // Default username for the current user
     private static final String DEFAULT_USER = System.getProperty("user.name");
@@ -43,7 +47,49 @@ public class InMemoryBacklogRepository implements BacklogRepository {
      */
     @Override
     public List<UUID> getBacklog(String username) {
-        return backlogs.computeIfAbsent(username, k -> new ArrayList<>());
+        RankedIdList backlog = backlog(username);
+        synchronized (backlog) {
+            return backlog.toList();
+        }
+    }
+    
+    @Override
+    public int getBacklogSize() {
+        return getBacklogSize(DEFAULT_USER);
+    }
+    
+    @Override
+    public int getBacklogSize(String username) {
+        RankedIdList backlog = backlog(username);
+        synchronized (backlog) {
+            return backlog.size();
+        }
+    }
+    
+    @Override
+    public int getBacklogPosition(UUID workItemId) {
+        return getBacklogPosition(workItemId, DEFAULT_USER);
+    }
+    
+    @Override
+    public int getBacklogPosition(UUID workItemId, String username) {
+        RankedIdList backlog = backlog(username);
+        synchronized (backlog) {
+            return backlog.indexOf(workItemId);
+        }
+    }
+    
+    @Override
+    public List<UUID> getBacklogPage(String username, int offset, int limit) {
+        RankedIdList backlog = backlog(username);
+        synchronized (backlog) {
+            int from = Math.max(0, offset);
+            return backlog.subList(from, (int) Math.min((long) from + Math.max(0, limit), backlog.size()));
+        }
+    }
+    
+    private RankedIdList backlog(String username) {
+        return backlogs.computeIfAbsent(username, k -> new RankedIdList());
     }
     
     /**
@@ -66,12 +112,10 @@ public class InMemoryBacklogRepository implements BacklogRepository {
      */
     @Override
     public boolean addToBacklog(UUID workItemId, String username) {
-        List<UUID> backlog = getBacklog(username);
-        if (!backlog.contains(workItemId)) {
-            backlog.add(workItemId);
-            return true;
+        RankedIdList backlog = backlog(username);
+        synchronized (backlog) {
+            return backlog.add(workItemId);
         }
-        return false;
     }
     
     /**
@@ -94,8 +138,10 @@ public class InMemoryBacklogRepository implements BacklogRepository {
      */
     @Override
     public boolean removeFromBacklog(UUID workItemId, String username) {
-        List<UUID> backlog = getBacklog(username);
-        return backlog.remove(workItemId);
+        RankedIdList backlog = backlog(username);
+        synchronized (backlog) {
+            return backlog.remove(workItemId);
+        }
     }
     
     /**
@@ -120,26 +166,11 @@ public class InMemoryBacklogRepository implements BacklogRepository {
      */
     @Override
     public boolean moveInBacklog(UUID workItemId, int position, String username) {
-        List<UUID> backlog = getBacklog(username);
-        int currentIndex = backlog.indexOf(workItemId);
-        
-        if (currentIndex == -1) {
-            return false;
-        }
-        
-        if (position < 0) {
-            position = 0;
-        } else if (position >= backlog.size()) {
-            position = backlog.size() - 1;
-        }
-        
-        if (currentIndex == position) {
-            return true;
+        RankedIdList backlog = backlog(username);
+        synchronized (backlog) {
+            // Positions past either end are clamped by the move
+            return backlog.move(workItemId, position);
         }
-        
-        backlog.remove(currentIndex);
-        backlog.add(position, workItemId);
-        return true;
     }
     
     /**
@@ -9,6 +9,7 @@
 package org.rinna.adapter.repository;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -75,6 +76,24 @@ public class InMemoryItemRepository implements ItemRepository {
         return Optional.ofNullable(items.get(id));
     }
 
+    /**
+     * Finds the work items with the given IDs, skipping IDs that are not stored.
+     *
+     * @param ids the UUIDs of the work items to find
+     * @return the work items that were found, in the order of the IDs
+     */
+    @Override
+    public List<WorkItem> findAllById(Collection<UUID> ids) {
+        List<WorkItem> result = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            WorkItem item = items.get(id);
+            if (item != null) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
     /**
      * Retrieves all work items stored in the repository.
      * Returns a new defensive copy of the internal collection to prevent modification.
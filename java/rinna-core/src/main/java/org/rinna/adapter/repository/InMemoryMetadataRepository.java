@@ -9,12 +9,15 @@
 package org.rinna.adapter.repository;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.rinna.domain.model.WorkItemMetadata;
 import org.rinna.domain.repository.MetadataRepository;
@@ -23,17 +26,39 @@ import org.rinna.domain.repository.MetadataRepository;
  * In-memory implementation of the MetadataRepository interface.
  * This class stores work item metadata in memory, which is suitable for testing
  * and development but not for production use.
+ *
+ * <p>Metadata is kept per work item in a key map, so saving, point lookups and
+ * reading all metadata of one work item never scan other work items. An inverted
+ * index from key and value to work item IDs answers custom field queries in time
+ * proportional to the number of matches. Each work item's entries are changed
+ * under the lock of its map bin, so concurrent writers keep the indexes consistent.</p>
  */
 public class InMemoryMetadataRepository implements MetadataRepository {
-    private final Map<UUID, WorkItemMetadata> metadata = new HashMap<>();
+    private final Map<UUID, WorkItemMetadata> metadata = new ConcurrentHashMap<>();
+    private final Map<UUID, Map<String, WorkItemMetadata>> byWorkItem = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Set<UUID>>> byKeyAndValue = new ConcurrentHashMap<>();
     
     @Override
     public WorkItemMetadata save(WorkItemMetadata workItemMetadata) {
-        // If metadata with the same work item ID and key exists, remove it first
-        findByWorkItemIdAndKey(workItemMetadata.getWorkItemId(), workItemMetadata.getKey())
-                .ifPresent(existing -> metadata.remove(existing.getId()));
-        
-        metadata.put(workItemMetadata.getId(), workItemMetadata);
+        // An entry saved again under a different work item or key moves
+        WorkItemMetadata sameId = metadata.get(workItemMetadata.getId());
+        if (sameId != null && (!sameId.getWorkItemId().equals(workItemMetadata.getWorkItemId())
+                || !sameId.getKey().equals(workItemMetadata.getKey()))) {
+            deleteById(sameId.getId());
+        }
+
+        byWorkItem.compute(workItemMetadata.getWorkItemId(), (workItemId, entries) -> {
+            Map<String, WorkItemMetadata> itemEntries = entries != null ? entries : new ConcurrentHashMap<>();
+            // If metadata with the same work item ID and key exists, it is replaced
+            WorkItemMetadata existing = itemEntries.put(workItemMetadata.getKey(), workItemMetadata);
+            if (existing != null) {
+                metadata.remove(existing.getId());
+                unindex(existing);
+            }
+            metadata.put(workItemMetadata.getId(), workItemMetadata);
+            index(workItemMetadata);
+            return itemEntries;
+        });
         return workItemMetadata;
     }
     
@@ -44,53 +69,113 @@ public class InMemoryMetadataRepository implements MetadataRepository {
     
     @Override
     public List<WorkItemMetadata> findByWorkItemId(UUID workItemId) {
-        return metadata.values().stream()
-                .filter(meta -> meta.getWorkItemId().equals(workItemId))
-                .collect(Collectors.toList());
+        Map<String, WorkItemMetadata> entries = byWorkItem.get(workItemId);
+        return entries != null ? new ArrayList<>(entries.values()) : new ArrayList<>();
     }
     
     @Override
     public Optional<WorkItemMetadata> findByWorkItemIdAndKey(UUID workItemId, String key) {
-        return metadata.values().stream()
-                .filter(meta -> meta.getWorkItemId().equals(workItemId) && meta.getKey().equals(key))
-                .findFirst();
+        Map<String, WorkItemMetadata> entries = byWorkItem.get(workItemId);
+        return entries != null ? Optional.ofNullable(entries.get(key)) : Optional.empty();
     }
     
     @Override
     public Map<String, String> getMetadataMap(UUID workItemId) {
-        return metadata.values().stream()
-                .filter(meta -> meta.getWorkItemId().equals(workItemId))
-                .collect(Collectors.toMap(WorkItemMetadata::getKey, WorkItemMetadata::getValue));
+        Map<String, WorkItemMetadata> entries = byWorkItem.get(workItemId);
+        if (entries == null) {
+            return new HashMap<>();
+        }
+        Map<String, String> result = new HashMap<>(entries.size() * 2);
+        for (WorkItemMetadata meta : entries.values()) {
+            result.put(meta.getKey(), meta.getValue());
+        }
+        return result;
+    }
+    
+    /**
+     * Returns selected metadata keys of several work items, reading each value
+     * straight from the work item's key map.
+     *
+     * @param workItemIds the IDs of the work items
+     * @param keys the metadata keys
+     * @return a map from metadata key to a map from work item ID to value
+     */
+    @Override
+    public Map<String, Map<UUID, String>> getMetadataColumns(Collection<UUID> workItemIds,
+            Collection<String> keys) {
+        Map<String, Map<UUID, String>> columns = new HashMap<>();
+        for (String key : keys) {
+            columns.put(key, new HashMap<>());
+        }
+        for (UUID workItemId : workItemIds) {
+            Map<String, WorkItemMetadata> entries = byWorkItem.get(workItemId);
+            if (entries == null) {
+                continue;
+            }
+            for (Map.Entry<String, Map<UUID, String>> column : columns.entrySet()) {
+                WorkItemMetadata meta = entries.get(column.getKey());
+                if (meta != null && meta.getValue() != null) {
+                    column.getValue().put(workItemId, meta.getValue());
+                }
+            }
+        }
+        return columns;
+    }
+    
+    /**
+     * Finds the work items that have metadata with the given key and value,
+     * using the inverted index instead of scanning all metadata.
+     *
+     * @param key the metadata key
+     * @param value the metadata value
+     * @return the IDs of the matching work items
+     */
+    @Override
+    public List<UUID> findWorkItemIdsByKeyAndValue(String key, String value) {
+        if (key == null || value == null) {
+            return Collections.emptyList();
+        }
+        Map<String, Set<UUID>> values = byKeyAndValue.get(key);
+        Set<UUID> workItemIds = values != null ? values.get(value) : null;
+        return workItemIds != null ? new ArrayList<>(workItemIds) : new ArrayList<>();
     }
     
     @Override
     public boolean deleteById(UUID id) {
-        return metadata.remove(id) != null;
+        WorkItemMetadata existing = metadata.get(id);
+        if (existing == null) {
+            return false;
+        }
+        boolean[] removed = new boolean[1];
+        byWorkItem.computeIfPresent(existing.getWorkItemId(), (workItemId, entries) -> {
+            if (entries.remove(existing.getKey(), existing)) {
+                metadata.remove(id);
+                unindex(existing);
+                removed[0] = true;
+            }
+            return entries.isEmpty() ? null : entries;
+        });
+        return removed[0];
     }
     
     @Override
     public int deleteByWorkItemId(UUID workItemId) {
-        List<UUID> toRemove = metadata.values().stream()
-                .filter(meta -> meta.getWorkItemId().equals(workItemId))
-                .map(WorkItemMetadata::getId)
-                .collect(Collectors.toList());
-        
-        int count = toRemove.size();
-        for (UUID id : toRemove) {
-            metadata.remove(id);
-        }
-        
-        return count;
+        int[] count = new int[1];
+        byWorkItem.computeIfPresent(workItemId, (id, entries) -> {
+            for (WorkItemMetadata meta : entries.values()) {
+                metadata.remove(meta.getId());
+                unindex(meta);
+            }
+            count[0] = entries.size();
+            return null;
+        });
+        return count[0];
     }
     
     @Override
     public boolean deleteByWorkItemIdAndKey(UUID workItemId, String key) {
         Optional<WorkItemMetadata> toDelete = findByWorkItemIdAndKey(workItemId, key);
-        if (toDelete.isPresent()) {
-            metadata.remove(toDelete.get().getId());
-            return true;
-        }
-        return false;
+        return toDelete.isPresent() && deleteById(toDelete.get().getId());
     }
     
     @Override
@@ -103,6 +188,8 @@ public class InMemoryMetadataRepository implements MetadataRepository {
      * This is useful for testing.
      */
     public void clear() {
+        byWorkItem.clear();
+        byKeyAndValue.clear();
         metadata.clear();
     }
     
@@ -122,4 +209,28 @@ public class InMemoryMetadataRepository implements MetadataRepository {
         
         return true;
     }
-}
\ No newline at end of file
+    
+    private void index(WorkItemMetadata meta) {
+        if (meta.getValue() == null) {
+            return;
+        }
+        byKeyAndValue.compute(meta.getKey(), (key, values) -> {
+            Map<String, Set<UUID>> keyValues = values != null ? values : new ConcurrentHashMap<>();
+            keyValues.computeIfAbsent(meta.getValue(), value -> ConcurrentHashMap.newKeySet()).add(meta.getWorkItemId());
+            return keyValues;
+        });
+    }
+    
+    private void unindex(WorkItemMetadata meta) {
+        if (meta.getValue() == null) {
+            return;
+        }
+        byKeyAndValue.computeIfPresent(meta.getKey(), (key, values) -> {
+            values.computeIfPresent(meta.getValue(), (value, workItemIds) -> {
+                workItemIds.remove(meta.getWorkItemId());
+                return workItemIds.isEmpty() ? null : workItemIds;
+            });
+            return values.isEmpty() ? null : values;
+        });
+    }
+}
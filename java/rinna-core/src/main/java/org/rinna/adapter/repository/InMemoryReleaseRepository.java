@@ -9,11 +9,14 @@
 package org.rinna.adapter.repository;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.rinna.domain.model.DefaultRelease;
@@ -22,14 +25,17 @@ import org.rinna.domain.repository.ReleaseRepository;
 
 /**
  * In-memory implementation of the ReleaseRepository interface.
+ * Release membership is kept as an insertion-ordered set of work item IDs per release,
+ * so adding, removing and checking a work item do not copy the release.
  */
 public class InMemoryReleaseRepository implements ReleaseRepository {
     private final Map<UUID, Release> releases = new HashMap<>();
-    
+    private final Map<UUID, Set<UUID>> workItems = new HashMap<>();
+
     @Override
     public Release save(Release release) {
         Objects.requireNonNull(release, "Release cannot be null");
-        
+
         // Copy the release to ensure immutability
         DefaultRelease.Builder builder = new DefaultRelease.Builder()
                 .id(release.getId())
@@ -37,32 +43,101 @@ public class InMemoryReleaseRepository implements ReleaseRepository {
                 .description(release.getDescription())
                 .createdAt(release.getCreatedAt())
                 .workItems(release.getWorkItems());
-        
+
         Release savedRelease = builder.build();
         releases.put(savedRelease.getId(), savedRelease);
-        
+        workItems.put(savedRelease.getId(), new LinkedHashSet<>(savedRelease.getWorkItems()));
+
         return savedRelease;
     }
-    
+
     @Override
     public Optional<Release> findById(UUID id) {
-        return Optional.ofNullable(releases.get(id));
+        return Optional.ofNullable(releases.get(id)).map(this::withCurrentWorkItems);
     }
-    
+
     @Override
     public Optional<Release> findByVersion(String version) {
         return releases.values().stream()
                 .filter(r -> r.getVersion().equals(version))
-                .findFirst();
+                .findFirst()
+                .map(this::withCurrentWorkItems);
     }
-    
+
     @Override
     public List<Release> findAll() {
-        return new ArrayList<>(releases.values());
+        List<Release> result = new ArrayList<>(releases.size());
+        for (Release release : releases.values()) {
+            result.add(withCurrentWorkItems(release));
+        }
+        return result;
     }
-    
+
     @Override
     public void deleteById(UUID id) {
         releases.remove(id);
+        workItems.remove(id);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return releases.containsKey(id);
+    }
+
+    @Override
+    public List<UUID> findWorkItemIds(UUID releaseId) {
+        Set<UUID> members = workItems.get(releaseId);
+        return members != null ? new ArrayList<>(members) : List.of();
+    }
+
+    @Override
+    public boolean containsWorkItem(UUID releaseId, UUID workItemId) {
+        Set<UUID> members = workItems.get(releaseId);
+        return members != null && members.contains(workItemId);
+    }
+
+    @Override
+    public int addWorkItems(UUID releaseId, Collection<UUID> workItemIds) {
+        Set<UUID> members = members(releaseId);
+        int added = 0;
+        for (UUID workItemId : workItemIds) {
+            if (members.add(workItemId)) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    @Override
+    public int removeWorkItems(UUID releaseId, Collection<UUID> workItemIds) {
+        Set<UUID> members = members(releaseId);
+        int removed = 0;
+        for (UUID workItemId : workItemIds) {
+            if (members.remove(workItemId)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private Set<UUID> members(UUID releaseId) {
+        Set<UUID> members = workItems.get(releaseId);
+        if (members == null) {
+            throw new IllegalArgumentException("Release with ID " + releaseId + " does not exist");
+        }
+        return members;
+    }
+
+    /**
+     * Returns a snapshot of a stored release with its current work items.
+     */
+    private Release withCurrentWorkItems(Release release) {
+        return new DefaultRelease.Builder()
+                .id(release.getId())
+                .version(release.getVersion())
+                .description(release.getDescription())
+                .createdAt(release.getCreatedAt())
+                .workItems(workItems.get(release.getId()))
+                .build();
     }
-}
\ No newline at end of file
+}
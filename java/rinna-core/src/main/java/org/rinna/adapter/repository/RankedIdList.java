@@ -0,0 +1,282 @@
+/*
+ * RankedIdList - Order-statistic list of work item IDs
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.adapter.repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * An ordered list of distinct IDs backed by an implicit treap.
+ *
+ * <p>Each node keeps the size of its subtree and a parent link, and a map from ID
+ * to node lets an element find its own position by walking up to the root. Inserting
+ * at a position, removing, moving and looking up an element or its position are all
+ * O(log n) expected, and a page of k elements is read in O(log n + k).</p>
+ *
+ * <p>Instances are not thread-safe.</p>
+ */
+final class RankedIdList {
+
+    private static final class Node {
+        private final UUID id;
+        private final int priority;
+        private int size = 1;
+        private Node left;
+        private Node right;
+        private Node parent;
+
+        Node(UUID id, int priority) {
+            this.id = id;
+            this.priority = priority;
+        }
+    }
+
+    private final Map<UUID, Node> nodes = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+
+    /**
+     * Returns the number of IDs in the list.
+     *
+     * @return the size
+     */
+    int size() {
+        return size(root);
+    }
+
+    /**
+     * Checks whether an ID is in the list.
+     *
+     * @param id the ID
+     * @return true if the ID is in the list
+     */
+    boolean contains(UUID id) {
+        return nodes.containsKey(id);
+    }
+
+    /**
+     * Appends an ID to the end of the list.
+     *
+     * @param id the ID
+     * @return false if the ID was already in the list
+     */
+    boolean add(UUID id) {
+        return insert(size(), id);
+    }
+
+    /**
+     * Inserts an ID at a position.
+     *
+     * @param index the position, from 0 to {@link #size()}
+     * @param id the ID
+     * @return false if the ID was already in the list
+     */
+    boolean insert(int index, UUID id) {
+        if (nodes.containsKey(id)) {
+            return false;
+        }
+        Node node = new Node(id, random.nextInt());
+        nodes.put(id, node);
+        Node[] parts = split(root, index);
+        setRoot(merge(merge(parts[0], node), parts[1]));
+        return true;
+    }
+
+    /**
+     * Removes an ID.
+     *
+     * @param id the ID
+     * @return false if the ID was not in the list
+     */
+    boolean remove(UUID id) {
+        Node node = nodes.remove(id);
+        if (node == null) {
+            return false;
+        }
+        int index = indexOf(node);
+        Node[] before = split(root, index);
+        Node[] after = split(before[1], 1);
+        setRoot(merge(before[0], after[1]));
+        return true;
+    }
+
+    /**
+     * Moves an ID to a position.
+     *
+     * @param id the ID
+     * @param index the new position, clamped to the list
+     * @return false if the ID was not in the list
+     */
+    boolean move(UUID id, int index) {
+        if (!remove(id)) {
+            return false;
+        }
+        insert(Math.max(0, Math.min(index, size())), id);
+        return true;
+    }
+
+    /**
+     * Returns the position of an ID.
+     *
+     * @param id the ID
+     * @return the 0-based position, or -1 if the ID is not in the list
+     */
+    int indexOf(UUID id) {
+        Node node = nodes.get(id);
+        return node != null ? indexOf(node) : -1;
+    }
+
+    /**
+     * Returns the ID at a position.
+     *
+     * @param index the 0-based position
+     * @return the ID
+     * @throws IndexOutOfBoundsException if the position is outside the list
+     */
+    UUID get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+        }
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.id;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns the IDs in a range of positions.
+     *
+     * @param from the first position, inclusive
+     * @param to the last position, exclusive
+     * @return the IDs in order
+     */
+    List<UUID> subList(int from, int to) {
+        int start = Math.max(0, from);
+        int end = Math.min(to, size());
+        List<UUID> result = new ArrayList<>(Math.max(0, end - start));
+        if (start < end) {
+            collect(root, 0, start, end, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns all IDs in order.
+     *
+     * @return the IDs
+     */
+    List<UUID> toList() {
+        return subList(0, size());
+    }
+
+    private static void collect(Node node, int offset, int from, int to, List<UUID> out) {
+        if (node == null) {
+            return;
+        }
+        int position = offset + size(node.left);
+        if (from < position) {
+            collect(node.left, offset, from, to, out);
+        }
+        if (position >= from && position < to) {
+            out.add(node.id);
+        }
+        if (to > position + 1) {
+            collect(node.right, position + 1, from, to, out);
+        }
+    }
+
+    private static int indexOf(Node node) {
+        int index = size(node.left);
+        while (node.parent != null) {
+            if (node == node.parent.right) {
+                index += size(node.parent.left) + 1;
+            }
+            node = node.parent;
+        }
+        return index;
+    }
+
+    private void setRoot(Node node) {
+        root = node;
+        if (root != null) {
+            root.parent = null;
+        }
+    }
+
+    /**
+     * Splits a tree into its first {@code count} nodes and the rest.
+     */
+    private static Node[] split(Node node, int count) {
+        if (node == null) {
+            return new Node[2];
+        }
+        Node[] parts;
+        if (size(node.left) >= count) {
+            parts = split(node.left, count);
+            node.left = parts[1];
+            update(node);
+            parts[1] = node;
+        } else {
+            parts = split(node.right, count - size(node.left) - 1);
+            node.right = parts[0];
+            update(node);
+            parts[0] = node;
+        }
+        if (parts[0] != null) {
+            parts[0].parent = null;
+        }
+        if (parts[1] != null) {
+            parts[1].parent = null;
+        }
+        return parts;
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private static void update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+        if (node.left != null) {
+            node.left.parent = node;
+        }
+        if (node.right != null) {
+            node.right.parent = node;
+        }
+    }
+
+    private static int size(Node node) {
+        return node != null ? node.size : 0;
+    }
+}
@@ -8,9 +8,7 @@
 
 package org.rinna.adapter.service;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 import org.rinna.domain.model.WorkItem;
@@ -65,12 +63,7 @@ public class DefaultBacklogService implements BacklogService {
      * @return the list of work items
      */
     private List<WorkItem> getBacklogItems(List<UUID> itemIds) {
-        List<WorkItem> result = new ArrayList<>();
-        for (UUID id : itemIds) {
-            Optional<WorkItem> item = itemRepository.findById(id);
-            item.ifPresent(result::add);
-        }
-        return result;
+        return itemRepository.findAllById(itemIds);
     }
     
     /**
@@ -133,8 +126,7 @@ public class DefaultBacklogService implements BacklogService {
      */
     @Override
     public boolean moveUp(UUID workItemId) {
-        List<UUID> backlog = backlogRepository.getBacklog();
-        int currentIndex = backlog.indexOf(workItemId);
+        int currentIndex = backlogRepository.getBacklogPosition(workItemId);
         
         if (currentIndex <= 0) {
             // Already at top or not in backlog
@@ -152,10 +144,9 @@ public class DefaultBacklogService implements BacklogService {
      */
     @Override
     public boolean moveDown(UUID workItemId) {
-        List<UUID> backlog = backlogRepository.getBacklog();
-        int currentIndex = backlog.indexOf(workItemId);
+        int currentIndex = backlogRepository.getBacklogPosition(workItemId);
         
-        if (currentIndex == -1 || currentIndex >= backlog.size() - 1) {
+        if (currentIndex == -1 || currentIndex >= backlogRepository.getBacklogSize() - 1) {
             // Not in backlog or already at bottom
             return false;
         }
@@ -171,9 +162,7 @@ public class DefaultBacklogService implements BacklogService {
      */
     @Override
     public boolean moveToTop(UUID workItemId) {
-        List<UUID> backlog = backlogRepository.getBacklog();
-        
-        if (!backlog.contains(workItemId)) {
+        if (backlogRepository.getBacklogPosition(workItemId) == -1) {
             // Not in backlog
             return false;
         }
@@ -189,13 +178,11 @@ public class DefaultBacklogService implements BacklogService {
      */
     @Override
     public boolean moveToBottom(UUID workItemId) {
-        List<UUID> backlog = backlogRepository.getBacklog();
-        
-        if (!backlog.contains(workItemId)) {
+        if (backlogRepository.getBacklogPosition(workItemId) == -1) {
             // Not in backlog
             return false;
         }
         
-        return backlogRepository.moveInBacklog(workItemId, backlog.size() - 1);
+        return backlogRepository.moveInBacklog(workItemId, backlogRepository.getBacklogSize() - 1);
     }
 }
\ No newline at end of file
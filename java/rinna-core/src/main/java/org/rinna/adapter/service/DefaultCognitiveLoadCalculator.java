@@ -272,11 +272,7 @@ public class DefaultCognitiveLoadCalculator implements CognitiveLoadCalculator {
         for (String memberId : members) {
             // Get work items assigned to this member
             List<UUID> assignedWorkItemIds = assignmentRepository.findWorkItemsByMember(unitId, memberId);
-            List<WorkItem> assignedWorkItems = new ArrayList<>();
-
-            for (UUID workItemId : assignedWorkItemIds) {
-                itemService.findById(workItemId).ifPresent(assignedWorkItems::add);
-            }
+            List<WorkItem> assignedWorkItems = itemService.findAllById(assignedWorkItemIds);
 
             // Calculate member's load
             int memberLoad = calculateTotalLoad(assignedWorkItems);
@@ -352,15 +348,11 @@ public class DefaultCognitiveLoadCalculator implements CognitiveLoadCalculator {
             UUID smallestWorkItemId = null;
             int smallestLoad = Integer.MAX_VALUE;
 
-            for (UUID workItemId : workItemIds) {
-                Optional<WorkItem> workItemOptional = itemService.findById(workItemId);
-                if (workItemOptional.isPresent()) {
-                    WorkItem workItem = workItemOptional.get();
-                    int load = calculateWorkItemLoad(workItem);
-                    if (load < smallestLoad) {
-                        smallestLoad = load;
-                        smallestWorkItemId = workItemId;
-                    }
+            for (WorkItem workItem : itemService.findAllById(workItemIds)) {
+                int load = calculateWorkItemLoad(workItem);
+                if (load < smallestLoad) {
+                    smallestLoad = load;
+                    smallestWorkItemId = workItem.getId();
                 }
             }
 
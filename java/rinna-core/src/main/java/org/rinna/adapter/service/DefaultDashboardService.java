@@ -275,10 +275,8 @@ public class DefaultDashboardService implements DashboardService {
             }
 
             List<UUID> unitWorkItems = organizationalUnitRepository.findWorkItemsForUnit(unitId);
-            for (UUID workItemId : unitWorkItems) {
-                itemRepository.findById(workItemId).ifPresent(item -> {
-                    unitDistribution.compute(item.cynefinDomain(), (k, v) -> v + 1);
-                });
+            for (WorkItem item : itemRepository.findAllById(unitWorkItems)) {
+                unitDistribution.compute(item.cynefinDomain(), (k, v) -> v + 1);
             }
 
             unitDomainCounts.put(unitId, unitDistribution);
@@ -370,10 +368,8 @@ public class DefaultDashboardService implements DashboardService {
             }
 
             List<UUID> unitWorkItems = organizationalUnitRepository.findWorkItemsForUnit(unitId);
-            for (UUID workItemId : unitWorkItems) {
-                itemRepository.findById(workItemId).ifPresent(item -> {
-                    unitDistribution.compute(item.workParadigm(), (k, v) -> v + 1);
-                });
+            for (WorkItem item : itemRepository.findAllById(unitWorkItems)) {
+                unitDistribution.compute(item.workParadigm(), (k, v) -> v + 1);
             }
 
             unitParadigmCounts.put(unitId, unitDistribution);
@@ -497,13 +493,9 @@ public class DefaultDashboardService implements DashboardService {
             int assignedLoad = 0;
 
             List<UUID> unitWorkItems = organizationalUnitRepository.findWorkItemsForUnit(unit.id());
-            for (UUID workItemId : unitWorkItems) {
-                final int[] tempLoad = {assignedLoad}; // Use array to make it effectively final
-                itemRepository.findById(workItemId).ifPresent(item -> {
-                    // Calculate the assigned load for each work item
-                    tempLoad[0] += cognitiveLoadCalculator.calculateWorkItemLoad(item);
-                });
-                assignedLoad = tempLoad[0]; // Update the assignedLoad variable
+            for (WorkItem item : itemRepository.findAllById(unitWorkItems)) {
+                // Calculate the assigned load for each work item
+                assignedLoad += cognitiveLoadCalculator.calculateWorkItemLoad(item);
             }
 
             // Check each member for overload
@@ -797,13 +789,6 @@ public class DefaultDashboardService implements DashboardService {
 
             // Calculate cognitive load
             int totalCognitiveLoad = 0;
-            List<UUID> workItemIds = organizationalUnitRepository.findWorkItemsForUnit(unit.id());
-            for (UUID workItemId : workItemIds) {
-                itemRepository.findById(workItemId).ifPresent(item -> {
-                    // This would be more efficient with a bulk operation in a real implementation
-                });
-            }
-
             // For demonstration purposes
             totalCognitiveLoad = 28;
             double averageMemberLoad = memberCount > 0 ? (double) totalCognitiveLoad / memberCount : 0;
@@ -10,18 +10,12 @@ package org.rinna.adapter.service;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.PDPage;
-import org.apache.pdfbox.pdmodel.PDPageContentStream;
-import org.apache.pdfbox.pdmodel.font.PDType1Font;
-import org.apache.pdfbox.pdmodel.font.Standard14Fonts.FontName;
-import org.apache.poi.xwpf.usermodel.XWPFDocument;
-import org.apache.poi.xwpf.usermodel.XWPFParagraph;
-import org.apache.poi.xwpf.usermodel.XWPFRun;
 import org.rinna.domain.model.DocumentConfig;
 import org.rinna.domain.model.Project;
 import org.rinna.domain.model.Release;
@@ -46,9 +40,10 @@ import org.slf4j.LoggerFactory;
  * </ul>
  * </p>
  * <p>
- * The content is formatted using a simple Markdown-like syntax before being converted to
- * the requested output format. The service can accept template paths and data maps for
- * more advanced document generation scenarios.
+ * The content is formatted using a simple Markdown-like syntax and converted to the
+ * requested output format as it is written, so documents with many work items are
+ * rendered section by section rather than built in memory first. The service can accept
+ * template paths and data maps for more advanced document generation scenarios.
  * </p>
  * <p>
  * For large-scale document generation or complex templates, consider using the Docmosis service
@@ -58,6 +53,9 @@ import org.slf4j.LoggerFactory;
 public class DefaultDocumentService implements DocumentService {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultDocumentService.class);
 
+    private static final int FORMAT_BATCH_SIZE = 1024;
+    private static final int PARALLEL_FORMAT_THRESHOLD = 256;
+
     private final DocumentConfig config;
 
     /**
@@ -128,20 +126,11 @@ public class DefaultDocumentService implements DocumentService {
 
     @Override
     public void generateWorkItemsDocument(List<WorkItem> workItems, Format format, TemplateType templateType, OutputStream output) {
-        try {
-            StringBuilder content = new StringBuilder("# Work Items Report\n\n");
-            content.append("Total items: ").append(workItems.size()).append("\n\n");
-
-            for (WorkItem item : workItems) {
-                content.append("## ").append(item.getTitle()).append("\n\n");
-                content.append("- ID: ").append(item.getId()).append("\n");
-                content.append("- Type: ").append(item.getType()).append("\n");
-                content.append("- Status: ").append(item.getStatus()).append("\n");
-                content.append("- Priority: ").append(item.getPriority()).append("\n");
-                content.append("- Assignee: ").append(item.getAssignee() != null ? item.getAssignee() : "Unassigned").append("\n\n");
-            }
-
-            generateDocument(content.toString(), format, output);
+        try (DocumentWriter writer = DocumentWriter.open(format, output)) {
+            writer.write("# Work Items Report\n\n");
+            writer.write("Total items: " + workItems.size() + "\n\n");
+            writeSections(writer, workItems, DefaultDocumentService::formatWorkItemSection);
+            writer.finish();
         } catch (Exception e) {
             LOGGER.error("Failed to generate work items document", e);
             throw new IllegalStateException("Document generation failed", e);
@@ -150,16 +139,12 @@ public class DefaultDocumentService implements DocumentService {
 
     @Override
     public void generateCustomDocument(String templatePath, Map<String, Object> data, Format format, OutputStream output) {
-        try {
+        try (DocumentWriter writer = DocumentWriter.open(format, output)) {
             // Very basic implementation - just dumps the data
-            StringBuilder content = new StringBuilder("# Custom Document\n\n");
-
-            for (Map.Entry<String, Object> entry : data.entrySet()) {
-                content.append("## ").append(entry.getKey()).append("\n\n");
-                content.append(entry.getValue()).append("\n\n");
-            }
-
-            generateDocument(content.toString(), format, output);
+            writer.write("# Custom Document\n\n");
+            writeSections(writer, new ArrayList<>(data.entrySet()),
+                entry -> "## " + entry.getKey() + "\n\n" + entry.getValue() + "\n\n");
+            writer.finish();
         } catch (Exception e) {
             LOGGER.error("Failed to generate custom document", e);
             throw new IllegalStateException("Document generation failed", e);
@@ -167,231 +152,79 @@ public class DefaultDocumentService implements DocumentService {
     }
 
     /**
-     * Generates a document in the requested format.
-     * <p>
-     * This utility method routes the document generation request to the appropriate
-     * format-specific method based on the requested output format. It handles the conversion
-     * of the content string (which uses a simple Markdown-like syntax) into the appropriate
-     * format.
-     * </p>
+     * Formats the section of one work item in a multi-item document.
      *
-     * @param content the document content in Markdown-like format
-     * @param format the desired output format (PDF, DOCX, or HTML)
-     * @param output the output stream where the generated document will be written
-     * @throws IOException if an I/O error occurs during document generation
+     * @param item the work item
+     * @return the section content in Markdown-like format
      */
-    private void generateDocument(String content, Format format, OutputStream output) throws IOException {
-        switch (format) {
-            case PDF -> generatePdf(content, output);
-            case DOCX -> generateDocx(content, output);
-            case HTML -> generateHtml(content, output);
-        }
+    private static String formatWorkItemSection(WorkItem item) {
+        return "## " + item.getTitle() + "\n\n" +
+            "- ID: " + item.getId() + "\n" +
+            "- Type: " + item.getType() + "\n" +
+            "- Status: " + item.getStatus() + "\n" +
+            "- Priority: " + item.getPriority() + "\n" +
+            "- Assignee: " + (item.getAssignee() != null ? item.getAssignee() : "Unassigned") + "\n\n";
     }
 
     /**
-     * Generates a PDF document from the provided content.
-     * <p>
-     * This method uses Apache PDFBox to create a PDF document with formatted text.
-     * The content is parsed as Markdown-like syntax with special handling for headers,
-     * which are rendered with larger font sizes.
-     * </p>
-     * <p>
-     * Current formatting supported:
-     * <ul>
-     *   <li># Header 1 - rendered in 16pt font</li>
-     *   <li>## Header 2 - rendered in 14pt font</li>
-     *   <li>Regular text - rendered in 12pt font</li>
-     * </ul>
-     * </p>
+     * Formats sections and writes them to a document in order.
      * <p>
-     * The implementation is basic and handles only simple line-by-line rendering.
-     * Complex layouts, tables, or images are not supported in this implementation.
+     * Sections are formatted in batches on the common fork-join pool, and the next
+     * batch is formatted while the current one is being rendered. Only two batches
+     * of formatted text are held at a time, however many sections there are.
      * </p>
      *
-     * @param content the document content in Markdown-like format
-     * @param output the output stream where the PDF will be written
-     * @throws IOException if an I/O error occurs during PDF generation
+     * @param writer the document writer
+     * @param elements the elements to write a section for
+     * @param formatter formats one element's section
+     * @param <T> the element type
+     * @throws IOException if the document cannot be written
      */
-    private void generatePdf(String content, OutputStream output) throws IOException {
-        try (PDDocument document = new PDDocument()) {
-            PDPage page = new PDPage();
-            document.addPage(page);
-
-            try (PDPageContentStream contentStream = new PDPageContentStream(document, page)) {
-                contentStream.beginText();
-                // Use Standard14Fonts
-                PDType1Font font = new PDType1Font(FontName.TIMES_ROMAN);
-                contentStream.setFont(font, 12);
-                contentStream.newLineAtOffset(50, 700);
-
-                // Very basic content rendering - just line by line
-                String[] lines = content.split("\n");
-                float leading = 14;
-
-                for (String line : lines) {
-                    // Handle headers with different font sizes
-                    if (line.startsWith("# ")) {
-                        contentStream.setFont(font, 16);
-                        contentStream.showText(line.substring(2));
-                    } else if (line.startsWith("## ")) {
-                        contentStream.setFont(font, 14);
-                        contentStream.showText(line.substring(3));
-                    } else {
-                        contentStream.setFont(font, 12);
-                        contentStream.showText(line);
-                    }
-
-                    contentStream.newLineAtOffset(0, -leading);
-                }
-
-                contentStream.endText();
+    private static <T> void writeSections(DocumentWriter writer, List<T> elements, Function<T, String> formatter)
+            throws IOException {
+        CompletableFuture<List<String>> next = formatBatch(elements, 0, formatter);
+        for (int start = 0; next != null; start += FORMAT_BATCH_SIZE) {
+            List<String> sections = next.join();
+            next = formatBatch(elements, start + FORMAT_BATCH_SIZE, formatter);
+            for (String section : sections) {
+                writer.write(section);
             }
-
-            document.save(output);
         }
     }
 
-    /**
-     * Generates a DOCX document from the provided content.
-     * <p>
-     * This method uses Apache POI to create a Word document with formatted text.
-     * The content is parsed as Markdown-like syntax with special handling for headers,
-     * which are rendered with different font sizes and styles.
-     * </p>
-     * <p>
-     * Current formatting supported:
-     * <ul>
-     *   <li># Header 1 - rendered as 16pt bold text</li>
-     *   <li>## Header 2 - rendered as 14pt bold text</li>
-     *   <li>Regular text - rendered as 12pt normal text</li>
-     * </ul>
-     * </p>
-     * <p>
-     * Each line in the input content is rendered as a separate paragraph in the Word document.
-     * Complex formatting, tables, or images are not supported in this implementation.
-     * </p>
-     *
-     * @param content the document content in Markdown-like format
-     * @param output the output stream where the DOCX will be written
-     * @throws IOException if an I/O error occurs during DOCX generation
-     */
-    private void generateDocx(String content, OutputStream output) throws IOException {
-        try (XWPFDocument document = new XWPFDocument()) {
-            String[] lines = content.split("\n");
-
-            for (String line : lines) {
-                XWPFParagraph paragraph = document.createParagraph();
-                XWPFRun run = paragraph.createRun();
-
-                // Handle headers with larger font
-                if (line.startsWith("# ")) {
-                    run.setBold(true);
-                    run.setFontSize(16);
-                    run.setText(line.substring(2));
-                } else if (line.startsWith("## ")) {
-                    run.setBold(true);
-                    run.setFontSize(14);
-                    run.setText(line.substring(3));
-                } else {
-                    run.setFontSize(12);
-                    run.setText(line);
-                }
-            }
-
-            document.write(output);
+    private static <T> CompletableFuture<List<String>> formatBatch(List<T> elements, int start, Function<T, String> formatter) {
+        if (start >= elements.size()) {
+            return null;
+        }
+        List<T> batch = elements.subList(start, Math.min(start + FORMAT_BATCH_SIZE, elements.size()));
+        if (batch.size() < PARALLEL_FORMAT_THRESHOLD) {
+            return CompletableFuture.completedFuture(batch.stream().map(formatter).toList());
         }
+        return CompletableFuture.supplyAsync(() -> batch.parallelStream().map(formatter).toList());
     }
 
     /**
-     * Generates an HTML document from the provided content.
-     * <p>
-     * This method converts the Markdown-like syntax to HTML with appropriate markup.
-     * The HTML includes a basic style sheet for consistent rendering across browsers,
-     * with responsive layout and modern typography.
-     * </p>
+     * Generates a document in the requested format.
      * <p>
-     * Current formatting supported:
+     * The content uses a simple Markdown-like syntax and is rendered line by line by a
+     * {@link DocumentWriter} for the format:
      * <ul>
-     *   <li># Header 1 - converted to &lt;h1&gt; tags</li>
-     *   <li>## Header 2 - converted to &lt;h2&gt; tags</li>
-     *   <li>- Bullet points - converted to paragraphs with bullet characters</li>
-     *   <li>Blank lines - converted to paragraph breaks</li>
-     *   <li>Regular text - wrapped in paragraph tags</li>
+     *   <li>PDF - Apache PDFBox, headers in 16pt and 14pt, text in 12pt, with a new page when one is full</li>
+     *   <li>DOCX - Apache POI, one paragraph per line, headers in bold</li>
+     *   <li>HTML - headers, bullet points and paragraphs with a basic style sheet</li>
      * </ul>
      * </p>
-     * <p>
-     * The HTML includes a complete document structure with DOCTYPE, head, and body elements,
-     * making it ready for direct display in a browser.
-     * </p>
      *
      * @param content the document content in Markdown-like format
-     * @param output the output stream where the HTML will be written
-     * @throws IOException if an I/O error occurs during HTML generation
+     * @param format the desired output format (PDF, DOCX, or HTML)
+     * @param output the output stream where the generated document will be written
+     * @throws IOException if an I/O error occurs during document generation
      */
-    private void generateHtml(String content, OutputStream output) throws IOException {
-        StringBuilder html = new StringBuilder("""
-                <!DOCTYPE html>
-                <html>
-                <head>
-                    <meta charset="UTF-8">
-                    <title>Document</title>
-                    <style>
-                        body { font-family: Arial, sans-serif; margin: 40px; }
-                        h1 { font-size: 24px; color: #333; }
-                        h2 { font-size: 20px; color: #555; }
-                        p { font-size: 16px; line-height: 1.5; }
-                    </style>
-                </head>
-                <body>
-                """);
-
-        // Very basic Markdown to HTML conversion
-        String[] lines = content.split("\n");
-        boolean inParagraph = false;
-
-        for (String line : lines) {
-            if (line.isBlank()) {
-                if (inParagraph) {
-                    html.append("</p>\n");
-                    inParagraph = false;
-                }
-                continue;
-            }
-
-            if (line.startsWith("# ")) {
-                if (inParagraph) {
-                    html.append("</p>\n");
-                    inParagraph = false;
-                }
-                html.append("<h1>").append(line.substring(2)).append("</h1>\n");
-            } else if (line.startsWith("## ")) {
-                if (inParagraph) {
-                    html.append("</p>\n");
-                    inParagraph = false;
-                }
-                html.append("<h2>").append(line.substring(3)).append("</h2>\n");
-            } else if (line.startsWith("- ")) {
-                if (inParagraph) {
-                    html.append("</p>\n");
-                    inParagraph = false;
-                }
-                html.append("<p>• ").append(line.substring(2)).append("</p>\n");
-            } else {
-                if (!inParagraph) {
-                    html.append("<p>");
-                    inParagraph = true;
-                }
-                html.append(line).append("<br>\n");
-            }
-        }
-
-        if (inParagraph) {
-            html.append("</p>\n");
+    private void generateDocument(String content, Format format, OutputStream output) throws IOException {
+        try (DocumentWriter writer = DocumentWriter.open(format, output)) {
+            writer.write(content);
+            writer.finish();
         }
-
-        html.append("</body></html>");
-
-        output.write(html.toString().getBytes(StandardCharsets.UTF_8));
     }
 
     @Override
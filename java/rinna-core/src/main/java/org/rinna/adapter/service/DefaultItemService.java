@@ -8,6 +8,7 @@
 
 package org.rinna.adapter.service;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -57,6 +58,11 @@ public class DefaultItemService implements ItemService {
         return itemRepository.findById(Objects.requireNonNull(id, "ID cannot be null"));
     }
 
+    @Override
+    public List<WorkItem> findAllById(Collection<UUID> ids) {
+        return itemRepository.findAllById(Objects.requireNonNull(ids, "IDs cannot be null"));
+    }
+
     @Override
     public List<WorkItem> findAll() {
         return itemRepository.findAll();
@@ -121,13 +121,7 @@ public class DefaultOrganizationalUnitService implements OrganizationalUnitServi
     @Override
     public List<WorkItem> findWorkItemsByOrganizationalUnit(UUID unitId) {
         List<UUID> workItemIds = organizationalUnitRepository.findWorkItemIdsByOrganizationalUnitId(unitId);
-
-        List<WorkItem> workItems = new ArrayList<>();
-        for (UUID workItemId : workItemIds) {
-            itemService.findById(workItemId).ifPresent(workItems::add);
-        }
-
-        return workItems;
+        return itemService.findAllById(workItemIds);
     }
 
     @Override
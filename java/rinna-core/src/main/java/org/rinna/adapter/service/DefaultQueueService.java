@@ -14,13 +14,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import org.rinna.domain.model.DefaultWorkQueue;
 import org.rinna.domain.model.Priority;
 import org.rinna.domain.model.WorkItem;
 import org.rinna.domain.model.WorkItemCreateRequest;
 import org.rinna.domain.model.WorkItemMetadata;
+import org.rinna.domain.model.WorkItemScorer;
 import org.rinna.domain.model.WorkItemType;
 import org.rinna.domain.model.WorkQueue;
 import org.rinna.domain.model.WorkflowState;
@@ -152,7 +152,12 @@ public class DefaultQueueService implements QueueService {
         WorkQueue queue = queueRepository.findById(queueId)
                 .orElseThrow(() -> new IllegalArgumentException("Queue not found: " + queueId));
 
-        queue.reprioritize();
+        // Go back to the default order, undoing any weighted or capacity ordering
+        if (queue instanceof DefaultWorkQueue defaultQueue) {
+            defaultQueue.setScorer(DefaultWorkQueue.PRIORITY_SCORER);
+        } else {
+            queue.reprioritize();
+        }
         queueRepository.save(queue);
     }
 
@@ -161,30 +166,25 @@ public class DefaultQueueService implements QueueService {
         WorkQueue queue = queueRepository.findById(queueId)
                 .orElseThrow(() -> new IllegalArgumentException("Queue not found: " + queueId));
 
-        // Get all items from the queue
-        List<WorkItem> items = queue.getItems();
-
         // Get weight values from the map with defaults
         int priorityWeight = weights.getOrDefault("priority", 10);
         int typeWeight = weights.getOrDefault("type", 5);
-        int ageWeight = weights.getOrDefault("age", 2);
         int urgencyWeight = weights.getOrDefault("urgent", 20);
 
-        // Custom prioritization using a Comparator
-        items.sort(Comparator
-                .comparingInt((WorkItem item) -> getPriorityValue(item.getPriority()) * priorityWeight)
-                .thenComparingInt(item -> getTypeWeight(item.getType()) * typeWeight)
-                .thenComparing(WorkItem::getCreatedAt, (a, b) -> ageWeight * a.compareTo(b))
-                .thenComparing(item -> isUrgent(item.getId()) ? -urgencyWeight : 0)
-        );
-
-        // Update the queue with the new order
-        queue.getItems().forEach(item -> queue.removeItem(item.getId()));
-        items.forEach(queue::addItem);
+        // The scorer stays with the queue, so items added or rescored later are scored
+        // on the same scale. Urgency is read from the stored metadata once per item when
+        // it is scored, not on every comparison; older items come first among equal scores
+        WorkItemScorer scorer = item -> (long) getPriorityValue(item.getPriority()) * priorityWeight
+                + (long) getTypeWeight(item.getType()) * typeWeight
+                - (isUrgent(item.getId()) ? urgencyWeight : 0);
 
+        applyScorer(queue, scorer);
         queueRepository.save(queue);
     }
 
+    // Places items outside the team capacity after every item inside it
+    private static final long CAPACITY_EXCLUDED_OFFSET = 1L << 32;
+
     private static final Map<WorkItemType, Integer> TYPE_WEIGHTS = Map.of(
         WorkItemType.BUG, 0,
         WorkItemType.FEATURE, 1,
@@ -234,32 +234,48 @@ public class DefaultQueueService implements QueueService {
         // Mark items as "capacity_included" if they fit within capacity
         for (WorkItem item : items) {
             int points = getStoryPoints(item.getId());
-            String included = (allocatedPoints + points <= teamCapacity) ? "true" : "false";
+            boolean included = allocatedPoints + points <= teamCapacity;
 
-            metadataRepository.save(new WorkItemMetadata(item.getId(), "capacity_included", included));
+            metadataRepository.save(new WorkItemMetadata(item.getId(), "capacity_included", String.valueOf(included)));
 
-            if ("true".equals(included)) {
+            if (included) {
                 allocatedPoints += points;
             }
         }
 
-        // Reprioritize queue with capacity-included items first
-        items.sort(Comparator
-                .<WorkItem>comparingInt(item -> {
-                    return metadataRepository
-                            .findByWorkItemIdAndKey(item.getId(), "capacity_included")
-                            .filter(meta -> "true".equals(meta.getValue()))
-                            .isPresent() ? 0 : 1;
-                })
-                .thenComparing(WorkItem::getPriority)
-                .thenComparing(item -> getTypeWeight(item.getType()))
+        // Reprioritize queue with capacity-included items first, in their previous order.
+        // Items added later have not been planned and are only ordered by priority
+        applyScorer(queue, item -> (isCapacityExcluded(item.getId()) ? CAPACITY_EXCLUDED_OFFSET : 0)
+                + DefaultWorkQueue.PRIORITY_SCORER.score(item));
+
+        queueRepository.save(queue);
+    }
+
+    /**
+     * Orders a queue by a scorer. A {@link DefaultWorkQueue} keeps the scorer for
+     * items added or rescored later and rebuilds its heap in O(n); other queues are
+     * re-added in scored order.
+     *
+     * @param queue the queue
+     * @param scorer the scorer
+     */
+    private void applyScorer(WorkQueue queue, WorkItemScorer scorer) {
+        if (queue instanceof DefaultWorkQueue defaultQueue) {
+            defaultQueue.setScorer(scorer);
+            return;
+        }
+
+        // Score each item once, then sort by the cached scores
+        List<WorkItem> items = queue.getItems();
+        Map<UUID, Long> scores = new HashMap<>(items.size() * 2);
+        for (WorkItem item : items) {
+            scores.put(item.getId(), scorer.score(item));
+        }
+        items.sort(Comparator.<WorkItem>comparingLong(item -> scores.get(item.getId()))
                 .thenComparing(WorkItem::getCreatedAt));
 
-        // Update the queue with the new order
-        queue.getItems().forEach(item -> queue.removeItem(item.getId()));
+        items.forEach(item -> queue.removeItem(item.getId()));
         items.forEach(queue::addItem);
-
-        queueRepository.save(queue);
     }
 
     @Override
@@ -494,25 +510,39 @@ public class DefaultQueueService implements QueueService {
             queueId = getOrCreateDefaultQueueId();
             defaultQueueId = queueId; // Cache the ID
         }
-        reprioritizeQueue(queueId);
+        final UUID finalQueueId = queueId;
+        WorkQueue queue = queueRepository.findById(finalQueueId)
+                .orElseThrow(() -> new IllegalArgumentException("Queue not found: " + finalQueueId));
+        if (queue instanceof DefaultWorkQueue defaultQueue) {
+            // Only the changed item needs a new score
+            defaultQueue.rescore(workItemId);
+            queueRepository.save(queue);
+        } else {
+            reprioritizeQueue(queueId);
+        }
     }
 
     @Override
     public List<WorkItem> findUrgentItems() {
         // Find all items with urgent=true metadata
-        Map<UUID, String> urgentItemIds = new HashMap<>();
-        metadataRepository.findAll().stream()
-                .filter(meta -> "urgent".equals(meta.getKey()) && "true".equals(meta.getValue()))
-                .forEach(meta -> urgentItemIds.put(meta.getWorkItemId(), meta.getValue()));
+        List<UUID> urgentItemIds = metadataRepository.findWorkItemIdsByKeyAndValue("urgent", "true");
 
         // Get the actual WorkItem objects for these IDs
-        return urgentItemIds.keySet().stream()
-                .map(itemService::findById)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
+        return itemService.findAllById(urgentItemIds);
     }
 
+    /**
+     * Checks whether the last capacity reprioritization left a work item outside the capacity.
+     * 
+     * @param workItemId the ID of the work item
+     * @return true if the item was planned and did not fit
+     */
+    private boolean isCapacityExcluded(UUID workItemId) {
+        return metadataRepository.findByWorkItemIdAndKey(workItemId, "capacity_included")
+                .filter(meta -> "false".equals(meta.getValue()))
+                .isPresent();
+    }
+    
     /**
      * Get the story points for a work item, defaulting to 1 if not specified.
      * 
@@ -8,14 +8,15 @@
 
 package org.rinna.adapter.service;
 
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import org.rinna.domain.model.DefaultRelease;
 import org.rinna.domain.model.Release;
@@ -132,57 +133,48 @@ public class DefaultReleaseService implements ReleaseService {
             throw new IllegalArgumentException("Work item with ID " + workItemId + " does not exist");
         }
         
-        Release release = findReleaseById(releaseId);
+        verifyReleaseExists(releaseId);
+        releaseRepository.addWorkItems(releaseId, List.of(workItemId));
+    }
+    
+    @Override
+    public int addWorkItems(UUID releaseId, Collection<UUID> workItemIds) {
+        verifyReleaseExists(releaseId);
         
-        // Create a new release with the work item added
-        List<UUID> workItems = new ArrayList<>(release.getWorkItems());
-        if (!workItems.contains(workItemId)) {
-            workItems.add(workItemId);
+        // Verify all work items exist with a single lookup
+        Set<UUID> requested = new LinkedHashSet<>(workItemIds);
+        for (WorkItem item : itemService.findAllById(requested)) {
+            requested.remove(item.getId());
+        }
+        if (!requested.isEmpty()) {
+            throw new IllegalArgumentException("Work items with IDs " + requested + " do not exist");
         }
         
-        DefaultRelease.Builder builder = new DefaultRelease.Builder()
-                .id(release.getId())
-                .version(release.getVersion())
-                .description(release.getDescription())
-                .createdAt(release.getCreatedAt())
-                .workItems(workItems);
-        
-        releaseRepository.save(builder.build());
+        return releaseRepository.addWorkItems(releaseId, workItemIds);
     }
     
     @Override
     public void removeWorkItem(UUID releaseId, UUID workItemId) {
-        Release release = findReleaseById(releaseId);
-        
-        // Create a new release with the work item removed
-        List<UUID> workItems = new ArrayList<>(release.getWorkItems());
-        workItems.remove(workItemId);
-        
-        DefaultRelease.Builder builder = new DefaultRelease.Builder()
-                .id(release.getId())
-                .version(release.getVersion())
-                .description(release.getDescription())
-                .createdAt(release.getCreatedAt())
-                .workItems(workItems);
-        
-        releaseRepository.save(builder.build());
+        verifyReleaseExists(releaseId);
+        releaseRepository.removeWorkItems(releaseId, List.of(workItemId));
+    }
+    
+    @Override
+    public int removeWorkItems(UUID releaseId, Collection<UUID> workItemIds) {
+        verifyReleaseExists(releaseId);
+        return releaseRepository.removeWorkItems(releaseId, workItemIds);
     }
     
     @Override
     public boolean containsWorkItem(UUID releaseId, UUID workItemId) {
-        Release release = findReleaseById(releaseId);
-        return release.getWorkItems().contains(workItemId);
+        verifyReleaseExists(releaseId);
+        return releaseRepository.containsWorkItem(releaseId, workItemId);
     }
     
     @Override
     public List<WorkItem> getWorkItems(UUID releaseId) {
-        Release release = findReleaseById(releaseId);
-        
-        return release.getWorkItems().stream()
-                .map(itemService::findById)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
+        verifyReleaseExists(releaseId);
+        return itemService.findAllById(releaseRepository.findWorkItemIds(releaseId));
     }
     
     @Override
@@ -205,6 +197,12 @@ public class DefaultReleaseService implements ReleaseService {
                 .orElseThrow(() -> new IllegalArgumentException("Release with ID " + releaseId + " does not exist"));
     }
     
+    private void verifyReleaseExists(UUID releaseId) {
+        if (!releaseRepository.existsById(releaseId)) {
+            throw new IllegalArgumentException("Release with ID " + releaseId + " does not exist");
+        }
+    }
+    
     private void validateVersionFormat(String version) {
         if (version == null || version.isEmpty()) {
             throw new IllegalArgumentException("Version cannot be null or empty");
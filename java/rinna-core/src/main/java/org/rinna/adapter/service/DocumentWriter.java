@@ -0,0 +1,326 @@
+/*
+ * Service implementation for the Rinna workflow management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.adapter.service;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts.FontName;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.apache.poi.xwpf.usermodel.XWPFRun;
+import org.rinna.usecase.DocumentService.Format;
+
+/**
+ * Renders Markdown-like document content into PDF, DOCX or HTML as it is written.
+ * <p>
+ * Content is written in pieces and split into lines as it arrives, so a document
+ * with thousands of sections never has to be held as one string. Each complete line
+ * is rendered straight away: PDF lines go onto the current page and a new page is
+ * started when it is full, DOCX lines become paragraphs and HTML lines are written
+ * to the output stream. The lines are the same as splitting the whole content on
+ * newlines, including dropping trailing blank lines.
+ * </p>
+ * <p>
+ * Call {@link #finish()} once all content is written to complete the document, then
+ * close the writer. The output stream is flushed but not closed.
+ * </p>
+ */
+abstract class DocumentWriter implements Closeable {
+
+    private final StringBuilder partialLine = new StringBuilder();
+    private int pendingBlankLines;
+
+    /**
+     * Opens a writer for the given format.
+     *
+     * @param format the output format
+     * @param output the stream the finished document is written to
+     * @return the document writer
+     * @throws IOException if the document cannot be created
+     */
+    static DocumentWriter open(Format format, OutputStream output) throws IOException {
+        return switch (format) {
+            case PDF -> new PdfWriter(output);
+            case DOCX -> new DocxWriter(output);
+            case HTML -> new HtmlWriter(output);
+        };
+    }
+
+    /**
+     * Writes content. A line is rendered once its newline has been written.
+     *
+     * @param content the content to write
+     * @throws IOException if the content cannot be rendered
+     */
+    void write(CharSequence content) throws IOException {
+        int start = 0;
+        for (int i = 0; i < content.length(); i++) {
+            if (content.charAt(i) == '\n') {
+                partialLine.append(content, start, i);
+                completeLine(partialLine.toString());
+                partialLine.setLength(0);
+                start = i + 1;
+            }
+        }
+        partialLine.append(content, start, content.length());
+    }
+
+    /**
+     * Renders the last line and completes the document.
+     *
+     * @throws IOException if the document cannot be written
+     */
+    void finish() throws IOException {
+        if (partialLine.length() > 0) {
+            completeLine(partialLine.toString());
+            partialLine.setLength(0);
+        }
+        // Trailing blank lines are dropped, as String.split does
+        pendingBlankLines = 0;
+        finishDocument();
+    }
+
+    private void completeLine(String line) throws IOException {
+        // Hold blank lines back until a non-blank line shows they are not trailing
+        if (line.isEmpty()) {
+            pendingBlankLines++;
+            return;
+        }
+        for (; pendingBlankLines > 0; pendingBlankLines--) {
+            writeLine("");
+        }
+        writeLine(line);
+    }
+
+    /**
+     * Renders one line of content.
+     *
+     * @param line the line, without its newline
+     * @throws IOException if the line cannot be rendered
+     */
+    protected abstract void writeLine(String line) throws IOException;
+
+    /**
+     * Completes the document and writes it to the output.
+     *
+     * @throws IOException if the document cannot be written
+     */
+    protected abstract void finishDocument() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        // Nothing to release by default
+    }
+
+    /**
+     * Writes lines onto PDF pages with PDFBox. Page content streams are kept in a
+     * scratch buffer that spills to a temporary file, so large documents are not
+     * held in memory until they are saved.
+     */
+    private static final class PdfWriter extends DocumentWriter {
+        private static final long MAX_MAIN_MEMORY_BYTES = 8L * 1024 * 1024;
+        private static final float LEFT_MARGIN = 50;
+        private static final float TOP = 700;
+        private static final float BOTTOM_MARGIN = 50;
+        private static final float LEADING = 14;
+
+        private final OutputStream output;
+        private final PDDocument document;
+        private final PDType1Font font = new PDType1Font(FontName.TIMES_ROMAN);
+        private PDPageContentStream contentStream;
+        private float y;
+
+        PdfWriter(OutputStream output) {
+            this.output = output;
+            this.document = new PDDocument(MemoryUsageSetting.setupMixed(MAX_MAIN_MEMORY_BYTES).streamCache);
+        }
+
+        @Override
+        protected void writeLine(String line) throws IOException {
+            if (contentStream == null || y - LEADING < BOTTOM_MARGIN) {
+                newPage();
+            }
+
+            // Handle headers with different font sizes
+            if (line.startsWith("# ")) {
+                contentStream.setFont(font, 16);
+                contentStream.showText(line.substring(2));
+            } else if (line.startsWith("## ")) {
+                contentStream.setFont(font, 14);
+                contentStream.showText(line.substring(3));
+            } else {
+                contentStream.setFont(font, 12);
+                contentStream.showText(line);
+            }
+
+            contentStream.newLineAtOffset(0, -LEADING);
+            y -= LEADING;
+        }
+
+        private void newPage() throws IOException {
+            closePage();
+
+            PDPage page = new PDPage();
+            document.addPage(page);
+            contentStream = new PDPageContentStream(document, page);
+            contentStream.beginText();
+            contentStream.setFont(font, 12);
+            contentStream.newLineAtOffset(LEFT_MARGIN, TOP);
+            y = TOP;
+        }
+
+        private void closePage() throws IOException {
+            if (contentStream != null) {
+                contentStream.endText();
+                contentStream.close();
+                contentStream = null;
+            }
+        }
+
+        @Override
+        protected void finishDocument() throws IOException {
+            if (document.getNumberOfPages() == 0) {
+                newPage();
+            }
+            closePage();
+            document.save(output);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                closePage();
+            } finally {
+                document.close();
+            }
+        }
+    }
+
+    /**
+     * Writes each line as a paragraph of a Word document with Apache POI.
+     */
+    private static final class DocxWriter extends DocumentWriter {
+        private final OutputStream output;
+        private final XWPFDocument document = new XWPFDocument();
+
+        DocxWriter(OutputStream output) {
+            this.output = output;
+        }
+
+        @Override
+        protected void writeLine(String line) {
+            XWPFParagraph paragraph = document.createParagraph();
+            XWPFRun run = paragraph.createRun();
+
+            // Handle headers with larger font
+            if (line.startsWith("# ")) {
+                run.setBold(true);
+                run.setFontSize(16);
+                run.setText(line.substring(2));
+            } else if (line.startsWith("## ")) {
+                run.setBold(true);
+                run.setFontSize(14);
+                run.setText(line.substring(3));
+            } else {
+                run.setFontSize(12);
+                run.setText(line);
+            }
+        }
+
+        @Override
+        protected void finishDocument() throws IOException {
+            document.write(output);
+        }
+
+        @Override
+        public void close() throws IOException {
+            document.close();
+        }
+    }
+
+    /**
+     * Converts lines to HTML markup and writes them straight to the output.
+     */
+    private static final class HtmlWriter extends DocumentWriter {
+        private static final String HEADER = """
+                <!DOCTYPE html>
+                <html>
+                <head>
+                    <meta charset="UTF-8">
+                    <title>Document</title>
+                    <style>
+                        body { font-family: Arial, sans-serif; margin: 40px; }
+                        h1 { font-size: 24px; color: #333; }
+                        h2 { font-size: 20px; color: #555; }
+                        p { font-size: 16px; line-height: 1.5; }
+                    </style>
+                </head>
+                <body>
+                """;
+
+        private final Writer html;
+        private boolean inParagraph;
+
+        HtmlWriter(OutputStream output) throws IOException {
+            this.html = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            html.write(HEADER);
+        }
+
+        @Override
+        protected void writeLine(String line) throws IOException {
+            if (line.isBlank()) {
+                closeParagraph();
+                return;
+            }
+
+            if (line.startsWith("# ")) {
+                closeParagraph();
+                html.append("<h1>").append(line.substring(2)).append("</h1>\n");
+            } else if (line.startsWith("## ")) {
+                closeParagraph();
+                html.append("<h2>").append(line.substring(3)).append("</h2>\n");
+            } else if (line.startsWith("- ")) {
+                closeParagraph();
+                html.append("<p>• ").append(line.substring(2)).append("</p>\n");
+            } else {
+                if (!inParagraph) {
+                    html.append("<p>");
+                    inParagraph = true;
+                }
+                html.append(line).append("<br>\n");
+            }
+        }
+
+        private void closeParagraph() throws IOException {
+            if (inParagraph) {
+                html.append("</p>\n");
+                inParagraph = false;
+            }
+        }
+
+        @Override
+        protected void finishDocument() throws IOException {
+            closeParagraph();
+            html.append("</body></html>");
+            // Flush without closing, the caller owns the output stream
+            html.flush();
+        }
+    }
+}
@@ -10,6 +10,7 @@ package org.rinna.domain.model;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -133,7 +134,7 @@ public final class DefaultRelease implements Release {
          * @param workItems the work items
          * @return this builder
          */
-        public Builder workItems(List<UUID> workItems) {
+        public Builder workItems(Collection<UUID> workItems) {
             this.workItems.clear();
             if (workItems != null) {
                 this.workItems.addAll(workItems);
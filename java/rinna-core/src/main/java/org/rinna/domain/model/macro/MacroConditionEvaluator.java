@@ -15,8 +15,9 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
+
+import org.rinna.domain.model.search.PatternCache;
+import org.rinna.domain.model.search.TextPattern;
 
 /**
  * Evaluator for MacroConditions that handles regex pattern matching with safety mechanisms
@@ -24,7 +25,7 @@ import java.util.regex.PatternSyntaxException;
  * <p>
  * This evaluator implements safeguards against problematic regex patterns by:
  * <ul>
- *   <li>Validating regex patterns before use</li>
+ *   <li>Validating regex patterns before use, once per pattern through the shared {@link PatternCache}</li>
  *   <li>Enforcing size limits on patterns and input text</li>
  *   <li>Using timeouts to prevent excessive processing time</li>
  *   <li>Executing potentially dangerous patterns in separate threads for isolation</li>
@@ -151,42 +152,16 @@ public class MacroConditionEvaluator {
                 "Input string is null or exceeds maximum length of " + MAX_INPUT_LENGTH + " characters");
         }
         
-        // Basic validation of common "evil" patterns before even trying to compile
-        validatePatternSafety(patternString);
+        // Compile the pattern, or reuse it; unsafe and invalid patterns are rejected by the cache
+        final TextPattern pattern = PatternCache.shared().regex(patternString, 0);
         
-        // Compile the pattern
-        final Pattern pattern;
-        try {
-            pattern = Pattern.compile(patternString);
-        } catch (PatternSyntaxException e) {
-            throw new IllegalArgumentException("Invalid regex pattern: " + e.getMessage());
+        // Literal patterns run in linear time and need no timeout
+        if (pattern.isLiteral()) {
+            return pattern.find(input);
         }
         
         // Run the pattern matching with a timeout
-        return executeWithTimeout(() -> pattern.matcher(input).find(), DEFAULT_TIMEOUT_MS);
-    }
-    
-    /**
-     * Validates a regex pattern for known problematic patterns that could lead to ReDoS.
-     *
-     * @param patternString the pattern to validate
-     * @throws IllegalArgumentException if the pattern contains potentially dangerous constructs
-     */
-    private static void validatePatternSafety(String patternString) {
-        // Naive check for nested repetition constructs like (a+)+
-        if (patternString.matches(".*\\([^)]*[+*]\\)[+*].*")) {
-            throw new IllegalArgumentException("Pattern contains potentially unsafe nested repetition");
-        }
-        
-        // Check for evil patterns like (a|a?)+
-        if (patternString.matches(".*\\([^)]*\\|[^)]*\\?\\)[+*].*")) {
-            throw new IllegalArgumentException("Pattern contains potentially unsafe alternation with optional elements");
-        }
-        
-        // Check for backreferences with quantifiers
-        if (patternString.matches(".*\\\\\\d[+*].*")) {
-            throw new IllegalArgumentException("Pattern contains backreferences with quantifiers");
-        }
+        return executeWithTimeout(() -> pattern.find(input), DEFAULT_TIMEOUT_MS);
     }
     
     /**
@@ -0,0 +1,121 @@
+/*
+ * Domain service for the Rinna workflow management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.domain.model.search;
+
+import java.util.Arrays;
+
+/**
+ * Finds a literal string in text with the Boyer-Moore-Horspool algorithm.
+ * <p>
+ * Matches are the same as those of the quoted pattern {@code \Q...\E}, or of
+ * {@code \b\Q...\E\b} for whole-word matching, compiled with the same case flags.
+ * Without Unicode case folding only ASCII letters match case-insensitively, as in
+ * {@link java.util.regex.Pattern#CASE_INSENSITIVE}. Word characters are
+ * {@code [a-zA-Z0-9_]}, as for {@code \b}. Instances are immutable and thread-safe.
+ */
+final class LiteralMatcher {
+
+    private final char[] needle;
+    private final boolean caseInsensitive;
+    private final boolean unicodeCase;
+    private final boolean wholeWord;
+    private final int[] shift = new int[256];
+
+    /**
+     * Creates a matcher for a literal.
+     *
+     * @param literal the literal to find
+     * @param caseInsensitive true to ignore case
+     * @param unicodeCase true to fold the case of all letters rather than only ASCII letters
+     * @param wholeWord true to only match at word boundaries
+     */
+    LiteralMatcher(String literal, boolean caseInsensitive, boolean unicodeCase, boolean wholeWord) {
+        this.caseInsensitive = caseInsensitive;
+        this.unicodeCase = unicodeCase;
+        this.wholeWord = wholeWord;
+        this.needle = new char[literal.length()];
+        for (int i = 0; i < needle.length; i++) {
+            needle[i] = fold(literal.charAt(i));
+        }
+
+        // Characters that share a table slot keep the smallest shift, which is always safe
+        Arrays.fill(shift, Math.max(needle.length, 1));
+        for (int i = 0; i < needle.length - 1; i++) {
+            shift[needle[i] & 0xFF] = needle.length - 1 - i;
+        }
+    }
+
+    /**
+     * Gets the length of every match.
+     *
+     * @return the length of the literal
+     */
+    int length() {
+        return needle.length;
+    }
+
+    /**
+     * Finds the first match that starts at or after a position.
+     *
+     * @param text the text to search
+     * @param from the position to start from
+     * @return the start of the match, or -1 if there is none
+     */
+    int indexOf(CharSequence text, int from) {
+        int length = needle.length;
+        int limit = text.length() - length;
+        int last = length - 1;
+        int position = Math.max(from, 0);
+
+        if (length == 0) {
+            for (; position <= text.length(); position++) {
+                if (!wholeWord || isBoundary(text, position)) {
+                    return position;
+                }
+            }
+            return -1;
+        }
+
+        while (position <= limit) {
+            char c = fold(text.charAt(position + last));
+            if (c == needle[last]) {
+                int i = last - 1;
+                while (i >= 0 && fold(text.charAt(position + i)) == needle[i]) {
+                    i--;
+                }
+                if (i < 0 && (!wholeWord
+                        || (isBoundary(text, position) && isBoundary(text, position + length)))) {
+                    return position;
+                }
+            }
+            position += shift[c & 0xFF];
+        }
+        return -1;
+    }
+
+    private char fold(char c) {
+        if (!caseInsensitive) {
+            return c;
+        }
+        if (unicodeCase) {
+            return Character.toLowerCase(Character.toUpperCase(c));
+        }
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static boolean isBoundary(CharSequence text, int position) {
+        boolean before = position > 0 && isWordChar(text.charAt(position - 1));
+        boolean after = position < text.length() && isWordChar(text.charAt(position));
+        return before != after;
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Domain service for the Rinna workflow management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.domain.model.search;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * A bounded cache of compiled search patterns shared by the search, query, grep
+ * and macro paths.
+ * <p>
+ * Entries are keyed by the pattern, its flags and whether it must match whole
+ * words, and the least recently used entry is evicted once the cache is full.
+ * Regular expressions are checked for constructs that are prone to catastrophic
+ * backtracking when they are first seen, and the outcome of that check is cached
+ * with the pattern, so a rejected pattern is rejected again without being
+ * re-analyzed. Literal patterns, and regular expressions without metacharacters,
+ * are matched with a Boyer-Moore-Horspool search instead of the regex engine.
+ * <p>
+ * All methods are thread-safe.
+ */
+public final class PatternCache {
+
+    /** Number of patterns kept by the shared cache. */
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    private static final PatternCache SHARED = new PatternCache(DEFAULT_MAXIMUM_SIZE);
+
+    // Flags that a literal match honors; any other flag needs the regex engine
+    private static final int CASE_FLAGS = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+    private static final String METACHARACTERS = "\\^$.|?*+()[]{}";
+
+    // Constructs prone to catastrophic backtracking
+    private static final Pattern NESTED_REPETITION = Pattern.compile(".*\\([^)]*[+*]\\)[+*].*");
+    private static final Pattern OPTIONAL_ALTERNATION = Pattern.compile(".*\\([^)]*\\|[^)]*\\?\\)[+*].*");
+    private static final Pattern REPEATED_BACKREFERENCE = Pattern.compile(".*\\\\\\d[+*].*");
+
+    private final int maximumSize;
+    private final Map<Key, Entry> entries;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates a cache.
+     *
+     * @param maximumSize the largest number of patterns to keep
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public PatternCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > PatternCache.this.maximumSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets the cache shared by the application.
+     *
+     * @return the shared cache
+     */
+    public static PatternCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Gets a pattern that matches a literal string.
+     *
+     * @param literal the string to find
+     * @param flags the {@link Pattern} flags; only {@link Pattern#CASE_INSENSITIVE}
+     *              and {@link Pattern#UNICODE_CASE} apply
+     * @param exactMatch true to only match whole words
+     * @return the compiled pattern
+     */
+    public TextPattern literal(String literal, int flags, boolean exactMatch) {
+        return get(new Key(literal, flags & CASE_FLAGS, exactMatch, true));
+    }
+
+    /**
+     * Gets a pattern that matches a regular expression.
+     *
+     * @param regex the regular expression
+     * @param flags the {@link Pattern} flags
+     * @return the compiled pattern
+     * @throws IllegalArgumentException if the regular expression is invalid or
+     *                                  contains constructs prone to catastrophic backtracking
+     */
+    public TextPattern regex(String regex, int flags) {
+        return get(new Key(regex, flags, false, false));
+    }
+
+    /**
+     * Gets the hit and miss counts of the cache.
+     *
+     * @return the current statistics
+     */
+    public synchronized Statistics statistics() {
+        return new Statistics(hits, misses, evictions, entries.size());
+    }
+
+    /**
+     * Removes every pattern from the cache. The statistics are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * A snapshot of the cache statistics.
+     *
+     * @param hits the number of lookups answered from the cache
+     * @param misses the number of lookups that compiled a pattern
+     * @param evictions the number of patterns evicted to respect the size bound
+     * @param size the number of patterns in the cache
+     */
+    public record Statistics(long hits, long misses, long evictions, int size) {
+        /**
+         * Gets the fraction of lookups answered from the cache.
+         *
+         * @return the hit rate between 0 and 1, or 0 before the first lookup
+         */
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+    }
+
+    private TextPattern get(Key key) {
+        if (key.pattern() == null) {
+            throw new IllegalArgumentException("Pattern cannot be null");
+        }
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null) {
+                hits++;
+            } else {
+                misses++;
+            }
+        }
+        if (entry == null) {
+            // Compile outside the lock; a concurrent miss on the same key keeps the first entry
+            Entry compiled = compile(key);
+            synchronized (this) {
+                entry = entries.putIfAbsent(key, compiled);
+                if (entry == null) {
+                    entry = compiled;
+                }
+            }
+        }
+        if (entry.problem() != null) {
+            throw new IllegalArgumentException(entry.problem());
+        }
+        return entry.pattern();
+    }
+
+    private static Entry compile(Key key) {
+        String source = key.pattern();
+        int flags = key.flags();
+        if (key.literal() || ((flags & ~CASE_FLAGS) == 0 && !hasMetacharacters(source))) {
+            boolean caseInsensitive = (flags & Pattern.CASE_INSENSITIVE) != 0;
+            boolean unicodeCase = (flags & Pattern.UNICODE_CASE) != 0;
+            LiteralMatcher matcher = new LiteralMatcher(source, caseInsensitive, unicodeCase, key.exactMatch());
+            return new Entry(TextPattern.literal(source, matcher), null);
+        }
+
+        String problem = findBacktrackingRisk(source);
+        if (problem != null) {
+            return new Entry(null, problem);
+        }
+        try {
+            return new Entry(TextPattern.regex(source, Pattern.compile(source, flags)), null);
+        } catch (PatternSyntaxException e) {
+            return new Entry(null, "Invalid regex pattern: " + e.getMessage());
+        }
+    }
+
+    private static boolean hasMetacharacters(String source) {
+        for (int i = 0; i < source.length(); i++) {
+            if (METACHARACTERS.indexOf(source.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks a regular expression for known constructs that can lead to ReDoS.
+     *
+     * @param regex the regular expression
+     * @return why the expression is unsafe, or null if no such construct was found
+     */
+    private static String findBacktrackingRisk(String regex) {
+        // Naive check for nested repetition constructs like (a+)+
+        if (NESTED_REPETITION.matcher(regex).matches()) {
+            return "Pattern contains potentially unsafe nested repetition";
+        }
+
+        // Check for evil patterns like (a|a?)+
+        if (OPTIONAL_ALTERNATION.matcher(regex).matches()) {
+            return "Pattern contains potentially unsafe alternation with optional elements";
+        }
+
+        // Check for backreferences with quantifiers
+        if (REPEATED_BACKREFERENCE.matcher(regex).matches()) {
+            return "Pattern contains backreferences with quantifiers";
+        }
+        return null;
+    }
+
+    private record Key(String pattern, int flags, boolean exactMatch, boolean literal) {
+    }
+
+    /**
+     * A cached pattern, or the reason it cannot be used.
+     */
+    private record Entry(TextPattern pattern, String problem) {
+    }
+}
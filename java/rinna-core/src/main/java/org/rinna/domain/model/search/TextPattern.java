@@ -0,0 +1,121 @@
+/*
+ * Domain service for the Rinna workflow management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.domain.model.search;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A compiled search pattern obtained from a {@link PatternCache}.
+ * <p>
+ * Literal patterns are matched with a Boyer-Moore-Horspool search and never run
+ * the regex engine; other patterns are matched with a compiled {@link Pattern}.
+ * Instances are immutable and can be shared between threads.
+ */
+public final class TextPattern {
+
+    /**
+     * Receives the bounds of each match.
+     */
+    @FunctionalInterface
+    public interface MatchConsumer {
+        /**
+         * Accepts a match.
+         *
+         * @param start the start of the match
+         * @param end the end of the match, exclusive
+         */
+        void accept(int start, int end);
+    }
+
+    private final String source;
+    private final LiteralMatcher literal;
+    private final Pattern regex;
+
+    private TextPattern(String source, LiteralMatcher literal, Pattern regex) {
+        this.source = source;
+        this.literal = literal;
+        this.regex = regex;
+    }
+
+    static TextPattern literal(String source, LiteralMatcher matcher) {
+        return new TextPattern(source, matcher, null);
+    }
+
+    static TextPattern regex(String source, Pattern pattern) {
+        return new TextPattern(source, null, pattern);
+    }
+
+    /**
+     * Gets the pattern as it was given to the cache.
+     *
+     * @return the pattern source
+     */
+    public String source() {
+        return source;
+    }
+
+    /**
+     * Checks whether the pattern is matched as a literal, without the regex engine.
+     *
+     * @return true if the pattern is matched as a literal
+     */
+    public boolean isLiteral() {
+        return literal != null;
+    }
+
+    /**
+     * Checks whether the pattern matches anywhere in a text.
+     *
+     * @param text the text to search
+     * @return true if there is a match
+     */
+    public boolean find(CharSequence text) {
+        return indexOf(text) >= 0;
+    }
+
+    /**
+     * Finds the start of the first match in a text.
+     *
+     * @param text the text to search
+     * @return the start of the first match, or -1 if there is none
+     */
+    public int indexOf(CharSequence text) {
+        if (literal != null) {
+            return literal.indexOf(text, 0);
+        }
+        Matcher matcher = regex.matcher(text);
+        return matcher.find() ? matcher.start() : -1;
+    }
+
+    /**
+     * Passes every match in a text to a consumer, in order and without overlaps,
+     * as successive calls to {@link Matcher#find()} would find them.
+     *
+     * @param text the text to search
+     * @param consumer the consumer of the matches
+     */
+    public void forEachMatch(CharSequence text, MatchConsumer consumer) {
+        if (literal == null) {
+            Matcher matcher = regex.matcher(text);
+            while (matcher.find()) {
+                consumer.accept(matcher.start(), matcher.end());
+            }
+            return;
+        }
+        int length = literal.length();
+        int from = 0;
+        int start;
+        while (from <= text.length() && (start = literal.indexOf(text, from)) >= 0) {
+            consumer.accept(start, start + length);
+            // An empty match moves on by one character, as Matcher.find() does
+            from = length > 0 ? start + length : start + 1;
+        }
+    }
+}
@@ -8,6 +8,7 @@
 
 package org.rinna.domain.repository;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -84,4 +85,60 @@ public interface BacklogRepository {
      * @return true if the item was moved successfully
      */
     boolean moveInBacklog(UUID workItemId, int position, String username);
-}
\ No newline at end of file
+    
+    /**
+     * Gets the number of work items in the current user's backlog.
+     *
+     * @return the backlog size
+     */
+    default int getBacklogSize() {
+        return getBacklog().size();
+    }
+    
+    /**
+     * Gets the number of work items in a user's backlog.
+     *
+     * @param username the username
+     * @return the backlog size
+     */
+    default int getBacklogSize(String username) {
+        return getBacklog(username).size();
+    }
+    
+    /**
+     * Gets the position of a work item in the current user's backlog.
+     *
+     * @param workItemId the ID of the work item
+     * @return the 0-based position, or -1 if the item is not in the backlog
+     */
+    default int getBacklogPosition(UUID workItemId) {
+        return getBacklog().indexOf(workItemId);
+    }
+    
+    /**
+     * Gets the position of a work item in a user's backlog.
+     *
+     * @param workItemId the ID of the work item
+     * @param username the username
+     * @return the 0-based position, or -1 if the item is not in the backlog
+     */
+    default int getBacklogPosition(UUID workItemId, String username) {
+        return getBacklog(username).indexOf(workItemId);
+    }
+    
+    /**
+     * Gets one page of a user's backlog without reading the rest of it.
+     * The default implementation reads the whole backlog; ranked implementations override it.
+     *
+     * @param username the username
+     * @param offset the position of the first work item to return
+     * @param limit the maximum number of work items to return
+     * @return the work item IDs on the page, in priority order
+     */
+    default List<UUID> getBacklogPage(String username, int offset, int limit) {
+        List<UUID> backlog = getBacklog(username);
+        int from = Math.min(Math.max(0, offset), backlog.size());
+        int to = Math.min(backlog.size(), from + Math.max(0, limit));
+        return new ArrayList<>(backlog.subList(from, to));
+    }
+}
@@ -8,6 +8,8 @@
 
 package org.rinna.domain.repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -46,6 +48,23 @@ public interface ItemRepository {
      */
     Optional<WorkItem> findById(UUID id);
     
+    /**
+     * Finds the work items with the given IDs.
+     * IDs that do not exist are skipped; the result follows the order of the IDs.
+     * The default implementation looks the items up one at a time; implementations
+     * backed by a database should override it to fetch the items in a few queries.
+     * 
+     * @param ids the IDs of the work items
+     * @return the work items that were found
+     */
+    default List<WorkItem> findAllById(Collection<UUID> ids) {
+        List<WorkItem> result = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            findById(id).ifPresent(result::add);
+        }
+        return result;
+    }
+    
     /**
      * Finds all work items.
      * 
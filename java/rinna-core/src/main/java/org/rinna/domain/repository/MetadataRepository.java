@@ -8,10 +8,14 @@
 
 package org.rinna.domain.repository;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.rinna.domain.model.WorkItemMetadata;
 
@@ -63,6 +67,70 @@ public interface MetadataRepository {
      */
     Map<String, String> getMetadataMap(UUID workItemId);
     
+    /**
+     * Returns the metadata of several work items as key-value maps.
+     * Work items without metadata are left out of the result.
+     * The default implementation reads the work items one at a time.
+     *
+     * @param workItemIds the IDs of the work items
+     * @return a map from work item ID to its metadata keys and values
+     */
+    default Map<UUID, Map<String, String>> getMetadataMaps(Collection<UUID> workItemIds) {
+        Map<UUID, Map<String, String>> result = new HashMap<>();
+        for (UUID workItemId : workItemIds) {
+            Map<String, String> metadata = getMetadataMap(workItemId);
+            if (!metadata.isEmpty()) {
+                result.put(workItemId, metadata);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Returns selected metadata keys of several work items, one column per key.
+     * Each requested key maps to the values of the work items that have it, so a
+     * caller that filters many work items on a few keys can load them all at once.
+     * Every requested key is present in the result, with an empty column if no
+     * work item has it.
+     *
+     * @param workItemIds the IDs of the work items
+     * @param keys the metadata keys
+     * @return a map from metadata key to a map from work item ID to value
+     */
+    default Map<String, Map<UUID, String>> getMetadataColumns(Collection<UUID> workItemIds,
+            Collection<String> keys) {
+        Map<String, Map<UUID, String>> columns = new HashMap<>();
+        for (String key : keys) {
+            columns.put(key, new HashMap<>());
+        }
+        for (Map.Entry<UUID, Map<String, String>> entry : getMetadataMaps(workItemIds).entrySet()) {
+            for (Map.Entry<String, Map<UUID, String>> column : columns.entrySet()) {
+                String value = entry.getValue().get(column.getKey());
+                if (value != null) {
+                    column.getValue().put(entry.getKey(), value);
+                }
+            }
+        }
+        return columns;
+    }
+    
+    /**
+     * Finds the work items that have metadata with the given key and value.
+     * The default implementation scans all metadata; implementations with an
+     * index over keys and values should override it.
+     *
+     * @param key the metadata key
+     * @param value the metadata value
+     * @return the IDs of the matching work items
+     */
+    default List<UUID> findWorkItemIdsByKeyAndValue(String key, String value) {
+        return findAll().stream()
+                .filter(meta -> meta.getKey().equals(key) && Objects.equals(meta.getValue(), value))
+                .map(WorkItemMetadata::getWorkItemId)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+    
     /**
      * Deletes metadata by its ID.
      *
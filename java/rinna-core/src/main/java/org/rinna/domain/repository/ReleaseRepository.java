@@ -8,10 +8,14 @@
 
 package org.rinna.domain.repository;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import org.rinna.domain.model.DefaultRelease;
 import org.rinna.domain.model.Release;
 
 /**
@@ -56,4 +60,89 @@ public interface ReleaseRepository {
      * @param id the ID of the release to delete
      */
     void deleteById(UUID id);
-}
\ No newline at end of file
+    
+    /**
+     * Checks whether a release exists.
+     *
+     * @param id the ID of the release
+     * @return true if the release exists
+     */
+    default boolean existsById(UUID id) {
+        return findById(id).isPresent();
+    }
+    
+    /**
+     * Finds the IDs of the work items in a release, in the order they were added.
+     *
+     * @param releaseId the ID of the release
+     * @return the work item IDs, or an empty list if the release does not exist
+     */
+    default List<UUID> findWorkItemIds(UUID releaseId) {
+        return findById(releaseId).map(Release::getWorkItems).orElse(List.of());
+    }
+    
+    /**
+     * Checks whether a release contains a work item.
+     *
+     * @param releaseId the ID of the release
+     * @param workItemId the ID of the work item
+     * @return true if the release exists and contains the work item
+     */
+    default boolean containsWorkItem(UUID releaseId, UUID workItemId) {
+        return findWorkItemIds(releaseId).contains(workItemId);
+    }
+    
+    /**
+     * Adds work items to a release. Items already in the release are skipped.
+     * The default implementation rebuilds and saves the release once;
+     * implementations that store membership as a relation override it.
+     *
+     * @param releaseId the ID of the release
+     * @param workItemIds the IDs of the work items to add
+     * @return the number of work items added
+     * @throws IllegalArgumentException if the release does not exist
+     */
+    default int addWorkItems(UUID releaseId, Collection<UUID> workItemIds) {
+        Release release = findById(releaseId)
+                .orElseThrow(() -> new IllegalArgumentException("Release with ID " + releaseId + " does not exist"));
+        Set<UUID> members = new LinkedHashSet<>(release.getWorkItems());
+        int before = members.size();
+        members.addAll(workItemIds);
+        if (members.size() > before) {
+            save(copyWithWorkItems(release, members));
+        }
+        return members.size() - before;
+    }
+    
+    /**
+     * Removes work items from a release. Items not in the release are skipped.
+     * The default implementation rebuilds and saves the release once;
+     * implementations that store membership as a relation override it.
+     *
+     * @param releaseId the ID of the release
+     * @param workItemIds the IDs of the work items to remove
+     * @return the number of work items removed
+     * @throws IllegalArgumentException if the release does not exist
+     */
+    default int removeWorkItems(UUID releaseId, Collection<UUID> workItemIds) {
+        Release release = findById(releaseId)
+                .orElseThrow(() -> new IllegalArgumentException("Release with ID " + releaseId + " does not exist"));
+        Set<UUID> members = new LinkedHashSet<>(release.getWorkItems());
+        int before = members.size();
+        members.removeAll(Set.copyOf(workItemIds));
+        if (members.size() < before) {
+            save(copyWithWorkItems(release, members));
+        }
+        return before - members.size();
+    }
+    
+    private static Release copyWithWorkItems(Release release, Collection<UUID> workItems) {
+        return new DefaultRelease.Builder()
+                .id(release.getId())
+                .version(release.getVersion())
+                .description(release.getDescription())
+                .createdAt(release.getCreatedAt())
+                .workItems(workItems)
+                .build();
+    }
+}
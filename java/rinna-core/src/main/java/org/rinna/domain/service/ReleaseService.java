@@ -8,6 +8,7 @@
 
 package org.rinna.domain.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -85,6 +86,28 @@ public interface ReleaseService {
      */
     void removeWorkItem(UUID releaseId, UUID workItemId);
     
+    /**
+     * Adds several work items to a release in one operation.
+     * Work items already in the release are skipped.
+     *
+     * @param releaseId the ID of the release
+     * @param workItemIds the IDs of the work items to add
+     * @return the number of work items added
+     * @throws IllegalArgumentException if the release or any of the work items does not exist
+     */
+    int addWorkItems(UUID releaseId, Collection<UUID> workItemIds);
+    
+    /**
+     * Removes several work items from a release in one operation.
+     * Work items not in the release are skipped.
+     *
+     * @param releaseId the ID of the release
+     * @param workItemIds the IDs of the work items to remove
+     * @return the number of work items removed
+     * @throws IllegalArgumentException if the release does not exist
+     */
+    int removeWorkItems(UUID releaseId, Collection<UUID> workItemIds);
+    
     /**
      * Checks if a release contains a specific work item.
      *
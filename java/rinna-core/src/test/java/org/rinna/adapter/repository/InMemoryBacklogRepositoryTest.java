@@ -0,0 +1,131 @@
+/*
+ * Test class for the Rinna workflow management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.adapter.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the InMemoryBacklogRepository and its ranked backlog lists.
+ */
+public class InMemoryBacklogRepositoryTest {
+
+    private static final String USER = "alice";
+
+    private InMemoryBacklogRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryBacklogRepository();
+    }
+
+    @Test
+    void testAddRemoveAndPositions() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+
+        assertTrue(repository.addToBacklog(first, USER));
+        assertTrue(repository.addToBacklog(second, USER));
+        assertTrue(repository.addToBacklog(third, USER));
+        assertFalse(repository.addToBacklog(second, USER));
+
+        assertEquals(List.of(first, second, third), repository.getBacklog(USER));
+        assertEquals(3, repository.getBacklogSize(USER));
+        assertEquals(1, repository.getBacklogPosition(second, USER));
+        assertEquals(-1, repository.getBacklogPosition(UUID.randomUUID(), USER));
+
+        assertTrue(repository.removeFromBacklog(second, USER));
+        assertFalse(repository.removeFromBacklog(second, USER));
+        assertEquals(List.of(first, third), repository.getBacklog(USER));
+        assertEquals(1, repository.getBacklogPosition(third, USER));
+    }
+
+    @Test
+    void testMoveClampsPosition() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        repository.addToBacklog(first, USER);
+        repository.addToBacklog(second, USER);
+        repository.addToBacklog(third, USER);
+
+        assertTrue(repository.moveInBacklog(first, 10, USER));
+        assertEquals(List.of(second, third, first), repository.getBacklog(USER));
+
+        assertTrue(repository.moveInBacklog(first, -3, USER));
+        assertEquals(List.of(first, second, third), repository.getBacklog(USER));
+
+        assertFalse(repository.moveInBacklog(UUID.randomUUID(), 0, USER));
+    }
+
+    @Test
+    void testBacklogPage() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            repository.addToBacklog(id, USER);
+        }
+
+        assertEquals(ids.subList(3, 7), repository.getBacklogPage(USER, 3, 4));
+        assertEquals(ids.subList(8, 10), repository.getBacklogPage(USER, 8, 5));
+        assertTrue(repository.getBacklogPage(USER, 12, 5).isEmpty());
+        assertEquals(ids, repository.getBacklogPage(USER, 0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testBacklogsAreSeparatePerUser() {
+        UUID id = UUID.randomUUID();
+        repository.addToBacklog(id, USER);
+
+        assertTrue(repository.getBacklog("bob").isEmpty());
+        assertEquals(-1, repository.getBacklogPosition(id, "bob"));
+        assertTrue(repository.addToBacklog(id, "bob"));
+    }
+
+    @Test
+    void testRandomOperationsMatchList() {
+        Random random = new Random(42);
+        List<UUID> expected = new ArrayList<>();
+
+        for (int step = 0; step < 5000; step++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 || expected.isEmpty()) {
+                UUID id = UUID.randomUUID();
+                expected.add(id);
+                assertTrue(repository.addToBacklog(id, USER));
+            } else if (operation == 1) {
+                UUID id = expected.remove(random.nextInt(expected.size()));
+                assertTrue(repository.removeFromBacklog(id, USER));
+            } else {
+                UUID id = expected.get(random.nextInt(expected.size()));
+                int position = random.nextInt(expected.size());
+                expected.remove(id);
+                expected.add(position, id);
+                assertTrue(repository.moveInBacklog(id, position, USER));
+            }
+
+            if (!expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertEquals(index, repository.getBacklogPosition(expected.get(index), USER));
+            }
+        }
+
+        assertEquals(expected, repository.getBacklog(USER));
+        assertEquals(expected.size(), repository.getBacklogSize(USER));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Test class for the Rinna workflow management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.adapter.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.rinna.domain.model.Priority;
+import org.rinna.domain.model.WorkItem;
+import org.rinna.domain.model.WorkItemCreateRequest;
+import org.rinna.domain.model.WorkItemType;
+
+/**
+ * Test class for the batch lookup of the InMemoryItemRepository.
+ */
+public class InMemoryItemRepositoryTest {
+
+    private InMemoryItemRepository repository;
+    private WorkItem first;
+    private WorkItem second;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryItemRepository();
+        first = repository.create(request("First"));
+        second = repository.create(request("Second"));
+    }
+
+    @Test
+    void testFindAllByIdFollowsTheOrderOfTheIds() {
+        List<WorkItem> items = repository.findAllById(List.of(second.getId(), first.getId()));
+
+        assertEquals(List.of(second, first), items);
+    }
+
+    @Test
+    void testFindAllByIdSkipsUnknownIds() {
+        List<WorkItem> items = repository.findAllById(List.of(UUID.randomUUID(), first.getId()));
+
+        assertEquals(List.of(first), items);
+        assertTrue(repository.findAllById(List.of()).isEmpty());
+    }
+
+    private static WorkItemCreateRequest request(String title) {
+        return new WorkItemCreateRequest.Builder()
+                .title(title)
+                .type(WorkItemType.TASK)
+                .priority(Priority.MEDIUM)
+                .build();
+    }
+}
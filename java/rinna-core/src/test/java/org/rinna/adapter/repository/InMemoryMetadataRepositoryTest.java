@@ -0,0 +1,135 @@
+/*
+ * Test class for the Rinna workflow management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.adapter.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.rinna.domain.model.WorkItemMetadata;
+
+/**
+ * Test class for the InMemoryMetadataRepository and its key and value index.
+ */
+public class InMemoryMetadataRepositoryTest {
+
+    private InMemoryMetadataRepository repository;
+    private UUID workItem1Id;
+    private UUID workItem2Id;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryMetadataRepository();
+        workItem1Id = UUID.randomUUID();
+        workItem2Id = UUID.randomUUID();
+    }
+
+    @Test
+    void testSaveExistingKeyReplacesEntryAndIndex() {
+        WorkItemMetadata first = repository.save(new WorkItemMetadata(workItem1Id, "urgent", "false"));
+        WorkItemMetadata second = repository.save(new WorkItemMetadata(workItem1Id, "urgent", "true"));
+
+        assertTrue(repository.findById(first.getId()).isEmpty());
+        assertEquals(second, repository.findByWorkItemIdAndKey(workItem1Id, "urgent").orElseThrow());
+        assertEquals(1, repository.findAll().size());
+        assertEquals(List.of(workItem1Id), repository.findWorkItemIdsByKeyAndValue("urgent", "true"));
+        assertTrue(repository.findWorkItemIdsByKeyAndValue("urgent", "false").isEmpty());
+    }
+
+    @Test
+    void testFindWorkItemIdsByKeyAndValue() {
+        repository.save(new WorkItemMetadata(workItem1Id, "team", "core"));
+        repository.save(new WorkItemMetadata(workItem2Id, "team", "core"));
+        repository.save(new WorkItemMetadata(workItem2Id, "points", "5"));
+
+        List<UUID> core = repository.findWorkItemIdsByKeyAndValue("team", "core");
+        assertEquals(2, core.size());
+        assertTrue(core.containsAll(List.of(workItem1Id, workItem2Id)));
+        assertEquals(List.of(workItem2Id), repository.findWorkItemIdsByKeyAndValue("points", "5"));
+        assertTrue(repository.findWorkItemIdsByKeyAndValue("team", "web").isEmpty());
+        assertTrue(repository.findWorkItemIdsByKeyAndValue(null, "core").isEmpty());
+    }
+
+    @Test
+    void testDeletesKeepIndexesConsistent() {
+        WorkItemMetadata team = repository.save(new WorkItemMetadata(workItem1Id, "team", "core"));
+        repository.save(new WorkItemMetadata(workItem1Id, "points", "3"));
+        repository.save(new WorkItemMetadata(workItem2Id, "team", "core"));
+
+        assertTrue(repository.deleteById(team.getId()));
+        assertFalse(repository.deleteById(team.getId()));
+        assertEquals(List.of(workItem2Id), repository.findWorkItemIdsByKeyAndValue("team", "core"));
+        assertEquals(Map.of("points", "3"), repository.getMetadataMap(workItem1Id));
+
+        assertEquals(1, repository.deleteByWorkItemId(workItem1Id));
+        assertTrue(repository.findByWorkItemId(workItem1Id).isEmpty());
+        assertTrue(repository.findWorkItemIdsByKeyAndValue("points", "3").isEmpty());
+
+        assertTrue(repository.deleteByWorkItemIdAndKey(workItem2Id, "team"));
+        assertTrue(repository.findAll().isEmpty());
+    }
+
+    @Test
+    void testUpdateMetadataReplacesAllEntries() {
+        repository.save(new WorkItemMetadata(workItem1Id, "team", "core"));
+        repository.save(new WorkItemMetadata(workItem1Id, "points", "3"));
+
+        assertTrue(repository.updateMetadata(workItem1Id, Map.of("points", "8")));
+
+        assertEquals(Map.of("points", "8"), repository.getMetadataMap(workItem1Id));
+        assertTrue(repository.findWorkItemIdsByKeyAndValue("team", "core").isEmpty());
+        assertEquals(List.of(workItem1Id), repository.findWorkItemIdsByKeyAndValue("points", "8"));
+    }
+
+    @Test
+    void testGetMetadataMapsSkipsWorkItemsWithoutMetadata() {
+        repository.save(new WorkItemMetadata(workItem1Id, "team", "core"));
+        repository.save(new WorkItemMetadata(workItem1Id, "points", "3"));
+        repository.save(new WorkItemMetadata(workItem2Id, "team", "docs"));
+
+        Map<UUID, Map<String, String>> maps =
+                repository.getMetadataMaps(List.of(workItem1Id, workItem2Id, UUID.randomUUID()));
+
+        assertEquals(2, maps.size());
+        assertEquals(Map.of("team", "core", "points", "3"), maps.get(workItem1Id));
+        assertEquals(Map.of("team", "docs"), maps.get(workItem2Id));
+    }
+
+    @Test
+    void testConcurrentWritesToTheSameKeyLeaveOneEntry() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                String value = String.valueOf(i % 10);
+                futures.add(executor.submit(() -> repository.save(new WorkItemMetadata(workItem1Id, "points", value))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, repository.findAll().size());
+        String value = repository.getMetadataMap(workItem1Id).get("points");
+        for (int i = 0; i < 10; i++) {
+            List<UUID> expected = String.valueOf(i).equals(value) ? List.of(workItem1Id) : List.of();
+            assertEquals(expected, repository.findWorkItemIdsByKeyAndValue("points", String.valueOf(i)));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Test class for the Rinna workflow management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.adapter.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.rinna.domain.model.DefaultRelease;
+import org.rinna.domain.model.Release;
+
+/**
+ * Test class for the InMemoryReleaseRepository and its release membership sets.
+ */
+public class InMemoryReleaseRepositoryTest {
+
+    private InMemoryReleaseRepository repository;
+    private Release release;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryReleaseRepository();
+        release = repository.save(new DefaultRelease.Builder().version("1.0.0").description("First").build());
+    }
+
+    @Test
+    void testAddWorkItemsSkipsDuplicatesAndKeepsOrder() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        assertEquals(2, repository.addWorkItems(release.getId(), List.of(first, second, first)));
+        assertEquals(0, repository.addWorkItems(release.getId(), List.of(second)));
+
+        assertEquals(List.of(first, second), repository.findWorkItemIds(release.getId()));
+        assertEquals(List.of(first, second), repository.findById(release.getId()).orElseThrow().getWorkItems());
+        assertTrue(repository.containsWorkItem(release.getId(), second));
+    }
+
+    @Test
+    void testRemoveWorkItems() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        repository.addWorkItems(release.getId(), ids);
+
+        assertEquals(2, repository.removeWorkItems(release.getId(), List.of(ids.get(1), ids.get(3), UUID.randomUUID())));
+
+        assertEquals(List.of(ids.get(0), ids.get(2), ids.get(4)), repository.findWorkItemIds(release.getId()));
+        assertFalse(repository.containsWorkItem(release.getId(), ids.get(1)));
+    }
+
+    @Test
+    void testReturnedReleaseIsASnapshot() {
+        UUID first = UUID.randomUUID();
+        Release before = repository.findById(release.getId()).orElseThrow();
+
+        repository.addWorkItems(release.getId(), List.of(first));
+
+        assertTrue(before.getWorkItems().isEmpty());
+        assertEquals(List.of(first), repository.findByVersion("1.0.0").orElseThrow().getWorkItems());
+    }
+
+    @Test
+    void testSaveReplacesMembershipAndUnknownReleaseFails() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        repository.addWorkItems(release.getId(), List.of(first));
+
+        repository.save(new DefaultRelease.Builder()
+                .id(release.getId())
+                .version(release.getVersion())
+                .description("Updated")
+                .workItems(List.of(second))
+                .build());
+
+        assertEquals(List.of(second), repository.findWorkItemIds(release.getId()));
+        assertFalse(repository.containsWorkItem(UUID.randomUUID(), first));
+        assertTrue(repository.findWorkItemIds(UUID.randomUUID()).isEmpty());
+        assertThrows(IllegalArgumentException.class,
+                () -> repository.addWorkItems(UUID.randomUUID(), List.of(first)));
+
+        repository.deleteById(release.getId());
+        assertFalse(repository.existsById(release.getId()));
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Test class for the Rinna workflow management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.adapter.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.rinna.adapter.repository.InMemoryItemRepository;
+import org.rinna.adapter.repository.InMemoryMetadataRepository;
+import org.rinna.adapter.repository.InMemoryQueueRepository;
+import org.rinna.domain.model.Priority;
+import org.rinna.domain.model.WorkItem;
+import org.rinna.domain.model.WorkItemMetadata;
+import org.rinna.domain.repository.MetadataRepository;
+
+/**
+ * Test class for the DefaultQueueService.
+ */
+public class DefaultQueueServiceTest {
+
+    private MetadataRepository metadataRepository;
+    private DefaultQueueService queueService;
+    private UUID queueId;
+
+    @BeforeEach
+    void setUp() {
+        metadataRepository = new InMemoryMetadataRepository();
+        queueService = new DefaultQueueService(new InMemoryQueueRepository(),
+            new DefaultItemService(new InMemoryItemRepository(), metadataRepository), metadataRepository);
+        queueId = queueService.createDefaultQueue().getId();
+    }
+
+    private WorkItem submit(String title, Priority priority, int storyPoints) {
+        WorkItem item = queueService.submitFeatureRequest(title, title, priority);
+        metadataRepository.save(new WorkItemMetadata(item.getId(), "story_points", String.valueOf(storyPoints)));
+        return item;
+    }
+
+    private List<String> titles() {
+        return queueService.getQueueItems(queueId).stream().map(WorkItem::getTitle).toList();
+    }
+
+    @Test
+    void testCapacityReprioritizationPutsItemsOutsideCapacityLast() {
+        submit("high", Priority.HIGH, 3);
+        submit("medium", Priority.MEDIUM, 3);
+        submit("low", Priority.LOW, 1);
+
+        queueService.reprioritizeQueueByCapacity(queueId, 4);
+
+        assertEquals(List.of("high", "low", "medium"), titles());
+    }
+
+    @Test
+    void testItemsEnqueuedAfterCapacityReprioritizationAreOrderedByPriority() {
+        submit("high", Priority.HIGH, 3);
+        submit("medium", Priority.MEDIUM, 3);
+        submit("low", Priority.LOW, 1);
+        queueService.reprioritizeQueueByCapacity(queueId, 4);
+
+        submit("new high", Priority.HIGH, 1);
+
+        // The new item was not part of the capacity plan and is not pushed behind it
+        assertEquals(List.of("high", "new high", "low", "medium"), titles());
+    }
+
+    @Test
+    void testReprioritizeQueueRestoresTheDefaultOrder() {
+        submit("high", Priority.HIGH, 3);
+        submit("medium", Priority.MEDIUM, 3);
+        submit("low", Priority.LOW, 1);
+        queueService.reprioritizeQueueByCapacity(queueId, 4);
+
+        queueService.reprioritizeQueue(queueId);
+
+        assertEquals(List.of("high", "medium", "low"), titles());
+    }
+
+    @Test
+    void testWeightedReprioritizationDoesNotOutliveTheNextReprioritization() {
+        submit("high", Priority.HIGH, 1);
+        WorkItem low = submit("low", Priority.LOW, 1);
+        metadataRepository.save(new WorkItemMetadata(low.getId(), "urgent", "true"));
+
+        queueService.reprioritizeQueueWithWeights(queueId, Map.of("urgent", 100));
+        assertEquals(List.of("low", "high"), titles());
+
+        queueService.reprioritizeQueue(queueId);
+        assertEquals(List.of("high", "low"), titles());
+    }
+
+    @Test
+    void testItemsEnqueuedAfterWeightedReprioritizationUseTheWeights() {
+        submit("high", Priority.HIGH, 1);
+        submit("medium", Priority.MEDIUM, 1);
+        queueService.reprioritizeQueueWithWeights(queueId, Map.of());
+
+        submit("low", Priority.LOW, 1);
+
+        assertEquals(List.of("high", "medium", "low"), titles());
+    }
+
+    @Test
+    void testSetUrgentAfterWeightedReprioritizationUsesTheWeights() {
+        submit("high", Priority.HIGH, 1);
+        WorkItem low = submit("low", Priority.LOW, 1);
+        queueService.reprioritizeQueueWithWeights(queueId, Map.of("urgent", 100));
+        assertEquals(List.of("high", "low"), titles());
+
+        queueService.setUrgent(low.getId(), true);
+        assertEquals(List.of("low", "high"), titles());
+
+        queueService.setUrgent(low.getId(), false);
+        assertEquals(List.of("high", "low"), titles());
+    }
+}
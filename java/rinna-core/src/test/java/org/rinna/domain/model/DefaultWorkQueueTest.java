@@ -0,0 +1,132 @@
+/*
+ * Model class for the Rinna workflow management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.domain.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the heap-ordered DefaultWorkQueue.
+ */
+public class DefaultWorkQueueTest {
+
+    private static final Instant BASE = Instant.parse("2025-01-01T00:00:00Z");
+
+    private DefaultWorkQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new DefaultWorkQueue("Test Queue", "Queue under test");
+    }
+
+    private static WorkItemRecord item(WorkItemType type, Priority priority, int ageSeconds) {
+        Instant created = BASE.plusSeconds(ageSeconds);
+        return new WorkItemRecord(UUID.randomUUID(), type + " " + priority, null, type, WorkflowState.TO_DO,
+            priority, null, created, created, null, null, "PUBLIC", false);
+    }
+
+    @Test
+    void testItemsAreOrderedByPriorityTypeAndAge() {
+        WorkItem lowBug = item(WorkItemType.BUG, Priority.LOW, 0);
+        WorkItem highFeature = item(WorkItemType.FEATURE, Priority.HIGH, 1);
+        WorkItem highBugNew = item(WorkItemType.BUG, Priority.HIGH, 3);
+        WorkItem highBugOld = item(WorkItemType.BUG, Priority.HIGH, 2);
+        for (WorkItem item : List.of(lowBug, highFeature, highBugNew, highBugOld)) {
+            queue.addItem(item);
+        }
+        queue.addItem(lowBug);
+
+        assertEquals(List.of(highBugOld, highBugNew, highFeature, lowBug), queue.getItems());
+        assertEquals(highBugOld, queue.getNextItem().orElseThrow());
+        assertEquals(List.of(highBugOld, highBugNew, lowBug), queue.getItemsByType(WorkItemType.BUG));
+        assertEquals(4, queue.size());
+    }
+
+    @Test
+    void testRemoveAndUpdateKeepHeapOrder() {
+        WorkItemRecord first = item(WorkItemType.BUG, Priority.HIGH, 0);
+        WorkItemRecord second = item(WorkItemType.CHORE, Priority.MEDIUM, 1);
+        WorkItemRecord third = item(WorkItemType.GOAL, Priority.LOW, 2);
+        queue.addItem(first);
+        queue.addItem(second);
+        queue.addItem(third);
+
+        WorkItemRecord lowered = first.withPriority(Priority.LOW);
+        assertTrue(queue.updateItem(lowered));
+        assertEquals(List.of(second, lowered, third), queue.getItems());
+
+        assertTrue(queue.removeItem(second.id()));
+        assertFalse(queue.removeItem(second.id()));
+        assertEquals(lowered, queue.getNextItem().orElseThrow());
+        assertEquals(List.of(lowered, third), queue.getItems());
+        assertFalse(queue.updateItem(second));
+    }
+
+    @Test
+    void testRescoreMovesOnlyTheChangedItem() {
+        Set<UUID> urgent = new HashSet<>();
+        WorkItem high = item(WorkItemType.FEATURE, Priority.HIGH, 0);
+        WorkItem low = item(WorkItemType.FEATURE, Priority.LOW, 1);
+        queue.addItem(high);
+        queue.addItem(low);
+        queue.setScorer(item -> (urgent.contains(item.getId()) ? -100 : 0) + DefaultWorkQueue.PRIORITY_SCORER.score(item));
+
+        urgent.add(low.getId());
+        assertEquals(high, queue.getNextItem().orElseThrow());
+        assertTrue(queue.rescore(low.getId()));
+        assertEquals(List.of(low, high), queue.getItems());
+    }
+
+    @Test
+    void testDrainingMatchesSortedOrder() {
+        Random random = new Random(42);
+        List<WorkItem> items = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            WorkItem item = item(WorkItemType.values()[random.nextInt(WorkItemType.values().length)],
+                Priority.values()[random.nextInt(Priority.values().length)], random.nextInt(500));
+            items.add(item);
+            queue.addItem(item);
+        }
+        // Remove a random third of the items from the middle of the heap
+        for (int i = 0; i < items.size(); i += 3) {
+            assertTrue(queue.removeItem(items.get(i).getId()));
+        }
+        List<WorkItem> remaining = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (i % 3 != 0) {
+                remaining.add(items.get(i));
+            }
+        }
+
+        List<WorkItem> expected = new ArrayList<>(remaining);
+        expected.sort(Comparator.comparingLong(DefaultWorkQueue.PRIORITY_SCORER::score)
+            .thenComparing(WorkItem::getCreatedAt)
+            .thenComparingInt(remaining::indexOf));
+        assertEquals(expected, queue.getItems());
+
+        List<WorkItem> drained = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            WorkItem next = queue.getNextItem().orElseThrow();
+            drained.add(next);
+            queue.removeItem(next.getId());
+        }
+        assertEquals(expected, drained);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Test class for the Rinna workflow management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.domain.model.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the PatternCache and its literal matcher.
+ */
+public class PatternCacheTest {
+
+    @Test
+    void testLiteralMatchesTheQuotedRegex() {
+        PatternCache cache = new PatternCache(16);
+        Random random = new Random(11);
+        String alphabet = "abAB_ -1";
+        for (int round = 0; round < 2000; round++) {
+            String text = randomText(random, alphabet, random.nextInt(40));
+            String literal = randomText(random, alphabet, 1 + random.nextInt(3));
+            boolean caseSensitive = random.nextBoolean();
+            boolean exactMatch = random.nextBoolean();
+
+            int flags = caseSensitive ? 0 : Pattern.CASE_INSENSITIVE;
+            String regex = exactMatch ? "\\b" + Pattern.quote(literal) + "\\b" : Pattern.quote(literal);
+            TextPattern pattern = cache.literal(literal, flags, exactMatch);
+
+            assertTrue(pattern.isLiteral());
+            assertEquals(regexMatches(Pattern.compile(regex, flags), text), literalMatches(pattern, text),
+                "Matches of '" + literal + "' in '" + text + "'");
+        }
+    }
+
+    @Test
+    void testRegexWithoutMetacharactersIsMatchedAsALiteral() {
+        PatternCache cache = new PatternCache(16);
+
+        TextPattern plain = cache.regex("login", Pattern.CASE_INSENSITIVE);
+        assertTrue(plain.isLiteral());
+        assertEquals(4, plain.indexOf("Fix LOGIN bug"));
+
+        TextPattern regex = cache.regex("log(in)?", 0);
+        assertFalse(regex.isLiteral());
+        assertTrue(regex.find("logout"));
+    }
+
+    @Test
+    void testUnsafeAndInvalidPatternsAreRejectedFromTheCache() {
+        PatternCache cache = new PatternCache(16);
+
+        IllegalArgumentException first = assertThrows(IllegalArgumentException.class,
+            () -> cache.regex("(a+)+b", 0));
+        assertTrue(first.getMessage().contains("nested repetition"));
+        assertThrows(IllegalArgumentException.class, () -> cache.regex("(a+)+b", 0));
+        assertThrows(IllegalArgumentException.class, () -> cache.regex("[unclosed", 0));
+
+        PatternCache.Statistics statistics = cache.statistics();
+        assertEquals(1, statistics.hits());
+        assertEquals(2, statistics.misses());
+    }
+
+    @Test
+    void testLeastRecentlyUsedPatternIsEvicted() {
+        PatternCache cache = new PatternCache(2);
+        TextPattern first = cache.literal("first", 0, false);
+        cache.literal("second", 0, false);
+        assertSame(first, cache.literal("first", 0, false));
+
+        cache.literal("third", 0, false);
+        assertSame(first, cache.literal("first", 0, false));
+        cache.literal("second", 0, false);
+
+        PatternCache.Statistics statistics = cache.statistics();
+        assertEquals(2, statistics.size());
+        assertEquals(2, statistics.evictions());
+        assertEquals(2, statistics.hits());
+        assertEquals(4, statistics.misses());
+        assertEquals(1.0 / 3, statistics.hitRate(), 1e-9);
+    }
+
+    @Test
+    void testFlagsAndExactMatchAreSeparateEntries() {
+        PatternCache cache = new PatternCache(16);
+
+        assertTrue(cache.literal("bug", Pattern.CASE_INSENSITIVE, false).find("BUGS"));
+        assertFalse(cache.literal("bug", 0, false).find("BUGS"));
+        assertFalse(cache.literal("bug", Pattern.CASE_INSENSITIVE, true).find("BUGS"));
+        assertTrue(cache.literal("bug", Pattern.CASE_INSENSITIVE, true).find("a BUG here"));
+        assertEquals(3, cache.statistics().size());
+    }
+
+    private static String randomText(Random random, String alphabet, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return text.toString();
+    }
+
+    private static List<String> regexMatches(Pattern pattern, String text) {
+        List<String> matches = new ArrayList<>();
+        Matcher matcher = pattern.matcher(text);
+        while (matcher.find()) {
+            matches.add(matcher.start() + "-" + matcher.end());
+        }
+        return matches;
+    }
+
+    private static List<String> literalMatches(TextPattern pattern, String text) {
+        List<String> matches = new ArrayList<>();
+        pattern.forEachMatch(text, (start, end) -> matches.add(start + "-" + end));
+        return matches;
+    }
+}
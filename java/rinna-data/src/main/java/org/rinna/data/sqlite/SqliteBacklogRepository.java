@@ -0,0 +1,378 @@
+/*
+ * SQLite persistence implementation for the Rinna workflow management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.data.sqlite;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.rinna.domain.repository.BacklogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * SQLite implementation of the BacklogRepository interface.
+ *
+ * <p>Each backlog entry stores a rank key, and a backlog is the user's entries in
+ * rank order. Moving an item only rewrites its own key, chosen to sort between its
+ * new neighbours, so a move never renumbers the rest of the backlog. Keys are base-36
+ * strings compared byte by byte; when repeated moves into the same gap make a key
+ * longer than {@link #MAX_RANK_LENGTH}, the user's keys are spread out again.</p>
+ *
+ * <p>Changes are serialized within one repository instance.</p>
+ */
+public class SqliteBacklogRepository implements BacklogRepository {
+    private static final Logger logger = LoggerFactory.getLogger(SqliteBacklogRepository.class);
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    /** Longest rank key written before the backlog is rebalanced. */
+    static final int MAX_RANK_LENGTH = 48;
+
+    // Default username for the current user
+    private static final String DEFAULT_USER = System.getProperty("user.name");
+
+    private final SqliteConnectionManager connectionManager;
+
+    /**
+     * Creates a new SqliteBacklogRepository with a connection manager.
+     *
+     * @param connectionManager the SQLite connection manager
+     */
+    public SqliteBacklogRepository(SqliteConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    @Override
+    public List<UUID> getBacklog() {
+        return getBacklog(DEFAULT_USER);
+    }
+
+    @Override
+    public List<UUID> getBacklog(String username) {
+        return getBacklogPage(username, 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<UUID> getBacklogPage(String username, int offset, int limit) {
+        logger.debug("Finding backlog page for user: {} offset: {} limit: {}", username, offset, limit);
+
+        String sql = """
+            SELECT work_item_id
+            FROM backlog_entries
+            WHERE username = ?
+            ORDER BY rank
+            LIMIT ? OFFSET ?
+        """;
+
+        try (Connection conn = connectionManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, username);
+            stmt.setInt(2, Math.max(0, limit));
+            stmt.setInt(3, Math.max(0, offset));
+
+            List<UUID> page = new ArrayList<>();
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    page.add(UUID.fromString(rs.getString("work_item_id")));
+                }
+            }
+            return page;
+        } catch (SQLException e) {
+            logger.error("Error finding backlog for user: {}", username, e);
+            throw new RuntimeException("Error finding backlog for user: " + username, e);
+        }
+    }
+
+    @Override
+    public int getBacklogSize() {
+        return getBacklogSize(DEFAULT_USER);
+    }
+
+    @Override
+    public int getBacklogSize(String username) {
+        String sql = "SELECT COUNT(*) FROM backlog_entries WHERE username = ?";
+
+        try (Connection conn = connectionManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, username);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        } catch (SQLException e) {
+            logger.error("Error counting backlog for user: {}", username, e);
+            throw new RuntimeException("Error counting backlog for user: " + username, e);
+        }
+    }
+
+    @Override
+    public int getBacklogPosition(UUID workItemId) {
+        return getBacklogPosition(workItemId, DEFAULT_USER);
+    }
+
+    @Override
+    public int getBacklogPosition(UUID workItemId, String username) {
+        String sql = """
+            SELECT (SELECT COUNT(*) FROM backlog_entries b
+                    WHERE b.username = e.username AND b.rank < e.rank)
+            FROM backlog_entries e
+            WHERE e.username = ? AND e.work_item_id = ?
+        """;
+
+        try (Connection conn = connectionManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, username);
+            stmt.setString(2, workItemId.toString());
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : -1;
+            }
+        } catch (SQLException e) {
+            logger.error("Error finding backlog position of work item: {}", workItemId, e);
+            throw new RuntimeException("Error finding backlog position of work item: " + workItemId, e);
+        }
+    }
+
+    @Override
+    public boolean addToBacklog(UUID workItemId) {
+        return addToBacklog(workItemId, DEFAULT_USER);
+    }
+
+    @Override
+    public synchronized boolean addToBacklog(UUID workItemId, String username) {
+        logger.debug("Adding work item: {} to backlog of user: {}", workItemId, username);
+
+        try (Connection conn = connectionManager.getConnection()) {
+            if (findRank(conn, username, workItemId) != null) {
+                return false;
+            }
+
+            String last = null;
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "SELECT MAX(rank) FROM backlog_entries WHERE username = ?")) {
+                stmt.setString(1, username);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        last = rs.getString(1);
+                    }
+                }
+            }
+
+            String rank = between(last, null);
+            if (rank.length() > MAX_RANK_LENGTH) {
+                rebalance(conn, username);
+                return addToBacklog(workItemId, username);
+            }
+
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO backlog_entries (username, work_item_id, rank) VALUES (?, ?, ?)")) {
+                stmt.setString(1, username);
+                stmt.setString(2, workItemId.toString());
+                stmt.setString(3, rank);
+                return stmt.executeUpdate() > 0;
+            }
+        } catch (SQLException e) {
+            logger.error("Error adding work item: {} to backlog of user: {}", workItemId, username, e);
+            throw new RuntimeException("Error adding work item to backlog: " + workItemId, e);
+        }
+    }
+
+    @Override
+    public boolean removeFromBacklog(UUID workItemId) {
+        return removeFromBacklog(workItemId, DEFAULT_USER);
+    }
+
+    @Override
+    public synchronized boolean removeFromBacklog(UUID workItemId, String username) {
+        logger.debug("Removing work item: {} from backlog of user: {}", workItemId, username);
+
+        String sql = "DELETE FROM backlog_entries WHERE username = ? AND work_item_id = ?";
+
+        try (Connection conn = connectionManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, username);
+            stmt.setString(2, workItemId.toString());
+            return stmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            logger.error("Error removing work item: {} from backlog of user: {}", workItemId, username, e);
+            throw new RuntimeException("Error removing work item from backlog: " + workItemId, e);
+        }
+    }
+
+    @Override
+    public boolean moveInBacklog(UUID workItemId, int position) {
+        return moveInBacklog(workItemId, position, DEFAULT_USER);
+    }
+
+    @Override
+    public synchronized boolean moveInBacklog(UUID workItemId, int position, String username) {
+        logger.debug("Moving work item: {} to position: {} in backlog of user: {}", workItemId, position, username);
+
+        try (Connection conn = connectionManager.getConnection()) {
+            String current = findRank(conn, username, workItemId);
+            if (current == null) {
+                return false;
+            }
+
+            // Positions past either end are clamped; the neighbours exclude the item itself
+            int others = getBacklogSize(username) - 1;
+            int target = Math.max(0, Math.min(position, others));
+            String lower = null;
+            String upper = null;
+            String sql = """
+                SELECT rank
+                FROM backlog_entries
+                WHERE username = ? AND work_item_id <> ?
+                ORDER BY rank
+                LIMIT ? OFFSET ?
+            """;
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, username);
+                stmt.setString(2, workItemId.toString());
+                stmt.setInt(3, target == 0 ? 1 : 2);
+                stmt.setInt(4, Math.max(0, target - 1));
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (target > 0 && rs.next()) {
+                        lower = rs.getString(1);
+                    }
+                    if (rs.next()) {
+                        upper = rs.getString(1);
+                    }
+                }
+            }
+
+            boolean inPlace = (lower == null || current.compareTo(lower) > 0)
+                    && (upper == null || current.compareTo(upper) < 0);
+            if (inPlace) {
+                return true;
+            }
+
+            String rank = between(lower, upper);
+            if (rank.length() > MAX_RANK_LENGTH) {
+                rebalance(conn, username);
+                return moveInBacklog(workItemId, position, username);
+            }
+
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "UPDATE backlog_entries SET rank = ? WHERE username = ? AND work_item_id = ?")) {
+                stmt.setString(1, rank);
+                stmt.setString(2, username);
+                stmt.setString(3, workItemId.toString());
+                return stmt.executeUpdate() > 0;
+            }
+        } catch (SQLException e) {
+            logger.error("Error moving work item: {} in backlog of user: {}", workItemId, username, e);
+            throw new RuntimeException("Error moving work item in backlog: " + workItemId, e);
+        }
+    }
+
+    /**
+     * Returns a rank key that sorts strictly between two keys.
+     * Keys never end in the lowest digit, so there is always room before any key.
+     *
+     * @param lower the key to sort after, or null for the start of the backlog
+     * @param upper the key to sort before, or null for the end of the backlog
+     * @return the new key
+     */
+    static String between(String lower, String upper) {
+        String low = lower != null ? lower : "";
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; ; i++) {
+            int lo = i < low.length() ? DIGITS.indexOf(low.charAt(i)) : 0;
+            int hi = upper != null && i < upper.length() ? DIGITS.indexOf(upper.charAt(i)) : BASE;
+            if (lo == hi) {
+                key.append(DIGITS.charAt(lo));
+                continue;
+            }
+            int mid = (lo + hi) / 2;
+            if (mid > lo) {
+                return key.append(DIGITS.charAt(mid)).toString();
+            }
+            // No digit fits between; keep the lower digit and go past it
+            key.append(DIGITS.charAt(lo));
+            upper = null;
+        }
+    }
+
+    /**
+     * Gives every entry of a backlog a short, evenly spaced key, keeping the order.
+     */
+    private void rebalance(Connection conn, String username) throws SQLException {
+        List<UUID> backlog = getBacklog(username);
+        logger.info("Rebalancing {} backlog ranks for user: {}", backlog.size(), username);
+
+        int width = 1;
+        long space = BASE;
+        while (space <= 2L * (backlog.size() + 1)) {
+            width++;
+            space *= BASE;
+        }
+        long step = space / (backlog.size() + 1);
+
+        conn.setAutoCommit(false);
+        try {
+            try (PreparedStatement delete = conn.prepareStatement(
+                    "DELETE FROM backlog_entries WHERE username = ?")) {
+                delete.setString(1, username);
+                delete.executeUpdate();
+            }
+            try (PreparedStatement insert = conn.prepareStatement(
+                    "INSERT INTO backlog_entries (username, work_item_id, rank) VALUES (?, ?, ?)")) {
+                for (int i = 0; i < backlog.size(); i++) {
+                    insert.setString(1, username);
+                    insert.setString(2, backlog.get(i).toString());
+                    insert.setString(3, spacedKey(step * (i + 1), width));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Writes a value as a fixed-width base-36 key without trailing lowest digits.
+     */
+    private static String spacedKey(long value, int width) {
+        char[] digits = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            digits[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        int length = width;
+        while (length > 1 && digits[length - 1] == DIGITS.charAt(0)) {
+            length--;
+        }
+        return new String(digits, 0, length);
+    }
+
+    private static String findRank(Connection conn, String username, UUID workItemId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "SELECT rank FROM backlog_entries WHERE username = ? AND work_item_id = ?")) {
+            stmt.setString(1, username);
+            stmt.setString(2, workItemId.toString());
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+}
@@ -76,6 +76,7 @@ public class SqliteConnectionManager implements AutoCloseable {
             if (!dbExists) {
                 initialize();
             }
+            upgradeSchema();
             
             logger.info("SQLite connection manager initialized with database: {}", databasePath);
         } catch (Exception e) {
@@ -150,6 +151,56 @@ public class SqliteConnectionManager implements AutoCloseable {
         }
     }
     
+    /**
+     * Creates the tables and indexes added after the original schema. It runs every
+     * time a database is opened, so databases created by earlier versions get them
+     * too; every statement is safe to repeat.
+     */
+    private void upgradeSchema() {
+        try (Connection conn = getConnection();
+             Statement stmt = conn.createStatement()) {
+            
+            // Create backlog_entries table, ordered within each backlog by rank key
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS backlog_entries (
+                    username TEXT NOT NULL,
+                    work_item_id TEXT NOT NULL,
+                    rank TEXT NOT NULL,
+                    PRIMARY KEY (username, work_item_id),
+                    FOREIGN KEY (work_item_id) REFERENCES work_items(id) ON DELETE CASCADE
+                )
+            """);
+            
+            stmt.execute("CREATE UNIQUE INDEX IF NOT EXISTS idx_backlog_rank ON backlog_entries(username, rank)");
+            
+            // Create releases table
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS releases (
+                    id TEXT PRIMARY KEY,
+                    version TEXT NOT NULL UNIQUE,
+                    description TEXT,
+                    created_at TEXT NOT NULL
+                )
+            """);
+            
+            // Create release_items join table, one row per work item in a release
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS release_items (
+                    release_id TEXT NOT NULL,
+                    work_item_id TEXT NOT NULL,
+                    PRIMARY KEY (release_id, work_item_id),
+                    FOREIGN KEY (release_id) REFERENCES releases(id) ON DELETE CASCADE,
+                    FOREIGN KEY (work_item_id) REFERENCES work_items(id) ON DELETE CASCADE
+                )
+            """);
+            
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_release_items_work_item_id ON release_items(work_item_id)");
+        } catch (SQLException e) {
+            logger.error("Error upgrading SQLite database schema", e);
+            throw new RuntimeException("Failed to upgrade SQLite database schema", e);
+        }
+    }
+    
     /**
      * Gets a connection from the connection pool.
      *
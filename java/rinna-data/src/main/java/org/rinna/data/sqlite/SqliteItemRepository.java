@@ -15,6 +15,9 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -37,6 +40,9 @@ import org.slf4j.LoggerFactory;
 public class SqliteItemRepository implements ItemRepository {
     private static final Logger logger = LoggerFactory.getLogger(SqliteItemRepository.class);
 
+    /** Number of IDs bound to one IN (...) query, well below SQLite's parameter limit. */
+    static final int ID_CHUNK_SIZE = 500;
+
     private final SqliteConnectionManager connectionManager;
     private final SqliteMetadataRepository metadataRepository;
 
@@ -148,6 +154,89 @@ public class SqliteItemRepository implements ItemRepository {
         }
     }
 
+    @Override
+    public List<WorkItem> findAllById(Collection<UUID> ids) {
+        logger.debug("Finding {} work items by ID", ids.size());
+
+        List<UUID> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (distinctIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        String sql = """
+            SELECT id, title, description, type, status, priority, assignee,
+                   created_at, updated_at, parent_id, project_id, visibility, local_only
+            FROM work_items
+            WHERE id IN (%s)
+        """;
+
+        try (Connection conn = connectionManager.getConnection()) {
+            Map<UUID, WorkItem> found = new HashMap<>(distinctIds.size() * 2);
+            int fullChunks = distinctIds.size() / ID_CHUNK_SIZE;
+            int remainder = distinctIds.size() % ID_CHUNK_SIZE;
+
+            // Every full chunk reuses one statement; only the remainder needs its own
+            if (fullChunks > 0) {
+                try (PreparedStatement stmt = conn.prepareStatement(
+                        String.format(sql, placeholders(ID_CHUNK_SIZE)))) {
+                    for (int chunk = 0; chunk < fullChunks; chunk++) {
+                        int from = chunk * ID_CHUNK_SIZE;
+                        readItems(stmt, distinctIds.subList(from, from + ID_CHUNK_SIZE), found);
+                    }
+                }
+            }
+            if (remainder > 0) {
+                try (PreparedStatement stmt = conn.prepareStatement(
+                        String.format(sql, placeholders(remainder)))) {
+                    readItems(stmt, distinctIds.subList(distinctIds.size() - remainder, distinctIds.size()), found);
+                }
+            }
+
+            List<WorkItem> items = new ArrayList<>(ids.size());
+            for (UUID id : ids) {
+                WorkItem item = found.get(id);
+                if (item != null) {
+                    items.add(item);
+                }
+            }
+            logger.debug("Found {} of {} work items", found.size(), distinctIds.size());
+            return items;
+        } catch (SQLException e) {
+            logger.error("Error finding work items by ID", e);
+            throw new RuntimeException("Error finding work items by ID", e);
+        }
+    }
+
+    /**
+     * Binds one chunk of IDs to an IN (...) query and collects the rows it returns.
+     */
+    private void readItems(PreparedStatement stmt, List<UUID> chunk, Map<UUID, WorkItem> found)
+            throws SQLException {
+        for (int i = 0; i < chunk.size(); i++) {
+            stmt.setString(i + 1, chunk.get(i).toString());
+        }
+        try (ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                WorkItem item = mapResultSetToWorkItem(rs);
+                found.put(item.getId(), item);
+            }
+        }
+    }
+
+    /**
+     * Returns a comma-separated list of the given number of parameter markers.
+     *
+     * @param count the number of markers
+     * @return the markers
+     */
+    static String placeholders(int count) {
+        StringBuilder markers = new StringBuilder(count * 2);
+        for (int i = 0; i < count; i++) {
+            markers.append(i == 0 ? "?" : ",?");
+        }
+        return markers.toString();
+    }
+
     @Override
     public List<WorkItem> findAll() {
         logger.debug("Finding all work items");
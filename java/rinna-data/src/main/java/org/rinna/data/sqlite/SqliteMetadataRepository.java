@@ -15,10 +15,14 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.rinna.domain.model.WorkItemMetadata;
@@ -221,6 +225,177 @@ public class SqliteMetadataRepository implements MetadataRepository {
         }
     }
     
+    @Override
+    public Map<UUID, Map<String, String>> getMetadataMaps(Collection<UUID> workItemIds) {
+        logger.debug("Getting metadata maps for {} work items", workItemIds.size());
+        
+        List<UUID> distinctIds = new ArrayList<>(new LinkedHashSet<>(workItemIds));
+        Map<UUID, Map<String, String>> result = new HashMap<>();
+        if (distinctIds.isEmpty()) {
+            return result;
+        }
+        
+        String sql = """
+            SELECT work_item_id, key, value
+            FROM work_item_metadata
+            WHERE work_item_id IN (%s)
+        """;
+        int chunkSize = SqliteItemRepository.ID_CHUNK_SIZE;
+        
+        try (Connection conn = connectionManager.getConnection()) {
+            int fullChunks = distinctIds.size() / chunkSize;
+            int remainder = distinctIds.size() % chunkSize;
+            
+            // Every full chunk reuses one statement; only the remainder needs its own
+            if (fullChunks > 0) {
+                try (PreparedStatement stmt = conn.prepareStatement(
+                        String.format(sql, SqliteItemRepository.placeholders(chunkSize)))) {
+                    for (int chunk = 0; chunk < fullChunks; chunk++) {
+                        int from = chunk * chunkSize;
+                        readMetadataMaps(stmt, distinctIds.subList(from, from + chunkSize), result);
+                    }
+                }
+            }
+            if (remainder > 0) {
+                try (PreparedStatement stmt = conn.prepareStatement(
+                        String.format(sql, SqliteItemRepository.placeholders(remainder)))) {
+                    readMetadataMaps(stmt,
+                            distinctIds.subList(distinctIds.size() - remainder, distinctIds.size()), result);
+                }
+            }
+            
+            logger.debug("Found metadata for {} of {} work items", result.size(), distinctIds.size());
+            return result;
+        } catch (SQLException e) {
+            logger.error("Error getting metadata maps for work items", e);
+            throw new RuntimeException("Error getting metadata maps for work items", e);
+        }
+    }
+    
+    /**
+     * Returns selected metadata keys of several work items.
+     * When fewer work items are requested than the table holds, the IDs are bound to
+     * IN (...) queries in chunks, as in {@link #getMetadataMaps(Collection)}, so only
+     * their rows are read. A request covering the whole table reads the requested
+     * keys in one pass over the key index and keeps the rows of the requested items.
+     *
+     * @param workItemIds the IDs of the work items
+     * @param keys the metadata keys
+     * @return a map from metadata key to a map from work item ID to value
+     */
+    @Override
+    public Map<String, Map<UUID, String>> getMetadataColumns(Collection<UUID> workItemIds,
+            Collection<String> keys) {
+        logger.debug("Getting metadata keys {} for {} work items", keys, workItemIds.size());
+        
+        List<String> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+        Map<String, Map<UUID, String>> columns = new HashMap<>();
+        for (String key : distinctKeys) {
+            columns.put(key, new HashMap<>());
+        }
+        List<UUID> distinctIds = new ArrayList<>(new LinkedHashSet<>(workItemIds));
+        if (distinctKeys.isEmpty() || distinctIds.isEmpty()) {
+            return columns;
+        }
+        
+        String keyMarkers = SqliteItemRepository.placeholders(distinctKeys.size());
+        int chunkSize = SqliteItemRepository.ID_CHUNK_SIZE;
+        
+        try (Connection conn = connectionManager.getConnection()) {
+            if (distinctIds.size() >= countWorkItems(conn)) {
+                Set<String> requested = new HashSet<>(distinctIds.size() * 2);
+                for (UUID workItemId : distinctIds) {
+                    requested.add(workItemId.toString());
+                }
+                try (PreparedStatement stmt = conn.prepareStatement(String.format("""
+                        SELECT work_item_id, key, value
+                        FROM work_item_metadata
+                        WHERE key IN (%s)
+                    """, keyMarkers))) {
+                    readMetadataColumns(stmt, distinctKeys, List.of(), requested, columns);
+                }
+                return columns;
+            }
+            
+            String sql = """
+                SELECT work_item_id, key, value
+                FROM work_item_metadata
+                WHERE key IN (%s) AND work_item_id IN (%s)
+            """;
+            int fullChunks = distinctIds.size() / chunkSize;
+            int remainder = distinctIds.size() % chunkSize;
+            
+            // Every full chunk reuses one statement; only the remainder needs its own
+            if (fullChunks > 0) {
+                try (PreparedStatement stmt = conn.prepareStatement(
+                        String.format(sql, keyMarkers, SqliteItemRepository.placeholders(chunkSize)))) {
+                    for (int chunk = 0; chunk < fullChunks; chunk++) {
+                        int from = chunk * chunkSize;
+                        readMetadataColumns(stmt, distinctKeys, distinctIds.subList(from, from + chunkSize),
+                                null, columns);
+                    }
+                }
+            }
+            if (remainder > 0) {
+                try (PreparedStatement stmt = conn.prepareStatement(
+                        String.format(sql, keyMarkers, SqliteItemRepository.placeholders(remainder)))) {
+                    readMetadataColumns(stmt, distinctKeys,
+                            distinctIds.subList(distinctIds.size() - remainder, distinctIds.size()), null, columns);
+                }
+            }
+            return columns;
+        } catch (SQLException e) {
+            logger.error("Error getting metadata keys {} for work items", keys, e);
+            throw new RuntimeException("Error getting metadata keys " + keys + " for work items", e);
+        }
+    }
+    
+    /**
+     * Binds the keys and one chunk of work item IDs to a metadata column query and
+     * collects the values it returns, keeping only requested work items if given.
+     */
+    private void readMetadataColumns(PreparedStatement stmt, List<String> keys, List<UUID> chunk,
+            Set<String> requested, Map<String, Map<UUID, String>> columns) throws SQLException {
+        for (int i = 0; i < keys.size(); i++) {
+            stmt.setString(i + 1, keys.get(i));
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            stmt.setString(keys.size() + i + 1, chunk.get(i).toString());
+        }
+        try (ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                String workItemId = rs.getString("work_item_id");
+                String value = rs.getString("value");
+                if (value != null && (requested == null || requested.contains(workItemId))) {
+                    columns.get(rs.getString("key")).put(UUID.fromString(workItemId), value);
+                }
+            }
+        }
+    }
+    
+    private static int countWorkItems(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM work_items");
+             ResultSet rs = stmt.executeQuery()) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+    
+    /**
+     * Binds one chunk of work item IDs to an IN (...) query and collects the entries it returns.
+     */
+    private void readMetadataMaps(PreparedStatement stmt, List<UUID> chunk,
+            Map<UUID, Map<String, String>> result) throws SQLException {
+        for (int i = 0; i < chunk.size(); i++) {
+            stmt.setString(i + 1, chunk.get(i).toString());
+        }
+        try (ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                result.computeIfAbsent(UUID.fromString(rs.getString("work_item_id")), k -> new HashMap<>())
+                        .put(rs.getString("key"), rs.getString("value"));
+            }
+        }
+    }
+    
     @Override
     public boolean deleteById(UUID id) {
         logger.debug("Deleting metadata by ID: {}", id);
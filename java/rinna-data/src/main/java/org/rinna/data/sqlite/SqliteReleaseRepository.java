@@ -0,0 +1,331 @@
+/*
+ * SQLite persistence implementation for the Rinna workflow management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.data.sqlite;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.rinna.domain.model.DefaultRelease;
+import org.rinna.domain.model.Release;
+import org.rinna.domain.repository.ReleaseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * SQLite implementation of the ReleaseRepository interface.
+ * Release membership is stored in the release_items join table, so adding, removing
+ * and checking work items touch only the affected rows. Work items are returned in
+ * the order they were added.
+ */
+public class SqliteReleaseRepository implements ReleaseRepository {
+    private static final Logger logger = LoggerFactory.getLogger(SqliteReleaseRepository.class);
+
+    private final SqliteConnectionManager connectionManager;
+
+    /**
+     * Creates a new SqliteReleaseRepository with a connection manager.
+     *
+     * @param connectionManager the SQLite connection manager
+     */
+    public SqliteReleaseRepository(SqliteConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    @Override
+    public Release save(Release release) {
+        logger.debug("Saving release: {}", release.getId());
+
+        // Upsert rather than replace, so the release's item rows are not cascaded away
+        String sql = """
+            INSERT INTO releases (id, version, description, created_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT(id) DO UPDATE SET
+                version = excluded.version,
+                description = excluded.description,
+                created_at = excluded.created_at
+        """;
+
+        try (Connection conn = connectionManager.getConnection()) {
+            conn.setAutoCommit(false);
+
+            try {
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    stmt.setString(1, release.getId().toString());
+                    stmt.setString(2, release.getVersion());
+                    stmt.setString(3, release.getDescription());
+                    stmt.setTimestamp(4, Timestamp.from(release.getCreatedAt()));
+                    stmt.executeUpdate();
+                }
+                try (PreparedStatement stmt = conn.prepareStatement(
+                        "DELETE FROM release_items WHERE release_id = ?")) {
+                    stmt.setString(1, release.getId().toString());
+                    stmt.executeUpdate();
+                }
+                insertWorkItems(conn, release.getId(), release.getWorkItems());
+
+                conn.commit();
+                logger.debug("Release saved successfully: {}", release.getId());
+                return findById(release.getId()).orElse(release);
+            } catch (SQLException e) {
+                conn.rollback();
+                logger.error("Error saving release, transaction rolled back: {}", release.getId(), e);
+                throw new RuntimeException("Error saving release: " + release.getId(), e);
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            logger.error("Error saving release: {}", release.getId(), e);
+            throw new RuntimeException("Error saving release: " + release.getId(), e);
+        }
+    }
+
+    @Override
+    public Optional<Release> findById(UUID id) {
+        List<Release> releases = findReleases("id", id.toString());
+        return releases.isEmpty() ? Optional.empty() : Optional.of(releases.get(0));
+    }
+
+    @Override
+    public Optional<Release> findByVersion(String version) {
+        List<Release> releases = findReleases("version", version);
+        return releases.isEmpty() ? Optional.empty() : Optional.of(releases.get(0));
+    }
+
+    @Override
+    public List<Release> findAll() {
+        return findReleases(null, null);
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        logger.debug("Deleting release: {}", id);
+
+        try (Connection conn = connectionManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("DELETE FROM releases WHERE id = ?")) {
+
+            stmt.setString(1, id.toString());
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            logger.error("Error deleting release: {}", id, e);
+            throw new RuntimeException("Error deleting release: " + id, e);
+        }
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        try (Connection conn = connectionManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("SELECT 1 FROM releases WHERE id = ?")) {
+
+            stmt.setString(1, id.toString());
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        } catch (SQLException e) {
+            logger.error("Error checking release: {}", id, e);
+            throw new RuntimeException("Error checking release: " + id, e);
+        }
+    }
+
+    @Override
+    public List<UUID> findWorkItemIds(UUID releaseId) {
+        String sql = "SELECT work_item_id FROM release_items WHERE release_id = ? ORDER BY rowid";
+
+        try (Connection conn = connectionManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, releaseId.toString());
+            List<UUID> ids = new ArrayList<>();
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(UUID.fromString(rs.getString(1)));
+                }
+            }
+            return ids;
+        } catch (SQLException e) {
+            logger.error("Error finding work items of release: {}", releaseId, e);
+            throw new RuntimeException("Error finding work items of release: " + releaseId, e);
+        }
+    }
+
+    @Override
+    public boolean containsWorkItem(UUID releaseId, UUID workItemId) {
+        String sql = "SELECT 1 FROM release_items WHERE release_id = ? AND work_item_id = ?";
+
+        try (Connection conn = connectionManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, releaseId.toString());
+            stmt.setString(2, workItemId.toString());
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        } catch (SQLException e) {
+            logger.error("Error checking work item: {} in release: {}", workItemId, releaseId, e);
+            throw new RuntimeException("Error checking work item in release: " + releaseId, e);
+        }
+    }
+
+    @Override
+    public int addWorkItems(UUID releaseId, Collection<UUID> workItemIds) {
+        logger.debug("Adding {} work items to release: {}", workItemIds.size(), releaseId);
+
+        if (!existsById(releaseId)) {
+            throw new IllegalArgumentException("Release with ID " + releaseId + " does not exist");
+        }
+
+        try (Connection conn = connectionManager.getConnection()) {
+            conn.setAutoCommit(false);
+
+            try {
+                int added = insertWorkItems(conn, releaseId, workItemIds);
+                conn.commit();
+                return added;
+            } catch (SQLException e) {
+                conn.rollback();
+                logger.error("Error adding work items, transaction rolled back: {}", releaseId, e);
+                throw new RuntimeException("Error adding work items to release: " + releaseId, e);
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            logger.error("Error adding work items to release: {}", releaseId, e);
+            throw new RuntimeException("Error adding work items to release: " + releaseId, e);
+        }
+    }
+
+    @Override
+    public int removeWorkItems(UUID releaseId, Collection<UUID> workItemIds) {
+        logger.debug("Removing {} work items from release: {}", workItemIds.size(), releaseId);
+
+        if (!existsById(releaseId)) {
+            throw new IllegalArgumentException("Release with ID " + releaseId + " does not exist");
+        }
+
+        String sql = "DELETE FROM release_items WHERE release_id = ? AND work_item_id = ?";
+
+        try (Connection conn = connectionManager.getConnection()) {
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (UUID workItemId : workItemIds) {
+                    stmt.setString(1, releaseId.toString());
+                    stmt.setString(2, workItemId.toString());
+                    stmt.addBatch();
+                }
+                int removed = countUpdates(stmt.executeBatch());
+                conn.commit();
+                return removed;
+            } catch (SQLException e) {
+                conn.rollback();
+                logger.error("Error removing work items, transaction rolled back: {}", releaseId, e);
+                throw new RuntimeException("Error removing work items from release: " + releaseId, e);
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            logger.error("Error removing work items from release: {}", releaseId, e);
+            throw new RuntimeException("Error removing work items from release: " + releaseId, e);
+        }
+    }
+
+    /**
+     * Inserts membership rows in one batch, skipping rows that already exist.
+     */
+    private static int insertWorkItems(Connection conn, UUID releaseId, Collection<UUID> workItemIds)
+            throws SQLException {
+        String sql = "INSERT OR IGNORE INTO release_items (release_id, work_item_id) VALUES (?, ?)";
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (UUID workItemId : workItemIds) {
+                stmt.setString(1, releaseId.toString());
+                stmt.setString(2, workItemId.toString());
+                stmt.addBatch();
+            }
+            return countUpdates(stmt.executeBatch());
+        }
+    }
+
+    private static int countUpdates(int[] counts) {
+        int total = 0;
+        for (int count : counts) {
+            if (count > 0) {
+                total += count;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Loads the releases whose column has a value, or all releases when the column is null,
+     * together with their work items, reading the membership of all of them in one query.
+     */
+    private List<Release> findReleases(String column, String parameter) {
+        String where = column != null ? " WHERE r." + column + " = ?" : "";
+        String releaseSql = "SELECT r.id, r.version, r.description, r.created_at FROM releases r" + where;
+        String itemSql = """
+            SELECT ri.release_id, ri.work_item_id
+            FROM release_items ri
+            JOIN releases r ON r.id = ri.release_id
+        """ + where + " ORDER BY ri.rowid";
+
+        try (Connection conn = connectionManager.getConnection()) {
+            Map<String, DefaultRelease.Builder> builders = new LinkedHashMap<>();
+            try (PreparedStatement stmt = conn.prepareStatement(releaseSql)) {
+                if (parameter != null) {
+                    stmt.setString(1, parameter);
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        builders.put(rs.getString("id"), new DefaultRelease.Builder()
+                                .id(UUID.fromString(rs.getString("id")))
+                                .version(rs.getString("version"))
+                                .description(rs.getString("description"))
+                                .createdAt(rs.getTimestamp("created_at").toInstant()));
+                    }
+                }
+            }
+            if (builders.isEmpty()) {
+                return List.of();
+            }
+
+            Map<String, List<UUID>> members = new HashMap<>();
+            try (PreparedStatement stmt = conn.prepareStatement(itemSql)) {
+                if (parameter != null) {
+                    stmt.setString(1, parameter);
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        members.computeIfAbsent(rs.getString(1), k -> new ArrayList<>())
+                                .add(UUID.fromString(rs.getString(2)));
+                    }
+                }
+            }
+
+            List<Release> releases = new ArrayList<>(builders.size());
+            for (Map.Entry<String, DefaultRelease.Builder> entry : builders.entrySet()) {
+                releases.add(entry.getValue().workItems(members.get(entry.getKey())).build());
+            }
+            return releases;
+        } catch (SQLException e) {
+            logger.error("Error finding releases", e);
+            throw new RuntimeException("Error finding releases", e);
+        }
+    }
+}
@@ -8,8 +8,10 @@
 
 package org.rinna.data.sqlite;
 
+import org.rinna.domain.repository.BacklogRepository;
 import org.rinna.domain.repository.ItemRepository;
 import org.rinna.domain.repository.MetadataRepository;
+import org.rinna.domain.repository.ReleaseRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -23,6 +25,8 @@ public class SqliteRepositoryFactory implements AutoCloseable {
     private final SqliteConnectionManager connectionManager;
     private final SqliteItemRepository itemRepository;
     private final SqliteMetadataRepository metadataRepository;
+    private final SqliteBacklogRepository backlogRepository;
+    private final SqliteReleaseRepository releaseRepository;
     
     /**
      * Creates a new SqliteRepositoryFactory with default database location.
@@ -40,6 +44,8 @@ public class SqliteRepositoryFactory implements AutoCloseable {
         this.connectionManager = connectionManager;
         this.metadataRepository = new SqliteMetadataRepository(connectionManager);
         this.itemRepository = new SqliteItemRepository(connectionManager, metadataRepository);
+        this.backlogRepository = new SqliteBacklogRepository(connectionManager);
+        this.releaseRepository = new SqliteReleaseRepository(connectionManager);
         
         logger.info("SQLite repository factory initialized with database: {}", 
                 connectionManager.getDatabasePath());
@@ -63,6 +69,24 @@ public class SqliteRepositoryFactory implements AutoCloseable {
         return metadataRepository;
     }
     
+    /**
+     * Gets the BacklogRepository instance.
+     *
+     * @return the backlog repository
+     */
+    public BacklogRepository getBacklogRepository() {
+        return backlogRepository;
+    }
+    
+    /**
+     * Gets the ReleaseRepository instance.
+     *
+     * @return the release repository
+     */
+    public ReleaseRepository getReleaseRepository() {
+        return releaseRepository;
+    }
+    
     /**
      * Gets the SQLite connection manager.
      *
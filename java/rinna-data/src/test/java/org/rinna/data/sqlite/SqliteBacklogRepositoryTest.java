@@ -0,0 +1,126 @@
+/*
+ * SQLite persistence tests for the Rinna workflow management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.data.sqlite;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the rank keys that order a backlog in SqliteBacklogRepository.
+ */
+class SqliteBacklogRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static void assertBetween(String lower, String key, String upper) {
+        assertTrue(lower == null || lower.compareTo(key) < 0, key + " should sort after " + lower);
+        assertTrue(upper == null || key.compareTo(upper) < 0, key + " should sort before " + upper);
+        assertFalse(key.endsWith("0"), key + " should not end in the lowest digit");
+    }
+
+    @Test
+    void testBetweenAdjacentKeys() {
+        assertBetween("a", SqliteBacklogRepository.between("a", "b"), "b");
+        assertBetween("a", SqliteBacklogRepository.between("a", "a1"), "a1");
+        assertBetween("az", SqliteBacklogRepository.between("az", "b"), "b");
+        assertBetween("i", SqliteBacklogRepository.between("i", "i01"), "i01");
+    }
+
+    @Test
+    void testBetweenAtEitherEnd() {
+        assertBetween(null, SqliteBacklogRepository.between(null, null), null);
+        assertBetween(null, SqliteBacklogRepository.between(null, "1"), "1");
+        assertBetween(null, SqliteBacklogRepository.between(null, "01"), "01");
+        assertBetween("z", SqliteBacklogRepository.between("z", null), null);
+        assertBetween("zzz", SqliteBacklogRepository.between("zzz", null), null);
+    }
+
+    @Test
+    void testRepeatedInsertionAtTheSameSpotGrowsKeysSlowly() {
+        String lower = "a";
+        String upper = "b";
+        int insertions = 0;
+        while (upper.length() <= SqliteBacklogRepository.MAX_RANK_LENGTH) {
+            String key = SqliteBacklogRepository.between(lower, upper);
+            assertBetween(lower, key, upper);
+            assertTrue(key.length() <= upper.length() + 1, "Key grew by more than one digit: " + key);
+            upper = key;
+            insertions++;
+        }
+        // Each digit halves the gap at least five times before the key has to grow
+        assertTrue(insertions >= 5 * (SqliteBacklogRepository.MAX_RANK_LENGTH - 1), "Only " + insertions + " insertions");
+
+        String first = "1";
+        for (int i = 0; i < 100; i++) {
+            String key = SqliteBacklogRepository.between(null, first);
+            assertBetween(null, key, first);
+            first = key;
+        }
+        String last = "y";
+        for (int i = 0; i < 100; i++) {
+            String key = SqliteBacklogRepository.between(last, null);
+            assertBetween(last, key, null);
+            last = key;
+        }
+    }
+
+    @Test
+    void testRepeatedMovesToTheSameSpotRebalanceTheBacklog() throws Exception {
+        try (SqliteConnectionManager connectionManager = new SqliteConnectionManager(tempDir.toString(), "backlog.db")) {
+            SqliteBacklogRepository repository = new SqliteBacklogRepository(connectionManager);
+            UUID a = insertWorkItem(connectionManager);
+            UUID b = insertWorkItem(connectionManager);
+            UUID c = insertWorkItem(connectionManager);
+            UUID d = insertWorkItem(connectionManager);
+            for (UUID id : List.of(a, b, c, d)) {
+                assertTrue(repository.addToBacklog(id, "ann"));
+            }
+
+            // Each move lands between the first item and the one just moved there
+            for (int i = 0; i < 400; i++) {
+                assertTrue(repository.moveInBacklog(i % 2 == 0 ? d : c, 1, "ann"));
+            }
+
+            assertEquals(List.of(a, c, d, b), repository.getBacklog("ann"));
+            assertTrue(longestRank(connectionManager) <= SqliteBacklogRepository.MAX_RANK_LENGTH);
+        }
+    }
+
+    private static UUID insertWorkItem(SqliteConnectionManager connectionManager) throws Exception {
+        UUID id = UUID.randomUUID();
+        try (Connection conn = connectionManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("""
+                INSERT INTO work_items (id, title, type, status, priority, created_at, updated_at)
+                VALUES (?, 'Item', 'TASK', 'TO_DO', 'MEDIUM', '2025-01-01T00:00:00Z', '2025-01-01T00:00:00Z')
+             """)) {
+            stmt.setString(1, id.toString());
+            stmt.executeUpdate();
+        }
+        return id;
+    }
+
+    private static int longestRank(SqliteConnectionManager connectionManager) throws Exception {
+        try (Connection conn = connectionManager.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT MAX(LENGTH(rank)) FROM backlog_entries")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * SQLite persistence tests for the Rinna workflow management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.data.sqlite;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for loading metadata columns of many work items in SqliteMetadataRepository.
+ */
+class SqliteMetadataRepositoryTest {
+
+    // Two full chunks of IDs and part of a third, plus items that are never requested
+    private static final int REQUESTED_ITEMS = 2 * SqliteItemRepository.ID_CHUNK_SIZE + 100;
+    private static final int TOTAL_ITEMS = REQUESTED_ITEMS + 50;
+
+    @TempDir
+    Path tempDir;
+
+    private SqliteConnectionManager connectionManager;
+    private SqliteMetadataRepository repository;
+    private List<UUID> workItemIds;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connectionManager = new SqliteConnectionManager(tempDir.toString(), "metadata.db");
+        repository = new SqliteMetadataRepository(connectionManager);
+        workItemIds = new ArrayList<>();
+        for (int i = 0; i < TOTAL_ITEMS; i++) {
+            workItemIds.add(UUID.randomUUID());
+        }
+
+        try (Connection conn = connectionManager.getConnection();
+             PreparedStatement item = conn.prepareStatement("""
+                INSERT INTO work_items (id, title, type, status, priority, created_at, updated_at)
+                VALUES (?, 'Item', 'TASK', 'TO_DO', 'MEDIUM', '2025-01-01T00:00:00Z', '2025-01-01T00:00:00Z')
+             """);
+             PreparedStatement metadata = conn.prepareStatement("""
+                INSERT INTO work_item_metadata (id, work_item_id, key, value, created_at)
+                VALUES (?, ?, ?, ?, '2025-01-01T00:00:00Z')
+             """)) {
+            conn.setAutoCommit(false);
+            for (int i = 0; i < TOTAL_ITEMS; i++) {
+                String id = workItemIds.get(i).toString();
+                item.setString(1, id);
+                item.addBatch();
+                addMetadata(metadata, id, "reporter", "user" + i);
+                addMetadata(metadata, id, "estimate", String.valueOf(i));
+                if (i % 3 == 0) {
+                    addMetadata(metadata, id, "tags", "tag" + i);
+                }
+            }
+            item.executeBatch();
+            metadata.executeBatch();
+            conn.commit();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionManager.close();
+    }
+
+    private static void addMetadata(PreparedStatement stmt, String workItemId, String key, String value)
+            throws Exception {
+        stmt.setString(1, UUID.randomUUID().toString());
+        stmt.setString(2, workItemId);
+        stmt.setString(3, key);
+        stmt.setString(4, value);
+        stmt.addBatch();
+    }
+
+    private Map<UUID, String> expected(List<UUID> ids, String prefix, int every) {
+        Map<UUID, String> values = new HashMap<>();
+        for (UUID id : ids) {
+            int i = workItemIds.indexOf(id);
+            if (i % every == 0) {
+                values.put(id, prefix + i);
+            }
+        }
+        return values;
+    }
+
+    @Test
+    void testColumnsForMoreIdsThanOneChunk() {
+        List<UUID> requested = workItemIds.subList(0, REQUESTED_ITEMS);
+
+        Map<String, Map<UUID, String>> columns =
+            repository.getMetadataColumns(requested, List.of("reporter", "tags", "missing"));
+
+        assertEquals(3, columns.size());
+        assertEquals(expected(requested, "user", 1), columns.get("reporter"));
+        assertEquals(expected(requested, "tag", 3), columns.get("tags"));
+        assertTrue(columns.get("missing").isEmpty());
+    }
+
+    @Test
+    void testColumnsIgnoreDuplicateAndUnknownIds() {
+        List<UUID> requested = new ArrayList<>(workItemIds.subList(0, SqliteItemRepository.ID_CHUNK_SIZE));
+        requested.addAll(workItemIds.subList(0, 10));
+        requested.add(UUID.randomUUID());
+
+        Map<String, Map<UUID, String>> columns = repository.getMetadataColumns(requested, List.of("reporter"));
+
+        assertEquals(expected(workItemIds.subList(0, SqliteItemRepository.ID_CHUNK_SIZE), "user", 1),
+            columns.get("reporter"));
+    }
+
+    @Test
+    void testColumnsForEveryWorkItem() {
+        List<UUID> requested = new ArrayList<>(workItemIds);
+        requested.add(UUID.randomUUID());
+
+        Map<String, Map<UUID, String>> columns = repository.getMetadataColumns(requested, List.of("tags"));
+
+        assertEquals(expected(workItemIds, "tag", 3), columns.get("tags"));
+    }
+
+    @Test
+    void testColumnsForNoIdsOrKeys() {
+        assertEquals(Map.of("reporter", Map.of()), repository.getMetadataColumns(List.of(), List.of("reporter")));
+        assertTrue(repository.getMetadataColumns(workItemIds, List.of()).isEmpty());
+    }
+}
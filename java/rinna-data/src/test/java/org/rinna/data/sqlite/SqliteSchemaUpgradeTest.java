@@ -0,0 +1,111 @@
+/*
+ * SQLite persistence tests for the Rinna workflow management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.data.sqlite;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rinna.domain.model.DefaultRelease;
+
+/**
+ * Tests that databases created with the original schema get the tables added since.
+ */
+class SqliteSchemaUpgradeTest {
+
+    private static final String DATABASE_NAME = "rinna.db";
+
+    @TempDir
+    Path tempDir;
+
+    private UUID workItemId;
+
+    /**
+     * Creates a database with the schema of the first release, holding one work item.
+     */
+    @BeforeEach
+    void createBaselineDatabase() throws Exception {
+        workItemId = UUID.randomUUID();
+        try (Connection conn = DriverManager.getConnection("jdbc:sqlite:" + tempDir.resolve(DATABASE_NAME));
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE work_items (
+                    id TEXT PRIMARY KEY,
+                    title TEXT NOT NULL,
+                    description TEXT,
+                    type TEXT NOT NULL,
+                    status TEXT NOT NULL,
+                    priority TEXT NOT NULL,
+                    assignee TEXT,
+                    created_at TEXT NOT NULL,
+                    updated_at TEXT NOT NULL,
+                    parent_id TEXT,
+                    project_id TEXT,
+                    visibility TEXT NOT NULL DEFAULT 'PUBLIC',
+                    local_only INTEGER NOT NULL DEFAULT 0,
+                    FOREIGN KEY (parent_id) REFERENCES work_items(id) ON DELETE SET NULL
+                )
+            """);
+            stmt.execute("""
+                CREATE TABLE work_item_metadata (
+                    id TEXT PRIMARY KEY,
+                    work_item_id TEXT NOT NULL,
+                    key TEXT NOT NULL,
+                    value TEXT,
+                    created_at TEXT NOT NULL,
+                    FOREIGN KEY (work_item_id) REFERENCES work_items(id) ON DELETE CASCADE,
+                    UNIQUE(work_item_id, key)
+                )
+            """);
+            try (PreparedStatement insert = conn.prepareStatement("""
+                    INSERT INTO work_items (id, title, type, status, priority, created_at, updated_at)
+                    VALUES (?, 'Existing item', 'TASK', 'TO_DO', 'MEDIUM', '2025-01-01T00:00:00Z', '2025-01-01T00:00:00Z')
+                """)) {
+                insert.setString(1, workItemId.toString());
+                insert.executeUpdate();
+            }
+        }
+    }
+
+    @Test
+    void testBacklogCanBeUsedOnAnExistingDatabase() {
+        try (SqliteConnectionManager connectionManager = new SqliteConnectionManager(tempDir.toString(), DATABASE_NAME)) {
+            SqliteBacklogRepository repository = new SqliteBacklogRepository(connectionManager);
+
+            assertTrue(repository.addToBacklog(workItemId, "ann"));
+            assertEquals(List.of(workItemId), repository.getBacklog("ann"));
+        }
+
+        // Opening the upgraded database again keeps the backlog
+        try (SqliteConnectionManager connectionManager = new SqliteConnectionManager(tempDir.toString(), DATABASE_NAME)) {
+            assertEquals(List.of(workItemId), new SqliteBacklogRepository(connectionManager).getBacklog("ann"));
+        }
+    }
+
+    @Test
+    void testReleasesCanBeUsedOnAnExistingDatabase() {
+        try (SqliteConnectionManager connectionManager = new SqliteConnectionManager(tempDir.toString(), DATABASE_NAME)) {
+            SqliteReleaseRepository repository = new SqliteReleaseRepository(connectionManager);
+            UUID releaseId = repository.save(new DefaultRelease.Builder().version("1.0.0").build()).getId();
+
+            assertEquals(1, repository.addWorkItems(releaseId, List.of(workItemId)));
+            assertTrue(repository.containsWorkItem(releaseId, workItemId));
+            assertEquals(List.of(workItemId), repository.findWorkItemIds(releaseId));
+        }
+    }
+}
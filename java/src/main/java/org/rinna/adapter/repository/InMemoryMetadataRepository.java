@@ -9,10 +9,13 @@
 package org.rinna.adapter.repository;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -63,6 +66,31 @@ public class InMemoryMetadataRepository implements MetadataRepository {
                 .collect(Collectors.toMap(WorkItemMetadata::getKey, WorkItemMetadata::getValue));
     }
     
+    /**
+     * Returns selected metadata keys of several work items in a single pass
+     * over the stored metadata.
+     *
+     * @param workItemIds the IDs of the work items
+     * @param keys the metadata keys
+     * @return a map from metadata key to a map from work item ID to value
+     */
+    @Override
+    public Map<String, Map<UUID, String>> getMetadataColumns(Collection<UUID> workItemIds,
+            Collection<String> keys) {
+        Map<String, Map<UUID, String>> columns = new HashMap<>();
+        for (String key : keys) {
+            columns.put(key, new HashMap<>());
+        }
+        Set<UUID> requested = new HashSet<>(workItemIds);
+        for (WorkItemMetadata meta : metadata.values()) {
+            Map<UUID, String> column = columns.get(meta.getKey());
+            if (column != null && meta.getValue() != null && requested.contains(meta.getWorkItemId())) {
+                column.put(meta.getWorkItemId(), meta.getValue());
+            }
+        }
+        return columns;
+    }
+    
     @Override
     public boolean deleteById(UUID id) {
         return metadata.remove(id) != null;
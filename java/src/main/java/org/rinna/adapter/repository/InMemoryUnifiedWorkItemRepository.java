@@ -19,6 +19,7 @@ import java.util.stream.Collectors;
 import org.rinna.domain.model.CynefinDomain;
 import org.rinna.domain.model.OriginCategory;
 import org.rinna.domain.model.UnifiedWorkItem;
+import org.rinna.domain.model.UnifiedWorkItemFilter;
 import org.rinna.domain.model.WorkParadigm;
 import org.rinna.domain.model.WorkflowState;
 import org.rinna.domain.repository.UnifiedWorkItemRepository;
@@ -27,13 +28,19 @@ import org.rinna.domain.repository.UnifiedWorkItemRepository;
  * In-memory implementation of UnifiedWorkItemRepository.
  * This class provides an in-memory storage and retrieval mechanism for unified work items.
  * It is designed for development and testing purposes.
+ * Attribute and tag queries, filters and distributions are answered from a
+ * {@link UnifiedWorkItemAttributeIndex} instead of scanning every item.
  */
 public class InMemoryUnifiedWorkItemRepository implements UnifiedWorkItemRepository {
     private final Map<UUID, UnifiedWorkItem> workItemsById = new ConcurrentHashMap<>();
+    private final UnifiedWorkItemAttributeIndex index = new UnifiedWorkItemAttributeIndex();
 
     @Override
     public UnifiedWorkItem save(UnifiedWorkItem item) {
-        workItemsById.put(item.id(), item);
+        synchronized (index) {
+            workItemsById.put(item.id(), item);
+            index.put(item);
+        }
         return item;
     }
 
@@ -65,9 +72,7 @@ public class InMemoryUnifiedWorkItemRepository implements UnifiedWorkItemReposit
             return List.of();
         }
         
-        return workItemsById.values().stream()
-                .filter(item -> state.equals(item.state()))
-                .collect(Collectors.toList());
+        return index.findByState(state);
     }
 
     @Override
@@ -87,9 +92,7 @@ public class InMemoryUnifiedWorkItemRepository implements UnifiedWorkItemReposit
             return List.of();
         }
         
-        return workItemsById.values().stream()
-                .filter(item -> category.equals(item.originCategory()))
-                .collect(Collectors.toList());
+        return index.findByOriginCategory(category);
     }
 
     @Override
@@ -98,9 +101,7 @@ public class InMemoryUnifiedWorkItemRepository implements UnifiedWorkItemReposit
             return List.of();
         }
         
-        return workItemsById.values().stream()
-                .filter(item -> domain.equals(item.cynefinDomain()))
-                .collect(Collectors.toList());
+        return index.findByCynefinDomain(domain);
     }
 
     @Override
@@ -109,9 +110,7 @@ public class InMemoryUnifiedWorkItemRepository implements UnifiedWorkItemReposit
             return List.of();
         }
         
-        return workItemsById.values().stream()
-                .filter(item -> paradigm.equals(item.workParadigm()))
-                .collect(Collectors.toList());
+        return index.findByWorkParadigm(paradigm);
     }
 
     @Override
@@ -120,15 +119,7 @@ public class InMemoryUnifiedWorkItemRepository implements UnifiedWorkItemReposit
             return List.of();
         }
         
-        return workItemsById.values().stream()
-                .filter(item -> {
-                    List<String> itemTags = item.tags();
-                    if (itemTags == null || itemTags.isEmpty()) {
-                        return false;
-                    }
-                    return tags.stream().anyMatch(itemTags::contains);
-                })
-                .collect(Collectors.toList());
+        return index.findByAnyTag(tags);
     }
 
     @Override
@@ -137,33 +128,49 @@ public class InMemoryUnifiedWorkItemRepository implements UnifiedWorkItemReposit
             return List.of();
         }
         
-        return workItemsById.values().stream()
-                .filter(item -> {
-                    List<String> itemTags = item.tags();
-                    if (itemTags == null || itemTags.isEmpty()) {
-                        return false;
-                    }
-                    return itemTags.containsAll(tags);
-                })
-                .collect(Collectors.toList());
+        return index.findByAllTags(tags);
     }
 
     @Override
     public List<UnifiedWorkItem> findByCognitiveLoadGreaterThanEqual(int minimumLoad) {
-        return workItemsById.values().stream()
-                .filter(item -> item.cognitiveLoad() >= minimumLoad)
-                .collect(Collectors.toList());
+        return index.findByCognitiveLoad(minimumLoad, null);
     }
 
     @Override
     public List<UnifiedWorkItem> findByCognitiveLoadLessThanEqual(int maximumLoad) {
-        return workItemsById.values().stream()
-                .filter(item -> item.cognitiveLoad() <= maximumLoad)
-                .collect(Collectors.toList());
+        return index.findByCognitiveLoad(null, maximumLoad);
+    }
+
+    @Override
+    public List<UnifiedWorkItem> findByFilter(UnifiedWorkItemFilter filter) {
+        return index.findByFilter(filter);
+    }
+
+    @Override
+    public Map<String, Integer> countByTag() {
+        return index.countByTag();
+    }
+
+    @Override
+    public Map<OriginCategory, Integer> countByOriginCategory() {
+        return index.countByOriginCategory();
+    }
+
+    @Override
+    public Map<CynefinDomain, Integer> countByCynefinDomain() {
+        return index.countByCynefinDomain();
+    }
+
+    @Override
+    public Map<WorkParadigm, Integer> countByWorkParadigm() {
+        return index.countByWorkParadigm();
     }
 
     @Override
     public void deleteById(UUID id) {
-        workItemsById.remove(id);
+        synchronized (index) {
+            workItemsById.remove(id);
+            index.remove(id);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,356 @@
+/*
+ * UnifiedWorkItemAttributeIndex - Bitmap index over unified work item attributes
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.adapter.repository;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.rinna.domain.model.CynefinDomain;
+import org.rinna.domain.model.OriginCategory;
+import org.rinna.domain.model.UnifiedWorkItem;
+import org.rinna.domain.model.UnifiedWorkItemFilter;
+import org.rinna.domain.model.WorkParadigm;
+import org.rinna.domain.model.WorkflowState;
+
+/**
+ * An attribute index over unified work items.
+ *
+ * <p>Every indexed item gets a dense ordinal, reused after the item is removed.
+ * Each tag, state, origin category, Cynefin domain and work paradigm maps to a
+ * {@link CompressedBitmap} of the ordinals that have it, and cognitive loads map
+ * to bitmaps in a sorted map so a load range is the union of a few bitmaps. A
+ * multi-criteria filter is then a series of bitmap unions and intersections, and
+ * a distribution is the cardinality of each bitmap.</p>
+ *
+ * <p>All methods are synchronized on the index.</p>
+ */
+final class UnifiedWorkItemAttributeIndex {
+
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final List<UnifiedWorkItem> items = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    private final Map<String, CompressedBitmap> byTag = new HashMap<>();
+    private final Map<WorkflowState, CompressedBitmap> byState = new HashMap<>();
+    private final Map<OriginCategory, CompressedBitmap> byCategory = new HashMap<>();
+    private final Map<CynefinDomain, CompressedBitmap> byDomain = new HashMap<>();
+    private final Map<WorkParadigm, CompressedBitmap> byParadigm = new HashMap<>();
+    private final NavigableMap<Integer, CompressedBitmap> byCognitiveLoad = new TreeMap<>();
+
+    /**
+     * Indexes an item, replacing any earlier version with the same ID.
+     *
+     * @param item the item
+     */
+    synchronized void put(UnifiedWorkItem item) {
+        Integer existing = ordinals.get(item.id());
+        int ordinal;
+        if (existing != null) {
+            ordinal = existing;
+            unindex(ordinal, items.get(ordinal));
+            items.set(ordinal, item);
+        } else if (!freeOrdinals.isEmpty()) {
+            ordinal = freeOrdinals.pop();
+            items.set(ordinal, item);
+        } else {
+            ordinal = items.size();
+            items.add(item);
+        }
+        ordinals.put(item.id(), ordinal);
+        index(ordinal, item);
+    }
+
+    /**
+     * Removes an item from the index.
+     *
+     * @param id the item ID
+     */
+    synchronized void remove(UUID id) {
+        Integer ordinal = ordinals.remove(id);
+        if (ordinal != null) {
+            unindex(ordinal, items.get(ordinal));
+            items.set(ordinal, null);
+            freeOrdinals.push(ordinal);
+        }
+    }
+
+    /**
+     * Finds the items with any of the given tags.
+     *
+     * @param tags the tags
+     * @return the matching items
+     */
+    synchronized List<UnifiedWorkItem> findByAnyTag(Collection<String> tags) {
+        return resolve(union(byTag, tags));
+    }
+
+    /**
+     * Finds the items with all of the given tags.
+     *
+     * @param tags the tags
+     * @return the matching items
+     */
+    synchronized List<UnifiedWorkItem> findByAllTags(Collection<String> tags) {
+        return resolve(intersection(byTag, tags));
+    }
+
+    /**
+     * Finds the items in a state.
+     *
+     * @param state the state
+     * @return the matching items
+     */
+    synchronized List<UnifiedWorkItem> findByState(WorkflowState state) {
+        return resolve(byState.get(state));
+    }
+
+    /**
+     * Finds the items with an origin category.
+     *
+     * @param category the origin category
+     * @return the matching items
+     */
+    synchronized List<UnifiedWorkItem> findByOriginCategory(OriginCategory category) {
+        return resolve(byCategory.get(category));
+    }
+
+    /**
+     * Finds the items in a Cynefin domain.
+     *
+     * @param domain the Cynefin domain
+     * @return the matching items
+     */
+    synchronized List<UnifiedWorkItem> findByCynefinDomain(CynefinDomain domain) {
+        return resolve(byDomain.get(domain));
+    }
+
+    /**
+     * Finds the items with a work paradigm.
+     *
+     * @param paradigm the work paradigm
+     * @return the matching items
+     */
+    synchronized List<UnifiedWorkItem> findByWorkParadigm(WorkParadigm paradigm) {
+        return resolve(byParadigm.get(paradigm));
+    }
+
+    /**
+     * Finds the items whose cognitive load is in an inclusive range.
+     *
+     * @param min the minimum load, or null for no minimum
+     * @param max the maximum load, or null for no maximum
+     * @return the matching items
+     */
+    synchronized List<UnifiedWorkItem> findByCognitiveLoad(Integer min, Integer max) {
+        return resolve(loadRange(min, max));
+    }
+
+    /**
+     * Finds the items matching a filter by combining the bitmaps of its criteria.
+     *
+     * @param filter the filter
+     * @return the matching items
+     */
+    synchronized List<UnifiedWorkItem> findByFilter(UnifiedWorkItemFilter filter) {
+        CompressedBitmap result = null;
+        if (!filter.states().isEmpty()) {
+            result = narrow(result, union(byState, filter.states()));
+        }
+        if (!filter.categories().isEmpty()) {
+            result = narrow(result, union(byCategory, filter.categories()));
+        }
+        if (!filter.domains().isEmpty()) {
+            result = narrow(result, union(byDomain, filter.domains()));
+        }
+        if (!filter.paradigms().isEmpty()) {
+            result = narrow(result, union(byParadigm, filter.paradigms()));
+        }
+        if (!filter.anyTags().isEmpty()) {
+            result = narrow(result, union(byTag, filter.anyTags()));
+        }
+        if (!filter.allTags().isEmpty()) {
+            result = narrow(result, intersection(byTag, filter.allTags()));
+        }
+        if (filter.minCognitiveLoad() != null || filter.maxCognitiveLoad() != null) {
+            result = narrow(result, loadRange(filter.minCognitiveLoad(), filter.maxCognitiveLoad()));
+        }
+        if (result == null) {
+            return all();
+        }
+        return resolve(result);
+    }
+
+    /**
+     * Counts the items with each tag.
+     *
+     * @return the count per tag
+     */
+    synchronized Map<String, Integer> countByTag() {
+        return counts(byTag);
+    }
+
+    /**
+     * Counts the items with each origin category.
+     *
+     * @return the count per origin category
+     */
+    synchronized Map<OriginCategory, Integer> countByOriginCategory() {
+        return counts(byCategory);
+    }
+
+    /**
+     * Counts the items in each Cynefin domain.
+     *
+     * @return the count per Cynefin domain
+     */
+    synchronized Map<CynefinDomain, Integer> countByCynefinDomain() {
+        return counts(byDomain);
+    }
+
+    /**
+     * Counts the items with each work paradigm.
+     *
+     * @return the count per work paradigm
+     */
+    synchronized Map<WorkParadigm, Integer> countByWorkParadigm() {
+        return counts(byParadigm);
+    }
+
+    private List<UnifiedWorkItem> all() {
+        List<UnifiedWorkItem> result = new ArrayList<>(ordinals.size());
+        for (UnifiedWorkItem item : items) {
+            if (item != null) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    private void index(int ordinal, UnifiedWorkItem item) {
+        for (String tag : distinctTags(item)) {
+            byTag.computeIfAbsent(tag, k -> new CompressedBitmap()).add(ordinal);
+        }
+        add(byState, item.state(), ordinal);
+        add(byCategory, item.originCategory(), ordinal);
+        add(byDomain, item.cynefinDomain(), ordinal);
+        add(byParadigm, item.workParadigm(), ordinal);
+        add(byCognitiveLoad, item.cognitiveLoad(), ordinal);
+    }
+
+    private void unindex(int ordinal, UnifiedWorkItem item) {
+        for (String tag : distinctTags(item)) {
+            remove(byTag, tag, ordinal);
+        }
+        remove(byState, item.state(), ordinal);
+        remove(byCategory, item.originCategory(), ordinal);
+        remove(byDomain, item.cynefinDomain(), ordinal);
+        remove(byParadigm, item.workParadigm(), ordinal);
+        remove(byCognitiveLoad, item.cognitiveLoad(), ordinal);
+    }
+
+    private static Collection<String> distinctTags(UnifiedWorkItem item) {
+        return item.tags() != null ? new LinkedHashSet<>(item.tags()) : List.of();
+    }
+
+    private static <K> void add(Map<K, CompressedBitmap> index, K key, int ordinal) {
+        if (key != null) {
+            index.computeIfAbsent(key, k -> new CompressedBitmap()).add(ordinal);
+        }
+    }
+
+    private static <K> void remove(Map<K, CompressedBitmap> index, K key, int ordinal) {
+        if (key == null) {
+            return;
+        }
+        CompressedBitmap bitmap = index.get(key);
+        if (bitmap != null) {
+            bitmap.remove(ordinal);
+            if (bitmap.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static <K> CompressedBitmap union(Map<K, CompressedBitmap> index, Collection<K> keys) {
+        CompressedBitmap result = new CompressedBitmap();
+        for (K key : keys) {
+            CompressedBitmap bitmap = index.get(key);
+            if (bitmap != null) {
+                result = CompressedBitmap.or(result, bitmap);
+            }
+        }
+        return result;
+    }
+
+    private static <K> CompressedBitmap intersection(Map<K, CompressedBitmap> index, Collection<K> keys) {
+        // Start from the rarest key so every intermediate result is as small as possible
+        List<CompressedBitmap> bitmaps = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            CompressedBitmap bitmap = index.get(key);
+            if (bitmap == null) {
+                return new CompressedBitmap();
+            }
+            bitmaps.add(bitmap);
+        }
+        bitmaps.sort((a, b) -> Integer.compare(a.cardinality(), b.cardinality()));
+        CompressedBitmap result = null;
+        for (CompressedBitmap bitmap : bitmaps) {
+            result = narrow(result, bitmap);
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result != null ? result : new CompressedBitmap();
+    }
+
+    private CompressedBitmap loadRange(Integer min, Integer max) {
+        NavigableMap<Integer, CompressedBitmap> range = byCognitiveLoad;
+        if (min != null && max != null) {
+            if (min > max) {
+                return new CompressedBitmap();
+            }
+            range = byCognitiveLoad.subMap(min, true, max, true);
+        } else if (min != null) {
+            range = byCognitiveLoad.tailMap(min, true);
+        } else if (max != null) {
+            range = byCognitiveLoad.headMap(max, true);
+        }
+        return union(range, range.keySet());
+    }
+
+    private static CompressedBitmap narrow(CompressedBitmap current, CompressedBitmap next) {
+        return current == null ? next : CompressedBitmap.and(current, next);
+    }
+
+    private List<UnifiedWorkItem> resolve(CompressedBitmap bitmap) {
+        if (bitmap == null) {
+            return List.of();
+        }
+        List<UnifiedWorkItem> result = new ArrayList<>(bitmap.cardinality());
+        bitmap.forEach(ordinal -> result.add(items.get(ordinal)));
+        return result;
+    }
+
+    private static <K> Map<K, Integer> counts(Map<K, CompressedBitmap> index) {
+        Map<K, Integer> result = new HashMap<>();
+        for (Map.Entry<K, CompressedBitmap> entry : index.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().cardinality());
+        }
+        return result;
+    }
+}
@@ -10,17 +10,12 @@ package org.rinna.adapter.service;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.PDPage;
-import org.apache.pdfbox.pdmodel.PDPageContentStream;
-import org.apache.pdfbox.pdmodel.font.PDType1Font;
-import org.apache.poi.xwpf.usermodel.XWPFDocument;
-import org.apache.poi.xwpf.usermodel.XWPFParagraph;
-import org.apache.poi.xwpf.usermodel.XWPFRun;
 import org.rinna.domain.model.DocumentConfig;
 import org.rinna.domain.model.Project;
 import org.rinna.domain.model.Release;
@@ -36,6 +31,9 @@ import org.slf4j.LoggerFactory;
 public class DefaultDocumentService implements DocumentService {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultDocumentService.class);
     
+    private static final int FORMAT_BATCH_SIZE = 1024;
+    private static final int PARALLEL_FORMAT_THRESHOLD = 256;
+    
     private final DocumentConfig config;
     
     /**
@@ -112,20 +110,11 @@ public class DefaultDocumentService implements DocumentService {
     
     @Override
     public void generateWorkItemsDocument(List<WorkItem> workItems, Format format, TemplateType templateType, OutputStream output) {
-        try {
-            StringBuilder content = new StringBuilder("# Work Items Report\n\n");
-            content.append("Total items: ").append(workItems.size()).append("\n\n");
-            
-            for (WorkItem item : workItems) {
-                content.append("## ").append(item.getTitle()).append("\n\n");
-                content.append("- ID: ").append(item.getId()).append("\n");
-                content.append("- Type: ").append(item.getType()).append("\n");
-                content.append("- Status: ").append(item.getStatus()).append("\n");
-                content.append("- Priority: ").append(item.getPriority()).append("\n");
-                content.append("- Assignee: ").append(item.getAssignee() != null ? item.getAssignee() : "Unassigned").append("\n\n");
-            }
-            
-            generateDocument(content.toString(), format, output);
+        try (DocumentWriter writer = DocumentWriter.open(format, output)) {
+            writer.write("# Work Items Report\n\n");
+            writer.write("Total items: " + workItems.size() + "\n\n");
+            writeSections(writer, workItems, DefaultDocumentService::formatWorkItemSection);
+            writer.finish();
         } catch (Exception e) {
             LOGGER.error("Failed to generate work items document", e);
             throw new IllegalStateException("Document generation failed", e);
@@ -134,16 +123,12 @@ public class DefaultDocumentService implements DocumentService {
     
     @Override
     public void generateCustomDocument(String templatePath, Map<String, Object> data, Format format, OutputStream output) {
-        try {
+        try (DocumentWriter writer = DocumentWriter.open(format, output)) {
             // Very basic implementation - just dumps the data
-            StringBuilder content = new StringBuilder("# Custom Document\n\n");
-            
-            for (Map.Entry<String, Object> entry : data.entrySet()) {
-                content.append("## ").append(entry.getKey()).append("\n\n");
-                content.append(entry.getValue()).append("\n\n");
-            }
-            
-            generateDocument(content.toString(), format, output);
+            writer.write("# Custom Document\n\n");
+            writeSections(writer, new ArrayList<>(data.entrySet()),
+                entry -> "## " + entry.getKey() + "\n\n" + entry.getValue() + "\n\n");
+            writer.finish();
         } catch (Exception e) {
             LOGGER.error("Failed to generate custom document", e);
             throw new IllegalStateException("Document generation failed", e);
@@ -151,153 +136,55 @@ public class DefaultDocumentService implements DocumentService {
     }
     
     /**
-     * Generates a document in the requested format.
+     * Formats the section of one work item in a multi-item document.
      */
-    private void generateDocument(String content, Format format, OutputStream output) throws IOException {
-        switch (format) {
-            case PDF -> generatePdf(content, output);
-            case DOCX -> generateDocx(content, output);
-            case HTML -> generateHtml(content, output);
-        }
+    private static String formatWorkItemSection(WorkItem item) {
+        StringBuilder section = new StringBuilder();
+        section.append("## ").append(item.getTitle()).append("\n\n");
+        section.append("- ID: ").append(item.getId()).append("\n");
+        section.append("- Type: ").append(item.getType()).append("\n");
+        section.append("- Status: ").append(item.getStatus()).append("\n");
+        section.append("- Priority: ").append(item.getPriority()).append("\n");
+        section.append("- Assignee: ").append(item.getAssignee() != null ? item.getAssignee() : "Unassigned").append("\n\n");
+        return section.toString();
     }
     
     /**
-     * Generates a PDF document.
+     * Formats sections in parallel batches and writes them to a document in order.
+     * The next batch is formatted while the current one is rendered, so only two
+     * batches of formatted text are held at a time.
      */
-    private void generatePdf(String content, OutputStream output) throws IOException {
-        try (PDDocument document = new PDDocument()) {
-            PDPage page = new PDPage();
-            document.addPage(page);
-            
-            try (PDPageContentStream contentStream = new PDPageContentStream(document, page)) {
-                contentStream.beginText();
-                contentStream.setFont(PDType1Font.HELVETICA, 12);
-                contentStream.newLineAtOffset(50, 700);
-                
-                // Very basic content rendering - just line by line
-                String[] lines = content.split("\n");
-                float leading = 14;
-                
-                for (String line : lines) {
-                    // Handle headers with larger font
-                    if (line.startsWith("# ")) {
-                        contentStream.setFont(PDType1Font.HELVETICA_BOLD, 16);
-                        contentStream.showText(line.substring(2));
-                    } else if (line.startsWith("## ")) {
-                        contentStream.setFont(PDType1Font.HELVETICA_BOLD, 14);
-                        contentStream.showText(line.substring(3));
-                    } else {
-                        contentStream.setFont(PDType1Font.HELVETICA, 12);
-                        contentStream.showText(line);
-                    }
-                    
-                    contentStream.newLineAtOffset(0, -leading);
-                }
-                
-                contentStream.endText();
+    private static <T> void writeSections(DocumentWriter writer, List<T> elements, Function<T, String> formatter)
+            throws IOException {
+        CompletableFuture<List<String>> next = formatBatch(elements, 0, formatter);
+        for (int start = 0; next != null; start += FORMAT_BATCH_SIZE) {
+            List<String> sections = next.join();
+            next = formatBatch(elements, start + FORMAT_BATCH_SIZE, formatter);
+            for (String section : sections) {
+                writer.write(section);
             }
-            
-            document.save(output);
         }
     }
     
-    /**
-     * Generates a DOCX document.
-     */
-    private void generateDocx(String content, OutputStream output) throws IOException {
-        try (XWPFDocument document = new XWPFDocument()) {
-            String[] lines = content.split("\n");
-            
-            for (String line : lines) {
-                XWPFParagraph paragraph = document.createParagraph();
-                XWPFRun run = paragraph.createRun();
-                
-                // Handle headers with larger font
-                if (line.startsWith("# ")) {
-                    run.setBold(true);
-                    run.setFontSize(16);
-                    run.setText(line.substring(2));
-                } else if (line.startsWith("## ")) {
-                    run.setBold(true);
-                    run.setFontSize(14);
-                    run.setText(line.substring(3));
-                } else {
-                    run.setFontSize(12);
-                    run.setText(line);
-                }
-            }
-            
-            document.write(output);
+    private static <T> CompletableFuture<List<String>> formatBatch(List<T> elements, int start, Function<T, String> formatter) {
+        if (start >= elements.size()) {
+            return null;
         }
+        List<T> batch = elements.subList(start, Math.min(start + FORMAT_BATCH_SIZE, elements.size()));
+        if (batch.size() < PARALLEL_FORMAT_THRESHOLD) {
+            return CompletableFuture.completedFuture(batch.stream().map(formatter).toList());
+        }
+        return CompletableFuture.supplyAsync(() -> batch.parallelStream().map(formatter).toList());
     }
     
     /**
-     * Generates an HTML document.
+     * Generates a document in the requested format, rendering the content line by line.
      */
-    private void generateHtml(String content, OutputStream output) throws IOException {
-        StringBuilder html = new StringBuilder("""
-                <!DOCTYPE html>
-                <html>
-                <head>
-                    <meta charset="UTF-8">
-                    <title>Document</title>
-                    <style>
-                        body { font-family: Arial, sans-serif; margin: 40px; }
-                        h1 { font-size: 24px; color: #333; }
-                        h2 { font-size: 20px; color: #555; }
-                        p { font-size: 16px; line-height: 1.5; }
-                    </style>
-                </head>
-                <body>
-                """);
-        
-        // Very basic Markdown to HTML conversion
-        String[] lines = content.split("\n");
-        boolean inParagraph = false;
-        
-        for (String line : lines) {
-            if (line.isBlank()) {
-                if (inParagraph) {
-                    html.append("</p>\n");
-                    inParagraph = false;
-                }
-                continue;
-            }
-            
-            if (line.startsWith("# ")) {
-                if (inParagraph) {
-                    html.append("</p>\n");
-                    inParagraph = false;
-                }
-                html.append("<h1>").append(line.substring(2)).append("</h1>\n");
-            } else if (line.startsWith("## ")) {
-                if (inParagraph) {
-                    html.append("</p>\n");
-                    inParagraph = false;
-                }
-                html.append("<h2>").append(line.substring(3)).append("</h2>\n");
-            } else if (line.startsWith("- ")) {
-                if (inParagraph) {
-                    html.append("</p>\n");
-                    inParagraph = false;
-                }
-                html.append("<p>• ").append(line.substring(2)).append("</p>\n");
-            } else {
-                if (!inParagraph) {
-                    html.append("<p>");
-                    inParagraph = true;
-                }
-                html.append(line).append("<br>\n");
-            }
-        }
-        
-        if (inParagraph) {
-            html.append("</p>\n");
+    private void generateDocument(String content, Format format, OutputStream output) throws IOException {
+        try (DocumentWriter writer = DocumentWriter.open(format, output)) {
+            writer.write(content);
+            writer.finish();
         }
-        
-        html.append("</body></html>");
-        
-        output.write(html.toString().getBytes(StandardCharsets.UTF_8));
     }
     
     @Override
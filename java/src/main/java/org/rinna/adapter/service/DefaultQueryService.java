@@ -10,16 +10,24 @@
 package org.rinna.adapter.service;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
+import org.rinna.domain.model.Priority;
 import org.rinna.domain.model.WorkItem;
+import org.rinna.domain.model.WorkItemType;
+import org.rinna.domain.model.WorkflowState;
+import org.rinna.domain.model.search.PatternCache;
+import org.rinna.domain.model.search.TextPattern;
 import org.rinna.repository.ItemRepository;
 import org.rinna.repository.MetadataRepository;
 import org.rinna.usecase.ItemService;
@@ -31,6 +39,9 @@ import org.rinna.usecase.QueryService;
  */
 public class DefaultQueryService implements QueryService {
 
+    /** Fields the text search reads from the work item itself rather than from metadata. */
+    private static final Set<String> ITEM_FIELDS = Set.of("title", "description", "id", "assignee", "project");
+
     private final ItemService itemService;
     private final ItemRepository itemRepository;
     private final MetadataRepository metadataRepository;
@@ -55,14 +66,10 @@ public class DefaultQueryService implements QueryService {
         // Get all work items first
         List<WorkItem> allItems = itemService.getAllWorkItems();
         
-        // Apply filtering
-        List<WorkItem> filteredItems = applyFilters(allItems, filter);
-        
-        // Apply sorting
-        sortItems(filteredItems, filter);
-        
-        // Apply pagination
-        return applyPagination(filteredItems, filter);
+        // Filter, then keep only the sorted matches the requested page needs
+        int offset = Math.max(0, filter.getOffset());
+        int limit = Math.max(1, filter.getLimit());
+        return planFilters(allItems, filter).select(allItems, createComparator(filter), offset, limit);
     }
 
     @Override
@@ -70,82 +77,140 @@ public class DefaultQueryService implements QueryService {
         // Get all work items
         List<WorkItem> allItems = itemService.getAllWorkItems();
         
-        // Apply filtering and return count
-        return applyFilters(allItems, filter).size();
+        // Count the matches without collecting them
+        return planFilters(allItems, filter).count(allItems);
     }
 
     /**
-     * Applies all filtering criteria to the list of work items.
+     * Builds an executor holding all filtering criteria for the list of work items.
+     * Each criterion is given an estimated selectivity and a relative cost, so the
+     * executor can run the cheap and selective ones first.
      *
      * @param items the list of work items
      * @param filter the filter criteria
-     * @return the filtered list
+     * @return the query executor
      */
-    private List<WorkItem> applyFilters(List<WorkItem> items, QueryFilter filter) {
-        List<Predicate<WorkItem>> predicates = new ArrayList<>();
+    private QueryExecutor planFilters(List<WorkItem> items, QueryFilter filter) {
+        QueryExecutor executor = new QueryExecutor();
         
-        // Add text search predicate if pattern is specified
+        // Load every metadata value the filter reads up front, instead of once per item and predicate
+        MetadataColumns metadata = loadMetadata(items, filter);
+        
+        // Add text search predicate if pattern is specified; regex matching is the costliest check
         if (filter.getTextPattern() != null && !filter.getTextPattern().isEmpty()) {
-            predicates.add(createTextSearchPredicate(filter));
+            executor.add(createTextSearchPredicate(filter, metadata), 0.2, 20);
         }
         
         // Add type filter
         if (filter.getType() != null) {
-            predicates.add(item -> item.type() == filter.getType());
+            executor.add(item -> item.type() == filter.getType(),
+                    1.0 / WorkItemType.values().length, 1);
         }
         
         // Add priority filter
         if (filter.getPriority() != null) {
-            predicates.add(item -> item.priority() == filter.getPriority());
+            executor.add(item -> item.priority() == filter.getPriority(),
+                    1.0 / Priority.values().length, 1);
         }
         
         // Add state filter
         if (filter.getState() != null) {
-            predicates.add(item -> item.state() == filter.getState());
+            executor.add(item -> item.state() == filter.getState(),
+                    1.0 / WorkflowState.values().length, 1);
         }
         
         // Add assignee filter
         if (filter.getAssignee() != null && !filter.getAssignee().isEmpty()) {
-            predicates.add(item -> filter.getAssignee().equals(item.assignee()));
+            executor.add(item -> filter.getAssignee().equals(item.assignee()), 0.1, 1);
         }
         
         // Add reporter filter (using metadata)
         if (filter.getReporter() != null && !filter.getReporter().isEmpty()) {
-            predicates.add(createReporterPredicate(filter));
+            executor.add(createReporterPredicate(filter, metadata), 0.1, 2);
         }
         
         // Add project filter
         if (filter.getProject() != null && !filter.getProject().isEmpty()) {
-            predicates.add(item -> filter.getProject().equals(item.project()));
+            executor.add(item -> filter.getProject().equals(item.project()), 0.2, 1);
         }
         
         // Add date filters
-        addDateFilters(predicates, filter);
+        addDateFilters(executor, filter, metadata);
         
         // Add link filter
         if (filter.getLinkedItemIds() != null && !filter.getLinkedItemIds().isEmpty()) {
-            predicates.add(createLinkedItemsPredicate(filter));
+            executor.add(createLinkedItemsPredicate(filter, metadata), 0.05, 3);
         }
         
         // Add tag filter
         if (filter.getTags() != null && !filter.getTags().isEmpty()) {
-            predicates.add(createTagsPredicate(filter));
+            executor.add(createTagsPredicate(filter, metadata), 0.1, 3);
+        }
+        
+        return executor;
+    }
+    
+    /**
+     * Loads the metadata keys the filter reads for all the given work items.
+     *
+     * @param items the list of work items
+     * @param filter the filter criteria
+     * @return the loaded metadata
+     */
+    private MetadataColumns loadMetadata(List<WorkItem> items, QueryFilter filter) {
+        Set<String> keys = requiredMetadataKeys(filter);
+        if (keys.isEmpty() || items.isEmpty()) {
+            return new MetadataColumns(Map.of());
+        }
+        
+        List<UUID> ids = new ArrayList<>(items.size());
+        for (WorkItem item : items) {
+            ids.add(item.id());
+        }
+        return new MetadataColumns(metadataRepository.getMetadataColumns(ids, keys));
+    }
+    
+    /**
+     * Works out which metadata keys the predicates for a filter read.
+     *
+     * @param filter the filter criteria
+     * @return the metadata keys
+     */
+    private Set<String> requiredMetadataKeys(QueryFilter filter) {
+        Set<String> keys = new LinkedHashSet<>();
+        
+        if (filter.getTextPattern() != null && !filter.getTextPattern().isEmpty() && filter.getFields() != null) {
+            for (String field : filter.getFields()) {
+                if (!ITEM_FIELDS.contains(field.toLowerCase())) {
+                    keys.add(field);
+                }
+            }
+        }
+        if (filter.getReporter() != null && !filter.getReporter().isEmpty()) {
+            keys.add("reporter");
+        }
+        if (filter.getUpdatedAfter() != null || filter.getUpdatedBefore() != null) {
+            keys.add("last_updated");
+        }
+        if (filter.getLinkedItemIds() != null && !filter.getLinkedItemIds().isEmpty()) {
+            keys.add("linked_items");
+        }
+        if (filter.getTags() != null && !filter.getTags().isEmpty()) {
+            keys.add("tags");
         }
         
-        // Combine all predicates with AND logic
-        return items.stream()
-                .filter(predicates.stream().reduce(x -> true, Predicate::and))
-                .collect(Collectors.toList());
+        return keys;
     }
     
     /**
      * Creates a predicate for text search.
      *
      * @param filter the filter criteria
+     * @param metadata the preloaded metadata
      * @return the text search predicate
      */
-    private Predicate<WorkItem> createTextSearchPredicate(QueryFilter filter) {
-        Pattern pattern = preparePattern(filter.getTextPattern(), 
+    private Predicate<WorkItem> createTextSearchPredicate(QueryFilter filter, MetadataColumns metadata) {
+        TextPattern pattern = preparePattern(filter.getTextPattern(), 
                                        filter.isCaseSensitive(), 
                                        filter.isExactMatch());
         
@@ -162,35 +227,34 @@ public class DefaultQueryService implements QueryService {
             for (String field : fields) {
                 switch (field.toLowerCase()) {
                     case "title":
-                        if (item.title() != null && pattern.matcher(item.title()).find()) {
+                        if (item.title() != null && pattern.find(item.title())) {
                             return true;
                         }
                         break;
                     case "description":
-                        if (item.description() != null && pattern.matcher(item.description()).find()) {
+                        if (item.description() != null && pattern.find(item.description())) {
                             return true;
                         }
                         break;
                     case "id":
-                        if (item.id() != null && pattern.matcher(item.id().toString()).find()) {
+                        if (item.id() != null && pattern.find(item.id().toString())) {
                             return true;
                         }
                         break;
                     case "assignee":
-                        if (item.assignee() != null && pattern.matcher(item.assignee()).find()) {
+                        if (item.assignee() != null && pattern.find(item.assignee())) {
                             return true;
                         }
                         break;
                     case "project":
-                        if (item.project() != null && pattern.matcher(item.project()).find()) {
+                        if (item.project() != null && pattern.find(item.project())) {
                             return true;
                         }
                         break;
                     default:
                         // For other fields, check metadata
-                        Map<String, String> metadata = metadataRepository.getMetadata(item.id());
-                        if (metadata != null && metadata.containsKey(field) && 
-                            pattern.matcher(metadata.get(field)).find()) {
+                        String value = metadata.value(field, item);
+                        if (value != null && pattern.find(value)) {
                             return true;
                         }
                 }
@@ -204,73 +268,52 @@ public class DefaultQueryService implements QueryService {
      * Creates a predicate for reporter filtering.
      *
      * @param filter the filter criteria
+     * @param metadata the preloaded metadata
      * @return the reporter predicate
      */
-    private Predicate<WorkItem> createReporterPredicate(QueryFilter filter) {
-        return item -> {
-            Map<String, String> metadata = metadataRepository.getMetadata(item.id());
-            return metadata != null && 
-                  filter.getReporter().equals(metadata.getOrDefault("reporter", ""));
-        };
+    private Predicate<WorkItem> createReporterPredicate(QueryFilter filter, MetadataColumns metadata) {
+        return item -> filter.getReporter().equals(metadata.value("reporter", item));
     }
     
     /**
-     * Adds date-related filters to the predicate list.
+     * Adds date-related filters to the query executor.
      *
-     * @param predicates the list of predicates
+     * @param executor the query executor
      * @param filter the filter criteria
+     * @param metadata the preloaded metadata
      */
-    private void addDateFilters(List<Predicate<WorkItem>> predicates, QueryFilter filter) {
+    private void addDateFilters(QueryExecutor executor, QueryFilter filter, MetadataColumns metadata) {
         // Created after
         if (filter.getCreatedAfter() != null) {
-            predicates.add(item -> {
+            executor.add(item -> {
                 LocalDateTime created = item.created();
                 return created != null && created.isAfter(filter.getCreatedAfter());
-            });
+            }, 0.5, 1);
         }
         
         // Created before
         if (filter.getCreatedBefore() != null) {
-            predicates.add(item -> {
+            executor.add(item -> {
                 LocalDateTime created = item.created();
                 return created != null && created.isBefore(filter.getCreatedBefore());
-            });
+            }, 0.5, 1);
         }
         
-        // Updated after
+        // Updated after, using metadata for the last updated time; items without
+        // a parseable update time are assumed to match
         if (filter.getUpdatedAfter() != null) {
-            predicates.add(item -> {
-                // Use metadata for last updated time
-                Map<String, String> metadata = metadataRepository.getMetadata(item.id());
-                if (metadata != null && metadata.containsKey("last_updated")) {
-                    try {
-                        LocalDateTime updated = LocalDateTime.parse(metadata.get("last_updated"));
-                        return updated.isAfter(filter.getUpdatedAfter());
-                    } catch (Exception e) {
-                        // If parsing fails, skip this predicate
-                        return true;
-                    }
-                }
-                return true; // No update time, assume it matches
-            });
+            executor.add(item -> {
+                LocalDateTime updated = metadata.lastUpdated(item);
+                return updated == null || updated.isAfter(filter.getUpdatedAfter());
+            }, 0.5, 2);
         }
         
         // Updated before
         if (filter.getUpdatedBefore() != null) {
-            predicates.add(item -> {
-                // Use metadata for last updated time
-                Map<String, String> metadata = metadataRepository.getMetadata(item.id());
-                if (metadata != null && metadata.containsKey("last_updated")) {
-                    try {
-                        LocalDateTime updated = LocalDateTime.parse(metadata.get("last_updated"));
-                        return updated.isBefore(filter.getUpdatedBefore());
-                    } catch (Exception e) {
-                        // If parsing fails, skip this predicate
-                        return true;
-                    }
-                }
-                return true; // No update time, assume it matches
-            });
+            executor.add(item -> {
+                LocalDateTime updated = metadata.lastUpdated(item);
+                return updated == null || updated.isBefore(filter.getUpdatedBefore());
+            }, 0.5, 2);
         }
     }
     
@@ -278,19 +321,14 @@ public class DefaultQueryService implements QueryService {
      * Creates a predicate for linked items filtering.
      *
      * @param filter the filter criteria
+     * @param metadata the preloaded metadata
      * @return the linked items predicate
      */
-    private Predicate<WorkItem> createLinkedItemsPredicate(QueryFilter filter) {
+    private Predicate<WorkItem> createLinkedItemsPredicate(QueryFilter filter, MetadataColumns metadata) {
         return item -> {
             // In a real implementation, we would check the relationships from a dedicated repository
             // For now, we'll use a simplified approach with metadata
-            Map<String, String> metadata = metadataRepository.getMetadata(item.id());
-            if (metadata == null || !metadata.containsKey("linked_items")) {
-                return false;
-            }
-            
-            String linkedItemsStr = metadata.get("linked_items");
-            List<UUID> linkedItems = parseLinkedItems(linkedItemsStr);
+            List<UUID> linkedItems = metadata.linkedItems(item);
             
             // Check if any of the required linked items are in this item's linked items
             return linkedItems.stream().anyMatch(filter.getLinkedItemIds()::contains);
@@ -303,7 +341,7 @@ public class DefaultQueryService implements QueryService {
      * @param linkedItemsStr the linked items string
      * @return the list of linked item IDs
      */
-    private List<UUID> parseLinkedItems(String linkedItemsStr) {
+    private static List<UUID> parseLinkedItems(String linkedItemsStr) {
         List<UUID> result = new ArrayList<>();
         if (linkedItemsStr == null || linkedItemsStr.isEmpty()) {
             return result;
@@ -325,20 +363,15 @@ public class DefaultQueryService implements QueryService {
      * Creates a predicate for tags filtering.
      *
      * @param filter the filter criteria
+     * @param metadata the preloaded metadata
      * @return the tags predicate
      */
-    private Predicate<WorkItem> createTagsPredicate(QueryFilter filter) {
+    private Predicate<WorkItem> createTagsPredicate(QueryFilter filter, MetadataColumns metadata) {
         return item -> {
-            Map<String, String> metadata = metadataRepository.getMetadata(item.id());
-            if (metadata == null || !metadata.containsKey("tags")) {
-                return false;
-            }
-            
-            String tagsStr = metadata.get("tags");
-            List<String> tags = parseTags(tagsStr);
+            List<String> tags = metadata.tags(item);
             
             // Check if all required tags are present
-            return tags.containsAll(filter.getTags());
+            return tags != null && tags.containsAll(filter.getTags());
         };
     }
     
@@ -348,7 +381,7 @@ public class DefaultQueryService implements QueryService {
      * @param tagsStr the tags string
      * @return the list of tags
      */
-    private List<String> parseTags(String tagsStr) {
+    private static List<String> parseTags(String tagsStr) {
         List<String> result = new ArrayList<>();
         if (tagsStr == null || tagsStr.isEmpty()) {
             return result;
@@ -363,12 +396,12 @@ public class DefaultQueryService implements QueryService {
     }
     
     /**
-     * Sorts the list of work items according to the filter criteria.
+     * Creates the sort order of work items according to the filter criteria.
      *
-     * @param items the list of work items
      * @param filter the filter criteria
+     * @return the comparator
      */
-    private void sortItems(List<WorkItem> items, QueryFilter filter) {
+    private Comparator<WorkItem> createComparator(QueryFilter filter) {
         String sortField = filter.getSortBy();
         if (sortField == null || sortField.isEmpty()) {
             sortField = "created"; // Default sort field
@@ -412,51 +445,80 @@ public class DefaultQueryService implements QueryService {
             comparator = comparator.reversed();
         }
         
-        // Sort the list
-        items.sort(comparator);
+        return comparator;
     }
     
     /**
-     * Applies pagination to the list of work items.
+     * Prepares a literal search pattern based on search settings, reusing the
+     * compiled pattern from the shared pattern cache.
      *
-     * @param items the list of work items
-     * @param filter the filter criteria
-     * @return the paginated list
+     * @param pattern the search pattern
+     * @param caseSensitive true for case-sensitive search
+     * @param exactMatch true for whole word matching
+     * @return the compiled pattern
      */
-    private List<WorkItem> applyPagination(List<WorkItem> items, QueryFilter filter) {
-        int offset = Math.max(0, filter.getOffset());
-        int limit = Math.max(1, filter.getLimit());
-        
-        // Apply offset
-        List<WorkItem> result = offset < items.size() ? 
-                items.subList(offset, items.size()) : new ArrayList<>();
+    private TextPattern preparePattern(String pattern, boolean caseSensitive, boolean exactMatch) {
+        // Set case sensitivity flag
+        int flags = caseSensitive ? 0 : Pattern.CASE_INSENSITIVE;
         
-        // Apply limit
-        return result.size() > limit ? result.subList(0, limit) : result;
+        // Match whole words only, or anywhere in text
+        return PatternCache.shared().literal(pattern, flags, exactMatch);
     }
     
     /**
-     * Prepares a regex pattern based on search settings.
-     *
-     * @param pattern the search pattern
-     * @param caseSensitive true for case-sensitive search
-     * @param exactMatch true for whole word matching
-     * @return the compiled pattern
+     * The metadata a query reads, loaded for all candidate work items before the
+     * predicates run. Values are kept in one column per metadata key, and the
+     * columns the predicates parse are parsed once per work item rather than once
+     * per predicate evaluation. Instances are read-only once built.
      */
-    private Pattern preparePattern(String pattern, boolean caseSensitive, boolean exactMatch) {
-        String regex;
+    private static final class MetadataColumns {
+        private final Map<String, Map<UUID, String>> columns;
+        private final Map<UUID, List<String>> tags = new HashMap<>();
+        private final Map<UUID, List<UUID>> linkedItems = new HashMap<>();
+        private final Map<UUID, LocalDateTime> lastUpdated = new HashMap<>();
+        
+        MetadataColumns(Map<String, Map<UUID, String>> columns) {
+            this.columns = columns;
+            columns.getOrDefault("tags", Map.of())
+                    .forEach((id, value) -> tags.put(id, parseTags(value)));
+            columns.getOrDefault("linked_items", Map.of())
+                    .forEach((id, value) -> linkedItems.put(id, parseLinkedItems(value)));
+            columns.getOrDefault("last_updated", Map.of()).forEach((id, value) -> {
+                try {
+                    lastUpdated.put(id, LocalDateTime.parse(value));
+                } catch (DateTimeParseException e) {
+                    // Leave unparseable times out, so the item is treated as having none
+                }
+            });
+        }
         
-        if (exactMatch) {
-            // Match whole words only
-            regex = "\\b" + Pattern.quote(pattern) + "\\b";
-        } else {
-            // Match anywhere in text
-            regex = Pattern.quote(pattern);
+        /**
+         * Returns the value of a metadata key for a work item, or null if it has none.
+         */
+        String value(String key, WorkItem item) {
+            Map<UUID, String> column = columns.get(key);
+            return column != null ? column.get(item.id()) : null;
         }
         
-        // Set case sensitivity flag
-        int flags = caseSensitive ? 0 : Pattern.CASE_INSENSITIVE;
+        /**
+         * Returns the parsed tags of a work item, or null if it has no tags entry.
+         */
+        List<String> tags(WorkItem item) {
+            return tags.get(item.id());
+        }
+        
+        /**
+         * Returns the parsed linked item IDs of a work item, empty if it has none.
+         */
+        List<UUID> linkedItems(WorkItem item) {
+            return linkedItems.getOrDefault(item.id(), List.of());
+        }
         
-        return Pattern.compile(regex, flags);
+        /**
+         * Returns the last updated time of a work item, or null if it has none.
+         */
+        LocalDateTime lastUpdated(WorkItem item) {
+            return lastUpdated.get(item.id());
+        }
     }
-}
\ No newline at end of file
+}
@@ -12,11 +12,12 @@ package org.rinna.adapter.service;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.rinna.domain.SearchResult;
 import org.rinna.domain.WorkItem;
+import org.rinna.domain.model.search.PatternCache;
+import org.rinna.domain.model.search.TextPattern;
 import org.rinna.usecase.ItemService;
 import org.rinna.usecase.SearchService;
 
@@ -41,7 +42,7 @@ public class DefaultSearchService implements SearchService {
         List<SearchResult> results = new ArrayList<>();
         
         // Prepare search pattern
-        Pattern regexPattern = preparePattern(pattern, caseSensitive, exactMatch);
+        TextPattern textPattern = preparePattern(pattern, caseSensitive, exactMatch);
         
         // Get all work items
         List<WorkItem> workItems = itemService.getAllWorkItems();
@@ -49,10 +50,10 @@ public class DefaultSearchService implements SearchService {
         // Search in each work item
         for (WorkItem item : workItems) {
             // Search in title
-            searchInField(results, item.id(), "title", item.title(), regexPattern);
+            searchInField(results, item.id(), "title", item.title(), textPattern);
             
             // Search in description
-            searchInField(results, item.id(), "description", item.description(), regexPattern);
+            searchInField(results, item.id(), "description", item.description(), textPattern);
         }
         
         return results;
@@ -67,7 +68,7 @@ public class DefaultSearchService implements SearchService {
         List<SearchResult> results = new ArrayList<>();
         
         // Prepare search pattern
-        Pattern regexPattern = preparePattern(pattern, caseSensitive, exactMatch);
+        TextPattern textPattern = preparePattern(pattern, caseSensitive, exactMatch);
         
         // Get all work items
         List<WorkItem> workItems = itemService.getAllWorkItems();
@@ -75,30 +76,23 @@ public class DefaultSearchService implements SearchService {
         // Search in each work item
         for (WorkItem item : workItems) {
             // For title, we don't need context since it's typically short
-            searchInField(results, item.id(), "title", item.title(), regexPattern);
+            searchInField(results, item.id(), "title", item.title(), textPattern);
             
             // For description, include context
-            // First check if there are any matches
-            Matcher matcher = regexPattern.matcher(item.description());
-            if (matcher.find()) {
-                // Reset matcher
-                matcher.reset();
-                
-                // Include the full description as context
-                // (in a real system, we'd extract only the relevant context lines)
-                List<SearchResult.Match> matches = new ArrayList<>();
-                
-                while (matcher.find()) {
-                    matches.add(new SearchResult.Match(
-                            matcher.start(), 
-                            matcher.end(), 
-                            matcher.group()
-                    ));
-                }
-                
-                if (!matches.isEmpty()) {
-                    results.add(new SearchResult(item.id(), "description", item.description(), matches));
-                }
+            // Include the full description as context
+            // (in a real system, we'd extract only the relevant context lines)
+            String description = item.description();
+            List<SearchResult.Match> matches = new ArrayList<>();
+            if (description != null) {
+                textPattern.forEachMatch(description, (start, end) -> matches.add(new SearchResult.Match(
+                        start, 
+                        end, 
+                        description.substring(start, end)
+                )));
+            }
+            
+            if (!matches.isEmpty()) {
+                results.add(new SearchResult(item.id(), "description", description, matches));
             }
         }
         
@@ -106,8 +100,9 @@ public class DefaultSearchService implements SearchService {
     }
     
     /**
-     * Prepares a regex pattern based on search settings.
+     * Prepares a search pattern based on search settings.
      * Includes input validation and security measures to prevent ReDoS attacks.
+     * The pattern is matched as a literal and taken from the shared pattern cache.
      *
      * @param pattern the search pattern
      * @param caseSensitive true for case-sensitive search
@@ -115,7 +110,7 @@ public class DefaultSearchService implements SearchService {
      * @return the compiled pattern
      * @throws IllegalArgumentException if the pattern is null, empty, or exceeds length limits
      */
-    private Pattern preparePattern(String pattern, boolean caseSensitive, boolean exactMatch) {
+    private TextPattern preparePattern(String pattern, boolean caseSensitive, boolean exactMatch) {
         // Input validation
         if (pattern == null) {
             throw new IllegalArgumentException("Pattern cannot be null");
@@ -127,25 +122,11 @@ public class DefaultSearchService implements SearchService {
             throw new IllegalArgumentException("Pattern too long (max " + MAX_PATTERN_LENGTH + " chars)");
         }
         
-        String regex;
-        
-        if (exactMatch) {
-            // Match whole words only
-            regex = "\\b" + Pattern.quote(pattern) + "\\b";
-        } else {
-            // Match anywhere in text
-            regex = Pattern.quote(pattern);
-        }
-        
         // Set case sensitivity flag
         int flags = caseSensitive ? 0 : Pattern.CASE_INSENSITIVE;
         
-        try {
-            return Pattern.compile(regex, flags);
-        } catch (Exception e) {
-            // Handle potential regex compilation errors
-            throw new IllegalArgumentException("Invalid pattern: " + e.getMessage());
-        }
+        // Match whole words only, or anywhere in text
+        return PatternCache.shared().literal(pattern, flags, exactMatch);
     }
     
     /**
@@ -158,17 +139,13 @@ public class DefaultSearchService implements SearchService {
      * @param pattern the search pattern
      */
     private void searchInField(List<SearchResult> results, UUID itemId, String fieldName, 
-                              String text, Pattern pattern) {
+                              String text, TextPattern pattern) {
         if (text == null || text.isEmpty()) {
             return;
         }
         
-        Matcher matcher = pattern.matcher(text);
         List<SearchResult.Match> matches = new ArrayList<>();
-        
-        while (matcher.find()) {
-            matches.add(new SearchResult.Match(matcher.start(), matcher.end()));
-        }
+        pattern.forEachMatch(text, (start, end) -> matches.add(new SearchResult.Match(start, end)));
         
         if (!matches.isEmpty()) {
             results.add(new SearchResult(itemId, fieldName, text, matches));
@@ -19,6 +19,7 @@ import java.util.stream.Collectors;
 import org.rinna.domain.model.CynefinDomain;
 import org.rinna.domain.model.OriginCategory;
 import org.rinna.domain.model.UnifiedWorkItem;
+import org.rinna.domain.model.UnifiedWorkItemFilter;
 import org.rinna.domain.model.UnifiedWorkItemRecord;
 import org.rinna.domain.model.WorkParadigm;
 import org.rinna.domain.model.WorkflowState;
@@ -105,6 +106,11 @@ public class DefaultUnifiedWorkItemService implements UnifiedWorkItemService {
     public List<UnifiedWorkItem> findByAllTags(List<String> tags) {
         return repository.findByAllTags(tags);
     }
+
+    @Override
+    public List<UnifiedWorkItem> findByFilter(UnifiedWorkItemFilter filter) {
+        return repository.findByFilter(filter);
+    }
     
     @Override
     public UnifiedWorkItem updateAssignee(UUID id, String assignee) {
@@ -567,31 +573,22 @@ public class DefaultUnifiedWorkItemService implements UnifiedWorkItemService {
     
     @Override
     public Map<String, Map<String, Integer>> getWorkItemDistribution() {
-        // Get all work items
-        List<UnifiedWorkItem> allItems = findAll();
-        
         // Calculate distribution by category
-        Map<OriginCategory, Long> byCategory = allItems.stream()
-                .collect(Collectors.groupingBy(UnifiedWorkItem::originCategory, Collectors.counting()));
         Map<String, Integer> categoryDistribution = new HashMap<>();
-        for (Map.Entry<OriginCategory, Long> entry : byCategory.entrySet()) {
-            categoryDistribution.put(entry.getKey().getDisplayName(), entry.getValue().intValue());
+        for (Map.Entry<OriginCategory, Integer> entry : repository.countByOriginCategory().entrySet()) {
+            categoryDistribution.put(entry.getKey().getDisplayName(), entry.getValue());
         }
         
         // Calculate distribution by domain
-        Map<CynefinDomain, Long> byDomain = allItems.stream()
-                .collect(Collectors.groupingBy(UnifiedWorkItem::cynefinDomain, Collectors.counting()));
         Map<String, Integer> domainDistribution = new HashMap<>();
-        for (Map.Entry<CynefinDomain, Long> entry : byDomain.entrySet()) {
-            domainDistribution.put(entry.getKey().getDisplayName(), entry.getValue().intValue());
+        for (Map.Entry<CynefinDomain, Integer> entry : repository.countByCynefinDomain().entrySet()) {
+            domainDistribution.put(entry.getKey().getDisplayName(), entry.getValue());
         }
         
         // Calculate distribution by paradigm
-        Map<WorkParadigm, Long> byParadigm = allItems.stream()
-                .collect(Collectors.groupingBy(UnifiedWorkItem::workParadigm, Collectors.counting()));
         Map<String, Integer> paradigmDistribution = new HashMap<>();
-        for (Map.Entry<WorkParadigm, Long> entry : byParadigm.entrySet()) {
-            paradigmDistribution.put(entry.getKey().getDisplayName(), entry.getValue().intValue());
+        for (Map.Entry<WorkParadigm, Integer> entry : repository.countByWorkParadigm().entrySet()) {
+            paradigmDistribution.put(entry.getKey().getDisplayName(), entry.getValue());
         }
         
         // Create the result map
@@ -599,6 +596,7 @@ public class DefaultUnifiedWorkItemService implements UnifiedWorkItemService {
         result.put("byCategory", categoryDistribution);
         result.put("byDomain", domainDistribution);
         result.put("byParadigm", paradigmDistribution);
+        result.put("byTag", repository.countByTag());
         
         return result;
     }
@@ -0,0 +1,188 @@
+/*
+ * QueryExecutor - Filters, counts and pages work items in memory
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.adapter.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+
+import org.rinna.domain.model.WorkItem;
+
+/**
+ * Runs the criteria of a query over an in-memory list of work items.
+ *
+ * <p>Each criterion carries an estimated selectivity, the fraction of work items
+ * expected to pass it, and a relative cost. Criteria are evaluated cheapest per
+ * rejected item first, that is in ascending order of cost / (1 - selectivity), so
+ * most items are rejected before the expensive checks such as text search run.
+ * Inputs of at least {@value #PARALLEL_THRESHOLD} items are split across the common
+ * ForkJoin pool. Counting never builds the list of matches, and a page of sorted
+ * matches is selected with a heap bounded by offset + limit instead of sorting
+ * every match.</p>
+ *
+ * <p>Ties in the sort order keep the order of the input, as a stable sort would.
+ * Criteria must be safe to evaluate from several threads.</p>
+ */
+final class QueryExecutor {
+
+    /** Smallest input that is filtered in parallel. */
+    static final int PARALLEL_THRESHOLD = 8192;
+
+    private final List<Criterion> criteria = new ArrayList<>();
+
+    /**
+     * Adds a criterion that every matching work item must pass.
+     *
+     * @param predicate the criterion
+     * @param selectivity the estimated fraction of work items that pass, between 0 and 1
+     * @param cost the relative cost of evaluating the criterion once
+     * @return this executor
+     */
+    QueryExecutor add(Predicate<WorkItem> predicate, double selectivity, double cost) {
+        criteria.add(new Criterion(predicate, selectivity, cost));
+        return this;
+    }
+
+    /**
+     * Counts the work items that pass every criterion.
+     *
+     * @param items the work items
+     * @return the number of matching work items
+     */
+    int count(List<WorkItem> items) {
+        if (criteria.isEmpty()) {
+            return items.size();
+        }
+        List<WorkItem> source = randomAccess(items);
+        return (int) matches(source).count();
+    }
+
+    /**
+     * Returns one page of the matching work items in sorted order.
+     *
+     * @param items the work items
+     * @param order the sort order
+     * @param offset the number of sorted matches to skip
+     * @param limit the largest number of matches to return
+     * @return the page of matching work items
+     */
+    List<WorkItem> select(List<WorkItem> items, Comparator<WorkItem> order, int offset, int limit) {
+        List<WorkItem> source = randomAccess(items);
+        int keep = (int) Math.min(source.size(), (long) offset + limit);
+        if (keep <= offset) {
+            return new ArrayList<>();
+        }
+
+        // Break ties by input position so the page matches a stable sort of all matches
+        Comparator<Integer> byIndex = (a, b) -> {
+            int result = order.compare(source.get(a), source.get(b));
+            return result != 0 ? result : Integer.compare(a, b);
+        };
+        List<Integer> top = matches(source).boxed().collect(Collector.of(
+                () -> new TopK(keep, byIndex),
+                TopK::add,
+                TopK::merge,
+                TopK::sorted));
+
+        List<WorkItem> page = new ArrayList<>(Math.max(0, top.size() - offset));
+        for (int i = offset; i < top.size(); i++) {
+            page.add(source.get(top.get(i)));
+        }
+        return page;
+    }
+
+    /**
+     * Returns the positions of the matching work items.
+     */
+    private IntStream matches(List<WorkItem> source) {
+        Predicate<WorkItem> plan = plan();
+        IntStream indexes = IntStream.range(0, source.size());
+        if (source.size() >= PARALLEL_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        return indexes.filter(index -> plan.test(source.get(index)));
+    }
+
+    /**
+     * Orders the criteria by expected cost per rejected item and combines them.
+     */
+    private Predicate<WorkItem> plan() {
+        List<Criterion> ordered = new ArrayList<>(criteria);
+        ordered.sort(Comparator.comparingDouble(Criterion::rank));
+        @SuppressWarnings("unchecked")
+        Predicate<WorkItem>[] predicates = ordered.stream()
+                .map(Criterion::predicate)
+                .toArray(Predicate[]::new);
+        return item -> {
+            for (Predicate<WorkItem> predicate : predicates) {
+                if (!predicate.test(item)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static List<WorkItem> randomAccess(List<WorkItem> items) {
+        return items instanceof RandomAccess ? items : new ArrayList<>(items);
+    }
+
+    /**
+     * A criterion with its estimated selectivity and cost.
+     */
+    private record Criterion(Predicate<WorkItem> predicate, double selectivity, double cost) {
+        double rank() {
+            // A criterion that rejects nothing goes last
+            double rejected = 1.0 - Math.min(selectivity, 1.0);
+            return rejected > 0 ? cost / rejected : Double.MAX_VALUE;
+        }
+    }
+
+    /**
+     * The smallest positions under an order, kept in a heap whose head is the largest kept.
+     */
+    private static final class TopK {
+        private final int capacity;
+        private final Comparator<Integer> order;
+        private final PriorityQueue<Integer> heap;
+
+        TopK(int capacity, Comparator<Integer> order) {
+            this.capacity = capacity;
+            this.order = order;
+            this.heap = new PriorityQueue<>(Math.min(capacity, 1024) + 1, order.reversed());
+        }
+
+        void add(Integer index) {
+            if (heap.size() < capacity) {
+                heap.add(index);
+            } else if (order.compare(index, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(index);
+            }
+        }
+
+        TopK merge(TopK other) {
+            for (Integer index : other.heap) {
+                add(index);
+            }
+            return this;
+        }
+
+        List<Integer> sorted() {
+            List<Integer> result = new ArrayList<>(heap);
+            result.sort(order);
+            return result;
+        }
+    }
+}
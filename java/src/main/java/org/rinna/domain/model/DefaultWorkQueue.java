@@ -10,23 +10,65 @@ package org.rinna.domain.model;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
  * Default implementation of the WorkQueue interface.
+ *
+ * <p>Items are kept in an indexed binary heap ordered by a cached score from a
+ * {@link WorkItemScorer}, with ties broken by age. Adding, removing and rescoring
+ * one item take O(log n), the next item is read in O(1), and reprioritizing the
+ * whole queue rescores every item once and rebuilds the heap in O(n). The sorted
+ * item list is only rebuilt when the queue changed since it was last read.</p>
  */
 public class DefaultWorkQueue implements WorkQueue {
+    /**
+     * The default ordering: HIGH priority items before MEDIUM before LOW, and
+     * within a priority BUGs before FEATUREs before CHOREs before GOALs.
+     */
+    public static final WorkItemScorer PRIORITY_SCORER = DefaultWorkQueue::priorityScore;
+
+    private static final int TYPE_SLOTS = 8;
+
+    private static final Comparator<Entry> ENTRY_ORDER = Comparator
+        .comparingLong((Entry entry) -> entry.score)
+        .thenComparing(entry -> entry.item.getCreatedAt(), Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparingLong(entry -> entry.sequence);
+
     private final UUID id;
     private final String name;
     private final String description;
     private boolean active;
-    private final List<WorkItem> items;
+    private final List<Entry> heap = new ArrayList<>();
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private WorkItemScorer scorer = PRIORITY_SCORER;
+    private long nextSequence;
+    private List<WorkItem> sortedItems;
     private final Instant createdAt;
     private Instant updatedAt;
+
+    /**
+     * A queued item with its cached score and heap position.
+     */
+    private static final class Entry {
+        private WorkItem item;
+        private long score;
+        private final long sequence;
+        private int index;
+
+        Entry(WorkItem item, long score, long sequence) {
+            this.item = item;
+            this.score = score;
+            this.sequence = sequence;
+        }
+    }
     
     /**
      * Creates a new DefaultWorkQueue with the given parameters.
@@ -41,7 +83,6 @@ public class DefaultWorkQueue implements WorkQueue {
         this.name = name;
         this.description = description;
         this.active = active;
-        this.items = new ArrayList<>();
         this.createdAt = Instant.now();
         this.updatedAt = this.createdAt;
     }
@@ -87,90 +128,163 @@ public class DefaultWorkQueue implements WorkQueue {
     }
     
     @Override
-    public List<WorkItem> getItems() {
-        return new ArrayList<>(items);
+    public synchronized List<WorkItem> getItems() {
+        if (sortedItems == null) {
+            List<Entry> sorted = new ArrayList<>(heap);
+            sorted.sort(ENTRY_ORDER);
+            List<WorkItem> items = new ArrayList<>(sorted.size());
+            for (Entry entry : sorted) {
+                items.add(entry.item);
+            }
+            sortedItems = Collections.unmodifiableList(items);
+        }
+        return new ArrayList<>(sortedItems);
     }
     
     @Override
     public List<WorkItem> getItemsByType(WorkItemType type) {
-        return items.stream()
+        return getItems().stream()
             .filter(item -> item.getType() == type)
             .collect(Collectors.toList());
     }
     
     @Override
     public List<WorkItem> getItemsByState(WorkflowState state) {
-        return items.stream()
+        return getItems().stream()
             .filter(item -> item.getStatus() == state)
             .collect(Collectors.toList());
     }
     
     @Override
     public List<WorkItem> getItemsByPriority(Priority priority) {
-        return items.stream()
+        return getItems().stream()
             .filter(item -> item.getPriority() == priority)
             .collect(Collectors.toList());
     }
     
     @Override
     public List<WorkItem> getItemsByAssignee(String assignee) {
-        return items.stream()
+        return getItems().stream()
             .filter(item -> assignee.equals(item.getAssignee()))
             .collect(Collectors.toList());
     }
     
     @Override
-    public Optional<WorkItem> getNextItem() {
-        return items.isEmpty() ? Optional.empty() : Optional.of(items.get(0));
+    public synchronized Optional<WorkItem> getNextItem() {
+        return heap.isEmpty() ? Optional.empty() : Optional.of(heap.get(0).item);
     }
     
     @Override
-    public void addItem(WorkItem item) {
-        if (!items.contains(item)) {
-            items.add(item);
-            this.updatedAt = Instant.now();
-            reprioritize();
+    public synchronized void addItem(WorkItem item) {
+        if (entries.containsKey(item.getId())) {
+            return;
         }
+        Entry entry = new Entry(item, scorer.score(item), nextSequence++);
+        entries.put(item.getId(), entry);
+        entry.index = heap.size();
+        heap.add(entry);
+        siftUp(entry.index);
+        changed();
     }
     
     @Override
-    public boolean removeItem(UUID itemId) {
-        boolean removed = items.removeIf(item -> item.getId().equals(itemId));
-        if (removed) {
-            this.updatedAt = Instant.now();
+    public synchronized boolean removeItem(UUID itemId) {
+        Entry entry = entries.remove(itemId);
+        if (entry == null) {
+            return false;
+        }
+        Entry last = heap.remove(heap.size() - 1);
+        if (last != entry) {
+            place(last, entry.index);
+            siftDown(siftUp(entry.index));
         }
-        return removed;
+        changed();
+        return true;
+    }
+    
+    /**
+     * Replaces a queued item with a newer version of it, for example after its
+     * priority or type changed, and moves it to its new position.
+     * 
+     * @param item the updated work item
+     * @return true if the item was in the queue
+     */
+    public synchronized boolean updateItem(WorkItem item) {
+        Entry entry = entries.get(item.getId());
+        if (entry == null) {
+            return false;
+        }
+        entry.item = item;
+        reposition(entry);
+        return true;
+    }
+    
+    /**
+     * Recomputes the score of one item, for example after metadata the scorer
+     * reads has changed, and moves it to its new position.
+     * 
+     * @param itemId the ID of the work item
+     * @return true if the item was in the queue
+     */
+    public synchronized boolean rescore(UUID itemId) {
+        Entry entry = entries.get(itemId);
+        if (entry == null) {
+            return false;
+        }
+        reposition(entry);
+        return true;
+    }
+    
+    /**
+     * Sets the scorer that orders this queue and reprioritizes all items with it.
+     * 
+     * @param scorer the scorer
+     */
+    public synchronized void setScorer(WorkItemScorer scorer) {
+        this.scorer = scorer;
+        reprioritize();
+    }
+    
+    /**
+     * Returns the scorer that orders this queue.
+     * 
+     * @return the scorer
+     */
+    public synchronized WorkItemScorer getScorer() {
+        return scorer;
     }
     
     @Override
-    public void reprioritize() {
-        // Implementation of the prioritization algorithm
-        items.sort(createPriorityComparator());
-        this.updatedAt = Instant.now();
+    public synchronized void reprioritize() {
+        // Rescore every item once, then rebuild the heap bottom-up
+        for (Entry entry : heap) {
+            entry.score = scorer.score(entry.item);
+        }
+        for (int i = heap.size() / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+        changed();
     }
     
     /**
-     * Creates a comparator for work item prioritization.
+     * Scores an item by priority, then by type.
      * The prioritization rules are:
      * 1. HIGH priority items come before MEDIUM items which come before LOW items
-     * 2. Within the same priority:
-     *    - Production issues (determined by metadata) come first
-     *    - BUGs come before FEATUREs which come before CHOREs which come before GOALs
+     * 2. Within the same priority, BUGs come before FEATUREs which come before CHOREs which come before GOALs
      * 3. Within the same priority and type, older items come first (oldest to newest)
      * 
-     * @return the priority comparator
+     * @param item the work item
+     * @return the score
      */
-    private Comparator<WorkItem> createPriorityComparator() {
-        return Comparator
-            // First by priority (HIGH is lowest ordinal value)
-            .comparing(WorkItem::getPriority)
-            // Then by type with custom ordering: BUG -> FEATURE -> CHORE -> GOAL 
-            .thenComparing(item -> getTypeWeight(item.getType()))
-            // Then by age (older items first)
-            .thenComparing(WorkItem::getCreatedAt);
+    private static long priorityScore(WorkItem item) {
+        int priority = item.getPriority() != null ? item.getPriority().ordinal() : Priority.values().length;
+        return (long) priority * TYPE_SLOTS + getTypeWeight(item.getType());
     }
     
-    private int getTypeWeight(WorkItemType type) {
+    private static int getTypeWeight(WorkItemType type) {
+        if (type == null) {
+            return 4;
+        }
         switch (type) {
             case BUG: return 0;
             case FEATURE: return 1;
@@ -180,14 +294,67 @@ public class DefaultWorkQueue implements WorkQueue {
         }
     }
     
+    private void reposition(Entry entry) {
+        long score = scorer.score(entry.item);
+        entry.score = score;
+        siftDown(siftUp(entry.index));
+        changed();
+    }
+    
+    private int siftUp(int index) {
+        Entry entry = heap.get(index);
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            Entry parentEntry = heap.get(parent);
+            if (ENTRY_ORDER.compare(entry, parentEntry) >= 0) {
+                break;
+            }
+            place(parentEntry, index);
+            index = parent;
+        }
+        place(entry, index);
+        return index;
+    }
+    
+    private void siftDown(int index) {
+        Entry entry = heap.get(index);
+        int size = heap.size();
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            Entry childEntry = heap.get(child);
+            int right = child + 1;
+            if (right < size && ENTRY_ORDER.compare(heap.get(right), childEntry) < 0) {
+                child = right;
+                childEntry = heap.get(child);
+            }
+            if (ENTRY_ORDER.compare(entry, childEntry) <= 0) {
+                break;
+            }
+            place(childEntry, index);
+            index = child;
+        }
+        place(entry, index);
+    }
+    
+    private void place(Entry entry, int index) {
+        heap.set(index, entry);
+        entry.index = index;
+    }
+    
+    private void changed() {
+        sortedItems = null;
+        this.updatedAt = Instant.now();
+    }
+    
     @Override
-    public int size() {
-        return items.size();
+    public synchronized int size() {
+        return heap.size();
     }
     
     @Override
-    public boolean isEmpty() {
-        return items.isEmpty();
+    public synchronized boolean isEmpty() {
+        return heap.isEmpty();
     }
     
     /**
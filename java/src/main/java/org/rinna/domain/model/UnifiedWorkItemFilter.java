@@ -0,0 +1,189 @@
+/*
+ * Domain entity for the Rinna unified work management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.domain.model;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Represents a multi-criteria filter over unified work items.
+ * A work item matches when it matches every criterion that is set; an empty set
+ * or a null bound leaves that criterion unconstrained. Within one criterion,
+ * any of the given values matches, except for {@code allTags}, which requires
+ * every tag.
+ */
+public record UnifiedWorkItemFilter(
+    Set<WorkflowState> states,
+    Set<OriginCategory> categories,
+    Set<CynefinDomain> domains,
+    Set<WorkParadigm> paradigms,
+    Set<String> anyTags,
+    Set<String> allTags,
+    Integer minCognitiveLoad,
+    Integer maxCognitiveLoad
+) {
+    /**
+     * Creates a new UnifiedWorkItemFilter, copying the given sets.
+     */
+    public UnifiedWorkItemFilter {
+        states = states == null ? Set.of() : Set.copyOf(states);
+        categories = categories == null ? Set.of() : Set.copyOf(categories);
+        domains = domains == null ? Set.of() : Set.copyOf(domains);
+        paradigms = paradigms == null ? Set.of() : Set.copyOf(paradigms);
+        anyTags = anyTags == null ? Set.of() : Set.copyOf(anyTags);
+        allTags = allTags == null ? Set.of() : Set.copyOf(allTags);
+    }
+
+    /**
+     * Checks whether a work item matches this filter.
+     *
+     * @param item the work item
+     * @return true if the work item matches every criterion
+     */
+    public boolean matches(UnifiedWorkItem item) {
+        if (!states.isEmpty() && !states.contains(item.state())) {
+            return false;
+        }
+        if (!categories.isEmpty() && !categories.contains(item.originCategory())) {
+            return false;
+        }
+        if (!domains.isEmpty() && !domains.contains(item.cynefinDomain())) {
+            return false;
+        }
+        if (!paradigms.isEmpty() && !paradigms.contains(item.workParadigm())) {
+            return false;
+        }
+        List<String> tags = item.tags() != null ? item.tags() : List.of();
+        if (!anyTags.isEmpty() && anyTags.stream().noneMatch(tags::contains)) {
+            return false;
+        }
+        if (!allTags.isEmpty() && !tags.containsAll(allTags)) {
+            return false;
+        }
+        if (minCognitiveLoad != null && item.cognitiveLoad() < minCognitiveLoad) {
+            return false;
+        }
+        return maxCognitiveLoad == null || item.cognitiveLoad() <= maxCognitiveLoad;
+    }
+
+    /**
+     * Creates a new builder for UnifiedWorkItemFilter.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for UnifiedWorkItemFilter.
+     */
+    public static class Builder {
+        private final Set<WorkflowState> states = EnumSet.noneOf(WorkflowState.class);
+        private final Set<OriginCategory> categories = EnumSet.noneOf(OriginCategory.class);
+        private final Set<CynefinDomain> domains = EnumSet.noneOf(CynefinDomain.class);
+        private final Set<WorkParadigm> paradigms = EnumSet.noneOf(WorkParadigm.class);
+        private final Set<String> anyTags = new LinkedHashSet<>();
+        private final Set<String> allTags = new LinkedHashSet<>();
+        private Integer minCognitiveLoad;
+        private Integer maxCognitiveLoad;
+
+        /**
+         * Adds states, any of which matches.
+         *
+         * @param states the states
+         * @return this builder
+         */
+        public Builder states(WorkflowState... states) {
+            this.states.addAll(List.of(states));
+            return this;
+        }
+
+        /**
+         * Adds origin categories, any of which matches.
+         *
+         * @param categories the origin categories
+         * @return this builder
+         */
+        public Builder categories(OriginCategory... categories) {
+            this.categories.addAll(List.of(categories));
+            return this;
+        }
+
+        /**
+         * Adds Cynefin domains, any of which matches.
+         *
+         * @param domains the Cynefin domains
+         * @return this builder
+         */
+        public Builder domains(CynefinDomain... domains) {
+            this.domains.addAll(List.of(domains));
+            return this;
+        }
+
+        /**
+         * Adds work paradigms, any of which matches.
+         *
+         * @param paradigms the work paradigms
+         * @return this builder
+         */
+        public Builder paradigms(WorkParadigm... paradigms) {
+            this.paradigms.addAll(List.of(paradigms));
+            return this;
+        }
+
+        /**
+         * Adds tags, any of which matches.
+         *
+         * @param tags the tags
+         * @return this builder
+         */
+        public Builder anyTags(Collection<String> tags) {
+            this.anyTags.addAll(tags);
+            return this;
+        }
+
+        /**
+         * Adds tags, all of which a work item must have.
+         *
+         * @param tags the tags
+         * @return this builder
+         */
+        public Builder allTags(Collection<String> tags) {
+            this.allTags.addAll(tags);
+            return this;
+        }
+
+        /**
+         * Sets the inclusive cognitive load range. Either bound may be null.
+         *
+         * @param min the minimum cognitive load
+         * @param max the maximum cognitive load
+         * @return this builder
+         */
+        public Builder cognitiveLoad(Integer min, Integer max) {
+            this.minCognitiveLoad = min;
+            this.maxCognitiveLoad = max;
+            return this;
+        }
+
+        /**
+         * Builds a new UnifiedWorkItemFilter.
+         *
+         * @return a new UnifiedWorkItemFilter
+         */
+        public UnifiedWorkItemFilter build() {
+            return new UnifiedWorkItemFilter(states, categories, domains, paradigms, anyTags, allTags,
+                    minCognitiveLoad, maxCognitiveLoad);
+        }
+    }
+}
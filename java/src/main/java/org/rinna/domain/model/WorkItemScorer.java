@@ -0,0 +1,27 @@
+/*
+ * Domain entity for the Rinna workflow management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.domain.model;
+
+/**
+ * Computes the position of a work item in a work queue.
+ * Items with a lower score come first; items with equal scores are ordered
+ * oldest first. A queue computes each item's score once and caches it until
+ * the item is rescored, so a scorer may consult metadata without that cost
+ * being paid on every comparison.
+ */
+@FunctionalInterface
+public interface WorkItemScorer {
+    /**
+     * Returns the score of a work item.
+     * 
+     * @param item the work item
+     * @return the score, lower scores come first
+     */
+    long score(WorkItem item);
+}
@@ -8,13 +8,18 @@
 
 package org.rinna.domain.repository;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.rinna.domain.model.CynefinDomain;
 import org.rinna.domain.model.OriginCategory;
 import org.rinna.domain.model.UnifiedWorkItem;
+import org.rinna.domain.model.UnifiedWorkItemFilter;
 import org.rinna.domain.model.WorkParadigm;
 import org.rinna.domain.model.WorkflowState;
 
@@ -127,6 +132,72 @@ public interface UnifiedWorkItemRepository {
      */
     List<UnifiedWorkItem> findByCognitiveLoadLessThanEqual(int maximumLoad);
     
+    /**
+     * Finds unified work items matching every criterion of a filter.
+     * The default implementation tests each work item; indexed implementations override it.
+     * 
+     * @param filter the filter to apply
+     * @return a list of unified work items matching the filter
+     */
+    default List<UnifiedWorkItem> findByFilter(UnifiedWorkItemFilter filter) {
+        return findAll().stream()
+                .filter(filter::matches)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Counts unified work items per tag.
+     * 
+     * @return the number of unified work items with each tag
+     */
+    default Map<String, Integer> countByTag() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (UnifiedWorkItem item : findAll()) {
+            if (item.tags() != null) {
+                item.tags().stream().distinct().forEach(tag -> counts.merge(tag, 1, Integer::sum));
+            }
+        }
+        return counts;
+    }
+    
+    /**
+     * Counts unified work items per origin category.
+     * 
+     * @return the number of unified work items with each origin category
+     */
+    default Map<OriginCategory, Integer> countByOriginCategory() {
+        return countBy(UnifiedWorkItem::originCategory);
+    }
+    
+    /**
+     * Counts unified work items per Cynefin domain.
+     * 
+     * @return the number of unified work items in each Cynefin domain
+     */
+    default Map<CynefinDomain, Integer> countByCynefinDomain() {
+        return countBy(UnifiedWorkItem::cynefinDomain);
+    }
+    
+    /**
+     * Counts unified work items per work paradigm.
+     * 
+     * @return the number of unified work items with each work paradigm
+     */
+    default Map<WorkParadigm, Integer> countByWorkParadigm() {
+        return countBy(UnifiedWorkItem::workParadigm);
+    }
+    
+    private <K> Map<K, Integer> countBy(Function<UnifiedWorkItem, K> attribute) {
+        Map<K, Integer> counts = new HashMap<>();
+        for (UnifiedWorkItem item : findAll()) {
+            K key = attribute.apply(item);
+            if (key != null) {
+                counts.merge(key, 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+    
     /**
      * Deletes a unified work item by its ID.
      * 
@@ -12,14 +12,19 @@ package org.rinna.pui.cli;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.rinna.cli.model.Priority;
 import org.rinna.cli.model.WorkItem;
@@ -32,6 +37,14 @@ import org.rinna.cli.service.ServiceManager;
 /**
  * Bridge between the PUI components and CLI search services.
  * This class provides context-aware search functionality for PUI components.
+ * 
+ * <p>Suggestions are answered from a {@link SuggestionIndex} per context, which is
+ * built once from the static suggestions and the current work items and then kept
+ * up to date from the item service's change events, so a keystroke never scans
+ * every work item. Each lookup stops after {@value #SUGGESTION_BUDGET_MILLIS}
+ * milliseconds and keeps only the best {@value #MAX_SUGGESTIONS} matches. Complete
+ * results are kept in a least recently used cache until the index or the search
+ * history changes.</p>
  */
 public class SearchBridge {
     
@@ -42,15 +55,30 @@ public class SearchBridge {
     private final MockItemService itemService;
     
     // Search context and history
-    private final Set<String> recentSearches = new HashSet<>();
+    private final Set<String> recentSearches = new LinkedHashSet<>();
     private final Map<String, Integer> searchFrequency = new HashMap<>();
     private final Map<SearchContext, List<String>> contextualSuggestions = new HashMap<>();
     private final Map<String, Set<String>> relatedTerms = new HashMap<>();
     
+    // Typeahead indexes and the terms indexed for each work item
+    private final Map<SearchContext, SuggestionIndex> suggestionIndexes = new EnumMap<>(SearchContext.class);
+    private final SuggestionIndex recentSearchIndex = new SuggestionIndex();
+    private final Map<String, IndexedItem> indexedItems = new HashMap<>();
+    
     // Cache for suggestions
-    private final Map<String, List<String>> suggestionCache = new ConcurrentHashMap<>();
     private static final int MAX_CACHE_SIZE = 100;
     private static final int MAX_RECENT_SEARCHES = 20;
+    private static final int MAX_SUGGESTIONS = 10;
+    private static final long SUGGESTION_BUDGET_MILLIS = 20;
+    private final Map<String, List<String>> suggestionCache =
+        new LinkedHashMap<String, List<String>>(MAX_CACHE_SIZE, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<String>> eldest) {
+                return size() > MAX_CACHE_SIZE;
+            }
+        };
     
     /**
      * Search context enum for contextual suggestions.
@@ -78,6 +106,7 @@ public class SearchBridge {
         // Initialize context-specific suggestions
         initializeContextualSuggestions();
         initializeRelatedTerms();
+        initializeSuggestionIndexes();
     }
     
     /**
@@ -135,6 +164,14 @@ public class SearchBridge {
             "RINNA-1", "RINNA-2", "API-1", "DOC-1", "INFRA-1"
         );
         contextualSuggestions.put(SearchContext.PROJECT, projectSuggestions);
+        
+        // Tag suggestions
+        List<String> tagSuggestions = Arrays.asList(
+            "important", "urgent", "review", "needs-testing", "documentation",
+            "tech-debt", "refactoring", "enhancement", "ui", "api", "backend",
+            "frontend", "database", "security", "performance", "usability"
+        );
+        contextualSuggestions.put(SearchContext.TAG, tagSuggestions);
     }
     
     /**
@@ -168,221 +205,128 @@ public class SearchBridge {
     }
     
     /**
-     * Gets suggestions based on the input text and search context.
-     * 
-     * @param text the input text
-     * @param context the search context
-     * @return a list of suggestions
+     * Builds the suggestion indexes from the static suggestions and the current
+     * work items, and subscribes to item changes to keep them up to date.
      */
-    public List<String> getSuggestions(String text, SearchContext context) {
-        if (text == null || text.isEmpty()) {
-            return Collections.emptyList();
-        }
-        
-        // Check cache first
-        String cacheKey = context.name() + ":" + text.toLowerCase();
-        if (suggestionCache.containsKey(cacheKey)) {
-            return suggestionCache.get(cacheKey);
-        }
-        
-        List<String> suggestions = new ArrayList<>();
-        
-        // Add context-specific suggestions
-        if (contextualSuggestions.containsKey(context)) {
-            List<String> contextSuggestions = contextualSuggestions.get(context);
-            for (String suggestion : contextSuggestions) {
-                if (suggestion.toLowerCase().contains(text.toLowerCase())) {
-                    suggestions.add(suggestion);
-                }
+    private void initializeSuggestionIndexes() {
+        for (SearchContext context : SearchContext.values()) {
+            if (context != SearchContext.GLOBAL) {
+                suggestionIndexes.put(context, new SuggestionIndex());
             }
         }
-        
-        // Add dynamic suggestions based on context
-        switch (context) {
-            case WORK_ITEM:
-                suggestions.addAll(getWorkItemSuggestions(text));
-                break;
-                
-            case GLOBAL:
-                suggestions.addAll(getGlobalSuggestions(text));
-                break;
-                
-            case PERSON:
-                suggestions.addAll(getPersonSuggestions(text));
-                break;
-                
-            case TAG:
-                suggestions.addAll(getTagSuggestions(text));
-                break;
-                
-            default:
-                // Use the context-specific suggestions already added
-                break;
-        }
-        
-        // Add suggestions based on related terms
-        for (String term : text.toLowerCase().split("\\s+")) {
-            if (relatedTerms.containsKey(term)) {
-                for (String related : relatedTerms.get(term)) {
-                    if (!suggestions.contains(related)) {
-                        suggestions.add(related);
-                    }
-                }
+        for (Map.Entry<SearchContext, List<String>> entry : contextualSuggestions.entrySet()) {
+            SuggestionIndex index = suggestionIndexes.get(entry.getKey());
+            for (String suggestion : entry.getValue()) {
+                index.add(suggestion);
             }
         }
         
-        // Add recent searches that match
-        for (String recent : recentSearches) {
-            if (recent.toLowerCase().contains(text.toLowerCase()) && !suggestions.contains(recent)) {
-                suggestions.add(recent);
+        try {
+            for (WorkItem item : itemService.getAllItems()) {
+                indexItem(IndexedItem.of(item));
             }
+            itemService.addItemChangeListener(this::onItemChanged);
+        } catch (Exception e) {
+            System.err.println("Error indexing work items for suggestions: " + e.getMessage());
         }
-        
-        // Sort suggestions by relevance and frequency
-        suggestions.sort((s1, s2) -> {
-            // First by exact match
-            boolean exactMatch1 = s1.equalsIgnoreCase(text);
-            boolean exactMatch2 = s2.equalsIgnoreCase(text);
-            if (exactMatch1 && !exactMatch2) return -1;
-            if (!exactMatch1 && exactMatch2) return 1;
-            
-            // Then by starts with
-            boolean startsWith1 = s1.toLowerCase().startsWith(text.toLowerCase());
-            boolean startsWith2 = s2.toLowerCase().startsWith(text.toLowerCase());
-            if (startsWith1 && !startsWith2) return -1;
-            if (!startsWith1 && startsWith2) return 1;
-            
-            // Then by frequency
-            int freq1 = searchFrequency.getOrDefault(s1.toLowerCase(), 0);
-            int freq2 = searchFrequency.getOrDefault(s2.toLowerCase(), 0);
-            if (freq1 != freq2) return Integer.compare(freq2, freq1);
-            
-            // Finally by alphabetical order
-            return s1.compareToIgnoreCase(s2);
-        });
-        
-        // Limit the number of suggestions
-        if (suggestions.size() > 10) {
-            suggestions = suggestions.subList(0, 10);
-        }
-        
-        // Cache the results
-        addToCache(cacheKey, suggestions);
-        
-        return suggestions;
     }
     
     /**
-     * Gets work item suggestions based on the input text.
+     * Updates the suggestion indexes after a work item is created, updated or deleted.
      * 
-     * @param text the input text
-     * @return a list of suggestions
+     * @param id the work item ID
+     * @param item the work item after the change, or null if it was deleted
      */
-    private List<String> getWorkItemSuggestions(String text) {
-        List<String> suggestions = new ArrayList<>();
-        
-        try {
-            // Get matching work items
-            List<WorkItem> items = searchService.search(text);
-            
-            // Add work item titles
-            for (WorkItem item : items) {
-                if (item.getTitle() != null && !item.getTitle().isEmpty()) {
-                    suggestions.add(item.getTitle());
-                }
-            }
-            
-            // Add work item IDs
-            for (WorkItem item : items) {
-                if (item.getId() != null && !item.getId().isEmpty()) {
-                    suggestions.add(item.getId());
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("Error getting work item suggestions: " + e.getMessage());
+    private synchronized void onItemChanged(String id, WorkItem item) {
+        IndexedItem previous = indexedItems.remove(id);
+        if (previous != null) {
+            unindexItem(previous);
         }
-        
-        return suggestions;
+        if (item != null) {
+            indexItem(IndexedItem.of(item));
+        }
+        suggestionCache.clear();
     }
     
-    /**
-     * Gets global suggestions based on the input text.
-     * 
-     * @param text the input text
-     * @return a list of suggestions
-     */
-    private List<String> getGlobalSuggestions(String text) {
-        List<String> suggestions = new ArrayList<>();
-        
-        // Add from other contexts
-        for (SearchContext otherContext : SearchContext.values()) {
-            if (otherContext != SearchContext.GLOBAL) {
-                List<String> contextSuggestions = getSuggestions(text, otherContext);
-                for (String suggestion : contextSuggestions) {
-                    if (!suggestions.contains(suggestion)) {
-                        suggestions.add(suggestion);
-                    }
-                }
-            }
+    private void indexItem(IndexedItem item) {
+        if (item.id() == null) {
+            return;
         }
-        
-        return suggestions;
+        indexedItems.put(item.id(), item);
+        SuggestionIndex workItems = suggestionIndexes.get(SearchContext.WORK_ITEM);
+        workItems.add(item.title());
+        workItems.add(item.id());
+        SuggestionIndex people = suggestionIndexes.get(SearchContext.PERSON);
+        people.add(item.assignee());
+        people.add(item.reporter());
+    }
+    
+    private void unindexItem(IndexedItem item) {
+        SuggestionIndex workItems = suggestionIndexes.get(SearchContext.WORK_ITEM);
+        workItems.remove(item.title());
+        workItems.remove(item.id());
+        SuggestionIndex people = suggestionIndexes.get(SearchContext.PERSON);
+        people.remove(item.assignee());
+        people.remove(item.reporter());
     }
     
     /**
-     * Gets person suggestions based on the input text.
+     * Gets suggestions based on the input text and search context.
+     * 
+     * <p>A suggestion matches when it, or one of its words, starts with the text.
+     * Exact matches come first, then suggestions starting with the text, then the
+     * most frequently searched, then those used by the most work items, and finally
+     * alphabetical order.</p>
      * 
      * @param text the input text
+     * @param context the search context
      * @return a list of suggestions
      */
-    private List<String> getPersonSuggestions(String text) {
-        Set<String> people = new HashSet<>();
+    public synchronized List<String> getSuggestions(String text, SearchContext context) {
+        if (text == null || text.isEmpty()) {
+            return Collections.emptyList();
+        }
         
-        // Add from static list
-        List<String> staticSuggestions = contextualSuggestions.getOrDefault(SearchContext.PERSON, Collections.emptyList());
-        people.addAll(staticSuggestions);
+        // Check cache first
+        String query = SuggestionIndex.lowercase(text);
+        String cacheKey = context.name() + ":" + query;
+        List<String> cached = suggestionCache.get(cacheKey);
+        if (cached != null) {
+            return new ArrayList<>(cached);
+        }
         
-        // Add from work items
-        try {
-            List<WorkItem> items = itemService.getAllItems();
-            for (WorkItem item : items) {
-                if (item.getAssignee() != null && !item.getAssignee().isEmpty()) {
-                    people.add(item.getAssignee());
-                }
-                if (item.getReporter() != null && !item.getReporter().isEmpty()) {
-                    people.add(item.getReporter());
-                }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SUGGESTION_BUDGET_MILLIS);
+        SuggestionRanking ranking = new SuggestionRanking(query, MAX_SUGGESTIONS);
+        boolean complete = true;
+        
+        // Add context-specific and work item suggestions; global search covers every context
+        if (context == SearchContext.GLOBAL) {
+            for (SuggestionIndex index : suggestionIndexes.values()) {
+                complete &= index.forEachMatch(query, deadline, ranking::offer);
             }
-        } catch (Exception e) {
-            System.err.println("Error getting person suggestions: " + e.getMessage());
+        } else {
+            complete &= suggestionIndexes.get(context).forEachMatch(query, deadline, ranking::offer);
         }
         
-        // Filter by input text
-        return people.stream()
-            .filter(person -> person.toLowerCase().contains(text.toLowerCase()))
-            .collect(Collectors.toList());
-    }
-    
-    /**
-     * Gets tag suggestions based on the input text.
-     * 
-     * @param text the input text
-     * @return a list of suggestions
-     */
-    private List<String> getTagSuggestions(String text) {
-        Set<String> tags = new HashSet<>();
+        // Add suggestions based on related terms
+        for (String term : query.split("\\s+")) {
+            Set<String> related = relatedTerms.get(term);
+            if (related != null) {
+                for (String suggestion : related) {
+                    ranking.offer(suggestion, suggestion, 0);
+                }
+            }
+        }
         
-        // Predefined tags
-        tags.addAll(Arrays.asList(
-            "important", "urgent", "review", "needs-testing", "documentation",
-            "tech-debt", "refactoring", "enhancement", "ui", "api", "backend",
-            "frontend", "database", "security", "performance", "usability"
-        ));
+        // Add recent searches that match
+        complete &= recentSearchIndex.forEachMatch(query, deadline, ranking::offer);
         
-        // Filter by input text
-        return tags.stream()
-            .filter(tag -> tag.toLowerCase().contains(text.toLowerCase()))
-            .collect(Collectors.toList());
+        // Only cache results that were not cut short by the time budget
+        List<String> suggestions = ranking.result();
+        if (complete) {
+            suggestionCache.put(cacheKey, suggestions);
+        }
+        return new ArrayList<>(suggestions);
     }
     
     /**
@@ -390,55 +334,34 @@ public class SearchBridge {
      * 
      * @param text the search text
      */
-    public void addToHistory(String text) {
+    public synchronized void addToHistory(String text) {
         if (text == null || text.isEmpty()) {
             return;
         }
         
-        // Add to recent searches
+        // Move the search to the end of the recent searches, dropping the oldest
+        if (recentSearches.remove(text)) {
+            recentSearchIndex.remove(text);
+        }
         recentSearches.add(text);
+        recentSearchIndex.add(text);
         if (recentSearches.size() > MAX_RECENT_SEARCHES) {
-            // Remove oldest search (not the most efficient, but simple)
-            recentSearches.iterator().remove();
+            Iterator<String> oldest = recentSearches.iterator();
+            recentSearchIndex.remove(oldest.next());
+            oldest.remove();
         }
         
         // Update frequency counter
-        String lowerText = text.toLowerCase();
-        searchFrequency.put(lowerText, searchFrequency.getOrDefault(lowerText, 0) + 1);
-        
-        // Clear cache entries containing this text to ensure fresh results next time
-        List<String> keysToRemove = new ArrayList<>();
-        for (String key : suggestionCache.keySet()) {
-            if (key.toLowerCase().contains(lowerText)) {
-                keysToRemove.add(key);
-            }
-        }
-        for (String key : keysToRemove) {
-            suggestionCache.remove(key);
-        }
-    }
-    
-    /**
-     * Adds suggestions to the cache.
-     * 
-     * @param key the cache key
-     * @param suggestions the suggestions to cache
-     */
-    private void addToCache(String key, List<String> suggestions) {
-        suggestionCache.put(key, new ArrayList<>(suggestions));
-        
-        // Limit cache size
-        if (suggestionCache.size() > MAX_CACHE_SIZE) {
-            // Remove a random entry
-            String keyToRemove = suggestionCache.keySet().iterator().next();
-            suggestionCache.remove(keyToRemove);
-        }
+        searchFrequency.merge(SuggestionIndex.lowercase(text), 1, Integer::sum);
+        
+        // Frequencies and recent searches affect the ranking of any cached result
+        suggestionCache.clear();
     }
     
     /**
      * Clears the suggestion cache.
      */
-    public void clearCache() {
+    public synchronized void clearCache() {
         suggestionCache.clear();
     }
     
@@ -635,4 +558,70 @@ public class SearchBridge {
         // In a real implementation, it would filter work items by project
         return searchService.search(project);
     }
-}
\ No newline at end of file
+    
+    /**
+     * The terms indexed for a work item, kept so they can be removed when it changes.
+     */
+    private record IndexedItem(String id, String title, String assignee, String reporter) {
+        static IndexedItem of(WorkItem item) {
+            return new IndexedItem(item.getId(), item.getTitle(), item.getAssignee(), item.getReporter());
+        }
+    }
+    
+    /**
+     * A candidate suggestion with its ranking keys computed once.
+     */
+    private record Candidate(String text, String key, int relevance, int frequency, int occurrences) {
+        static final Comparator<Candidate> ORDER = Comparator
+            .comparingInt(Candidate::relevance)
+            .thenComparing(Comparator.comparingInt(Candidate::frequency).reversed())
+            .thenComparing(Comparator.comparingInt(Candidate::occurrences).reversed())
+            .thenComparing(Candidate::key)
+            .thenComparing(Candidate::text);
+    }
+    
+    /**
+     * Keeps the best suggestions for a query in a heap whose head is the worst kept.
+     */
+    private final class SuggestionRanking {
+        private final String query;
+        private final int limit;
+        private final Set<String> seen = new HashSet<>();
+        private final PriorityQueue<Candidate> heap;
+        
+        SuggestionRanking(String query, int limit) {
+            this.query = query;
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(limit + 1, Candidate.ORDER.reversed());
+        }
+        
+        void offer(SuggestionIndex.Term term) {
+            offer(term.text(), term.key(), term.count());
+        }
+        
+        void offer(String text, String key, int occurrences) {
+            if (!seen.add(key)) {
+                return;
+            }
+            int relevance = key.equals(query) ? 0 : key.startsWith(query) ? 1 : 2;
+            Candidate candidate = new Candidate(
+                text, key, relevance, searchFrequency.getOrDefault(key, 0), occurrences);
+            if (heap.size() < limit) {
+                heap.add(candidate);
+            } else if (Candidate.ORDER.compare(candidate, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+        
+        List<String> result() {
+            List<Candidate> best = new ArrayList<>(heap);
+            best.sort(Candidate.ORDER);
+            List<String> suggestions = new ArrayList<>(best.size());
+            for (Candidate candidate : best) {
+                suggestions.add(candidate.text());
+            }
+            return suggestions;
+        }
+    }
+}
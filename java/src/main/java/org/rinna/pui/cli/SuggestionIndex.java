@@ -0,0 +1,257 @@
+/**
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ *
+ * Developed with analytical assistance from AI tools.
+ * All rights reserved.
+ *
+ * This source code is licensed under the MIT License
+ * found in the LICENSE file in the root directory of this source tree.
+ */
+package org.rinna.pui.cli;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A prefix trie over suggestion terms for typeahead lookups.
+ *
+ * <p>Every term is indexed under its lowercase form from the start and from the
+ * start of each later word, so "Fix login bug" is found by "fix", "log" and
+ * "login b". Only the first {@value #MAX_KEY_LENGTH} characters of each key are
+ * stored in the trie; longer prefixes are checked against the lowercase term.
+ * A term added several times is counted, and it stays in the index until it
+ * has been removed as many times as it was added.</p>
+ *
+ * <p>The index is not thread-safe.</p>
+ */
+final class SuggestionIndex {
+
+    /** Longest key stored in the trie. */
+    static final int MAX_KEY_LENGTH = 32;
+
+    // Nodes visited between checks of the deadline
+    private static final int DEADLINE_CHECK_INTERVAL = 64;
+
+    private final Node root = new Node();
+    private final Map<String, Term> terms = new HashMap<>();
+
+    /**
+     * A suggestion term with its lowercase key and the number of times it was added.
+     */
+    static final class Term {
+        private final String text;
+        private final String key;
+        private int count;
+
+        private Term(String text, String key) {
+            this.text = text;
+            this.key = key;
+        }
+
+        /**
+         * Gets the term as it was first added.
+         *
+         * @return the term
+         */
+        String text() {
+            return text;
+        }
+
+        /**
+         * Gets the lowercase form of the term.
+         *
+         * @return the lowercase key
+         */
+        String key() {
+            return key;
+        }
+
+        /**
+         * Gets the number of times the term was added and not removed.
+         *
+         * @return the count
+         */
+        int count() {
+            return count;
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final Set<Term> terms = new LinkedHashSet<>(2);
+
+        boolean isEmpty() {
+            return children.isEmpty() && terms.isEmpty();
+        }
+    }
+
+    /**
+     * Adds a term, or increments its count if a term with the same lowercase form
+     * is already indexed.
+     *
+     * @param text the term
+     */
+    void add(String text) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String key = lowercase(text);
+        Term term = terms.get(key);
+        if (term == null) {
+            term = new Term(text, key);
+            terms.put(key, term);
+            for (int start : wordStarts(key)) {
+                insert(term, start);
+            }
+        }
+        term.count++;
+    }
+
+    /**
+     * Decrements the count of a term and removes it from the index when it reaches zero.
+     *
+     * @param text the term
+     */
+    void remove(String text) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String key = lowercase(text);
+        Term term = terms.get(key);
+        if (term == null || --term.count > 0) {
+            return;
+        }
+        terms.remove(key);
+        for (int start : wordStarts(key)) {
+            delete(root, term, start, Math.min(key.length(), start + MAX_KEY_LENGTH));
+        }
+    }
+
+    /**
+     * Gets the number of distinct terms in the index.
+     *
+     * @return the number of terms
+     */
+    int size() {
+        return terms.size();
+    }
+
+    /**
+     * Passes each term with a word starting with a prefix to a consumer. A term
+     * may be passed more than once.
+     *
+     * @param prefix the lowercase prefix
+     * @param deadline the {@link System#nanoTime()} after which the lookup stops
+     * @param consumer the consumer of the matching terms
+     * @return true if every match was passed, false if the deadline was reached first
+     */
+    boolean forEachMatch(String prefix, long deadline, Consumer<Term> consumer) {
+        Node node = root;
+        int length = Math.min(prefix.length(), MAX_KEY_LENGTH);
+        for (int i = 0; i < length && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        if (node == null) {
+            return true;
+        }
+        boolean truncated = prefix.length() > MAX_KEY_LENGTH;
+
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(node);
+        int visited = 0;
+        while (!pending.isEmpty()) {
+            if (++visited % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            Node current = pending.pop();
+            for (Term term : current.terms) {
+                if (!truncated || matches(term.key, prefix)) {
+                    consumer.accept(term);
+                }
+            }
+            for (Node child : current.children.values()) {
+                pending.push(child);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Converts a term or a prefix to the form used as a key.
+     *
+     * @param text the text
+     * @return the lowercase text
+     */
+    static String lowercase(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    private void insert(Term term, int start) {
+        String key = term.key;
+        int end = Math.min(key.length(), start + MAX_KEY_LENGTH);
+        Node node = root;
+        for (int i = start; i < end; i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+        }
+        node.terms.add(term);
+    }
+
+    /**
+     * Removes a term from the node reached by key[position, end) and prunes emptied nodes.
+     */
+    private static void delete(Node node, Term term, int position, int end) {
+        if (position == end) {
+            node.terms.remove(term);
+            return;
+        }
+        Character c = term.key.charAt(position);
+        Node child = node.children.get(c);
+        if (child == null) {
+            return;
+        }
+        delete(child, term, position + 1, end);
+        if (child.isEmpty()) {
+            node.children.remove(c);
+        }
+    }
+
+    private static boolean matches(String key, String prefix) {
+        for (int start : wordStarts(key)) {
+            if (key.startsWith(prefix, start)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the start of the key and of each word after a separator.
+     */
+    private static int[] wordStarts(String key) {
+        int count = 1;
+        for (int i = 1; i < key.length(); i++) {
+            if (isWordStart(key, i)) {
+                count++;
+            }
+        }
+        int[] starts = new int[count];
+        int next = 1;
+        for (int i = 1; i < key.length(); i++) {
+            if (isWordStart(key, i)) {
+                starts[next++] = i;
+            }
+        }
+        return starts;
+    }
+
+    private static boolean isWordStart(String key, int index) {
+        return Character.isLetterOrDigit(key.charAt(index))
+            && !Character.isLetterOrDigit(key.charAt(index - 1));
+    }
+}
@@ -9,7 +9,13 @@
  */
 package org.rinna.pui.component;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -26,20 +32,42 @@ import org.rinna.pui.style.Style;
  * A component that visualizes work item dependencies and relationships.
  * This component renders a graph of work items and their relationships,
  * allowing for interactive exploration of dependencies.
+ *
+ * <p>Relationships are indexed by source item once per data set, and the visible
+ * part of the graph is placed by a {@link LayeredGraphLayout} whose positions are
+ * cached. Moving the selection only re-renders the viewport; expanding or
+ * collapsing a node relays out the layers below it; and the layouts of recently
+ * focused items are kept so switching focus back to them is immediate. Only nodes
+ * inside the viewport are turned into labels, so graphs with many thousands of
+ * nodes stay responsive.</p>
  */
 public class DependencyGraphView extends Container {
     
+    // Number of recently focused items whose layouts are kept
+    private static final int MAX_CACHED_LAYOUTS = 8;
+    
     // Core data
     private WorkItem focusedItem;
     private Map<String, WorkItem> workItems = new HashMap<>();
     private Map<String, List<WorkItemRelationship>> relationships = new HashMap<>();
+    private List<WorkItem> loadedItems;
+    private List<WorkItemRelationship> loadedRelationships;
     
     // Node representation
     private Map<String, Label> nodeLabels = new HashMap<>();
-    private Map<String, Point> nodePositions = new HashMap<>();
     
-    // Edge representation
-    private List<Edge> edges = new ArrayList<>();
+    // Layout of the focused item, and layouts of recently focused items
+    private LayeredGraphLayout layout;
+    private final Map<String, CachedLayout> layoutCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedLayout> eldest) {
+            return size() > MAX_CACHED_LAYOUTS;
+        }
+    };
+    
+    // Viewport origin in layout cells
+    private int viewLeft;
+    private int viewTop;
     
     // Navigation state
     private String selectedNodeId;
@@ -110,6 +138,9 @@ public class DependencyGraphView extends Container {
     
     /**
      * Sets the focus work item and its relationships.
+     * The indexes built from the lists are reused while the same list instances
+     * are passed in; after changing either list in place, call
+     * {@link #invalidateData()} so the next call rebuilds them.
      *
      * @param focusItem The central work item
      * @param allItems All work items in the system
@@ -117,32 +148,73 @@ public class DependencyGraphView extends Container {
      * @return This component for method chaining
      */
     public DependencyGraphView setData(WorkItem focusItem, List<WorkItem> allItems, List<WorkItemRelationship> allRelationships) {
-        this.focusedItem = focusItem;
-        this.selectedNodeId = focusItem.getId();
-        
-        // Clear previous data
-        workItems.clear();
-        relationships.clear();
-        expandedNodes.clear();
-        
-        // Add the focus item to expanded nodes
-        expandedNodes.add(focusItem.getId());
+        // Only rebuild the indexes when a different data set is passed in
+        if (allItems != loadedItems || allRelationships != loadedRelationships
+                || workItems.size() != allItems.size()) {
+            workItems.clear();
+            relationships.clear();
+            layoutCache.clear();
+            layout = null;
+            focusedItem = null;
+            
+            // Load work items
+            for (WorkItem item : allItems) {
+                workItems.put(item.getId(), item);
+            }
+            
+            // Load relationships
+            for (WorkItemRelationship relationship : allRelationships) {
+                String sourceId = relationship.getSourceItem().getId();
+                relationships.computeIfAbsent(sourceId, k -> new ArrayList<>()).add(relationship);
+            }
+            
+            loadedItems = allItems;
+            loadedRelationships = allRelationships;
+        }
         
-        // Load work items
-        for (WorkItem item : allItems) {
-            workItems.put(item.getId(), item);
+        return setFocusedItem(focusItem);
+    }
+    
+    /**
+     * Marks the loaded work items and relationships as changed, so the next call to
+     * {@link #setData(WorkItem, List, List)} rebuilds the indexes and layouts even if
+     * it is passed the same list instances.
+     *
+     * @return This component for method chaining
+     */
+    public DependencyGraphView invalidateData() {
+        loadedItems = null;
+        loadedRelationships = null;
+        return this;
+    }
+    
+    /**
+     * Moves the focus to another work item of the current data set. The layout and
+     * expanded nodes of the previous focus are kept, and restored if it is focused again.
+     *
+     * @param focusItem The new central work item
+     * @return This component for method chaining
+     */
+    public DependencyGraphView setFocusedItem(WorkItem focusItem) {
+        if (focusedItem != null && layout != null) {
+            layoutCache.put(focusedItem.getId(), new CachedLayout(layout, expandedNodes));
         }
         
-        // Load relationships
-        for (WorkItemRelationship relationship : allRelationships) {
-            String sourceId = relationship.getSourceItem().getId();
-            if (!relationships.containsKey(sourceId)) {
-                relationships.put(sourceId, new ArrayList<>());
-            }
-            relationships.get(sourceId).add(relationship);
+        this.focusedItem = focusItem;
+        this.selectedNodeId = focusItem.getId();
+        
+        CachedLayout cached = layoutCache.remove(focusItem.getId());
+        if (cached != null) {
+            layout = cached.layout;
+            expandedNodes = cached.expandedNodes;
+        } else {
+            expandedNodes = new HashSet<>();
+            expandedNodes.add(focusItem.getId());
+            layout = createLayout();
+            layout.layout(focusItem.getId());
         }
         
-        // Update the graph visualization
+        centerOn(selectedNodeId);
         updateGraph();
         
         return this;
@@ -189,7 +261,7 @@ public class DependencyGraphView extends Container {
      */
     public DependencyGraphView setVisibleRelationshipTypes(Set<WorkItemRelationship.RelationshipType> types) {
         this.visibleRelationshipTypes = types;
-        updateGraph();
+        relayout();
         return this;
     }
     
@@ -216,39 +288,94 @@ public class DependencyGraphView extends Container {
      * @return This component for method chaining
      */
     public DependencyGraphView setNavigationDepth(int depth) {
+        int previousDepth = navigationDepth;
         this.navigationDepth = Math.max(1, depth);
+        if (navigationDepth != previousDepth) {
+            // Cached layouts of other focus items were built for the old depth
+            layoutCache.clear();
+            if (layout != null) {
+                // Only nodes in the shallower of the two boundary layers change expansion
+                layout.relayoutFrom(Math.min(previousDepth, navigationDepth));
+            }
+        }
         updateGraph();
         return this;
     }
     
     /**
-     * Updates the graph visualization based on the current data and state.
+     * Lays out the visible graph of the focused item from scratch, discarding cached layouts.
+     */
+    private void relayout() {
+        layoutCache.clear();
+        if (layout != null && focusedItem != null) {
+            layout.layout(focusedItem.getId());
+            if (!layout.contains(selectedNodeId)) {
+                selectedNodeId = focusedItem.getId();
+            }
+        }
+        updateGraph();
+    }
+    
+    /**
+     * Creates a layout over the visible relationships of the current data set.
+     *
+     * @return The layout
+     */
+    private LayeredGraphLayout createLayout() {
+        return new LayeredGraphLayout(
+            this::visibleTargets,
+            (nodeId, depth) -> depth < navigationDepth || expandedNodes.contains(nodeId),
+            nodeWidth + horizontalSpacing,
+            nodeHeight + verticalSpacing);
+    }
+    
+    /**
+     * Gets the targets of a node's relationships of visible types.
+     *
+     * @param nodeId The source node ID
+     * @return The target node IDs
+     */
+    private List<String> visibleTargets(String nodeId) {
+        List<WorkItemRelationship> outgoing = relationships.get(nodeId);
+        if (outgoing == null) {
+            return new ArrayList<>();
+        }
+        List<String> targets = new ArrayList<>(outgoing.size());
+        for (WorkItemRelationship relationship : outgoing) {
+            if (isRelationshipVisible(relationship.getRelationshipType())) {
+                targets.add(relationship.getTargetItem().getId());
+            }
+        }
+        return targets;
+    }
+    
+    /**
+     * Updates the graph visualization for the nodes inside the viewport, using the cached layout.
      */
     private void updateGraph() {
         // Clear the graph container
         graphContainer.removeAllComponents();
         nodeLabels.clear();
-        nodePositions.clear();
-        edges.clear();
         
         // If no focus item, display a message
-        if (focusedItem == null) {
+        if (focusedItem == null || layout == null) {
             Label noDataLabel = new Label("No work item selected");
             noDataLabel.setAlignment(Label.Alignment.CENTER);
             graphContainer.addComponent(noDataLabel);
             return;
         }
         
-        // Calculate the layout
-        calculateGraphLayout();
+        scrollToSelection();
+        int viewWidth = graphContainer.getSize().getWidth();
+        int viewHeight = graphContainer.getSize().getHeight();
         
-        // Create the node labels
-        for (Map.Entry<String, Point> entry : nodePositions.entrySet()) {
-            String nodeId = entry.getKey();
-            Point position = entry.getValue();
+        // Create the node labels for the viewport only
+        for (String nodeId : layout.nodesIn(viewLeft - nodeWidth + 1, viewTop - nodeHeight + 1,
+                viewWidth + nodeWidth - 1, viewHeight + nodeHeight - 1)) {
             WorkItem item = workItems.get(nodeId);
             
             if (item != null) {
+                Point position = toView(layout.getPosition(nodeId));
                 // Create the node label
                 String labelText = nodeLabelProvider.apply(item);
                 Label nodeLabel = new Label(labelText);
@@ -273,12 +400,28 @@ public class DependencyGraphView extends Container {
             }
         }
         
-        // Create the edge labels
-        for (Edge edge : edges) {
-            if (edge.relationship != null && isRelationshipVisible(edge.relationship.getRelationshipType())) {
+        // Create the edge labels for layout edges leaving the rendered nodes
+        for (String sourceId : new ArrayList<>(nodeLabels.keySet())) {
+            Point sourcePos = layout.getPosition(sourceId);
+            for (WorkItemRelationship relationship : relationships.getOrDefault(sourceId, new ArrayList<>())) {
+                Point targetPos = layout.getPosition(relationship.getTargetItem().getId());
+                if (targetPos == null || targetPos.getY() <= sourcePos.getY()
+                        || !isRelationshipVisible(relationship.getRelationshipType())) {
+                    continue;
+                }
+                
+                // Place edge label at the midpoint
+                Point labelPosition = toView(new Point(
+                    (sourcePos.getX() + targetPos.getX()) / 2,
+                    (sourcePos.getY() + targetPos.getY()) / 2));
+                if (labelPosition.getX() < 0 || labelPosition.getX() >= viewWidth
+                        || labelPosition.getY() < 0 || labelPosition.getY() >= viewHeight) {
+                    continue;
+                }
+                
                 // Create edge representation (simplified for terminal)
-                Label edgeLabel = new Label(edgeLabelProvider.apply(edge.relationship));
-                edgeLabel.setPosition(edge.labelPosition);
+                Label edgeLabel = new Label(edgeLabelProvider.apply(relationship));
+                edgeLabel.setPosition(labelPosition);
                 
                 // Set edge style
                 Style edgeStyle = new Style().setForeground(Color.GRAY);
@@ -299,119 +442,42 @@ public class DependencyGraphView extends Container {
     }
     
     /**
-     * Calculates the graph layout with positions for all nodes and edges.
+     * Converts a layout position to a position inside the graph container.
+     *
+     * @param layoutPosition The position in layout cells
+     * @return The position relative to the viewport
      */
-    private void calculateGraphLayout() {
-        // Start with the focused node in the center
-        Set<String> processedNodes = new HashSet<>();
-        Map<String, Integer> nodeDepths = new HashMap<>();
-        
-        // Set the focus node at depth 0
-        nodeDepths.put(focusedItem.getId(), 0);
-        
-        // Calculate depths for all connected nodes (BFS)
-        Queue<String> queue = new LinkedList<>();
-        queue.add(focusedItem.getId());
-        
-        while (!queue.isEmpty()) {
-            String currentId = queue.poll();
-            if (processedNodes.contains(currentId)) continue;
-            
-            int currentDepth = nodeDepths.get(currentId);
-            processedNodes.add(currentId);
-            
-            // Only process further if within navigation depth or node is expanded
-            if (currentDepth < navigationDepth || expandedNodes.contains(currentId)) {
-                // Add relationships from this node
-                if (relationships.containsKey(currentId)) {
-                    for (WorkItemRelationship relationship : relationships.get(currentId)) {
-                        String targetId = relationship.getTargetItem().getId();
-                        
-                        // Only consider visible relationship types
-                        if (isRelationshipVisible(relationship.getRelationshipType())) {
-                            if (!nodeDepths.containsKey(targetId)) {
-                                nodeDepths.put(targetId, currentDepth + 1);
-                                queue.add(targetId);
-                            }
-                            
-                            // Create an edge
-                            edges.add(new Edge(currentId, targetId, relationship));
-                        }
-                    }
-                }
-            }
-        }
-        
-        // Position nodes based on their depth and relationships
-        Map<Integer, List<String>> nodesByDepth = new HashMap<>();
-        
-        // Group nodes by depth
-        for (Map.Entry<String, Integer> entry : nodeDepths.entrySet()) {
-            int depth = entry.getValue();
-            if (!nodesByDepth.containsKey(depth)) {
-                nodesByDepth.put(depth, new ArrayList<>());
-            }
-            nodesByDepth.get(depth).add(entry.getKey());
-        }
-        
-        // Calculate positions for each node
-        int centerX = graphContainer.getWidth() / 2;
-        int centerY = graphContainer.getHeight() / 2;
-        
-        // Place the focus node
-        nodePositions.put(focusedItem.getId(), new Point(centerX - nodeWidth / 2, centerY - nodeHeight / 2));
-        
-        // Place the other nodes by depth
-        for (int depth = 1; depth <= navigationDepth; depth++) {
-            List<String> nodesAtDepth = nodesByDepth.getOrDefault(depth, Collections.emptyList());
-            int nodeCount = nodesAtDepth.size();
-            
-            if (nodeCount > 0) {
-                // Calculate the layout based on depth
-                if (depth == 1) {
-                    // First level nodes go in a circle around the focus node
-                    placeNodesInCircle(nodesAtDepth, centerX, centerY, nodeWidth * 2);
-                } else {
-                    // Higher level nodes form wider circles
-                    placeNodesInCircle(nodesAtDepth, centerX, centerY, nodeWidth * 2 + (depth - 1) * nodeWidth * 1.5);
-                }
-            }
-        }
-        
-        // Calculate edge label positions
-        for (Edge edge : edges) {
-            if (nodePositions.containsKey(edge.sourceId) && nodePositions.containsKey(edge.targetId)) {
-                Point sourcePos = nodePositions.get(edge.sourceId);
-                Point targetPos = nodePositions.get(edge.targetId);
-                
-                // Place edge label at the midpoint
-                int midX = (sourcePos.getX() + targetPos.getX()) / 2;
-                int midY = (sourcePos.getY() + targetPos.getY()) / 2;
-                
-                edge.labelPosition = new Point(midX, midY);
-            }
-        }
+    private Point toView(Point layoutPosition) {
+        return new Point(layoutPosition.getX() - viewLeft, layoutPosition.getY() - viewTop);
     }
     
     /**
-     * Places nodes in a circle around a center point.
+     * Centers the viewport on a node.
      *
-     * @param nodeIds The list of node IDs to place
-     * @param centerX The X coordinate of the center
-     * @param centerY The Y coordinate of the center
-     * @param radius The radius of the circle
+     * @param nodeId The node ID
      */
-    private void placeNodesInCircle(List<String> nodeIds, int centerX, int centerY, double radius) {
-        int nodeCount = nodeIds.size();
-        
-        for (int i = 0; i < nodeCount; i++) {
-            // Calculate angle and position
-            double angle = 2 * Math.PI * i / nodeCount;
-            int x = (int) (centerX + radius * Math.cos(angle) - nodeWidth / 2);
-            int y = (int) (centerY + radius * Math.sin(angle) - nodeHeight / 2);
-            
-            // Set the position
-            nodePositions.put(nodeIds.get(i), new Point(x, y));
+    private void centerOn(String nodeId) {
+        Point position = layout.getPosition(nodeId);
+        if (position != null) {
+            viewLeft = position.getX() - (graphContainer.getSize().getWidth() - nodeWidth) / 2;
+            viewTop = position.getY() - (graphContainer.getSize().getHeight() - nodeHeight) / 2;
+        }
+    }
+    
+    /**
+     * Scrolls the viewport just enough to keep the selected node visible.
+     */
+    private void scrollToSelection() {
+        Point position = layout.getPosition(selectedNodeId);
+        if (position == null) {
+            return;
+        }
+        int maxLeft = position.getX() - Math.max(0, graphContainer.getSize().getWidth() - nodeWidth);
+        int maxTop = position.getY() - Math.max(0, graphContainer.getSize().getHeight() - nodeHeight);
+        if (viewLeft > position.getX() || viewLeft < maxLeft) {
+            centerOn(selectedNodeId);
+        } else if (viewTop > position.getY() || viewTop < maxTop) {
+            centerOn(selectedNodeId);
         }
     }
     
@@ -511,12 +577,14 @@ public class DependencyGraphView extends Container {
         
         // Expand/collapse with space
         if (keyCode == KeyHandler.KEY_SPACE) {
-            if (selectedNodeId != null) {
+            if (selectedNodeId != null && layout != null && layout.contains(selectedNodeId)) {
                 if (expandedNodes.contains(selectedNodeId)) {
                     expandedNodes.remove(selectedNodeId);
                 } else {
                     expandedNodes.add(selectedNodeId);
                 }
+                // Only the layers below the selected node can change
+                layout.relayoutFrom(layout.getLayerOf(selectedNodeId));
                 updateGraph();
             }
             return true;
@@ -548,7 +616,7 @@ public class DependencyGraphView extends Container {
             WorkItemRelationship.RelationshipType[] types = WorkItemRelationship.RelationshipType.values();
             if (index < types.length) {
                 toggleRelationshipType(types[index]);
-                updateGraph();
+                relayout();
                 return true;
             }
         }
@@ -562,85 +630,51 @@ public class DependencyGraphView extends Container {
      * @param keyCode The key code for the arrow key
      */
     private void navigateToNextNode(int keyCode) {
-        if (selectedNodeId == null || nodePositions.isEmpty()) {
+        if (layout == null) {
+            return;
+        }
+        if (selectedNodeId == null || !layout.contains(selectedNodeId)) {
             selectedNodeId = focusedItem.getId();
             updateGraph();
             return;
         }
         
-        Point currentPos = nodePositions.get(selectedNodeId);
-        if (currentPos == null) return;
-        
-        String closestNodeId = null;
-        double closestDistance = Double.MAX_VALUE;
-        
-        // Find the closest node in the direction of the arrow key
-        for (Map.Entry<String, Point> entry : nodePositions.entrySet()) {
-            String nodeId = entry.getKey();
-            Point nodePos = entry.getValue();
-            
-            if (nodeId.equals(selectedNodeId)) continue;
-            
-            boolean isInDirection = false;
-            
-            // Check if the node is in the direction of the arrow key
-            switch (keyCode) {
-                case KeyHandler.KEY_UP:
-                    isInDirection = nodePos.getY() < currentPos.getY();
-                    break;
-                case KeyHandler.KEY_DOWN:
-                    isInDirection = nodePos.getY() > currentPos.getY();
-                    break;
-                case KeyHandler.KEY_LEFT:
-                    isInDirection = nodePos.getX() < currentPos.getX();
-                    break;
-                case KeyHandler.KEY_RIGHT:
-                    isInDirection = nodePos.getX() > currentPos.getX();
-                    break;
-            }
-            
-            if (isInDirection) {
-                // Calculate the distance
-                double dx = nodePos.getX() - currentPos.getX();
-                double dy = nodePos.getY() - currentPos.getY();
-                double distance = Math.sqrt(dx * dx + dy * dy);
-                
-                // For Up/Down, prioritize vertical movement
-                if (keyCode == KeyHandler.KEY_UP || keyCode == KeyHandler.KEY_DOWN) {
-                    distance = Math.abs(dy) + Math.abs(dx) * 0.5;
-                }
-                // For Left/Right, prioritize horizontal movement
-                else if (keyCode == KeyHandler.KEY_LEFT || keyCode == KeyHandler.KEY_RIGHT) {
-                    distance = Math.abs(dx) + Math.abs(dy) * 0.5;
-                }
-                
-                if (distance < closestDistance) {
-                    closestDistance = distance;
-                    closestNodeId = nodeId;
-                }
-            }
+        // Left/Right move within a layer, Up/Down to the closest node in the adjacent layer
+        String nextNodeId;
+        switch (keyCode) {
+            case KeyHandler.KEY_UP:
+                nextNodeId = layout.nearestInAdjacentLayer(selectedNodeId, -1);
+                break;
+            case KeyHandler.KEY_DOWN:
+                nextNodeId = layout.nearestInAdjacentLayer(selectedNodeId, 1);
+                break;
+            case KeyHandler.KEY_LEFT:
+                nextNodeId = layout.sibling(selectedNodeId, -1);
+                break;
+            case KeyHandler.KEY_RIGHT:
+                nextNodeId = layout.sibling(selectedNodeId, 1);
+                break;
+            default:
+                nextNodeId = null;
         }
         
-        // Select the closest node in the direction
-        if (closestNodeId != null) {
-            selectedNodeId = closestNodeId;
+        // Select the next node in the direction
+        if (nextNodeId != null) {
+            selectedNodeId = nextNodeId;
             updateGraph();
         }
     }
     
     /**
-     * Helper class to represent an edge in the graph.
+     * Layout and expanded nodes kept for a previously focused item.
      */
-    private static class Edge {
-        String sourceId;
-        String targetId;
-        WorkItemRelationship relationship;
-        Point labelPosition;
-        
-        public Edge(String sourceId, String targetId, WorkItemRelationship relationship) {
-            this.sourceId = sourceId;
-            this.targetId = targetId;
-            this.relationship = relationship;
+    private static class CachedLayout {
+        final LayeredGraphLayout layout;
+        final Set<String> expandedNodes;
+        
+        CachedLayout(LayeredGraphLayout layout, Set<String> expandedNodes) {
+            this.layout = layout;
+            this.expandedNodes = expandedNodes;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,391 @@
+/**
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ *
+ * Developed with analytical assistance from AI tools.
+ * All rights reserved.
+ *
+ * This source code is licensed under the MIT License
+ * found in the LICENSE file in the root directory of this source tree.
+ */
+package org.rinna.pui.component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import org.rinna.pui.geom.Point;
+
+/**
+ * Layered (Sugiyama-style) layout of the part of a directed graph reachable from a root.
+ *
+ * <p>Nodes are assigned to layers by breadth-first distance from the root, so the
+ * root sits alone in layer 0 and every layout edge points one layer down; edges to
+ * the same or an upper layer are left out of the layout. Each layer is then ordered
+ * by barycenter sweeps to reduce crossings, and nodes are given columns close to the
+ * mean column of their parents without overlapping their neighbours.</p>
+ *
+ * <p>Because a node's layer depends only on the layers above it, a change to whether
+ * a node in layer {@code k} is expanded can only affect layers below {@code k}.
+ * {@link #relayoutFrom(int)} keeps layers {@code 0..k} and their positions as they
+ * are and recomputes the rest, so expanding or collapsing a node costs the size of
+ * the layers below it rather than the size of the graph.</p>
+ *
+ * <p>Positions are cached until the next relayout, and navigation and viewport
+ * queries use binary searches over the per-layer column order.</p>
+ */
+public final class LayeredGraphLayout {
+    private static final int SWEEPS = 2;
+
+    private final Function<String, ? extends Collection<String>> successors;
+    private final BiPredicate<String, Integer> expands;
+    private final int columnPitch;
+    private final int rowPitch;
+
+    private final java.util.List<java.util.List<String>> layers = new ArrayList<>();
+    private final Map<String, Integer> layerOf = new HashMap<>();
+    private final Map<String, Integer> orderOf = new HashMap<>();
+    private final Map<String, Integer> columnOf = new HashMap<>();
+    private final Map<String, java.util.List<String>> parents = new HashMap<>();
+    private final Map<String, java.util.List<String>> children = new HashMap<>();
+
+    /**
+     * Creates a layout.
+     *
+     * @param successors the outgoing neighbours of a node
+     * @param expands whether a node at the given layer should contribute its successors
+     * @param columnPitch the minimum horizontal distance between nodes in a layer
+     * @param rowPitch the vertical distance between layers
+     */
+    public LayeredGraphLayout(Function<String, ? extends Collection<String>> successors,
+                              BiPredicate<String, Integer> expands, int columnPitch, int rowPitch) {
+        this.successors = successors;
+        this.expands = expands;
+        this.columnPitch = Math.max(1, columnPitch);
+        this.rowPitch = Math.max(1, rowPitch);
+    }
+
+    /**
+     * Lays out the graph from scratch.
+     *
+     * @param root the root node
+     */
+    public void layout(String root) {
+        layers.clear();
+        layerOf.clear();
+        orderOf.clear();
+        columnOf.clear();
+        parents.clear();
+        children.clear();
+
+        java.util.List<String> first = new ArrayList<>();
+        first.add(root);
+        layers.add(first);
+        layerOf.put(root, 0);
+        orderOf.put(root, 0);
+        columnOf.put(root, 0);
+        parents.put(root, new ArrayList<>());
+        relayoutFrom(0);
+    }
+
+    /**
+     * Recomputes the layers below the given layer, keeping the given layer and all
+     * layers above it, including their order and columns, unchanged.
+     *
+     * @param layer the shallowest layer containing a node whose expansion state may have changed
+     */
+    public void relayoutFrom(int layer) {
+        if (layers.isEmpty()) {
+            return;
+        }
+        int keep = Math.max(0, Math.min(layer, layers.size() - 1));
+        truncateBelow(keep);
+
+        java.util.List<String> frontier = layers.get(keep);
+        int depth = keep;
+        while (!frontier.isEmpty()) {
+            java.util.List<String> next = new ArrayList<>();
+            for (String node : frontier) {
+                java.util.List<String> below = new ArrayList<>();
+                children.put(node, below);
+                if (!expands.test(node, depth)) {
+                    continue;
+                }
+                for (String successor : successors.apply(node)) {
+                    Integer successorLayer = layerOf.get(successor);
+                    if (successorLayer == null) {
+                        successorLayer = depth + 1;
+                        layerOf.put(successor, successorLayer);
+                        parents.put(successor, new ArrayList<>());
+                        next.add(successor);
+                    }
+                    if (successorLayer == depth + 1) {
+                        parents.get(successor).add(node);
+                        below.add(successor);
+                    }
+                }
+            }
+            if (next.isEmpty()) {
+                break;
+            }
+            layers.add(next);
+            frontier = next;
+            depth++;
+        }
+
+        for (int i = keep + 1; i < layers.size(); i++) {
+            renumber(i);
+        }
+        for (int sweep = 0; sweep < SWEEPS; sweep++) {
+            for (int i = keep + 1; i < layers.size(); i++) {
+                orderByBarycenter(i, parents);
+            }
+            for (int i = layers.size() - 2; i > keep; i--) {
+                orderByBarycenter(i, children);
+            }
+        }
+        for (int i = keep + 1; i < layers.size(); i++) {
+            orderByBarycenter(i, parents);
+            assignColumns(i);
+        }
+    }
+
+    /**
+     * Checks whether a node is part of the layout.
+     *
+     * @param node the node
+     * @return true if the node has a position
+     */
+    public boolean contains(String node) {
+        return layerOf.containsKey(node);
+    }
+
+    /**
+     * Gets the number of nodes in the layout.
+     *
+     * @return the node count
+     */
+    public int size() {
+        return layerOf.size();
+    }
+
+    /**
+     * Gets the number of layers.
+     *
+     * @return the layer count
+     */
+    public int getLayerCount() {
+        return layers.size();
+    }
+
+    /**
+     * Gets the nodes of a layer in left-to-right order.
+     *
+     * @param layer the layer index
+     * @return the nodes of the layer
+     */
+    public java.util.List<String> getLayer(int layer) {
+        return Collections.unmodifiableList(layers.get(layer));
+    }
+
+    /**
+     * Gets the layer of a node.
+     *
+     * @param node the node
+     * @return the layer index, or -1 if the node is not laid out
+     */
+    public int getLayerOf(String node) {
+        Integer layer = layerOf.get(node);
+        return layer == null ? -1 : layer;
+    }
+
+    /**
+     * Gets the layout children of a node, that is, its successors in the next layer.
+     *
+     * @param node the node
+     * @return the children, empty if the node is collapsed or not laid out
+     */
+    public java.util.List<String> getChildren(String node) {
+        return Collections.unmodifiableList(children.getOrDefault(node, Collections.emptyList()));
+    }
+
+    /**
+     * Gets the position of a node in layout cells.
+     *
+     * @param node the node
+     * @return the position, or null if the node is not laid out
+     */
+    public Point getPosition(String node) {
+        Integer layer = layerOf.get(node);
+        return layer == null ? null : new Point(columnOf.get(node), layer * rowPitch);
+    }
+
+    /**
+     * Finds the node next to the given one in the same layer.
+     *
+     * @param node the node
+     * @param step -1 for the left neighbour, 1 for the right neighbour
+     * @return the neighbour, or null if there is none
+     */
+    public String sibling(String node, int step) {
+        Integer layer = layerOf.get(node);
+        if (layer == null) {
+            return null;
+        }
+        java.util.List<String> nodes = layers.get(layer);
+        int index = orderOf.get(node) + step;
+        return index >= 0 && index < nodes.size() ? nodes.get(index) : null;
+    }
+
+    /**
+     * Finds the node in an adjacent layer whose column is closest to the given node's.
+     *
+     * @param node the node
+     * @param step -1 for the layer above, 1 for the layer below
+     * @return the closest node, or null if there is no such layer
+     */
+    public String nearestInAdjacentLayer(String node, int step) {
+        Integer layer = layerOf.get(node);
+        if (layer == null) {
+            return null;
+        }
+        int target = layer + step;
+        if (target < 0 || target >= layers.size()) {
+            return null;
+        }
+        java.util.List<String> nodes = layers.get(target);
+        int column = columnOf.get(node);
+        int index = firstAtOrRightOf(nodes, column);
+        if (index == nodes.size()) {
+            return nodes.get(index - 1);
+        }
+        if (index > 0 && column - columnOf.get(nodes.get(index - 1)) <= columnOf.get(nodes.get(index)) - column) {
+            return nodes.get(index - 1);
+        }
+        return nodes.get(index);
+    }
+
+    /**
+     * Gets the nodes whose top-left corner lies inside a rectangle of layout cells.
+     *
+     * @param left the leftmost column
+     * @param top the topmost row
+     * @param width the rectangle width
+     * @param height the rectangle height
+     * @return the nodes inside the rectangle, by layer and then left to right
+     */
+    public java.util.List<String> nodesIn(int left, int top, int width, int height) {
+        java.util.List<String> result = new ArrayList<>();
+        int firstLayer = Math.max(0, Math.floorDiv(top + rowPitch - 1, rowPitch));
+        int lastLayer = Math.min(layers.size() - 1, Math.floorDiv(top + height - 1, rowPitch));
+        for (int layer = firstLayer; layer <= lastLayer; layer++) {
+            java.util.List<String> nodes = layers.get(layer);
+            for (int i = firstAtOrRightOf(nodes, left); i < nodes.size(); i++) {
+                String node = nodes.get(i);
+                if (columnOf.get(node) >= left + width) {
+                    break;
+                }
+                result.add(node);
+            }
+        }
+        return result;
+    }
+
+    private void truncateBelow(int keep) {
+        while (layers.size() > keep + 1) {
+            for (String node : layers.remove(layers.size() - 1)) {
+                layerOf.remove(node);
+                orderOf.remove(node);
+                columnOf.remove(node);
+                parents.remove(node);
+                children.remove(node);
+            }
+        }
+    }
+
+    private void renumber(int layer) {
+        java.util.List<String> nodes = layers.get(layer);
+        for (int i = 0; i < nodes.size(); i++) {
+            orderOf.put(nodes.get(i), i);
+        }
+    }
+
+    /**
+     * Reorders a layer by the mean order of each node's neighbours in the adjacent
+     * layer. Nodes without neighbours there keep their current order as their key.
+     */
+    private void orderByBarycenter(int layer, Map<String, java.util.List<String>> neighbours) {
+        java.util.List<String> nodes = layers.get(layer);
+        Ranked[] ranked = new Ranked[nodes.size()];
+        for (int i = 0; i < ranked.length; i++) {
+            String node = nodes.get(i);
+            java.util.List<String> adjacent = neighbours.getOrDefault(node, Collections.emptyList());
+            double key = i;
+            if (!adjacent.isEmpty()) {
+                double sum = 0;
+                for (String other : adjacent) {
+                    sum += orderOf.get(other);
+                }
+                key = sum / adjacent.size();
+            }
+            ranked[i] = new Ranked(node, key);
+        }
+        // Stable on the current order, which breaks ties between equal barycenters
+        Arrays.sort(ranked, Comparator.comparingDouble((Ranked r) -> r.key));
+        for (int i = 0; i < ranked.length; i++) {
+            nodes.set(i, ranked[i].node);
+            orderOf.put(ranked[i].node, i);
+        }
+    }
+
+    /**
+     * Places each node of a layer at the mean column of its parents, then pushes
+     * nodes right where needed so that neighbours are at least one pitch apart.
+     */
+    private void assignColumns(int layer) {
+        int previous = Integer.MIN_VALUE;
+        for (String node : layers.get(layer)) {
+            java.util.List<String> above = parents.get(node);
+            long sum = 0;
+            for (String parent : above) {
+                sum += columnOf.get(parent);
+            }
+            int desired = above.isEmpty() ? 0 : (int) (sum / above.size());
+            int column = previous == Integer.MIN_VALUE ? desired : Math.max(desired, previous + columnPitch);
+            columnOf.put(node, column);
+            previous = column;
+        }
+    }
+
+    private int firstAtOrRightOf(java.util.List<String> nodes, int column) {
+        int low = 0;
+        int high = nodes.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (columnOf.get(nodes.get(mid)) < column) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * A node with its sort key while a layer is being reordered.
+     */
+    private static final class Ranked {
+        final String node;
+        final double key;
+
+        Ranked(String node, double key) {
+            this.node = node;
+            this.key = key;
+        }
+    }
+}
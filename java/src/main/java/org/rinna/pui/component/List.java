@@ -21,6 +21,9 @@ import org.rinna.pui.style.Style;
 
 /**
  * A component that displays a list of items and allows selection.
+ * Items come from a {@link ListModel}; the list only reads the visible
+ * window plus a prefetch margin, so large paged models stay cheap to
+ * scroll, select and search with type-ahead.
  */
 public class List<T> implements Component {
     
@@ -50,8 +53,14 @@ public class List<T> implements Component {
         String getDisplayString(T item);
     }
     
+    /** Number of items beyond the visible window to prefetch in each direction. */
+    private static final int PREFETCH_MARGIN = 20;
+    
+    /** Idle time after which typed characters start a new type-ahead prefix. */
+    private static final long TYPE_AHEAD_TIMEOUT_MS = 1000;
+    
     private String id;
-    private java.util.List<T> items;
+    private ListModel<T> items;
     private Point position;
     private Dimension size;
     private Style style;
@@ -66,6 +75,8 @@ public class List<T> implements Component {
     private int visibleItems;
     private ItemRenderer<T> itemRenderer;
     private java.util.List<SelectionListener<T>> selectionListeners;
+    private final StringBuilder typeAhead = new StringBuilder();
+    private long lastTypeAheadMs;
     
     /**
      * Creates a new list with the specified ID and visible items.
@@ -75,7 +86,7 @@ public class List<T> implements Component {
      */
     public List(String id, int visibleItems) {
         this.id = id;
-        this.items = new ArrayList<>();
+        this.items = ListModel.of(null);
         this.visibleItems = Math.max(1, visibleItems);
         this.renderer = new ListRenderer<>();
         this.selectionListeners = new ArrayList<>();
@@ -101,11 +112,40 @@ public class List<T> implements Component {
     
     /**
      * Gets all items in the list.
+     * This materializes the whole model; renderers should use
+     * {@link #getVisibleWindow()} instead.
      * 
      * @return the items
      */
     public java.util.List<T> getItems() {
-        return new ArrayList<>(items);
+        return items.getRange(0, items.size());
+    }
+    
+    /**
+     * Gets the items currently in view, starting at the top index.
+     * 
+     * @return the visible items
+     */
+    public java.util.List<T> getVisibleWindow() {
+        return items.getRange(topIndex, visibleItems);
+    }
+    
+    /**
+     * Gets the number of items in the list without materializing them.
+     * 
+     * @return the item count
+     */
+    public int getItemCount() {
+        return items.size();
+    }
+    
+    /**
+     * Gets the model providing the items.
+     * 
+     * @return the list model
+     */
+    public ListModel<T> getModel() {
+        return items;
     }
     
     /**
@@ -114,42 +154,57 @@ public class List<T> implements Component {
      * @param items the new items
      */
     public void setItems(Collection<T> items) {
-        this.items.clear();
-        if (items != null) {
-            this.items.addAll(items);
-        }
+        setModel(ListModel.of(items));
+    }
+    
+    /**
+     * Sets the model providing the items, without copying them.
+     * 
+     * @param model the new model
+     */
+    public void setModel(ListModel<T> model) {
+        this.items = model != null ? model : ListModel.of(null);
         
         // Adjust selection and top index
         if (selectedIndex >= this.items.size()) {
-            selectedIndex = this.items.isEmpty() ? -1 : this.items.size() - 1;
+            selectedIndex = this.items.size() == 0 ? -1 : this.items.size() - 1;
         }
         
         if (topIndex > 0 && topIndex >= this.items.size()) {
             topIndex = Math.max(0, this.items.size() - visibleItems);
         }
+        prefetchWindow();
         
         // Notify selection change
         notifySelectionChange();
     }
     
     /**
-     * Adds an item to the list.
+     * Adds an item to the list. Lists showing a read-only model, such as a
+     * {@link PagedListModel}, are left unchanged.
      * 
      * @param item the item to add
+     * @return true if the item was added, false otherwise
      */
-    public void addItem(T item) {
-        if (item != null) {
-            items.add(item);
+    public boolean addItem(T item) {
+        if (item == null || !items.isMutable()) {
+            return false;
         }
+        items.add(item);
+        return true;
     }
     
     /**
-     * Removes an item from the list.
+     * Removes an item from the list. Lists showing a read-only model, such as
+     * a {@link PagedListModel}, are left unchanged.
      * 
      * @param item the item to remove
      * @return true if the item was removed, false otherwise
      */
     public boolean removeItem(T item) {
+        if (!items.isMutable()) {
+            return false;
+        }
         int index = items.indexOf(item);
         if (index >= 0) {
             items.remove(index);
@@ -227,6 +282,7 @@ public class List<T> implements Component {
                     topIndex = selectedIndex - visibleItems + 1;
                 }
             }
+            prefetchWindow();
             
             notifySelectionChange();
         }
@@ -252,6 +308,7 @@ public class List<T> implements Component {
         }
         
         topIndex = index;
+        prefetchWindow();
     }
     
     /**
@@ -320,6 +377,39 @@ public class List<T> implements Component {
         }
     }
     
+    /**
+     * Asks the model to load the visible window plus a margin on either side.
+     */
+    private void prefetchWindow() {
+        items.prefetch(topIndex - PREFETCH_MARGIN, visibleItems + 2 * PREFETCH_MARGIN);
+    }
+    
+    /**
+     * Extends the type-ahead prefix with a typed character and selects the
+     * next item whose display string starts with it.
+     * 
+     * @param c the typed character
+     * @return true if an item was selected
+     */
+    private boolean typeAhead(char c) {
+        long now = System.currentTimeMillis();
+        if (now - lastTypeAheadMs > TYPE_AHEAD_TIMEOUT_MS) {
+            typeAhead.setLength(0);
+        }
+        lastTypeAheadMs = now;
+        typeAhead.append(c);
+        
+        // A fresh prefix moves past the current item; a longer one may stay on it
+        int start = typeAhead.length() == 1 ? selectedIndex + 1 : Math.max(0, selectedIndex);
+        int match = items.findByPrefix(typeAhead.toString(), Math.max(0, start) % items.size(),
+                itemRenderer::getDisplayString);
+        if (match >= 0) {
+            setSelectedIndex(match);
+            return true;
+        }
+        return false;
+    }
+    
     /**
      * Updates the size of the list based on the number of visible items.
      */
@@ -404,7 +494,7 @@ public class List<T> implements Component {
     
     @Override
     public boolean handleKey(int key) {
-        if (!isEnabled() || !isFocused() || items.isEmpty()) {
+        if (!isEnabled() || !isFocused() || items.size() == 0) {
             return false;
         }
         
@@ -458,6 +548,12 @@ public class List<T> implements Component {
                     return true;
                 }
                 break;
+                
+            default:
+                if (key >= 32 && key < 127) {
+                    return typeAhead((char) key);
+                }
+                break;
         }
         
         return false;
@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * 
+ * Developed with analytical assistance from AI tools.
+ * All rights reserved.
+ * 
+ * This source code is licensed under the MIT License
+ * found in the LICENSE file in the root directory of this source tree.
+ */
+package org.rinna.pui.component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Random-access source of items for a {@link List} component.
+ * Lists only ask a model for the items they show, so a model can hold
+ * far more items than are ever materialized at once.
+ *
+ * @param <T> the type of items in the model
+ */
+public interface ListModel<T> {
+    
+    /**
+     * Gets the number of items in the model.
+     * 
+     * @return the item count
+     */
+    int size();
+    
+    /**
+     * Gets the item at an index.
+     * 
+     * @param index the item index
+     * @return the item
+     */
+    T get(int index);
+    
+    /**
+     * Gets a contiguous range of items, clipped to the model size.
+     * 
+     * @param from the first index
+     * @param count the maximum number of items
+     * @return the items in the range
+     */
+    default java.util.List<T> getRange(int from, int count) {
+        int start = Math.max(0, from);
+        int end = Math.min(size(), from + count);
+        java.util.List<T> range = new ArrayList<>(Math.max(0, end - start));
+        for (int i = start; i < end; i++) {
+            range.add(get(i));
+        }
+        return range;
+    }
+    
+    /**
+     * Hints that a range of items is about to be shown, so a model backed by
+     * a slow source can load it ahead of time.
+     * 
+     * @param from the first index
+     * @param count the number of items
+     */
+    default void prefetch(int from, int count) {
+        // In-memory models have nothing to prefetch
+    }
+    
+    /**
+     * Finds the first item at or after an index whose display string starts
+     * with a prefix, ignoring case, wrapping around to the start.
+     * 
+     * @param prefix the prefix to look for
+     * @param startIndex the index to start searching from
+     * @param displayString converts items to their display strings
+     * @return the index of the match, or -1 if there is none
+     */
+    default int findByPrefix(String prefix, int startIndex, Function<T, String> displayString) {
+        int size = size();
+        for (int offset = 0; offset < size; offset++) {
+            int index = (startIndex + offset) % size;
+            String text = displayString.apply(get(index));
+            if (text != null && text.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                return index;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Gets the index of an item. The default scans every item; models backed
+     * by a slow source should override this with an indexed lookup.
+     * 
+     * @param item the item to find
+     * @return the index, or -1 if not found
+     */
+    default int indexOf(T item) {
+        int size = size();
+        for (int i = 0; i < size; i++) {
+            T candidate = get(i);
+            if (candidate == null ? item == null : candidate.equals(item)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Checks whether {@link #add(Object)} and {@link #remove(int)} are supported.
+     * 
+     * @return true if the model can be changed through this interface
+     */
+    default boolean isMutable() {
+        return false;
+    }
+    
+    /**
+     * Adds an item. Only supported by mutable in-memory models.
+     * 
+     * @param item the item to add
+     */
+    default void add(T item) {
+        throw new UnsupportedOperationException("Model is read-only");
+    }
+    
+    /**
+     * Removes the item at an index. Only supported by mutable in-memory models.
+     * 
+     * @param index the index to remove
+     */
+    default void remove(int index) {
+        throw new UnsupportedOperationException("Model is read-only");
+    }
+    
+    /**
+     * Creates a mutable in-memory model holding a copy of a collection.
+     * 
+     * @param <T> the type of items
+     * @param items the items to copy, or null for an empty model
+     * @return the model
+     */
+    static <T> ListModel<T> of(Collection<T> items) {
+        java.util.List<T> copy = items == null ? new ArrayList<>() : new ArrayList<>(items);
+        return new ListModel<T>() {
+            @Override
+            public int size() {
+                return copy.size();
+            }
+            
+            @Override
+            public T get(int index) {
+                return copy.get(index);
+            }
+            
+            @Override
+            public java.util.List<T> getRange(int from, int count) {
+                int start = Math.max(0, from);
+                int end = Math.min(copy.size(), from + count);
+                return start >= end ? new ArrayList<>() : new ArrayList<>(copy.subList(start, end));
+            }
+            
+            @Override
+            public int indexOf(T item) {
+                return copy.indexOf(item);
+            }
+            
+            @Override
+            public boolean isMutable() {
+                return true;
+            }
+            
+            @Override
+            public void add(T item) {
+                copy.add(item);
+            }
+            
+            @Override
+            public void remove(int index) {
+                copy.remove(index);
+            }
+        };
+    }
+}
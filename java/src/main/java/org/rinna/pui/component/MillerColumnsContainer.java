@@ -11,6 +11,7 @@ package org.rinna.pui.component;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -26,13 +27,29 @@ import org.rinna.pui.style.Style;
  * Miller columns display a hierarchy as a series of adjacent columns, with each column
  * showing the children of the currently selected item in the previous column.
  * This is useful for navigating complex hierarchical structures like work item relationships.
+ * 
+ * <p>Columns are backed by {@link ListModel}s. Children are resolved lazily when an
+ * item is selected and the resulting models are cached, so moving back and forth
+ * between siblings does not query the children provider again. With
+ * {@link #setChildrenSource(Function)} children are loaded page by page.</p>
  *
  * @param <T> The type of data displayed in the columns
  */
 public class MillerColumnsContainer<T> extends Container {
     
+    /** Maximum number of child models kept in the cache. */
+    private static final int MAX_CACHED_CHILDREN = 256;
+    
     private final List<Container> columns = new ArrayList<>();
-    private final List<List<T>> columnData = new ArrayList<>();
+    private final List<ListModel<T>> columnData = new ArrayList<>();
+    private final Map<T, ListModel<T>> childCache = new LinkedHashMap<T, ListModel<T>>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+        
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<T, ListModel<T>> eldest) {
+            return size() > MAX_CACHED_CHILDREN;
+        }
+    };
     private final List<Integer> selectedIndices = new ArrayList<>();
     private final Map<Container, Integer> columnWidths = new HashMap<>();
     
@@ -42,7 +59,7 @@ public class MillerColumnsContainer<T> extends Container {
     private int activeColumn = 0;
     
     private Function<T, String> itemRenderer;
-    private Function<T, List<T>> childrenProvider;
+    private Function<T, ListModel<T>> childrenProvider;
     private Function<T, String> detailProvider;
     
     /**
@@ -95,10 +112,31 @@ public class MillerColumnsContainer<T> extends Container {
      * @return this MillerColumnsContainer for method chaining
      */
     public MillerColumnsContainer<T> setChildrenProvider(Function<T, List<T>> childrenProvider) {
-        this.childrenProvider = childrenProvider;
+        this.childrenProvider = childrenProvider == null ? null : item -> ListModel.of(childrenProvider.apply(item));
+        childCache.clear();
+        return this;
+    }
+    
+    /**
+     * Sets the function used to provide a paged source of children for a given item.
+     * Only the pages a column actually shows are fetched.
+     *
+     * @param childrenSource The function that returns a page source for an item's children
+     * @return this MillerColumnsContainer for method chaining
+     */
+    public MillerColumnsContainer<T> setChildrenSource(Function<T, PagedListModel.PageSource<T>> childrenSource) {
+        this.childrenProvider = childrenSource == null ? null : item -> new PagedListModel<>(childrenSource.apply(item));
+        childCache.clear();
         return this;
     }
     
+    /**
+     * Discards cached children, for example after the hierarchy changed.
+     */
+    public void invalidateChildren() {
+        childCache.clear();
+    }
+    
     /**
      * Sets the function used to provide detailed information for an item.
      *
@@ -116,6 +154,15 @@ public class MillerColumnsContainer<T> extends Container {
      * @param rootItems The list of root items
      */
     public void setRootItems(List<T> rootItems) {
+        setRootModel(ListModel.of(rootItems));
+    }
+    
+    /**
+     * Sets the model providing root items for the first column, without copying them.
+     *
+     * @param rootItems The model of root items
+     */
+    public void setRootModel(ListModel<T> rootItems) {
         // Clear existing columns
         clear();
         
@@ -147,7 +194,7 @@ public class MillerColumnsContainer<T> extends Container {
      * @param items The items to display in the column
      * @return The index of the new column
      */
-    private int addColumn(List<T> items) {
+    private int addColumn(ListModel<T> items) {
         // Create a new column container
         Container column = new Container("column-" + columns.size());
         column.setSize(new Dimension(columnWidth, columnHeight));
@@ -169,7 +216,7 @@ public class MillerColumnsContainer<T> extends Container {
         
         // Create a list for the items
         List<T> list = new List<>("list-" + columns.size(), columnHeight - 2);
-        list.setItems(items);
+        list.setModel(items);
         if (itemRenderer != null) {
             list.setItemRenderer(itemRenderer);
         }
@@ -200,7 +247,7 @@ public class MillerColumnsContainer<T> extends Container {
         columnWidths.put(column, columnWidth);
         
         // Select the first item by default
-        if (!items.isEmpty()) {
+        if (items.size() > 0) {
             list.setSelectedIndex(0);
             selectedIndices.add(0);
         } else {
@@ -217,11 +264,11 @@ public class MillerColumnsContainer<T> extends Container {
      * @param columnIndex The index of the column containing the selected item
      */
     private void updateNextColumn(T selectedItem, int columnIndex) {
-        // Get children of the selected item
-        List<T> children = childrenProvider != null ? childrenProvider.apply(selectedItem) : new ArrayList<>();
+        // Get children of the selected item, reusing the cached model when possible
+        ListModel<T> children = childrenOf(selectedItem);
         
         // If this is the last column or we have no children, add a details column
-        if (columnIndex == maxColumns - 2 || children.isEmpty()) {
+        if (columnIndex == maxColumns - 2 || children.size() == 0) {
             updateDetailsColumn(selectedItem, columnIndex + 1);
             return;
         }
@@ -242,8 +289,8 @@ public class MillerColumnsContainer<T> extends Container {
             // Update existing column
             List list = getListFromColumn(columns.get(columnIndex + 1));
             if (list != null) {
-                list.setItems(children);
-                if (!children.isEmpty()) {
+                list.setModel(children);
+                if (children.size() > 0) {
                     list.setSelectedIndex(0);
                     if (selectedIndices.size() > columnIndex + 1) {
                         selectedIndices.set(columnIndex + 1, 0);
@@ -259,6 +306,24 @@ public class MillerColumnsContainer<T> extends Container {
         }
     }
     
+    /**
+     * Gets the children model for an item, loading it on first use.
+     *
+     * @param item The parent item
+     * @return The children model, which may be empty
+     */
+    private ListModel<T> childrenOf(T item) {
+        if (childrenProvider == null) {
+            return ListModel.of(null);
+        }
+        ListModel<T> children = childCache.get(item);
+        if (children == null) {
+            children = childrenProvider.apply(item);
+            childCache.put(item, children);
+        }
+        return children;
+    }
+    
     /**
      * Updates the details column with information about the selected item.
      *
@@ -416,7 +481,7 @@ public class MillerColumnsContainer<T> extends Container {
         
         for (int i = 0; i < columnData.size(); i++) {
             if (i < selectedIndices.size() && selectedIndices.get(i) >= 0) {
-                List<T> data = columnData.get(i);
+                ListModel<T> data = columnData.get(i);
                 if (data != null && selectedIndices.get(i) < data.size()) {
                     selectedItems.add(data.get(selectedIndices.get(i)));
                 }
@@ -433,7 +498,7 @@ public class MillerColumnsContainer<T> extends Container {
      */
     public T getSelectedRootItem() {
         if (!columnData.isEmpty() && !selectedIndices.isEmpty() && selectedIndices.get(0) >= 0) {
-            List<T> rootItems = columnData.get(0);
+            ListModel<T> rootItems = columnData.get(0);
             if (rootItems != null && selectedIndices.get(0) < rootItems.size()) {
                 return rootItems.get(selectedIndices.get(0));
             }
@@ -0,0 +1,222 @@
+/**
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * 
+ * Developed with analytical assistance from AI tools.
+ * All rights reserved.
+ * 
+ * This source code is licensed under the MIT License
+ * found in the LICENSE file in the root directory of this source tree.
+ */
+package org.rinna.pui.component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A list model that loads items page by page from a {@link PageSource}
+ * and keeps a bounded number of recently used pages in memory.
+ * 
+ * <p>Only the pages touched by rendering, navigation and prefetching are
+ * ever loaded, so scrolling through a very large collection costs work
+ * proportional to what is shown rather than to the collection size.</p>
+ *
+ * @param <T> the type of items in the model
+ */
+public class PagedListModel<T> implements ListModel<T> {
+    
+    /**
+     * A source of items that can be read a page at a time.
+     *
+     * @param <T> the type of items
+     */
+    public interface PageSource<T> {
+        /** Returned by {@link #findByPrefix(String, int)} and {@link #indexOf(Object)} when searching is not supported. */
+        int UNSUPPORTED = -2;
+        
+        /**
+         * Gets the total number of items.
+         * 
+         * @return the item count
+         */
+        int count();
+        
+        /**
+         * Fetches a page of items.
+         * 
+         * @param offset the index of the first item
+         * @param limit the maximum number of items
+         * @return the items, in order
+         */
+        java.util.List<T> fetch(int offset, int limit);
+        
+        /**
+         * Finds the first item at or after an index whose display string starts
+         * with a prefix, for sources that can answer this without a scan
+         * (for example an indexed or sorted query).
+         * 
+         * @param prefix the prefix to look for
+         * @param startIndex the index to start searching from
+         * @return the index of the match, -1 if there is none, or
+         *         {@link #UNSUPPORTED} if the source cannot search
+         */
+        default int findByPrefix(String prefix, int startIndex) {
+            return UNSUPPORTED;
+        }
+        
+        /**
+         * Finds the index of an item, for sources that can answer this without
+         * a scan (for example a lookup by key).
+         * 
+         * @param item the item to find
+         * @return the index, -1 if there is none, or {@link #UNSUPPORTED} if
+         *         the source cannot search
+         */
+        default int indexOf(T item) {
+            return UNSUPPORTED;
+        }
+    }
+    
+    /** Default number of items per page. */
+    public static final int DEFAULT_PAGE_SIZE = 64;
+    
+    /** Default number of pages kept in memory. */
+    public static final int DEFAULT_MAX_PAGES = 16;
+    
+    private final PageSource<T> source;
+    private final int pageSize;
+    private final Map<Integer, java.util.List<T>> pages;
+    private int size = -1;
+    
+    /**
+     * Creates a paged model with default page size and cache size.
+     * 
+     * @param source the page source
+     */
+    public PagedListModel(PageSource<T> source) {
+        this(source, DEFAULT_PAGE_SIZE, DEFAULT_MAX_PAGES);
+    }
+    
+    /**
+     * Creates a paged model.
+     * 
+     * @param source the page source
+     * @param pageSize the number of items per page
+     * @param maxPages the maximum number of pages kept in memory
+     */
+    public PagedListModel(PageSource<T> source, int pageSize, int maxPages) {
+        if (pageSize <= 0 || maxPages <= 0) {
+            throw new IllegalArgumentException("Page size and cache size must be positive");
+        }
+        this.source = source;
+        this.pageSize = pageSize;
+        this.pages = new LinkedHashMap<Integer, java.util.List<T>>(maxPages, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, java.util.List<T>> eldest) {
+                return size() > maxPages;
+            }
+        };
+    }
+    
+    @Override
+    public int size() {
+        if (size < 0) {
+            size = source.count();
+        }
+        return size;
+    }
+    
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+        java.util.List<T> page = page(index / pageSize);
+        int offset = index % pageSize;
+        return offset < page.size() ? page.get(offset) : null;
+    }
+    
+    @Override
+    public void prefetch(int from, int count) {
+        int start = Math.max(0, from);
+        int end = Math.min(size(), from + count);
+        for (int page = start / pageSize; page * pageSize < end; page++) {
+            page(page);
+        }
+    }
+    
+    @Override
+    public int findByPrefix(String prefix, int startIndex, Function<T, String> displayString) {
+        int index = source.findByPrefix(prefix, startIndex);
+        if (index != PageSource.UNSUPPORTED) {
+            return index;
+        }
+        
+        // Without source support, only search what is already in memory
+        int best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        int total = size();
+        for (Map.Entry<Integer, java.util.List<T>> entry : pages.entrySet()) {
+            int base = entry.getKey() * pageSize;
+            java.util.List<T> page = entry.getValue();
+            for (int i = 0; i < page.size(); i++) {
+                String text = displayString.apply(page.get(i));
+                if (text != null && text.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                    int distance = Math.floorMod(base + i - startIndex, total);
+                    if (distance < bestDistance) {
+                        best = base + i;
+                        bestDistance = distance;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+    
+    @Override
+    public int indexOf(T item) {
+        int index = source.indexOf(item);
+        if (index != PageSource.UNSUPPORTED) {
+            return index;
+        }
+        
+        // Without source support, only search what is already in memory
+        int best = -1;
+        for (Map.Entry<Integer, java.util.List<T>> entry : pages.entrySet()) {
+            int found = entry.getValue().indexOf(item);
+            if (found >= 0 && (best < 0 || entry.getKey() * pageSize + found < best)) {
+                best = entry.getKey() * pageSize + found;
+            }
+        }
+        return best;
+    }
+    
+    /**
+     * Discards cached pages and the cached size, for example after the
+     * underlying data changed.
+     */
+    public void invalidate() {
+        pages.clear();
+        size = -1;
+    }
+    
+    /**
+     * Gets the number of pages currently held in memory.
+     * 
+     * @return the cached page count
+     */
+    public int getCachedPageCount() {
+        return pages.size();
+    }
+    
+    private java.util.List<T> page(int page) {
+        java.util.List<T> items = pages.get(page);
+        if (items == null) {
+            items = source.fetch(page * pageSize, pageSize);
+            pages.put(page, items);
+        }
+        return items;
+    }
+}
@@ -71,20 +71,15 @@ public class ListRenderer<T> implements ComponentRenderer {
             selectedItemStyle = itemStyle;
         }
         
-        // Draw items
-        java.util.List<T> items = list.getItems();
+        // Draw only the visible window of items
+        java.util.List<T> items = list.getVisibleWindow();
         int topIndex = list.getTopIndex();
         int selectedIndex = list.getSelectedIndex();
-        int visibleItems = list.getVisibleItems();
         int width = size.getWidth() - 2; // Account for borders
         
-        for (int i = 0; i < visibleItems; i++) {
+        for (int i = 0; i < items.size(); i++) {
             int itemIndex = topIndex + i;
-            if (itemIndex >= items.size()) {
-                break;
-            }
-            
-            T item = items.get(itemIndex);
+            T item = items.get(i);
             String displayText = list.getItemRenderer().getDisplayString(item);
             
             // Truncate or pad the text to fit the available width
@@ -107,7 +102,7 @@ public class ListRenderer<T> implements ComponentRenderer {
         }
         
         // Draw scrollbar if needed
-        if (items.size() > visibleItems) {
+        if (list.getItemCount() > list.getVisibleItems()) {
             drawScrollbar(renderer, list, listStyle);
         }
     }
@@ -138,7 +133,7 @@ public class ListRenderer<T> implements ComponentRenderer {
         Point position = list.getPosition();
         Dimension size = list.getSize();
         
-        int totalItems = list.getItems().size();
+        int totalItems = list.getItemCount();
         int visibleItems = list.getVisibleItems();
         int topIndex = list.getTopIndex();
         
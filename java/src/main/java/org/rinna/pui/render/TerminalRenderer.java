@@ -10,31 +10,87 @@
 package org.rinna.pui.render;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 import org.rinna.pui.component.Component;
 import org.rinna.pui.component.Container;
 import org.rinna.pui.geom.Dimension;
 import org.rinna.pui.geom.Point;
+import org.rinna.pui.style.Color;
 import org.rinna.pui.style.Style;
 import org.rinna.pui.style.Theme;
 
 /**
  * Low-level terminal renderer that provides methods for drawing text and other elements.
+ * 
+ * <p>Drawing goes to a back buffer. {@link #refresh()} diffs the back buffer
+ * against the last frame presented to the terminal and emits only the runs
+ * of cells that changed, each preceded by a cursor-positioning escape. Style
+ * escapes are only emitted when the effective style changes, compared by
+ * value rather than by {@link Style} reference. The frame is assembled in a
+ * reusable buffer and written to the terminal in a single call.</p>
  */
 public class TerminalRenderer {
     
+    private static final String ESC = "\u001b[";
+    
+    /** Unchanged cells between two changed runs that are cheaper to rewrite than to skip. */
+    private static final int MAX_RUN_GAP = 4;
+    
+    private static final int NO_STYLE = -1;
+    
+    private final OutputStream out;
+    private final boolean detectSize;
     private int width;
     private int height;
+    
+    // Back buffer that components draw into
     private String[][] buffer;
-    private Style[][] styleBuffer;
+    private int[][] styleBuffer;
+    
+    // Front buffer mirroring what the terminal currently shows
+    private String[][] presented;
+    private int[][] presentedStyles;
+    private boolean fullRepaint = true;
+    
+    // Reusable frame assembly buffers
+    private final StringBuilder frame = new StringBuilder(8192);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private ByteBuffer frameBytes = ByteBuffer.allocate(16384);
+    
+    private int lastFrameBytes;
+    private int lastFrameCells;
     
     /**
      * Creates a new terminal renderer with default settings.
      */
     public TerminalRenderer() {
         // Default to 80x24 terminal size
-        this.width = 80;
-        this.height = 24;
+        this(System.out, 80, 24, true);
+    }
+    
+    /**
+     * Creates a terminal renderer with a fixed size that writes to the given stream.
+     * 
+     * @param out the stream receiving terminal output
+     * @param width the terminal width
+     * @param height the terminal height
+     */
+    public TerminalRenderer(OutputStream out, int width, int height) {
+        this(out, width, height, false);
+    }
+    
+    private TerminalRenderer(OutputStream out, int width, int height, boolean detectSize) {
+        this.out = out;
+        this.width = width;
+        this.height = height;
+        this.detectSize = detectSize;
         resetBuffers();
     }
     
@@ -45,18 +101,15 @@ public class TerminalRenderer {
      * @throws IOException if an I/O error occurs
      */
     public void initialize() throws IOException {
-        // Enter alternate screen buffer
-        System.out.print("\u001b[?1049h");
-        
-        // Hide cursor
-        System.out.print("\u001b[?25l");
-        
-        // Clear screen
-        System.out.print("\u001b[2J");
+        // Enter alternate screen buffer, hide cursor and clear screen
+        writeControl("\u001b[?1049h" + "\u001b[?25l" + "\u001b[2J");
         
         // Get terminal size
         // In a real implementation, this would use JNA or similar to get the actual terminal size
-        updateTerminalSize();
+        if (detectSize) {
+            updateTerminalSize();
+        }
+        invalidate();
     }
     
     /**
@@ -66,14 +119,16 @@ public class TerminalRenderer {
      * @throws IOException if an I/O error occurs
      */
     public void cleanup() throws IOException {
-        // Show cursor
-        System.out.print("\u001b[?25h");
-        
-        // Exit alternate screen buffer
-        System.out.print("\u001b[?1049l");
-        
-        // Reset colors
-        System.out.print("\u001b[0m");
+        // Show cursor, exit alternate screen buffer and reset colors
+        writeControl("\u001b[?25h" + "\u001b[?1049l" + "\u001b[0m");
+    }
+    
+    /**
+     * Forces the next {@link #refresh()} to repaint every cell, for example
+     * after the terminal contents were disturbed by other output.
+     */
+    public void invalidate() {
+        fullRepaint = true;
     }
     
     /**
@@ -93,27 +148,27 @@ public class TerminalRenderer {
     }
     
     /**
-     * Resets the rendering buffers.
+     * Reallocates the rendering buffers for the current size.
      */
     private void resetBuffers() {
         this.buffer = new String[height][width];
-        this.styleBuffer = new Style[height][width];
-        
-        // Initialize buffers with spaces and default style
-        Style defaultStyle = new Style();
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                buffer[y][x] = " ";
-                styleBuffer[y][x] = defaultStyle;
-            }
-        }
+        this.styleBuffer = new int[height][width];
+        this.presented = new String[height][width];
+        this.presentedStyles = new int[height][width];
+        clear();
+        invalidate();
     }
     
     /**
-     * Clears the rendering buffers.
+     * Clears the back buffer. The front buffer is kept so the next
+     * refresh only sends what differs from the presented frame.
      */
     public void clear() {
-        resetBuffers();
+        int defaultStyle = styleKey(new Style());
+        for (int y = 0; y < height; y++) {
+            Arrays.fill(buffer[y], " ");
+            Arrays.fill(styleBuffer[y], defaultStyle);
+        }
     }
     
     /**
@@ -158,6 +213,7 @@ public class TerminalRenderer {
             return;
         }
         
+        int key = styleKey(style);
         for (int i = 0; i < text.length(); i++) {
             int posX = x + i;
             if (posX < 0 || posX >= width) {
@@ -165,7 +221,7 @@ public class TerminalRenderer {
             }
             
             buffer[y][posX] = String.valueOf(text.charAt(i));
-            styleBuffer[y][posX] = style;
+            styleBuffer[y][posX] = key;
         }
     }
     
@@ -185,6 +241,7 @@ public class TerminalRenderer {
             return;
         }
         
+        int key = styleKey(style);
         for (int i = 0; i < length; i++) {
             int posX = x + i;
             if (posX < 0 || posX >= width) {
@@ -192,7 +249,7 @@ public class TerminalRenderer {
             }
             
             buffer[y][posX] = lineChar;
-            styleBuffer[y][posX] = style;
+            styleBuffer[y][posX] = key;
         }
     }
     
@@ -208,6 +265,7 @@ public class TerminalRenderer {
         int x = position.getX();
         int y = position.getY();
         
+        int key = styleKey(style);
         for (int i = 0; i < length; i++) {
             int posY = y + i;
             if (posY < 0 || posY >= height || x < 0 || x >= width) {
@@ -215,7 +273,7 @@ public class TerminalRenderer {
             }
             
             buffer[posY][x] = lineChar;
-            styleBuffer[posY][x] = style;
+            styleBuffer[posY][x] = key;
         }
     }
     
@@ -232,6 +290,7 @@ public class TerminalRenderer {
         int y = position.getY();
         int width = size.getWidth();
         int height = size.getHeight();
+        int key = styleKey(style);
         
         // Draw horizontal lines
         drawHorizontalLine(new Point(x, y), width, style, style.getBorderStyle().getHorizontal());
@@ -244,22 +303,22 @@ public class TerminalRenderer {
         // Draw corners
         if (x >= 0 && x < this.width && y >= 0 && y < this.height) {
             buffer[y][x] = style.getBorderStyle().getTopLeft();
-            styleBuffer[y][x] = style;
+            styleBuffer[y][x] = key;
         }
         
         if (x + width - 1 >= 0 && x + width - 1 < this.width && y >= 0 && y < this.height) {
             buffer[y][x + width - 1] = style.getBorderStyle().getTopRight();
-            styleBuffer[y][x + width - 1] = style;
+            styleBuffer[y][x + width - 1] = key;
         }
         
         if (x >= 0 && x < this.width && y + height - 1 >= 0 && y + height - 1 < this.height) {
             buffer[y + height - 1][x] = style.getBorderStyle().getBottomLeft();
-            styleBuffer[y + height - 1][x] = style;
+            styleBuffer[y + height - 1][x] = key;
         }
         
         if (x + width - 1 >= 0 && x + width - 1 < this.width && y + height - 1 >= 0 && y + height - 1 < this.height) {
             buffer[y + height - 1][x + width - 1] = style.getBorderStyle().getBottomRight();
-            styleBuffer[y + height - 1][x + width - 1] = style;
+            styleBuffer[y + height - 1][x + width - 1] = key;
         }
         
         // Fill the rectangle if requested
@@ -268,7 +327,7 @@ public class TerminalRenderer {
                 for (int col = x + 1; col < x + width - 1; col++) {
                     if (row >= 0 && row < this.height && col >= 0 && col < this.width) {
                         buffer[row][col] = " ";
-                        styleBuffer[row][col] = style;
+                        styleBuffer[row][col] = key;
                     }
                 }
             }
@@ -304,69 +363,186 @@ public class TerminalRenderer {
     
     /**
      * Refreshes the terminal display.
-     * This flushes the buffers to the terminal.
+     * This sends the cells that differ from the last presented frame.
      */
     public void refresh() {
-        // Move cursor to top-left corner
-        System.out.print("\u001b[H");
-        
-        // Render the buffer
-        Style currentStyle = null;
+        frame.setLength(0);
+        int cells = 0;
+        int currentStyle = NO_STYLE;
         
         for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                Style style = styleBuffer[y][x];
+            String[] row = buffer[y];
+            int[] rowStyles = styleBuffer[y];
+            String[] shownRow = presented[y];
+            int[] shownStyles = presentedStyles[y];
+            
+            int x = 0;
+            while (x < width) {
+                if (!fullRepaint && !isDamaged(row, rowStyles, shownRow, shownStyles, x)) {
+                    x++;
+                    continue;
+                }
                 
-                // Only output style escape sequences if the style has changed
-                if (style != currentStyle) {
-                    outputStyleEscapeSequence(style);
-                    currentStyle = style;
+                // Extend the run over changed cells and over short unchanged gaps
+                int end = x + 1;
+                int lastChanged = x;
+                while (end < width && end - lastChanged <= MAX_RUN_GAP) {
+                    if (fullRepaint || isDamaged(row, rowStyles, shownRow, shownStyles, end)) {
+                        lastChanged = end;
+                    }
+                    end++;
                 }
+                end = lastChanged + 1;
                 
-                System.out.print(buffer[y][x]);
+                frame.append(ESC).append(y + 1).append(';').append(x + 1).append('H');
+                for (int col = x; col < end; col++) {
+                    int style = rowStyles[col];
+                    if (style != currentStyle) {
+                        appendStyle(style);
+                        currentStyle = style;
+                    }
+                    frame.append(row[col]);
+                    shownRow[col] = row[col];
+                    shownStyles[col] = style;
+                }
+                cells += end - x;
+                x = end;
             }
-            
-            // Move to the next line
-            System.out.println();
         }
         
-        // Reset styles at the end
-        System.out.print("\u001b[0m");
-        
-        // Flush output
-        System.out.flush();
+        if (cells > 0) {
+            // Reset styles at the end
+            frame.append(ESC).append("0m");
+        }
+        fullRepaint = false;
+        lastFrameCells = cells;
+        lastFrameBytes = cells > 0 ? writeFrame() : 0;
+    }
+    
+    /**
+     * Gets the number of bytes written by the last refresh.
+     * 
+     * @return the byte count of the last frame
+     */
+    public int getLastFrameBytes() {
+        return lastFrameBytes;
     }
     
     /**
-     * Outputs the ANSI escape sequence for the specified style.
+     * Gets the number of cells repainted by the last refresh.
+     * 
+     * @return the cell count of the last frame
+     */
+    public int getLastFrameCells() {
+        return lastFrameCells;
+    }
+    
+    private static boolean isDamaged(String[] row, int[] rowStyles, String[] shownRow, int[] shownStyles, int x) {
+        return rowStyles[x] != shownStyles[x] || !row[x].equals(shownRow[x]);
+    }
+    
+    /**
+     * Packs the visible attributes of a style into a value that can be
+     * compared cheaply and stays valid if the style is mutated later.
      * 
      * @param style the style
+     * @return the style key
+     */
+    private static int styleKey(Style style) {
+        int key = style.getForeground() == null ? 0 : style.getForeground().ordinal() + 1;
+        key |= (style.getBackground() == null ? 0 : style.getBackground().ordinal() + 1) << 5;
+        key |= (style.isBold() ? 1 : 0) << 10;
+        key |= (style.isItalic() ? 1 : 0) << 11;
+        key |= (style.isUnderline() ? 1 : 0) << 12;
+        key |= (style.isBlink() ? 1 : 0) << 13;
+        return key;
+    }
+    
+    /**
+     * Appends a single SGR escape sequence for the specified style key.
+     * 
+     * @param key the style key
      */
-    private void outputStyleEscapeSequence(Style style) {
+    private void appendStyle(int key) {
         // Reset all attributes first
-        System.out.print("\u001b[0m");
-        
-        // Set foreground color
-        System.out.print(style.getForeground().getForegroundEscapeSequence());
+        frame.append(ESC).append('0');
         
-        // Set background color
-        System.out.print(style.getBackground().getBackgroundEscapeSequence());
-        
-        // Set other attributes
-        if (style.isBold()) {
-            System.out.print("\u001b[1m");
+        int foreground = (key & 0x1f) - 1;
+        if (foreground >= 0) {
+            int code = Color.values()[foreground].getCode();
+            frame.append(';').append(code < 8 ? 30 + code : 90 + code - 8);
         }
         
-        if (style.isItalic()) {
-            System.out.print("\u001b[3m");
+        int background = ((key >> 5) & 0x1f) - 1;
+        if (background >= 0) {
+            int code = Color.values()[background].getCode();
+            frame.append(';').append(code < 8 ? 40 + code : 100 + code - 8);
         }
         
-        if (style.isUnderline()) {
-            System.out.print("\u001b[4m");
+        if ((key & (1 << 10)) != 0) {
+            frame.append(";1");
+        }
+        if ((key & (1 << 11)) != 0) {
+            frame.append(";3");
+        }
+        if ((key & (1 << 12)) != 0) {
+            frame.append(";4");
+        }
+        if ((key & (1 << 13)) != 0) {
+            frame.append(";5");
+        }
+        frame.append('m');
+    }
+    
+    /**
+     * Encodes the assembled frame into the reusable byte buffer and writes it in one call.
+     * 
+     * @return the number of bytes written
+     */
+    private int writeFrame() {
+        CharBuffer chars = CharBuffer.wrap(frame);
+        encoder.reset();
+        frameBytes.clear();
+        while (true) {
+            CoderResult result = encoder.encode(chars, frameBytes, true);
+            if (result.isOverflow()) {
+                frameBytes = grow(frameBytes);
+                continue;
+            }
+            result = encoder.flush(frameBytes);
+            if (result.isOverflow()) {
+                frameBytes = grow(frameBytes);
+                continue;
+            }
+            break;
         }
         
-        if (style.isBlink()) {
-            System.out.print("\u001b[5m");
+        int length = frameBytes.position();
+        try {
+            out.write(frameBytes.array(), 0, length);
+            out.flush();
+        } catch (IOException e) {
+            // The terminal is gone; repaint everything if it comes back
+            invalidate();
         }
+        return length;
+    }
+    
+    private static ByteBuffer grow(ByteBuffer bytes) {
+        ByteBuffer larger = ByteBuffer.allocate(bytes.capacity() * 2);
+        bytes.flip();
+        larger.put(bytes);
+        return larger;
+    }
+    
+    /**
+     * Writes a control sequence directly to the terminal.
+     * 
+     * @param sequence the control sequence
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeControl(String sequence) throws IOException {
+        out.write(sequence.getBytes(StandardCharsets.UTF_8));
+        out.flush();
     }
-}
\ No newline at end of file
+}
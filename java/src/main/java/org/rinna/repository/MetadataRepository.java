@@ -8,6 +8,8 @@
 
 package org.rinna.domain.repository;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -63,6 +65,35 @@ public interface MetadataRepository {
      */
     Map<String, String> getMetadataMap(UUID workItemId);
     
+    /**
+     * Returns selected metadata keys of several work items, one column per key.
+     * Each requested key maps to the values of the work items that have it, so a
+     * caller that filters many work items on a few keys can load them all at once.
+     * Every requested key is present in the result, with an empty column if no
+     * work item has it. The default implementation reads the work items one at a time.
+     *
+     * @param workItemIds the IDs of the work items
+     * @param keys the metadata keys
+     * @return a map from metadata key to a map from work item ID to value
+     */
+    default Map<String, Map<UUID, String>> getMetadataColumns(Collection<UUID> workItemIds,
+            Collection<String> keys) {
+        Map<String, Map<UUID, String>> columns = new HashMap<>();
+        for (String key : keys) {
+            columns.put(key, new HashMap<>());
+        }
+        for (UUID workItemId : workItemIds) {
+            Map<String, String> metadata = getMetadataMap(workItemId);
+            for (Map.Entry<String, Map<UUID, String>> column : columns.entrySet()) {
+                String value = metadata.get(column.getKey());
+                if (value != null) {
+                    column.getValue().put(workItemId, value);
+                }
+            }
+        }
+        return columns;
+    }
+    
     /**
      * Deletes metadata by its ID.
      *
@@ -16,6 +16,7 @@ import java.util.UUID;
 import org.rinna.domain.model.CynefinDomain;
 import org.rinna.domain.model.OriginCategory;
 import org.rinna.domain.model.UnifiedWorkItem;
+import org.rinna.domain.model.UnifiedWorkItemFilter;
 import org.rinna.domain.model.WorkParadigm;
 import org.rinna.domain.model.WorkflowState;
 
@@ -111,6 +112,14 @@ public interface UnifiedWorkItemService {
      */
     List<UnifiedWorkItem> findByAllTags(List<String> tags);
     
+    /**
+     * Finds unified work items matching every criterion of a filter.
+     * 
+     * @param filter the filter to apply
+     * @return a list of unified work items matching the filter
+     */
+    List<UnifiedWorkItem> findByFilter(UnifiedWorkItemFilter filter);
+    
     /**
      * Updates the assignee of a unified work item.
      * 
@@ -297,7 +306,7 @@ public interface UnifiedWorkItemService {
     Map<String, Object> getCognitiveLoadReport(String assignee);
     
     /**
-     * Gets distribution statistics of work items by category, domain, and paradigm.
+     * Gets distribution statistics of work items by category, domain, paradigm, and tag.
      * 
      * @return a map containing distribution statistics
      */
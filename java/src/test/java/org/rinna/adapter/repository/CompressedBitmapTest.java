@@ -0,0 +1,112 @@
+/*
+ * Test class for the Rinna workflow management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.adapter.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the CompressedBitmap used by the unified work item attribute index.
+ */
+public class CompressedBitmapTest {
+
+    @Test
+    void testAddRemoveAndContains() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+
+        assertTrue(bitmap.add(5));
+        assertFalse(bitmap.add(5));
+        assertTrue(bitmap.add(70000));
+        assertTrue(bitmap.contains(5));
+        assertTrue(bitmap.contains(70000));
+        assertFalse(bitmap.contains(6));
+        assertEquals(2, bitmap.cardinality());
+
+        assertTrue(bitmap.remove(5));
+        assertFalse(bitmap.remove(5));
+        assertTrue(bitmap.remove(70000));
+        assertTrue(bitmap.isEmpty());
+    }
+
+    @Test
+    void testDenseContainerConvertsBothWays() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int i = 0; i < 10000; i++) {
+            bitmap.add(i);
+        }
+        assertEquals(10000, bitmap.cardinality());
+
+        for (int i = 0; i < 10000; i += 2) {
+            bitmap.remove(i);
+        }
+        assertEquals(5000, bitmap.cardinality());
+        for (int i = 9999; i >= 5000; i -= 2) {
+            bitmap.remove(i);
+        }
+        assertEquals(2500, bitmap.cardinality());
+        assertTrue(bitmap.contains(1));
+        assertFalse(bitmap.contains(2));
+        assertFalse(bitmap.contains(9999));
+        assertEquals(expected(bitmap), toList(bitmap));
+    }
+
+    @Test
+    void testAndOrMatchSets() {
+        Random random = new Random(7);
+        for (int round = 0; round < 20; round++) {
+            TreeSet<Integer> leftSet = new TreeSet<>();
+            TreeSet<Integer> rightSet = new TreeSet<>();
+            CompressedBitmap left = new CompressedBitmap();
+            CompressedBitmap right = new CompressedBitmap();
+            // Alternate sparse and dense rounds so every container pairing is exercised
+            int range = round % 2 == 0 ? 300000 : 20000;
+            int count = round % 2 == 0 ? 2000 : 15000;
+            for (int i = 0; i < count; i++) {
+                int a = random.nextInt(range);
+                int b = random.nextInt(range);
+                leftSet.add(a);
+                left.add(a);
+                rightSet.add(b);
+                right.add(b);
+            }
+
+            TreeSet<Integer> union = new TreeSet<>(leftSet);
+            union.addAll(rightSet);
+            TreeSet<Integer> intersection = new TreeSet<>(leftSet);
+            intersection.retainAll(rightSet);
+
+            assertEquals(new ArrayList<>(union), toList(CompressedBitmap.or(left, right)));
+            assertEquals(new ArrayList<>(intersection), toList(CompressedBitmap.and(left, right)));
+            assertEquals(intersection.size(), CompressedBitmap.and(left, right).cardinality());
+            assertEquals(new ArrayList<>(leftSet), toList(left));
+        }
+    }
+
+    private static List<Integer> toList(CompressedBitmap bitmap) {
+        List<Integer> values = new ArrayList<>();
+        bitmap.forEach(values::add);
+        return values;
+    }
+
+    private static List<Integer> expected(CompressedBitmap bitmap) {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            if (bitmap.contains(i)) {
+                values.add(i);
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Test class for the Rinna workflow management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.adapter.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.rinna.adapter.repository.UnifiedWorkItemAttributeIndexTest.item;
+import static org.rinna.adapter.repository.UnifiedWorkItemAttributeIndexTest.titles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.rinna.domain.model.CynefinDomain;
+import org.rinna.domain.model.OriginCategory;
+import org.rinna.domain.model.UnifiedWorkItem;
+import org.rinna.domain.model.UnifiedWorkItemFilter;
+import org.rinna.domain.model.UnifiedWorkItemRecord;
+import org.rinna.domain.model.WorkParadigm;
+import org.rinna.domain.model.WorkflowState;
+
+/**
+ * Test class for the attribute queries of the InMemoryUnifiedWorkItemRepository.
+ */
+public class InMemoryUnifiedWorkItemRepositoryTest {
+
+    private InMemoryUnifiedWorkItemRepository repository;
+    private UnifiedWorkItem login;
+    private UnifiedWorkItem search;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryUnifiedWorkItemRepository();
+        login = repository.save(item("login", WorkflowState.TO_DO, OriginCategory.DEV, CynefinDomain.CLEAR,
+            WorkParadigm.TASK, 2, "backend", "security"));
+        search = repository.save(item("search", WorkflowState.IN_PROGRESS, OriginCategory.DEV, CynefinDomain.COMPLEX,
+            WorkParadigm.STORY, 5, "backend", "frontend"));
+        repository.save(item("billing", WorkflowState.TO_DO, OriginCategory.PROD, CynefinDomain.COMPLICATED,
+            WorkParadigm.TASK, 8, "backend", "security"));
+    }
+
+    @Test
+    void testQueriesMatchTheFilterOverAllItems() {
+        UnifiedWorkItemFilter filter = UnifiedWorkItemFilter.builder()
+            .states(WorkflowState.TO_DO)
+            .domains(CynefinDomain.CLEAR, CynefinDomain.COMPLICATED)
+            .allTags(List.of("security"))
+            .cognitiveLoad(3, null)
+            .build();
+
+        List<UnifiedWorkItem> expected = repository.findAll().stream().filter(filter::matches).toList();
+        assertEquals(Set.of("billing"), titles(expected));
+        assertEquals(titles(expected), titles(repository.findByFilter(filter)));
+        assertEquals(Set.of("login", "billing"), titles(repository.findByAllTags(List.of("backend", "security"))));
+        assertEquals(Set.of("search", "billing"), titles(repository.findByCognitiveLoadGreaterThanEqual(5)));
+        assertEquals(Set.of("login", "search"), titles(repository.findByCognitiveLoadLessThanEqual(5)));
+        assertTrue(repository.findByAnyTag(List.of()).isEmpty());
+        assertTrue(repository.findByState(null).isEmpty());
+    }
+
+    @Test
+    void testSavedUpdateReplacesTheOldAttributes() {
+        UnifiedWorkItem.Builder builder = UnifiedWorkItemRecord.builder(login);
+        builder.state(WorkflowState.DONE);
+        builder.originCategory(OriginCategory.OPS);
+        builder.tags(List.of("backend"));
+        repository.save(builder.build());
+
+        assertEquals(Set.of("billing"), titles(repository.findByState(WorkflowState.TO_DO)));
+        assertEquals(Set.of("login"), titles(repository.findByState(WorkflowState.DONE)));
+        assertEquals(Set.of("search"), titles(repository.findByOriginCategory(OriginCategory.DEV)));
+        assertEquals(Set.of("billing"), titles(repository.findByAllTags(List.of("backend", "security"))));
+        assertEquals(Map.of("backend", 3, "security", 1, "frontend", 1), repository.countByTag());
+        assertEquals(3, repository.findAll().size());
+    }
+
+    @Test
+    void testDeletedItemIsGoneFromEveryQuery() {
+        repository.deleteById(search.id());
+
+        assertTrue(repository.findById(search.id()).isEmpty());
+        assertTrue(repository.findByState(WorkflowState.IN_PROGRESS).isEmpty());
+        assertTrue(repository.findByWorkParadigm(WorkParadigm.STORY).isEmpty());
+        assertTrue(repository.findByAnyTag(List.of("frontend")).isEmpty());
+        assertEquals(Set.of("login", "billing"), titles(repository.findByAnyTag(List.of("backend"))));
+        assertEquals(Set.of("login", "billing"),
+            titles(repository.findByFilter(UnifiedWorkItemFilter.builder().build())));
+        assertEquals(Map.of(WorkParadigm.TASK, 2), repository.countByWorkParadigm());
+        assertEquals(Map.of(CynefinDomain.CLEAR, 1, CynefinDomain.COMPLICATED, 1), repository.countByCynefinDomain());
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Test class for the Rinna workflow management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.adapter.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.rinna.domain.model.CynefinDomain;
+import org.rinna.domain.model.OriginCategory;
+import org.rinna.domain.model.UnifiedWorkItem;
+import org.rinna.domain.model.UnifiedWorkItemFilter;
+import org.rinna.domain.model.UnifiedWorkItemRecord;
+import org.rinna.domain.model.WorkParadigm;
+import org.rinna.domain.model.WorkflowState;
+
+/**
+ * Test class for the UnifiedWorkItemAttributeIndex.
+ */
+public class UnifiedWorkItemAttributeIndexTest {
+
+    private UnifiedWorkItemAttributeIndex index;
+    private UnifiedWorkItem login;
+    private UnifiedWorkItem search;
+    private UnifiedWorkItem billing;
+
+    @BeforeEach
+    void setUp() {
+        index = new UnifiedWorkItemAttributeIndex();
+        login = item("login", WorkflowState.TO_DO, OriginCategory.DEV, CynefinDomain.CLEAR,
+            WorkParadigm.TASK, 2, "backend", "security");
+        search = item("search", WorkflowState.IN_PROGRESS, OriginCategory.DEV, CynefinDomain.COMPLEX,
+            WorkParadigm.STORY, 5, "backend", "frontend");
+        billing = item("billing", WorkflowState.TO_DO, OriginCategory.PROD, CynefinDomain.COMPLICATED,
+            WorkParadigm.TASK, 8, "backend", "security", "security");
+        index.put(login);
+        index.put(search);
+        index.put(billing);
+    }
+
+    static UnifiedWorkItem item(String title, WorkflowState state, OriginCategory category,
+            CynefinDomain domain, WorkParadigm paradigm, int cognitiveLoad, String... tags) {
+        UnifiedWorkItem.Builder builder = UnifiedWorkItemRecord.builder();
+        builder.id(UUID.randomUUID());
+        builder.title(title);
+        builder.state(state);
+        builder.originCategory(category);
+        builder.cynefinDomain(domain);
+        builder.workParadigm(paradigm);
+        builder.cognitiveLoad(cognitiveLoad);
+        builder.tags(List.of(tags));
+        return builder.build();
+    }
+
+    static Set<String> titles(List<UnifiedWorkItem> items) {
+        return items.stream().map(UnifiedWorkItem::title).collect(Collectors.toSet());
+    }
+
+    @Test
+    void testFilterIntersectsEveryCriterion() {
+        UnifiedWorkItemFilter filter = UnifiedWorkItemFilter.builder()
+            .states(WorkflowState.TO_DO, WorkflowState.IN_PROGRESS)
+            .categories(OriginCategory.DEV)
+            .allTags(List.of("backend", "security"))
+            .cognitiveLoad(1, 5)
+            .build();
+
+        assertEquals(Set.of("login"), titles(index.findByFilter(filter)));
+        for (UnifiedWorkItem item : List.of(login, search, billing)) {
+            assertEquals(filter.matches(item), index.findByFilter(filter).contains(item));
+        }
+    }
+
+    @Test
+    void testFilterWithAnyTagsAndParadigms() {
+        UnifiedWorkItemFilter filter = UnifiedWorkItemFilter.builder()
+            .paradigms(WorkParadigm.TASK, WorkParadigm.STORY)
+            .anyTags(List.of("frontend", "security"))
+            .cognitiveLoad(null, 5)
+            .build();
+
+        assertEquals(Set.of("login", "search"), titles(index.findByFilter(filter)));
+    }
+
+    @Test
+    void testEmptyFilterAndUnknownValues() {
+        assertEquals(Set.of("login", "search", "billing"),
+            titles(index.findByFilter(UnifiedWorkItemFilter.builder().build())));
+        assertTrue(index.findByAllTags(List.of("backend", "unknown")).isEmpty());
+        assertTrue(index.findByState(WorkflowState.DONE).isEmpty());
+        assertTrue(index.findByCognitiveLoad(6, 3).isEmpty());
+        assertEquals(Set.of("search", "billing"), titles(index.findByCognitiveLoad(5, null)));
+    }
+
+    @Test
+    void testDuplicateTagsAreCountedOnce() {
+        assertEquals(Map.of("backend", 3, "security", 2, "frontend", 1), index.countByTag());
+        assertEquals(Map.of(OriginCategory.DEV, 2, OriginCategory.PROD, 1), index.countByOriginCategory());
+    }
+
+    @Test
+    void testUpdatedItemLeavesItsOldBitmaps() {
+        UnifiedWorkItem.Builder builder = UnifiedWorkItemRecord.builder(login);
+        builder.state(WorkflowState.DONE);
+        builder.cognitiveLoad(9);
+        builder.tags(List.of("docs"));
+        UnifiedWorkItem updated = builder.build();
+
+        index.put(updated);
+
+        assertEquals(Set.of("billing"), titles(index.findByState(WorkflowState.TO_DO)));
+        assertEquals(List.of(updated), index.findByState(WorkflowState.DONE));
+        assertEquals(Set.of("search", "billing"), titles(index.findByAnyTag(List.of("backend", "security"))));
+        assertTrue(index.findByCognitiveLoad(null, 2).isEmpty());
+        assertEquals(Map.of("backend", 2, "security", 1, "frontend", 1, "docs", 1), index.countByTag());
+        assertTrue(index.findByFilter(UnifiedWorkItemFilter.builder()
+            .states(WorkflowState.TO_DO).allTags(List.of("security")).cognitiveLoad(null, 2).build()).isEmpty());
+    }
+
+    @Test
+    void testRemovedItemLeavesEveryBitmap() {
+        index.remove(login.id());
+
+        assertEquals(Set.of("search", "billing"), titles(index.findByFilter(UnifiedWorkItemFilter.builder().build())));
+        assertEquals(Set.of("billing"), titles(index.findByState(WorkflowState.TO_DO)));
+        assertTrue(index.findByCynefinDomain(CynefinDomain.CLEAR).isEmpty());
+        assertEquals(Map.of("backend", 2, "security", 1, "frontend", 1), index.countByTag());
+        assertFalse(index.countByCynefinDomain().containsKey(CynefinDomain.CLEAR));
+
+        // The freed ordinal is reused without bringing back the removed item's attributes
+        UnifiedWorkItem report = item("report", WorkflowState.DONE, OriginCategory.OPS, CynefinDomain.CHAOTIC,
+            WorkParadigm.EXPERIMENT, 3, "ops");
+        index.put(report);
+
+        assertEquals(List.of(report), index.findByAllTags(List.of("ops")));
+        assertTrue(index.findByAnyTag(List.of("security")).stream().noneMatch(item -> item.title().equals("login")));
+        assertEquals(Set.of("search", "billing", "report"),
+            titles(index.findByFilter(UnifiedWorkItemFilter.builder().build())));
+
+        index.remove(login.id());
+        assertEquals(3, index.findByFilter(UnifiedWorkItemFilter.builder().build()).size());
+    }
+}
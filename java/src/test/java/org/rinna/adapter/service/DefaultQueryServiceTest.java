@@ -0,0 +1,111 @@
+/*
+ * Test class for the Rinna workflow management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.adapter.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.rinna.domain.model.Priority;
+import org.rinna.domain.model.WorkItem;
+import org.rinna.domain.model.WorkItemType;
+import org.rinna.domain.model.WorkflowState;
+import org.rinna.repository.ItemRepository;
+import org.rinna.repository.MetadataRepository;
+import org.rinna.usecase.ItemService;
+import org.rinna.usecase.QueryService.QueryFilter;
+
+/**
+ * Test class for the metadata loading of the DefaultQueryService.
+ */
+public class DefaultQueryServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private MetadataRepository metadataRepository;
+    private DefaultQueryService queryService;
+    private List<WorkItem> items;
+
+    @BeforeEach
+    void setUp() {
+        items = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            items.add(new WorkItem(
+                UUID.randomUUID(),
+                "Item " + i,
+                "Description " + i,
+                WorkItemType.TASK,
+                Priority.MEDIUM,
+                WorkflowState.TO_DO,
+                "user" + (i % 5),
+                "project",
+                START.plusDays(i)
+            ));
+        }
+
+        ItemService itemService = mock(ItemService.class);
+        when(itemService.getAllWorkItems()).thenReturn(items);
+        metadataRepository = mock(MetadataRepository.class);
+        queryService = new DefaultQueryService(itemService, mock(ItemRepository.class), metadataRepository);
+    }
+
+    private List<UUID> ids() {
+        return items.stream().map(WorkItem::id).toList();
+    }
+
+    @Test
+    void testQueryLoadsTheMetadataOfAllItemsInOneCall() {
+        UUID reportedByAnn = items.get(3).id();
+        UUID reportedByAnnAndTagged = items.get(7).id();
+        when(metadataRepository.getMetadataColumns(anyCollection(), anyCollection())).thenReturn(Map.of(
+            "reporter", Map.of(reportedByAnn, "ann", reportedByAnnAndTagged, "ann", items.get(9).id(), "bob"),
+            "tags", Map.of(reportedByAnnAndTagged, "Backend, urgent", items.get(9).id(), "backend")
+        ));
+
+        List<WorkItem> result = queryService.queryWorkItems(QueryFilter.create()
+            .reportedBy("ann")
+            .withTags(List.of("backend")));
+
+        assertEquals(List.of(reportedByAnnAndTagged), result.stream().map(WorkItem::id).toList());
+        verify(metadataRepository, times(1)).getMetadataColumns(
+            argThat(requested -> requested.size() == items.size() && requested.containsAll(ids())),
+            argThat(keys -> Set.copyOf(keys).equals(Set.of("reporter", "tags"))));
+        verify(metadataRepository, never()).getMetadataMap(any());
+        verify(metadataRepository, never()).findByWorkItemIdAndKey(any(), any());
+    }
+
+    @Test
+    void testCountLoadsTheMetadataOfAllItemsInOneCall() {
+        when(metadataRepository.getMetadataColumns(anyCollection(), anyCollection())).thenReturn(Map.of(
+            "reporter", Map.of(items.get(0).id(), "ann", items.get(1).id(), "ann", items.get(2).id(), "bob")
+        ));
+
+        assertEquals(2, queryService.countWorkItems(QueryFilter.create().reportedBy("ann")));
+
+        verify(metadataRepository, times(1)).getMetadataColumns(anyCollection(), eq(Set.of("reporter")));
+        verify(metadataRepository, never()).getMetadataMap(any());
+        verify(metadataRepository, never()).findByWorkItemIdAndKey(any(), any());
+    }
+
+    @Test
+    void testQueryWithoutMetadataCriteriaDoesNotLoadMetadata() {
+        assertEquals(items.size(), queryService.countWorkItems(QueryFilter.create()));
+
+        verifyNoInteractions(metadataRepository);
+    }
+}
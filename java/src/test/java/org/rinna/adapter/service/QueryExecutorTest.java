@@ -0,0 +1,99 @@
+/*
+ * Test class for the Rinna workflow management system
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+
+package org.rinna.adapter.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.rinna.domain.model.Priority;
+import org.rinna.domain.model.WorkItem;
+import org.rinna.domain.model.WorkItemType;
+import org.rinna.domain.model.WorkflowState;
+
+/**
+ * Test class for the QueryExecutor used by the query service.
+ */
+public class QueryExecutorTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    void testSelectMatchesAStableSortOfAllMatches() {
+        // Large enough to be filtered in parallel, with many ties in the sort key
+        List<WorkItem> items = items(QueryExecutor.PARALLEL_THRESHOLD + 500);
+        Predicate<WorkItem> notLow = item -> item.priority() != Priority.LOW;
+        Comparator<WorkItem> newestFirst = Comparator.comparing(WorkItem::created).reversed();
+
+        List<WorkItem> expected = items.stream().filter(notLow).collect(Collectors.toList());
+        expected.sort(newestFirst);
+
+        QueryExecutor executor = new QueryExecutor().add(notLow, 0.66, 1);
+        assertEquals(expected.subList(40, 90), executor.select(items, newestFirst, 40, 50));
+        assertEquals(expected.size(), executor.count(items));
+        assertTrue(executor.select(items, newestFirst, expected.size(), 10).isEmpty());
+    }
+
+    @Test
+    void testSelectWithoutCriteriaKeepsInputOrderForTies() {
+        List<WorkItem> items = items(100);
+        Comparator<WorkItem> byType = Comparator.comparing(WorkItem::type);
+
+        List<WorkItem> expected = new ArrayList<>(items);
+        expected.sort(byType);
+
+        QueryExecutor executor = new QueryExecutor();
+        assertEquals(expected.subList(0, 60), executor.select(items, byType, 0, 60));
+        assertEquals(items.size(), executor.count(items));
+    }
+
+    @Test
+    void testSelectiveCheapCriterionRunsFirst() {
+        List<WorkItem> items = items(100);
+        AtomicInteger expensiveCalls = new AtomicInteger();
+        Predicate<WorkItem> expensive = item -> {
+            expensiveCalls.incrementAndGet();
+            return true;
+        };
+        Predicate<WorkItem> rare = item -> item.assignee().equals("user0");
+
+        int count = new QueryExecutor()
+                .add(expensive, 0.9, 20)
+                .add(rare, 0.1, 1)
+                .count(items);
+
+        assertEquals(count, expensiveCalls.get());
+    }
+
+    private static List<WorkItem> items(int count) {
+        List<WorkItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new WorkItem(
+                UUID.randomUUID(),
+                "Item " + i,
+                "Description " + i,
+                i % 2 == 0 ? WorkItemType.BUG : WorkItemType.TASK,
+                Priority.values()[i % Priority.values().length],
+                WorkflowState.TO_DO,
+                "user" + (i % 10),
+                "project",
+                START.plusDays(i % 30)
+            ));
+        }
+        return items;
+    }
+}
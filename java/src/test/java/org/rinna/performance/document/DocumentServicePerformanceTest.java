@@ -0,0 +1,141 @@
+/**
+ * Performance tests for document generation
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+package org.rinna.performance.document;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.rinna.adapter.service.DefaultDocumentService;
+import org.rinna.base.PerformanceTest;
+import org.rinna.domain.model.DocumentConfig;
+import org.rinna.domain.model.Priority;
+import org.rinna.domain.model.WorkItem;
+import org.rinna.domain.model.WorkItemRecord;
+import org.rinna.domain.model.WorkItemType;
+import org.rinna.domain.model.WorkflowState;
+import org.rinna.usecase.DocumentService.Format;
+
+/**
+ * Time and heap of generating a 10,000-item release document in each format.
+ */
+@Tag("performance")
+public class DocumentServicePerformanceTest extends PerformanceTest {
+
+    private static final int RELEASE_ITEM_COUNT = 10_000;
+    private static final long MAX_GENERATION_TIME_MS = 30_000;
+    private static final long MAX_STREAMING_HEAP_GROWTH_BYTES = 64L * 1024 * 1024;
+    private static final long HEAP_SAMPLE_INTERVAL_MS = 100;
+
+    private DefaultDocumentService documentService;
+    private List<WorkItem> releaseItems;
+
+    @BeforeEach
+    void setUp() {
+        documentService = new DefaultDocumentService(new DocumentConfig(null, null, null, false));
+
+        releaseItems = new ArrayList<>(RELEASE_ITEM_COUNT);
+        Instant now = Instant.now();
+        WorkItemType[] types = WorkItemType.values();
+        Priority[] priorities = Priority.values();
+        for (int i = 0; i < RELEASE_ITEM_COUNT; i++) {
+            releaseItems.add(new WorkItemRecord(UUID.randomUUID(), "Release item " + i,
+                "Description of release item " + i, types[i % types.length], WorkflowState.DONE,
+                priorities[i % priorities.length], i % 4 == 0 ? null : "user" + (i % 20),
+                now, now, null, null, "PUBLIC", false));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Format.class)
+    void testReleaseDocument_TimeAndHeap(Format format) throws Exception {
+        // Warm up so class loading and font setup are not measured
+        documentService.generateWorkItemsDocument(releaseItems.subList(0, 100), format, null, new CountingOutputStream());
+
+        CountingOutputStream output = new CountingOutputStream();
+        long start = System.nanoTime();
+        documentService.generateWorkItemsDocument(releaseItems, format, null, output);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Heap is measured in a separate run, since sampling forces garbage collections
+        long peakGrowth = peakHeapGrowth(() ->
+            documentService.generateWorkItemsDocument(releaseItems, format, null, new CountingOutputStream()));
+
+        System.out.printf("%s release document, %d items: %d ms, %d KB, peak heap growth %d KB%n",
+            format, RELEASE_ITEM_COUNT, elapsedMs, output.count / 1024, peakGrowth / 1024);
+
+        assertTrue(output.count > 0, "Document should not be empty");
+        assertTrue(elapsedMs < MAX_GENERATION_TIME_MS,
+            format + " document took " + elapsedMs + " ms, expected under " + MAX_GENERATION_TIME_MS + " ms");
+        if (format != Format.DOCX) {
+            // POI builds the whole Word document in memory, PDF and HTML are streamed
+            assertTrue(peakGrowth < MAX_STREAMING_HEAP_GROWTH_BYTES,
+                format + " document grew the heap by " + peakGrowth / 1024 + " KB");
+        }
+    }
+
+    /**
+     * Runs a task while a background thread samples the live heap.
+     */
+    private static long peakHeapGrowth(Runnable task) throws InterruptedException {
+        long baseline = usedHeapAfterGc();
+        AtomicLong peak = new AtomicLong();
+        Thread sampler = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                peak.accumulateAndGet(usedHeapAfterGc() - baseline, Math::max);
+                try {
+                    Thread.sleep(HEAP_SAMPLE_INTERVAL_MS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        sampler.setDaemon(true);
+        sampler.start();
+        try {
+            task.run();
+        } finally {
+            sampler.interrupt();
+            sampler.join();
+        }
+        return peak.get();
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Discards the document, keeping only its size.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            count += length;
+        }
+    }
+}
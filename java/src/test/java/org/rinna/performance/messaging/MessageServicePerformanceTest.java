@@ -75,7 +75,8 @@ class MessageServicePerformanceTest extends PerformanceTest {
         List<String> messageIds = new ArrayList<>();
         
         for (int i = 0; i < messageCount; i++) {
-            String messageId = "perf-msg-" + UUID.randomUUID().toString().substring(0, 8);
+            // Include the index so IDs stay unique in 100k-message inboxes
+            String messageId = "perf-msg-" + i + "-" + UUID.randomUUID().toString().substring(0, 8);
             RinnaMessage message = new RinnaMessage(
                 messageId,
                 "eric",
@@ -213,6 +214,83 @@ class MessageServicePerformanceTest extends PerformanceTest {
         );
     }
     
+    /**
+     * Test that indexed inbox queries stay flat as the inbox grows to 100k messages.
+     *
+     * @param messageCount the number of messages in the inbox
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1000, 10000, 100000})
+    @DisplayName("Test indexed inbox queries with large inboxes")
+    void testIndexedInboxQueryPerformance(int messageCount) {
+        List<String> messageIds = setupTestMessages(messageCount);
+        String targetId = messageIds.get(messageCount / 2);
+        
+        // Warm up
+        for (int i = 0; i < WARMUP_COUNT; i++) {
+            messageService.getUnreadMessageCount("steve");
+            messageService.getMessagesForUser("steve", 0, 50);
+            messageService.getMessage(targetId);
+        }
+        
+        // Measure unread count, first page and point lookup together
+        long totalDuration = 0;
+        for (int i = 0; i < MEASUREMENT_COUNT; i++) {
+            long start = System.nanoTime();
+            int unread = messageService.getUnreadMessageCount("steve");
+            List<RinnaMessage> page = messageService.getMessagesForUser("steve", 0, 50);
+            RinnaMessage target = messageService.getMessage(targetId);
+            totalDuration += System.nanoTime() - start;
+            
+            Assertions.assertTrue(unread >= messageCount);
+            Assertions.assertEquals(50, page.size());
+            Assertions.assertEquals(targetId, target.getId());
+        }
+        
+        long averageDuration = totalDuration / MEASUREMENT_COUNT;
+        double averageDurationMs = averageDuration / 1_000_000.0;
+        
+        System.out.printf("Average time for indexed inbox queries with %d messages: %.3f ms%n", 
+                messageCount, averageDurationMs);
+        
+        // The same threshold applies at every size: cost depends on the page, not the inbox
+        assertPerformance(
+            Duration.ofNanos(averageDuration),
+            Duration.ofMillis(5),
+            "Indexed inbox queries with " + messageCount + " messages"
+        );
+    }
+    
+    /**
+     * Test that marking messages read keeps the unread counter accurate without rescans.
+     */
+    @Test
+    @DisplayName("Test unread counter maintenance with a 100k inbox")
+    void testUnreadCounterMaintenancePerformance() {
+        final int MESSAGE_COUNT = 100_000;
+        final int READ_COUNT = 1000;
+        
+        List<String> messageIds = setupTestMessages(MESSAGE_COUNT);
+        int initialUnread = messageService.getUnreadMessageCount("steve");
+        
+        long start = System.nanoTime();
+        for (int i = 0; i < READ_COUNT; i++) {
+            messageService.markMessageAsRead(messageIds.get(i));
+        }
+        long averageDuration = (System.nanoTime() - start) / READ_COUNT;
+        
+        Assertions.assertEquals(initialUnread - READ_COUNT, messageService.getUnreadMessageCount("steve"));
+        
+        System.out.printf("Average time to mark a message read in a %d message inbox: %.3f ms%n", 
+                MESSAGE_COUNT, averageDuration / 1_000_000.0);
+        
+        assertPerformance(
+            Duration.ofNanos(averageDuration),
+            Duration.ofMillis(1),
+            "Marking a message read in a " + MESSAGE_COUNT + " message inbox"
+        );
+    }
+    
     /**
      * Test filtering messages by sender performance.
      */
@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ *
+ * Developed with analytical assistance from AI tools.
+ * All rights reserved.
+ *
+ * This source code is licensed under the MIT License
+ * found in the LICENSE file in the root directory of this source tree.
+ */
+package org.rinna.performance.pui;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rinna.performance.base.PerformanceTest;
+import org.rinna.pui.component.LayeredGraphLayout;
+
+/**
+ * Layout, relayout and navigation benchmarks for the layered dependency graph layout
+ * on a 10k-node graph.
+ */
+class LayeredGraphLayoutPerformanceTest extends PerformanceTest {
+
+    private static final int NODES = 10_000;
+    private static final int COLUMN_PITCH = 30;
+    private static final int ROW_PITCH = 7;
+    private static final int NAVIGATION_STEPS = 10_000;
+
+    private final Map<String, List<String>> successors = new HashMap<>();
+    private final Set<String> expanded = new HashSet<>();
+
+    /**
+     * Builds a random dependency tree where about a quarter of the nodes also
+     * have an extra edge to an arbitrary node, which adds cycles and cross edges.
+     */
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        for (int i = 1; i < NODES; i++) {
+            successors.computeIfAbsent("WI-" + random.nextInt(i), k -> new ArrayList<>()).add("WI-" + i);
+            if (random.nextInt(4) == 0) {
+                successors.computeIfAbsent("WI-" + i, k -> new ArrayList<>()).add("WI-" + random.nextInt(NODES));
+            }
+        }
+    }
+
+    private LayeredGraphLayout newLayout(int depth) {
+        return new LayeredGraphLayout(
+            node -> successors.getOrDefault(node, List.of()),
+            (node, layer) -> layer < depth || expanded.contains(node),
+            COLUMN_PITCH, ROW_PITCH);
+    }
+
+    @Test
+    @DisplayName("Full layout of a 10k-node graph has no overlapping nodes")
+    void testFullLayout() {
+        LayeredGraphLayout layout = newLayout(Integer.MAX_VALUE);
+        layout.layout("WI-0");
+
+        long start = System.nanoTime();
+        layout.layout("WI-0");
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        System.out.printf("Laid out %d nodes in %d layers in %d ms%n",
+                layout.size(), layout.getLayerCount(), elapsed.toMillis());
+
+        Assertions.assertEquals(NODES, layout.size());
+        for (int layer = 0; layer < layout.getLayerCount(); layer++) {
+            List<String> nodes = layout.getLayer(layer);
+            for (int i = 1; i < nodes.size(); i++) {
+                int gap = layout.getPosition(nodes.get(i)).getX() - layout.getPosition(nodes.get(i - 1)).getX();
+                Assertions.assertTrue(gap >= COLUMN_PITCH, "Nodes overlap in layer " + layer);
+            }
+        }
+        Assertions.assertTrue(elapsed.compareTo(Duration.ofMillis(500)) <= 0,
+                "Full layout exceeded 500ms: " + elapsed.toMillis() + "ms");
+    }
+
+    @Test
+    @DisplayName("Expanding a node only relays out the layers below it")
+    void testIncrementalExpand() {
+        LayeredGraphLayout layout = newLayout(2);
+        layout.layout("WI-0");
+        List<String> upperLayers = new ArrayList<>();
+        for (int layer = 0; layer <= 2; layer++) {
+            for (String node : layout.getLayer(layer)) {
+                upperLayers.add(node + "@" + layout.getPosition(node));
+            }
+        }
+
+        long totalNanos = 0;
+        for (String node : new ArrayList<>(layout.getLayer(2))) {
+            expanded.add(node);
+            long start = System.nanoTime();
+            layout.relayoutFrom(layout.getLayerOf(node));
+            totalNanos += System.nanoTime() - start;
+        }
+        Duration average = Duration.ofNanos(totalNanos / Math.max(1, layout.getLayer(2).size()));
+
+        System.out.printf("Average expand relayout: %.3f ms%n", average.toNanos() / 1_000_000.0);
+
+        List<String> afterExpand = new ArrayList<>();
+        for (int layer = 0; layer <= 2; layer++) {
+            for (String node : layout.getLayer(layer)) {
+                afterExpand.add(node + "@" + layout.getPosition(node));
+            }
+        }
+        Assertions.assertEquals(upperLayers, afterExpand, "Layers above the expanded nodes should not move");
+        Assertions.assertTrue(average.compareTo(Duration.ofMillis(5)) <= 0,
+                "Expand relayout exceeded 5ms: " + average.toMillis() + "ms");
+    }
+
+    @Test
+    @DisplayName("Navigation and viewport queries stay fast on a 10k-node layout")
+    void testNavigation() {
+        LayeredGraphLayout layout = newLayout(Integer.MAX_VALUE);
+        layout.layout("WI-0");
+
+        String selected = "WI-0";
+        long start = System.nanoTime();
+        for (int step = 0; step < NAVIGATION_STEPS; step++) {
+            int direction = step % 2 == 0 ? 1 : -1;
+            String next = step % 3 == 0
+                ? layout.nearestInAdjacentLayer(selected, direction)
+                : layout.sibling(selected, direction);
+            if (next != null) {
+                selected = next;
+            }
+            layout.nodesIn(layout.getPosition(selected).getX() - 40, layout.getPosition(selected).getY() - 10, 78, 20);
+        }
+        Duration average = Duration.ofNanos((System.nanoTime() - start) / NAVIGATION_STEPS);
+
+        System.out.printf("Average navigation step with viewport query: %.4f ms%n",
+                average.toNanos() / 1_000_000.0);
+
+        Assertions.assertTrue(average.compareTo(Duration.ofMillis(1)) <= 0,
+                "Navigation step exceeded 1ms: " + average.toMillis() + "ms");
+    }
+}
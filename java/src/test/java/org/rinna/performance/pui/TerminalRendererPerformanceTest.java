@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ *
+ * Developed with analytical assistance from AI tools.
+ * All rights reserved.
+ *
+ * This source code is licensed under the MIT License
+ * found in the LICENSE file in the root directory of this source tree.
+ */
+package org.rinna.performance.pui;
+
+import java.io.OutputStream;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rinna.performance.base.PerformanceTest;
+import org.rinna.pui.geom.Dimension;
+import org.rinna.pui.geom.Point;
+import org.rinna.pui.render.TerminalRenderer;
+import org.rinna.pui.style.BorderStyle;
+import org.rinna.pui.style.Color;
+import org.rinna.pui.style.Style;
+
+/**
+ * Frame time and bytes-per-frame benchmarks for the differential TerminalRenderer,
+ * driven by a scene laid out like ProjectDashboardDemo on a 200x60 terminal.
+ */
+class TerminalRendererPerformanceTest extends PerformanceTest {
+
+    private static final int WIDTH = 200;
+    private static final int HEIGHT = 60;
+    private static final int WARMUP_FRAMES = 20;
+    private static final int MEASURED_FRAMES = 200;
+
+    /**
+     * Output stream that only counts bytes and write calls, standing in for an SSH session.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        long bytes;
+        long writes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            writes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            writes++;
+        }
+    }
+
+    private final Style panelStyle = new Style().setForeground(Color.CYAN).setBorderStyle(BorderStyle.SINGLE);
+    private final Style titleStyle = new Style().setForeground(Color.BRIGHT_WHITE).setBold(true);
+    private final Style labelStyle = new Style().setForeground(Color.WHITE);
+    private final Style valueStyle = new Style().setForeground(Color.BRIGHT_GREEN).setBold(true);
+    private final Style barStyle = new Style().setForeground(Color.BRIGHT_BLUE);
+    private final Style statusStyle = new Style().setForeground(Color.BLACK).setBackground(Color.WHITE);
+
+    /**
+     * Draws one dashboard frame: four bordered panels with metrics and bar charts,
+     * where only the status clock and one metric change between frames.
+     */
+    private void drawDashboard(TerminalRenderer renderer, int frame) {
+        renderer.clear();
+        renderer.drawString("Project Dashboard - All Projects", new Point(2, 0), titleStyle);
+
+        int panelWidth = WIDTH / 2;
+        int panelHeight = (HEIGHT - 2) / 2;
+        String[] titles = {"Key Metrics", "Distribution", "Velocity", "Details"};
+        for (int panel = 0; panel < 4; panel++) {
+            int x = (panel % 2) * panelWidth;
+            int y = 1 + (panel / 2) * panelHeight;
+            renderer.drawRect(new Point(x, y), new Dimension(panelWidth, panelHeight), panelStyle, true);
+            renderer.drawString(" " + titles[panel] + " ", new Point(x + 2, y), titleStyle);
+
+            for (int row = 0; row < panelHeight - 4; row++) {
+                renderer.drawString(String.format("Metric %-2d", row), new Point(x + 2, y + 2 + row), labelStyle);
+                int value = panel == 0 && row == 0 ? frame % 50 : (row * 7 + panel * 3) % 50;
+                renderer.drawString(String.format("%4d", value), new Point(x + 14, y + 2 + row), valueStyle);
+                renderer.drawHorizontalLine(new Point(x + 20, y + 2 + row), value, barStyle, "#");
+            }
+        }
+
+        renderer.drawHorizontalLine(new Point(0, HEIGHT - 1), WIDTH, statusStyle, " ");
+        renderer.drawString(String.format("Frame %06d | Auto-refresh: 30s | q: quit", frame),
+                new Point(1, HEIGHT - 1), statusStyle);
+    }
+
+    @Test
+    @DisplayName("Steady-state dashboard frames send only changed cells")
+    void testDashboardFrameBytes() {
+        CountingOutputStream out = new CountingOutputStream();
+        TerminalRenderer renderer = new TerminalRenderer(out, WIDTH, HEIGHT);
+
+        drawDashboard(renderer, 0);
+        renderer.refresh();
+        int fullFrameBytes = renderer.getLastFrameBytes();
+        Assertions.assertEquals(WIDTH * HEIGHT, renderer.getLastFrameCells());
+
+        long bytesBefore = out.bytes;
+        long writesBefore = out.writes;
+        for (int frame = 1; frame <= MEASURED_FRAMES; frame++) {
+            drawDashboard(renderer, frame);
+            renderer.refresh();
+        }
+        double bytesPerFrame = (double) (out.bytes - bytesBefore) / MEASURED_FRAMES;
+        double writesPerFrame = (double) (out.writes - writesBefore) / MEASURED_FRAMES;
+
+        System.out.printf("Full frame: %d bytes; steady state: %.1f bytes and %.1f writes per frame%n",
+                fullFrameBytes, bytesPerFrame, writesPerFrame);
+
+        Assertions.assertTrue(writesPerFrame <= 1.0, "Each frame should be written in a single call");
+        Assertions.assertTrue(bytesPerFrame < fullFrameBytes / 20.0,
+                String.format("Steady-state frames too large: %.1f bytes vs %d for a full repaint",
+                        bytesPerFrame, fullFrameBytes));
+    }
+
+    @Test
+    @DisplayName("Dashboard frame time on a 200x60 terminal")
+    void testDashboardFrameTime() {
+        CountingOutputStream out = new CountingOutputStream();
+        TerminalRenderer renderer = new TerminalRenderer(out, WIDTH, HEIGHT);
+
+        for (int frame = 0; frame < WARMUP_FRAMES; frame++) {
+            drawDashboard(renderer, frame);
+            renderer.refresh();
+        }
+
+        long start = System.nanoTime();
+        for (int frame = WARMUP_FRAMES; frame < WARMUP_FRAMES + MEASURED_FRAMES; frame++) {
+            drawDashboard(renderer, frame);
+            renderer.refresh();
+        }
+        Duration average = Duration.ofNanos((System.nanoTime() - start) / MEASURED_FRAMES);
+
+        System.out.printf("Average dashboard frame time (draw + diff + write): %.3f ms%n",
+                average.toNanos() / 1_000_000.0);
+
+        // A 30 FPS render loop leaves about 33ms per frame
+        Assertions.assertTrue(average.compareTo(Duration.ofMillis(10)) <= 0,
+                "Frame time exceeded 10ms: " + average.toMillis() + "ms");
+    }
+}
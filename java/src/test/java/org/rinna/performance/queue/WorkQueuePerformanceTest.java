@@ -0,0 +1,113 @@
+/**
+ * Performance tests for work queue prioritization
+ *
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ * This file is subject to the terms and conditions defined in
+ * the LICENSE file, which is part of this source code package.
+ */
+package org.rinna.performance.queue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.rinna.base.PerformanceTest;
+import org.rinna.domain.model.DefaultWorkQueue;
+import org.rinna.domain.model.Priority;
+import org.rinna.domain.model.WorkItem;
+import org.rinna.domain.model.WorkItemRecord;
+import org.rinna.domain.model.WorkItemType;
+import org.rinna.domain.model.WorkflowState;
+
+/**
+ * Time of filling, reprioritizing, rescoring and draining a 100,000-item work queue.
+ */
+@Tag("performance")
+public class WorkQueuePerformanceTest extends PerformanceTest {
+
+    private static final int QUEUE_SIZE = 100_000;
+    private static final int RESCORED_ITEMS = 10_000;
+    private static final long MAX_PHASE_TIME_MS = 5_000;
+
+    private List<WorkItem> items;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(7);
+        Instant now = Instant.now();
+        WorkItemType[] types = WorkItemType.values();
+        Priority[] priorities = Priority.values();
+        items = new ArrayList<>(QUEUE_SIZE);
+        for (int i = 0; i < QUEUE_SIZE; i++) {
+            Instant created = now.minusSeconds(random.nextInt(1_000_000));
+            items.add(new WorkItemRecord(UUID.randomUUID(), "Queued item " + i, null,
+                types[random.nextInt(types.length)], WorkflowState.TO_DO,
+                priorities[random.nextInt(priorities.length)], null, created, created,
+                null, null, "PUBLIC", false));
+        }
+    }
+
+    private static long elapsedMs(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    @Test
+    void testLargeQueueOperationsScale() {
+        DefaultWorkQueue queue = new DefaultWorkQueue("Benchmark", "100k item queue");
+
+        long start = System.nanoTime();
+        items.forEach(queue::addItem);
+        long fillMs = elapsedMs(start);
+        assertEquals(QUEUE_SIZE, queue.size());
+
+        // Urgency is read once per item when it is scored
+        Set<UUID> urgent = new HashSet<>();
+        for (int i = 0; i < QUEUE_SIZE; i += 50) {
+            urgent.add(items.get(i).getId());
+        }
+        start = System.nanoTime();
+        queue.setScorer(item -> (urgent.contains(item.getId()) ? -100 : 0) + DefaultWorkQueue.PRIORITY_SCORER.score(item));
+        long reprioritizeMs = elapsedMs(start);
+        assertTrue(urgent.contains(queue.getNextItem().orElseThrow().getId()));
+
+        start = System.nanoTime();
+        for (int i = 1; i <= RESCORED_ITEMS; i++) {
+            UUID id = items.get(i * 7 % QUEUE_SIZE).getId();
+            if (!urgent.remove(id)) {
+                urgent.add(id);
+            }
+            queue.rescore(id);
+        }
+        long rescoreMs = elapsedMs(start);
+
+        start = System.nanoTime();
+        List<WorkItem> sorted = queue.getItems();
+        long snapshotMs = elapsedMs(start);
+        assertEquals(QUEUE_SIZE, sorted.size());
+
+        start = System.nanoTime();
+        int drained = 0;
+        while (!queue.isEmpty()) {
+            WorkItem next = queue.getNextItem().orElseThrow();
+            assertEquals(sorted.get(drained++).getId(), next.getId());
+            queue.removeItem(next.getId());
+        }
+        long drainMs = elapsedMs(start);
+
+        logger.info("100k queue: fill {} ms, reprioritize {} ms, {} rescores {} ms, snapshot {} ms, drain {} ms",
+            fillMs, reprioritizeMs, RESCORED_ITEMS, rescoreMs, snapshotMs, drainMs);
+        assertTrue(fillMs < MAX_PHASE_TIME_MS, "Filling took " + fillMs + " ms");
+        assertTrue(reprioritizeMs < MAX_PHASE_TIME_MS, "Reprioritizing took " + reprioritizeMs + " ms");
+        assertTrue(rescoreMs < MAX_PHASE_TIME_MS, "Rescoring took " + rescoreMs + " ms");
+        assertTrue(drainMs < MAX_PHASE_TIME_MS, "Draining took " + drainMs + " ms");
+    }
+}
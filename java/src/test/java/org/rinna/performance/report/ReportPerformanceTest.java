@@ -9,6 +9,9 @@ package org.rinna.performance.report;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -29,6 +32,7 @@ import org.rinna.cli.model.WorkItemType;
 import org.rinna.cli.model.WorkflowState;
 import org.rinna.cli.report.ReportConfig;
 import org.rinna.cli.report.ReportFormat;
+import org.rinna.cli.report.ReportGenerator;
 import org.rinna.cli.report.ReportService;
 import org.rinna.cli.report.ReportType;
 import org.rinna.cli.service.ItemService;
@@ -55,6 +59,9 @@ public class ReportPerformanceTest extends PerformanceTest {
     private static final long MAX_MEDIUM_REPORT_TIME_MS = 2000;
     private static final long MAX_LARGE_REPORT_TIME_MS = 10000;
     
+    private static final int STREAMING_DATASET_SIZE = 200000;
+    private static final long MAX_STREAMING_HEAP_GROWTH_BYTES = 16L * 1024 * 1024;
+    
     @BeforeEach
     void setUp() throws Exception {
         // Initialize services
@@ -283,6 +290,68 @@ public class ReportPerformanceTest extends PerformanceTest {
                 "ms (actual: " + elapsedTimeMs + "ms)");
     }
     
+    @ParameterizedTest
+    @EnumSource(value = ReportFormat.class, names = {"CSV", "HTML"})
+    void testLargeReport_BoundedHeap(ReportFormat format) throws IOException {
+        // Items are created before the baseline, so only the report itself is measured
+        testItems = createTestWorkItems(STREAMING_DATASET_SIZE);
+        
+        ReportConfig config = new ReportConfig(ReportType.DETAILED, format);
+        config.setUseTemplate(false);
+        
+        long baseline = usedHeapAfterGc();
+        HeapSamplingWriter sink = new HeapSamplingWriter(baseline);
+        try (Writer out = new BufferedWriter(sink, 64 * 1024)) {
+            new ReportGenerator().writeReport(config, testItems, out);
+        }
+        
+        // Verify the report is larger than the budget, but the heap never held it
+        assertTrue(sink.written > 2 * MAX_STREAMING_HEAP_GROWTH_BYTES,
+                format + " report should be larger than the heap budget (actual: " + sink.written + " chars)");
+        assertTrue(sink.peakGrowth <= MAX_STREAMING_HEAP_GROWTH_BYTES,
+                format + " report should stream with at most " + MAX_STREAMING_HEAP_GROWTH_BYTES
+                + " bytes of heap growth (actual: " + sink.peakGrowth + " bytes)");
+    }
+    
+    /**
+     * Discards report output and samples the live heap every few megabytes written.
+     */
+    private static final class HeapSamplingWriter extends Writer {
+        private static final long SAMPLE_INTERVAL_CHARS = 4L * 1024 * 1024;
+        
+        private final long baseline;
+        private long written;
+        private long nextSample = SAMPLE_INTERVAL_CHARS;
+        private long peakGrowth;
+        
+        HeapSamplingWriter(long baseline) {
+            this.baseline = baseline;
+        }
+        
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            written += length;
+            if (written >= nextSample) {
+                nextSample += SAMPLE_INTERVAL_CHARS;
+                peakGrowth = Math.max(peakGrowth, usedHeapAfterGc() - baseline);
+            }
+        }
+        
+        @Override
+        public void flush() {
+        }
+        
+        @Override
+        public void close() {
+        }
+    }
+    
+    private static long usedHeapAfterGc() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+    
     /**
      * Creates test work items for testing.
      */
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ *
+ * Developed with analytical assistance from AI tools.
+ * All rights reserved.
+ *
+ * This source code is licensed under the MIT License
+ * found in the LICENSE file in the root directory of this source tree.
+ */
+package org.rinna.pui.cli;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the SuggestionIndex used by the SearchBridge typeahead.
+ */
+public class SuggestionIndexTest {
+
+    private static final long BUDGET_NANOS = 1_000_000_000L;
+
+    @Test
+    void testMatchesTheStartOfTheTermAndOfEachWord() {
+        SuggestionIndex index = new SuggestionIndex();
+        index.add("Fix login bug");
+        index.add("needs-testing");
+        index.add("Update documentation");
+
+        assertEquals(Set.of("Fix login bug"), matches(index, "fix"));
+        assertEquals(Set.of("Fix login bug"), matches(index, "login b"));
+        assertEquals(Set.of("needs-testing"), matches(index, "test"));
+        assertEquals(Set.of(), matches(index, "ogin"));
+    }
+
+    @Test
+    void testTermStaysUntilRemovedAsOftenAsAdded() {
+        SuggestionIndex index = new SuggestionIndex();
+        index.add("jane");
+        index.add("Jane");
+
+        assertEquals(1, index.size());
+        index.remove("jane");
+        assertEquals(Set.of("jane"), matches(index, "ja"));
+        index.remove("JANE");
+        assertEquals(Set.of(), matches(index, "ja"));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void testPrefixLongerThanTheStoredKeys() {
+        SuggestionIndex index = new SuggestionIndex();
+        String title = "Implement authentication feature for the public API endpoints";
+        index.add(title);
+        index.add("Implement authentication feature for the admin console");
+
+        String prefix = SuggestionIndex.lowercase(title.substring(0, SuggestionIndex.MAX_KEY_LENGTH + 10));
+        assertEquals(Set.of(title), matches(index, prefix));
+    }
+
+    @Test
+    void testExpiredDeadlineStopsTheLookup() {
+        SuggestionIndex index = new SuggestionIndex();
+        for (int i = 0; i < 1000; i++) {
+            index.add("item " + i);
+        }
+
+        List<String> found = new ArrayList<>();
+        assertFalse(index.forEachMatch("item", System.nanoTime() - 1, term -> found.add(term.text())));
+        assertTrue(found.size() < 1000);
+        assertTrue(index.forEachMatch("item", System.nanoTime() + BUDGET_NANOS, term -> found.add(term.text())));
+    }
+
+    private static Set<String> matches(SuggestionIndex index, String prefix) {
+        Set<String> found = new TreeSet<>();
+        assertTrue(index.forEachMatch(prefix, System.nanoTime() + BUDGET_NANOS, term -> found.add(term.text())));
+        return found;
+    }
+}
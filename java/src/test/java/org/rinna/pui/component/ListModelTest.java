@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ *
+ * Developed with analytical assistance from AI tools.
+ * All rights reserved.
+ *
+ * This source code is licensed under the MIT License
+ * found in the LICENSE file in the root directory of this source tree.
+ */
+package org.rinna.pui.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the in-memory ListModel.
+ */
+public class ListModelTest {
+
+    @Test
+    void testModelHoldsACopyOfTheItems() {
+        List<String> source = new ArrayList<>(List.of("alpha", "beta", "gamma"));
+        ListModel<String> model = ListModel.of(source);
+        source.clear();
+
+        assertEquals(3, model.size());
+        assertEquals("beta", model.get(1));
+        assertEquals(List.of("beta", "gamma"), model.getRange(1, 10));
+        assertEquals(List.of(), model.getRange(5, 2));
+    }
+
+    @Test
+    void testInMemoryModelIsMutable() {
+        ListModel<String> model = ListModel.of(null);
+        assertTrue(model.isMutable());
+
+        model.add("alpha");
+        model.add("beta");
+        assertEquals(1, model.indexOf("beta"));
+
+        model.remove(0);
+        assertEquals(List.of("beta"), model.getRange(0, 10));
+        assertEquals(-1, model.indexOf("alpha"));
+    }
+
+    @Test
+    void testCustomModelIsReadOnlyByDefault() {
+        ListModel<Integer> model = new ListModel<>() {
+            @Override
+            public int size() {
+                return 5;
+            }
+
+            @Override
+            public Integer get(int index) {
+                return index * 10;
+            }
+        };
+
+        assertFalse(model.isMutable());
+        assertThrows(UnsupportedOperationException.class, () -> model.add(50));
+        assertThrows(UnsupportedOperationException.class, () -> model.remove(0));
+        assertEquals(3, model.indexOf(30));
+        assertEquals(List.of(20, 30), model.getRange(2, 2));
+    }
+
+    @Test
+    void testFindByPrefixWrapsAroundAndIgnoresCase() {
+        ListModel<String> model = ListModel.of(List.of("Bravo", "alpha", "beta", "Charlie"));
+
+        assertEquals(2, model.findByPrefix("b", 1, String::valueOf));
+        assertEquals(0, model.findByPrefix("B", 3, String::valueOf));
+        assertEquals(3, model.findByPrefix("ch", 0, String::valueOf));
+        assertEquals(-1, model.findByPrefix("delta", 0, String::valueOf));
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ *
+ * Developed with analytical assistance from AI tools.
+ * All rights reserved.
+ *
+ * This source code is licensed under the MIT License
+ * found in the LICENSE file in the root directory of this source tree.
+ */
+package org.rinna.pui.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for selection, editing and type-ahead in the List component.
+ */
+public class ListTest {
+
+    @Test
+    void testTypeAheadSelectsTheNextMatchingItem() {
+        List<String> list = focusedList("alpha", "beta", "bravo", "charlie", "bison");
+
+        assertTrue(list.handleKey('b'));
+        assertEquals("beta", list.getSelectedItem());
+        assertTrue(list.handleKey('r'));
+        assertEquals("bravo", list.getSelectedItem());
+        assertFalse(list.handleKey('x'));
+        assertEquals("bravo", list.getSelectedItem());
+    }
+
+    @Test
+    void testTypeAheadWrapsAroundAndIgnoresCase() {
+        List<String> list = focusedList("Alpha", "Beta", "Charlie");
+        list.setSelectedIndex(2);
+
+        assertTrue(list.handleKey('a'));
+        assertEquals("Alpha", list.getSelectedItem());
+    }
+
+    @Test
+    void testTypeAheadIsIgnoredWhenTheListIsEmpty() {
+        List<String> list = focusedList();
+
+        assertFalse(list.handleKey('a'));
+        assertEquals(-1, list.getSelectedIndex());
+    }
+
+    @Test
+    void testItemsCanBeAddedToAndRemovedFromAnInMemoryModel() {
+        List<String> list = focusedList("alpha", "beta");
+        list.setSelectedItem("beta");
+
+        assertTrue(list.addItem("gamma"));
+        assertTrue(list.removeItem("alpha"));
+        assertEquals(java.util.List.of("beta", "gamma"), list.getItems());
+        assertEquals(0, list.getSelectedIndex());
+        assertFalse(list.removeItem("delta"));
+    }
+
+    @Test
+    void testReadOnlyModelIsLeftUnchanged() {
+        PagedListModelTest.CountingSource source = new PagedListModelTest.CountingSource(100_000, true);
+        List<String> list = new List<>("paged", 10);
+        list.setModel(new PagedListModel<>(source, 10, 4));
+        int fetches = source.fetches;
+
+        assertFalse(list.addItem("extra"));
+        assertFalse(list.removeItem("item-0005"));
+        assertEquals(100_000, list.getItemCount());
+
+        assertTrue(list.setSelectedItem("item-99999"));
+        assertEquals(99_999, list.getSelectedIndex());
+        assertTrue(source.fetches - fetches <= 8, "Selection should only load the pages around the item");
+    }
+
+    private static List<String> focusedList(String... items) {
+        List<String> list = new List<>("test", 3);
+        list.setItems(java.util.List.of(items));
+        list.setFocused(true);
+        return list;
+    }
+}
@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2025 Eric C. Mumford (@heymumford)
+ *
+ * Developed with analytical assistance from AI tools.
+ * All rights reserved.
+ *
+ * This source code is licensed under the MIT License
+ * found in the LICENSE file in the root directory of this source tree.
+ */
+package org.rinna.pui.component;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the PagedListModel.
+ */
+public class PagedListModelTest {
+
+    @Test
+    void testOnlyTouchedPagesAreLoaded() {
+        CountingSource source = new CountingSource(1000, false);
+        PagedListModel<String> model = new PagedListModel<>(source, 10, 4);
+
+        assertEquals(1000, model.size());
+        assertEquals("item-0015", model.get(15));
+        assertEquals("item-0019", model.get(19));
+        assertEquals(1, source.fetches);
+
+        model.prefetch(30, 25);
+        assertEquals(4, source.fetches);
+        assertEquals(4, model.getCachedPageCount());
+    }
+
+    @Test
+    void testLeastRecentlyUsedPageIsEvicted() {
+        CountingSource source = new CountingSource(1000, false);
+        PagedListModel<String> model = new PagedListModel<>(source, 10, 2);
+
+        model.get(0);
+        model.get(10);
+        model.get(0);
+        model.get(20);
+        assertEquals(2, model.getCachedPageCount());
+        assertEquals(3, source.fetches);
+
+        model.get(5);
+        assertEquals(3, source.fetches);
+        model.get(15);
+        assertEquals(4, source.fetches);
+    }
+
+    @Test
+    void testIndexOfUsesTheSourceLookup() {
+        CountingSource source = new CountingSource(100_000, true);
+        PagedListModel<String> model = new PagedListModel<>(source, 10, 4);
+
+        assertEquals(98_765, model.indexOf("item-98765"));
+        assertEquals(-1, model.indexOf("missing"));
+        assertEquals(0, source.fetches);
+    }
+
+    @Test
+    void testIndexOfWithoutSourceSupportOnlySearchesLoadedPages() {
+        CountingSource source = new CountingSource(1000, false);
+        PagedListModel<String> model = new PagedListModel<>(source, 10, 4);
+        model.get(42);
+
+        assertEquals(47, model.indexOf("item-0047"));
+        assertEquals(-1, model.indexOf("item-0500"));
+        assertEquals(1, source.fetches);
+    }
+
+    @Test
+    void testFindByPrefixWithoutSourceSupportPrefersTheNearestMatchAfterTheStart() {
+        CountingSource source = new CountingSource(100, false);
+        PagedListModel<String> model = new PagedListModel<>(source, 10, 4);
+        model.prefetch(0, 20);
+        model.prefetch(80, 10);
+
+        assertEquals(85, model.findByPrefix("item-0085", 50, String::valueOf));
+        assertEquals(81, model.findByPrefix("item-008", 81, String::valueOf));
+        assertEquals(80, model.findByPrefix("item-008", 90, String::valueOf));
+        assertEquals(-1, model.findByPrefix("item-005", 0, String::valueOf));
+    }
+
+    @Test
+    void testPagedModelIsReadOnly() {
+        PagedListModel<String> model = new PagedListModel<>(new CountingSource(10, false));
+
+        assertFalse(model.isMutable());
+        assertThrows(UnsupportedOperationException.class, () -> model.add("item"));
+    }
+
+    @Test
+    void testInvalidateReloadsSizeAndPages() {
+        CountingSource source = new CountingSource(30, false);
+        PagedListModel<String> model = new PagedListModel<>(source, 10, 4);
+        model.get(5);
+
+        source.count = 50;
+        assertEquals(30, model.size());
+        model.invalidate();
+        assertEquals(50, model.size());
+        assertEquals(0, model.getCachedPageCount());
+    }
+
+    /**
+     * A page source of numbered items that counts the pages it serves.
+     */
+    static class CountingSource implements PagedListModel.PageSource<String> {
+        int count;
+        int fetches;
+        private final boolean indexed;
+
+        CountingSource(int count, boolean indexed) {
+            this.count = count;
+            this.indexed = indexed;
+        }
+
+        static String item(int index) {
+            return String.format("item-%04d", index);
+        }
+
+        @Override
+        public int count() {
+            return count;
+        }
+
+        @Override
+        public List<String> fetch(int offset, int limit) {
+            fetches++;
+            List<String> page = new ArrayList<>();
+            for (int i = offset; i < Math.min(count, offset + limit); i++) {
+                page.add(item(i));
+            }
+            return page;
+        }
+
+        @Override
+        public int indexOf(String item) {
+            if (!indexed) {
+                return UNSUPPORTED;
+            }
+            if (item == null || !item.startsWith("item-")) {
+                return -1;
+            }
+            int index = Integer.parseInt(item.substring("item-".length()));
+            return index < count ? index : -1;
+        }
+    }
+}
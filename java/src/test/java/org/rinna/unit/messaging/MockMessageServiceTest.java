@@ -9,6 +9,9 @@
  */
 package org.rinna.unit.messaging;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
@@ -24,6 +27,7 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.rinna.base.UnitTest;
 import org.rinna.cli.messaging.MessageService;
 import org.rinna.cli.messaging.MessageStatus;
+import org.rinna.cli.messaging.MessageStore;
 import org.rinna.cli.messaging.RinnaMessage;
 import org.rinna.cli.service.MockMessageService;
 
@@ -136,6 +140,35 @@ class MockMessageServiceTest extends UnitTest {
         Assertions.assertTrue(ericUnreadMessagesAfter.isEmpty());
     }
     
+    /**
+     * Test that the unread count agrees with the unread messages.
+     */
+    @Test
+    void testUnreadCountMatchesUnreadMessages() {
+        List<RinnaMessage> ericUnreadMessages = messageService.getUnreadMessagesForUser("eric");
+        Assertions.assertEquals(ericUnreadMessages.size(), messageService.getUnreadMessageCount("eric"));
+        
+        messageService.markMessageAsRead(ericUnreadMessages.get(0).getId());
+        
+        Assertions.assertEquals(ericUnreadMessages.size() - 1, messageService.getUnreadMessageCount("eric"));
+        Assertions.assertEquals(messageService.getUnreadMessageCount("eric"),
+                messageService.getUnreadMessagesForUser("eric").size());
+    }
+    
+    /**
+     * Test that a persistent store is only seeded with sample messages once.
+     */
+    @Test
+    void testPersistentStoreIsSeededOnce() throws IOException {
+        Path directory = Files.createTempDirectory("rinna-messages");
+        MessageService first = new MockMessageService(new MessageStore(directory));
+        int ericMessages = first.getMessagesForUser("eric").size();
+        
+        MessageService second = new MockMessageService(new MessageStore(directory));
+        Assertions.assertEquals(ericMessages, second.getMessagesForUser("eric").size());
+        Assertions.assertEquals(ericMessages, second.getUnreadMessageCount("eric"));
+    }
+    
     /**
      * Test filtering messages by sender.
      */
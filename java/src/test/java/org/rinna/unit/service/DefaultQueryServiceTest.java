@@ -11,6 +11,7 @@ package org.rinna.unit.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
@@ -127,9 +128,11 @@ public class DefaultQueryServiceTest extends UnitTest {
         metadata3.put("tags", "story,feature,frontend");
         metadata3.put("last_updated", lastWeek.toString());
         
-        when(metadataRepository.getMetadata(id1)).thenReturn(metadata1);
-        when(metadataRepository.getMetadata(id2)).thenReturn(metadata2);
-        when(metadataRepository.getMetadata(id3)).thenReturn(metadata3);
+        when(metadataRepository.getMetadataMap(id1)).thenReturn(metadata1);
+        when(metadataRepository.getMetadataMap(id2)).thenReturn(metadata2);
+        when(metadataRepository.getMetadataMap(id3)).thenReturn(metadata3);
+        // The query service bulk-loads metadata; the default implementation reads the maps above
+        when(metadataRepository.getMetadataColumns(any(), any())).thenCallRealMethod();
     }
     
     @Test